@@ -1,7 +1,23 @@
 package com.wallet;
 
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.factories.EjecutorFactory;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.fraude.PipelineFraude;
+import com.wallet.infrastructure.programacion.ArchivadorHistorial;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import com.wallet.infrastructure.services.CuentaService;
+import com.wallet.infrastructure.services.ProgramacionService;
+import com.wallet.infrastructure.services.RetencionService;
+import com.wallet.infrastructure.services.TransaccionService;
+import com.wallet.infrastructure.services.UsuarioService;
+import com.wallet.presentation.http.ConfiguracionServidorHttp;
+import com.wallet.presentation.http.ServidorHttp;
 import com.wallet.presentation.menus.MenuPrincipal;
 
+import java.io.IOException;
+import java.time.Duration;
+
 /**
  * Clase principal de la aplicación Wallet.
  * Punto de entrada del sistema de billetera digital.
@@ -11,15 +27,99 @@ import com.wallet.presentation.menus.MenuPrincipal;
  */
 public class Main {
     
+    private static final int PUERTO_HTTP_POR_DEFECTO = 8080;
+    
     /**
      * Método principal que inicia la aplicación.
      * 
-     * @param args argumentos de línea de comandos (no utilizados actualmente)
+     * Ambos modos comparten el mismo ejecutor y las mismas tareas de fondo:
+     * transferencias programadas, vencimiento de retenciones, pipeline de
+     * fraude y archivado del historial. Se detienen al terminar la JVM.
+     * 
+     * @param args "--http [puerto]" inicia la API HTTP en lugar del menú de consola;
+     *             el modo de ejecución se elige con -Dwallet.ejecutor
+     * @throws IOException si no se puede abrir el puerto HTTP
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        EjecutorOperaciones ejecutor = EjecutorFactory.desdeConfiguracion();
+        if (args.length > 0 && "--http".equals(args[0])) {
+            int puerto = args.length > 1 ? Integer.parseInt(args[1]) : PUERTO_HTTP_POR_DEFECTO;
+            ServidorHttp servidor = new ServidorHttp(
+                ConfiguracionServidorHttp.porDefecto(puerto),
+                new UsuarioService(),
+                new CuentaService(ejecutor),
+                new TransaccionService(ejecutor)
+            );
+            TareasDeFondo tareas = TareasDeFondo.iniciar(ejecutor);
+            servidor.iniciar();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                servidor.detener();
+                tareas.cerrar();
+            }, "wallet-http-shutdown"));
+            return;
+        }
+        
         // Iniciar interfaz de usuario interactiva
-        MenuPrincipal menu = new MenuPrincipal();
+        TareasDeFondo tareas = TareasDeFondo.iniciar(ejecutor);
+        Runtime.getRuntime().addShutdownHook(new Thread(tareas::cerrar, "wallet-consola-shutdown"));
+        MenuPrincipal menu = new MenuPrincipal(
+            new UsuarioService(),
+            new CuentaService(ejecutor),
+            new TransaccionService(ejecutor)
+        );
         menu.iniciar();
     }
+    
+    /**
+     * Servicios que corren en segundo plano sobre el ejecutor de la aplicación.
+     */
+    private static final class TareasDeFondo {
+        
+        private final EjecutorOperaciones ejecutor;
+        private final ProgramacionService programacion;
+        private final RetencionService retenciones;
+        private final PipelineFraude fraude;
+        private final ArchivadorHistorial archivador;
+        
+        private TareasDeFondo(EjecutorOperaciones ejecutor) {
+            this.ejecutor = ejecutor;
+            this.programacion = new ProgramacionService(ejecutor);
+            this.retenciones = new RetencionService(ejecutor);
+            this.fraude = new PipelineFraude(ejecutor);
+            ArchivadorHistorial archivador = null;
+            if (RepositoryFactory.getTransaccionRepository() instanceof TransaccionRepositoryInMemory) {
+                TransaccionRepositoryInMemory transacciones =
+                    (TransaccionRepositoryInMemory) RepositoryFactory.getTransaccionRepository();
+                transacciones.agregarObservador(fraude);
+                Duration antiguedad = RepositoryFactory.getAntiguedadHistorial();
+                if (antiguedad != null) {
+                    archivador = new ArchivadorHistorial(transacciones, antiguedad);
+                }
+            }
+            this.archivador = archivador;
+        }
+        
+        static TareasDeFondo iniciar(EjecutorOperaciones ejecutor) {
+            TareasDeFondo tareas = new TareasDeFondo(ejecutor);
+            tareas.retenciones.iniciar();
+            tareas.programacion.iniciar();
+            if (tareas.archivador != null) {
+                tareas.archivador.iniciar();
+            }
+            return tareas;
+        }
+        
+        /**
+         * Detiene las tareas y después el ejecutor, que todavía lo usan al cerrar.
+         */
+        void cerrar() {
+            programacion.cerrar();
+            retenciones.cerrar();
+            fraude.cerrar();
+            ejecutor.cerrar();
+            if (archivador != null) {
+                archivador.cerrar();
+            }
+        }
+    }
 }
-
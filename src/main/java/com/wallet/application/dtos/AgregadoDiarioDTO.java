@@ -0,0 +1,80 @@
+package com.wallet.application.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO con el total y la cantidad de transacciones de un tipo y una moneda
+ * en un día, sumando todas las cuentas.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class AgregadoDiarioDTO {
+    
+    private LocalDate dia;
+    private String tipo;
+    private String moneda;
+    private long cantidad;
+    private BigDecimal total;
+    
+    // Constructor vacío
+    public AgregadoDiarioDTO() {
+    }
+    
+    // Constructor completo
+    public AgregadoDiarioDTO(LocalDate dia, String tipo, String moneda, long cantidad, BigDecimal total) {
+        this.dia = dia;
+        this.tipo = tipo;
+        this.moneda = moneda;
+        this.cantidad = cantidad;
+        this.total = total;
+    }
+    
+    // Getters y Setters
+    public LocalDate getDia() {
+        return dia;
+    }
+    
+    public void setDia(LocalDate dia) {
+        this.dia = dia;
+    }
+    
+    public String getTipo() {
+        return tipo;
+    }
+    
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+    
+    public String getMoneda() {
+        return moneda;
+    }
+    
+    public void setMoneda(String moneda) {
+        this.moneda = moneda;
+    }
+    
+    public long getCantidad() {
+        return cantidad;
+    }
+    
+    public void setCantidad(long cantidad) {
+        this.cantidad = cantidad;
+    }
+    
+    public BigDecimal getTotal() {
+        return total;
+    }
+    
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("AgregadoDiarioDTO{dia=%s, tipo=%s, cantidad=%d, total=%s %s}",
+            dia, tipo, cantidad, total, moneda);
+    }
+}
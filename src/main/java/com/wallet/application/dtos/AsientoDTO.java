@@ -0,0 +1,70 @@
+package com.wallet.application.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de un asiento entre varias cuentas, con un tramo (transacción) por
+ * cuenta en el orden de las partidas.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class AsientoDTO {
+    
+    private String id;
+    private String descripcion;
+    private LocalDateTime fecha;
+    private List<TransaccionDTO> tramos;
+    
+    // Constructor vacío
+    public AsientoDTO() {
+    }
+    
+    // Constructor completo
+    public AsientoDTO(String id, String descripcion, LocalDateTime fecha, List<TransaccionDTO> tramos) {
+        this.id = id;
+        this.descripcion = descripcion;
+        this.fecha = fecha;
+        this.tramos = tramos;
+    }
+    
+    // Getters y Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+    
+    public LocalDateTime getFecha() {
+        return fecha;
+    }
+    
+    public void setFecha(LocalDateTime fecha) {
+        this.fecha = fecha;
+    }
+    
+    public List<TransaccionDTO> getTramos() {
+        return tramos;
+    }
+    
+    public void setTramos(List<TransaccionDTO> tramos) {
+        this.tramos = tramos;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("AsientoDTO{id=%s, descripcion=%s, fecha=%s, tramos=%d}",
+            id, descripcion, fecha, tramos != null ? tramos.size() : 0);
+    }
+}
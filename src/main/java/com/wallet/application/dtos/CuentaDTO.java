@@ -15,6 +15,7 @@ public class CuentaDTO {
     private String numeroCuenta;
     private String usuarioId;
     private BigDecimal saldo;
+    private BigDecimal saldoDisponible;
     private String moneda;
     private boolean activa;
     private LocalDateTime fechaCreacion;
@@ -71,6 +72,17 @@ public class CuentaDTO {
         this.saldo = saldo;
     }
     
+    /**
+     * Saldo menos las retenciones activas.
+     */
+    public BigDecimal getSaldoDisponible() {
+        return saldoDisponible;
+    }
+    
+    public void setSaldoDisponible(BigDecimal saldoDisponible) {
+        this.saldoDisponible = saldoDisponible;
+    }
+    
     public String getMoneda() {
         return moneda;
     }
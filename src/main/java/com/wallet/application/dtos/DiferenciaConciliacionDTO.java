@@ -0,0 +1,65 @@
+package com.wallet.application.dtos;
+
+/**
+ * DTO con una diferencia encontrada al conciliar el libro de transacciones.
+ * 
+ * Tipos posibles:
+ * - SALDO: el saldo de la cuenta no coincide con créditos menos débitos
+ * - TRANSFERENCIA: envíos y recepciones de una transferencia no se corresponden
+ * - CUENTA_INEXISTENTE: hay transacciones de una cuenta que no existe
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class DiferenciaConciliacionDTO {
+    
+    public static final String SALDO = "SALDO";
+    public static final String TRANSFERENCIA = "TRANSFERENCIA";
+    public static final String CUENTA_INEXISTENTE = "CUENTA_INEXISTENTE";
+    
+    private String cuentaId;
+    private String tipo;
+    private String detalle;
+    
+    // Constructor vacío
+    public DiferenciaConciliacionDTO() {
+    }
+    
+    // Constructor completo
+    public DiferenciaConciliacionDTO(String cuentaId, String tipo, String detalle) {
+        this.cuentaId = cuentaId;
+        this.tipo = tipo;
+        this.detalle = detalle;
+    }
+    
+    // Getters y Setters
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public String getTipo() {
+        return tipo;
+    }
+    
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+    
+    public String getDetalle() {
+        return detalle;
+    }
+    
+    public void setDetalle(String detalle) {
+        this.detalle = detalle;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("DiferenciaConciliacionDTO{cuenta=%s, tipo=%s, detalle=%s}",
+            cuentaId, tipo, detalle);
+    }
+}
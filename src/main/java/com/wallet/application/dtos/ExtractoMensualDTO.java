@@ -0,0 +1,134 @@
+package com.wallet.application.dtos;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * DTO para transferencia de datos de un extracto mensual.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ExtractoMensualDTO {
+    
+    private String cuentaId;
+    private String periodo;
+    private String moneda;
+    private BigDecimal saldoInicial;
+    private BigDecimal saldoFinal;
+    private BigDecimal totalCreditos;
+    private BigDecimal totalDebitos;
+    private Map<String, BigDecimal> totalesPorTipo;
+    private Map<String, Integer> cantidadesPorTipo;
+    private int cantidadTransacciones;
+    
+    // Constructor vacío
+    public ExtractoMensualDTO() {
+    }
+    
+    // Constructor completo
+    public ExtractoMensualDTO(String cuentaId, String periodo, String moneda,
+                              BigDecimal saldoInicial, BigDecimal saldoFinal,
+                              BigDecimal totalCreditos, BigDecimal totalDebitos,
+                              Map<String, BigDecimal> totalesPorTipo,
+                              Map<String, Integer> cantidadesPorTipo,
+                              int cantidadTransacciones) {
+        this.cuentaId = cuentaId;
+        this.periodo = periodo;
+        this.moneda = moneda;
+        this.saldoInicial = saldoInicial;
+        this.saldoFinal = saldoFinal;
+        this.totalCreditos = totalCreditos;
+        this.totalDebitos = totalDebitos;
+        this.totalesPorTipo = totalesPorTipo;
+        this.cantidadesPorTipo = cantidadesPorTipo;
+        this.cantidadTransacciones = cantidadTransacciones;
+    }
+    
+    // Getters y Setters
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public String getPeriodo() {
+        return periodo;
+    }
+    
+    public void setPeriodo(String periodo) {
+        this.periodo = periodo;
+    }
+    
+    public String getMoneda() {
+        return moneda;
+    }
+    
+    public void setMoneda(String moneda) {
+        this.moneda = moneda;
+    }
+    
+    public BigDecimal getSaldoInicial() {
+        return saldoInicial;
+    }
+    
+    public void setSaldoInicial(BigDecimal saldoInicial) {
+        this.saldoInicial = saldoInicial;
+    }
+    
+    public BigDecimal getSaldoFinal() {
+        return saldoFinal;
+    }
+    
+    public void setSaldoFinal(BigDecimal saldoFinal) {
+        this.saldoFinal = saldoFinal;
+    }
+    
+    public BigDecimal getTotalCreditos() {
+        return totalCreditos;
+    }
+    
+    public void setTotalCreditos(BigDecimal totalCreditos) {
+        this.totalCreditos = totalCreditos;
+    }
+    
+    public BigDecimal getTotalDebitos() {
+        return totalDebitos;
+    }
+    
+    public void setTotalDebitos(BigDecimal totalDebitos) {
+        this.totalDebitos = totalDebitos;
+    }
+    
+    public Map<String, BigDecimal> getTotalesPorTipo() {
+        return totalesPorTipo;
+    }
+    
+    public void setTotalesPorTipo(Map<String, BigDecimal> totalesPorTipo) {
+        this.totalesPorTipo = totalesPorTipo;
+    }
+    
+    public Map<String, Integer> getCantidadesPorTipo() {
+        return cantidadesPorTipo;
+    }
+    
+    public void setCantidadesPorTipo(Map<String, Integer> cantidadesPorTipo) {
+        this.cantidadesPorTipo = cantidadesPorTipo;
+    }
+    
+    public int getCantidadTransacciones() {
+        return cantidadTransacciones;
+    }
+    
+    public void setCantidadTransacciones(int cantidadTransacciones) {
+        this.cantidadTransacciones = cantidadTransacciones;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ExtractoMensualDTO{cuenta=%s, periodo=%s, inicial=%s, final=%s, transacciones=%d}",
+            cuentaId, periodo, saldoInicial, saldoFinal, cantidadTransacciones);
+    }
+}
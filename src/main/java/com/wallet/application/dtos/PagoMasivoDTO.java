@@ -0,0 +1,105 @@
+package com.wallet.application.dtos;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO con el resultado de un pago masivo: el total efectivamente pagado,
+ * las transacciones del origen (el cargo de la reserva y, si hubo
+ * rechazos, el reintegro) y un resultado por destinatario, en el orden de
+ * la solicitud.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class PagoMasivoDTO {
+    
+    private String cuentaOrigenId;
+    private BigDecimal montoPagado;
+    private String moneda;
+    private int pagados;
+    private int rechazados;
+    private List<String> transaccionOrigenIds;
+    private List<ResultadoPagoDTO> resultados;
+    
+    // Constructor vacío
+    public PagoMasivoDTO() {
+    }
+    
+    // Constructor completo
+    public PagoMasivoDTO(String cuentaOrigenId, BigDecimal montoPagado, String moneda,
+                         int pagados, int rechazados,
+                         List<String> transaccionOrigenIds, List<ResultadoPagoDTO> resultados) {
+        this.cuentaOrigenId = cuentaOrigenId;
+        this.montoPagado = montoPagado;
+        this.moneda = moneda;
+        this.pagados = pagados;
+        this.rechazados = rechazados;
+        this.transaccionOrigenIds = transaccionOrigenIds;
+        this.resultados = resultados;
+    }
+    
+    // Getters y Setters
+    public String getCuentaOrigenId() {
+        return cuentaOrigenId;
+    }
+    
+    public void setCuentaOrigenId(String cuentaOrigenId) {
+        this.cuentaOrigenId = cuentaOrigenId;
+    }
+    
+    public BigDecimal getMontoPagado() {
+        return montoPagado;
+    }
+    
+    public void setMontoPagado(BigDecimal montoPagado) {
+        this.montoPagado = montoPagado;
+    }
+    
+    public String getMoneda() {
+        return moneda;
+    }
+    
+    public void setMoneda(String moneda) {
+        this.moneda = moneda;
+    }
+    
+    public int getPagados() {
+        return pagados;
+    }
+    
+    public void setPagados(int pagados) {
+        this.pagados = pagados;
+    }
+    
+    public int getRechazados() {
+        return rechazados;
+    }
+    
+    public void setRechazados(int rechazados) {
+        this.rechazados = rechazados;
+    }
+    
+    public List<String> getTransaccionOrigenIds() {
+        return transaccionOrigenIds;
+    }
+    
+    public void setTransaccionOrigenIds(List<String> transaccionOrigenIds) {
+        this.transaccionOrigenIds = transaccionOrigenIds;
+    }
+    
+    public List<ResultadoPagoDTO> getResultados() {
+        return resultados;
+    }
+    
+    public void setResultados(List<ResultadoPagoDTO> resultados) {
+        this.resultados = resultados;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("PagoMasivoDTO{origen=%s, pagado=%s %s, pagados=%d, rechazados=%d, transaccionesOrigen=%d}",
+            cuentaOrigenId, moneda, montoPagado, pagados, rechazados,
+            transaccionOrigenIds != null ? transaccionOrigenIds.size() : 0);
+    }
+}
@@ -0,0 +1,74 @@
+package com.wallet.application.dtos;
+
+/**
+ * DTO con el resumen de una conciliación del libro de transacciones.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ResultadoConciliacionDTO {
+    
+    private long cuentasRevisadas;
+    private long transaccionesRevisadas;
+    private long diferencias;
+    private long duracionMilis;
+    
+    // Constructor vacío
+    public ResultadoConciliacionDTO() {
+    }
+    
+    // Constructor completo
+    public ResultadoConciliacionDTO(long cuentasRevisadas, long transaccionesRevisadas,
+                                    long diferencias, long duracionMilis) {
+        this.cuentasRevisadas = cuentasRevisadas;
+        this.transaccionesRevisadas = transaccionesRevisadas;
+        this.diferencias = diferencias;
+        this.duracionMilis = duracionMilis;
+    }
+    
+    /**
+     * Indica si el libro cuadró por completo.
+     */
+    public boolean isConciliado() {
+        return diferencias == 0;
+    }
+    
+    // Getters y Setters
+    public long getCuentasRevisadas() {
+        return cuentasRevisadas;
+    }
+    
+    public void setCuentasRevisadas(long cuentasRevisadas) {
+        this.cuentasRevisadas = cuentasRevisadas;
+    }
+    
+    public long getTransaccionesRevisadas() {
+        return transaccionesRevisadas;
+    }
+    
+    public void setTransaccionesRevisadas(long transaccionesRevisadas) {
+        this.transaccionesRevisadas = transaccionesRevisadas;
+    }
+    
+    public long getDiferencias() {
+        return diferencias;
+    }
+    
+    public void setDiferencias(long diferencias) {
+        this.diferencias = diferencias;
+    }
+    
+    public long getDuracionMilis() {
+        return duracionMilis;
+    }
+    
+    public void setDuracionMilis(long duracionMilis) {
+        this.duracionMilis = duracionMilis;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ResultadoConciliacionDTO{cuentas=%d, transacciones=%d, diferencias=%d, duracion=%dms}",
+            cuentasRevisadas, transaccionesRevisadas, diferencias, duracionMilis);
+    }
+}
@@ -0,0 +1,91 @@
+package com.wallet.application.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con el resultado de un destinatario de un pago masivo.
+ * 
+ * Estados posibles:
+ * - PAGADO: el monto se acreditó; transaccionId es el tramo de su cuenta
+ * - RECHAZADO: no se acreditó (cuenta inexistente, inactiva, de otra moneda
+ *   o monto inválido); el motivo lo explica y el monto volvió al origen
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ResultadoPagoDTO {
+    
+    public static final String PAGADO = "PAGADO";
+    public static final String RECHAZADO = "RECHAZADO";
+    
+    private String cuentaDestinoId;
+    private BigDecimal monto;
+    private String estado;
+    private String transaccionId;
+    private String motivo;
+    
+    // Constructor vacío
+    public ResultadoPagoDTO() {
+    }
+    
+    // Constructor completo
+    public ResultadoPagoDTO(String cuentaDestinoId, BigDecimal monto, String estado,
+                            String transaccionId, String motivo) {
+        this.cuentaDestinoId = cuentaDestinoId;
+        this.monto = monto;
+        this.estado = estado;
+        this.transaccionId = transaccionId;
+        this.motivo = motivo;
+    }
+    
+    public boolean isPagado() {
+        return PAGADO.equals(estado);
+    }
+    
+    // Getters y Setters
+    public String getCuentaDestinoId() {
+        return cuentaDestinoId;
+    }
+    
+    public void setCuentaDestinoId(String cuentaDestinoId) {
+        this.cuentaDestinoId = cuentaDestinoId;
+    }
+    
+    public BigDecimal getMonto() {
+        return monto;
+    }
+    
+    public void setMonto(BigDecimal monto) {
+        this.monto = monto;
+    }
+    
+    public String getEstado() {
+        return estado;
+    }
+    
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+    
+    public String getTransaccionId() {
+        return transaccionId;
+    }
+    
+    public void setTransaccionId(String transaccionId) {
+        this.transaccionId = transaccionId;
+    }
+    
+    public String getMotivo() {
+        return motivo;
+    }
+    
+    public void setMotivo(String motivo) {
+        this.motivo = motivo;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ResultadoPagoDTO{destino=%s, monto=%s, estado=%s%s}",
+            cuentaDestinoId, monto, estado, motivo != null ? ", motivo=" + motivo : "");
+    }
+}
@@ -0,0 +1,121 @@
+package com.wallet.application.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de una retención de fondos.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class RetencionDTO {
+    
+    private String id;
+    private String cuentaId;
+    private BigDecimal monto;
+    private String moneda;
+    private String descripcion;
+    private LocalDateTime fechaCreacion;
+    private LocalDateTime vencimiento;
+    private String estado;
+    private BigDecimal montoCapturado;
+    
+    // Constructor vacío
+    public RetencionDTO() {
+    }
+    
+    // Constructor completo
+    public RetencionDTO(String id, String cuentaId, BigDecimal monto, String moneda, String descripcion,
+                        LocalDateTime fechaCreacion, LocalDateTime vencimiento, String estado,
+                        BigDecimal montoCapturado) {
+        this.id = id;
+        this.cuentaId = cuentaId;
+        this.monto = monto;
+        this.moneda = moneda;
+        this.descripcion = descripcion;
+        this.fechaCreacion = fechaCreacion;
+        this.vencimiento = vencimiento;
+        this.estado = estado;
+        this.montoCapturado = montoCapturado;
+    }
+    
+    // Getters y Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public BigDecimal getMonto() {
+        return monto;
+    }
+    
+    public void setMonto(BigDecimal monto) {
+        this.monto = monto;
+    }
+    
+    public String getMoneda() {
+        return moneda;
+    }
+    
+    public void setMoneda(String moneda) {
+        this.moneda = moneda;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+    
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+    
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+    
+    public LocalDateTime getVencimiento() {
+        return vencimiento;
+    }
+    
+    public void setVencimiento(LocalDateTime vencimiento) {
+        this.vencimiento = vencimiento;
+    }
+    
+    public String getEstado() {
+        return estado;
+    }
+    
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+    
+    public BigDecimal getMontoCapturado() {
+        return montoCapturado;
+    }
+    
+    public void setMontoCapturado(BigDecimal montoCapturado) {
+        this.montoCapturado = montoCapturado;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("RetencionDTO{id=%s, cuenta=%s, monto=%s %s, vencimiento=%s, estado=%s}",
+            id, cuentaId, moneda, monto, vencimiento, estado);
+    }
+}
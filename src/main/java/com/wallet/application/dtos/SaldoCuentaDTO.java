@@ -0,0 +1,68 @@
+package com.wallet.application.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con el saldo de una cuenta dentro de un ranking.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class SaldoCuentaDTO {
+    
+    private String cuentaId;
+    private String numeroCuenta;
+    private BigDecimal saldo;
+    private String moneda;
+    
+    // Constructor vacío
+    public SaldoCuentaDTO() {
+    }
+    
+    // Constructor completo
+    public SaldoCuentaDTO(String cuentaId, String numeroCuenta, BigDecimal saldo, String moneda) {
+        this.cuentaId = cuentaId;
+        this.numeroCuenta = numeroCuenta;
+        this.saldo = saldo;
+        this.moneda = moneda;
+    }
+    
+    // Getters y Setters
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public String getNumeroCuenta() {
+        return numeroCuenta;
+    }
+    
+    public void setNumeroCuenta(String numeroCuenta) {
+        this.numeroCuenta = numeroCuenta;
+    }
+    
+    public BigDecimal getSaldo() {
+        return saldo;
+    }
+    
+    public void setSaldo(BigDecimal saldo) {
+        this.saldo = saldo;
+    }
+    
+    public String getMoneda() {
+        return moneda;
+    }
+    
+    public void setMoneda(String moneda) {
+        this.moneda = moneda;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("SaldoCuentaDTO{numeroCuenta='%s', saldo=%s %s}",
+            numeroCuenta, saldo, moneda);
+    }
+}
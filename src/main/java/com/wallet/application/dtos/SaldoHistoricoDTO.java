@@ -0,0 +1,69 @@
+package com.wallet.application.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO con el saldo que tenía una cuenta en un instante dado.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class SaldoHistoricoDTO {
+    
+    private String cuentaId;
+    private LocalDateTime instante;
+    private BigDecimal saldo;
+    private String moneda;
+    
+    // Constructor vacío
+    public SaldoHistoricoDTO() {
+    }
+    
+    // Constructor completo
+    public SaldoHistoricoDTO(String cuentaId, LocalDateTime instante, BigDecimal saldo, String moneda) {
+        this.cuentaId = cuentaId;
+        this.instante = instante;
+        this.saldo = saldo;
+        this.moneda = moneda;
+    }
+    
+    // Getters y Setters
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public LocalDateTime getInstante() {
+        return instante;
+    }
+    
+    public void setInstante(LocalDateTime instante) {
+        this.instante = instante;
+    }
+    
+    public BigDecimal getSaldo() {
+        return saldo;
+    }
+    
+    public void setSaldo(BigDecimal saldo) {
+        this.saldo = saldo;
+    }
+    
+    public String getMoneda() {
+        return moneda;
+    }
+    
+    public void setMoneda(String moneda) {
+        this.moneda = moneda;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("SaldoHistoricoDTO{cuenta=%s, instante=%s, saldo=%s %s}",
+            cuentaId, instante, saldo, moneda);
+    }
+}
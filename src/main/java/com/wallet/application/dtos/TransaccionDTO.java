@@ -19,6 +19,7 @@ public class TransaccionDTO {
     private String descripcion;
     private LocalDateTime fecha;
     private String cuentaDestinoId; // Para transferencias
+    private long secuencia; // Posición en el libro de la cuenta; 0 si no se guardó
     
     // Constructor vacío
     public TransaccionDTO() {
@@ -103,6 +104,14 @@ public class TransaccionDTO {
         this.cuentaDestinoId = cuentaDestinoId;
     }
     
+    public long getSecuencia() {
+        return secuencia;
+    }
+    
+    public void setSecuencia(long secuencia) {
+        this.secuencia = secuencia;
+    }
+    
     @Override
     public String toString() {
         return "TransaccionDTO{" +
@@ -114,6 +123,7 @@ public class TransaccionDTO {
                 ", descripcion='" + descripcion + '\'' +
                 ", fecha=" + fecha +
                 ", cuentaDestinoId='" + cuentaDestinoId + '\'' +
+                ", secuencia=" + secuencia +
                 '}';
     }
 }
@@ -0,0 +1,174 @@
+package com.wallet.application.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de una transferencia programada, con su próxima ejecución y el
+ * resultado de las anteriores.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class TransferenciaProgramadaDTO {
+    
+    private String id;
+    private String cuentaOrigenId;
+    private String cuentaDestinoId;
+    private BigDecimal monto;
+    private String moneda;
+    private String descripcion;
+    private String periodicidad;
+    private int repeticiones;
+    private LocalDateTime proximaEjecucion;
+    private String estado;
+    private int ejecuciones;
+    private int omitidas;
+    private int fallidas;
+    private String ultimoError;
+    
+    // Constructor vacío
+    public TransferenciaProgramadaDTO() {
+    }
+    
+    // Constructor completo
+    public TransferenciaProgramadaDTO(String id, String cuentaOrigenId, String cuentaDestinoId,
+                                      BigDecimal monto, String moneda, String descripcion,
+                                      String periodicidad, int repeticiones, LocalDateTime proximaEjecucion,
+                                      String estado, int ejecuciones, int omitidas, int fallidas,
+                                      String ultimoError) {
+        this.id = id;
+        this.cuentaOrigenId = cuentaOrigenId;
+        this.cuentaDestinoId = cuentaDestinoId;
+        this.monto = monto;
+        this.moneda = moneda;
+        this.descripcion = descripcion;
+        this.periodicidad = periodicidad;
+        this.repeticiones = repeticiones;
+        this.proximaEjecucion = proximaEjecucion;
+        this.estado = estado;
+        this.ejecuciones = ejecuciones;
+        this.omitidas = omitidas;
+        this.fallidas = fallidas;
+        this.ultimoError = ultimoError;
+    }
+    
+    // Getters y Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getCuentaOrigenId() {
+        return cuentaOrigenId;
+    }
+    
+    public void setCuentaOrigenId(String cuentaOrigenId) {
+        this.cuentaOrigenId = cuentaOrigenId;
+    }
+    
+    public String getCuentaDestinoId() {
+        return cuentaDestinoId;
+    }
+    
+    public void setCuentaDestinoId(String cuentaDestinoId) {
+        this.cuentaDestinoId = cuentaDestinoId;
+    }
+    
+    public BigDecimal getMonto() {
+        return monto;
+    }
+    
+    public void setMonto(BigDecimal monto) {
+        this.monto = monto;
+    }
+    
+    public String getMoneda() {
+        return moneda;
+    }
+    
+    public void setMoneda(String moneda) {
+        this.moneda = moneda;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+    
+    public String getPeriodicidad() {
+        return periodicidad;
+    }
+    
+    public void setPeriodicidad(String periodicidad) {
+        this.periodicidad = periodicidad;
+    }
+    
+    public int getRepeticiones() {
+        return repeticiones;
+    }
+    
+    public void setRepeticiones(int repeticiones) {
+        this.repeticiones = repeticiones;
+    }
+    
+    public LocalDateTime getProximaEjecucion() {
+        return proximaEjecucion;
+    }
+    
+    public void setProximaEjecucion(LocalDateTime proximaEjecucion) {
+        this.proximaEjecucion = proximaEjecucion;
+    }
+    
+    public String getEstado() {
+        return estado;
+    }
+    
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+    
+    public int getEjecuciones() {
+        return ejecuciones;
+    }
+    
+    public void setEjecuciones(int ejecuciones) {
+        this.ejecuciones = ejecuciones;
+    }
+    
+    public int getOmitidas() {
+        return omitidas;
+    }
+    
+    public void setOmitidas(int omitidas) {
+        this.omitidas = omitidas;
+    }
+    
+    public int getFallidas() {
+        return fallidas;
+    }
+    
+    public void setFallidas(int fallidas) {
+        this.fallidas = fallidas;
+    }
+    
+    public String getUltimoError() {
+        return ultimoError;
+    }
+    
+    public void setUltimoError(String ultimoError) {
+        this.ultimoError = ultimoError;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("TransferenciaProgramadaDTO{id=%s, %s -> %s, monto=%s %s, periodicidad=%s, proxima=%s, estado=%s}",
+            id, cuentaOrigenId, cuentaDestinoId, moneda, monto, periodicidad, proximaEjecucion, estado);
+    }
+}
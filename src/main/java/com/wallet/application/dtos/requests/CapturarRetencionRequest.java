@@ -0,0 +1,69 @@
+package com.wallet.application.dtos.requests;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO para capturar una retención de fondos, total o parcialmente.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class CapturarRetencionRequest {
+    
+    private String cuentaId;
+    private String retencionId;
+    private BigDecimal monto;
+    private String descripcion;
+    
+    public CapturarRetencionRequest() {
+    }
+    
+    /**
+     * Captura todo lo retenido.
+     */
+    public CapturarRetencionRequest(String cuentaId, String retencionId) {
+        this.cuentaId = cuentaId;
+        this.retencionId = retencionId;
+    }
+    
+    /**
+     * @param monto monto a capturar, como máximo lo retenido; el resto se libera
+     */
+    public CapturarRetencionRequest(String cuentaId, String retencionId, BigDecimal monto, String descripcion) {
+        this(cuentaId, retencionId);
+        this.monto = monto;
+        this.descripcion = descripcion;
+    }
+    
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public String getRetencionId() {
+        return retencionId;
+    }
+    
+    public void setRetencionId(String retencionId) {
+        this.retencionId = retencionId;
+    }
+    
+    public BigDecimal getMonto() {
+        return monto;
+    }
+    
+    public void setMonto(BigDecimal monto) {
+        this.monto = monto;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+}
@@ -13,6 +13,7 @@ public class DepositarDineroRequest {
     private String cuentaId;
     private BigDecimal monto;
     private String descripcion;
+    private String claveIdempotencia;
     
     public DepositarDineroRequest() {
     }
@@ -23,6 +24,12 @@ public class DepositarDineroRequest {
         this.descripcion = descripcion;
     }
     
+    public DepositarDineroRequest(String cuentaId, BigDecimal monto, String descripcion,
+                                  String claveIdempotencia) {
+        this(cuentaId, monto, descripcion);
+        this.claveIdempotencia = claveIdempotencia;
+    }
+    
     public String getCuentaId() {
         return cuentaId;
     }
@@ -46,4 +53,16 @@ public class DepositarDineroRequest {
     public void setDescripcion(String descripcion) {
         this.descripcion = descripcion;
     }
+    
+    /**
+     * Clave opcional elegida por el cliente. Un reintento con la misma clave
+     * devuelve el resultado original sin volver a mover dinero.
+     */
+    public String getClaveIdempotencia() {
+        return claveIdempotencia;
+    }
+    
+    public void setClaveIdempotencia(String claveIdempotencia) {
+        this.claveIdempotencia = claveIdempotencia;
+    }
 }
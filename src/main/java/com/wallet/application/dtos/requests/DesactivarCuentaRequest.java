@@ -0,0 +1,37 @@
+package com.wallet.application.dtos.requests;
+
+/**
+ * Request DTO para desactivar una cuenta.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class DesactivarCuentaRequest {
+    
+    private String cuentaId;
+    private String motivo;
+    
+    public DesactivarCuentaRequest() {
+    }
+    
+    public DesactivarCuentaRequest(String cuentaId, String motivo) {
+        this.cuentaId = cuentaId;
+        this.motivo = motivo;
+    }
+    
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public String getMotivo() {
+        return motivo;
+    }
+    
+    public void setMotivo(String motivo) {
+        this.motivo = motivo;
+    }
+}
@@ -0,0 +1,39 @@
+package com.wallet.application.dtos.requests;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO para un destinatario de un pago masivo: la cuenta y el monto.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class DestinoPagoRequest {
+    
+    private String cuentaDestinoId;
+    private BigDecimal monto;
+    
+    public DestinoPagoRequest() {
+    }
+    
+    public DestinoPagoRequest(String cuentaDestinoId, BigDecimal monto) {
+        this.cuentaDestinoId = cuentaDestinoId;
+        this.monto = monto;
+    }
+    
+    public String getCuentaDestinoId() {
+        return cuentaDestinoId;
+    }
+    
+    public void setCuentaDestinoId(String cuentaDestinoId) {
+        this.cuentaDestinoId = cuentaDestinoId;
+    }
+    
+    public BigDecimal getMonto() {
+        return monto;
+    }
+    
+    public void setMonto(BigDecimal monto) {
+        this.monto = monto;
+    }
+}
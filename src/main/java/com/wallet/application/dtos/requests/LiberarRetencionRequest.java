@@ -0,0 +1,54 @@
+package com.wallet.application.dtos.requests;
+
+/**
+ * Request DTO para liberar una retención de fondos, a pedido o por vencimiento.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class LiberarRetencionRequest {
+    
+    private String cuentaId;
+    private String retencionId;
+    private boolean porVencimiento;
+    
+    public LiberarRetencionRequest() {
+    }
+    
+    public LiberarRetencionRequest(String cuentaId, String retencionId) {
+        this.cuentaId = cuentaId;
+        this.retencionId = retencionId;
+    }
+    
+    /**
+     * @param porVencimiento true si la libera el vencimiento y no un pedido
+     */
+    public LiberarRetencionRequest(String cuentaId, String retencionId, boolean porVencimiento) {
+        this(cuentaId, retencionId);
+        this.porVencimiento = porVencimiento;
+    }
+    
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public String getRetencionId() {
+        return retencionId;
+    }
+    
+    public void setRetencionId(String retencionId) {
+        this.retencionId = retencionId;
+    }
+    
+    public boolean isPorVencimiento() {
+        return porVencimiento;
+    }
+    
+    public void setPorVencimiento(boolean porVencimiento) {
+        this.porVencimiento = porVencimiento;
+    }
+}
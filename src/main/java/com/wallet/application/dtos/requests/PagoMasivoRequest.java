@@ -0,0 +1,66 @@
+package com.wallet.application.dtos.requests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request DTO para pagar desde una cuenta a muchos destinatarios
+ * (liquidaciones de un marketplace, nóminas, devoluciones masivas).
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class PagoMasivoRequest {
+    
+    private String cuentaOrigenId;
+    private String descripcion;
+    private List<DestinoPagoRequest> destinos = new ArrayList<>();
+    private String claveIdempotencia;
+    
+    public PagoMasivoRequest() {
+    }
+    
+    public PagoMasivoRequest(String cuentaOrigenId, String descripcion, List<DestinoPagoRequest> destinos) {
+        this.cuentaOrigenId = cuentaOrigenId;
+        this.descripcion = descripcion;
+        this.destinos = destinos;
+    }
+    
+    public PagoMasivoRequest(String cuentaOrigenId, String descripcion, List<DestinoPagoRequest> destinos,
+                             String claveIdempotencia) {
+        this(cuentaOrigenId, descripcion, destinos);
+        this.claveIdempotencia = claveIdempotencia;
+    }
+    
+    public String getCuentaOrigenId() {
+        return cuentaOrigenId;
+    }
+    
+    public void setCuentaOrigenId(String cuentaOrigenId) {
+        this.cuentaOrigenId = cuentaOrigenId;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+    
+    public List<DestinoPagoRequest> getDestinos() {
+        return destinos;
+    }
+    
+    public void setDestinos(List<DestinoPagoRequest> destinos) {
+        this.destinos = destinos;
+    }
+    
+    public String getClaveIdempotencia() {
+        return claveIdempotencia;
+    }
+    
+    public void setClaveIdempotencia(String claveIdempotencia) {
+        this.claveIdempotencia = claveIdempotencia;
+    }
+}
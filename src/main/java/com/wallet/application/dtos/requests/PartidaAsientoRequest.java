@@ -0,0 +1,40 @@
+package com.wallet.application.dtos.requests;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO para una partida de un asiento: la cuenta y su importe.
+ * El importe es positivo si acredita la cuenta y negativo si la debita.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class PartidaAsientoRequest {
+    
+    private String cuentaId;
+    private BigDecimal importe;
+    
+    public PartidaAsientoRequest() {
+    }
+    
+    public PartidaAsientoRequest(String cuentaId, BigDecimal importe) {
+        this.cuentaId = cuentaId;
+        this.importe = importe;
+    }
+    
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public BigDecimal getImporte() {
+        return importe;
+    }
+    
+    public void setImporte(BigDecimal importe) {
+        this.importe = importe;
+    }
+}
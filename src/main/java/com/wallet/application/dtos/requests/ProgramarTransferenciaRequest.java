@@ -0,0 +1,70 @@
+package com.wallet.application.dtos.requests;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request DTO para programar una transferencia a fecha futura o una orden
+ * permanente. La transferencia se describe con un {@link TransferirDineroRequest}
+ * (su clave de idempotencia se ignora: cada ejecución usa la suya).
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ProgramarTransferenciaRequest {
+    
+    private TransferirDineroRequest transferencia;
+    private LocalDateTime primeraEjecucion;
+    private String periodicidad = "UNICA";
+    private int repeticiones;
+    
+    public ProgramarTransferenciaRequest() {
+    }
+    
+    public ProgramarTransferenciaRequest(TransferirDineroRequest transferencia, LocalDateTime primeraEjecucion) {
+        this.transferencia = transferencia;
+        this.primeraEjecucion = primeraEjecucion;
+    }
+    
+    /**
+     * @param periodicidad UNICA, DIARIA, SEMANAL o MENSUAL
+     * @param repeticiones cantidad de ejecuciones, o 0 para repetir sin límite
+     */
+    public ProgramarTransferenciaRequest(TransferirDineroRequest transferencia, LocalDateTime primeraEjecucion,
+                                         String periodicidad, int repeticiones) {
+        this(transferencia, primeraEjecucion);
+        this.periodicidad = periodicidad;
+        this.repeticiones = repeticiones;
+    }
+    
+    public TransferirDineroRequest getTransferencia() {
+        return transferencia;
+    }
+    
+    public void setTransferencia(TransferirDineroRequest transferencia) {
+        this.transferencia = transferencia;
+    }
+    
+    public LocalDateTime getPrimeraEjecucion() {
+        return primeraEjecucion;
+    }
+    
+    public void setPrimeraEjecucion(LocalDateTime primeraEjecucion) {
+        this.primeraEjecucion = primeraEjecucion;
+    }
+    
+    public String getPeriodicidad() {
+        return periodicidad;
+    }
+    
+    public void setPeriodicidad(String periodicidad) {
+        this.periodicidad = periodicidad;
+    }
+    
+    public int getRepeticiones() {
+        return repeticiones;
+    }
+    
+    public void setRepeticiones(int repeticiones) {
+        this.repeticiones = repeticiones;
+    }
+}
@@ -0,0 +1,56 @@
+package com.wallet.application.dtos.requests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request DTO para registrar un asiento entre varias cuentas.
+ * Los importes de las partidas deben sumar cero.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class RegistrarAsientoRequest {
+    
+    private String descripcion;
+    private List<PartidaAsientoRequest> partidas = new ArrayList<>();
+    private String claveIdempotencia;
+    
+    public RegistrarAsientoRequest() {
+    }
+    
+    public RegistrarAsientoRequest(String descripcion, List<PartidaAsientoRequest> partidas) {
+        this.descripcion = descripcion;
+        this.partidas = partidas;
+    }
+    
+    public RegistrarAsientoRequest(String descripcion, List<PartidaAsientoRequest> partidas,
+                                   String claveIdempotencia) {
+        this(descripcion, partidas);
+        this.claveIdempotencia = claveIdempotencia;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+    
+    public List<PartidaAsientoRequest> getPartidas() {
+        return partidas;
+    }
+    
+    public void setPartidas(List<PartidaAsientoRequest> partidas) {
+        this.partidas = partidas;
+    }
+    
+    public String getClaveIdempotencia() {
+        return claveIdempotencia;
+    }
+    
+    public void setClaveIdempotencia(String claveIdempotencia) {
+        this.claveIdempotencia = claveIdempotencia;
+    }
+}
@@ -0,0 +1,67 @@
+package com.wallet.application.dtos.requests;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO para retener fondos de una cuenta (autorización).
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class RetenerFondosRequest {
+    
+    private String cuentaId;
+    private BigDecimal monto;
+    private String descripcion;
+    private long vigenciaSegundos;
+    
+    public RetenerFondosRequest() {
+    }
+    
+    public RetenerFondosRequest(String cuentaId, BigDecimal monto, String descripcion) {
+        this.cuentaId = cuentaId;
+        this.monto = monto;
+        this.descripcion = descripcion;
+    }
+    
+    /**
+     * @param vigenciaSegundos segundos hasta que la retención vence si no se
+     *                         captura; 0 usa la vigencia por defecto
+     */
+    public RetenerFondosRequest(String cuentaId, BigDecimal monto, String descripcion, long vigenciaSegundos) {
+        this(cuentaId, monto, descripcion);
+        this.vigenciaSegundos = vigenciaSegundos;
+    }
+    
+    public String getCuentaId() {
+        return cuentaId;
+    }
+    
+    public void setCuentaId(String cuentaId) {
+        this.cuentaId = cuentaId;
+    }
+    
+    public BigDecimal getMonto() {
+        return monto;
+    }
+    
+    public void setMonto(BigDecimal monto) {
+        this.monto = monto;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+    
+    public long getVigenciaSegundos() {
+        return vigenciaSegundos;
+    }
+    
+    public void setVigenciaSegundos(long vigenciaSegundos) {
+        this.vigenciaSegundos = vigenciaSegundos;
+    }
+}
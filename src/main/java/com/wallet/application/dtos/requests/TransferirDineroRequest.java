@@ -14,6 +14,7 @@ public class TransferirDineroRequest {
     private String cuentaDestinoId;
     private BigDecimal monto;
     private String descripcion;
+    private String claveIdempotencia;
     
     public TransferirDineroRequest() {
     }
@@ -26,6 +27,12 @@ public class TransferirDineroRequest {
         this.descripcion = descripcion;
     }
     
+    public TransferirDineroRequest(String cuentaOrigenId, String cuentaDestinoId,
+                                   BigDecimal monto, String descripcion, String claveIdempotencia) {
+        this(cuentaOrigenId, cuentaDestinoId, monto, descripcion);
+        this.claveIdempotencia = claveIdempotencia;
+    }
+    
     public String getCuentaOrigenId() {
         return cuentaOrigenId;
     }
@@ -57,4 +64,16 @@ public class TransferirDineroRequest {
     public void setDescripcion(String descripcion) {
         this.descripcion = descripcion;
     }
+    
+    /**
+     * Clave opcional elegida por el cliente. Un reintento con la misma clave
+     * devuelve el resultado original sin volver a mover dinero.
+     */
+    public String getClaveIdempotencia() {
+        return claveIdempotencia;
+    }
+    
+    public void setClaveIdempotencia(String claveIdempotencia) {
+        this.claveIdempotencia = claveIdempotencia;
+    }
 }
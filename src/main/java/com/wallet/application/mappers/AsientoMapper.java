@@ -0,0 +1,38 @@
+package com.wallet.application.mappers;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.domain.entities.Asiento;
+import com.wallet.domain.valueobjects.Tiempo;
+
+import java.util.stream.Collectors;
+
+/**
+ * Mapper para convertir Asiento en AsientoDTO.
+ * Los asientos se crean desde sus partidas, por lo que no hay conversión inversa.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class AsientoMapper {
+    
+    /**
+     * Convierte un asiento a DTO, con cada apunte como transacción.
+     * 
+     * @param asiento el asiento
+     * @return el DTO correspondiente
+     */
+    public static AsientoDTO toDTO(Asiento asiento) {
+        if (asiento == null) {
+            return null;
+        }
+        
+        return new AsientoDTO(
+            asiento.getId(),
+            asiento.getDescripcion(),
+            Tiempo.aFecha(asiento.getFechaNanos()),
+            asiento.tramos().stream()
+                .map(TransaccionMapper::toDTO)
+                .collect(Collectors.toList())
+        );
+    }
+}
@@ -25,7 +25,7 @@ public class CuentaMapper {
             return null;
         }
         
-        return new CuentaDTO(
+        CuentaDTO dto = new CuentaDTO(
             cuenta.getId(),
             cuenta.getNumeroCuenta(),
             cuenta.getUsuarioId(),
@@ -35,6 +35,8 @@ public class CuentaMapper {
             cuenta.getFechaCreacion(),
             cuenta.getFechaActualizacion()
         );
+        dto.setSaldoDisponible(cuenta.getSaldoDisponible().getCantidad());
+        return dto;
     }
     
     /**
@@ -0,0 +1,52 @@
+package com.wallet.application.mappers;
+
+import com.wallet.application.dtos.ExtractoMensualDTO;
+import com.wallet.domain.entities.ExtractoMensual;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mapper para convertir ExtractoMensual en ExtractoMensualDTO.
+ * Los extractos solo se leen, por lo que no hay conversión inversa.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ExtractoMensualMapper {
+    
+    /**
+     * Convierte un extracto a DTO, con los totales de todos los tipos
+     * (en cero los que no tuvieron movimientos).
+     * 
+     * @param extracto el extracto
+     * @return el DTO correspondiente
+     */
+    public static ExtractoMensualDTO toDTO(ExtractoMensual extracto) {
+        if (extracto == null) {
+            return null;
+        }
+        
+        Map<String, BigDecimal> totales = new LinkedHashMap<>();
+        Map<String, Integer> cantidades = new LinkedHashMap<>();
+        for (TipoTransaccion tipo : TipoTransaccion.values()) {
+            totales.put(tipo.name(), extracto.getTotal(tipo).getCantidad());
+            cantidades.put(tipo.name(), extracto.getCantidad(tipo));
+        }
+        
+        return new ExtractoMensualDTO(
+            extracto.getCuentaId(),
+            extracto.getPeriodo().toString(),
+            extracto.getSaldoFinal().getMoneda(),
+            extracto.getSaldoInicial().getCantidad(),
+            extracto.getSaldoFinal().getCantidad(),
+            extracto.getTotalCreditos().getCantidad(),
+            extracto.getTotalDebitos().getCantidad(),
+            totales,
+            cantidades,
+            extracto.getCantidadTransacciones()
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.wallet.application.mappers;
+
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.domain.entities.Retencion;
+
+/**
+ * Mapper para convertir Retencion en RetencionDTO.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class RetencionMapper {
+    
+    /**
+     * Convierte una retención a DTO.
+     * 
+     * @param retencion la retención
+     * @return el DTO correspondiente
+     */
+    public static RetencionDTO toDTO(Retencion retencion) {
+        if (retencion == null) {
+            return null;
+        }
+        
+        return new RetencionDTO(
+            retencion.getId(),
+            retencion.getCuentaId(),
+            retencion.getMonto().getCantidad(),
+            retencion.getMonto().getMoneda(),
+            retencion.getDescripcion(),
+            retencion.getFechaCreacion(),
+            retencion.getVencimiento(),
+            retencion.getEstado().name(),
+            retencion.getMontoCapturado() != null ? retencion.getMontoCapturado().getCantidad() : null
+        );
+    }
+}
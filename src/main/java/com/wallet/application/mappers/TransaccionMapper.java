@@ -24,7 +24,7 @@ public class TransaccionMapper {
             return null;
         }
         
-        return new TransaccionDTO(
+        TransaccionDTO dto = new TransaccionDTO(
             transaccion.getId(),
             transaccion.getCuentaOrigenId(),
             transaccion.getTipo().name(),
@@ -34,6 +34,8 @@ public class TransaccionMapper {
             transaccion.getFecha(),
             transaccion.getCuentaDestinoId()
         );
+        dto.setSecuencia(transaccion.getSecuencia());
+        return dto;
     }
     
     /**
@@ -59,7 +61,8 @@ public class TransaccionMapper {
             dto.getDescripcion(),
             dto.getFecha(),
             Dinero.CERO,
-            monto
+            monto,
+            dto.getSecuencia()
         );
     }
 }
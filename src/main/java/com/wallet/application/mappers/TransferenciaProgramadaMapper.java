@@ -0,0 +1,42 @@
+package com.wallet.application.mappers;
+
+import com.wallet.application.dtos.TransferenciaProgramadaDTO;
+import com.wallet.domain.entities.TransferenciaProgramada;
+
+/**
+ * Mapper para convertir TransferenciaProgramada en TransferenciaProgramadaDTO.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class TransferenciaProgramadaMapper {
+    
+    /**
+     * Convierte una transferencia programada a DTO.
+     * 
+     * @param programada la transferencia programada
+     * @return el DTO correspondiente
+     */
+    public static TransferenciaProgramadaDTO toDTO(TransferenciaProgramada programada) {
+        if (programada == null) {
+            return null;
+        }
+        
+        return new TransferenciaProgramadaDTO(
+            programada.getId(),
+            programada.getCuentaOrigenId(),
+            programada.getCuentaDestinoId(),
+            programada.getMonto().getCantidad(),
+            programada.getMonto().getMoneda(),
+            programada.getDescripcion(),
+            programada.getPeriodicidad().name(),
+            programada.getRepeticiones(),
+            programada.getProximaEjecucion(),
+            programada.getEstado().name(),
+            programada.getEjecuciones(),
+            programada.getOmitidas(),
+            programada.getFallidas(),
+            programada.getUltimoError()
+        );
+    }
+}
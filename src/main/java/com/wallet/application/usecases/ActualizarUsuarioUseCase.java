@@ -0,0 +1,58 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.UsuarioDTO;
+import com.wallet.application.mappers.UsuarioMapper;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.exceptions.UsuarioNoEncontradoException;
+import com.wallet.domain.repositories.IUsuarioRepository;
+import com.wallet.domain.valueobjects.Email;
+
+/**
+ * Caso de uso para actualizar nombre, apellido y email de un usuario.
+ * 
+ * Guarda el usuario después de modificarlo, de modo que la caché y los
+ * índices que observan el repositorio reflejan los datos nuevos.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ActualizarUsuarioUseCase {
+    
+    private final IUsuarioRepository usuarioRepository;
+    
+    public ActualizarUsuarioUseCase(IUsuarioRepository usuarioRepository) {
+        if (usuarioRepository == null) {
+            throw new IllegalArgumentException("El repositorio de usuarios no puede ser nulo");
+        }
+        this.usuarioRepository = usuarioRepository;
+    }
+    
+    /**
+     * Actualiza los datos de un usuario.
+     * 
+     * @param usuarioId ID del usuario
+     * @param nombre nuevo nombre
+     * @param apellido nuevo apellido
+     * @param email nuevo email
+     * @return DTO del usuario actualizado
+     * @throws UsuarioNoEncontradoException si el usuario no existe
+     * @throws OperacionNoValidaException si el email ya pertenece a otro usuario
+     */
+    public UsuarioDTO ejecutar(String usuarioId, String nombre, String apellido, String email) {
+        if (usuarioId == null || usuarioId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID del usuario es requerido");
+        }
+        
+        Usuario usuario = usuarioRepository.buscarPorId(usuarioId)
+            .orElseThrow(() -> UsuarioNoEncontradoException.porId(usuarioId));
+        
+        Email nuevoEmail = new Email(email);
+        if (!nuevoEmail.equals(usuario.getEmail()) && usuarioRepository.existePorEmail(nuevoEmail)) {
+            throw OperacionNoValidaException.porque("Ya existe un usuario con el email: " + nuevoEmail.getValor());
+        }
+        
+        usuario.actualizar(nombre, apellido, nuevoEmail);
+        return UsuarioMapper.toDTO(usuarioRepository.guardar(usuario));
+    }
+}
@@ -0,0 +1,85 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.mappers.TransaccionMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.IIndiceDescripcionesRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caso de uso para buscar transacciones de una cuenta por palabras de su
+ * descripción ("renta", "sueldo marzo").
+ * 
+ * El índice retorna números de secuencia; cada uno se lee del repositorio de
+ * transacciones, que lo encuentra tanto en el historial reciente como en el
+ * archivado.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class BuscarTransaccionesUseCase {
+    
+    /**
+     * Máximo de transacciones que retorna una búsqueda.
+     */
+    public static final int MAXIMO_RESULTADOS = 500;
+    
+    private final ICuentaRepository cuentaRepository;
+    private final ITransaccionRepository transaccionRepository;
+    private final IIndiceDescripcionesRepository indiceDescripcionesRepository;
+    
+    public BuscarTransaccionesUseCase(ICuentaRepository cuentaRepository,
+                                      ITransaccionRepository transaccionRepository,
+                                      IIndiceDescripcionesRepository indiceDescripcionesRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (transaccionRepository == null) {
+            throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
+        }
+        if (indiceDescripcionesRepository == null) {
+            throw new IllegalArgumentException("El índice de descripciones no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.transaccionRepository = transaccionRepository;
+        this.indiceDescripcionesRepository = indiceDescripcionesRepository;
+    }
+    
+    /**
+     * Busca las transacciones de una cuenta cuya descripción contiene todas
+     * las palabras de la consulta.
+     * 
+     * @param numeroCuenta número de la cuenta
+     * @param consulta palabras a buscar
+     * @return DTOs de las transacciones, de la más reciente a la más antigua
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     */
+    public List<TransaccionDTO> ejecutar(String numeroCuenta, String consulta) {
+        if (numeroCuenta == null || numeroCuenta.trim().isEmpty()) {
+            throw new IllegalArgumentException("El número de cuenta es requerido");
+        }
+        if (consulta == null || consulta.trim().isEmpty()) {
+            throw new IllegalArgumentException("La consulta es requerida");
+        }
+        
+        Cuenta cuenta = cuentaRepository.buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> CuentaNoEncontradaException.porNumero(numeroCuenta));
+        
+        List<Long> secuencias = indiceDescripcionesRepository.buscar(cuenta.getId(), consulta, MAXIMO_RESULTADOS);
+        List<TransaccionDTO> resultado = new ArrayList<>(secuencias.size());
+        for (long secuencia : secuencias) {
+            List<Transaccion> encontrada =
+                transaccionRepository.buscarPorCuentaDesdeSecuencia(cuenta.getId(), secuencia - 1, 1);
+            if (!encontrada.isEmpty()) {
+                resultado.add(TransaccionMapper.toDTO(encontrada.get(0)));
+            }
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,80 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.CapturarRetencionRequest;
+import com.wallet.application.mappers.TransaccionMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Retencion;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.valueobjects.Dinero;
+
+/**
+ * Caso de uso para capturar una retención de fondos: el monto capturado sale
+ * del saldo y se registra como retiro.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class CapturarRetencionUseCase {
+    
+    private final ICuentaRepository cuentaRepository;
+    private final ITransaccionRepository transaccionRepository;
+    
+    public CapturarRetencionUseCase(ICuentaRepository cuentaRepository,
+                                    ITransaccionRepository transaccionRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (transaccionRepository == null) {
+            throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.transaccionRepository = transaccionRepository;
+    }
+    
+    /**
+     * Ejecuta el caso de uso para capturar una retención.
+     * 
+     * @param request datos de la captura
+     * @return DTO de la transacción de retiro
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     * @throws IllegalArgumentException si la retención no está activa o el monto supera lo retenido
+     */
+    public TransaccionDTO ejecutar(CapturarRetencionRequest request) {
+        validarRequest(request);
+        
+        Cuenta cuenta = cuentaRepository.buscarPorId(request.getCuentaId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaId()));
+        
+        Dinero saldoAnterior = cuenta.getSaldo();
+        Retencion retencion = cuenta.capturarRetencion(request.getRetencionId(),
+            request.getMonto() != null ? Dinero.de(request.getMonto()) : null);
+        Dinero saldoNuevo = cuenta.getSaldo();
+        
+        cuentaRepository.guardar(cuenta);
+        
+        Transaccion transaccion = transaccionRepository.guardar(Transaccion.retiro(
+            retencion.getMontoCapturado(),
+            cuenta.getId(),
+            request.getDescripcion() != null ? request.getDescripcion() : retencion.getDescripcion(),
+            saldoAnterior,
+            saldoNuevo
+        ));
+        return TransaccionMapper.toDTO(transaccion);
+    }
+    
+    private void validarRequest(CapturarRetencionRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("La solicitud no puede ser nula");
+        }
+        if (request.getCuentaId() == null || request.getCuentaId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        if (request.getRetencionId() == null || request.getRetencionId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la retención es requerido");
+        }
+    }
+}
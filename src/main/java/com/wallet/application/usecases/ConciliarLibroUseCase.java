@@ -0,0 +1,281 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.DiferenciaConciliacionDTO;
+import com.wallet.application.dtos.ResultadoConciliacionDTO;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso que concilia el libro de transacciones con los saldos.
+ *
+ * Verifica que el saldo de cada cuenta sea igual a sus créditos menos sus
+ * débitos, y que cada transferencia enviada tenga su recepción (o su depósito
+ * de reverso). Trabaja en dos fases sobre un ForkJoinPool:
+ * 1. Un recorrido paralelo de todas las transacciones, sin ordenar, que las
+ *    acumula por cuenta.
+ * 2. Una verificación paralela de cada cuenta contra su acumulado.
+ *
+ * No toma locks de escritura: los escritores siguen trabajando. Si el saldo
+ * de una cuenta no coincide, puede ser una operación en curso, por lo que se
+ * lee el libro de esa cuenta por páginas de secuencia entre dos lecturas
+ * iguales del saldo y solo se informa si la diferencia persiste. Las transferencias entre particiones
+ * que todavía no se acreditaron se informan como diferencias.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ConciliarLibroUseCase {
+
+    private static final int INTENTOS_SALDO = 3;
+    private static final int PAGINA_LIBRO = 512;
+    private static final long ESPERA_ENTRE_INTENTOS_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ICuentaRepository cuentaRepository;
+    private final ITransaccionRepository transaccionRepository;
+    private final ForkJoinPool pool;
+
+    public ConciliarLibroUseCase(ICuentaRepository cuentaRepository,
+                                 ITransaccionRepository transaccionRepository) {
+        this(cuentaRepository, transaccionRepository, ForkJoinPool.commonPool());
+    }
+
+    public ConciliarLibroUseCase(ICuentaRepository cuentaRepository,
+                                 ITransaccionRepository transaccionRepository,
+                                 ForkJoinPool pool) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (transaccionRepository == null) {
+            throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool de ejecución no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.transaccionRepository = transaccionRepository;
+        this.pool = pool;
+    }
+
+    /**
+     * Concilia todas las cuentas.
+     *
+     * @param alEncontrar recibe cada diferencia apenas se detecta; las llamadas
+     *                    nunca son simultáneas
+     * @return resumen de la conciliación
+     */
+    public ResultadoConciliacionDTO ejecutar(Consumer<DiferenciaConciliacionDTO> alEncontrar) {
+        if (alEncontrar == null) {
+            throw new IllegalArgumentException("El receptor de diferencias no puede ser nulo");
+        }
+        long inicio = System.nanoTime();
+        LongAdder diferencias = new LongAdder();
+        Consumer<DiferenciaConciliacionDTO> informar = diferencia -> {
+            diferencias.increment();
+            synchronized (alEncontrar) {
+                alEncontrar.accept(diferencia);
+            }
+        };
+
+        // Fase 1: acumular todas las transacciones por cuenta
+        Map<String, Acumulado> acumulados = new ConcurrentHashMap<>();
+        LongAdder transacciones = new LongAdder();
+        pool.submit(() -> transaccionRepository.recorrerTodas().parallel().forEach(transaccion -> {
+            transacciones.increment();
+            acumular(acumulados, transaccion);
+        })).join();
+
+        // Fase 2: verificar cada cuenta contra su acumulado
+        List<Cuenta> cuentas = cuentaRepository.obtenerTodas();
+        pool.submit(() -> cuentas.parallelStream().forEach(cuenta ->
+            verificar(cuenta, acumulados.get(cuenta.getId()), informar))).join();
+
+        Set<String> existentes = cuentas.stream().map(Cuenta::getId).collect(Collectors.toSet());
+        for (String cuentaId : acumulados.keySet()) {
+            if (!existentes.contains(cuentaId)) {
+                informar.accept(new DiferenciaConciliacionDTO(cuentaId,
+                    DiferenciaConciliacionDTO.CUENTA_INEXISTENTE,
+                    "Hay transacciones de una cuenta que no existe"));
+            }
+        }
+
+        return new ResultadoConciliacionDTO(cuentas.size(), transacciones.sum(), diferencias.sum(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+    }
+
+    /**
+     * Suma la transacción al saldo de su cuenta y, si es un tramo de una
+     * transferencia, lo anota en la cuenta que envió el dinero.
+     */
+    private static void acumular(Map<String, Acumulado> acumulados, Transaccion transaccion) {
+        String cuentaId = transaccion.getCuentaOrigenId();
+        Acumulado propio = acumulados.computeIfAbsent(cuentaId, id -> new Acumulado());
+        propio.sumar(transaccion);
+
+        BigDecimal monto = transaccion.getMonto().getCantidad();
+        switch (transaccion.getTipo()) {
+            case TRANSFERENCIA_ENVIADA:
+                propio.tramo(new Tramo(transaccion.getCuentaDestinoId(), monto), 1);
+                break;
+            case TRANSFERENCIA_RECIBIDA:
+                // En la recepción la cuenta destino del registro es la que envió
+                acumulados.computeIfAbsent(transaccion.getCuentaDestinoId(), id -> new Acumulado())
+                          .tramo(new Tramo(cuentaId, monto), -1);
+                break;
+            case DEPOSITO:
+                String destinoRevertido = destinoRevertido(transaccion.getDescripcion());
+                if (destinoRevertido != null) {
+                    propio.tramo(new Tramo(destinoRevertido, monto), -1);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String destinoRevertido(String descripcion) {
+        String prefijo = TransferirDineroUseCase.PREFIJO_REVERSO;
+        if (descripcion == null || !descripcion.startsWith(prefijo)) {
+            return null;
+        }
+        int fin = descripcion.indexOf(": ", prefijo.length());
+        return fin < 0 ? null : descripcion.substring(prefijo.length(), fin);
+    }
+
+    private void verificar(Cuenta cuenta, Acumulado acumulado,
+                           Consumer<DiferenciaConciliacionDTO> informar) {
+        BigDecimal neto = acumulado != null ? acumulado.neto() : BigDecimal.ZERO;
+        if (cuenta.getSaldo().getCantidad().compareTo(neto) != 0) {
+            String diferencia = confirmarSaldo(cuenta);
+            if (diferencia != null) {
+                informar.accept(new DiferenciaConciliacionDTO(cuenta.getId(),
+                    DiferenciaConciliacionDTO.SALDO, diferencia));
+            }
+        }
+        if (acumulado != null) {
+            for (Map.Entry<Tramo, Integer> pendiente : acumulado.tramosPendientes().entrySet()) {
+                Tramo tramo = pendiente.getKey();
+                int cantidad = pendiente.getValue();
+                String detalle = cantidad > 0
+                    ? String.format("%d envío(s) de %s a %s sin recepción", cantidad, tramo.monto, tramo.destino)
+                    : String.format("%d recepción(es) de %s en %s sin envío", -cantidad, tramo.monto, tramo.destino);
+                informar.accept(new DiferenciaConciliacionDTO(cuenta.getId(),
+                    DiferenciaConciliacionDTO.TRANSFERENCIA, detalle));
+            }
+        }
+    }
+
+    /**
+     * Lee el libro de la cuenta con el saldo estable antes y después. El libro
+     * solo crece, así que cada intento sigue desde la última secuencia leída.
+     *
+     * @return descripción de la diferencia, o null si en alguna lectura cuadró
+     */
+    private String confirmarSaldo(Cuenta cuenta) {
+        String diferencia = null;
+        BigDecimal neto = BigDecimal.ZERO;
+        long leidas = 0;
+        for (int intento = 0; intento < INTENTOS_SALDO; intento++) {
+            if (intento > 0) {
+                LockSupport.parkNanos(ESPERA_ENTRE_INTENTOS_NANOS);
+            }
+            Dinero antes = cuenta.getSaldo();
+            List<Transaccion> pagina;
+            while (!(pagina = transaccionRepository.buscarPorCuentaDesdeSecuencia(
+                    cuenta.getId(), leidas, PAGINA_LIBRO)).isEmpty()) {
+                for (Transaccion transaccion : pagina) {
+                    neto = transaccion.getTipo().esCredito()
+                        ? neto.add(transaccion.getMonto().getCantidad())
+                        : neto.subtract(transaccion.getMonto().getCantidad());
+                }
+                leidas = pagina.get(pagina.size() - 1).getSecuencia();
+            }
+            Dinero despues = cuenta.getSaldo();
+            if (!antes.equals(despues)) {
+                continue;
+            }
+            if (despues.getCantidad().compareTo(neto) == 0) {
+                return null;
+            }
+            diferencia = String.format("Saldo %s, historial %s", despues.getCantidad(), neto);
+        }
+        return diferencia != null ? diferencia : "El saldo no se estabilizó durante la conciliación";
+    }
+
+    /**
+     * Acumulado de una cuenta. Pocas transacciones coinciden en la misma
+     * cuenta a la vez, así que el monitor casi nunca se disputa.
+     */
+    private static final class Acumulado {
+        private BigDecimal creditos = BigDecimal.ZERO;
+        private BigDecimal debitos = BigDecimal.ZERO;
+        private Map<Tramo, Integer> tramos;
+
+        synchronized void sumar(Transaccion transaccion) {
+            TipoTransaccion tipo = transaccion.getTipo();
+            if (tipo.esCredito()) {
+                creditos = creditos.add(transaccion.getMonto().getCantidad());
+            } else if (tipo.esDebito()) {
+                debitos = debitos.add(transaccion.getMonto().getCantidad());
+            }
+        }
+
+        synchronized void tramo(Tramo tramo, int delta) {
+            if (tramos == null) {
+                tramos = new HashMap<>();
+            }
+            tramos.merge(tramo, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        synchronized BigDecimal neto() {
+            return creditos.subtract(debitos);
+        }
+
+        synchronized Map<Tramo, Integer> tramosPendientes() {
+            return tramos == null ? Map.of() : new HashMap<>(tramos);
+        }
+    }
+
+    /**
+     * Transferencia vista desde la cuenta que envía: destino y monto.
+     * Los montos salen de Dinero, siempre con la misma escala.
+     */
+    private static final class Tramo {
+        final String destino;
+        final BigDecimal monto;
+
+        Tramo(String destino, BigDecimal monto) {
+            this.destino = destino;
+            this.monto = monto;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Tramo)) return false;
+            Tramo that = (Tramo) o;
+            return destino.equals(that.destino) && monto.equals(that.monto);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * destino.hashCode() + monto.hashCode();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.ExtractoMensualDTO;
+import com.wallet.application.mappers.ExtractoMensualMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.ExtractoMensual;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.IExtractoMensualRepository;
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para consultar el extracto mensual de una cuenta.
+ * 
+ * Los extractos se mantienen al guardar cada transacción, por lo que la
+ * consulta no recorre el historial.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ConsultarExtractoMensualUseCase {
+    
+    private final ICuentaRepository cuentaRepository;
+    private final IExtractoMensualRepository extractoRepository;
+    
+    public ConsultarExtractoMensualUseCase(ICuentaRepository cuentaRepository,
+                                           IExtractoMensualRepository extractoRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (extractoRepository == null) {
+            throw new IllegalArgumentException("El repositorio de extractos no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.extractoRepository = extractoRepository;
+    }
+    
+    /**
+     * Consulta el extracto de un mes. Si la cuenta no tuvo movimientos ese
+     * mes, el extracto lleva el saldo de cierre del último mes que sí los tuvo.
+     * 
+     * @param cuentaId ID de la cuenta
+     * @param periodo mes consultado
+     * @return DTO del extracto
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     */
+    public ExtractoMensualDTO ejecutar(String cuentaId, YearMonth periodo) {
+        if (cuentaId == null || cuentaId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        if (periodo == null) {
+            throw new IllegalArgumentException("El periodo es requerido");
+        }
+        
+        Cuenta cuenta = cuentaRepository.buscarPorId(cuentaId)
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(cuentaId));
+        
+        ExtractoMensual extracto = extractoRepository.buscarUltimoHasta(cuentaId, periodo)
+            .map(e -> e.getPeriodo().equals(periodo)
+                ? e
+                : ExtractoMensual.sinMovimientos(cuentaId, periodo, e.getSaldoFinal()))
+            .orElseGet(() -> ExtractoMensual.sinMovimientos(cuentaId, periodo,
+                new Dinero(BigDecimal.ZERO, cuenta.getSaldo().getMoneda())));
+        
+        return ExtractoMensualMapper.toDTO(extracto);
+    }
+    
+    /**
+     * Consulta los extractos de todos los meses con movimientos.
+     * 
+     * @param cuentaId ID de la cuenta
+     * @return lista de DTOs, del mes más antiguo al más reciente
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     */
+    public List<ExtractoMensualDTO> ejecutarTodos(String cuentaId) {
+        if (cuentaId == null || cuentaId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        
+        if (!cuentaRepository.buscarPorId(cuentaId).isPresent()) {
+            throw CuentaNoEncontradaException.porId(cuentaId);
+        }
+        
+        return extractoRepository.buscarPorCuenta(cuentaId).stream()
+            .map(ExtractoMensualMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+}
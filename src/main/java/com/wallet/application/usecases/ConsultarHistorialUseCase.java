@@ -19,6 +19,8 @@ import java.util.stream.Collectors;
  */
 public class ConsultarHistorialUseCase {
     
+    public static final int MAXIMO_POR_PAGINA = 1000;
+    
     private final ICuentaRepository cuentaRepository;
     private final ITransaccionRepository transaccionRepository;
     
@@ -93,4 +95,36 @@ public class ConsultarHistorialUseCase {
             .map(TransaccionMapper::toDTO)
             .collect(Collectors.toList());
     }
+    
+    /**
+     * Consulta las transacciones propias de una cuenta posteriores a una
+     * secuencia, en orden ascendente. La última secuencia de la página es el
+     * cursor de la siguiente; una página vacía indica que no hay más.
+     * 
+     * @param cuentaId ID de la cuenta
+     * @param despuesDe última secuencia ya leída (0 para empezar)
+     * @param limite tamaño de página (máximo {@value #MAXIMO_POR_PAGINA})
+     * @return lista de DTOs de transacciones con secuencias consecutivas
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     */
+    public List<TransaccionDTO> ejecutarDesdeSecuencia(String cuentaId, long despuesDe, int limite) {
+        if (cuentaId == null || cuentaId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        if (despuesDe < 0) {
+            throw new IllegalArgumentException("La secuencia no puede ser negativa");
+        }
+        if (limite <= 0 || limite > MAXIMO_POR_PAGINA) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + MAXIMO_POR_PAGINA);
+        }
+        
+        // Verificar que la cuenta existe
+        if (!cuentaRepository.buscarPorId(cuentaId).isPresent()) {
+            throw CuentaNoEncontradaException.porId(cuentaId);
+        }
+        
+        return transaccionRepository.buscarPorCuentaDesdeSecuencia(cuentaId, despuesDe, limite).stream()
+            .map(TransaccionMapper::toDTO)
+            .collect(Collectors.toList());
+    }
 }
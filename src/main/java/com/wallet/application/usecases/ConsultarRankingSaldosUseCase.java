@@ -0,0 +1,85 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.SaldoCuentaDTO;
+import com.wallet.domain.entities.SaldoCuenta;
+import com.wallet.domain.repositories.IRankingSaldosRepository;
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para consultar las cuentas de mayor y menor saldo, y cuántas
+ * cuentas tienen un saldo dentro de un rango.
+ * 
+ * Lee el índice de saldos que se mantiene con cada cuenta guardada, sin
+ * recorrer ni ordenar las cuentas.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ConsultarRankingSaldosUseCase {
+    
+    /**
+     * Máximo de cuentas que retorna una consulta.
+     */
+    public static final int MAXIMO_CUENTAS = 1000;
+    
+    private final IRankingSaldosRepository rankingSaldosRepository;
+    
+    public ConsultarRankingSaldosUseCase(IRankingSaldosRepository rankingSaldosRepository) {
+        if (rankingSaldosRepository == null) {
+            throw new IllegalArgumentException("El repositorio de ranking de saldos no puede ser nulo");
+        }
+        this.rankingSaldosRepository = rankingSaldosRepository;
+    }
+    
+    /**
+     * Cuentas de mayor saldo, de mayor a menor.
+     */
+    public List<SaldoCuentaDTO> mayores(String moneda, int cantidad) {
+        validar(moneda, cantidad);
+        return toDTOs(rankingSaldosRepository.mayores(moneda, cantidad));
+    }
+    
+    /**
+     * Cuentas de menor saldo, de menor a mayor.
+     */
+    public List<SaldoCuentaDTO> menores(String moneda, int cantidad) {
+        validar(moneda, cantidad);
+        return toDTOs(rankingSaldosRepository.menores(moneda, cantidad));
+    }
+    
+    /**
+     * Cantidad de cuentas con saldo entre mínimo y máximo (ambos inclusive).
+     */
+    public long contarEnRango(String moneda, BigDecimal minimo, BigDecimal maximo) {
+        if (moneda == null || moneda.trim().isEmpty()) {
+            throw new IllegalArgumentException("La moneda es requerida");
+        }
+        if (minimo == null || maximo == null) {
+            throw new IllegalArgumentException("El rango de saldos es requerido");
+        }
+        if (minimo.compareTo(maximo) > 0) {
+            throw new IllegalArgumentException("El saldo mínimo no puede ser mayor que el máximo");
+        }
+        return rankingSaldosRepository.contarEnRango(new Dinero(minimo, moneda), new Dinero(maximo, moneda));
+    }
+    
+    private static void validar(String moneda, int cantidad) {
+        if (moneda == null || moneda.trim().isEmpty()) {
+            throw new IllegalArgumentException("La moneda es requerida");
+        }
+        if (cantidad <= 0 || cantidad > MAXIMO_CUENTAS) {
+            throw new IllegalArgumentException("La cantidad debe estar entre 1 y " + MAXIMO_CUENTAS);
+        }
+    }
+    
+    private static List<SaldoCuentaDTO> toDTOs(List<SaldoCuenta> saldos) {
+        return saldos.stream()
+            .map(s -> new SaldoCuentaDTO(s.getCuentaId(), s.getNumeroCuenta(),
+                                         s.getSaldo().getCantidad(), s.getSaldo().getMoneda()))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,66 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.AgregadoDiarioDTO;
+import com.wallet.domain.entities.AgregadoDiario;
+import com.wallet.domain.repositories.IAgregadoDiarioRepository;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para el reporte diario de operaciones: total y cantidad de
+ * transacciones por día, tipo y moneda de todo el sistema.
+ * 
+ * Lee los agregados que se mantienen con cada transacción, sin recorrer el
+ * historial.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ConsultarReporteDiarioUseCase {
+    
+    /**
+     * Máximo de días que abarca un reporte.
+     */
+    public static final int MAXIMO_DIAS = 366;
+    
+    private final IAgregadoDiarioRepository agregadoDiarioRepository;
+    
+    public ConsultarReporteDiarioUseCase(IAgregadoDiarioRepository agregadoDiarioRepository) {
+        if (agregadoDiarioRepository == null) {
+            throw new IllegalArgumentException("El repositorio de agregados diarios no puede ser nulo");
+        }
+        this.agregadoDiarioRepository = agregadoDiarioRepository;
+    }
+    
+    /**
+     * Obtiene el reporte de un rango de días.
+     * 
+     * @param desde primer día (inclusive)
+     * @param hasta último día (inclusive)
+     * @return agregados ordenados por día, moneda y tipo; los días sin
+     *         movimientos no aparecen
+     */
+    public List<AgregadoDiarioDTO> ejecutar(LocalDate desde, LocalDate hasta) {
+        if (desde == null || hasta == null) {
+            throw new IllegalArgumentException("Las fechas son requeridas");
+        }
+        if (desde.isAfter(hasta)) {
+            throw new IllegalArgumentException("La fecha inicial no puede ser posterior a la final");
+        }
+        if (ChronoUnit.DAYS.between(desde, hasta) >= MAXIMO_DIAS) {
+            throw new IllegalArgumentException("El reporte no puede abarcar más de " + MAXIMO_DIAS + " días");
+        }
+        
+        return agregadoDiarioRepository.buscarPorRango(desde, hasta).stream()
+            .map(ConsultarReporteDiarioUseCase::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    private static AgregadoDiarioDTO toDTO(AgregadoDiario agregado) {
+        return new AgregadoDiarioDTO(agregado.getDia(), agregado.getTipo().name(), agregado.getMoneda(),
+                                     agregado.getCantidad(), agregado.getTotal().getCantidad());
+    }
+}
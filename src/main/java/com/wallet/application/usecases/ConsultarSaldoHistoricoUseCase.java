@@ -0,0 +1,61 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.SaldoHistoricoDTO;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ISaldoHistoricoRepository;
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Caso de uso para consultar el saldo de una cuenta en un instante pasado.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ConsultarSaldoHistoricoUseCase {
+    
+    private final ICuentaRepository cuentaRepository;
+    private final ISaldoHistoricoRepository saldoHistoricoRepository;
+    
+    public ConsultarSaldoHistoricoUseCase(ICuentaRepository cuentaRepository,
+                                          ISaldoHistoricoRepository saldoHistoricoRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (saldoHistoricoRepository == null) {
+            throw new IllegalArgumentException("El repositorio de saldos históricos no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.saldoHistoricoRepository = saldoHistoricoRepository;
+    }
+    
+    /**
+     * Consulta el saldo de una cuenta en un instante. Antes de su primera
+     * transacción la cuenta tenía saldo cero.
+     * 
+     * @param cuentaId ID de la cuenta
+     * @param instante instante consultado
+     * @return DTO con el saldo en ese instante
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     */
+    public SaldoHistoricoDTO ejecutar(String cuentaId, LocalDateTime instante) {
+        if (cuentaId == null || cuentaId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        if (instante == null) {
+            throw new IllegalArgumentException("El instante es requerido");
+        }
+        
+        Cuenta cuenta = cuentaRepository.buscarPorId(cuentaId)
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(cuentaId));
+        
+        Dinero saldo = saldoHistoricoRepository.saldoEn(cuentaId, instante)
+            .orElseGet(() -> new Dinero(BigDecimal.ZERO, cuenta.getSaldo().getMoneda()));
+        
+        return new SaldoHistoricoDTO(cuentaId, instante, saldo.getCantidad(), saldo.getMoneda());
+    }
+}
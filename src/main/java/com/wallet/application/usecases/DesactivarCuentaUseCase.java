@@ -0,0 +1,55 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.requests.DesactivarCuentaRequest;
+import com.wallet.application.mappers.CuentaMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+
+/**
+ * Caso de uso para desactivar una cuenta: deja de aceptar operaciones que
+ * muevan su saldo.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class DesactivarCuentaUseCase {
+    
+    private final ICuentaRepository cuentaRepository;
+    
+    public DesactivarCuentaUseCase(ICuentaRepository cuentaRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+    }
+    
+    /**
+     * Ejecuta el caso de uso para desactivar una cuenta.
+     * 
+     * @param request cuenta a desactivar
+     * @return DTO de la cuenta desactivada
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     * @throws OperacionNoValidaException si la cuenta ya estaba inactiva
+     */
+    public CuentaDTO ejecutar(DesactivarCuentaRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("La solicitud no puede ser nula");
+        }
+        if (request.getCuentaId() == null || request.getCuentaId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        
+        Cuenta cuenta = cuentaRepository.buscarPorId(request.getCuentaId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaId()));
+        if (!cuenta.isActiva()) {
+            throw OperacionNoValidaException.porque("La cuenta " + cuenta.getId() + " ya está inactiva");
+        }
+        cuenta.desactivar();
+        cuentaRepository.guardar(cuenta);
+        
+        return CuentaMapper.toDTO(cuenta);
+    }
+}
@@ -0,0 +1,64 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.requests.LiberarRetencionRequest;
+import com.wallet.application.mappers.RetencionMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Retencion;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.valueobjects.Tiempo;
+
+/**
+ * Caso de uso para liberar una retención de fondos, a pedido o porque venció:
+ * lo retenido vuelve a estar disponible sin mover el saldo.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class LiberarRetencionUseCase {
+    
+    private final ICuentaRepository cuentaRepository;
+    
+    public LiberarRetencionUseCase(ICuentaRepository cuentaRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+    }
+    
+    /**
+     * Ejecuta el caso de uso para liberar una retención.
+     * 
+     * @param request datos de la liberación
+     * @return DTO de la retención liberada o vencida
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     * @throws IllegalArgumentException si la retención no está activa
+     * @throws IllegalStateException si se libera por vencimiento y todavía no vence
+     */
+    public RetencionDTO ejecutar(LiberarRetencionRequest request) {
+        validarRequest(request);
+        
+        Cuenta cuenta = cuentaRepository.buscarPorId(request.getCuentaId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaId()));
+        
+        Retencion retencion = request.isPorVencimiento()
+            ? cuenta.vencerRetencion(request.getRetencionId(), Tiempo.ahora())
+            : cuenta.liberarRetencion(request.getRetencionId());
+        cuentaRepository.guardar(cuenta);
+        
+        return RetencionMapper.toDTO(retencion);
+    }
+    
+    private void validarRequest(LiberarRetencionRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("La solicitud no puede ser nula");
+        }
+        if (request.getCuentaId() == null || request.getCuentaId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        if (request.getRetencionId() == null || request.getRetencionId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la retención es requerido");
+        }
+    }
+}
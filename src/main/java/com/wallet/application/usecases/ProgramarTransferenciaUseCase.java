@@ -0,0 +1,114 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.TransferenciaProgramadaDTO;
+import com.wallet.application.dtos.requests.ProgramarTransferenciaRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.mappers.TransferenciaProgramadaMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.TransferenciaProgramada;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransferenciaProgramadaRepository;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Periodicidad;
+
+/**
+ * Caso de uso para programar una transferencia a fecha futura o una orden
+ * permanente. Solo valida y guarda la programación; ejecutarla le corresponde
+ * al programador de transferencias.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ProgramarTransferenciaUseCase {
+    
+    private final ICuentaRepository cuentaRepository;
+    private final ITransferenciaProgramadaRepository programadaRepository;
+    
+    public ProgramarTransferenciaUseCase(ICuentaRepository cuentaRepository,
+                                         ITransferenciaProgramadaRepository programadaRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (programadaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de transferencias programadas no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.programadaRepository = programadaRepository;
+    }
+    
+    /**
+     * Ejecuta el caso de uso para programar una transferencia.
+     * 
+     * @param request datos de la transferencia y de su calendario
+     * @return DTO de la transferencia programada
+     * @throws CuentaNoEncontradaException si alguna cuenta no existe
+     * @throws OperacionNoValidaException si las cuentas son iguales, tienen
+     *         diferentes monedas o la periodicidad no existe
+     */
+    public TransferenciaProgramadaDTO ejecutar(ProgramarTransferenciaRequest request) {
+        validarRequest(request);
+        TransferirDineroRequest transferencia = request.getTransferencia();
+        
+        if (transferencia.getCuentaOrigenId().equals(transferencia.getCuentaDestinoId())) {
+            throw OperacionNoValidaException.porque(
+                "No se puede transferir a la misma cuenta");
+        }
+        
+        Cuenta cuentaOrigen = cuentaRepository.buscarPorId(transferencia.getCuentaOrigenId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(transferencia.getCuentaOrigenId()));
+        Cuenta cuentaDestino = cuentaRepository.buscarPorId(transferencia.getCuentaDestinoId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(transferencia.getCuentaDestinoId()));
+        
+        if (!cuentaOrigen.getSaldo().getMoneda().equals(cuentaDestino.getSaldo().getMoneda())) {
+            throw OperacionNoValidaException.porque(
+                "Las cuentas deben tener la misma moneda para realizar transferencias");
+        }
+        
+        TransferenciaProgramada programada = new TransferenciaProgramada(
+            cuentaOrigen.getId(),
+            cuentaDestino.getId(),
+            new Dinero(transferencia.getMonto(), cuentaOrigen.getSaldo().getMoneda()),
+            transferencia.getDescripcion(),
+            periodicidad(request.getPeriodicidad()),
+            request.getPrimeraEjecucion(),
+            request.getRepeticiones()
+        );
+        
+        return TransferenciaProgramadaMapper.toDTO(programadaRepository.guardar(programada));
+    }
+    
+    private Periodicidad periodicidad(String nombre) {
+        if (nombre == null || nombre.trim().isEmpty()) {
+            return Periodicidad.UNICA;
+        }
+        try {
+            return Periodicidad.valueOf(nombre.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw OperacionNoValidaException.porque("Periodicidad desconocida: " + nombre);
+        }
+    }
+    
+    private void validarRequest(ProgramarTransferenciaRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("La solicitud no puede ser nula");
+        }
+        TransferirDineroRequest transferencia = request.getTransferencia();
+        if (transferencia == null) {
+            throw new IllegalArgumentException("La transferencia es requerida");
+        }
+        if (transferencia.getCuentaOrigenId() == null || transferencia.getCuentaOrigenId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta origen es requerido");
+        }
+        if (transferencia.getCuentaDestinoId() == null || transferencia.getCuentaDestinoId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta destino es requerido");
+        }
+        if (transferencia.getMonto() == null) {
+            throw new IllegalArgumentException("El monto es requerido");
+        }
+        if (request.getPrimeraEjecucion() == null) {
+            throw new IllegalArgumentException("La fecha de la primera ejecución es requerida");
+        }
+    }
+}
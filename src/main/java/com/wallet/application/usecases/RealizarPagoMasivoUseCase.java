@@ -0,0 +1,322 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.PagoMasivoDTO;
+import com.wallet.application.dtos.ResultadoPagoDTO;
+import com.wallet.application.dtos.requests.DestinoPagoRequest;
+import com.wallet.application.dtos.requests.PagoMasivoRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.exceptions.SaldoInsuficienteException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Caso de uso para pagar desde una cuenta a muchos destinatarios.
+ *
+ * Pagar miles de destinatarios con transferencias sueltas busca, bloquea y
+ * guarda la cuenta origen una vez por destinatario. Aquí el pago se hace en
+ * tres pasos:
+ * 1. {@link #reservar}: retira del origen el total de una sola vez y lo
+ *    registra como un cargo. Si no alcanza el saldo no se aplica nada.
+ * 2. {@link #acreditar}: acredita a los destinatarios por lotes, que pueden
+ *    correr en paralelo porque no tocan el origen, y registra un abono en
+ *    cada uno. Un destinatario que no puede recibir (cuenta inexistente,
+ *    inactiva o de otra moneda) queda rechazado sin afectar a los demás.
+ * 3. {@link #liquidar}: devuelve al origen lo que no se pudo pagar, como un
+ *    abono, y arma el resultado.
+ *
+ * {@link #ejecutar} hace los tres pasos acreditando los lotes en un
+ * ForkJoinPool. Los ejecutores que reparten las cuentas entre hilos llaman a
+ * los pasos por separado, cada uno en el hilo dueño de sus cuentas.
+ *
+ * Cada movimiento se registra en el momento en que se aplica, con los saldos
+ * reales de la cuenta bajo su monitor, igual que los dos tramos de una
+ * transferencia. Así el libro de cada cuenta encadena sus saldos aunque otras
+ * operaciones sobre el origen se intercalen entre los pasos, y una
+ * conciliación en ese intervalo ve el total reservado como un cargo del
+ * origen todavía no compensado por los abonos que faltan.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class RealizarPagoMasivoUseCase {
+
+    public static final int MAXIMO_DESTINOS = 100_000;
+
+    /** Destinatarios por lote de acreditación. */
+    public static final int TAMANIO_LOTE = 256;
+
+    private final ICuentaRepository cuentaRepository;
+    private final ITransaccionRepository transaccionRepository;
+    private final ForkJoinPool pool;
+
+    public RealizarPagoMasivoUseCase(ICuentaRepository cuentaRepository,
+                                     ITransaccionRepository transaccionRepository) {
+        this(cuentaRepository, transaccionRepository, ForkJoinPool.commonPool());
+    }
+
+    public RealizarPagoMasivoUseCase(ICuentaRepository cuentaRepository,
+                                     ITransaccionRepository transaccionRepository,
+                                     ForkJoinPool pool) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (transaccionRepository == null) {
+            throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool de ejecución no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.transaccionRepository = transaccionRepository;
+        this.pool = pool;
+    }
+
+    /**
+     * Realiza el pago completo.
+     *
+     * @param request cuenta origen y destinatarios
+     * @return resultado por destinatario, en el orden de la solicitud
+     * @throws CuentaNoEncontradaException si la cuenta origen no existe
+     * @throws OperacionNoValidaException si la cuenta origen no está activa
+     * @throws SaldoInsuficienteException si el origen no cubre el total
+     */
+    public PagoMasivoDTO ejecutar(PagoMasivoRequest request) {
+        Reserva reserva = reservar(request);
+        List<ForkJoinTask<?>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < reserva.getCantidad(); inicio += TAMANIO_LOTE) {
+            int[] posiciones = new int[Math.min(TAMANIO_LOTE, reserva.getCantidad() - inicio)];
+            for (int i = 0; i < posiciones.length; i++) {
+                posiciones[i] = inicio + i;
+            }
+            lotes.add(pool.submit(() -> acreditar(reserva, posiciones)));
+        }
+        for (ForkJoinTask<?> lote : lotes) {
+            lote.join();
+        }
+        return liquidar(reserva);
+    }
+
+    /**
+     * Primer paso: valida la solicitud y retira del origen el total de los
+     * destinatarios bien formados. Los mal formados (sin cuenta, monto no
+     * positivo, la propia cuenta origen o una cuenta repetida) quedan
+     * rechazados desde ya y no se reservan.
+     *
+     * @return la reserva, que se pasa a los pasos siguientes
+     * @throws CuentaNoEncontradaException si la cuenta origen no existe
+     * @throws OperacionNoValidaException si la cuenta origen no está activa
+     * @throws SaldoInsuficienteException si el origen no cubre el total
+     */
+    public Reserva reservar(PagoMasivoRequest request) {
+        validarRequest(request);
+        Cuenta origen = cuentaRepository.buscarPorId(request.getCuentaOrigenId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaOrigenId()));
+        String moneda = origen.getSaldo().getMoneda();
+
+        List<DestinoPagoRequest> destinos = new ArrayList<>(request.getDestinos());
+        Dinero[] montos = new Dinero[destinos.size()];
+        String[] motivos = new String[destinos.size()];
+        Set<String> vistas = new HashSet<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < montos.length; i++) {
+            DestinoPagoRequest destino = destinos.get(i);
+            String cuentaId = destino.getCuentaDestinoId();
+            if (cuentaId == null || cuentaId.trim().isEmpty()) {
+                motivos[i] = "El ID de la cuenta destino es requerido";
+            } else if (destino.getMonto() == null || destino.getMonto().signum() <= 0) {
+                motivos[i] = "El monto debe ser positivo";
+            } else if (cuentaId.equals(origen.getId())) {
+                motivos[i] = "No se puede pagar a la cuenta origen";
+            } else if (!vistas.add(cuentaId)) {
+                motivos[i] = "La cuenta aparece más de una vez en el pago";
+            } else {
+                montos[i] = new Dinero(destino.getMonto(), moneda);
+                total = total.add(montos[i].getCantidad());
+            }
+        }
+
+        Dinero reservado = new Dinero(total, moneda);
+        String descripcion = request.getDescripcion() != null ? request.getDescripcion() : "Pago masivo";
+        String cargoId = null;
+        synchronized (origen) {
+            if (!origen.isActiva()) {
+                throw OperacionNoValidaException.porque("La cuenta " + origen.getId() + " no está activa");
+            }
+            if (!origen.tieneSaldoSuficiente(reservado)) {
+                throw new SaldoInsuficienteException(String.format(
+                    "Saldo insuficiente en la cuenta %s. Saldo disponible: %s, Monto solicitado: %s",
+                    origen.getId(), origen.getSaldoDisponible(), reservado));
+            }
+            if (reservado.esPositivo()) {
+                Dinero saldoAnterior = origen.getSaldo();
+                origen.retirar(reservado);
+                cuentaRepository.guardar(origen);
+                cargoId = transaccionRepository.guardar(Transaccion.cargo(
+                    reservado, origen.getId(), descripcion, saldoAnterior, origen.getSaldo())).getId();
+            }
+        }
+        return new Reserva(origen, descripcion, destinos, montos, motivos, reservado, cargoId);
+    }
+
+    /**
+     * Segundo paso: acredita a los destinatarios de las posiciones dadas.
+     * Solo modifica esas cuentas, por lo que lotes con posiciones distintas
+     * pueden acreditarse a la vez desde hilos distintos.
+     *
+     * @param reserva la reserva del primer paso
+     * @param posiciones posiciones de los destinatarios en la solicitud
+     */
+    public void acreditar(Reserva reserva, int[] posiciones) {
+        for (int posicion : posiciones) {
+            Dinero monto = reserva.montos[posicion];
+            if (monto == null) {
+                continue;
+            }
+            String cuentaId = reserva.destinos.get(posicion).getCuentaDestinoId();
+            try {
+                Cuenta destino = cuentaRepository.buscarPorId(cuentaId)
+                    .orElseThrow(() -> CuentaNoEncontradaException.porId(cuentaId));
+                if (!destino.getSaldo().getMoneda().equals(monto.getMoneda())) {
+                    throw OperacionNoValidaException.porque("La cuenta destino tiene otra moneda");
+                }
+                synchronized (destino) {
+                    Dinero saldoAnterior = destino.getSaldo();
+                    destino.depositar(monto);
+                    cuentaRepository.guardar(destino);
+                    reserva.transaccionIds[posicion] = transaccionRepository.guardar(Transaccion.abono(
+                        monto, cuentaId, reserva.origen.getId(), reserva.descripcion,
+                        saldoAnterior, destino.getSaldo())).getId();
+                }
+            } catch (RuntimeException e) {
+                reserva.motivos[posicion] = e.getMessage();
+            }
+        }
+    }
+
+    /**
+     * Tercer paso: devuelve al origen lo reservado para los destinatarios
+     * rechazados y arma el resultado.
+     *
+     * @param reserva la reserva, ya acreditada
+     * @return resultado por destinatario
+     */
+    public PagoMasivoDTO liquidar(Reserva reserva) {
+        Cuenta origen = reserva.origen;
+        String moneda = reserva.reservado.getMoneda();
+        List<ResultadoPagoDTO> resultados = new ArrayList<>(reserva.transaccionIds.length);
+        BigDecimal pagado = BigDecimal.ZERO;
+        int pagados = 0;
+        for (int i = 0; i < reserva.transaccionIds.length; i++) {
+            DestinoPagoRequest destino = reserva.destinos.get(i);
+            if (reserva.transaccionIds[i] != null) {
+                pagados++;
+                pagado = pagado.add(reserva.montos[i].getCantidad());
+                resultados.add(new ResultadoPagoDTO(destino.getCuentaDestinoId(),
+                    reserva.montos[i].getCantidad(), ResultadoPagoDTO.PAGADO, reserva.transaccionIds[i], null));
+            } else {
+                resultados.add(new ResultadoPagoDTO(destino.getCuentaDestinoId(), destino.getMonto(),
+                    ResultadoPagoDTO.RECHAZADO, null, reserva.motivos[i]));
+            }
+        }
+
+        List<String> transaccionOrigenIds = new ArrayList<>(2);
+        if (reserva.cargoId != null) {
+            transaccionOrigenIds.add(reserva.cargoId);
+        }
+        Dinero devolucion = reserva.reservado.restar(new Dinero(pagado, moneda));
+        if (devolucion.esPositivo()) {
+            synchronized (origen) {
+                // Se reintegra aunque la cuenta se haya desactivado: el dinero no puede perderse
+                Dinero saldoAnterior = origen.getSaldo();
+                origen.reintegrar(devolucion);
+                cuentaRepository.guardar(origen);
+                transaccionOrigenIds.add(transaccionRepository.guardar(Transaccion.abono(
+                    devolucion, origen.getId(), null, reserva.descripcion,
+                    saldoAnterior, origen.getSaldo())).getId());
+            }
+        }
+        return new PagoMasivoDTO(origen.getId(), new Dinero(pagado, moneda).getCantidad(), moneda,
+            pagados, resultados.size() - pagados, transaccionOrigenIds, resultados);
+    }
+
+    private void validarRequest(PagoMasivoRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("La solicitud no puede ser nula");
+        }
+        if (request.getCuentaOrigenId() == null || request.getCuentaOrigenId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta origen es requerido");
+        }
+        List<DestinoPagoRequest> destinos = request.getDestinos();
+        if (destinos == null || destinos.isEmpty()) {
+            throw new IllegalArgumentException("El pago necesita al menos un destinatario");
+        }
+        if (destinos.size() > MAXIMO_DESTINOS) {
+            throw new IllegalArgumentException("El pago no puede tener más de " + MAXIMO_DESTINOS + " destinatarios");
+        }
+        for (DestinoPagoRequest destino : destinos) {
+            if (destino == null) {
+                throw new IllegalArgumentException("Los destinatarios no pueden ser nulos");
+            }
+        }
+    }
+
+    /**
+     * Estado de un pago entre sus pasos. Cada posición de destinatario la
+     * escribe un solo hilo, el que la acredita; los pasos se encadenan con
+     * esperas que publican lo escrito.
+     */
+    public static final class Reserva {
+
+        private final Cuenta origen;
+        private final String descripcion;
+        private final List<DestinoPagoRequest> destinos;
+        private final Dinero[] montos;     // null = rechazado al reservar
+        private final String[] motivos;    // motivo del rechazo
+        private final String[] transaccionIds;  // abono del destinatario; null = no pagado
+        private final Dinero reservado;
+        private final String cargoId;      // null si no se reservó nada
+
+        private Reserva(Cuenta origen, String descripcion, List<DestinoPagoRequest> destinos,
+                        Dinero[] montos, String[] motivos, Dinero reservado, String cargoId) {
+            this.origen = origen;
+            this.descripcion = descripcion;
+            this.destinos = destinos;
+            this.montos = montos;
+            this.motivos = motivos;
+            this.transaccionIds = new String[montos.length];
+            this.reservado = reservado;
+            this.cargoId = cargoId;
+        }
+
+        public int getCantidad() {
+            return montos.length;
+        }
+
+        /**
+         * Verifica si el destinatario de una posición queda por acreditar.
+         */
+        public boolean esAcreditable(int posicion) {
+            return montos[posicion] != null;
+        }
+
+        public String getCuentaDestinoId(int posicion) {
+            return destinos.get(posicion).getCuentaDestinoId();
+        }
+
+        public Dinero getReservado() {
+            return reservado;
+        }
+    }
+}
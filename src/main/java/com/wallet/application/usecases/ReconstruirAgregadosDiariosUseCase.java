@@ -0,0 +1,71 @@
+package com.wallet.application.usecases;
+
+import com.wallet.domain.repositories.IAgregadoDiarioRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.valueobjects.Tiempo;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Caso de uso que recalcula los agregados diarios desde el historial de
+ * transacciones, por ejemplo tras perderlos o al corregir un error.
+ * 
+ * Recorre todas las transacciones en paralelo sobre un ForkJoinPool, sin
+ * ordenarlas, y reemplaza los días anteriores a hoy. El día en curso se
+ * sigue manteniendo en línea y no se toca.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ReconstruirAgregadosDiariosUseCase {
+    
+    private final ITransaccionRepository transaccionRepository;
+    private final IAgregadoDiarioRepository agregadoDiarioRepository;
+    private final ForkJoinPool pool;
+    
+    public ReconstruirAgregadosDiariosUseCase(ITransaccionRepository transaccionRepository,
+                                              IAgregadoDiarioRepository agregadoDiarioRepository) {
+        this(transaccionRepository, agregadoDiarioRepository, ForkJoinPool.commonPool());
+    }
+    
+    public ReconstruirAgregadosDiariosUseCase(ITransaccionRepository transaccionRepository,
+                                              IAgregadoDiarioRepository agregadoDiarioRepository,
+                                              ForkJoinPool pool) {
+        if (transaccionRepository == null) {
+            throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
+        }
+        if (agregadoDiarioRepository == null) {
+            throw new IllegalArgumentException("El repositorio de agregados diarios no puede ser nulo");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool de ejecución no puede ser nulo");
+        }
+        this.transaccionRepository = transaccionRepository;
+        this.agregadoDiarioRepository = agregadoDiarioRepository;
+        this.pool = pool;
+    }
+    
+    /**
+     * Recalcula los días anteriores a hoy, según el reloj de las entidades.
+     * 
+     * @return cantidad de transacciones recalculadas
+     */
+    public long ejecutar() {
+        return ejecutar(Tiempo.aFecha(Tiempo.ahora()).toLocalDate());
+    }
+    
+    /**
+     * Recalcula los días anteriores a un día dado.
+     * 
+     * @param hasta primer día que no se recalcula
+     * @return cantidad de transacciones recalculadas
+     */
+    public long ejecutar(LocalDate hasta) {
+        if (hasta == null) {
+            throw new IllegalArgumentException("La fecha es requerida");
+        }
+        return pool.submit(() -> agregadoDiarioRepository.reconstruir(
+            transaccionRepository.recorrerTodas().parallel(), hasta)).join();
+    }
+}
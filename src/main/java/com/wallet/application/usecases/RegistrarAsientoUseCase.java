@@ -0,0 +1,171 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.requests.PartidaAsientoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
+import com.wallet.application.mappers.AsientoMapper;
+import com.wallet.domain.entities.Apunte;
+import com.wallet.domain.entities.Asiento;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.exceptions.SaldoInsuficienteException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Caso de uso para registrar un asiento entre varias cuentas: pagos
+ * divididos, cobros con comisión o pagos a muchos destinatarios, como una
+ * sola operación.
+ *
+ * El asiento se aplica completo o no se aplica. Primero se validan todas las
+ * partidas (cuentas existentes y activas, misma moneda, importes que suman
+ * cero y saldo suficiente en cada débito) y recién entonces se modifican los
+ * saldos. Validar y aplicar se hace con el monitor de cada cuenta tomado,
+ * siempre en orden de id, de modo que dos asientos con cuentas en común se
+ * serializan sin trabarse. Con un ejecutor secuencial el orden ya lo da el
+ * secuenciador y los monitores nunca se disputan.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class RegistrarAsientoUseCase {
+
+    public static final int MAXIMO_PARTIDAS = 1000;
+
+    private final ICuentaRepository cuentaRepository;
+    private final ITransaccionRepository transaccionRepository;
+
+    public RegistrarAsientoUseCase(ICuentaRepository cuentaRepository,
+                                   ITransaccionRepository transaccionRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (transaccionRepository == null) {
+            throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.transaccionRepository = transaccionRepository;
+    }
+
+    /**
+     * Registra el asiento.
+     *
+     * @param request descripción y partidas
+     * @return DTO del asiento con un tramo por partida, en el mismo orden
+     * @throws CuentaNoEncontradaException si alguna cuenta no existe
+     * @throws OperacionNoValidaException si el asiento no cuadra, repite una
+     *         cuenta, mezcla monedas con una cuenta o incluye una cuenta inactiva
+     * @throws SaldoInsuficienteException si alguna cuenta debitada no tiene saldo
+     */
+    public AsientoDTO ejecutar(RegistrarAsientoRequest request) {
+        validarRequest(request);
+
+        List<PartidaAsientoRequest> partidas = request.getPartidas();
+        Cuenta[] cuentas = new Cuenta[partidas.size()];
+        Set<String> vistas = new HashSet<>();
+        for (int i = 0; i < cuentas.length; i++) {
+            String cuentaId = partidas.get(i).getCuentaId();
+            if (!vistas.add(cuentaId)) {
+                throw OperacionNoValidaException.porque(
+                    "La cuenta " + cuentaId + " aparece más de una vez en el asiento");
+            }
+            cuentas[i] = cuentaRepository.buscarPorId(cuentaId)
+                .orElseThrow(() -> CuentaNoEncontradaException.porId(cuentaId));
+        }
+
+        Cuenta[] ordenadas = cuentas.clone();
+        Arrays.sort(ordenadas, Comparator.comparing(Cuenta::getId));
+        Asiento asiento = conCuentasBloqueadas(ordenadas, 0,
+            () -> aplicar(request.getDescripcion(), partidas, cuentas));
+        return AsientoMapper.toDTO(asiento);
+    }
+
+    private static <T> T conCuentasBloqueadas(Cuenta[] ordenadas, int siguiente, Supplier<T> operacion) {
+        if (siguiente == ordenadas.length) {
+            return operacion.get();
+        }
+        synchronized (ordenadas[siguiente]) {
+            return conCuentasBloqueadas(ordenadas, siguiente + 1, operacion);
+        }
+    }
+
+    private Asiento aplicar(String descripcion, List<PartidaAsientoRequest> partidas, Cuenta[] cuentas) {
+        // Validar todo antes de modificar cualquier saldo
+        List<Dinero> importes = new ArrayList<>(cuentas.length);
+        for (int i = 0; i < cuentas.length; i++) {
+            Cuenta cuenta = cuentas[i];
+            if (!cuenta.isActiva()) {
+                throw OperacionNoValidaException.porque("La cuenta " + cuenta.getId() + " no está activa");
+            }
+            Dinero importe = new Dinero(partidas.get(i).getImporte(), cuenta.getSaldo().getMoneda());
+            if (importe.esCero()) {
+                throw OperacionNoValidaException.porque("El importe de la cuenta " + cuenta.getId() + " es cero");
+            }
+            Dinero debito = new Dinero(importe.getCantidad().negate(), importe.getMoneda());
+            if (importe.esNegativo() && !cuenta.tieneSaldoSuficiente(debito)) {
+                throw new SaldoInsuficienteException(String.format(
+                    "Saldo insuficiente en la cuenta %s. Saldo disponible: %s, Monto solicitado: %s",
+                    cuenta.getId(), cuenta.getSaldoDisponible(), debito));
+            }
+            importes.add(importe);
+        }
+        if (Arrays.stream(cuentas).map(c -> c.getSaldo().getMoneda()).distinct().count() > 1) {
+            throw OperacionNoValidaException.porque("Todas las cuentas de un asiento deben tener la misma moneda");
+        }
+        try {
+            Asiento.verificarCuadre(importes);
+        } catch (IllegalArgumentException e) {
+            throw OperacionNoValidaException.porque(e.getMessage());
+        }
+
+        // Aplicar: ya no puede fallar ninguna partida
+        List<Apunte> apuntes = new ArrayList<>(cuentas.length);
+        for (int i = 0; i < cuentas.length; i++) {
+            Cuenta cuenta = cuentas[i];
+            Dinero importe = importes.get(i);
+            Dinero saldoAnterior = cuenta.getSaldo();
+            if (importe.esNegativo()) {
+                cuenta.retirar(new Dinero(importe.getCantidad().negate(), importe.getMoneda()));
+            } else {
+                cuenta.depositar(importe);
+            }
+            apuntes.add(new Apunte(cuenta.getId(), importe, saldoAnterior, cuenta.getSaldo()));
+        }
+        for (Cuenta cuenta : cuentas) {
+            cuentaRepository.guardar(cuenta);
+        }
+        return transaccionRepository.guardarAsiento(new Asiento(
+            descripcion != null ? descripcion : "Asiento", apuntes));
+    }
+
+    private void validarRequest(RegistrarAsientoRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("La solicitud no puede ser nula");
+        }
+        List<PartidaAsientoRequest> partidas = request.getPartidas();
+        if (partidas == null || partidas.size() < 2) {
+            throw new IllegalArgumentException("El asiento necesita al menos dos partidas");
+        }
+        if (partidas.size() > MAXIMO_PARTIDAS) {
+            throw new IllegalArgumentException("El asiento no puede tener más de " + MAXIMO_PARTIDAS + " partidas");
+        }
+        for (PartidaAsientoRequest partida : partidas) {
+            if (partida == null || partida.getCuentaId() == null || partida.getCuentaId().trim().isEmpty()) {
+                throw new IllegalArgumentException("El ID de la cuenta de cada partida es requerido");
+            }
+            if (partida.getImporte() == null) {
+                throw new IllegalArgumentException("El importe de cada partida es requerido");
+            }
+        }
+    }
+}
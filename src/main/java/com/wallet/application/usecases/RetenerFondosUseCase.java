@@ -0,0 +1,78 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.requests.RetenerFondosRequest;
+import com.wallet.application.mappers.RetencionMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Retencion;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Tiempo;
+
+import java.time.Duration;
+
+/**
+ * Caso de uso para retener fondos de una cuenta antes de capturarlos, como en
+ * una autorización con tarjeta.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class RetenerFondosUseCase {
+    
+    /**
+     * Vigencia de una retención cuando la solicitud no la indica.
+     */
+    public static final Duration VIGENCIA_POR_DEFECTO = Duration.ofDays(7);
+    
+    private final ICuentaRepository cuentaRepository;
+    
+    public RetenerFondosUseCase(ICuentaRepository cuentaRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+    }
+    
+    /**
+     * Ejecuta el caso de uso para retener fondos.
+     * 
+     * @param request datos de la retención
+     * @return DTO de la retención creada
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     * @throws IllegalStateException si no hay saldo disponible o la cuenta no está activa
+     */
+    public RetencionDTO ejecutar(RetenerFondosRequest request) {
+        validarRequest(request);
+        
+        Cuenta cuenta = cuentaRepository.buscarPorId(request.getCuentaId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaId()));
+        
+        Duration vigencia = request.getVigenciaSegundos() > 0
+            ? Duration.ofSeconds(request.getVigenciaSegundos()) : VIGENCIA_POR_DEFECTO;
+        Retencion retencion = cuenta.retener(
+            Dinero.de(request.getMonto()),
+            request.getDescripcion(),
+            Tiempo.ahora() + vigencia.toNanos()
+        );
+        cuentaRepository.guardar(cuenta);
+        
+        return RetencionMapper.toDTO(retencion);
+    }
+    
+    private void validarRequest(RetenerFondosRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("La solicitud no puede ser nula");
+        }
+        if (request.getCuentaId() == null || request.getCuentaId().trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        if (request.getMonto() == null) {
+            throw new IllegalArgumentException("El monto es requerido");
+        }
+        if (request.getVigenciaSegundos() < 0) {
+            throw new IllegalArgumentException("La vigencia no puede ser negativa");
+        }
+    }
+}
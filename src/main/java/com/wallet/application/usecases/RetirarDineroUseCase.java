@@ -6,9 +6,12 @@ import com.wallet.application.mappers.TransaccionMapper;
 import com.wallet.domain.entities.Cuenta;
 import com.wallet.domain.entities.Transaccion;
 import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.LimiteExcedidoException;
 import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ILimitesVelocidadRepository;
 import com.wallet.domain.repositories.ITransaccionRepository;
 import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Tiempo;
 
 /**
  * Caso de uso para retirar dinero de una cuenta.
@@ -20,17 +23,31 @@ public class RetirarDineroUseCase {
     
     private final ICuentaRepository cuentaRepository;
     private final ITransaccionRepository transaccionRepository;
+    private final ILimitesVelocidadRepository limitesRepository;
     
     public RetirarDineroUseCase(ICuentaRepository cuentaRepository,
                                 ITransaccionRepository transaccionRepository) {
+        this(cuentaRepository, transaccionRepository, ILimitesVelocidadRepository.SIN_LIMITES);
+    }
+    
+    /**
+     * @param limitesRepository contadores de los límites de velocidad por cuenta
+     */
+    public RetirarDineroUseCase(ICuentaRepository cuentaRepository,
+                                ITransaccionRepository transaccionRepository,
+                                ILimitesVelocidadRepository limitesRepository) {
         if (cuentaRepository == null) {
             throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
         }
         if (transaccionRepository == null) {
             throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
         }
+        if (limitesRepository == null) {
+            throw new IllegalArgumentException("El repositorio de límites no puede ser nulo");
+        }
         this.cuentaRepository = cuentaRepository;
         this.transaccionRepository = transaccionRepository;
+        this.limitesRepository = limitesRepository;
     }
     
     /**
@@ -39,6 +56,7 @@ public class RetirarDineroUseCase {
      * @param request datos del retiro
      * @return DTO de la transacción realizada
      * @throws CuentaNoEncontradaException si la cuenta no existe
+     * @throws LimiteExcedidoException si el retiro supera el límite de velocidad de la cuenta
      */
     public TransaccionDTO ejecutar(RetirarDineroRequest request) {
         validarRequest(request);
@@ -51,8 +69,19 @@ public class RetirarDineroUseCase {
         Dinero monto = Dinero.de(request.getMonto());
         Dinero saldoAnterior = cuenta.getSaldo();
         
+        // Registrar el retiro en los límites; si luego falla, se devuelve
+        long ahora = Tiempo.ahora();
+        if (!limitesRepository.consumir(cuenta.getId(), cuenta.getNivel(), monto, ahora)) {
+            throw LimiteExcedidoException.para(cuenta.getId(), limitesRepository.getLimite(cuenta.getNivel()));
+        }
+        
         // Realizar el retiro (lanza excepción si saldo insuficiente)
-        cuenta.retirar(monto);
+        try {
+            cuenta.retirar(monto);
+        } catch (RuntimeException e) {
+            limitesRepository.devolver(cuenta.getId(), cuenta.getNivel(), monto, ahora);
+            throw e;
+        }
         Dinero saldoNuevo = cuenta.getSaldo();
         
         // Guardar la cuenta actualizada
@@ -0,0 +1,52 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.UsuarioDTO;
+import com.wallet.application.mappers.UsuarioMapper;
+import com.wallet.domain.repositories.IIndiceUsuariosRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para autocompletar usuarios por el comienzo de su nombre,
+ * apellido o email.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class SugerirUsuariosUseCase {
+    
+    /**
+     * Máximo de sugerencias por consulta.
+     */
+    public static final int MAXIMO_SUGERENCIAS = 50;
+    
+    private final IIndiceUsuariosRepository indiceUsuariosRepository;
+    
+    public SugerirUsuariosUseCase(IIndiceUsuariosRepository indiceUsuariosRepository) {
+        if (indiceUsuariosRepository == null) {
+            throw new IllegalArgumentException("El índice de usuarios no puede ser nulo");
+        }
+        this.indiceUsuariosRepository = indiceUsuariosRepository;
+    }
+    
+    /**
+     * Sugiere usuarios para un texto parcial.
+     * 
+     * @param prefijo texto escrito hasta ahora
+     * @param cantidad máximo de sugerencias
+     * @return DTOs de los usuarios, en orden alfabético
+     */
+    public List<UsuarioDTO> ejecutar(String prefijo, int cantidad) {
+        if (prefijo == null || prefijo.trim().isEmpty()) {
+            throw new IllegalArgumentException("El texto a buscar es requerido");
+        }
+        if (cantidad <= 0 || cantidad > MAXIMO_SUGERENCIAS) {
+            throw new IllegalArgumentException("La cantidad debe estar entre 1 y " + MAXIMO_SUGERENCIAS);
+        }
+        
+        return indiceUsuariosRepository.buscarPorPrefijo(prefijo, cantidad).stream()
+            .map(UsuarioMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+}
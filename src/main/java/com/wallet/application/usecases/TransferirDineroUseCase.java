@@ -5,11 +5,15 @@ import com.wallet.application.dtos.requests.TransferirDineroRequest;
 import com.wallet.application.mappers.TransaccionMapper;
 import com.wallet.domain.entities.Cuenta;
 import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Transferencia;
 import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.LimiteExcedidoException;
 import com.wallet.domain.exceptions.OperacionNoValidaException;
 import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ILimitesVelocidadRepository;
 import com.wallet.domain.repositories.ITransaccionRepository;
 import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Tiempo;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,19 +26,40 @@ import java.util.List;
  */
 public class TransferirDineroUseCase {
     
+    /**
+     * Inicio de la descripción del depósito que compensa una transferencia
+     * revertida; le sigue el ID de la cuenta destino, ": " y el motivo.
+     */
+    public static final String PREFIJO_REVERSO = "Reverso de transferencia a ";
+    
     private final ICuentaRepository cuentaRepository;
     private final ITransaccionRepository transaccionRepository;
+    private final ILimitesVelocidadRepository limitesRepository;
     
     public TransferirDineroUseCase(ICuentaRepository cuentaRepository,
                                    ITransaccionRepository transaccionRepository) {
+        this(cuentaRepository, transaccionRepository, ILimitesVelocidadRepository.SIN_LIMITES);
+    }
+    
+    /**
+     * @param limitesRepository contadores de los límites de velocidad por cuenta;
+     *        solo cuentan para la cuenta origen
+     */
+    public TransferirDineroUseCase(ICuentaRepository cuentaRepository,
+                                   ITransaccionRepository transaccionRepository,
+                                   ILimitesVelocidadRepository limitesRepository) {
         if (cuentaRepository == null) {
             throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
         }
         if (transaccionRepository == null) {
             throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
         }
+        if (limitesRepository == null) {
+            throw new IllegalArgumentException("El repositorio de límites no puede ser nulo");
+        }
         this.cuentaRepository = cuentaRepository;
         this.transaccionRepository = transaccionRepository;
+        this.limitesRepository = limitesRepository;
     }
     
     /**
@@ -43,7 +68,9 @@ public class TransferirDineroUseCase {
      * @param request datos de la transferencia
      * @return lista con ambas transacciones (envío y recepción)
      * @throws CuentaNoEncontradaException si alguna cuenta no existe
-     * @throws OperacionNoValidaException si las cuentas son iguales o diferentes monedas
+     * @throws OperacionNoValidaException si las cuentas son iguales, de monedas diferentes
+     *         o el destino no está activo
+     * @throws LimiteExcedidoException si la transferencia supera el límite de velocidad del origen
      */
     public List<TransaccionDTO> ejecutar(TransferirDineroRequest request) {
         validarRequest(request);
@@ -74,9 +101,23 @@ public class TransferirDineroUseCase {
         Dinero saldoAnteriorOrigen = cuentaOrigen.getSaldo();
         Dinero saldoAnteriorDestino = cuentaDestino.getSaldo();
         
+        // Validar el destino antes de tocar el origen
+        validarDestinoActivo(cuentaDestino);
+        
         // Realizar la transferencia (retiro de origen, depósito en destino)
-        cuentaOrigen.retirar(monto);
-        cuentaDestino.depositar(monto);
+        long ahora = consumirLimite(cuentaOrigen, monto);
+        boolean retirado = false;
+        try {
+            cuentaOrigen.retirar(monto);
+            retirado = true;
+            cuentaDestino.depositar(monto);
+        } catch (RuntimeException e) {
+            if (retirado) {
+                cuentaOrigen.reintegrar(monto);
+            }
+            limitesRepository.devolver(cuentaOrigen.getId(), cuentaOrigen.getNivel(), monto, ahora);
+            throw e;
+        }
         
         // Guardar saldos nuevos
         Dinero saldoNuevoOrigen = cuentaOrigen.getSaldo();
@@ -86,40 +127,164 @@ public class TransferirDineroUseCase {
         cuentaRepository.guardar(cuentaOrigen);
         cuentaRepository.guardar(cuentaDestino);
         
-        // Crear las transacciones
+        // Registrar la transferencia: un solo registro con los dos tramos
         String descripcion = request.getDescripcion() != null ? 
             request.getDescripcion() : "Transferencia";
         
-        Transaccion transaccionEnviada = Transaccion.transferenciaEnviada(
+        Transferencia transferencia = transaccionRepository.guardarTransferencia(new Transferencia(
             monto,
             cuentaOrigen.getId(),
             cuentaDestino.getId(),
             descripcion,
             saldoAnteriorOrigen,
-            saldoNuevoOrigen
-        );
-        
-        Transaccion transaccionRecibida = Transaccion.transferenciaRecibida(
-            monto,
-            cuentaDestino.getId(),
-            cuentaOrigen.getId(),
-            descripcion,
+            saldoNuevoOrigen,
             saldoAnteriorDestino,
             saldoNuevoDestino
-        );
-        
-        // Guardar las transacciones
-        Transaccion enviada = transaccionRepository.guardar(transaccionEnviada);
-        Transaccion recibida = transaccionRepository.guardar(transaccionRecibida);
+        ));
         
         // Convertir a DTOs y retornar
         List<TransaccionDTO> resultado = new ArrayList<>();
-        resultado.add(TransaccionMapper.toDTO(enviada));
-        resultado.add(TransaccionMapper.toDTO(recibida));
+        resultado.add(TransaccionMapper.toDTO(transferencia.enviada()));
+        resultado.add(TransaccionMapper.toDTO(transferencia.recibida()));
         
         return resultado;
     }
     
+    /**
+     * Primer paso de una transferencia en dos fases, para cuando origen y destino
+     * los gestionan hilos distintos: valida ambas cuentas, retira el monto del
+     * origen y registra la transferencia enviada. La cuenta destino solo se lee.
+     * 
+     * @param request datos de la transferencia
+     * @return DTO de la transacción de envío
+     * @throws CuentaNoEncontradaException si alguna cuenta no existe
+     * @throws OperacionNoValidaException si las cuentas son iguales o diferentes monedas
+     * @throws LimiteExcedidoException si la transferencia supera el límite de velocidad del origen
+     */
+    public TransaccionDTO debitar(TransferirDineroRequest request) {
+        validarRequest(request);
+        if (request.getCuentaOrigenId().equals(request.getCuentaDestinoId())) {
+            throw OperacionNoValidaException.porque(
+                "No se puede transferir a la misma cuenta");
+        }
+        
+        Cuenta cuentaOrigen = cuentaRepository.buscarPorId(request.getCuentaOrigenId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaOrigenId()));
+        Cuenta cuentaDestino = cuentaRepository.buscarPorId(request.getCuentaDestinoId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaDestinoId()));
+        if (!cuentaOrigen.getSaldo().getMoneda().equals(cuentaDestino.getSaldo().getMoneda())) {
+            throw OperacionNoValidaException.porque(
+                "Las cuentas deben tener la misma moneda para realizar transferencias");
+        }
+        
+        Dinero monto = Dinero.de(request.getMonto());
+        Dinero saldoAnterior = cuentaOrigen.getSaldo();
+        long ahora = consumirLimite(cuentaOrigen, monto);
+        try {
+            cuentaOrigen.retirar(monto);
+        } catch (RuntimeException e) {
+            limitesRepository.devolver(cuentaOrigen.getId(), cuentaOrigen.getNivel(), monto, ahora);
+            throw e;
+        }
+        cuentaRepository.guardar(cuentaOrigen);
+        
+        Transaccion enviada = transaccionRepository.guardar(Transaccion.transferenciaEnviada(
+            monto,
+            cuentaOrigen.getId(),
+            cuentaDestino.getId(),
+            descripcion(request),
+            saldoAnterior,
+            cuentaOrigen.getSaldo()
+        ));
+        return TransaccionMapper.toDTO(enviada);
+    }
+    
+    /**
+     * Segundo paso de una transferencia en dos fases: deposita el monto en el
+     * destino y registra la transferencia recibida. Solo modifica la cuenta destino.
+     * 
+     * @param request datos de la transferencia ya debitada
+     * @return DTO de la transacción de recepción
+     */
+    public TransaccionDTO acreditar(TransferirDineroRequest request) {
+        validarRequest(request);
+        Cuenta cuentaDestino = cuentaRepository.buscarPorId(request.getCuentaDestinoId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaDestinoId()));
+        
+        Dinero monto = Dinero.de(request.getMonto());
+        Dinero saldoAnterior = cuentaDestino.getSaldo();
+        cuentaDestino.depositar(monto);
+        cuentaRepository.guardar(cuentaDestino);
+        
+        Transaccion recibida = transaccionRepository.guardar(Transaccion.transferenciaRecibida(
+            monto,
+            cuentaDestino.getId(),
+            request.getCuentaOrigenId(),
+            descripcion(request),
+            saldoAnterior,
+            cuentaDestino.getSaldo()
+        ));
+        return TransaccionMapper.toDTO(recibida);
+    }
+    
+    /**
+     * Compensa un débito cuyo crédito no pudo aplicarse: reintegra el monto a
+     * la cuenta origen y lo registra como depósito de reverso.
+     * 
+     * @param request datos de la transferencia debitada
+     * @param motivo causa por la que falló el crédito
+     * @return DTO del depósito de reverso
+     */
+    public TransaccionDTO revertirDebito(TransferirDineroRequest request, String motivo) {
+        Cuenta cuentaOrigen = cuentaRepository.buscarPorId(request.getCuentaOrigenId())
+            .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaOrigenId()));
+        
+        Dinero monto = Dinero.de(request.getMonto());
+        Dinero saldoAnterior = cuentaOrigen.getSaldo();
+        // El reverso se aplica aunque la cuenta se haya desactivado: el dinero no puede perderse
+        cuentaOrigen.reintegrar(monto);
+        cuentaRepository.guardar(cuentaOrigen);
+        
+        Transaccion reverso = transaccionRepository.guardar(Transaccion.deposito(
+            monto,
+            cuentaOrigen.getId(),
+            PREFIJO_REVERSO + request.getCuentaDestinoId() + ": " + motivo,
+            saldoAnterior,
+            cuentaOrigen.getSaldo()
+        ));
+        return TransaccionMapper.toDTO(reverso);
+    }
+    
+    /**
+     * Rechaza la transferencia si el destino no puede recibirla, para no
+     * debitar un origen que luego habría que compensar.
+     */
+    private void validarDestinoActivo(Cuenta cuentaDestino) {
+        if (!cuentaDestino.isActiva()) {
+            throw OperacionNoValidaException.porque(
+                "La cuenta destino " + cuentaDestino.getId() + " no está activa");
+        }
+    }
+    
+    /**
+     * Registra el débito en los límites de la cuenta origen.
+     * 
+     * @return el instante registrado, para devolverlo si el débito falla
+     * @throws LimiteExcedidoException si supera el límite
+     */
+    private long consumirLimite(Cuenta cuentaOrigen, Dinero monto) {
+        long ahora = Tiempo.ahora();
+        if (!limitesRepository.consumir(cuentaOrigen.getId(), cuentaOrigen.getNivel(), monto, ahora)) {
+            throw LimiteExcedidoException.para(
+                cuentaOrigen.getId(), limitesRepository.getLimite(cuentaOrigen.getNivel()));
+        }
+        return ahora;
+    }
+    
+    private static String descripcion(TransferirDineroRequest request) {
+        return request.getDescripcion() != null ? request.getDescripcion() : "Transferencia";
+    }
+    
     private void validarRequest(TransferirDineroRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("La solicitud no puede ser nula");
@@ -0,0 +1,99 @@
+package com.wallet.application.usecases;
+
+import com.wallet.domain.entities.ExtractoMensual;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.IExtractoMensualRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Caso de uso que verifica los extractos mensuales de una cuenta.
+ * 
+ * Recalcula cada mes desde el historial de transacciones y lo compara con el
+ * extracto mantenido en línea. Sirve para detectar transacciones que no
+ * llegaron a registrarse en el extracto.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class VerificarExtractosUseCase {
+    
+    private final ICuentaRepository cuentaRepository;
+    private final ITransaccionRepository transaccionRepository;
+    private final IExtractoMensualRepository extractoRepository;
+    
+    public VerificarExtractosUseCase(ICuentaRepository cuentaRepository,
+                                     ITransaccionRepository transaccionRepository,
+                                     IExtractoMensualRepository extractoRepository) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (transaccionRepository == null) {
+            throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
+        }
+        if (extractoRepository == null) {
+            throw new IllegalArgumentException("El repositorio de extractos no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.transaccionRepository = transaccionRepository;
+        this.extractoRepository = extractoRepository;
+    }
+    
+    /**
+     * Verifica todos los meses de una cuenta.
+     * 
+     * @param cuentaId ID de la cuenta
+     * @return meses cuyo extracto no coincide con el historial (vacía si todo cuadra)
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     */
+    public List<YearMonth> ejecutar(String cuentaId) {
+        if (cuentaId == null || cuentaId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+        
+        if (!cuentaRepository.buscarPorId(cuentaId).isPresent()) {
+            throw CuentaNoEncontradaException.porId(cuentaId);
+        }
+        
+        Map<YearMonth, ExtractoMensual> recalculados = recalcular(cuentaId);
+        Map<YearMonth, ExtractoMensual> mantenidos = new HashMap<>();
+        for (ExtractoMensual extracto : extractoRepository.buscarPorCuenta(cuentaId)) {
+            mantenidos.put(extracto.getPeriodo(), extracto);
+        }
+        
+        SortedSet<YearMonth> periodos = new TreeSet<>(recalculados.keySet());
+        periodos.addAll(mantenidos.keySet());
+        
+        List<YearMonth> diferencias = new ArrayList<>();
+        for (YearMonth periodo : periodos) {
+            if (!Objects.equals(recalculados.get(periodo), mantenidos.get(periodo))) {
+                diferencias.add(periodo);
+            }
+        }
+        return diferencias;
+    }
+    
+    /**
+     * Arma los extractos de la cuenta recorriendo su historial completo.
+     */
+    private Map<YearMonth, ExtractoMensual> recalcular(String cuentaId) {
+        Map<YearMonth, ExtractoMensual.Acumulador> acumuladores = new HashMap<>();
+        for (Transaccion transaccion : transaccionRepository.buscarPorCuentaId(cuentaId)) {
+            // El historial incluye las transferencias enviadas desde otras cuentas a esta
+            if (!cuentaId.equals(transaccion.getCuentaOrigenId())) {
+                continue;
+            }
+            YearMonth periodo = ExtractoMensual.periodoDe(transaccion);
+            acumuladores.computeIfAbsent(periodo, p -> new ExtractoMensual.Acumulador(cuentaId, p))
+                        .registrar(transaccion);
+        }
+        
+        Map<YearMonth, ExtractoMensual> extractos = new HashMap<>();
+        acumuladores.forEach((periodo, acumulador) -> extractos.put(periodo, acumulador.extracto()));
+        return extractos;
+    }
+}
@@ -0,0 +1,71 @@
+package com.wallet.domain.entities;
+
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Total y cantidad de las transacciones de un tipo y una moneda en un día,
+ * sumando todas las cuentas del sistema. Instantánea inmutable.
+ */
+public final class AgregadoDiario {
+
+    private final LocalDate dia;
+    private final TipoTransaccion tipo;
+    private final long cantidad;
+    private final Dinero total;
+
+    public AgregadoDiario(LocalDate dia, TipoTransaccion tipo, long cantidad, Dinero total) {
+        if (dia == null || tipo == null || total == null) {
+            throw new IllegalArgumentException("Día, tipo y total son requeridos");
+        }
+        this.dia = dia;
+        this.tipo = tipo;
+        this.cantidad = cantidad;
+        this.total = total;
+    }
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public TipoTransaccion getTipo() {
+        return tipo;
+    }
+
+    public String getMoneda() {
+        return total.getMoneda();
+    }
+
+    public long getCantidad() {
+        return cantidad;
+    }
+
+    public Dinero getTotal() {
+        return total;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AgregadoDiario that = (AgregadoDiario) o;
+        return cantidad == that.cantidad
+            && dia.equals(that.dia)
+            && tipo == that.tipo
+            && total.equals(that.total);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dia, tipo, total);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AgregadoDiario{dia=%s, tipo=%s, cantidad=%d, total=%s}",
+            dia, tipo.name(), cantidad, total);
+    }
+}
@@ -0,0 +1,106 @@
+package com.wallet.domain.entities;
+
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.util.Objects;
+
+/**
+ * Apunte de un asiento: el movimiento de una cuenta dentro de un
+ * {@link Asiento}. Inmutable.
+ *
+ * El importe lleva signo: positivo si acredita la cuenta, negativo si la
+ * debita. El saldo nuevo es siempre el anterior más el importe, de modo que
+ * el saldo de una cuenta se deriva sumando sus apuntes.
+ */
+public final class Apunte {
+
+    private final String cuentaId;
+    private final Dinero importe;
+    private final Dinero saldoAnterior;
+    private final Dinero saldoNuevo;
+    private final long secuencia; // Posición en el libro de la cuenta; 0 = sin guardar
+
+    /**
+     * @throws IllegalArgumentException si falta algún dato, el importe es
+     *         cero o el saldo nuevo no es el anterior más el importe
+     */
+    public Apunte(String cuentaId, Dinero importe, Dinero saldoAnterior, Dinero saldoNuevo) {
+        this(cuentaId, importe, saldoAnterior, saldoNuevo, 0);
+    }
+
+    private Apunte(String cuentaId, Dinero importe, Dinero saldoAnterior, Dinero saldoNuevo, long secuencia) {
+        if (cuentaId == null || cuentaId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de cuenta no puede estar vacío");
+        }
+        if (importe == null || importe.esCero()) {
+            throw new IllegalArgumentException("El importe de un apunte no puede ser cero");
+        }
+        if (saldoAnterior == null || saldoNuevo == null) {
+            throw new IllegalArgumentException("Los saldos del apunte son requeridos");
+        }
+        if (!saldoAnterior.sumar(importe).equals(saldoNuevo)) {
+            throw new IllegalArgumentException(String.format(
+                "El saldo nuevo %s no es %s más %s", saldoNuevo, saldoAnterior, importe));
+        }
+        this.cuentaId = cuentaId;
+        this.importe = importe;
+        this.saldoAnterior = saldoAnterior;
+        this.saldoNuevo = saldoNuevo;
+        this.secuencia = secuencia;
+    }
+
+    /**
+     * Copia con la secuencia asignada al guardar el asiento.
+     */
+    Apunte conSecuencia(long secuencia) {
+        return new Apunte(cuentaId, importe, saldoAnterior, saldoNuevo, secuencia);
+    }
+
+    /**
+     * Verifica si el apunte disminuye el saldo.
+     */
+    public boolean esCargo() {
+        return importe.esNegativo();
+    }
+
+    public String getCuentaId() {
+        return cuentaId;
+    }
+
+    public Dinero getImporte() {
+        return importe;
+    }
+
+    public Dinero getSaldoAnterior() {
+        return saldoAnterior;
+    }
+
+    public Dinero getSaldoNuevo() {
+        return saldoNuevo;
+    }
+
+    public long getSecuencia() {
+        return secuencia;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Apunte that = (Apunte) o;
+        return secuencia == that.secuencia
+            && cuentaId.equals(that.cuentaId)
+            && importe.equals(that.importe)
+            && saldoAnterior.equals(that.saldoAnterior);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cuentaId, importe, saldoAnterior, secuencia);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Apunte{cuenta=%s, importe=%s, saldo=%s}", cuentaId, importe, saldoNuevo);
+    }
+}
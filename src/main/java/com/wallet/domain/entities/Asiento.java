@@ -0,0 +1,214 @@
+package com.wallet.domain.entities;
+
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Asiento de partida doble entre varias cuentas. Inmutable.
+ *
+ * Agrupa los apuntes de una operación (un pago dividido, un cobro con
+ * comisión, un pago a muchos destinatarios) que se aplican todos o ninguno.
+ * Los importes de cada moneda suman cero: lo que sale de unas cuentas entra
+ * en otras. Cada cuenta aparece una sola vez.
+ *
+ * Como {@link Transferencia}, se guarda como un único registro y cada
+ * apunte se ve como una transacción de tipo {@link TipoTransaccion#CARGO} o
+ * {@link TipoTransaccion#ABONO}. El id de esa transacción es el del asiento
+ * seguido de "-" y la posición del apunte (desde 1).
+ */
+public final class Asiento {
+
+    private final String id;
+    private final String descripcion;
+    private final long fecha; // Nanosegundos desde la época (ver Tiempo)
+    private final List<Apunte> apuntes;
+
+    /**
+     * Crea un asiento nuevo, con id y fecha actuales.
+     *
+     * @throws IllegalArgumentException si hay menos de dos apuntes, una
+     *         cuenta repetida o los importes no suman cero
+     */
+    public Asiento(String descripcion, List<Apunte> apuntes) {
+        this(Identificador.nuevo(), descripcion != null ? descripcion.trim() : "", Tiempo.ahora(),
+             apuntes != null ? new ArrayList<>(apuntes) : null);
+    }
+
+    private Asiento(String id, String descripcion, long fecha, List<Apunte> apuntes) {
+        if (apuntes == null || apuntes.size() < 2) {
+            throw new IllegalArgumentException("Un asiento necesita al menos dos apuntes");
+        }
+        if (descripcion != null && descripcion.length() > 200) {
+            throw new IllegalArgumentException("La descripción no puede tener más de 200 caracteres");
+        }
+        Set<String> cuentas = new HashSet<>();
+        List<Dinero> importes = new ArrayList<>(apuntes.size());
+        for (Apunte apunte : apuntes) {
+            if (apunte == null) {
+                throw new IllegalArgumentException("Los apuntes no pueden ser nulos");
+            }
+            if (!cuentas.add(apunte.getCuentaId())) {
+                throw new IllegalArgumentException("La cuenta " + apunte.getCuentaId() + " aparece más de una vez");
+            }
+            importes.add(apunte.getImporte());
+        }
+        verificarCuadre(importes);
+        this.id = id;
+        this.descripcion = descripcion;
+        this.fecha = fecha;
+        this.apuntes = Collections.unmodifiableList(apuntes);
+    }
+
+    /**
+     * Verifica que los importes de cada moneda sumen cero.
+     *
+     * @throws IllegalArgumentException si alguna moneda no cuadra
+     */
+    public static void verificarCuadre(Collection<Dinero> importes) {
+        Map<String, BigDecimal> porMoneda = new HashMap<>();
+        for (Dinero importe : importes) {
+            porMoneda.merge(importe.getMoneda(), importe.getCantidad(), BigDecimal::add);
+        }
+        for (Map.Entry<String, BigDecimal> total : porMoneda.entrySet()) {
+            if (total.getValue().signum() != 0) {
+                throw new IllegalArgumentException(String.format(
+                    "El asiento no cuadra: los importes en %s suman %s", total.getKey(), total.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Copia con la secuencia de cada apunte en el libro de su cuenta, en el
+     * orden de los apuntes. Lo usa el repositorio.
+     */
+    public Asiento conSecuencias(long[] secuencias) {
+        if (secuencias == null || secuencias.length != apuntes.size()) {
+            throw new IllegalArgumentException("Se necesita una secuencia por apunte");
+        }
+        List<Apunte> secuenciados = new ArrayList<>(apuntes.size());
+        for (int i = 0; i < secuencias.length; i++) {
+            if (secuencias[i] <= 0) {
+                throw new IllegalArgumentException("Las secuencias deben ser positivas");
+            }
+            secuenciados.add(apuntes.get(i).conSecuencia(secuencias[i]));
+        }
+        return new Asiento(id, descripcion, fecha, secuenciados);
+    }
+
+    /**
+     * Apunte de una posición vista como transacción de su cuenta.
+     */
+    public Transaccion tramo(int posicion) {
+        Apunte apunte = apuntes.get(posicion);
+        Dinero importe = apunte.getImporte();
+        return new Transaccion(id + "-" + (posicion + 1),
+                               apunte.esCargo() ? TipoTransaccion.CARGO : TipoTransaccion.ABONO,
+                               new Dinero(importe.getCantidad().abs(), importe.getMoneda()),
+                               apunte.getCuentaId(), null, descripcion, fecha,
+                               apunte.getSaldoAnterior(), apunte.getSaldoNuevo(), apunte.getSecuencia());
+    }
+
+    /**
+     * Todos los apuntes vistos como transacciones, en orden.
+     */
+    public List<Transaccion> tramos() {
+        List<Transaccion> tramos = new ArrayList<>(apuntes.size());
+        for (int i = 0; i < apuntes.size(); i++) {
+            tramos.add(tramo(i));
+        }
+        return tramos;
+    }
+
+    /**
+     * Apunte de una cuenta visto como transacción.
+     *
+     * @throws IllegalArgumentException si la cuenta no participa
+     */
+    public Transaccion tramoDe(String cuentaId) {
+        int posicion = posicionDe(cuentaId);
+        if (posicion < 0) {
+            throw new IllegalArgumentException("La cuenta " + cuentaId + " no participa del asiento " + id);
+        }
+        return tramo(posicion);
+    }
+
+    public boolean involucra(String cuentaId) {
+        return posicionDe(cuentaId) >= 0;
+    }
+
+    private int posicionDe(String cuentaId) {
+        for (int i = 0; i < apuntes.size(); i++) {
+            if (apuntes.get(i).getCuentaId().equals(cuentaId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Id del asiento y posición (desde 0) a partir del id de uno de sus
+     * tramos, o null si el id no es de un tramo de asiento.
+     */
+    public static Map.Entry<String, Integer> idDeTramo(String idTramo) {
+        int separador = idTramo != null ? idTramo.lastIndexOf('-') : -1;
+        if (separador <= 0 || separador == idTramo.length() - 1) {
+            return null;
+        }
+        int posicion = 0;
+        for (int i = separador + 1; i < idTramo.length(); i++) {
+            char c = idTramo.charAt(i);
+            if (c < '0' || c > '9' || posicion > 100_000) {
+                return null;
+            }
+            posicion = posicion * 10 + (c - '0');
+        }
+        return posicion > 0 ? Map.entry(idTramo.substring(0, separador), posicion - 1) : null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public long getFechaNanos() {
+        return fecha;
+    }
+
+    public List<Apunte> getApuntes() {
+        return apuntes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Asiento that = (Asiento) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Asiento{id=%s, apuntes=%d, fecha=%s}", id, apuntes.size(), Tiempo.aFecha(fecha));
+    }
+}
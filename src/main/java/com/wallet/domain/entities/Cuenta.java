@@ -1,10 +1,19 @@
 package com.wallet.domain.entities;
 
 import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.NivelCuenta;
+import com.wallet.domain.valueobjects.Tiempo;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Entidad que representa una Cuenta bancaria.
@@ -13,16 +22,28 @@ import java.util.UUID;
  * - SRP: Responsable solo de la lógica de la cuenta
  * - Encapsulación: Operaciones bancarias encapsuladas
  * - Invariantes: Mantiene el saldo siempre válido
+ * 
+ * Las retenciones activas se guardan por ID junto con su total, de modo que el
+ * saldo disponible (saldo menos retenciones) se calcula en O(1) sin importar
+ * cuántas haya.
  */
 public class Cuenta {
     
+    private static final long MODULO_NUMERO_CUENTA = 10000000000L;
+    private static final AtomicLong ULTIMO_NUMERO = new AtomicLong();
+    
     private final String id;
     private final String numeroCuenta;
     private final String usuarioId;
     private Dinero saldo;
-    private final LocalDateTime fechaCreacion;
-    private LocalDateTime fechaActualizacion;
+    private Dinero retenido;
+    // Concurrente para que las consultas no choquen con el hilo que la modifica
+    private final Map<String, Retencion> retenciones = new ConcurrentHashMap<>();
+    // Nanosegundos desde la época (ver Tiempo)
+    private final long fechaCreacion;
+    private long fechaActualizacion;
     private boolean activa;
+    private NivelCuenta nivel;
     
     /**
      * Constructor para crear una nueva cuenta.
@@ -30,17 +51,20 @@ public class Cuenta {
      * @param usuarioId ID del usuario propietario
      */
     public Cuenta(String usuarioId) {
-        this.id = UUID.randomUUID().toString();
+        this.id = Identificador.nuevo();
         this.numeroCuenta = generarNumeroCuenta();
         this.usuarioId = validarUsuarioId(usuarioId);
         this.saldo = Dinero.CERO;
-        this.fechaCreacion = LocalDateTime.now();
-        this.fechaActualizacion = LocalDateTime.now();
+        this.retenido = Dinero.CERO;
+        this.fechaCreacion = Tiempo.ahora();
+        this.fechaActualizacion = this.fechaCreacion;
         this.activa = true;
+        this.nivel = NivelCuenta.ESTANDAR;
     }
     
     /**
      * Constructor para reconstruir una cuenta existente.
+     * Sin fechas se toma el instante actual.
      */
     public Cuenta(String id, String numeroCuenta, String usuarioId, Dinero saldo,
                   LocalDateTime fechaCreacion, LocalDateTime fechaActualizacion, boolean activa) {
@@ -48,9 +72,11 @@ public class Cuenta {
         this.numeroCuenta = numeroCuenta;
         this.usuarioId = usuarioId;
         this.saldo = saldo;
-        this.fechaCreacion = fechaCreacion;
-        this.fechaActualizacion = fechaActualizacion;
+        this.retenido = new Dinero(BigDecimal.ZERO, saldo.getMoneda());
+        this.fechaCreacion = fechaCreacion != null ? Tiempo.aNanos(fechaCreacion) : Tiempo.ahora();
+        this.fechaActualizacion = fechaActualizacion != null ? Tiempo.aNanos(fechaActualizacion) : this.fechaCreacion;
         this.activa = activa;
+        this.nivel = NivelCuenta.ESTANDAR;
     }
     
     /**
@@ -65,7 +91,7 @@ public class Cuenta {
         validarMontoPositivo(monto);
         
         this.saldo = this.saldo.sumar(monto);
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaActualizacion = Tiempo.ahora();
     }
     
     /**
@@ -73,7 +99,7 @@ public class Cuenta {
      * 
      * @param monto el monto a retirar
      * @throws IllegalArgumentException si el monto no es válido
-     * @throws IllegalStateException si no hay saldo suficiente o la cuenta no está activa
+     * @throws IllegalStateException si no hay saldo disponible suficiente o la cuenta no está activa
      */
     public void retirar(Dinero monto) {
         validarCuentaActiva();
@@ -81,17 +107,127 @@ public class Cuenta {
         validarSaldoSuficiente(monto);
         
         this.saldo = this.saldo.restar(monto);
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaActualizacion = Tiempo.ahora();
     }
     
     /**
-     * Verifica si hay saldo suficiente para una operación.
+     * Verifica si hay saldo disponible suficiente para una operación: los
+     * fondos retenidos no cuentan.
      * 
      * @param monto el monto a verificar
-     * @return true si hay saldo suficiente
+     * @return true si hay saldo disponible suficiente
      */
     public boolean tieneSaldoSuficiente(Dinero monto) {
-        return this.saldo.esMayorOIgualQue(monto);
+        return getSaldoDisponible().esMayorOIgualQue(monto);
+    }
+    
+    /**
+     * Devuelve a la cuenta un monto retirado previamente (reverso de una operación).
+     * A diferencia de {@link #depositar(Dinero)}, se aplica aunque la cuenta esté inactiva.
+     * 
+     * @param monto el monto a reintegrar
+     * @throws IllegalArgumentException si el monto no es válido
+     */
+    public void reintegrar(Dinero monto) {
+        validarMontoPositivo(monto);
+        
+        this.saldo = this.saldo.sumar(monto);
+        this.fechaActualizacion = Tiempo.ahora();
+    }
+    
+    /**
+     * Retiene fondos para una captura posterior: el monto deja de estar
+     * disponible, pero sigue en el saldo hasta capturarse.
+     * 
+     * @param monto el monto a retener
+     * @param descripcion descripción de la retención
+     * @param vencimiento instante (en nanosegundos) en que vence si no se captura
+     * @return la retención creada
+     * @throws IllegalArgumentException si el monto no es válido
+     * @throws IllegalStateException si no hay saldo disponible suficiente o la cuenta no está activa
+     */
+    public Retencion retener(Dinero monto, String descripcion, long vencimiento) {
+        validarCuentaActiva();
+        validarMontoPositivo(monto);
+        validarSaldoSuficiente(monto);
+        
+        Retencion retencion = new Retencion(this.id, monto, descripcion, vencimiento);
+        this.retenciones.put(retencion.getId(), retencion);
+        this.retenido = this.retenido.sumar(monto);
+        this.fechaActualizacion = Tiempo.ahora();
+        return retencion;
+    }
+    
+    /**
+     * Captura una retención activa: el monto capturado sale del saldo y el
+     * resto de lo retenido vuelve a estar disponible. Como la autorización ya
+     * se dio, se aplica aunque la cuenta esté inactiva.
+     * 
+     * @param retencionId el ID de la retención
+     * @param monto el monto a capturar, o null para capturar todo lo retenido
+     * @return la retención capturada
+     * @throws IllegalArgumentException si la retención no existe o el monto supera lo retenido
+     */
+    public Retencion capturarRetencion(String retencionId, Dinero monto) {
+        Retencion retencion = retencionActiva(retencionId);
+        Dinero capturado = monto != null ? monto : retencion.getMonto();
+        validarMontoPositivo(capturado);
+        if (capturado.esMayorQue(retencion.getMonto())) {
+            throw new IllegalArgumentException(
+                String.format("El monto capturado (%s) supera el retenido (%s)", capturado, retencion.getMonto()));
+        }
+        
+        retencion.capturar(capturado);
+        quitarRetencion(retencion);
+        this.saldo = this.saldo.restar(capturado);
+        return retencion;
+    }
+    
+    /**
+     * Libera una retención activa: todo lo retenido vuelve a estar disponible.
+     * 
+     * @param retencionId el ID de la retención
+     * @return la retención liberada
+     * @throws IllegalArgumentException si la retención no existe
+     */
+    public Retencion liberarRetencion(String retencionId) {
+        Retencion retencion = retencionActiva(retencionId);
+        retencion.liberar();
+        quitarRetencion(retencion);
+        return retencion;
+    }
+    
+    /**
+     * Da por vencida una retención activa: lo retenido vuelve a estar disponible.
+     * 
+     * @param retencionId el ID de la retención
+     * @param ahora instante actual en nanosegundos
+     * @return la retención vencida
+     * @throws IllegalArgumentException si la retención no existe
+     * @throws IllegalStateException si todavía no vence
+     */
+    public Retencion vencerRetencion(String retencionId, long ahora) {
+        Retencion retencion = retencionActiva(retencionId);
+        if (!retencion.vencidaEn(ahora)) {
+            throw new IllegalStateException("La retención todavía no vence");
+        }
+        retencion.vencer();
+        quitarRetencion(retencion);
+        return retencion;
+    }
+    
+    /**
+     * Busca una retención activa de la cuenta.
+     */
+    public Optional<Retencion> getRetencion(String retencionId) {
+        return Optional.ofNullable(retenciones.get(retencionId));
+    }
+    
+    /**
+     * Retenciones activas de la cuenta.
+     */
+    public List<Retencion> getRetenciones() {
+        return new ArrayList<>(retenciones.values());
     }
     
     /**
@@ -99,7 +235,7 @@ public class Cuenta {
      */
     public void desactivar() {
         this.activa = false;
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaActualizacion = Tiempo.ahora();
     }
     
     /**
@@ -107,12 +243,43 @@ public class Cuenta {
      */
     public void activar() {
         this.activa = true;
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaActualizacion = Tiempo.ahora();
+    }
+    
+    /**
+     * Cambia el nivel de la cuenta, que decide sus límites de velocidad.
+     * 
+     * @param nivel el nuevo nivel
+     * @throws IllegalArgumentException si el nivel es nulo
+     */
+    public void cambiarNivel(NivelCuenta nivel) {
+        if (nivel == null) {
+            throw new IllegalArgumentException("El nivel no puede ser nulo");
+        }
+        this.nivel = nivel;
+        this.fechaActualizacion = Tiempo.ahora();
+    }
+    
+    private Retencion retencionActiva(String retencionId) {
+        Retencion retencion = retencionId != null ? retenciones.get(retencionId) : null;
+        if (retencion == null) {
+            throw new IllegalArgumentException("La retención no existe o ya no está activa: " + retencionId);
+        }
+        return retencion;
+    }
+    
+    private void quitarRetencion(Retencion retencion) {
+        this.retenciones.remove(retencion.getId());
+        this.retenido = this.retenido.restar(retencion.getMonto());
+        this.fechaActualizacion = Tiempo.ahora();
     }
     
     private String generarNumeroCuenta() {
-        // Genera un número de cuenta de 10 dígitos
-        long numero = System.currentTimeMillis() % 10000000000L;
+        // Genera un número de cuenta de 10 dígitos, único aunque dos cuentas
+        // se creen en el mismo milisegundo
+        long base = System.currentTimeMillis() % MODULO_NUMERO_CUENTA;
+        long numero = ULTIMO_NUMERO.updateAndGet(ultimo -> Math.max(ultimo + 1, base))
+            % MODULO_NUMERO_CUENTA;
         return String.format("%010d", numero);
     }
     
@@ -141,8 +308,8 @@ public class Cuenta {
     private void validarSaldoSuficiente(Dinero monto) {
         if (!tieneSaldoSuficiente(monto)) {
             throw new IllegalStateException(
-                String.format("Saldo insuficiente. Saldo actual: %s, Monto solicitado: %s", 
-                    saldo, monto)
+                String.format("Saldo insuficiente. Saldo disponible: %s, Monto solicitado: %s", 
+                    getSaldoDisponible(), monto)
             );
         }
     }
@@ -164,18 +331,36 @@ public class Cuenta {
         return saldo;
     }
     
+    /**
+     * Total retenido por las retenciones activas.
+     */
+    public Dinero getSaldoRetenido() {
+        return retenido;
+    }
+    
+    /**
+     * Saldo que se puede usar: el saldo menos lo retenido.
+     */
+    public Dinero getSaldoDisponible() {
+        return saldo.restar(retenido);
+    }
+    
     public LocalDateTime getFechaCreacion() {
-        return fechaCreacion;
+        return Tiempo.aFecha(fechaCreacion);
     }
     
     public LocalDateTime getFechaActualizacion() {
-        return fechaActualizacion;
+        return Tiempo.aFecha(fechaActualizacion);
     }
     
     public boolean isActiva() {
         return activa;
     }
     
+    public NivelCuenta getNivel() {
+        return nivel;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,239 @@
+package com.wallet.domain.entities;
+
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Resumen de los movimientos de una cuenta en un mes.
+ *
+ * Guarda el saldo al inicio y al cierre del mes, el total y la cantidad de
+ * transacciones de cada tipo. Es una instantánea inmutable; los resúmenes se
+ * construyen transacción a transacción con {@link Acumulador}, tanto al
+ * mantenerlos en línea como al recalcularlos desde el historial.
+ *
+ * Solo cuentan las transacciones cuya cuenta origen es la cuenta del resumen:
+ * cada transferencia genera una transacción propia en cada cuenta.
+ */
+public final class ExtractoMensual {
+
+    private final String cuentaId;
+    private final YearMonth periodo;
+    private final Dinero saldoInicial;
+    private final Dinero saldoFinal;
+    private final Map<TipoTransaccion, Dinero> totales;
+    private final Map<TipoTransaccion, Integer> cantidades;
+
+    private ExtractoMensual(String cuentaId, YearMonth periodo, Dinero saldoInicial, Dinero saldoFinal,
+                            Map<TipoTransaccion, Dinero> totales, Map<TipoTransaccion, Integer> cantidades) {
+        this.cuentaId = cuentaId;
+        this.periodo = periodo;
+        this.saldoInicial = saldoInicial;
+        this.saldoFinal = saldoFinal;
+        this.totales = Collections.unmodifiableMap(totales);
+        this.cantidades = Collections.unmodifiableMap(cantidades);
+    }
+
+    /**
+     * Resumen de un mes sin movimientos: el saldo no cambia.
+     *
+     * @param saldo saldo de cierre del último mes con movimientos (o cero)
+     */
+    public static ExtractoMensual sinMovimientos(String cuentaId, YearMonth periodo, Dinero saldo) {
+        return new ExtractoMensual(cuentaId, periodo, saldo, saldo,
+                                   new EnumMap<>(TipoTransaccion.class),
+                                   new EnumMap<>(TipoTransaccion.class));
+    }
+
+    /**
+     * Periodo al que pertenece una transacción.
+     */
+    public static YearMonth periodoDe(Transaccion transaccion) {
+        return YearMonth.from(transaccion.getFecha());
+    }
+
+    /**
+     * Total de un tipo de transacción (cero si no hubo).
+     */
+    public Dinero getTotal(TipoTransaccion tipo) {
+        Dinero total = totales.get(tipo);
+        return total != null ? total : new Dinero(BigDecimal.ZERO, saldoFinal.getMoneda());
+    }
+
+    /**
+     * Cantidad de transacciones de un tipo.
+     */
+    public int getCantidad(TipoTransaccion tipo) {
+        return cantidades.getOrDefault(tipo, 0);
+    }
+
+    /**
+     * Suma de los tipos que aumentan el saldo.
+     */
+    public Dinero getTotalCreditos() {
+        Dinero total = new Dinero(BigDecimal.ZERO, saldoFinal.getMoneda());
+        for (TipoTransaccion tipo : TipoTransaccion.values()) {
+            if (tipo.esCredito()) {
+                total = total.sumar(getTotal(tipo));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Suma de los tipos que disminuyen el saldo.
+     */
+    public Dinero getTotalDebitos() {
+        Dinero total = new Dinero(BigDecimal.ZERO, saldoFinal.getMoneda());
+        for (TipoTransaccion tipo : TipoTransaccion.values()) {
+            if (tipo.esDebito()) {
+                total = total.sumar(getTotal(tipo));
+            }
+        }
+        return total;
+    }
+
+    public int getCantidadTransacciones() {
+        int cantidad = 0;
+        for (int porTipo : cantidades.values()) {
+            cantidad += porTipo;
+        }
+        return cantidad;
+    }
+
+    public String getCuentaId() {
+        return cuentaId;
+    }
+
+    public YearMonth getPeriodo() {
+        return periodo;
+    }
+
+    public Dinero getSaldoInicial() {
+        return saldoInicial;
+    }
+
+    public Dinero getSaldoFinal() {
+        return saldoFinal;
+    }
+
+    public Map<TipoTransaccion, Dinero> getTotales() {
+        return totales;
+    }
+
+    public Map<TipoTransaccion, Integer> getCantidades() {
+        return cantidades;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExtractoMensual that = (ExtractoMensual) o;
+        return cuentaId.equals(that.cuentaId)
+            && periodo.equals(that.periodo)
+            && saldoInicial.equals(that.saldoInicial)
+            && saldoFinal.equals(that.saldoFinal)
+            && totales.equals(that.totales)
+            && cantidades.equals(that.cantidades);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cuentaId, periodo, saldoFinal);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ExtractoMensual{cuenta=%s, periodo=%s, inicial=%s, final=%s, transacciones=%d}",
+            cuentaId, periodo, saldoInicial, saldoFinal, getCantidadTransacciones());
+    }
+
+    /**
+     * Acumula las transacciones de una cuenta en un mes.
+     *
+     * Las transacciones pueden llegar en cualquier orden: el saldo inicial es
+     * el anterior a la primera del libro de la cuenta y el final el posterior
+     * a la última. El orden es el número de secuencia, que no tiene huecos ni
+     * empates dentro de una cuenta, de modo que recalcular desde el historial
+     * da el mismo resultado que acumular en línea. Las transacciones sin
+     * guardar (secuencia 0) se ordenan por fecha. De la primera y la última
+     * solo se guardan la posición y el saldo, no la transacción, para que el
+     * resumen no retenga las que el repositorio ya archivó. No es
+     * thread-safe; el llamador debe sincronizar.
+     */
+    public static final class Acumulador {
+
+        private final String cuentaId;
+        private final YearMonth periodo;
+        private final Map<TipoTransaccion, Dinero> totales = new EnumMap<>(TipoTransaccion.class);
+        private final Map<TipoTransaccion, Integer> cantidades = new EnumMap<>(TipoTransaccion.class);
+        private boolean vacio = true;
+        private long secuenciaPrimera;
+        private long fechaPrimera;
+        private Dinero saldoInicial;
+        private long secuenciaUltima;
+        private long fechaUltima;
+        private Dinero saldoFinal;
+
+        public Acumulador(String cuentaId, YearMonth periodo) {
+            this.cuentaId = cuentaId;
+            this.periodo = periodo;
+        }
+
+        /**
+         * @throws IllegalArgumentException si la transacción es de otra cuenta u otro mes
+         */
+        public void registrar(Transaccion transaccion) {
+            if (!cuentaId.equals(transaccion.getCuentaOrigenId()) || !periodo.equals(periodoDe(transaccion))) {
+                throw new IllegalArgumentException("La transacción no pertenece al extracto "
+                    + cuentaId + " " + periodo);
+            }
+            long secuencia = transaccion.getSecuencia();
+            long fecha = transaccion.getFechaNanos();
+            if (vacio || vaAntes(secuencia, fecha, secuenciaPrimera, fechaPrimera)) {
+                secuenciaPrimera = secuencia;
+                fechaPrimera = fecha;
+                saldoInicial = transaccion.getSaldoAnterior();
+            }
+            if (vacio || vaAntes(secuenciaUltima, fechaUltima, secuencia, fecha)) {
+                secuenciaUltima = secuencia;
+                fechaUltima = fecha;
+                saldoFinal = transaccion.getSaldoNuevo();
+            }
+            vacio = false;
+            totales.merge(transaccion.getTipo(), transaccion.getMonto(), Dinero::sumar);
+            cantidades.merge(transaccion.getTipo(), 1, Integer::sum);
+        }
+
+        public boolean estaVacio() {
+            return vacio;
+        }
+
+        /**
+         * Instantánea del estado actual.
+         *
+         * @throws IllegalStateException si no se registró ninguna transacción
+         */
+        public ExtractoMensual extracto() {
+            if (estaVacio()) {
+                throw new IllegalStateException("El extracto no tiene transacciones");
+            }
+            return new ExtractoMensual(cuentaId, periodo, saldoInicial, saldoFinal,
+                                       new EnumMap<>(totales), new EnumMap<>(cantidades));
+        }
+        
+        private static boolean vaAntes(long secuenciaA, long fechaA, long secuenciaB, long fechaB) {
+            if (secuenciaA > 0 && secuenciaB > 0) {
+                return secuenciaA < secuenciaB;
+            }
+            return fechaA < fechaB;
+        }
+    }
+}
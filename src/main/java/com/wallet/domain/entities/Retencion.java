@@ -0,0 +1,143 @@
+package com.wallet.domain.entities;
+
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.Tiempo;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Entidad que representa una retención de fondos (autorización): un monto de
+ * la cuenta reservado para una captura posterior, que deja de estar
+ * disponible pero todavía no sale del saldo.
+ *
+ * Una retención activa termina de una de tres formas: se captura (el monto
+ * capturado sale del saldo y se registra como transacción), se libera o
+ * vence. Solo la {@link Cuenta} que la contiene cambia su estado.
+ */
+public class Retencion {
+
+    /**
+     * Estado de la retención.
+     */
+    public enum Estado {
+        ACTIVA,
+        CAPTURADA,
+        LIBERADA,
+        VENCIDA
+    }
+
+    private final String id;
+    private final String cuentaId;
+    private final Dinero monto;
+    private final String descripcion;
+    private final long fechaCreacion; // Nanosegundos desde la época (ver Tiempo)
+    private final long vencimiento;   // Nanosegundos desde la época
+    private Estado estado;
+    private Dinero montoCapturado;
+
+    Retencion(String cuentaId, Dinero monto, String descripcion, long vencimiento) {
+        this.id = Identificador.nuevo();
+        this.cuentaId = cuentaId;
+        this.monto = monto;
+        this.descripcion = descripcion != null ? descripcion.trim() : "Retención";
+        this.fechaCreacion = Tiempo.ahora();
+        this.vencimiento = vencimiento;
+        this.estado = Estado.ACTIVA;
+    }
+
+    void capturar(Dinero capturado) {
+        validarActiva();
+        this.estado = Estado.CAPTURADA;
+        this.montoCapturado = capturado;
+    }
+
+    void liberar() {
+        validarActiva();
+        this.estado = Estado.LIBERADA;
+    }
+
+    void vencer() {
+        validarActiva();
+        this.estado = Estado.VENCIDA;
+    }
+
+    /**
+     * Verifica si la retención venció en un instante dado.
+     *
+     * @param ahora instante en nanosegundos
+     */
+    public boolean vencidaEn(long ahora) {
+        return vencimiento <= ahora;
+    }
+
+    private void validarActiva() {
+        if (estado != Estado.ACTIVA) {
+            throw new IllegalStateException("La retención no está activa");
+        }
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getCuentaId() {
+        return cuentaId;
+    }
+
+    public Dinero getMonto() {
+        return monto;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return Tiempo.aFecha(fechaCreacion);
+    }
+
+    public LocalDateTime getVencimiento() {
+        return Tiempo.aFecha(vencimiento);
+    }
+
+    public long getVencimientoNanos() {
+        return vencimiento;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public boolean isActiva() {
+        return estado == Estado.ACTIVA;
+    }
+
+    /**
+     * Monto capturado, o null si la retención no se capturó.
+     */
+    public Dinero getMontoCapturado() {
+        return montoCapturado;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Retencion that = (Retencion) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Retencion{id=%s, cuenta=%s, monto=%s, vencimiento=%s, estado=%s}",
+            id, cuentaId, monto, getVencimiento(), estado);
+    }
+}
@@ -0,0 +1,70 @@
+package com.wallet.domain.entities;
+
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.util.Objects;
+
+/**
+ * Saldo de una cuenta en el momento en que se indexó. Instantánea inmutable.
+ * 
+ * El orden natural es por cantidad y, a igual cantidad, por id de cuenta,
+ * de modo que dos cuentas con el mismo saldo nunca se confunden.
+ */
+public final class SaldoCuenta implements Comparable<SaldoCuenta> {
+
+    private final String cuentaId;
+    private final String numeroCuenta;
+    private final Dinero saldo;
+
+    public SaldoCuenta(String cuentaId, String numeroCuenta, Dinero saldo) {
+        if (cuentaId == null || numeroCuenta == null || saldo == null) {
+            throw new IllegalArgumentException("Cuenta, número y saldo son requeridos");
+        }
+        this.cuentaId = cuentaId;
+        this.numeroCuenta = numeroCuenta;
+        this.saldo = saldo;
+    }
+
+    /**
+     * Instantánea del saldo actual de una cuenta.
+     */
+    public static SaldoCuenta de(Cuenta cuenta) {
+        return new SaldoCuenta(cuenta.getId(), cuenta.getNumeroCuenta(), cuenta.getSaldo());
+    }
+
+    public String getCuentaId() {
+        return cuentaId;
+    }
+
+    public String getNumeroCuenta() {
+        return numeroCuenta;
+    }
+
+    public Dinero getSaldo() {
+        return saldo;
+    }
+
+    @Override
+    public int compareTo(SaldoCuenta otro) {
+        int porCantidad = saldo.getCantidad().compareTo(otro.saldo.getCantidad());
+        return porCantidad != 0 ? porCantidad : cuentaId.compareTo(otro.cuentaId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SaldoCuenta that = (SaldoCuenta) o;
+        return cuentaId.equals(that.cuentaId) && saldo.equals(that.saldo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cuentaId, saldo);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SaldoCuenta{cuenta=%s, saldo=%s}", numeroCuenta, saldo);
+    }
+}
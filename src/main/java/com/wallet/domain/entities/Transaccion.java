@@ -1,11 +1,12 @@
 package com.wallet.domain.entities;
 
 import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
 import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.domain.valueobjects.Tiempo;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Entidad que representa una Transacción bancaria.
@@ -23,9 +24,10 @@ public class Transaccion {
     private final String cuentaOrigenId;
     private final String cuentaDestinoId; // Null para depósitos y retiros
     private final String descripcion;
-    private final LocalDateTime fecha;
+    private final long fecha; // Nanosegundos desde la época (ver Tiempo)
     private final Dinero saldoAnterior;
     private final Dinero saldoNuevo;
+    private final long secuencia; // Posición en el libro de la cuenta origen; 0 = sin guardar
     
     /**
      * Constructor para crear una transacción (depósito o retiro).
@@ -58,23 +60,50 @@ public class Transaccion {
                       Dinero saldoAnterior, Dinero saldoNuevo) {
         validar(tipo, monto, cuentaOrigenId, descripcion, saldoAnterior, saldoNuevo);
         
-        this.id = UUID.randomUUID().toString();
+        this.id = Identificador.nuevo();
         this.tipo = tipo;
         this.monto = monto;
         this.cuentaOrigenId = cuentaOrigenId;
         this.cuentaDestinoId = cuentaDestinoId;
         this.descripcion = descripcion != null ? descripcion.trim() : "";
-        this.fecha = LocalDateTime.now();
+        this.fecha = Tiempo.ahora();
         this.saldoAnterior = saldoAnterior;
         this.saldoNuevo = saldoNuevo;
+        this.secuencia = 0;
     }
     
     /**
      * Constructor para reconstruir una transacción existente.
+     * Sin fecha se toma el instante actual.
      */
     public Transaccion(String id, TipoTransaccion tipo, Dinero monto, String cuentaOrigenId,
                       String cuentaDestinoId, String descripcion, LocalDateTime fecha,
                       Dinero saldoAnterior, Dinero saldoNuevo) {
+        this(id, tipo, monto, cuentaOrigenId, cuentaDestinoId, descripcion, fecha,
+             saldoAnterior, saldoNuevo, 0);
+    }
+    
+    /**
+     * Constructor para reconstruir una transacción ya guardada, con su
+     * número de secuencia (por ejemplo, al replicar el libro de una cuenta).
+     */
+    public Transaccion(String id, TipoTransaccion tipo, Dinero monto, String cuentaOrigenId,
+                      String cuentaDestinoId, String descripcion, LocalDateTime fecha,
+                      Dinero saldoAnterior, Dinero saldoNuevo, long secuencia) {
+        this(id, tipo, monto, cuentaOrigenId, cuentaDestinoId, descripcion,
+             fecha != null ? Tiempo.aNanos(fecha) : Tiempo.ahora(), saldoAnterior, saldoNuevo, secuencia);
+    }
+    
+    /**
+     * Reconstrucción con la fecha en nanosegundos, sin convertir (la usan
+     * esta clase y {@link Transferencia} para armar sus tramos).
+     */
+    Transaccion(String id, TipoTransaccion tipo, Dinero monto, String cuentaOrigenId,
+                String cuentaDestinoId, String descripcion, long fecha,
+                Dinero saldoAnterior, Dinero saldoNuevo, long secuencia) {
+        if (secuencia < 0) {
+            throw new IllegalArgumentException("La secuencia no puede ser negativa");
+        }
         this.id = id;
         this.tipo = tipo;
         this.monto = monto;
@@ -84,6 +113,30 @@ public class Transaccion {
         this.fecha = fecha;
         this.saldoAnterior = saldoAnterior;
         this.saldoNuevo = saldoNuevo;
+        this.secuencia = secuencia;
+    }
+    
+    /**
+     * Reconstruye una transacción guardada con la fecha en nanosegundos, sin
+     * pasar por LocalDateTime (la usan los almacenes que la guardan así).
+     */
+    public static Transaccion reconstruir(String id, TipoTransaccion tipo, Dinero monto, String cuentaOrigenId,
+                                          String cuentaDestinoId, String descripcion, long fechaNanos,
+                                          Dinero saldoAnterior, Dinero saldoNuevo, long secuencia) {
+        return new Transaccion(id, tipo, monto, cuentaOrigenId, cuentaDestinoId, descripcion, fechaNanos,
+                               saldoAnterior, saldoNuevo, secuencia);
+    }
+
+    /**
+     * Copia de esta transacción con el número de secuencia asignado al
+     * guardarla. Lo usa el repositorio; el resto de los datos no cambia.
+     */
+    public Transaccion conSecuencia(long secuencia) {
+        if (secuencia <= 0) {
+            throw new IllegalArgumentException("La secuencia debe ser positiva");
+        }
+        return new Transaccion(id, tipo, monto, cuentaOrigenId, cuentaDestinoId, descripcion,
+                               fecha, saldoAnterior, saldoNuevo, secuencia);
     }
     
     /**
@@ -126,6 +179,26 @@ public class Transaccion {
                               saldoAnterior, saldoNuevo);
     }
     
+    /**
+     * Crea un cargo suelto de una operación entre varias cuentas.
+     */
+    public static Transaccion cargo(Dinero monto, String cuentaId, String descripcion,
+                                    Dinero saldoAnterior, Dinero saldoNuevo) {
+        return new Transaccion(TipoTransaccion.CARGO, monto, cuentaId,
+                              descripcion, saldoAnterior, saldoNuevo);
+    }
+    
+    /**
+     * Crea un abono suelto de una operación entre varias cuentas.
+     *
+     * @param contraparteId cuenta de la que sale el dinero (null si no aplica)
+     */
+    public static Transaccion abono(Dinero monto, String cuentaId, String contraparteId,
+                                    String descripcion, Dinero saldoAnterior, Dinero saldoNuevo) {
+        return new Transaccion(TipoTransaccion.ABONO, monto, cuentaId, contraparteId,
+                              descripcion, saldoAnterior, saldoNuevo);
+    }
+    
     private void validar(TipoTransaccion tipo, Dinero monto, String cuentaId,
                         String descripcion, Dinero saldoAnterior, Dinero saldoNuevo) {
         if (tipo == null) {
@@ -182,6 +255,15 @@ public class Transaccion {
     }
     
     public LocalDateTime getFecha() {
+        return Tiempo.aFecha(fecha);
+    }
+    
+    /**
+     * Fecha en nanosegundos desde la época; es la que conviene para ordenar
+     * y comparar, sin convertir. Dos transacciones creadas con el reloj por
+     * defecto nunca tienen la misma.
+     */
+    public long getFechaNanos() {
         return fecha;
     }
     
@@ -193,6 +275,15 @@ public class Transaccion {
         return saldoNuevo;
     }
     
+    /**
+     * Número de secuencia en el libro de la cuenta origen: 1 para la primera
+     * transacción guardada y luego consecutivos, sin huecos. Es 0 mientras
+     * la transacción no se guardó.
+     */
+    public long getSecuencia() {
+        return secuencia;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -209,6 +300,6 @@ public class Transaccion {
     @Override
     public String toString() {
         return String.format("Transaccion{tipo=%s, monto=%s, fecha=%s}", 
-            tipo, monto, fecha);
+            tipo, monto, getFecha());
     }
 }
@@ -0,0 +1,221 @@
+package com.wallet.domain.entities;
+
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.util.Objects;
+
+/**
+ * Registro único de una transferencia entre dos cuentas (partida doble).
+ *
+ * Reúne en un solo objeto lo que antes eran dos transacciones: un id, un
+ * monto, una descripción y una fecha, más los saldos anterior y nuevo de
+ * cada cuenta y la secuencia de la transferencia en el libro de cada una.
+ * Los tramos de envío y de recepción no se guardan: {@link #enviada()} y
+ * {@link #recibida()} los arman al leerlos, con los mismos datos que
+ * tendrían como transacciones sueltas.
+ *
+ * El id de cada tramo es el de la transferencia seguido de
+ * {@link #SUFIJO_ENVIADA} o {@link #SUFIJO_RECIBIDA}, de modo que desde el id
+ * de un tramo se llega a su transferencia.
+ */
+public final class Transferencia {
+
+    public static final String SUFIJO_ENVIADA = "-E";
+    public static final String SUFIJO_RECIBIDA = "-R";
+
+    private final String id;
+    private final Dinero monto;
+    private final String cuentaOrigenId;
+    private final String cuentaDestinoId;
+    private final String descripcion;
+    private final long fecha; // Nanosegundos desde la época (ver Tiempo)
+    private final Dinero saldoAnteriorOrigen;
+    private final Dinero saldoNuevoOrigen;
+    private final Dinero saldoAnteriorDestino;
+    private final Dinero saldoNuevoDestino;
+    private final long secuenciaOrigen;  // 0 = sin guardar
+    private final long secuenciaDestino; // 0 = sin guardar
+
+    /**
+     * Crea una transferencia nueva, con id y fecha actuales.
+     *
+     * @throws IllegalArgumentException si falta algún dato, el monto no es
+     *         positivo o las cuentas son la misma
+     */
+    public Transferencia(Dinero monto, String cuentaOrigenId, String cuentaDestinoId, String descripcion,
+                         Dinero saldoAnteriorOrigen, Dinero saldoNuevoOrigen,
+                         Dinero saldoAnteriorDestino, Dinero saldoNuevoDestino) {
+        this(Identificador.nuevo(), monto, cuentaOrigenId, cuentaDestinoId,
+             descripcion != null ? descripcion.trim() : "", Tiempo.ahora(),
+             saldoAnteriorOrigen, saldoNuevoOrigen, saldoAnteriorDestino, saldoNuevoDestino, 0, 0);
+    }
+
+    private Transferencia(String id, Dinero monto, String cuentaOrigenId, String cuentaDestinoId,
+                          String descripcion, long fecha,
+                          Dinero saldoAnteriorOrigen, Dinero saldoNuevoOrigen,
+                          Dinero saldoAnteriorDestino, Dinero saldoNuevoDestino,
+                          long secuenciaOrigen, long secuenciaDestino) {
+        if (monto == null || !monto.esPositivo()) {
+            throw new IllegalArgumentException("El monto debe ser positivo");
+        }
+        if (cuentaOrigenId == null || cuentaOrigenId.trim().isEmpty()
+            || cuentaDestinoId == null || cuentaDestinoId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Las cuentas origen y destino son requeridas");
+        }
+        if (cuentaOrigenId.equals(cuentaDestinoId)) {
+            throw new IllegalArgumentException("No se puede transferir a la misma cuenta");
+        }
+        if (saldoAnteriorOrigen == null || saldoNuevoOrigen == null
+            || saldoAnteriorDestino == null || saldoNuevoDestino == null) {
+            throw new IllegalArgumentException("Los saldos de ambas cuentas son requeridos");
+        }
+        if (descripcion != null && descripcion.length() > 200) {
+            throw new IllegalArgumentException("La descripción no puede tener más de 200 caracteres");
+        }
+        this.id = id;
+        this.monto = monto;
+        this.cuentaOrigenId = cuentaOrigenId;
+        this.cuentaDestinoId = cuentaDestinoId;
+        this.descripcion = descripcion;
+        this.fecha = fecha;
+        this.saldoAnteriorOrigen = saldoAnteriorOrigen;
+        this.saldoNuevoOrigen = saldoNuevoOrigen;
+        this.saldoAnteriorDestino = saldoAnteriorDestino;
+        this.saldoNuevoDestino = saldoNuevoDestino;
+        this.secuenciaOrigen = secuenciaOrigen;
+        this.secuenciaDestino = secuenciaDestino;
+    }
+
+    /**
+     * Copia con las secuencias asignadas al guardarla. Lo usa el repositorio.
+     */
+    public Transferencia conSecuencias(long secuenciaOrigen, long secuenciaDestino) {
+        if (secuenciaOrigen <= 0 || secuenciaDestino <= 0) {
+            throw new IllegalArgumentException("Las secuencias deben ser positivas");
+        }
+        return new Transferencia(id, monto, cuentaOrigenId, cuentaDestinoId, descripcion, fecha,
+                                 saldoAnteriorOrigen, saldoNuevoOrigen, saldoAnteriorDestino, saldoNuevoDestino,
+                                 secuenciaOrigen, secuenciaDestino);
+    }
+
+    /**
+     * Tramo de envío, visto desde la cuenta origen.
+     */
+    public Transaccion enviada() {
+        return new Transaccion(id + SUFIJO_ENVIADA, TipoTransaccion.TRANSFERENCIA_ENVIADA, monto,
+                               cuentaOrigenId, cuentaDestinoId, descripcion, fecha,
+                               saldoAnteriorOrigen, saldoNuevoOrigen, secuenciaOrigen);
+    }
+
+    /**
+     * Tramo de recepción, visto desde la cuenta destino.
+     */
+    public Transaccion recibida() {
+        return new Transaccion(id + SUFIJO_RECIBIDA, TipoTransaccion.TRANSFERENCIA_RECIBIDA, monto,
+                               cuentaDestinoId, cuentaOrigenId, descripcion, fecha,
+                               saldoAnteriorDestino, saldoNuevoDestino, secuenciaDestino);
+    }
+
+    /**
+     * Tramo propio de una de las dos cuentas.
+     *
+     * @throws IllegalArgumentException si la cuenta no participa
+     */
+    public Transaccion tramoDe(String cuentaId) {
+        if (cuentaOrigenId.equals(cuentaId)) {
+            return enviada();
+        }
+        if (cuentaDestinoId.equals(cuentaId)) {
+            return recibida();
+        }
+        throw new IllegalArgumentException("La cuenta " + cuentaId + " no participa de la transferencia " + id);
+    }
+
+    /**
+     * Verifica si la cuenta es el origen o el destino.
+     */
+    public boolean involucra(String cuentaId) {
+        return cuentaOrigenId.equals(cuentaId) || cuentaDestinoId.equals(cuentaId);
+    }
+
+    /**
+     * Id de la transferencia a la que pertenece un tramo, o null si el id no
+     * es de un tramo.
+     */
+    public static String idDeTramo(String idTramo) {
+        if (idTramo != null && (idTramo.endsWith(SUFIJO_ENVIADA) || idTramo.endsWith(SUFIJO_RECIBIDA))) {
+            return idTramo.substring(0, idTramo.length() - SUFIJO_ENVIADA.length());
+        }
+        return null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Dinero getMonto() {
+        return monto;
+    }
+
+    public String getCuentaOrigenId() {
+        return cuentaOrigenId;
+    }
+
+    public String getCuentaDestinoId() {
+        return cuentaDestinoId;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public long getFechaNanos() {
+        return fecha;
+    }
+
+    public Dinero getSaldoAnteriorOrigen() {
+        return saldoAnteriorOrigen;
+    }
+
+    public Dinero getSaldoNuevoOrigen() {
+        return saldoNuevoOrigen;
+    }
+
+    public Dinero getSaldoAnteriorDestino() {
+        return saldoAnteriorDestino;
+    }
+
+    public Dinero getSaldoNuevoDestino() {
+        return saldoNuevoDestino;
+    }
+
+    public long getSecuenciaOrigen() {
+        return secuenciaOrigen;
+    }
+
+    public long getSecuenciaDestino() {
+        return secuenciaDestino;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Transferencia that = (Transferencia) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Transferencia{%s -> %s, monto=%s, fecha=%s}",
+            cuentaOrigenId, cuentaDestinoId, monto, Tiempo.aFecha(fecha));
+    }
+}
@@ -0,0 +1,240 @@
+package com.wallet.domain.entities;
+
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.Periodicidad;
+import com.wallet.domain.valueobjects.Tiempo;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Entidad que representa una transferencia programada: una orden permanente
+ * ("enviar 50.000 CLP el día 1 de cada mes") o una transferencia a fecha futura.
+ *
+ * Las ocurrencias se numeran desde 0 y su fecha se calcula con la
+ * {@link Periodicidad} desde la primera. Cada ejecución avanza a la siguiente
+ * ocurrencia futura: si el programador estuvo detenido y quedaron varias
+ * ocurrencias vencidas, se ejecuta una sola y las demás se cuentan como
+ * omitidas, para no enviar de golpe varios pagos atrasados.
+ *
+ * La usan a la vez el programador y quien la cancela, por lo que sus cambios
+ * de estado están sincronizados.
+ */
+public class TransferenciaProgramada {
+
+    /**
+     * Estado de la programación.
+     */
+    public enum Estado {
+        ACTIVA,
+        CANCELADA,
+        TERMINADA
+    }
+
+    private final String id;
+    private final String cuentaOrigenId;
+    private final String cuentaDestinoId;
+    private final Dinero monto;
+    private final String descripcion;
+    private final Periodicidad periodicidad;
+    private final LocalDateTime inicio;
+    private final int repeticiones; // 0 = sin límite
+    private final long fechaCreacion; // Nanosegundos desde la época (ver Tiempo)
+
+    private Estado estado;
+    private int siguienteOcurrencia;
+    private long proximaEjecucion; // Nanosegundos desde la época
+    private int ejecuciones;
+    private int omitidas;
+    private int fallidas;
+    private String ultimoError;
+
+    /**
+     * Constructor para crear una nueva programación.
+     *
+     * @param inicio fecha de la primera ocurrencia
+     * @param repeticiones cantidad de ocurrencias, o 0 para repetir sin límite;
+     *                     una programación única tiene siempre una
+     * @throws IllegalArgumentException si algún dato es inválido
+     */
+    public TransferenciaProgramada(String cuentaOrigenId, String cuentaDestinoId, Dinero monto,
+                                   String descripcion, Periodicidad periodicidad,
+                                   LocalDateTime inicio, int repeticiones) {
+        if (cuentaOrigenId == null || cuentaOrigenId.trim().isEmpty()
+            || cuentaDestinoId == null || cuentaDestinoId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Las cuentas origen y destino son requeridas");
+        }
+        if (cuentaOrigenId.equals(cuentaDestinoId)) {
+            throw new IllegalArgumentException("No se puede transferir a la misma cuenta");
+        }
+        if (monto == null || !monto.esPositivo()) {
+            throw new IllegalArgumentException("El monto debe ser positivo");
+        }
+        if (periodicidad == null) {
+            throw new IllegalArgumentException("La periodicidad es requerida");
+        }
+        if (inicio == null) {
+            throw new IllegalArgumentException("La fecha de la primera ejecución es requerida");
+        }
+        if (repeticiones < 0) {
+            throw new IllegalArgumentException("Las repeticiones no pueden ser negativas");
+        }
+        this.id = Identificador.nuevo();
+        this.cuentaOrigenId = cuentaOrigenId;
+        this.cuentaDestinoId = cuentaDestinoId;
+        this.monto = monto;
+        this.descripcion = descripcion != null ? descripcion.trim() : "Transferencia programada";
+        this.periodicidad = periodicidad;
+        this.inicio = inicio;
+        this.repeticiones = periodicidad == Periodicidad.UNICA ? 1 : repeticiones;
+        this.fechaCreacion = Tiempo.ahora();
+        this.estado = Estado.ACTIVA;
+        this.proximaEjecucion = Tiempo.aNanos(inicio);
+    }
+
+    /**
+     * Registra que se ejecuta la ocurrencia vencida y avanza a la siguiente
+     * ocurrencia posterior a {@code ahora}. Si no quedan ocurrencias, la
+     * programación termina.
+     *
+     * @param ahora instante actual en nanosegundos
+     * @return número (desde 0) de la ocurrencia que se debe ejecutar
+     * @throws IllegalStateException si no está activa o todavía no venció
+     */
+    public synchronized int registrarEjecucion(long ahora) {
+        if (estado != Estado.ACTIVA) {
+            throw new IllegalStateException("La transferencia programada no está activa");
+        }
+        if (proximaEjecucion > ahora) {
+            throw new IllegalStateException("La transferencia programada todavía no venció");
+        }
+        int ocurrencia = siguienteOcurrencia;
+        ejecuciones++;
+        siguienteOcurrencia++;
+        while (quedanOcurrencias()) {
+            proximaEjecucion = Tiempo.aNanos(periodicidad.ocurrencia(inicio, siguienteOcurrencia));
+            if (proximaEjecucion > ahora) {
+                return ocurrencia;
+            }
+            omitidas++;
+            siguienteOcurrencia++;
+        }
+        estado = Estado.TERMINADA;
+        return ocurrencia;
+    }
+
+    /**
+     * Registra que la ejecución de una ocurrencia falló (por ejemplo, por
+     * saldo insuficiente). La programación sigue activa.
+     */
+    public synchronized void registrarFallo(String motivo) {
+        fallidas++;
+        ultimoError = motivo;
+    }
+
+    /**
+     * Cancela la programación. Una ejecución ya iniciada no se detiene.
+     *
+     * @return true si estaba activa
+     */
+    public synchronized boolean cancelar() {
+        if (estado != Estado.ACTIVA) {
+            return false;
+        }
+        estado = Estado.CANCELADA;
+        return true;
+    }
+
+    private boolean quedanOcurrencias() {
+        return repeticiones == 0 || siguienteOcurrencia < repeticiones;
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getCuentaOrigenId() {
+        return cuentaOrigenId;
+    }
+
+    public String getCuentaDestinoId() {
+        return cuentaDestinoId;
+    }
+
+    public Dinero getMonto() {
+        return monto;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public Periodicidad getPeriodicidad() {
+        return periodicidad;
+    }
+
+    public LocalDateTime getInicio() {
+        return inicio;
+    }
+
+    public int getRepeticiones() {
+        return repeticiones;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return Tiempo.aFecha(fechaCreacion);
+    }
+
+    public synchronized Estado getEstado() {
+        return estado;
+    }
+
+    public synchronized boolean isActiva() {
+        return estado == Estado.ACTIVA;
+    }
+
+    public synchronized long getProximaEjecucionNanos() {
+        return proximaEjecucion;
+    }
+
+    public synchronized LocalDateTime getProximaEjecucion() {
+        return Tiempo.aFecha(proximaEjecucion);
+    }
+
+    public synchronized int getEjecuciones() {
+        return ejecuciones;
+    }
+
+    public synchronized int getOmitidas() {
+        return omitidas;
+    }
+
+    public synchronized int getFallidas() {
+        return fallidas;
+    }
+
+    public synchronized String getUltimoError() {
+        return ultimoError;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TransferenciaProgramada that = (TransferenciaProgramada) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TransferenciaProgramada{id=%s, %s -> %s, monto=%s, periodicidad=%s, proxima=%s, estado=%s}",
+            id, cuentaOrigenId, cuentaDestinoId, monto, periodicidad, getProximaEjecucion(), getEstado());
+    }
+}
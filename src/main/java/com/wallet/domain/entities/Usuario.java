@@ -2,10 +2,11 @@ package com.wallet.domain.entities;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 import com.wallet.domain.valueobjects.DocumentoIdentidad;
 import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.Tiempo;
 
 /**
  * Entidad que representa un Usuario del sistema.
@@ -22,8 +23,9 @@ public class Usuario {
     private String apellido;
     private Email email;
     private DocumentoIdentidad documentoIdentidad;
-    private final LocalDateTime fechaCreacion;
-    private LocalDateTime fechaActualizacion;
+    // Nanosegundos desde la época (ver Tiempo)
+    private final long fechaCreacion;
+    private long fechaActualizacion;
     private boolean activo;
     
     /**
@@ -35,9 +37,9 @@ public class Usuario {
      * @param documentoIdentidad el documento de identidad
      */
     public Usuario(String nombre, String apellido, Email email, DocumentoIdentidad documentoIdentidad) {
-        this.id = UUID.randomUUID().toString();
-        this.fechaCreacion = LocalDateTime.now();
-        this.fechaActualizacion = LocalDateTime.now();
+        this.id = Identificador.nuevo();
+        this.fechaCreacion = Tiempo.ahora();
+        this.fechaActualizacion = this.fechaCreacion;
         this.activo = true;
         
         setNombre(nombre);
@@ -54,8 +56,8 @@ public class Usuario {
      * @param apellido el apellido
      * @param email el email
      * @param documentoIdentidad el documento
-     * @param fechaCreacion fecha de creación
-     * @param fechaActualizacion fecha de actualización
+     * @param fechaCreacion fecha de creación (si es nula, el instante actual)
+     * @param fechaActualizacion fecha de actualización (si es nula, la de creación)
      * @param activo estado del usuario
      */
     public Usuario(String id, String nombre, String apellido, Email email, 
@@ -66,8 +68,8 @@ public class Usuario {
         this.apellido = apellido;
         this.email = email;
         this.documentoIdentidad = documentoIdentidad;
-        this.fechaCreacion = fechaCreacion;
-        this.fechaActualizacion = fechaActualizacion;
+        this.fechaCreacion = fechaCreacion != null ? Tiempo.aNanos(fechaCreacion) : Tiempo.ahora();
+        this.fechaActualizacion = fechaActualizacion != null ? Tiempo.aNanos(fechaActualizacion) : this.fechaCreacion;
         this.activo = activo;
     }
     
@@ -82,7 +84,7 @@ public class Usuario {
         setNombre(nombre);
         setApellido(apellido);
         setEmail(email);
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaActualizacion = Tiempo.ahora();
     }
     
     /**
@@ -90,7 +92,7 @@ public class Usuario {
      */
     public void desactivar() {
         this.activo = false;
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaActualizacion = Tiempo.ahora();
     }
     
     /**
@@ -98,7 +100,7 @@ public class Usuario {
      */
     public void activar() {
         this.activo = true;
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaActualizacion = Tiempo.ahora();
     }
     
     /**
@@ -166,11 +168,11 @@ public class Usuario {
     }
     
     public LocalDateTime getFechaCreacion() {
-        return fechaCreacion;
+        return Tiempo.aFecha(fechaCreacion);
     }
     
     public LocalDateTime getFechaActualizacion() {
-        return fechaActualizacion;
+        return Tiempo.aFecha(fechaActualizacion);
     }
     
     public boolean isActivo() {
@@ -0,0 +1,19 @@
+package com.wallet.domain.exceptions;
+
+/**
+ * Excepción lanzada cuando una clave de idempotencia vigente se reutiliza
+ * con una solicitud de contenido distinto al de la original.
+ */
+public class ClaveIdempotenciaReutilizadaException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public ClaveIdempotenciaReutilizadaException(String mensaje) {
+        super(mensaje);
+    }
+    
+    public static ClaveIdempotenciaReutilizadaException para(String claveCliente) {
+        return new ClaveIdempotenciaReutilizadaException(String.format(
+            "La clave de idempotencia %s ya se usó con otra solicitud", claveCliente));
+    }
+}
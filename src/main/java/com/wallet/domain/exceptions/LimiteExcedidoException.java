@@ -0,0 +1,19 @@
+package com.wallet.domain.exceptions;
+
+import com.wallet.domain.valueobjects.LimiteVelocidad;
+
+/**
+ * Excepción lanzada cuando una operación superaría el límite de velocidad de la cuenta.
+ */
+public class LimiteExcedidoException extends RuntimeException {
+    
+    public LimiteExcedidoException(String mensaje) {
+        super(mensaje);
+    }
+    
+    public static LimiteExcedidoException para(String cuentaId, LimiteVelocidad limite) {
+        return new LimiteExcedidoException(
+            String.format("La cuenta %s superó su límite de %s", cuentaId, limite)
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.AgregadoDiario;
+import com.wallet.domain.entities.Transaccion;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Interfaz del repositorio de agregados diarios (Port).
+ * Mantiene totales y cantidades por día, tipo de transacción y moneda.
+ * 
+ * Principios aplicados:
+ * - DIP: Dependencia hacia abstracción
+ * - ISP: Interfaz específica y cohesiva
+ */
+public interface IAgregadoDiarioRepository {
+    
+    /**
+     * Suma una transacción recién guardada al agregado de su día.
+     * 
+     * @param transaccion la transacción guardada
+     */
+    void registrar(Transaccion transaccion);
+    
+    /**
+     * Obtiene los agregados de un rango de días, ordenados por día, moneda y tipo.
+     * 
+     * @param desde primer día (inclusive)
+     * @param hasta último día (inclusive)
+     * @return lista de agregados de los días con movimientos
+     */
+    List<AgregadoDiario> buscarPorRango(LocalDate desde, LocalDate hasta);
+    
+    /**
+     * Recalcula desde el historial los días anteriores a un día dado y
+     * reemplaza sus agregados. Los días desde ese en adelante no se tocan,
+     * porque todavía pueden recibir transacciones.
+     * 
+     * @param historial todas las transacciones (puede ser un stream paralelo)
+     * @param hasta primer día que no se recalcula (normalmente hoy)
+     * @return cantidad de transacciones recalculadas
+     */
+    long reconstruir(Stream<Transaccion> historial, LocalDate hasta);
+}
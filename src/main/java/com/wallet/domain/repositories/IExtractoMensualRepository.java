@@ -0,0 +1,44 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.ExtractoMensual;
+import com.wallet.domain.entities.Transaccion;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interfaz del repositorio de extractos mensuales (Port).
+ * Mantiene los resúmenes por cuenta y mes a medida que se registran transacciones.
+ * 
+ * Principios aplicados:
+ * - DIP: Dependencia hacia abstracción
+ * - ISP: Interfaz específica y cohesiva
+ */
+public interface IExtractoMensualRepository {
+    
+    /**
+     * Suma una transacción recién guardada al extracto de su cuenta y mes.
+     * 
+     * @param transaccion la transacción guardada
+     */
+    void registrar(Transaccion transaccion);
+    
+    /**
+     * Busca el extracto del mes indicado o, si ese mes no tuvo movimientos,
+     * el del último mes anterior que sí los tuvo.
+     * 
+     * @param cuentaId el ID de la cuenta
+     * @param periodo el mes consultado
+     * @return Optional con el extracto si la cuenta tuvo movimientos hasta ese mes
+     */
+    Optional<ExtractoMensual> buscarUltimoHasta(String cuentaId, YearMonth periodo);
+    
+    /**
+     * Obtiene todos los extractos de una cuenta, del más antiguo al más reciente.
+     * 
+     * @param cuentaId el ID de la cuenta
+     * @return lista de extractos de los meses con movimientos
+     */
+    List<ExtractoMensual> buscarPorCuenta(String cuentaId);
+}
@@ -0,0 +1,37 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+
+import java.util.List;
+
+/**
+ * Interfaz del índice de búsqueda por descripción de transacciones (Port).
+ * Las búsquedas se hacen siempre dentro de una cuenta y retornan números de
+ * secuencia del libro de la cuenta, que se resuelven en el repositorio de
+ * transacciones: el índice no retiene las transacciones.
+ * 
+ * Principios aplicados:
+ * - DIP: Dependencia hacia abstracción
+ * - ISP: Interfaz específica y cohesiva
+ */
+public interface IIndiceDescripcionesRepository {
+    
+    /**
+     * Indexa la descripción de una transacción recién guardada.
+     * 
+     * @param transaccion la transacción guardada, con su número de secuencia
+     * @throws IllegalArgumentException si la transacción no tiene secuencia
+     */
+    void indexar(Transaccion transaccion);
+    
+    /**
+     * Busca las transacciones de una cuenta cuya descripción contiene todas
+     * las palabras de la consulta, sin distinguir mayúsculas ni tildes.
+     * 
+     * @param cuentaId el ID de la cuenta
+     * @param consulta palabras a buscar
+     * @param limite máximo de resultados
+     * @return secuencias de las transacciones encontradas, de la más reciente a la más antigua
+     */
+    List<Long> buscar(String cuentaId, String consulta, int limite);
+}
@@ -0,0 +1,40 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.Usuario;
+
+import java.util.List;
+
+/**
+ * Interfaz del índice de búsqueda de usuarios por prefijo (Port).
+ * Sirve para autocompletar por nombre, apellido o email.
+ * 
+ * Principios aplicados:
+ * - DIP: Dependencia hacia abstracción
+ * - ISP: Interfaz específica y cohesiva
+ */
+public interface IIndiceUsuariosRepository {
+    
+    /**
+     * Indexa (o reindexa) el nombre y el email actuales de un usuario guardado.
+     * 
+     * @param usuario el usuario guardado
+     */
+    void indexar(Usuario usuario);
+    
+    /**
+     * Quita un usuario del índice.
+     * 
+     * @param usuario el usuario eliminado
+     */
+    void quitar(Usuario usuario);
+    
+    /**
+     * Busca usuarios cuyo nombre completo, apellido o email empieza por el
+     * prefijo, sin distinguir mayúsculas ni tildes.
+     * 
+     * @param prefijo texto escrito hasta ahora
+     * @param limite máximo de usuarios
+     * @return usuarios en orden alfabético del texto que coincidió, sin repetir
+     */
+    List<Usuario> buscarPorPrefijo(String prefijo, int limite);
+}
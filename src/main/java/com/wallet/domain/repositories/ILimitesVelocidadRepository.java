@@ -0,0 +1,80 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.LimiteVelocidad;
+import com.wallet.domain.valueobjects.NivelCuenta;
+
+/**
+ * Interfaz de los contadores de límites de velocidad por cuenta (Port).
+ * 
+ * Cada nivel de cuenta tiene un {@link LimiteVelocidad}; los contadores
+ * registran las operaciones de salida (retiros y transferencias enviadas) de
+ * cada cuenta dentro de su ventana móvil.
+ * 
+ * Principios aplicados:
+ * - DIP: Dependencia hacia abstracción
+ * - ISP: Interfaz específica y cohesiva
+ */
+public interface ILimitesVelocidadRepository {
+    
+    /**
+     * Contadores que nunca limitan nada; lo usan los casos de uso creados sin límites.
+     */
+    ILimitesVelocidadRepository SIN_LIMITES = new ILimitesVelocidadRepository() {
+        @Override
+        public void configurar(NivelCuenta nivel, LimiteVelocidad limite) {
+            throw new UnsupportedOperationException("Estos contadores no admiten límites");
+        }
+        
+        @Override
+        public LimiteVelocidad getLimite(NivelCuenta nivel) {
+            return LimiteVelocidad.SIN_LIMITE;
+        }
+        
+        @Override
+        public boolean consumir(String cuentaId, NivelCuenta nivel, Dinero monto, long ahora) {
+            return true;
+        }
+        
+        @Override
+        public void devolver(String cuentaId, NivelCuenta nivel, Dinero monto, long ahora) {
+        }
+    };
+    
+    /**
+     * Define el límite de un nivel de cuenta. Los niveles sin configurar no tienen límite.
+     * 
+     * @param nivel nivel de cuenta
+     * @param limite límite a aplicar
+     */
+    void configurar(NivelCuenta nivel, LimiteVelocidad limite);
+    
+    /**
+     * Obtiene el límite vigente de un nivel de cuenta.
+     * 
+     * @param nivel nivel de cuenta
+     * @return el límite, o {@link LimiteVelocidad#SIN_LIMITE}
+     */
+    LimiteVelocidad getLimite(NivelCuenta nivel);
+    
+    /**
+     * Registra una operación de salida si cabe en el límite del nivel.
+     * 
+     * @param cuentaId ID de la cuenta
+     * @param nivel nivel de la cuenta
+     * @param monto monto de la operación
+     * @param ahora instante de la operación en nanosegundos (ver Tiempo)
+     * @return true si se registró; false si superaría el límite (no se registra nada)
+     */
+    boolean consumir(String cuentaId, NivelCuenta nivel, Dinero monto, long ahora);
+    
+    /**
+     * Deshace un {@link #consumir} cuya operación no llegó a aplicarse.
+     * 
+     * @param cuentaId ID de la cuenta
+     * @param nivel nivel de la cuenta
+     * @param monto monto registrado
+     * @param ahora el mismo instante pasado a {@link #consumir}
+     */
+    void devolver(String cuentaId, NivelCuenta nivel, Dinero monto, long ahora);
+}
@@ -0,0 +1,59 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.SaldoCuenta;
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.util.List;
+
+/**
+ * Interfaz del índice de cuentas ordenadas por saldo (Port).
+ * Los saldos de distintas monedas no se comparan: cada moneda tiene su orden.
+ * 
+ * Principios aplicados:
+ * - DIP: Dependencia hacia abstracción
+ * - ISP: Interfaz específica y cohesiva
+ */
+public interface IRankingSaldosRepository {
+    
+    /**
+     * Indexa el saldo actual de una cuenta recién guardada.
+     * 
+     * @param cuenta la cuenta guardada
+     */
+    void actualizar(Cuenta cuenta);
+    
+    /**
+     * Quita una cuenta del índice.
+     * 
+     * @param cuenta la cuenta eliminada
+     */
+    void quitar(Cuenta cuenta);
+    
+    /**
+     * Obtiene las cuentas de mayor saldo, de mayor a menor.
+     * 
+     * @param moneda moneda de los saldos
+     * @param cantidad máximo de cuentas
+     * @return lista de saldos
+     */
+    List<SaldoCuenta> mayores(String moneda, int cantidad);
+    
+    /**
+     * Obtiene las cuentas de menor saldo, de menor a mayor.
+     * 
+     * @param moneda moneda de los saldos
+     * @param cantidad máximo de cuentas
+     * @return lista de saldos
+     */
+    List<SaldoCuenta> menores(String moneda, int cantidad);
+    
+    /**
+     * Cuenta las cuentas con saldo dentro de un rango.
+     * 
+     * @param minimo saldo mínimo (inclusive)
+     * @param maximo saldo máximo (inclusive)
+     * @return cantidad de cuentas
+     */
+    long contarEnRango(Dinero minimo, Dinero maximo);
+}
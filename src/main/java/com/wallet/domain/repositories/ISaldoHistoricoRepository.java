@@ -0,0 +1,35 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Interfaz del repositorio de saldos históricos (Port).
+ * Permite conocer el saldo que tenía una cuenta en un instante pasado.
+ * 
+ * Principios aplicados:
+ * - DIP: Dependencia hacia abstracción
+ * - ISP: Interfaz específica y cohesiva
+ */
+public interface ISaldoHistoricoRepository {
+    
+    /**
+     * Registra el saldo que dejó una transacción recién guardada.
+     * 
+     * @param transaccion la transacción guardada
+     */
+    void registrar(Transaccion transaccion);
+    
+    /**
+     * Obtiene el saldo de una cuenta en un instante: el saldo posterior a la
+     * última transacción de la cuenta con fecha menor o igual al instante.
+     * 
+     * @param cuentaId el ID de la cuenta
+     * @param instante el instante consultado
+     * @return Optional con el saldo, vacío si la cuenta no tenía transacciones hasta ese instante
+     */
+    Optional<Dinero> saldoEn(String cuentaId, LocalDateTime instante);
+}
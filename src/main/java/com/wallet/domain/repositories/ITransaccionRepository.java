@@ -1,11 +1,14 @@
 package com.wallet.domain.repositories;
 
+import com.wallet.domain.entities.Asiento;
 import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Transferencia;
 import com.wallet.domain.valueobjects.TipoTransaccion;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interfaz del repositorio de Transacciones (Port).
@@ -25,6 +28,34 @@ public interface ITransaccionRepository {
      */
     Transaccion guardar(Transaccion transaccion);
     
+    /**
+     * Guarda una transferencia completa como un único registro. Sus tramos
+     * de envío y recepción aparecen en todas las consultas como si fueran
+     * dos transacciones guardadas juntas.
+     * 
+     * @param transferencia la transferencia a guardar
+     * @return la transferencia guardada, con la secuencia de cada cuenta
+     */
+    Transferencia guardarTransferencia(Transferencia transferencia);
+    
+    /**
+     * Guarda un asiento entre varias cuentas como un único registro, con
+     * todos sus apuntes o ninguno. Cada apunte aparece en las consultas como
+     * una transacción de su cuenta.
+     * 
+     * @param asiento el asiento a guardar
+     * @return el asiento guardado, con la secuencia de cada apunte
+     */
+    Asiento guardarAsiento(Asiento asiento);
+    
+    /**
+     * Busca un asiento por su ID.
+     * 
+     * @param id el ID del asiento
+     * @return Optional con el asiento si existe
+     */
+    Optional<Asiento> buscarAsiento(String id);
+    
     /**
      * Busca una transacción por su ID.
      * 
@@ -77,4 +108,35 @@ public interface ITransaccionRepository {
      * @return lista de últimas transacciones
      */
     List<Transaccion> obtenerUltimasPorCuenta(String cuentaId, int limite);
+    
+    /**
+     * Recorre todas las transacciones sin ordenarlas, para procesos masivos.
+     * El recorrido no bloquea a los escritores y puede no ver las
+     * transacciones guardadas mientras avanza.
+     * 
+     * @return stream secuencial de todas las transacciones (admite parallel())
+     */
+    Stream<Transaccion> recorrerTodas();
+
+    /**
+     * Última secuencia asignada en el libro de una cuenta. Sirve para saber
+     * en O(1) si la cuenta tuvo movimientos desde una secuencia conocida.
+     *
+     * @param cuentaId el ID de la cuenta
+     * @return la última secuencia, o 0 si la cuenta no tiene transacciones
+     */
+    long ultimaSecuencia(String cuentaId);
+
+    /**
+     * Obtiene las transacciones propias de una cuenta (las de cuenta origen
+     * igual a la cuenta) posteriores a una secuencia, en orden ascendente.
+     * Como las secuencias no tienen huecos, sirve de cursor de paginación y
+     * de replicación.
+     *
+     * @param cuentaId el ID de la cuenta
+     * @param despuesDe secuencia ya conocida (0 para empezar desde el principio)
+     * @param limite número máximo de transacciones
+     * @return transacciones con secuencia despuesDe + 1, despuesDe + 2, ...
+     */
+    List<Transaccion> buscarPorCuentaDesdeSecuencia(String cuentaId, long despuesDe, int limite);
 }
@@ -0,0 +1,49 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.TransferenciaProgramada;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interfaz del repositorio de transferencias programadas (Port).
+ * Define el contrato para persistir órdenes permanentes y transferencias a
+ * fecha futura, que el programador recupera al reiniciar.
+ * 
+ * Principios aplicados:
+ * - DIP: Dependencia hacia abstracción
+ * - ISP: Interfaz específica y cohesiva
+ */
+public interface ITransferenciaProgramadaRepository {
+    
+    /**
+     * Guarda una transferencia programada nueva o actualiza una existente.
+     * 
+     * @param programada la transferencia programada
+     * @return la transferencia programada guardada
+     */
+    TransferenciaProgramada guardar(TransferenciaProgramada programada);
+    
+    /**
+     * Busca una transferencia programada por su ID.
+     * 
+     * @param id el ID de la programación
+     * @return Optional con la programación si existe
+     */
+    Optional<TransferenciaProgramada> buscarPorId(String id);
+    
+    /**
+     * Obtiene las transferencias programadas desde una cuenta, en cualquier estado.
+     * 
+     * @param cuentaOrigenId el ID de la cuenta origen
+     * @return lista de programaciones ordenadas por próxima ejecución
+     */
+    List<TransferenciaProgramada> buscarPorCuentaOrigen(String cuentaOrigenId);
+    
+    /**
+     * Obtiene las transferencias programadas que todavía tienen ejecuciones pendientes.
+     * 
+     * @return lista de programaciones activas
+     */
+    List<TransferenciaProgramada> obtenerActivas();
+}
@@ -0,0 +1,18 @@
+package com.wallet.domain.valueobjects;
+
+/**
+ * Estrategia de generación de identificadores de entidades (Strategy Pattern).
+ * 
+ * Un generador debe ser thread-safe y no repetir valores. Se reemplaza con
+ * {@link Identificador#usarGenerador(GeneradorIds)}.
+ */
+@FunctionalInterface
+public interface GeneradorIds {
+    
+    /**
+     * Genera un identificador nuevo.
+     * 
+     * @return identificador no negativo, distinto de todos los anteriores
+     */
+    long siguiente();
+}
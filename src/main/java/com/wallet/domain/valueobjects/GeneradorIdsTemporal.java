@@ -0,0 +1,73 @@
+package com.wallet.domain.valueobjects;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de identificadores de 64 bits ordenados por tiempo.
+ * 
+ * Estructura (de mayor a menor): 42 bits de milisegundos desde 2024-01-01,
+ * 10 bits de nodo y 12 bits de secuencia. Cada id es el mayor entre el
+ * anterior más uno y el primero del milisegundo actual, fijado con un único
+ * compareAndSet: no bloquea, no repite y los ids de un nodo crecen en el
+ * mismo orden en que se piden. Si en un milisegundo se agotan las 4096
+ * secuencias, o el reloj retrocede, los ids siguen creciendo adelantándose al
+ * reloj hasta que este los alcanza.
+ * 
+ * Los ids de nodos distintos no se repiten mientras cada nodo tenga un número
+ * propio, y entre nodos quedan ordenados por milisegundo.
+ */
+public final class GeneradorIdsTemporal implements GeneradorIds {
+    
+    public static final long EPOCA_MILIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final int BITS_NODO = 10;
+    public static final int BITS_SECUENCIA = 12;
+    public static final int NODO_MAXIMO = (1 << BITS_NODO) - 1;
+    
+    private static final int DESPLAZAMIENTO_TIEMPO = BITS_NODO + BITS_SECUENCIA;
+    private static final long MASCARA_NODO = (long) NODO_MAXIMO << BITS_SECUENCIA;
+    private static final long MASCARA_SECUENCIA = (1L << BITS_SECUENCIA) - 1;
+    
+    private final long nodo;
+    private final AtomicLong ultimo = new AtomicLong();
+    
+    /**
+     * @param nodo número de este nodo, entre 0 y {@link #NODO_MAXIMO}
+     */
+    public GeneradorIdsTemporal(int nodo) {
+        if (nodo < 0 || nodo > NODO_MAXIMO) {
+            throw new IllegalArgumentException("El nodo debe estar entre 0 y " + NODO_MAXIMO);
+        }
+        this.nodo = (long) nodo << BITS_SECUENCIA;
+    }
+    
+    @Override
+    public long siguiente() {
+        long minimo = ((System.currentTimeMillis() - EPOCA_MILIS) << DESPLAZAMIENTO_TIEMPO) | nodo;
+        while (true) {
+            long anterior = ultimo.get();
+            // Al agotar la secuencia se pasa al milisegundo siguiente
+            long consecutivo = (anterior & MASCARA_SECUENCIA) == MASCARA_SECUENCIA
+                ? (((anterior >>> DESPLAZAMIENTO_TIEMPO) + 1) << DESPLAZAMIENTO_TIEMPO) | nodo
+                : anterior + 1;
+            long siguiente = Math.max(minimo, consecutivo);
+            if (ultimo.compareAndSet(anterior, siguiente)) {
+                return siguiente;
+            }
+        }
+    }
+    
+    /**
+     * Milisegundo (epoch) en que se generó un id.
+     */
+    public static long milisegundos(long id) {
+        return (id >>> DESPLAZAMIENTO_TIEMPO) + EPOCA_MILIS;
+    }
+    
+    /**
+     * Nodo que generó un id.
+     */
+    public static int nodo(long id) {
+        return (int) ((id & MASCARA_NODO) >>> BITS_SECUENCIA);
+    }
+}
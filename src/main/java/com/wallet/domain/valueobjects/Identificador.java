@@ -0,0 +1,100 @@
+package com.wallet.domain.valueobjects;
+
+import java.util.Arrays;
+
+/**
+ * Identificadores de las entidades (Usuario, Cuenta, Transacción).
+ * 
+ * Internamente un id es un long de {@link GeneradorIds}; las entidades lo
+ * guardan como texto de 13 caracteres en base 32 (alfabeto de Crockford, sin
+ * I, L, O ni U). El texto tiene ancho fijo, así que ordenarlo como String
+ * equivale a ordenar los números, y ocupa bastante menos que un UUID de 36.
+ * 
+ * El generador por defecto es un {@link GeneradorIdsTemporal} cuyo nodo se
+ * toma de la propiedad de sistema "wallet.nodo" (por defecto 0).
+ */
+public final class Identificador {
+    
+    public static final String PROPIEDAD_NODO = "wallet.nodo";
+    public static final int LARGO = 13;
+    
+    private static final char[] ALFABETO = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int[] VALORES = new int[128];
+    
+    static {
+        Arrays.fill(VALORES, -1);
+        for (int i = 0; i < ALFABETO.length; i++) {
+            VALORES[ALFABETO[i]] = i;
+            VALORES[Character.toLowerCase(ALFABETO[i])] = i;
+        }
+    }
+    
+    private static volatile GeneradorIds generador = new GeneradorIdsTemporal(nodoConfigurado());
+    
+    private Identificador() {
+        throw new AssertionError("No se debe instanciar Identificador");
+    }
+    
+    /**
+     * Genera el id de una entidad nueva.
+     */
+    public static String nuevo() {
+        return texto(generador.siguiente());
+    }
+    
+    /**
+     * Reemplaza el generador (por ejemplo, uno determinista en pruebas).
+     */
+    public static void usarGenerador(GeneradorIds nuevoGenerador) {
+        if (nuevoGenerador == null) {
+            throw new IllegalArgumentException("El generador de ids no puede ser nulo");
+        }
+        generador = nuevoGenerador;
+    }
+    
+    /**
+     * Texto de un id: 13 caracteres, con ceros a la izquierda.
+     */
+    public static String texto(long id) {
+        char[] caracteres = new char[LARGO];
+        for (int i = LARGO - 1; i >= 0; i--) {
+            caracteres[i] = ALFABETO[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(caracteres);
+    }
+    
+    /**
+     * Valor numérico de un id generado.
+     * 
+     * @throws IllegalArgumentException si el texto no es un id generado
+     *         (por ejemplo, un UUID de datos anteriores)
+     */
+    public static long valor(String texto) {
+        if (texto == null || texto.length() != LARGO) {
+            throw new IllegalArgumentException("Identificador inválido: " + texto);
+        }
+        long valor = 0;
+        for (int i = 0; i < LARGO; i++) {
+            char c = texto.charAt(i);
+            int digito = c < VALORES.length ? VALORES[c] : -1;
+            if (digito < 0 || (i == 0 && digito > 15)) {
+                throw new IllegalArgumentException("Identificador inválido: " + texto);
+            }
+            valor = (valor << 5) | digito;
+        }
+        return valor;
+    }
+    
+    private static int nodoConfigurado() {
+        String valor = System.getProperty(PROPIEDAD_NODO);
+        if (valor == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Nodo inválido: " + valor);
+        }
+    }
+}
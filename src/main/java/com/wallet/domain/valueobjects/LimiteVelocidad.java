@@ -0,0 +1,107 @@
+package com.wallet.domain.valueobjects;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Value Object que representa un límite de velocidad: cuántas operaciones de
+ * salida y cuánto dinero puede mover una cuenta dentro de una ventana móvil,
+ * por ejemplo "10 retiros o 2.000.000 CLP por hora".
+ * 
+ * Cualquiera de los dos topes puede omitirse. El tope de monto solo se aplica
+ * a las operaciones en su misma moneda.
+ */
+public final class LimiteVelocidad {
+    
+    /**
+     * Límite que no restringe nada.
+     */
+    public static final LimiteVelocidad SIN_LIMITE = new LimiteVelocidad(0, null, Duration.ofHours(1));
+    
+    private final int maximoOperaciones;
+    private final Dinero montoMaximo;
+    private final Duration ventana;
+    
+    private LimiteVelocidad(int maximoOperaciones, Dinero montoMaximo, Duration ventana) {
+        this.maximoOperaciones = maximoOperaciones;
+        this.montoMaximo = montoMaximo;
+        this.ventana = ventana;
+    }
+    
+    /**
+     * Crea un límite de velocidad.
+     * 
+     * @param maximoOperaciones operaciones permitidas en la ventana, o 0 para no limitarlas
+     * @param montoMaximo monto permitido en la ventana, o null para no limitarlo
+     * @param ventana duración de la ventana móvil
+     * @return nuevo límite
+     * @throws IllegalArgumentException si algún valor no es válido
+     */
+    public static LimiteVelocidad de(int maximoOperaciones, Dinero montoMaximo, Duration ventana) {
+        if (maximoOperaciones < 0) {
+            throw new IllegalArgumentException("El máximo de operaciones no puede ser negativo");
+        }
+        if (montoMaximo != null && !montoMaximo.esPositivo()) {
+            throw new IllegalArgumentException("El monto máximo debe ser positivo");
+        }
+        if (ventana == null || ventana.isNegative() || ventana.isZero()) {
+            throw new IllegalArgumentException("La ventana debe ser positiva");
+        }
+        return new LimiteVelocidad(maximoOperaciones, montoMaximo, ventana);
+    }
+    
+    /**
+     * Indica si el límite no restringe ni operaciones ni monto.
+     */
+    public boolean esSinLimite() {
+        return maximoOperaciones == 0 && montoMaximo == null;
+    }
+    
+    /**
+     * Operaciones permitidas en la ventana; 0 si no se limitan.
+     */
+    public int getMaximoOperaciones() {
+        return maximoOperaciones;
+    }
+    
+    /**
+     * Monto permitido en la ventana; null si no se limita.
+     */
+    public Dinero getMontoMaximo() {
+        return montoMaximo;
+    }
+    
+    public Duration getVentana() {
+        return ventana;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LimiteVelocidad that = (LimiteVelocidad) o;
+        return maximoOperaciones == that.maximoOperaciones
+            && Objects.equals(montoMaximo, that.montoMaximo)
+            && ventana.equals(that.ventana);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(maximoOperaciones, montoMaximo, ventana);
+    }
+    
+    @Override
+    public String toString() {
+        if (esSinLimite()) {
+            return "sin límite";
+        }
+        StringBuilder sb = new StringBuilder();
+        if (maximoOperaciones > 0) {
+            sb.append(maximoOperaciones).append(" operaciones");
+        }
+        if (montoMaximo != null) {
+            sb.append(sb.length() > 0 ? " o " : "").append(montoMaximo);
+        }
+        return sb.append(" cada ").append(ventana).toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.wallet.domain.valueobjects;
+
+/**
+ * Enumeración que representa el nivel de una cuenta.
+ * 
+ * El nivel decide qué límites de velocidad (ver {@link LimiteVelocidad}) se
+ * aplican a los retiros y transferencias de la cuenta.
+ */
+public enum NivelCuenta {
+    
+    BASICO("Básico", "Cuenta con los límites más restrictivos"),
+    ESTANDAR("Estándar", "Nivel por defecto de las cuentas nuevas"),
+    PREMIUM("Premium", "Cuenta con límites amplios");
+    
+    private final String nombre;
+    private final String descripcion;
+    
+    NivelCuenta(String nombre, String descripcion) {
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+    }
+    
+    public String getNombre() {
+        return nombre;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
@@ -0,0 +1,57 @@
+package com.wallet.domain.valueobjects;
+
+import java.time.LocalDateTime;
+
+/**
+ * Enumeración que representa cada cuánto se repite una transferencia programada.
+ * 
+ * Las ocurrencias se calculan siempre desde la primera fecha y no desde la
+ * anterior, de modo que una orden mensual del día 31 cae el último día de los
+ * meses más cortos y vuelve al 31 en los siguientes, sin acumular desvíos.
+ */
+public enum Periodicidad {
+    
+    UNICA("Única", "Una sola vez en la fecha indicada"),
+    DIARIA("Diaria", "Todos los días a la misma hora"),
+    SEMANAL("Semanal", "El mismo día de cada semana"),
+    MENSUAL("Mensual", "El mismo día de cada mes");
+    
+    private final String nombre;
+    private final String descripcion;
+    
+    Periodicidad(String nombre, String descripcion) {
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+    }
+    
+    public String getNombre() {
+        return nombre;
+    }
+    
+    public String getDescripcion() {
+        return descripcion;
+    }
+    
+    /**
+     * Fecha de la ocurrencia número {@code indice} (desde 0) de una serie que
+     * empieza en {@code inicio}.
+     * 
+     * @throws IllegalArgumentException si el índice es negativo, o mayor que
+     *         cero en una programación única
+     */
+    public LocalDateTime ocurrencia(LocalDateTime inicio, long indice) {
+        if (indice < 0 || (this == UNICA && indice > 0)) {
+            throw new IllegalArgumentException("Ocurrencia inválida: " + indice);
+        }
+        switch (this) {
+            case DIARIA:
+                return inicio.plusDays(indice);
+            case SEMANAL:
+                return inicio.plusWeeks(indice);
+            case MENSUAL:
+                return inicio.plusMonths(indice);
+            default:
+                return inicio;
+        }
+    }
+}
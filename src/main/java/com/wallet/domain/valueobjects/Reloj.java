@@ -0,0 +1,23 @@
+package com.wallet.domain.valueobjects;
+
+/**
+ * Fuente de tiempo de las entidades (Strategy Pattern).
+ * 
+ * Se reemplaza con {@link Tiempo#usarReloj(Reloj)}; en pruebas se usa un
+ * {@link RelojManual} para que las fechas sean deterministas.
+ */
+@FunctionalInterface
+public interface Reloj {
+    
+    /**
+     * Instante actual en nanosegundos desde 1970-01-01T00:00:00Z.
+     */
+    long ahora();
+    
+    /**
+     * Libera los recursos del reloj cuando deja de usarse; después debe
+     * seguir respondiendo a {@link #ahora()}. Por defecto no hace nada.
+     */
+    default void detener() {
+    }
+}
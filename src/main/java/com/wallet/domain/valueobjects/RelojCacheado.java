@@ -0,0 +1,71 @@
+package com.wallet.domain.valueobjects;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reloj de baja resolución que nunca retrocede.
+ * 
+ * Un hilo daemon copia la hora del sistema a un campo volatile cada
+ * milisegundo; leer la hora es leer ese campo, sin llamar al sistema ni
+ * escribir memoria compartida. Solo ese hilo escribe el campo y nunca lo
+ * hace retroceder, así que una lectura posterior a otra (en el mismo hilo o
+ * tras un lock) nunca es menor. Dos lecturas del mismo milisegundo empatan:
+ * el orden dentro de una cuenta lo da su secuencia.
+ * 
+ * El hilo se inicia con la primera lectura y termina con {@link #detener()};
+ * un reloj detenido sigue respondiendo, leyendo la hora del sistema.
+ */
+public final class RelojCacheado implements Reloj {
+    
+    private static final long NANOS_POR_MILI = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    // 0 mientras no hay hilo que lo actualice
+    private volatile long actual;
+    private volatile boolean detenido;
+    private Thread ticker;
+    
+    @Override
+    public long ahora() {
+        long valor = actual;
+        if (valor != 0) {
+            return valor;
+        }
+        return detenido ? leerSistema() : iniciar();
+    }
+    
+    /**
+     * Termina el hilo que actualiza la hora. Las lecturas posteriores consultan
+     * el reloj del sistema.
+     */
+    @Override
+    public synchronized void detener() {
+        detenido = true;
+        if (ticker != null) {
+            LockSupport.unpark(ticker);
+        }
+    }
+    
+    private synchronized long iniciar() {
+        if (ticker == null && !detenido) {
+            actual = leerSistema();
+            ticker = new Thread(this::actualizar, "wallet-reloj");
+            ticker.setDaemon(true);
+            ticker.start();
+        }
+        long valor = actual;
+        return valor != 0 ? valor : leerSistema();
+    }
+    
+    private void actualizar() {
+        while (!detenido) {
+            actual = Math.max(actual, leerSistema());
+            LockSupport.parkNanos(NANOS_POR_MILI);
+        }
+        actual = 0;
+    }
+    
+    private static long leerSistema() {
+        return System.currentTimeMillis() * NANOS_POR_MILI;
+    }
+}
@@ -0,0 +1,45 @@
+package com.wallet.domain.valueobjects;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reloj determinista para pruebas: solo avanza cuando se le indica.
+ */
+public final class RelojManual implements Reloj {
+    
+    private final AtomicLong actual;
+    
+    public RelojManual(LocalDateTime inicio) {
+        if (inicio == null) {
+            throw new IllegalArgumentException("La fecha inicial no puede ser nula");
+        }
+        this.actual = new AtomicLong(Tiempo.aNanos(inicio));
+    }
+    
+    @Override
+    public long ahora() {
+        return actual.get();
+    }
+    
+    /**
+     * Adelanta el reloj.
+     */
+    public void avanzar(Duration duracion) {
+        if (duracion == null || duracion.isNegative()) {
+            throw new IllegalArgumentException("La duración debe ser positiva");
+        }
+        actual.addAndGet(duracion.toNanos());
+    }
+    
+    /**
+     * Fija el reloj en una fecha.
+     */
+    public void fijar(LocalDateTime fecha) {
+        if (fecha == null) {
+            throw new IllegalArgumentException("La fecha no puede ser nula");
+        }
+        actual.set(Tiempo.aNanos(fecha));
+    }
+}
@@ -0,0 +1,66 @@
+package com.wallet.domain.valueobjects;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Reloj de las entidades y conversiones de sus fechas.
+ * 
+ * Las entidades guardan sus fechas como nanosegundos desde la época (un
+ * long) tomados de {@link #ahora()}, y las convierten a LocalDateTime solo
+ * al exponerlas. La conversión usa la zona del sistema, resuelta una vez.
+ * 
+ * El reloj por defecto es un {@link RelojCacheado}; su hilo se inicia con la
+ * primera lectura, no al cargar la clase.
+ */
+public final class Tiempo {
+    
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+    private static final ZoneId ZONA = ZoneId.systemDefault();
+    
+    private static volatile Reloj reloj = new RelojCacheado();
+    
+    private Tiempo() {
+        throw new AssertionError("No se debe instanciar Tiempo");
+    }
+    
+    /**
+     * Instante actual del reloj de las entidades, en nanosegundos desde la época.
+     */
+    public static long ahora() {
+        return reloj.ahora();
+    }
+    
+    /**
+     * Reemplaza el reloj (por ejemplo, un {@link RelojManual} en pruebas) y
+     * detiene el anterior.
+     */
+    public static synchronized void usarReloj(Reloj nuevoReloj) {
+        if (nuevoReloj == null) {
+            throw new IllegalArgumentException("El reloj no puede ser nulo");
+        }
+        Reloj anterior = reloj;
+        reloj = nuevoReloj;
+        if (anterior != nuevoReloj) {
+            anterior.detener();
+        }
+    }
+    
+    /**
+     * Fecha local de un instante en nanosegundos desde la época.
+     */
+    public static LocalDateTime aFecha(long nanos) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_POR_SEGUNDO),
+                                                             Math.floorMod(nanos, NANOS_POR_SEGUNDO)), ZONA);
+    }
+    
+    /**
+     * Instante en nanosegundos desde la época de una fecha local.
+     */
+    public static long aNanos(LocalDateTime fecha) {
+        ZoneOffset offset = ZONA.getRules().getOffset(fecha);
+        return fecha.toEpochSecond(offset) * NANOS_POR_SEGUNDO + fecha.getNano();
+    }
+}
@@ -12,7 +12,9 @@ public enum TipoTransaccion {
     DEPOSITO("Depósito", "Ingreso de fondos a la cuenta"),
     RETIRO("Retiro", "Extracción de fondos de la cuenta"),
     TRANSFERENCIA_ENVIADA("Transferencia Enviada", "Envío de fondos a otra cuenta"),
-    TRANSFERENCIA_RECIBIDA("Transferencia Recibida", "Recepción de fondos de otra cuenta");
+    TRANSFERENCIA_RECIBIDA("Transferencia Recibida", "Recepción de fondos de otra cuenta"),
+    CARGO("Cargo", "Débito de un asiento entre varias cuentas"),
+    ABONO("Abono", "Crédito de un asiento entre varias cuentas");
     
     private final String nombre;
     private final String descripcion;
@@ -36,7 +38,7 @@ public enum TipoTransaccion {
      * @return true si es un crédito
      */
     public boolean esCredito() {
-        return this == DEPOSITO || this == TRANSFERENCIA_RECIBIDA;
+        return this == DEPOSITO || this == TRANSFERENCIA_RECIBIDA || this == ABONO;
     }
     
     /**
@@ -45,7 +47,7 @@ public enum TipoTransaccion {
      * @return true si es un débito
      */
     public boolean esDebito() {
-        return this == RETIRO || this == TRANSFERENCIA_ENVIADA;
+        return this == RETIRO || this == TRANSFERENCIA_ENVIADA || this == CARGO;
     }
     
     @Override
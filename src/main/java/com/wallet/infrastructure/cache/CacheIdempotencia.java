@@ -0,0 +1,249 @@
+package com.wallet.infrastructure.cache;
+
+import com.wallet.domain.exceptions.ClaveIdempotenciaReutilizadaException;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caché de resultados por clave de idempotencia, acotada y con expiración.
+ *
+ * La primera llamada con una clave ejecuta la operación; las llamadas con la
+ * misma clave mientras la entrada siga vigente devuelven ese mismo resultado
+ * sin ejecutar nada. Si llegan duplicados mientras la primera todavía está en
+ * curso, esperan su resultado. Si la operación falla la entrada se descarta
+ * del mapa y de la cola (no se movió dinero ni ocupa capacidad) y un
+ * reintento posterior vuelve a ejecutarla.
+ *
+ * Cada entrada guarda una huella del contenido de la solicitud. Un reintento
+ * con la misma clave pero otra huella (otro monto, otro destino) se rechaza
+ * en vez de devolver un resultado que no le corresponde.
+ *
+ * La búsqueda es un acceso a un ConcurrentHashMap. Las entradas se encolan en
+ * orden de llegada; como el tiempo de vida es el mismo para todas, la cabeza
+ * de la cola es siempre la próxima en expirar, y la limpieza solo mira la
+ * cabeza. Al superar la capacidad se descarta la entrada más antigua aunque
+ * siga vigente, pero nunca una cuya operación sigue en curso: descartarla
+ * dejaría ejecutar dos veces un reintento con la misma clave. Mientras la
+ * más antigua esté en curso la caché puede pasarse de la capacidad, a lo
+ * sumo en lo que llega durante esa operación.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class CacheIdempotencia<T> {
+
+    public static final int CAPACIDAD_POR_DEFECTO = 100_000;
+    public static final long VIGENCIA_POR_DEFECTO_HORAS = 24;
+
+    private static final long FNV_BASE = 0xcbf29ce484222325L;
+    private static final long FNV_PRIMO = 0x100000001b3L;
+    // Fuera del rango de char, para no coincidir con ningún carácter
+    private static final long NULO = 0x10000L;
+    private static final long SEPARADOR = 0x10001L;
+
+    private final ConcurrentHashMap<String, Entrada<T>> entradas = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<Entrada<T>> orden = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger encoladas = new AtomicInteger();
+    private final int capacidad;
+    private final long vigenciaNanos;
+    private final LongSupplier reloj;
+
+    /**
+     * Caché con la capacidad y vigencia por defecto (100.000 claves durante 24 horas).
+     */
+    public CacheIdempotencia() {
+        this(CAPACIDAD_POR_DEFECTO, VIGENCIA_POR_DEFECTO_HORAS, TimeUnit.HOURS);
+    }
+
+    /**
+     * @param capacidad máximo de claves recordadas
+     * @param vigencia tiempo durante el que se recuerda un resultado
+     */
+    public CacheIdempotencia(int capacidad, long vigencia, TimeUnit unidad) {
+        this(capacidad, unidad.toNanos(vigencia), System::nanoTime);
+    }
+
+    CacheIdempotencia(int capacidad, long vigenciaNanos, LongSupplier reloj) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        if (vigenciaNanos <= 0) {
+            throw new IllegalArgumentException("La vigencia debe ser positiva");
+        }
+        this.capacidad = capacidad;
+        this.vigenciaNanos = vigenciaNanos;
+        this.reloj = reloj;
+    }
+
+    /**
+     * Ejecuta la operación una sola vez por clave vigente, sin comparar el
+     * contenido de las solicitudes.
+     *
+     * @param clave clave de idempotencia; si es nula la operación se ejecuta sin caché
+     * @param operacion operación a ejecutar si la clave no se vio antes
+     * @return el resultado de la operación, propio o de la llamada original
+     */
+    public T ejecutar(String clave, Supplier<T> operacion) {
+        return ejecutar(clave, 0L, operacion);
+    }
+
+    /**
+     * Ejecuta la operación una sola vez por clave vigente.
+     *
+     * @param clave clave de idempotencia; si es nula la operación se ejecuta sin caché
+     * @param huella resumen del contenido de la solicitud, ver {@link #huella(Object...)}
+     * @param operacion operación a ejecutar si la clave no se vio antes
+     * @return el resultado de la operación, propio o de la llamada original
+     * @throws ClaveIdempotenciaReutilizadaException si la clave está vigente con otra huella
+     */
+    public T ejecutar(String clave, long huella, Supplier<T> operacion) {
+        if (clave == null) {
+            return operacion.get();
+        }
+        long ahora = reloj.getAsLong();
+        Entrada<T> nueva = null;
+        while (true) {
+            Entrada<T> existente = entradas.get(clave);
+            if (existente != null) {
+                if (!existente.expirada(ahora)) {
+                    if (existente.huella != huella) {
+                        throw ClaveIdempotenciaReutilizadaException.para(
+                            clave.substring(clave.lastIndexOf(':') + 1));
+                    }
+                    return esperar(existente.resultado);
+                }
+                entradas.remove(clave, existente);
+            }
+            if (nueva == null) {
+                nueva = new Entrada<>(clave, huella, ahora + vigenciaNanos);
+            }
+            if (entradas.putIfAbsent(clave, nueva) == null) {
+                break;
+            }
+        }
+        orden.offer(nueva);
+        encoladas.incrementAndGet();
+        purgar(ahora);
+
+        T resultado;
+        try {
+            resultado = operacion.get();
+        } catch (RuntimeException | Error e) {
+            entradas.remove(clave, nueva);
+            // Se busca desde la cola: lo encolado después de ella es lo que llegó mientras corría
+            if (orden.removeLastOccurrence(nueva)) {
+                encoladas.decrementAndGet();
+            }
+            nueva.resultado.completeExceptionally(e);
+            throw e;
+        }
+        nueva.resultado.complete(resultado);
+        return resultado;
+    }
+
+    /**
+     * Arma la clave interna acotando la del cliente a una operación y una cuenta,
+     * para que la misma clave usada en operaciones distintas no se confunda.
+     *
+     * @return null si el cliente no envió clave
+     */
+    public static String clave(String operacion, String cuentaId, String claveCliente) {
+        if (claveCliente == null || claveCliente.trim().isEmpty()) {
+            return null;
+        }
+        return operacion + ':' + cuentaId + ':' + claveCliente;
+    }
+
+    /**
+     * Resume los campos de una solicitud en 64 bits (FNV-1a). Los montos se
+     * comparan por valor, de modo que 10 y 10.00 dan la misma huella, y los
+     * campos nulos se distinguen de los vacíos.
+     */
+    public static long huella(Object... campos) {
+        long huella = FNV_BASE;
+        for (Object campo : campos) {
+            String texto = campo == null ? null
+                : campo instanceof BigDecimal ? ((BigDecimal) campo).stripTrailingZeros().toPlainString()
+                : campo.toString();
+            if (texto == null) {
+                huella = (huella ^ NULO) * FNV_PRIMO;
+            } else {
+                for (int i = 0; i < texto.length(); i++) {
+                    huella = (huella ^ texto.charAt(i)) * FNV_PRIMO;
+                }
+            }
+            // Separador, para que ("ab", "c") y ("a", "bc") no coincidan
+            huella = (huella ^ SEPARADOR) * FNV_PRIMO;
+        }
+        return huella;
+    }
+
+    /**
+     * Cantidad de claves recordadas (incluye las expiradas que aún no se purgaron).
+     */
+    public int getTamanio() {
+        return entradas.size();
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Quita de la cabeza de la cola las entradas expiradas y, si se superó la
+     * capacidad, las más antiguas. Se detiene en la primera que sigue en curso.
+     */
+    private void purgar(long ahora) {
+        Entrada<T> cabeza;
+        while ((cabeza = orden.peek()) != null && cabeza.resultado.isDone()
+               && (encoladas.get() > capacidad || cabeza.expirada(ahora))) {
+            if (orden.remove(cabeza)) {
+                encoladas.decrementAndGet();
+                entradas.remove(cabeza.clave, cabeza);
+            }
+        }
+    }
+
+    private static <T> T esperar(CompletableFuture<T> resultado) {
+        try {
+            return resultado.join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entrada<T> {
+        final String clave;
+        final long huella;
+        final long expiraEn;
+        final CompletableFuture<T> resultado = new CompletableFuture<>();
+
+        Entrada(String clave, long huella, long expiraEn) {
+            this.clave = clave;
+            this.huella = huella;
+            this.expiraEn = expiraEn;
+        }
+
+        /**
+         * Una entrada en curso nunca expira: los duplicados deben esperarla.
+         */
+        boolean expirada(long ahora) {
+            return resultado.isDone() && ahora - expiraEn >= 0;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.wallet.infrastructure.cache;
+
+import com.wallet.infrastructure.repositories.ObservadorRepositorio;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caché de lectura de DTOs delante de un repositorio (Read-Through).
+ *
+ * Las lecturas se resuelven desde una {@link CacheLru}; ante un fallo se usa
+ * el cargador del llamador (normalmente un caso de uso que mapea la entidad).
+ * Se registra como observador del repositorio, y cada alta, modificación o
+ * baja invalida la entrada de esa entidad, por lo que nunca se sirve un DTO
+ * anterior a la última escritura.
+ *
+ * La clave de búsqueda (email, número de cuenta) se deriva de la entidad. Si
+ * una escritura cambia la clave de una entidad ya cacheada no se conoce la
+ * clave vieja, de modo que se recuerda la clave con la que se cacheó cada id.
+ * Solo se recuerdan los ids cacheados: el registro se borra al invalidar o
+ * desalojar la entrada, y un acierto sin registro se trata como fallo. Una
+ * escritura sobre un id no registrado pudo cambiar la clave de una carga en
+ * curso, por lo que esa carga se devuelve sin guardarse.
+ *
+ * @param <E> entidad del repositorio observado
+ * @param <D> DTO cacheado
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class CacheLectura<E, D> implements ObservadorRepositorio<E> {
+
+    public static final int CAPACIDAD_POR_DEFECTO = 10_000;
+
+    private final CacheLru<String, D> cache;
+    private final ConcurrentHashMap<String, String> clavePorId = new ConcurrentHashMap<>();
+    private final AtomicLong escriturasSinRegistro = new AtomicLong();
+    private final Function<? super E, String> idEntidad;
+    private final Function<? super E, String> claveEntidad;
+    private final Function<? super D, String> idDto;
+
+    /**
+     * @param capacidad máximo de DTOs en caché
+     * @param idEntidad id de la entidad
+     * @param claveEntidad clave de búsqueda de la entidad (debe coincidir con la usada al leer)
+     * @param idDto id de la entidad a partir del DTO
+     */
+    public CacheLectura(int capacidad,
+                        Function<? super E, String> idEntidad,
+                        Function<? super E, String> claveEntidad,
+                        Function<? super D, String> idDto) {
+        this.idEntidad = idEntidad;
+        this.claveEntidad = claveEntidad;
+        this.idDto = idDto;
+        this.cache = new CacheLru<>(capacidad,
+            (clave, dto) -> clavePorId.remove(idDto.apply(dto), clave));
+    }
+
+    /**
+     * Retorna el DTO de la clave, desde la caché o desde el cargador.
+     *
+     * @param cargador se invoca ante un fallo; si retorna null o lanza una
+     *                 excepción no se guarda nada
+     */
+    public D obtener(String clave, Function<String, D> cargador) {
+        D dto = cache.buscar(clave);
+        if (dto != null && clave.equals(clavePorId.get(idDto.apply(dto)))) {
+            return dto;
+        }
+        long escrituras = escriturasSinRegistro.get();
+        long marca = cache.marca(clave);
+        dto = cargador.apply(clave);
+        if (dto == null || escriturasSinRegistro.get() != escrituras) {
+            return dto;
+        }
+        String id = idDto.apply(dto);
+        clavePorId.put(id, clave);
+        if (!cache.guardarSiVigente(clave, dto, marca)) {
+            clavePorId.remove(id, clave);
+        }
+        return dto;
+    }
+
+    @Override
+    public void guardado(E entidad) {
+        String clave = claveEntidad.apply(entidad);
+        String anterior = clavePorId.remove(idEntidad.apply(entidad));
+        if (anterior == null) {
+            escriturasSinRegistro.incrementAndGet();
+        } else if (!anterior.equals(clave)) {
+            cache.invalidar(anterior);
+        }
+        cache.invalidar(clave);
+    }
+
+    @Override
+    public void eliminado(E entidad) {
+        String anterior = clavePorId.remove(idEntidad.apply(entidad));
+        if (anterior != null) {
+            cache.invalidar(anterior);
+        }
+        cache.invalidar(claveEntidad.apply(entidad));
+    }
+
+    @Override
+    public void limpiado() {
+        clavePorId.clear();
+        cache.limpiar();
+    }
+
+    /**
+     * Número de ids con su clave registrada; no supera la capacidad de la caché.
+     */
+    int getRegistrados() {
+        return clavePorId.size();
+    }
+
+    /**
+     * Caché subyacente, para consultar sus estadísticas.
+     */
+    public CacheLru<String, D> getCache() {
+        return cache;
+    }
+
+    @Override
+    public String toString() {
+        return cache.toString();
+    }
+}
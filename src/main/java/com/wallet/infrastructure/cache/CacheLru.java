@@ -0,0 +1,226 @@
+package com.wallet.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Caché de lectura acotada con desalojo LRU y estadísticas.
+ *
+ * Las claves se reparten en segmentos; cada segmento es un LinkedHashMap en
+ * orden de acceso protegido por su propio monitor, y desaloja su entrada
+ * menos usada al superar su parte de la capacidad. El LRU es exacto dentro de
+ * cada segmento y aproximado en el total.
+ *
+ * La carga ante un fallo se hace fuera del monitor. Para que una invalidación
+ * concurrente no quede pisada por un valor viejo, cada segmento lleva una
+ * generación que se incrementa al invalidar: un valor cargado solo se guarda
+ * si la generación no cambió desde antes de leerlo.
+ *
+ * Los valores se comparten entre llamadores y no deben modificarse.
+ *
+ * Un oyente opcional recibe cada entrada desalojada por capacidad; se invoca
+ * dentro del monitor del segmento y no debe volver a entrar en la caché.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class CacheLru<K, V> {
+
+    private static final int SEGMENTOS_MAXIMOS = 16;
+
+    private final Segmento<K, V>[] segmentos;
+    private final int mascara;
+    private final int capacidad;
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+    private final LongAdder invalidaciones = new LongAdder();
+
+    public CacheLru(int capacidad) {
+        this(capacidad, null);
+    }
+
+    /**
+     * @param alDesalojar recibe la clave y el valor de cada entrada desalojada
+     *                    por capacidad; puede ser null
+     */
+    public CacheLru(int capacidad, BiConsumer<? super K, ? super V> alDesalojar) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        int cantidad = 1;
+        while (cantidad < SEGMENTOS_MAXIMOS && cantidad * 2 * 64 <= capacidad) {
+            cantidad <<= 1;
+        }
+        this.capacidad = capacidad;
+        this.mascara = cantidad - 1;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Segmento<K, V>[] creados = new Segmento[cantidad];
+        this.segmentos = creados;
+        for (int i = 0; i < cantidad; i++) {
+            // El resto de la división se reparte entre los primeros segmentos
+            int parte = capacidad / cantidad + (i < capacidad % cantidad ? 1 : 0);
+            segmentos[i] = new Segmento<>(parte, desalojos, alDesalojar);
+        }
+    }
+
+    /**
+     * Retorna el valor en caché o lo carga y lo guarda.
+     *
+     * @param cargador se invoca ante un fallo; si retorna null no se guarda nada
+     * @return el valor, o null si el cargador retornó null
+     */
+    public V obtener(K clave, Function<? super K, ? extends V> cargador) {
+        V valor = buscar(clave);
+        if (valor != null) {
+            return valor;
+        }
+        long marca = marca(clave);
+        valor = cargador.apply(clave);
+        if (valor != null) {
+            guardarSiVigente(clave, valor, marca);
+        }
+        return valor;
+    }
+
+    /**
+     * Retorna el valor en caché o null, contando el acierto o el fallo.
+     */
+    public V buscar(K clave) {
+        Segmento<K, V> segmento = segmento(clave);
+        V valor;
+        synchronized (segmento) {
+            valor = segmento.get(clave);
+        }
+        (valor != null ? aciertos : fallos).increment();
+        return valor;
+    }
+
+    /**
+     * Generación actual del segmento de la clave. Se toma antes de leer el
+     * valor de la fuente para luego pasarla a {@link #guardarSiVigente}.
+     */
+    public long marca(K clave) {
+        Segmento<K, V> segmento = segmento(clave);
+        synchronized (segmento) {
+            return segmento.generacion;
+        }
+    }
+
+    /**
+     * Guarda el valor solo si no hubo invalidaciones en su segmento desde la marca.
+     *
+     * @return true si el valor quedó en caché
+     */
+    public boolean guardarSiVigente(K clave, V valor, long marca) {
+        Segmento<K, V> segmento = segmento(clave);
+        synchronized (segmento) {
+            if (segmento.generacion != marca) {
+                return false;
+            }
+            segmento.put(clave, valor);
+            return true;
+        }
+    }
+
+    public void invalidar(K clave) {
+        Segmento<K, V> segmento = segmento(clave);
+        synchronized (segmento) {
+            segmento.generacion++;
+            segmento.remove(clave);
+        }
+        invalidaciones.increment();
+    }
+
+    public void limpiar() {
+        for (Segmento<K, V> segmento : segmentos) {
+            synchronized (segmento) {
+                segmento.generacion++;
+                segmento.clear();
+            }
+        }
+    }
+
+    public int getTamanio() {
+        int tamanio = 0;
+        for (Segmento<K, V> segmento : segmentos) {
+            synchronized (segmento) {
+                tamanio += segmento.size();
+            }
+        }
+        return tamanio;
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    public long getAciertos() {
+        return aciertos.sum();
+    }
+
+    public long getFallos() {
+        return fallos.sum();
+    }
+
+    public long getDesalojos() {
+        return desalojos.sum();
+    }
+
+    public long getInvalidaciones() {
+        return invalidaciones.sum();
+    }
+
+    /**
+     * Proporción de búsquedas resueltas desde la caché (0 si no hubo búsquedas).
+     */
+    public double getTasaAciertos() {
+        long a = aciertos.sum();
+        long total = a + fallos.sum();
+        return total == 0 ? 0.0 : (double) a / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheLru{tamaño=%d/%d, aciertos=%d, fallos=%d, desalojos=%d, invalidaciones=%d, tasa=%.1f%%}",
+            getTamanio(), capacidad, getAciertos(), getFallos(), getDesalojos(), getInvalidaciones(),
+            getTasaAciertos() * 100);
+    }
+
+    private Segmento<K, V> segmento(K clave) {
+        int hash = clave.hashCode();
+        return segmentos[(hash ^ (hash >>> 16)) & mascara];
+    }
+
+    private static final class Segmento<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacidad;
+        private final LongAdder desalojos;
+        private final transient BiConsumer<? super K, ? super V> alDesalojar;
+        long generacion;
+
+        Segmento(int capacidad, LongAdder desalojos, BiConsumer<? super K, ? super V> alDesalojar) {
+            super(16, 0.75f, true);
+            this.capacidad = capacidad;
+            this.desalojos = desalojos;
+            this.alDesalojar = alDesalojar;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> mayor) {
+            if (size() > capacidad) {
+                desalojos.increment();
+                if (alDesalojar != null) {
+                    alDesalojar.accept(mayor.getKey(), mayor.getValue());
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Cachés en memoria de la capa de servicios.
+ *
+ * Contiene la caché de idempotencia, que recuerda por un tiempo limitado el
+ * resultado de cada operación identificada por una clave del cliente para que
+ * los reintentos no se ejecuten dos veces, y las cachés de lectura de DTOs
+ * (LRU acotada con estadísticas) que se invalidan al escribir en los
+ * repositorios.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.cache;
@@ -0,0 +1,165 @@
+package com.wallet.infrastructure.ejecucion;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffer circular pre-asignado de comandos: varios productores, un consumidor.
+ *
+ * Los productores reservan celdas con CAS sobre la cola; cada celda lleva su
+ * número de secuencia, que indica si está libre para escribir o lista para
+ * leer, por lo que no se necesita ningún lock. Si el anillo está lleno los
+ * productores esperan con backoff (giro, cesión y luego pausa). Las celdas se
+ * guardan como arreglos paralelos asignados una sola vez.
+ *
+ * Los métodos de lectura y {@link #liberar(long)} solo deben invocarse desde
+ * el hilo consumidor.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+final class AnilloComandos {
+
+    static final int GIROS_ANTES_DE_CEDER = 200;
+    private static final long ESPERA_LLENO_NANOS = 20_000L;
+
+    private final TipoComando[] tipos;
+    private final Object[] solicitudes;
+    private final CompletableFuture<?>[] futuros;
+    private final AtomicLongArray secuencias;
+    private final int capacidad;
+    private final int mascara;
+    private final AtomicLong cola = new AtomicLong();
+    private final AtomicInteger productoresActivos = new AtomicInteger();
+
+    /** Posición del consumidor; solo la escribe el hilo consumidor. */
+    private volatile long cabeza;
+    private volatile boolean cerrado;
+
+    /**
+     * @param capacidad número de celdas; se redondea a la siguiente potencia de dos
+     */
+    AnilloComandos(int capacidad) {
+        if (capacidad < 2) {
+            throw new IllegalArgumentException("La capacidad del anillo debe ser al menos 2");
+        }
+        this.capacidad = Integer.highestOneBit(capacidad - 1) << 1;
+        this.mascara = this.capacidad - 1;
+        this.tipos = new TipoComando[this.capacidad];
+        this.solicitudes = new Object[this.capacidad];
+        this.futuros = new CompletableFuture<?>[this.capacidad];
+        this.secuencias = new AtomicLongArray(this.capacidad);
+        for (int i = 0; i < this.capacidad; i++) {
+            secuencias.set(i, i);
+        }
+    }
+
+    /**
+     * Publica un comando, esperando si el anillo está lleno.
+     *
+     * @return false si el anillo ya estaba cerrado (el comando no se publicó)
+     */
+    boolean publicar(TipoComando tipo, Object solicitud, CompletableFuture<?> futuro) {
+        // El contador de productores y la bandera de cierre se leen en orden
+        // inverso al del consumidor, así ninguno de los dos se pierde un comando
+        productoresActivos.incrementAndGet();
+        try {
+            if (cerrado) {
+                return false;
+            }
+            int intentos = 0;
+            while (true) {
+                long posicion = cola.get();
+                int indice = (int) (posicion & mascara);
+                long diferencia = secuencias.getAcquire(indice) - posicion;
+                if (diferencia == 0) {
+                    if (cola.compareAndSet(posicion, posicion + 1)) {
+                        tipos[indice] = tipo;
+                        solicitudes[indice] = solicitud;
+                        futuros[indice] = futuro;
+                        secuencias.setRelease(indice, posicion + 1);
+                        return true;
+                    }
+                } else if (diferencia < 0) {
+                    esperarConBackoff(intentos++);
+                }
+            }
+        } finally {
+            productoresActivos.decrementAndGet();
+        }
+    }
+
+    /**
+     * Cantidad de comandos publicados consecutivos a partir de la cabeza, hasta {@code maximo}.
+     */
+    int disponibles(int maximo) {
+        long inicio = cabeza;
+        long fin = inicio;
+        while (fin - inicio < maximo && secuencias.getAcquire((int) (fin & mascara)) == fin + 1) {
+            fin++;
+        }
+        return (int) (fin - inicio);
+    }
+
+    boolean hayDisponible() {
+        long posicion = cabeza;
+        return secuencias.getAcquire((int) (posicion & mascara)) == posicion + 1;
+    }
+
+    long getCabeza() {
+        return cabeza;
+    }
+
+    TipoComando tipo(long posicion) {
+        return tipos[(int) (posicion & mascara)];
+    }
+
+    Object solicitud(long posicion) {
+        return solicitudes[(int) (posicion & mascara)];
+    }
+
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Object> futuro(long posicion) {
+        return (CompletableFuture<Object>) futuros[(int) (posicion & mascara)];
+    }
+
+    /**
+     * Limpia la celda de la cabeza, la devuelve a los productores y avanza la cabeza.
+     */
+    void liberar(long posicion) {
+        int indice = (int) (posicion & mascara);
+        tipos[indice] = null;
+        solicitudes[indice] = null;
+        futuros[indice] = null;
+        secuencias.setRelease(indice, posicion + capacidad);
+        cabeza = posicion + 1;
+    }
+
+    void cerrar() {
+        cerrado = true;
+    }
+
+    /**
+     * Cerrado, sin productores en curso y sin comandos pendientes.
+     */
+    boolean terminado() {
+        return cerrado && productoresActivos.get() == 0 && !hayDisponible();
+    }
+
+    int getCapacidad() {
+        return capacidad;
+    }
+
+    static void esperarConBackoff(int intentos) {
+        if (intentos < GIROS_ANTES_DE_CEDER) {
+            Thread.onSpinWait();
+        } else if (intentos < 2 * GIROS_ANTES_DE_CEDER) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(ESPERA_LLENO_NANOS);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.wallet.infrastructure.ejecucion;
+
+/**
+ * Receptor del orden determinista de comandos (por ejemplo, un journal en disco).
+ *
+ * El ejecutor secuencial lo invoca desde su único hilo, antes de aplicar cada
+ * lote, con números de secuencia consecutivos. Reproducir los comandos en ese
+ * orden sobre el mismo estado inicial produce el mismo estado final.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public interface DiarioComandos {
+
+    /** Diario que no registra nada. */
+    DiarioComandos NINGUNO = (secuencia, tipo, solicitud) -> { };
+
+    /**
+     * Registra un comando aceptado.
+     *
+     * @param secuencia número de secuencia global, empezando en 1 y sin huecos
+     * @param tipo tipo de comando
+     * @param solicitud request original (DepositarDineroRequest, RetirarDineroRequest,
+     *                  TransferirDineroRequest, RegistrarAsientoRequest, PagoMasivoRequest,
+     *                  RetenerFondosRequest, CapturarRetencionRequest, LiberarRetencionRequest
+     *                  o DesactivarCuentaRequest)
+     */
+    void registrar(long secuencia, TipoComando tipo, Object solicitud);
+
+    /**
+     * Indica que terminó un lote; punto adecuado para hacer flush.
+     * Los comandos del lote se aplican después de esta llamada.
+     */
+    default void finDeLote(long ultimaSecuencia) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.wallet.infrastructure.ejecucion;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.PagoMasivoDTO;
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.CapturarRetencionRequest;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.DesactivarCuentaRequest;
+import com.wallet.application.dtos.requests.LiberarRetencionRequest;
+import com.wallet.application.dtos.requests.PagoMasivoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
+import com.wallet.application.dtos.requests.RetenerFondosRequest;
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.usecases.CapturarRetencionUseCase;
+import com.wallet.application.usecases.DepositarDineroUseCase;
+import com.wallet.application.usecases.DesactivarCuentaUseCase;
+import com.wallet.application.usecases.LiberarRetencionUseCase;
+import com.wallet.application.usecases.RealizarPagoMasivoUseCase;
+import com.wallet.application.usecases.RegistrarAsientoUseCase;
+import com.wallet.application.usecases.RetenerFondosUseCase;
+import com.wallet.application.usecases.RetirarDineroUseCase;
+import com.wallet.application.usecases.TransferirDineroUseCase;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta cada operación en el hilo del llamador, sin encolarla.
+ * Es el modo por defecto de los servicios.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class EjecutorDirecto implements EjecutorOperaciones {
+
+    private final DepositarDineroUseCase depositarDineroUseCase;
+    private final RetirarDineroUseCase retirarDineroUseCase;
+    private final TransferirDineroUseCase transferirDineroUseCase;
+    private final RegistrarAsientoUseCase registrarAsientoUseCase;
+    private final RealizarPagoMasivoUseCase realizarPagoMasivoUseCase;
+    private final RetenerFondosUseCase retenerFondosUseCase;
+    private final CapturarRetencionUseCase capturarRetencionUseCase;
+    private final LiberarRetencionUseCase liberarRetencionUseCase;
+    private final DesactivarCuentaUseCase desactivarCuentaUseCase;
+
+    public EjecutorDirecto(ICuentaRepository cuentaRepository, ITransaccionRepository transaccionRepository) {
+        this.depositarDineroUseCase = new DepositarDineroUseCase(cuentaRepository, transaccionRepository);
+        this.retirarDineroUseCase = new RetirarDineroUseCase(
+            cuentaRepository, transaccionRepository, RepositoryFactory.getLimitesVelocidadRepository());
+        this.transferirDineroUseCase = new TransferirDineroUseCase(
+            cuentaRepository, transaccionRepository, RepositoryFactory.getLimitesVelocidadRepository());
+        this.registrarAsientoUseCase = new RegistrarAsientoUseCase(cuentaRepository, transaccionRepository);
+        this.realizarPagoMasivoUseCase = new RealizarPagoMasivoUseCase(cuentaRepository, transaccionRepository);
+        this.retenerFondosUseCase = new RetenerFondosUseCase(cuentaRepository);
+        this.capturarRetencionUseCase = new CapturarRetencionUseCase(cuentaRepository, transaccionRepository);
+        this.liberarRetencionUseCase = new LiberarRetencionUseCase(cuentaRepository);
+        this.desactivarCuentaUseCase = new DesactivarCuentaUseCase(cuentaRepository);
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> depositar(DepositarDineroRequest request) {
+        return ejecutar(() -> depositarDineroUseCase.ejecutar(request));
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> retirar(RetirarDineroRequest request) {
+        return ejecutar(() -> retirarDineroUseCase.ejecutar(request));
+    }
+
+    @Override
+    public CompletableFuture<List<TransaccionDTO>> transferir(TransferirDineroRequest request) {
+        return ejecutar(() -> transferirDineroUseCase.ejecutar(request));
+    }
+
+    @Override
+    public CompletableFuture<AsientoDTO> registrarAsiento(RegistrarAsientoRequest request) {
+        return ejecutar(() -> registrarAsientoUseCase.ejecutar(request));
+    }
+
+    @Override
+    public CompletableFuture<PagoMasivoDTO> pagoMasivo(PagoMasivoRequest request) {
+        return ejecutar(() -> realizarPagoMasivoUseCase.ejecutar(request));
+    }
+
+    @Override
+    public CompletableFuture<RetencionDTO> retener(RetenerFondosRequest request) {
+        return ejecutar(() -> retenerFondosUseCase.ejecutar(request));
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> capturarRetencion(CapturarRetencionRequest request) {
+        return ejecutar(() -> capturarRetencionUseCase.ejecutar(request));
+    }
+
+    @Override
+    public CompletableFuture<RetencionDTO> liberarRetencion(LiberarRetencionRequest request) {
+        return ejecutar(() -> liberarRetencionUseCase.ejecutar(request));
+    }
+
+    @Override
+    public CompletableFuture<CuentaDTO> desactivar(DesactivarCuentaRequest request) {
+        return ejecutar(() -> desactivarCuentaUseCase.ejecutar(request));
+    }
+
+    private static <T> CompletableFuture<T> ejecutar(Supplier<T> operacion) {
+        try {
+            return CompletableFuture.completedFuture(operacion.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.wallet.infrastructure.ejecucion;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.PagoMasivoDTO;
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.CapturarRetencionRequest;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.DesactivarCuentaRequest;
+import com.wallet.application.dtos.requests.LiberarRetencionRequest;
+import com.wallet.application.dtos.requests.PagoMasivoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
+import com.wallet.application.dtos.requests.RetenerFondosRequest;
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Estrategia de ejecución de las operaciones que modifican saldos.
+ *
+ * Los servicios delegan depósitos, retiros, transferencias, asientos, pagos
+ * masivos, retenciones de fondos y desactivaciones de cuentas en un ejecutor;
+ * la implementación decide en qué hilo y en qué orden se aplican. El resultado
+ * se entrega siempre como futuro, aunque la operación ya se haya completado.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public interface EjecutorOperaciones {
+
+    CompletableFuture<TransaccionDTO> depositar(DepositarDineroRequest request);
+
+    CompletableFuture<TransaccionDTO> retirar(RetirarDineroRequest request);
+
+    /**
+     * @return futuro con ambas transacciones (envío y recepción)
+     */
+    CompletableFuture<List<TransaccionDTO>> transferir(TransferirDineroRequest request);
+
+    /**
+     * @return futuro con el asiento completo; si alguna partida falla no se
+     *         aplica ninguna
+     */
+    CompletableFuture<AsientoDTO> registrarAsiento(RegistrarAsientoRequest request);
+
+    /**
+     * @return futuro con el resultado de cada destinatario; si el origen no
+     *         cubre el total no se paga a ninguno
+     */
+    CompletableFuture<PagoMasivoDTO> pagoMasivo(PagoMasivoRequest request);
+
+    /**
+     * @return futuro con la retención creada; pasa por el ejecutor porque
+     *         reduce el saldo disponible que verifican los retiros
+     */
+    CompletableFuture<RetencionDTO> retener(RetenerFondosRequest request);
+
+    /**
+     * @return futuro con el retiro que registra lo capturado
+     */
+    CompletableFuture<TransaccionDTO> capturarRetencion(CapturarRetencionRequest request);
+
+    /**
+     * @return futuro con la retención liberada o vencida
+     */
+    CompletableFuture<RetencionDTO> liberarRetencion(LiberarRetencionRequest request);
+
+    /**
+     * @return futuro con la cuenta desactivada; pasa por el ejecutor para no
+     *         pisar un cambio de saldo en curso al guardar la cuenta
+     */
+    CompletableFuture<CuentaDTO> desactivar(DesactivarCuentaRequest request);
+
+    /**
+     * Arranca los hilos propios, si los hay. Se llama una vez, antes de
+     * esperar el resultado de cualquier operación.
+     */
+    default void iniciar() {
+    }
+
+    /**
+     * Deja de aceptar operaciones y libera los hilos propios, si los hay.
+     * Las operaciones ya aceptadas se completan antes de retornar.
+     */
+    default void cerrar() {
+    }
+
+    /**
+     * Espera el resultado de un futuro relanzando la excepción original de la
+     * operación, para que los llamadores síncronos vean las mismas excepciones
+     * de dominio que con la ejecución directa.
+     */
+    static <T> T esperar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw e;
+        }
+    }
+}
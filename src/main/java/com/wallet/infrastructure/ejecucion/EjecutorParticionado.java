@@ -0,0 +1,304 @@
+package com.wallet.infrastructure.ejecucion;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.PagoMasivoDTO;
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.CapturarRetencionRequest;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.DesactivarCuentaRequest;
+import com.wallet.application.dtos.requests.LiberarRetencionRequest;
+import com.wallet.application.dtos.requests.PagoMasivoRequest;
+import com.wallet.application.dtos.requests.PartidaAsientoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
+import com.wallet.application.dtos.requests.RetenerFondosRequest;
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.usecases.CapturarRetencionUseCase;
+import com.wallet.application.usecases.DepositarDineroUseCase;
+import com.wallet.application.usecases.DesactivarCuentaUseCase;
+import com.wallet.application.usecases.LiberarRetencionUseCase;
+import com.wallet.application.usecases.RealizarPagoMasivoUseCase;
+import com.wallet.application.usecases.RegistrarAsientoUseCase;
+import com.wallet.application.usecases.RetenerFondosUseCase;
+import com.wallet.application.usecases.RetirarDineroUseCase;
+import com.wallet.application.usecases.TransferirDineroUseCase;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ejecutor particionado: las cuentas se reparten por hash de su ID entre N
+ * particiones, y cada partición es la única que modifica sus cuentas, desde
+ * un hilo propio. Las operaciones de una misma partición no toman locks.
+ *
+ * Depósitos y retiros van a la partición de la cuenta. Las transferencias van
+ * a la partición del origen; si el destino es de otra partición se aplican en
+ * dos pasos con mensajes: la partición origen debita y envía un CREDITO, y la
+ * partición destino acredita. Si el crédito falla, el destino devuelve un
+ * REVERSO y el origen reintegra el monto. Cada mensaje se aplica exactamente
+ * una vez: los canales entre particiones son FIFO y los ids crecientes, de modo
+ * que una entrega repetida se reconoce y se descarta.
+ *
+ * Un asiento entre varias cuentas va a la menor de las particiones dueñas de
+ * sus cuentas. Si todas son de la misma se aplica allí; si no, las particiones
+ * involucradas se detienen una tras otra, en orden creciente, y la última
+ * aplica el asiento entero con todas sus cuentas quietas. Como todos los
+ * asientos toman las particiones en el mismo orden, nunca se esperan en
+ * círculo.
+ *
+ * Un pago masivo se reserva y se liquida en la partición del origen; cada
+ * partición acredita a los destinatarios que le pertenecen, todas a la vez.
+ *
+ * Las retenciones de fondos (retener, capturar, liberar) y las
+ * desactivaciones van a la partición de su cuenta, como los retiros.
+ *
+ * Los repositorios se comparten (son thread-safe para claves distintas); la
+ * exclusividad por cuenta la da el enrutamiento.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class EjecutorParticionado implements EjecutorOperaciones {
+
+    private final Particion[] particiones;
+    private final AtomicLong transferenciasEnVuelo = new AtomicLong();
+    private boolean iniciado;
+
+    private final DepositarDineroUseCase depositarDineroUseCase;
+    private final RetirarDineroUseCase retirarDineroUseCase;
+    private final TransferirDineroUseCase transferirDineroUseCase;
+    private final RegistrarAsientoUseCase registrarAsientoUseCase;
+    private final RealizarPagoMasivoUseCase realizarPagoMasivoUseCase;
+    private final RetenerFondosUseCase retenerFondosUseCase;
+    private final CapturarRetencionUseCase capturarRetencionUseCase;
+    private final LiberarRetencionUseCase liberarRetencionUseCase;
+    private final DesactivarCuentaUseCase desactivarCuentaUseCase;
+
+    public EjecutorParticionado(ICuentaRepository cuentaRepository, ITransaccionRepository transaccionRepository,
+                                int particiones) {
+        this(cuentaRepository, transaccionRepository, particiones, 1024);
+    }
+
+    /**
+     * @param particiones cantidad de particiones (un hilo por partición)
+     * @param capacidadPorParticion celdas del anillo de comandos de cada partición
+     */
+    public EjecutorParticionado(ICuentaRepository cuentaRepository, ITransaccionRepository transaccionRepository,
+                                int particiones, int capacidadPorParticion) {
+        if (particiones < 1) {
+            throw new IllegalArgumentException("Debe haber al menos una partición");
+        }
+        this.depositarDineroUseCase = new DepositarDineroUseCase(cuentaRepository, transaccionRepository);
+        this.retirarDineroUseCase = new RetirarDineroUseCase(
+            cuentaRepository, transaccionRepository, RepositoryFactory.getLimitesVelocidadRepository());
+        this.transferirDineroUseCase = new TransferirDineroUseCase(
+            cuentaRepository, transaccionRepository, RepositoryFactory.getLimitesVelocidadRepository());
+        this.registrarAsientoUseCase = new RegistrarAsientoUseCase(cuentaRepository, transaccionRepository);
+        this.realizarPagoMasivoUseCase = new RealizarPagoMasivoUseCase(cuentaRepository, transaccionRepository);
+        this.retenerFondosUseCase = new RetenerFondosUseCase(cuentaRepository);
+        this.capturarRetencionUseCase = new CapturarRetencionUseCase(cuentaRepository, transaccionRepository);
+        this.liberarRetencionUseCase = new LiberarRetencionUseCase(cuentaRepository);
+        this.desactivarCuentaUseCase = new DesactivarCuentaUseCase(cuentaRepository);
+        this.particiones = new Particion[particiones];
+        for (int i = 0; i < particiones; i++) {
+            this.particiones[i] = new Particion(i, particiones, capacidadPorParticion);
+        }
+    }
+
+    /**
+     * Arranca el hilo de cada partición. Hasta entonces las operaciones
+     * aceptadas esperan en los anillos.
+     */
+    @Override
+    public synchronized void iniciar() {
+        if (iniciado) {
+            return;
+        }
+        iniciado = true;
+        for (Particion particion : particiones) {
+            particion.iniciar(this);
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> depositar(DepositarDineroRequest request) {
+        return publicar(request != null ? request.getCuentaId() : null, TipoComando.DEPOSITO, request);
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> retirar(RetirarDineroRequest request) {
+        return publicar(request != null ? request.getCuentaId() : null, TipoComando.RETIRO, request);
+    }
+
+    @Override
+    public CompletableFuture<List<TransaccionDTO>> transferir(TransferirDineroRequest request) {
+        return publicar(request != null ? request.getCuentaOrigenId() : null, TipoComando.TRANSFERENCIA, request);
+    }
+
+    @Override
+    public CompletableFuture<AsientoDTO> registrarAsiento(RegistrarAsientoRequest request) {
+        int[] involucradas = particionesDe(request);
+        return publicarEn(involucradas.length == 0 ? 0 : involucradas[0], TipoComando.ASIENTO, request);
+    }
+
+    @Override
+    public CompletableFuture<PagoMasivoDTO> pagoMasivo(PagoMasivoRequest request) {
+        return publicar(request != null ? request.getCuentaOrigenId() : null, TipoComando.PAGO_MASIVO, request);
+    }
+
+    @Override
+    public CompletableFuture<RetencionDTO> retener(RetenerFondosRequest request) {
+        return publicar(request != null ? request.getCuentaId() : null, TipoComando.RETENCION, request);
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> capturarRetencion(CapturarRetencionRequest request) {
+        return publicar(request != null ? request.getCuentaId() : null, TipoComando.CAPTURA, request);
+    }
+
+    @Override
+    public CompletableFuture<RetencionDTO> liberarRetencion(LiberarRetencionRequest request) {
+        return publicar(request != null ? request.getCuentaId() : null, TipoComando.LIBERACION, request);
+    }
+
+    @Override
+    public CompletableFuture<CuentaDTO> desactivar(DesactivarCuentaRequest request) {
+        return publicar(request != null ? request.getCuentaId() : null, TipoComando.DESACTIVACION, request);
+    }
+
+    @Override
+    public void cerrar() {
+        for (Particion particion : particiones) {
+            particion.cerrar();
+        }
+        try {
+            for (Particion particion : particiones) {
+                particion.esperarTermino();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getParticiones() {
+        return particiones.length;
+    }
+
+    /**
+     * Partición dueña de una cuenta.
+     */
+    public int particionDe(String cuentaId) {
+        int hash = cuentaId.hashCode();
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, particiones.length);
+    }
+
+    /**
+     * Particiones dueñas de las cuentas de un asiento, sin repetir y en orden
+     * creciente. Las partidas sin cuenta se ignoran: las rechaza el caso de uso.
+     */
+    int[] particionesDe(RegistrarAsientoRequest request) {
+        if (request == null || request.getPartidas() == null) {
+            return new int[0];
+        }
+        boolean[] duenias = new boolean[particiones.length];
+        int cantidad = 0;
+        for (PartidaAsientoRequest partida : request.getPartidas()) {
+            String cuentaId = partida != null ? partida.getCuentaId() : null;
+            if (cuentaId != null && !duenias[particionDe(cuentaId)]) {
+                duenias[particionDe(cuentaId)] = true;
+                cantidad++;
+            }
+        }
+        int[] involucradas = new int[cantidad];
+        for (int p = 0, i = 0; p < duenias.length; p++) {
+            if (duenias[p]) {
+                involucradas[i++] = p;
+            }
+        }
+        return involucradas;
+    }
+
+    /**
+     * Mensajes repetidos descartados por la deduplicación (solo como diagnóstico;
+     * se lee sin sincronizar).
+     */
+    public long getDuplicadosDescartados() {
+        long total = 0;
+        for (Particion particion : particiones) {
+            total += particion.getDuplicadosDescartados();
+        }
+        return total;
+    }
+
+    Particion particion(int indice) {
+        return particiones[indice];
+    }
+
+    DepositarDineroUseCase depositarDineroUseCase() {
+        return depositarDineroUseCase;
+    }
+
+    RetirarDineroUseCase retirarDineroUseCase() {
+        return retirarDineroUseCase;
+    }
+
+    TransferirDineroUseCase transferirDineroUseCase() {
+        return transferirDineroUseCase;
+    }
+
+    RegistrarAsientoUseCase registrarAsientoUseCase() {
+        return registrarAsientoUseCase;
+    }
+
+    RealizarPagoMasivoUseCase realizarPagoMasivoUseCase() {
+        return realizarPagoMasivoUseCase;
+    }
+
+    RetenerFondosUseCase retenerFondosUseCase() {
+        return retenerFondosUseCase;
+    }
+
+    CapturarRetencionUseCase capturarRetencionUseCase() {
+        return capturarRetencionUseCase;
+    }
+
+    LiberarRetencionUseCase liberarRetencionUseCase() {
+        return liberarRetencionUseCase;
+    }
+
+    DesactivarCuentaUseCase desactivarCuentaUseCase() {
+        return desactivarCuentaUseCase;
+    }
+
+    void transferenciaIniciada() {
+        transferenciasEnVuelo.incrementAndGet();
+    }
+
+    void transferenciaTerminada() {
+        transferenciasEnVuelo.decrementAndGet();
+    }
+
+    boolean sinTransferenciasEnVuelo() {
+        return transferenciasEnVuelo.get() == 0;
+    }
+
+    private <T> CompletableFuture<T> publicar(String cuentaId, TipoComando tipo, Object solicitud) {
+        // Sin cuenta no hay dueño: cualquier partición sirve para que el caso de uso rechace la solicitud
+        return publicarEn(cuentaId == null ? 0 : particionDe(cuentaId), tipo, solicitud);
+    }
+
+    private <T> CompletableFuture<T> publicarEn(int indice, TipoComando tipo, Object solicitud) {
+        CompletableFuture<T> futuro = new CompletableFuture<>();
+        if (!particiones[indice].publicar(tipo, solicitud, futuro)) {
+            futuro.completeExceptionally(new IllegalStateException("El ejecutor particionado está cerrado"));
+        }
+        return futuro;
+    }
+}
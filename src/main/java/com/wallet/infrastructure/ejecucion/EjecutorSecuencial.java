@@ -0,0 +1,296 @@
+package com.wallet.infrastructure.ejecucion;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.PagoMasivoDTO;
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.CapturarRetencionRequest;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.DesactivarCuentaRequest;
+import com.wallet.application.dtos.requests.LiberarRetencionRequest;
+import com.wallet.application.dtos.requests.PagoMasivoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
+import com.wallet.application.dtos.requests.RetenerFondosRequest;
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.usecases.CapturarRetencionUseCase;
+import com.wallet.application.usecases.DepositarDineroUseCase;
+import com.wallet.application.usecases.DesactivarCuentaUseCase;
+import com.wallet.application.usecases.LiberarRetencionUseCase;
+import com.wallet.application.usecases.RealizarPagoMasivoUseCase;
+import com.wallet.application.usecases.RegistrarAsientoUseCase;
+import com.wallet.application.usecases.RetenerFondosUseCase;
+import com.wallet.application.usecases.RetirarDineroUseCase;
+import com.wallet.application.usecases.TransferirDineroUseCase;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ejecutor de un solo escritor: todos los comandos que modifican saldos pasan
+ * por un buffer circular pre-asignado y los aplica un único hilo, en orden.
+ *
+ * Los productores reservan celdas con CAS, sin locks ({@link AnilloComandos});
+ * si el anillo está lleno esperan con backoff. El hilo consumidor toma en cada
+ * vuelta todos los comandos disponibles hasta un tamaño de lote adaptativo, que se duplica
+ * mientras el anillo se mantiene con trabajo acumulado y se reduce cuando se
+ * vacía. Cada lote se entrega primero al {@link DiarioComandos} y luego se
+ * aplica; el resultado vuelve al llamador a través de su futuro.
+ *
+ * Como un solo hilo muta cuentas y transacciones, las operaciones nunca se
+ * intercalan, y la posición en el anillo define un orden global determinista.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class EjecutorSecuencial implements EjecutorOperaciones {
+
+    private static final int LOTE_MINIMO = 16;
+    private static final long ESPERA_VACIO_NANOS = 1_000_000L;
+
+    private final AnilloComandos anillo;
+    private volatile boolean consumidorEsperando;
+
+    private final DepositarDineroUseCase depositarDineroUseCase;
+    private final RetirarDineroUseCase retirarDineroUseCase;
+    private final TransferirDineroUseCase transferirDineroUseCase;
+    private final RegistrarAsientoUseCase registrarAsientoUseCase;
+    private final RealizarPagoMasivoUseCase realizarPagoMasivoUseCase;
+    private final RetenerFondosUseCase retenerFondosUseCase;
+    private final CapturarRetencionUseCase capturarRetencionUseCase;
+    private final LiberarRetencionUseCase liberarRetencionUseCase;
+    private final DesactivarCuentaUseCase desactivarCuentaUseCase;
+    private final DiarioComandos diario;
+    private volatile Thread consumidor;
+
+    private int loteMaximo = LOTE_MINIMO;
+
+    public EjecutorSecuencial(ICuentaRepository cuentaRepository, ITransaccionRepository transaccionRepository) {
+        this(cuentaRepository, transaccionRepository, 4096, DiarioComandos.NINGUNO);
+    }
+
+    /**
+     * @param capacidad celdas del anillo; se redondea a la siguiente potencia de dos
+     * @param diario receptor del orden de comandos
+     */
+    public EjecutorSecuencial(ICuentaRepository cuentaRepository, ITransaccionRepository transaccionRepository,
+                              int capacidad, DiarioComandos diario) {
+        if (diario == null) {
+            throw new IllegalArgumentException("El diario no puede ser nulo");
+        }
+        this.anillo = new AnilloComandos(capacidad);
+        this.depositarDineroUseCase = new DepositarDineroUseCase(cuentaRepository, transaccionRepository);
+        this.retirarDineroUseCase = new RetirarDineroUseCase(
+            cuentaRepository, transaccionRepository, RepositoryFactory.getLimitesVelocidadRepository());
+        this.transferirDineroUseCase = new TransferirDineroUseCase(
+            cuentaRepository, transaccionRepository, RepositoryFactory.getLimitesVelocidadRepository());
+        this.registrarAsientoUseCase = new RegistrarAsientoUseCase(cuentaRepository, transaccionRepository);
+        this.realizarPagoMasivoUseCase = new RealizarPagoMasivoUseCase(cuentaRepository, transaccionRepository);
+        this.retenerFondosUseCase = new RetenerFondosUseCase(cuentaRepository);
+        this.capturarRetencionUseCase = new CapturarRetencionUseCase(cuentaRepository, transaccionRepository);
+        this.liberarRetencionUseCase = new LiberarRetencionUseCase(cuentaRepository);
+        this.desactivarCuentaUseCase = new DesactivarCuentaUseCase(cuentaRepository);
+        this.diario = diario;
+    }
+
+    /**
+     * Arranca el hilo consumidor. Hasta entonces las operaciones aceptadas
+     * esperan en el anillo.
+     */
+    @Override
+    public synchronized void iniciar() {
+        if (consumidor != null) {
+            return;
+        }
+        Thread nuevo = new Thread(this::consumir, "wallet-secuenciador");
+        nuevo.setDaemon(true);
+        consumidor = nuevo;
+        nuevo.start();
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> depositar(DepositarDineroRequest request) {
+        return publicar(TipoComando.DEPOSITO, request);
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> retirar(RetirarDineroRequest request) {
+        return publicar(TipoComando.RETIRO, request);
+    }
+
+    @Override
+    public CompletableFuture<List<TransaccionDTO>> transferir(TransferirDineroRequest request) {
+        return publicar(TipoComando.TRANSFERENCIA, request);
+    }
+
+    @Override
+    public CompletableFuture<AsientoDTO> registrarAsiento(RegistrarAsientoRequest request) {
+        return publicar(TipoComando.ASIENTO, request);
+    }
+
+    @Override
+    public CompletableFuture<PagoMasivoDTO> pagoMasivo(PagoMasivoRequest request) {
+        return publicar(TipoComando.PAGO_MASIVO, request);
+    }
+
+    @Override
+    public CompletableFuture<RetencionDTO> retener(RetenerFondosRequest request) {
+        return publicar(TipoComando.RETENCION, request);
+    }
+
+    @Override
+    public CompletableFuture<TransaccionDTO> capturarRetencion(CapturarRetencionRequest request) {
+        return publicar(TipoComando.CAPTURA, request);
+    }
+
+    @Override
+    public CompletableFuture<RetencionDTO> liberarRetencion(LiberarRetencionRequest request) {
+        return publicar(TipoComando.LIBERACION, request);
+    }
+
+    @Override
+    public CompletableFuture<CuentaDTO> desactivar(DesactivarCuentaRequest request) {
+        return publicar(TipoComando.DESACTIVACION, request);
+    }
+
+    @Override
+    public void cerrar() {
+        anillo.cerrar();
+        Thread actual = consumidor;
+        if (actual == null) {
+            return;
+        }
+        LockSupport.unpark(actual);
+        try {
+            actual.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Cantidad de comandos aplicados desde el inicio (también es la última secuencia asignada a un
+     * comando ya aplicado).
+     */
+    public long getComandosAplicados() {
+        return anillo.getCabeza();
+    }
+
+    public int getCapacidad() {
+        return anillo.getCapacidad();
+    }
+
+    private <T> CompletableFuture<T> publicar(TipoComando tipo, Object solicitud) {
+        CompletableFuture<T> futuro = new CompletableFuture<>();
+        if (!anillo.publicar(tipo, solicitud, futuro)) {
+            futuro.completeExceptionally(new IllegalStateException("El ejecutor secuencial está cerrado"));
+            return futuro;
+        }
+        if (consumidorEsperando) {
+            LockSupport.unpark(consumidor);
+        }
+        return futuro;
+    }
+
+    private void consumir() {
+        int intentos = 0;
+        while (true) {
+            int aplicados = procesarLote();
+            if (aplicados > 0) {
+                intentos = 0;
+                continue;
+            }
+            if (anillo.terminado()) {
+                return;
+            }
+            if (intentos++ < AnilloComandos.GIROS_ANTES_DE_CEDER) {
+                Thread.onSpinWait();
+                continue;
+            }
+            consumidorEsperando = true;
+            if (!anillo.hayDisponible() && !anillo.terminado()) {
+                LockSupport.parkNanos(this, ESPERA_VACIO_NANOS);
+            }
+            consumidorEsperando = false;
+        }
+    }
+
+    /**
+     * Toma los comandos publicados consecutivos (hasta el lote máximo),
+     * los registra en el diario y luego los aplica.
+     */
+    private int procesarLote() {
+        int tamanio = anillo.disponibles(loteMaximo);
+        if (tamanio == 0) {
+            return 0;
+        }
+        long inicio = anillo.getCabeza();
+        long fin = inicio + tamanio;
+        try {
+            for (long posicion = inicio; posicion < fin; posicion++) {
+                diario.registrar(posicion + 1, anillo.tipo(posicion), anillo.solicitud(posicion));
+            }
+            diario.finDeLote(fin);
+        } catch (RuntimeException e) {
+            Logger.error("Error al registrar el lote en el diario", e);
+        }
+        for (long posicion = inicio; posicion < fin; posicion++) {
+            TipoComando tipo = anillo.tipo(posicion);
+            Object solicitud = anillo.solicitud(posicion);
+            CompletableFuture<Object> futuro = anillo.futuro(posicion);
+            anillo.liberar(posicion);
+            // Se completa después de liberar la celda: las continuaciones del
+            // llamador corren en este hilo y no deben ver la celda ocupada
+            try {
+                futuro.complete(ejecutar(tipo, solicitud));
+            } catch (RuntimeException e) {
+                futuro.completeExceptionally(e);
+            }
+        }
+        ajustarLote(tamanio);
+        return tamanio;
+    }
+
+    /**
+     * Duplica el lote si se llenó (hay trabajo acumulado) y lo reduce a la
+     * mitad si quedó muy por debajo, entre {@link #LOTE_MINIMO} y la capacidad.
+     */
+    private void ajustarLote(int tamanio) {
+        if (tamanio == loteMaximo) {
+            loteMaximo = Math.min(anillo.getCapacidad(), loteMaximo << 1);
+        } else if (tamanio < loteMaximo >> 2) {
+            loteMaximo = Math.max(LOTE_MINIMO, loteMaximo >> 1);
+        }
+    }
+
+    private Object ejecutar(TipoComando tipo, Object solicitud) {
+        switch (tipo) {
+            case DEPOSITO:
+                return depositarDineroUseCase.ejecutar((DepositarDineroRequest) solicitud);
+            case RETIRO:
+                return retirarDineroUseCase.ejecutar((RetirarDineroRequest) solicitud);
+            case TRANSFERENCIA:
+                return transferirDineroUseCase.ejecutar((TransferirDineroRequest) solicitud);
+            case ASIENTO:
+                return registrarAsientoUseCase.ejecutar((RegistrarAsientoRequest) solicitud);
+            case PAGO_MASIVO:
+                return realizarPagoMasivoUseCase.ejecutar((PagoMasivoRequest) solicitud);
+            case RETENCION:
+                return retenerFondosUseCase.ejecutar((RetenerFondosRequest) solicitud);
+            case CAPTURA:
+                return capturarRetencionUseCase.ejecutar((CapturarRetencionRequest) solicitud);
+            case LIBERACION:
+                return liberarRetencionUseCase.ejecutar((LiberarRetencionRequest) solicitud);
+            case DESACTIVACION:
+                return desactivarCuentaUseCase.ejecutar((DesactivarCuentaRequest) solicitud);
+            default:
+                throw new IllegalStateException("Tipo de comando no soportado: " + tipo);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.wallet.infrastructure.ejecucion;
+
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Mensaje entre particiones para una transferencia entre cuentas de distinto dueño.
+ *
+ * - CREDITO: del origen al destino, una vez debitado el origen.
+ * - REVERSO: del destino al origen, si el crédito no pudo aplicarse.
+ * - TAREA: un paso de una operación de varias cuentas (un pago masivo o un
+ *   asiento entre particiones) que debe correr en el hilo dueño de las
+ *   cuentas que modifica. No lleva id: se encola una sola vez y no se
+ *   deduplica.
+ *
+ * El identificador lo asigna la partición origen de forma creciente; junto con
+ * el orden FIFO de cada canal permite descartar entregas repetidas.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+final class MensajeParticion {
+
+    enum Tipo {
+        CREDITO,
+        REVERSO,
+        TAREA
+    }
+
+    final Tipo tipo;
+    final long idTransferencia;
+    final int remitente;
+    final TransferirDineroRequest request;
+    final TransaccionDTO enviada;
+    final CompletableFuture<List<TransaccionDTO>> futuro;
+    final RuntimeException causa;
+    final Runnable tarea;
+
+    private MensajeParticion(Tipo tipo, long idTransferencia, int remitente, TransferirDineroRequest request,
+                             TransaccionDTO enviada, CompletableFuture<List<TransaccionDTO>> futuro,
+                             RuntimeException causa, Runnable tarea) {
+        this.tipo = tipo;
+        this.idTransferencia = idTransferencia;
+        this.remitente = remitente;
+        this.request = request;
+        this.enviada = enviada;
+        this.futuro = futuro;
+        this.causa = causa;
+        this.tarea = tarea;
+    }
+
+    static MensajeParticion credito(long idTransferencia, int origen, TransferirDineroRequest request,
+                                    TransaccionDTO enviada, CompletableFuture<List<TransaccionDTO>> futuro) {
+        return new MensajeParticion(Tipo.CREDITO, idTransferencia, origen, request, enviada, futuro, null, null);
+    }
+
+    static MensajeParticion reverso(MensajeParticion credito, int destino, RuntimeException causa) {
+        return new MensajeParticion(Tipo.REVERSO, credito.idTransferencia, destino, credito.request,
+            credito.enviada, credito.futuro, causa, null);
+    }
+
+    static MensajeParticion tarea(Runnable tarea) {
+        return new MensajeParticion(Tipo.TAREA, 0, -1, null, null, null, null, tarea);
+    }
+}
@@ -0,0 +1,384 @@
+package com.wallet.infrastructure.ejecucion;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.PagoMasivoDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.CapturarRetencionRequest;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.DesactivarCuentaRequest;
+import com.wallet.application.dtos.requests.LiberarRetencionRequest;
+import com.wallet.application.dtos.requests.PagoMasivoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
+import com.wallet.application.dtos.requests.RetenerFondosRequest;
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.usecases.RealizarPagoMasivoUseCase;
+import com.wallet.infrastructure.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Partición del motor particionado: un hilo dueño de un subconjunto de cuentas.
+ *
+ * Recibe comandos de los clientes por un {@link AnilloComandos} acotado y
+ * mensajes de otras particiones por un buzón sin límite (lock-free). El buzón
+ * no puede llenarse para que dos particiones que se envían créditos entre sí
+ * nunca se bloqueen mutuamente; su tamaño queda acotado por las transferencias
+ * en vuelo, que a su vez provienen de los anillos.
+ *
+ * Todo el estado mutable de la partición (contadores y marcas de deduplicación)
+ * lo toca solo su hilo, por lo que no usa locks.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+final class Particion {
+
+    private static final int LOTE = 256;
+    private static final long ESPERA_VACIO_NANOS = 1_000_000L;
+
+    private final int indice;
+    private EjecutorParticionado motor;
+    private final AnilloComandos anillo;
+    private final Queue<MensajeParticion> buzon = new ConcurrentLinkedQueue<>();
+    private volatile Thread hilo;
+    private volatile boolean esperando;
+
+    /** Último id de transferencia creado por esta partición. */
+    private long ultimaTransferencia;
+    /** Por partición origen: último crédito aplicado (los ids llegan en orden). */
+    private final long[] ultimoCreditoAplicado;
+    /** Por partición destino: último reverso aplicado. */
+    private final long[] ultimoReversoAplicado;
+    private long duplicadosDescartados;
+
+    Particion(int indice, int particiones, int capacidad) {
+        this.indice = indice;
+        this.anillo = new AnilloComandos(capacidad);
+        this.ultimoCreditoAplicado = new long[particiones];
+        this.ultimoReversoAplicado = new long[particiones];
+    }
+
+    /**
+     * Arranca el hilo dueño. Los comandos publicados antes esperan en el anillo.
+     */
+    void iniciar(EjecutorParticionado motor) {
+        this.motor = motor;
+        Thread nuevo = new Thread(this::ejecutar, "wallet-particion-" + indice);
+        nuevo.setDaemon(true);
+        hilo = nuevo;
+        nuevo.start();
+    }
+
+    boolean publicar(TipoComando tipo, Object solicitud, CompletableFuture<?> futuro) {
+        if (!anillo.publicar(tipo, solicitud, futuro)) {
+            return false;
+        }
+        despertar();
+        return true;
+    }
+
+    /**
+     * Entrega un mensaje de otra partición. Nunca bloquea.
+     */
+    void entregar(MensajeParticion mensaje) {
+        buzon.offer(mensaje);
+        despertar();
+    }
+
+    void cerrar() {
+        anillo.cerrar();
+        LockSupport.unpark(hilo);
+    }
+
+    void esperarTermino() throws InterruptedException {
+        Thread actual = hilo;
+        if (actual != null) {
+            actual.join();
+        }
+    }
+
+    long getDuplicadosDescartados() {
+        return duplicadosDescartados;
+    }
+
+    private void despertar() {
+        if (esperando) {
+            LockSupport.unpark(hilo);
+        }
+    }
+
+    private void ejecutar() {
+        int intentos = 0;
+        while (true) {
+            // Primero los mensajes de otras particiones: liberan transferencias en vuelo
+            int procesados = procesarBuzon() + procesarAnillo();
+            if (procesados > 0) {
+                intentos = 0;
+                continue;
+            }
+            if (terminado()) {
+                return;
+            }
+            if (intentos++ < AnilloComandos.GIROS_ANTES_DE_CEDER) {
+                Thread.onSpinWait();
+                continue;
+            }
+            esperando = true;
+            if (buzon.isEmpty() && !anillo.hayDisponible() && !terminado()) {
+                LockSupport.parkNanos(this, ESPERA_VACIO_NANOS);
+            }
+            esperando = false;
+        }
+    }
+
+    private boolean terminado() {
+        return anillo.terminado() && buzon.isEmpty() && motor.sinTransferenciasEnVuelo();
+    }
+
+    private int procesarBuzon() {
+        int procesados = 0;
+        MensajeParticion mensaje;
+        while (procesados < LOTE && (mensaje = buzon.poll()) != null) {
+            switch (mensaje.tipo) {
+                case CREDITO:
+                    aplicarCredito(mensaje);
+                    break;
+                case REVERSO:
+                    aplicarReverso(mensaje);
+                    break;
+                default:
+                    mensaje.tarea.run();
+            }
+            procesados++;
+        }
+        return procesados;
+    }
+
+    private int procesarAnillo() {
+        int tamanio = anillo.disponibles(LOTE);
+        long inicio = anillo.getCabeza();
+        for (long posicion = inicio; posicion < inicio + tamanio; posicion++) {
+            TipoComando tipo = anillo.tipo(posicion);
+            Object solicitud = anillo.solicitud(posicion);
+            CompletableFuture<Object> futuro = anillo.futuro(posicion);
+            anillo.liberar(posicion);
+            try {
+                aplicarComando(tipo, solicitud, futuro);
+            } catch (RuntimeException e) {
+                futuro.completeExceptionally(e);
+            }
+        }
+        return tamanio;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void aplicarComando(TipoComando tipo, Object solicitud, CompletableFuture<Object> futuro) {
+        switch (tipo) {
+            case DEPOSITO:
+                futuro.complete(motor.depositarDineroUseCase().ejecutar((DepositarDineroRequest) solicitud));
+                break;
+            case RETIRO:
+                futuro.complete(motor.retirarDineroUseCase().ejecutar((RetirarDineroRequest) solicitud));
+                break;
+            case TRANSFERENCIA:
+                iniciarTransferencia((TransferirDineroRequest) solicitud,
+                    (CompletableFuture<List<TransaccionDTO>>) (CompletableFuture) futuro);
+                break;
+            case ASIENTO:
+                iniciarAsiento((RegistrarAsientoRequest) solicitud,
+                    (CompletableFuture<AsientoDTO>) (CompletableFuture) futuro);
+                break;
+            case PAGO_MASIVO:
+                iniciarPagoMasivo((PagoMasivoRequest) solicitud,
+                    (CompletableFuture<PagoMasivoDTO>) (CompletableFuture) futuro);
+                break;
+            case RETENCION:
+                futuro.complete(motor.retenerFondosUseCase().ejecutar((RetenerFondosRequest) solicitud));
+                break;
+            case CAPTURA:
+                futuro.complete(motor.capturarRetencionUseCase().ejecutar((CapturarRetencionRequest) solicitud));
+                break;
+            case LIBERACION:
+                futuro.complete(motor.liberarRetencionUseCase().ejecutar((LiberarRetencionRequest) solicitud));
+                break;
+            case DESACTIVACION:
+                futuro.complete(motor.desactivarCuentaUseCase().ejecutar((DesactivarCuentaRequest) solicitud));
+                break;
+            default:
+                throw new IllegalStateException("Tipo de comando no soportado: " + tipo);
+        }
+    }
+
+    /**
+     * Transferencia recibida por la partición dueña del origen. Si el destino
+     * también es propio se aplica completa; si no, se debita aquí y se envía
+     * el crédito a la partición del destino.
+     */
+    private void iniciarTransferencia(TransferirDineroRequest request,
+                                      CompletableFuture<List<TransaccionDTO>> futuro) {
+        int destino = motor.particionDe(request.getCuentaDestinoId());
+        if (destino == indice) {
+            futuro.complete(motor.transferirDineroUseCase().ejecutar(request));
+            return;
+        }
+        TransaccionDTO enviada = motor.transferirDineroUseCase().debitar(request);
+        motor.transferenciaIniciada();
+        motor.particion(destino).entregar(
+            MensajeParticion.credito(++ultimaTransferencia, indice, request, enviada, futuro));
+    }
+
+    /**
+     * Pago masivo recibido por la partición dueña del origen: reserva el total
+     * aquí, envía a cada partición los destinatarios que le pertenecen para
+     * que los acredite en su hilo y, cuando terminaron todas, liquida aquí.
+     * Mientras tanto el pago cuenta como transferencia en vuelo, para que el
+     * cierre lo espere.
+     */
+    private void iniciarPagoMasivo(PagoMasivoRequest request, CompletableFuture<PagoMasivoDTO> futuro) {
+        RealizarPagoMasivoUseCase useCase = motor.realizarPagoMasivoUseCase();
+        RealizarPagoMasivoUseCase.Reserva reserva = useCase.reservar(request);
+
+        int[] porParticion = new int[motor.getParticiones()];
+        int[] particionDe = new int[reserva.getCantidad()];
+        for (int i = 0; i < particionDe.length; i++) {
+            particionDe[i] = reserva.esAcreditable(i) ? motor.particionDe(reserva.getCuentaDestinoId(i)) : -1;
+            if (particionDe[i] >= 0) {
+                porParticion[particionDe[i]]++;
+            }
+        }
+        int[][] posiciones = new int[porParticion.length][];
+        for (int p = 0; p < posiciones.length; p++) {
+            posiciones[p] = new int[porParticion[p]];
+            porParticion[p] = 0;
+        }
+        for (int i = 0; i < particionDe.length; i++) {
+            if (particionDe[i] >= 0) {
+                posiciones[particionDe[i]][porParticion[particionDe[i]]++] = i;
+            }
+        }
+
+        motor.transferenciaIniciada();
+        List<CompletableFuture<Void>> partes = new ArrayList<>();
+        for (int p = 0; p < posiciones.length; p++) {
+            if (posiciones[p].length == 0) {
+                continue;
+            }
+            if (p == indice) {
+                useCase.acreditar(reserva, posiciones[p]);
+                continue;
+            }
+            CompletableFuture<Void> parte = new CompletableFuture<>();
+            int[] propias = posiciones[p];
+            motor.particion(p).entregar(MensajeParticion.tarea(() -> {
+                try {
+                    useCase.acreditar(reserva, propias);
+                } finally {
+                    parte.complete(null);
+                }
+            }));
+            partes.add(parte);
+        }
+        CompletableFuture.allOf(partes.toArray(new CompletableFuture<?>[0])).whenComplete((ignorado, error) ->
+            entregar(MensajeParticion.tarea(() -> {
+                try {
+                    futuro.complete(useCase.liquidar(reserva));
+                } catch (RuntimeException e) {
+                    Logger.error("No se pudo liquidar el pago masivo de la cuenta " + request.getCuentaOrigenId(), e);
+                    futuro.completeExceptionally(e);
+                } finally {
+                    motor.transferenciaTerminada();
+                }
+            })));
+    }
+
+    /**
+     * Asiento recibido por la menor de las particiones dueñas de sus cuentas.
+     * Si todas son propias se aplica aquí. Si no, esta partición pasa el
+     * asiento a la siguiente involucrada y se detiene; cada una hace lo mismo
+     * hasta la última, que lo aplica con todas las cuentas quietas y libera a
+     * las demás. Mientras tanto el asiento cuenta como transferencia en vuelo,
+     * para que el cierre lo espere.
+     */
+    private void iniciarAsiento(RegistrarAsientoRequest request, CompletableFuture<AsientoDTO> futuro) {
+        int[] involucradas = motor.particionesDe(request);
+        if (involucradas.length <= 1) {
+            futuro.complete(motor.registrarAsientoUseCase().ejecutar(request));
+            return;
+        }
+        motor.transferenciaIniciada();
+        tomarParaAsiento(request, futuro, involucradas, 0, new CountDownLatch(1));
+    }
+
+    private void tomarParaAsiento(RegistrarAsientoRequest request, CompletableFuture<AsientoDTO> futuro,
+                                  int[] involucradas, int posicion, CountDownLatch aplicado) {
+        if (posicion == involucradas.length - 1) {
+            try {
+                futuro.complete(motor.registrarAsientoUseCase().ejecutar(request));
+            } catch (RuntimeException e) {
+                futuro.completeExceptionally(e);
+            } finally {
+                motor.transferenciaTerminada();
+                aplicado.countDown();
+            }
+            return;
+        }
+        Particion siguiente = motor.particion(involucradas[posicion + 1]);
+        siguiente.entregar(MensajeParticion.tarea(() ->
+            siguiente.tomarParaAsiento(request, futuro, involucradas, posicion + 1, aplicado)));
+        // Quieta hasta que la última partición aplique el asiento
+        boolean interrumpida = false;
+        while (true) {
+            try {
+                aplicado.await();
+                break;
+            } catch (InterruptedException e) {
+                interrumpida = true;
+            }
+        }
+        if (interrumpida) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void aplicarCredito(MensajeParticion mensaje) {
+        if (mensaje.idTransferencia <= ultimoCreditoAplicado[mensaje.remitente]) {
+            duplicadosDescartados++;
+            return;
+        }
+        ultimoCreditoAplicado[mensaje.remitente] = mensaje.idTransferencia;
+        TransaccionDTO recibida;
+        try {
+            recibida = motor.transferirDineroUseCase().acreditar(mensaje.request);
+        } catch (RuntimeException e) {
+            motor.particion(mensaje.remitente).entregar(MensajeParticion.reverso(mensaje, indice, e));
+            return;
+        }
+        motor.transferenciaTerminada();
+        List<TransaccionDTO> resultado = new ArrayList<>(2);
+        resultado.add(mensaje.enviada);
+        resultado.add(recibida);
+        mensaje.futuro.complete(resultado);
+    }
+
+    private void aplicarReverso(MensajeParticion mensaje) {
+        if (mensaje.idTransferencia <= ultimoReversoAplicado[mensaje.remitente]) {
+            duplicadosDescartados++;
+            return;
+        }
+        ultimoReversoAplicado[mensaje.remitente] = mensaje.idTransferencia;
+        try {
+            motor.transferirDineroUseCase().revertirDebito(mensaje.request, mensaje.causa.getMessage());
+        } catch (RuntimeException e) {
+            Logger.error("No se pudo revertir el débito de la transferencia " + mensaje.idTransferencia, e);
+        }
+        motor.transferenciaTerminada();
+        mensaje.futuro.completeExceptionally(mensaje.causa);
+    }
+}
@@ -0,0 +1,19 @@
+package com.wallet.infrastructure.ejecucion;
+
+/**
+ * Tipos de comando que modifican saldos.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public enum TipoComando {
+    DEPOSITO,
+    RETIRO,
+    TRANSFERENCIA,
+    ASIENTO,
+    PAGO_MASIVO,
+    RETENCION,
+    CAPTURA,
+    LIBERACION,
+    DESACTIVACION
+}
@@ -0,0 +1,14 @@
+/**
+ * Estrategias de ejecución de las operaciones que modifican saldos.
+ *
+ * Este paquete contiene los ejecutores a los que los servicios delegan
+ * depósitos, retiros y transferencias: la ejecución directa en el hilo del
+ * llamador, el ejecutor secuencial de un solo escritor, que aplica los
+ * comandos en un orden global determinista que puede alimentar un diario, y el
+ * ejecutor particionado, que reparte las cuentas entre varios hilos dueños y
+ * resuelve las transferencias entre particiones con mensajes de débito y crédito.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.ejecucion;
@@ -0,0 +1,73 @@
+package com.wallet.infrastructure.factories;
+
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.UsuarioDTO;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.infrastructure.cache.CacheLectura;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.UsuarioRepositoryInMemory;
+
+/**
+ * Fábrica de cachés de lectura (Factory Pattern).
+ *
+ * Mantiene una única caché de DTOs por repositorio de {@link RepositoryFactory},
+ * registrada como observadora para que toda escritura la invalide, venga del
+ * servicio que venga.
+ *
+ * La capacidad de cada caché se toma de la propiedad de sistema
+ * "wallet.cache.capacidad" (por defecto 10.000 entradas).
+ */
+public class CacheFactory {
+
+    public static final String PROPIEDAD_CAPACIDAD = "wallet.cache.capacidad";
+
+    // Instancias únicas (Singleton), clave = email normalizado
+    private static final CacheLectura<Usuario, UsuarioDTO> cacheUsuarios = new CacheLectura<>(
+        capacidadConfigurada(), Usuario::getId, u -> u.getEmail().getValor(), UsuarioDTO::getId);
+
+    // Clave = número de cuenta
+    private static final CacheLectura<Cuenta, CuentaDTO> cacheCuentas = new CacheLectura<>(
+        capacidadConfigurada(), Cuenta::getId, Cuenta::getNumeroCuenta, CuentaDTO::getId);
+
+    static {
+        if (RepositoryFactory.getUsuarioRepository() instanceof UsuarioRepositoryInMemory) {
+            ((UsuarioRepositoryInMemory) RepositoryFactory.getUsuarioRepository())
+                .agregarObservador(cacheUsuarios);
+        }
+        if (RepositoryFactory.getCuentaRepository() instanceof CuentaRepositoryInMemory) {
+            ((CuentaRepositoryInMemory) RepositoryFactory.getCuentaRepository())
+                .agregarObservador(cacheCuentas);
+        }
+    }
+
+    private CacheFactory() {
+        throw new AssertionError("No se debe instanciar CacheFactory");
+    }
+
+    /**
+     * Caché de usuarios por email.
+     */
+    public static CacheLectura<Usuario, UsuarioDTO> getCacheUsuarios() {
+        return cacheUsuarios;
+    }
+
+    /**
+     * Caché de cuentas por número de cuenta.
+     */
+    public static CacheLectura<Cuenta, CuentaDTO> getCacheCuentas() {
+        return cacheCuentas;
+    }
+
+    private static int capacidadConfigurada() {
+        String valor = System.getProperty(PROPIEDAD_CAPACIDAD);
+        if (valor == null) {
+            return CacheLectura.CAPACIDAD_POR_DEFECTO;
+        }
+        try {
+            return Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Capacidad de caché inválida: " + valor);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.wallet.infrastructure.factories;
+
+import com.wallet.infrastructure.ejecucion.EjecutorDirecto;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.ejecucion.EjecutorParticionado;
+import com.wallet.infrastructure.ejecucion.EjecutorSecuencial;
+
+/**
+ * Fábrica de ejecutores de operaciones (Factory Pattern).
+ * 
+ * Crea la estrategia con la que los servicios aplican depósitos, retiros y
+ * transferencias sobre los repositorios compartidos de {@link RepositoryFactory}.
+ * 
+ * Modos disponibles (propiedad de sistema "wallet.ejecutor"):
+ * - directo: en el hilo del llamador (por defecto)
+ * - secuencial: un único hilo aplica todos los comandos en orden
+ * - particionado: las cuentas se reparten entre N hilos dueños
+ *   (N = propiedad "wallet.particiones", por defecto la cantidad de procesadores)
+ */
+public class EjecutorFactory {
+    
+    public static final String PROPIEDAD_MODO = "wallet.ejecutor";
+    public static final String PROPIEDAD_PARTICIONES = "wallet.particiones";
+    
+    private EjecutorFactory() {
+        throw new AssertionError("No se debe instanciar EjecutorFactory");
+    }
+    
+    /**
+     * Crea el ejecutor indicado por la propiedad de sistema "wallet.ejecutor".
+     */
+    public static EjecutorOperaciones desdeConfiguracion() {
+        return crear(System.getProperty(PROPIEDAD_MODO, "directo"));
+    }
+    
+    /**
+     * Crea un ejecutor por nombre de modo, ya iniciado.
+     * 
+     * @throws IllegalArgumentException si el modo no existe
+     */
+    public static EjecutorOperaciones crear(String modo) {
+        EjecutorOperaciones ejecutor = instanciar(modo);
+        ejecutor.iniciar();
+        return ejecutor;
+    }
+    
+    private static EjecutorOperaciones instanciar(String modo) {
+        var cuentaRepo = RepositoryFactory.getCuentaRepository();
+        var transaccionRepo = RepositoryFactory.getTransaccionRepository();
+        
+        switch (modo.trim().toLowerCase()) {
+            case "directo":
+                return new EjecutorDirecto(cuentaRepo, transaccionRepo);
+            case "secuencial":
+                return new EjecutorSecuencial(cuentaRepo, transaccionRepo);
+            case "particionado":
+                return new EjecutorParticionado(cuentaRepo, transaccionRepo, particionesConfiguradas());
+            default:
+                throw new IllegalArgumentException("Modo de ejecución desconocido: " + modo);
+        }
+    }
+    
+    private static int particionesConfiguradas() {
+        String valor = System.getProperty(PROPIEDAD_PARTICIONES);
+        if (valor == null) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        try {
+            return Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cantidad de particiones inválida: " + valor);
+        }
+    }
+}
@@ -3,9 +3,33 @@ package com.wallet.infrastructure.factories;
 import com.wallet.domain.repositories.IUsuarioRepository;
 import com.wallet.domain.repositories.ICuentaRepository;
 import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.repositories.IExtractoMensualRepository;
+import com.wallet.domain.repositories.ISaldoHistoricoRepository;
+import com.wallet.domain.repositories.IAgregadoDiarioRepository;
+import com.wallet.domain.repositories.IRankingSaldosRepository;
+import com.wallet.domain.repositories.IIndiceDescripcionesRepository;
+import com.wallet.domain.repositories.IIndiceUsuariosRepository;
+import com.wallet.domain.repositories.ITransferenciaProgramadaRepository;
+import com.wallet.domain.repositories.ILimitesVelocidadRepository;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.LimiteVelocidad;
+import com.wallet.domain.valueobjects.NivelCuenta;
+import com.wallet.infrastructure.historial.AlmacenSegmentos;
+import com.wallet.infrastructure.historial.HistorialFrio;
 import com.wallet.infrastructure.repositories.UsuarioRepositoryInMemory;
 import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
 import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import com.wallet.infrastructure.repositories.ExtractoMensualRepositoryInMemory;
+import com.wallet.infrastructure.repositories.SaldoHistoricoRepositoryInMemory;
+import com.wallet.infrastructure.repositories.AgregadoDiarioRepositoryInMemory;
+import com.wallet.infrastructure.repositories.RankingSaldosRepositoryInMemory;
+import com.wallet.infrastructure.repositories.IndiceDescripcionesRepositoryInMemory;
+import com.wallet.infrastructure.repositories.IndiceUsuariosRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransferenciaProgramadaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.LimitesVelocidadRepositoryInMemory;
+
+import java.nio.file.Paths;
+import java.time.Duration;
 
 /**
  * Fábrica de Repositorios (Factory Pattern).
@@ -17,13 +41,82 @@ import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
  * - Desacoplamiento: Los clientes no conocen las implementaciones concretas
  * - Reutilización: Una única instancia compartida (memoria)
  * - Flexibilidad: Fácil cambio de implementaciones
+ * 
+ * Los límites de velocidad de cada nivel de cuenta se toman de las propiedades
+ * de sistema "wallet.limites.basico", "wallet.limites.estandar" y
+ * "wallet.limites.premium", con el formato
+ * "operaciones,monto,minutos" (por ejemplo -Dwallet.limites.basico=10,2000000,60);
+ * un 0 deja sin tope las operaciones o el monto. Sin propiedad, el nivel no tiene límite.
+ * 
+ * El historial frío de transacciones se guarda donde indique
+ * "wallet.historial.almacen": "heap" (por defecto), "directo" (fuera del
+ * heap) o la ruta de un directorio para mapear los segmentos desde archivos.
+ * "wallet.historial.horas" es la antigüedad a partir de la que se archiva;
+ * sin ella no se archiva.
  */
 public class RepositoryFactory {
     
     // Instancias únicas (Singleton)
     private static final IUsuarioRepository usuarioRepository = new UsuarioRepositoryInMemory();
     private static final ICuentaRepository cuentaRepository = new CuentaRepositoryInMemory();
-    private static final ITransaccionRepository transaccionRepository = new TransaccionRepositoryInMemory();
+    private static final ITransaccionRepository transaccionRepository =
+        new TransaccionRepositoryInMemory(new HistorialFrio(almacenConfigurado(), HistorialFrio.RANGOS_POR_DEFECTO));
+    private static final IExtractoMensualRepository extractoMensualRepository = new ExtractoMensualRepositoryInMemory();
+    private static final ISaldoHistoricoRepository saldoHistoricoRepository =
+        new SaldoHistoricoRepositoryInMemory(transaccionRepository);
+    private static final IAgregadoDiarioRepository agregadoDiarioRepository = new AgregadoDiarioRepositoryInMemory();
+    private static final IRankingSaldosRepository rankingSaldosRepository = new RankingSaldosRepositoryInMemory();
+    private static final IIndiceDescripcionesRepository indiceDescripcionesRepository = new IndiceDescripcionesRepositoryInMemory();
+    private static final IIndiceUsuariosRepository indiceUsuariosRepository = new IndiceUsuariosRepositoryInMemory();
+    private static final ITransferenciaProgramadaRepository transferenciaProgramadaRepository = new TransferenciaProgramadaRepositoryInMemory();
+    private static final ILimitesVelocidadRepository limitesVelocidadRepository = new LimitesVelocidadRepositoryInMemory();
+    
+    public static final String PREFIJO_PROPIEDAD_LIMITES = "wallet.limites.";
+    public static final String PROPIEDAD_ALMACEN_HISTORIAL = "wallet.historial.almacen";
+    public static final String PROPIEDAD_HORAS_HISTORIAL = "wallet.historial.horas";
+    
+    // Los extractos, saldos históricos, agregados diarios y el índice de
+    // descripciones se mantienen con cada transacción guardada
+    static {
+        if (transaccionRepository instanceof TransaccionRepositoryInMemory
+            && extractoMensualRepository instanceof ExtractoMensualRepositoryInMemory) {
+            ((TransaccionRepositoryInMemory) transaccionRepository)
+                .agregarObservador((ExtractoMensualRepositoryInMemory) extractoMensualRepository);
+        }
+        if (transaccionRepository instanceof TransaccionRepositoryInMemory
+            && saldoHistoricoRepository instanceof SaldoHistoricoRepositoryInMemory) {
+            ((TransaccionRepositoryInMemory) transaccionRepository)
+                .agregarObservador((SaldoHistoricoRepositoryInMemory) saldoHistoricoRepository);
+        }
+        if (transaccionRepository instanceof TransaccionRepositoryInMemory
+            && agregadoDiarioRepository instanceof AgregadoDiarioRepositoryInMemory) {
+            ((TransaccionRepositoryInMemory) transaccionRepository)
+                .agregarObservador((AgregadoDiarioRepositoryInMemory) agregadoDiarioRepository);
+        }
+        if (transaccionRepository instanceof TransaccionRepositoryInMemory
+            && indiceDescripcionesRepository instanceof IndiceDescripcionesRepositoryInMemory) {
+            ((TransaccionRepositoryInMemory) transaccionRepository)
+                .agregarObservador((IndiceDescripcionesRepositoryInMemory) indiceDescripcionesRepository);
+        }
+        // El índice de saldos se mantiene con cada cuenta guardada
+        if (cuentaRepository instanceof CuentaRepositoryInMemory
+            && rankingSaldosRepository instanceof RankingSaldosRepositoryInMemory) {
+            ((CuentaRepositoryInMemory) cuentaRepository)
+                .agregarObservador((RankingSaldosRepositoryInMemory) rankingSaldosRepository);
+        }
+        // El índice de búsqueda de usuarios se mantiene con cada usuario guardado
+        if (usuarioRepository instanceof UsuarioRepositoryInMemory
+            && indiceUsuariosRepository instanceof IndiceUsuariosRepositoryInMemory) {
+            ((UsuarioRepositoryInMemory) usuarioRepository)
+                .agregarObservador((IndiceUsuariosRepositoryInMemory) indiceUsuariosRepository);
+        }
+        for (NivelCuenta nivel : NivelCuenta.values()) {
+            String valor = System.getProperty(PREFIJO_PROPIEDAD_LIMITES + nivel.name().toLowerCase());
+            if (valor != null) {
+                limitesVelocidadRepository.configurar(nivel, limiteConfigurado(valor));
+            }
+        }
+    }
     
     // Constructor privado para evitar instanciación
     private RepositoryFactory() {
@@ -51,6 +144,78 @@ public class RepositoryFactory {
         return transaccionRepository;
     }
     
+    /**
+     * Obtiene la instancia del repositorio de extractos mensuales.
+     */
+    public static IExtractoMensualRepository getExtractoMensualRepository() {
+        return extractoMensualRepository;
+    }
+    
+    /**
+     * Obtiene la instancia del repositorio de saldos históricos.
+     */
+    public static ISaldoHistoricoRepository getSaldoHistoricoRepository() {
+        return saldoHistoricoRepository;
+    }
+    
+    /**
+     * Obtiene la instancia del repositorio de agregados diarios.
+     */
+    public static IAgregadoDiarioRepository getAgregadoDiarioRepository() {
+        return agregadoDiarioRepository;
+    }
+    
+    /**
+     * Obtiene la instancia del índice de cuentas por saldo.
+     */
+    public static IRankingSaldosRepository getRankingSaldosRepository() {
+        return rankingSaldosRepository;
+    }
+    
+    /**
+     * Obtiene la instancia del índice de descripciones de transacciones.
+     */
+    public static IIndiceDescripcionesRepository getIndiceDescripcionesRepository() {
+        return indiceDescripcionesRepository;
+    }
+    
+    /**
+     * Obtiene la instancia del índice de búsqueda de usuarios.
+     */
+    public static IIndiceUsuariosRepository getIndiceUsuariosRepository() {
+        return indiceUsuariosRepository;
+    }
+    
+    /**
+     * Obtiene la instancia del repositorio de transferencias programadas.
+     */
+    public static ITransferenciaProgramadaRepository getTransferenciaProgramadaRepository() {
+        return transferenciaProgramadaRepository;
+    }
+    
+    /**
+     * Obtiene la instancia de los contadores de límites de velocidad.
+     */
+    public static ILimitesVelocidadRepository getLimitesVelocidadRepository() {
+        return limitesVelocidadRepository;
+    }
+    
+    /**
+     * Antigüedad a partir de la que se archiva el historial de transacciones,
+     * o null si no se configuró.
+     */
+    public static Duration getAntiguedadHistorial() {
+        String valor = System.getProperty(PROPIEDAD_HORAS_HISTORIAL);
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return Duration.ofHours(Long.parseLong(valor.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Antigüedad del historial inválida (horas): " + valor);
+        }
+    }
+    
     /**
      * Limpia todos los repositorios (útil para testing).
      */
@@ -64,5 +229,38 @@ public class RepositoryFactory {
         if (transaccionRepository instanceof TransaccionRepositoryInMemory) {
             ((TransaccionRepositoryInMemory) transaccionRepository).limpiar();
         }
+        if (transferenciaProgramadaRepository instanceof TransferenciaProgramadaRepositoryInMemory) {
+            ((TransferenciaProgramadaRepositoryInMemory) transferenciaProgramadaRepository).limpiar();
+        }
+        if (limitesVelocidadRepository instanceof LimitesVelocidadRepositoryInMemory) {
+            ((LimitesVelocidadRepositoryInMemory) limitesVelocidadRepository).limpiar();
+        }
+    }
+    
+    private static AlmacenSegmentos almacenConfigurado() {
+        String valor = System.getProperty(PROPIEDAD_ALMACEN_HISTORIAL, "heap").trim();
+        switch (valor) {
+            case "heap":
+                return AlmacenSegmentos.enHeap();
+            case "directo":
+                return AlmacenSegmentos.fueraDeHeap();
+            default:
+                return AlmacenSegmentos.mapeado(Paths.get(valor));
+        }
+    }
+    
+    private static LimiteVelocidad limiteConfigurado(String valor) {
+        String[] partes = valor.split(",");
+        if (partes.length != 3) {
+            throw new IllegalArgumentException("Límite inválido (operaciones,monto,minutos): " + valor);
+        }
+        try {
+            int operaciones = Integer.parseInt(partes[0].trim());
+            Dinero monto = Dinero.de(partes[1].trim());
+            return LimiteVelocidad.de(operaciones, monto.esPositivo() ? monto : null,
+                                      Duration.ofMinutes(Long.parseLong(partes[2].trim())));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Límite inválido (operaciones,monto,minutos): " + valor);
+        }
     }
 }
@@ -0,0 +1,103 @@
+package com.wallet.infrastructure.fraude;
+
+import com.wallet.domain.entities.Transaccion;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Historial resumido de los débitos de una cuenta, contra el que las reglas
+ * comparan cada débito nuevo.
+ *
+ * Guarda la media y la varianza de los montos (algoritmo de Welford, sin
+ * guardar los montos), las últimas contrapartes y las fechas de los últimos
+ * débitos. Cada perfil pertenece a un único hilo del pipeline, así que no
+ * necesita sincronización.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class PerfilCuenta {
+
+    /**
+     * Contrapartes recordadas por cuenta; al superarse se olvida la menos reciente.
+     */
+    public static final int CONTRAPARTES_MAXIMAS = 1024;
+
+    /**
+     * Fechas de débitos recordadas, que acotan la ráfaga más larga detectable.
+     */
+    public static final int FECHAS_MAXIMAS = 64;
+
+    private long operaciones;
+    private double media;
+    private double sumaCuadrados;
+    private final Map<String, Boolean> contrapartes =
+        new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> mayor) {
+                return size() > CONTRAPARTES_MAXIMAS;
+            }
+        };
+    private final long[] fechas = new long[FECHAS_MAXIMAS];
+
+    /**
+     * Cantidad de débitos registrados.
+     */
+    public long getOperaciones() {
+        return operaciones;
+    }
+
+    /**
+     * Monto medio de los débitos registrados.
+     */
+    public double getMedia() {
+        return media;
+    }
+
+    /**
+     * Desviación estándar muestral de los montos; 0 con menos de dos débitos.
+     */
+    public double getDesviacion() {
+        return operaciones < 2 ? 0 : Math.sqrt(sumaCuadrados / (operaciones - 1));
+    }
+
+    /**
+     * Indica si la cuenta ya operó con la contraparte.
+     */
+    public boolean conoceContraparte(String cuentaId) {
+        return contrapartes.containsKey(cuentaId);
+    }
+
+    /**
+     * Débitos registrados con fecha igual o posterior al instante, entre los
+     * últimos {@link #FECHAS_MAXIMAS}.
+     *
+     * @param desde instante en nanosegundos (ver Tiempo)
+     */
+    public int operacionesDesde(long desde) {
+        int recordadas = (int) Math.min(operaciones, FECHAS_MAXIMAS);
+        int cantidad = 0;
+        for (int i = 0; i < recordadas; i++) {
+            if (fechas[i] >= desde) {
+                cantidad++;
+            }
+        }
+        return cantidad;
+    }
+
+    /**
+     * Agrega un débito ya puntuado al historial.
+     */
+    void registrar(Transaccion debito) {
+        double monto = debito.getMonto().getCantidad().doubleValue();
+        fechas[(int) (operaciones % FECHAS_MAXIMAS)] = debito.getFechaNanos();
+        operaciones++;
+        double delta = monto - media;
+        media += delta / operaciones;
+        sumaCuadrados += delta * (monto - media);
+        if (debito.getCuentaDestinoId() != null) {
+            contrapartes.put(debito.getCuentaDestinoId(), Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.wallet.infrastructure.fraude;
+
+import com.wallet.application.dtos.requests.DesactivarCuentaRequest;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.repositories.ObservadorRepositorio;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pipeline asíncrono de puntuación de fraude.
+ *
+ * Se registra como observador del repositorio de transacciones. Por cada
+ * débito guardado, el hilo que lo guardó solo hace un offer() a la cola
+ * acotada de un trabajador; los créditos se ignoran sin encolar. Las cuentas
+ * se reparten entre los trabajadores por hash de su ID, de modo que cada
+ * perfil lo toca un solo hilo y los débitos de una cuenta se puntúan en orden.
+ *
+ * Si la cola de un trabajador está llena el débito se descarta y se cuenta:
+ * la escritura nunca espera al pipeline. Las métricas de contrapresión
+ * (encolados, descartados, pendientes) permiten dimensionar las colas.
+ *
+ * Cuando la suma de los puntajes de las reglas alcanza el umbral, la cuenta
+ * se desactiva a través del ejecutor de operaciones, como cualquier otro
+ * cambio de la cuenta, y queda en el log. El trabajador espera a que se
+ * aplique; si la cuenta ya estaba inactiva el ejecutor lo rechaza y se ignora.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class PipelineFraude implements ObservadorRepositorio<Transaccion> {
+
+    public static final double UMBRAL_POR_DEFECTO = 1.0;
+    public static final int CAPACIDAD_POR_DEFECTO = 8192;
+
+    private static final long ESPERA_NANOS = 100_000L;
+
+    private final EjecutorOperaciones ejecutor;
+    private final List<ReglaFraude> reglas;
+    private final double umbral;
+    private final Trabajador[] trabajadores;
+    private final LongAdder encolados = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder procesados = new LongAdder();
+    private final LongAdder marcadas = new LongAdder();
+    private volatile boolean activo = true;
+
+    /**
+     * Pipeline con las reglas por defecto, un trabajador por cada dos
+     * procesadores y colas de {@link #CAPACIDAD_POR_DEFECTO} débitos.
+     *
+     * @param ejecutor estrategia con la que se desactivan las cuentas
+     */
+    public PipelineFraude(EjecutorOperaciones ejecutor) {
+        this(ejecutor, reglasPorDefecto(), UMBRAL_POR_DEFECTO,
+             Math.max(1, Runtime.getRuntime().availableProcessors() / 2), CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * @param ejecutor estrategia con la que se desactivan las cuentas
+     * @param reglas reglas cuyos puntajes se suman
+     * @param umbral puntaje total a partir del que se marca la cuenta
+     * @param hilos cantidad de trabajadores
+     * @param capacidadPorHilo débitos pendientes que admite la cola de cada trabajador
+     */
+    public PipelineFraude(EjecutorOperaciones ejecutor, List<ReglaFraude> reglas, double umbral,
+                          int hilos, int capacidadPorHilo) {
+        if (ejecutor == null) {
+            throw new IllegalArgumentException("El ejecutor de operaciones no puede ser nulo");
+        }
+        if (reglas == null || reglas.isEmpty()) {
+            throw new IllegalArgumentException("Debe haber al menos una regla");
+        }
+        if (umbral <= 0) {
+            throw new IllegalArgumentException("El umbral debe ser positivo");
+        }
+        if (hilos < 1 || capacidadPorHilo < 1) {
+            throw new IllegalArgumentException("Debe haber al menos un hilo con capacidad positiva");
+        }
+        this.ejecutor = ejecutor;
+        this.reglas = List.copyOf(reglas);
+        this.umbral = umbral;
+        this.trabajadores = new Trabajador[hilos];
+        for (int i = 0; i < hilos; i++) {
+            trabajadores[i] = new Trabajador(i, capacidadPorHilo);
+        }
+    }
+
+    /**
+     * Reglas por defecto: monto a 3 desviaciones de la media (0,6), contraparte
+     * nueva (0,3) y más de 5 débitos en un minuto (0,5). Ninguna basta sola
+     * para marcar la cuenta con el umbral por defecto.
+     */
+    public static List<ReglaFraude> reglasPorDefecto() {
+        return List.of(
+            new ReglaMontoAtipico(3.0, 10, 0.6),
+            new ReglaContraparteNueva(0.3),
+            new ReglaRafaga(5, Duration.ofMinutes(1), 0.5)
+        );
+    }
+
+    @Override
+    public void guardado(Transaccion transaccion) {
+        if (!activo || !transaccion.getTipo().esDebito()) {
+            return;
+        }
+        if (trabajador(transaccion.getCuentaOrigenId()).cola.offer(transaccion)) {
+            encolados.increment();
+        } else {
+            descartados.increment();
+        }
+    }
+
+    @Override
+    public void eliminado(Transaccion transaccion) {
+        // Los perfiles resumen el historial: no se recalculan al borrar
+    }
+
+    /**
+     * Descarta los perfiles de todas las cuentas. Cada trabajador vacía los
+     * suyos en su propio hilo antes de puntuar su próximo débito, para que
+     * los perfiles sigan siendo de un solo hilo.
+     */
+    @Override
+    public void limpiado() {
+        for (Trabajador trabajador : trabajadores) {
+            trabajador.limpiar = true;
+        }
+    }
+
+    /**
+     * Espera a que se puntúen todos los débitos encolados hasta ahora.
+     *
+     * @return true si se vaciaron antes del plazo
+     */
+    public boolean esperarPendientes(long plazo, TimeUnit unidad) {
+        long limite = System.nanoTime() + unidad.toNanos(plazo);
+        long objetivo = encolados.sum();
+        while (procesados.sum() < objetivo) {
+            if (System.nanoTime() - limite >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(ESPERA_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Deja de aceptar débitos, puntúa los pendientes y detiene los trabajadores.
+     */
+    public void cerrar() {
+        activo = false;
+        for (Trabajador trabajador : trabajadores) {
+            trabajador.hilo.interrupt();
+        }
+        for (Trabajador trabajador : trabajadores) {
+            try {
+                trabajador.hilo.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Débitos aceptados por las colas.
+     */
+    public long getEncolados() {
+        return encolados.sum();
+    }
+
+    /**
+     * Débitos descartados porque la cola de su trabajador estaba llena.
+     */
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    /**
+     * Débitos ya puntuados.
+     */
+    public long getProcesados() {
+        return procesados.sum();
+    }
+
+    /**
+     * Débitos en cola a la espera de un trabajador.
+     */
+    public int getPendientes() {
+        int pendientes = 0;
+        for (Trabajador trabajador : trabajadores) {
+            pendientes += trabajador.cola.size();
+        }
+        return pendientes;
+    }
+
+    /**
+     * Cuentas desactivadas por el pipeline.
+     */
+    public long getCuentasMarcadas() {
+        return marcadas.sum();
+    }
+
+    private Trabajador trabajador(String cuentaId) {
+        return trabajadores[Math.floorMod(cuentaId.hashCode(), trabajadores.length)];
+    }
+
+    private void marcar(Transaccion debito, double puntaje, List<String> motivos) {
+        try {
+            EjecutorOperaciones.esperar(ejecutor.desactivar(new DesactivarCuentaRequest(
+                debito.getCuentaOrigenId(), "Sospecha de fraude: " + motivos)));
+        } catch (RuntimeException e) {
+            // Ya inactiva, o eliminada mientras se puntuaba
+            Logger.debug("No se desactivó la cuenta {}: {}", debito.getCuentaOrigenId(), e.getMessage());
+            return;
+        }
+        marcadas.increment();
+        Logger.warning("Cuenta {} desactivada por sospecha de fraude en {} (puntaje {}: {})",
+            debito.getCuentaOrigenId(), debito.getId(), puntaje, motivos);
+    }
+
+    /**
+     * Hilo con su cola y los perfiles de las cuentas que le tocan.
+     */
+    private final class Trabajador {
+        final BlockingQueue<Transaccion> cola;
+        final Map<String, PerfilCuenta> perfiles = new HashMap<>();
+        final Thread hilo;
+        volatile boolean limpiar;
+
+        Trabajador(int indice, int capacidad) {
+            this.cola = new ArrayBlockingQueue<>(capacidad);
+            this.hilo = new Thread(this::ciclo, "wallet-fraude-" + indice);
+            this.hilo.setDaemon(true);
+            this.hilo.start();
+        }
+
+        private void ciclo() {
+            try {
+                while (activo) {
+                    evaluar(cola.take());
+                }
+            } catch (InterruptedException e) {
+                // Cierre: se puntúa lo que quedó en la cola
+            }
+            Transaccion pendiente;
+            while ((pendiente = cola.poll()) != null) {
+                evaluar(pendiente);
+            }
+        }
+
+        private void evaluar(Transaccion debito) {
+            try {
+                if (limpiar) {
+                    limpiar = false;
+                    perfiles.clear();
+                }
+                PerfilCuenta perfil = perfiles.computeIfAbsent(debito.getCuentaOrigenId(), id -> new PerfilCuenta());
+                double puntaje = 0;
+                List<String> motivos = new ArrayList<>(reglas.size());
+                for (ReglaFraude regla : reglas) {
+                    double parcial = regla.puntuar(debito, perfil);
+                    if (parcial > 0) {
+                        puntaje += parcial;
+                        motivos.add(regla.getNombre());
+                    }
+                }
+                perfil.registrar(debito);
+                if (puntaje >= umbral) {
+                    marcar(debito, puntaje, motivos);
+                }
+            } catch (RuntimeException e) {
+                Logger.error("Error al puntuar la transacción " + debito.getId(), e);
+            } finally {
+                procesados.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.wallet.infrastructure.fraude;
+
+import com.wallet.domain.entities.Transaccion;
+
+/**
+ * Puntúa los débitos hacia una cuenta con la que el origen nunca operó. Los
+ * débitos sin contraparte (retiros) no puntúan.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class ReglaContraparteNueva implements ReglaFraude {
+
+    private final double peso;
+
+    /**
+     * @param peso puntaje de un débito hacia una contraparte nueva
+     */
+    public ReglaContraparteNueva(double peso) {
+        if (peso <= 0) {
+            throw new IllegalArgumentException("El peso debe ser positivo");
+        }
+        this.peso = peso;
+    }
+
+    @Override
+    public String getNombre() {
+        return "contraparte nueva";
+    }
+
+    @Override
+    public double puntuar(Transaccion debito, PerfilCuenta perfil) {
+        String destino = debito.getCuentaDestinoId();
+        return destino != null && !perfil.conoceContraparte(destino) ? peso : 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.wallet.infrastructure.fraude;
+
+import com.wallet.domain.entities.Transaccion;
+
+/**
+ * Regla de puntuación de fraude (Strategy Pattern).
+ *
+ * Cada regla devuelve un puntaje para un débito según el historial de su
+ * cuenta; el pipeline suma los puntajes de todas y marca la cuenta si el
+ * total alcanza su umbral.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public interface ReglaFraude {
+
+    /**
+     * Nombre de la regla, para los registros de cuentas marcadas.
+     */
+    String getNombre();
+
+    /**
+     * Puntúa un débito. Se invoca antes de agregarlo al perfil.
+     *
+     * @param debito el débito a evaluar
+     * @param perfil historial de los débitos anteriores de la cuenta
+     * @return puntaje de la regla; 0 si no aplica
+     */
+    double puntuar(Transaccion debito, PerfilCuenta perfil);
+}
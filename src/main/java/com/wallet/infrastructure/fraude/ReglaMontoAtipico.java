@@ -0,0 +1,52 @@
+package com.wallet.infrastructure.fraude;
+
+import com.wallet.domain.entities.Transaccion;
+
+/**
+ * Puntúa los débitos cuyo monto se aleja de la media de la cuenta en más de
+ * cierta cantidad de desviaciones estándar (z-score).
+ *
+ * Solo aplica con un historial mínimo. Para historiales muy parejos la
+ * desviación se toma como al menos el 10% de la media, de modo que un monto
+ * apenas distinto de una serie de montos iguales no cuente como atípico.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class ReglaMontoAtipico implements ReglaFraude {
+
+    private static final double DESVIACION_MINIMA_RELATIVA = 0.1;
+
+    private final double zMaximo;
+    private final long historialMinimo;
+    private final double peso;
+
+    /**
+     * @param zMaximo desviaciones estándar sobre la media a partir de las que el monto es atípico
+     * @param historialMinimo débitos previos necesarios para aplicar la regla
+     * @param peso puntaje de un monto atípico
+     */
+    public ReglaMontoAtipico(double zMaximo, long historialMinimo, double peso) {
+        if (zMaximo <= 0 || historialMinimo < 2 || peso <= 0) {
+            throw new IllegalArgumentException("Parámetros inválidos para la regla de monto atípico");
+        }
+        this.zMaximo = zMaximo;
+        this.historialMinimo = historialMinimo;
+        this.peso = peso;
+    }
+
+    @Override
+    public String getNombre() {
+        return "monto atípico";
+    }
+
+    @Override
+    public double puntuar(Transaccion debito, PerfilCuenta perfil) {
+        if (perfil.getOperaciones() < historialMinimo) {
+            return 0;
+        }
+        double desviacion = Math.max(perfil.getDesviacion(), perfil.getMedia() * DESVIACION_MINIMA_RELATIVA);
+        double z = (debito.getMonto().getCantidad().doubleValue() - perfil.getMedia()) / desviacion;
+        return z >= zMaximo ? peso : 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.wallet.infrastructure.fraude;
+
+import com.wallet.domain.entities.Transaccion;
+
+import java.time.Duration;
+
+/**
+ * Puntúa los débitos que, contando el actual, superan una cantidad máxima
+ * dentro de una ventana de tiempo.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class ReglaRafaga implements ReglaFraude {
+
+    private final int maximo;
+    private final long ventanaNanos;
+    private final double peso;
+
+    /**
+     * @param maximo débitos permitidos en la ventana (a lo sumo {@link PerfilCuenta#FECHAS_MAXIMAS} - 1)
+     * @param ventana duración de la ventana
+     * @param peso puntaje de un débito que forma parte de una ráfaga
+     */
+    public ReglaRafaga(int maximo, Duration ventana, double peso) {
+        if (maximo < 1 || maximo >= PerfilCuenta.FECHAS_MAXIMAS) {
+            throw new IllegalArgumentException("El máximo debe estar entre 1 y " + (PerfilCuenta.FECHAS_MAXIMAS - 1));
+        }
+        if (ventana == null || ventana.isNegative() || ventana.isZero() || peso <= 0) {
+            throw new IllegalArgumentException("Parámetros inválidos para la regla de ráfaga");
+        }
+        this.maximo = maximo;
+        this.ventanaNanos = ventana.toNanos();
+        this.peso = peso;
+    }
+
+    @Override
+    public String getNombre() {
+        return "ráfaga";
+    }
+
+    @Override
+    public double puntuar(Transaccion debito, PerfilCuenta perfil) {
+        int enVentana = perfil.operacionesDesde(debito.getFechaNanos() - ventanaNanos) + 1;
+        return enVentana > maximo ? peso : 0;
+    }
+}
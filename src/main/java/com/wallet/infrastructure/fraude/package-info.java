@@ -0,0 +1,12 @@
+/**
+ * Evaluación de fraude fuera de la ruta de escritura.
+ *
+ * Este paquete contiene el pipeline que recibe cada débito guardado por una
+ * cola acotada, lo puntúa en un pool de hilos propio contra reglas (monto
+ * atípico, contraparte nueva, ráfaga de operaciones) y desactiva las cuentas
+ * sospechosas. Guardar una transacción solo paga el encolado.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.fraude;
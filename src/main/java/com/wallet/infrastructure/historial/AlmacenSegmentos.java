@@ -0,0 +1,147 @@
+package com.wallet.infrastructure.historial;
+
+import com.wallet.infrastructure.logging.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Dónde viven los bytes de los segmentos fríos.
+ *
+ * En el heap son arreglos comunes; fuera del heap, buffers directos que el
+ * recolector no recorre ni copia; mapeados, archivos de un directorio que el
+ * sistema operativo pagina a demanda.
+ *
+ * Mapear saca del heap las filas y el índice de ids, no todo el segmento:
+ * un segmento se arma completo en un arreglo del heap antes de guardarse,
+ * y al abrirlo su diccionario de textos, su directorio de cuentas y sus ids
+ * no numéricos se cargan en el heap. Lo que queda en memoria crece con las
+ * cuentas y los textos distintos del historial, no con sus transacciones, y
+ * lo que se arma de una vez crece con el segmento más grande.
+ *
+ * Un segmento no se modifica una vez guardado: una fusión guarda uno nuevo
+ * y libera los que une.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public abstract class AlmacenSegmentos {
+
+    private static final AlmacenSegmentos EN_HEAP = new AlmacenSegmentos("heap") {
+        @Override
+        ByteBuffer guardar(String nombre, byte[] contenido, int largo) {
+            return ByteBuffer.wrap(Arrays.copyOf(contenido, largo)).asReadOnlyBuffer();
+        }
+
+        @Override
+        void liberar(String nombre) {
+            // Lo libera el recolector cuando nadie lee el segmento
+        }
+    };
+
+    private static final AlmacenSegmentos FUERA_DE_HEAP = new AlmacenSegmentos("directo") {
+        @Override
+        ByteBuffer guardar(String nombre, byte[] contenido, int largo) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(largo);
+            buffer.put(contenido, 0, largo).flip();
+            return buffer.asReadOnlyBuffer();
+        }
+
+        @Override
+        void liberar(String nombre) {
+            // La memoria directa se devuelve al recolectar el buffer
+        }
+    };
+
+    private final String descripcion;
+
+    private AlmacenSegmentos(String descripcion) {
+        this.descripcion = descripcion;
+    }
+
+    /**
+     * Segmentos en arreglos del heap (por defecto).
+     */
+    public static AlmacenSegmentos enHeap() {
+        return EN_HEAP;
+    }
+
+    /**
+     * Segmentos en buffers directos, fuera del heap.
+     */
+    public static AlmacenSegmentos fueraDeHeap() {
+        return FUERA_DE_HEAP;
+    }
+
+    /**
+     * Segmentos en archivos del directorio, mapeados en memoria.
+     *
+     * @param directorio se crea si no existe
+     */
+    public static AlmacenSegmentos mapeado(Path directorio) {
+        if (directorio == null) {
+            throw new IllegalArgumentException("El directorio no puede ser nulo");
+        }
+        return new Mapeado(directorio);
+    }
+
+    /**
+     * Guarda los primeros bytes del contenido y retorna una vista de solo lectura.
+     */
+    abstract ByteBuffer guardar(String nombre, byte[] contenido, int largo);
+
+    /**
+     * Libera un segmento reemplazado. Los lectores que aún lo recorren
+     * pueden terminar: la memoria se devuelve cuando se recolecta su buffer.
+     */
+    abstract void liberar(String nombre);
+
+    @Override
+    public String toString() {
+        return descripcion;
+    }
+
+    private static final class Mapeado extends AlmacenSegmentos {
+        private final Path directorio;
+
+        Mapeado(Path directorio) {
+            super("mapeado en " + directorio);
+            this.directorio = directorio;
+        }
+
+        @Override
+        ByteBuffer guardar(String nombre, byte[] contenido, int largo) {
+            Path archivo = directorio.resolve(nombre);
+            try {
+                Files.createDirectories(directorio);
+                try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    ByteBuffer pendiente = ByteBuffer.wrap(contenido, 0, largo);
+                    while (pendiente.hasRemaining()) {
+                        canal.write(pendiente);
+                    }
+                    // El mapeo sigue válido después de cerrar el canal
+                    return canal.map(FileChannel.MapMode.READ_ONLY, 0, largo);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo guardar el segmento " + archivo, e);
+            }
+        }
+
+        @Override
+        void liberar(String nombre) {
+            try {
+                // En Linux y macOS un archivo mapeado se puede borrar: el mapeo sigue hasta recolectarse
+                Files.deleteIfExists(directorio.resolve(nombre));
+            } catch (IOException e) {
+                Logger.warning("No se pudo borrar el segmento {}: {}", nombre, e.getMessage());
+            }
+        }
+    }
+}
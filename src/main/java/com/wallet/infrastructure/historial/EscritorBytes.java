@@ -0,0 +1,89 @@
+package com.wallet.infrastructure.historial;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Arreglo de bytes que crece al escribir, con enteros en varint.
+ *
+ * Los varint llevan 7 bits por byte, los menos significativos primero, y el
+ * bit alto indica que sigue otro byte. Los valores con signo pasan antes por
+ * zigzag (0, -1, 1, -2... se codifican 0, 1, 2, 3...) para que las
+ * diferencias chicas ocupen un byte sin importar el signo.
+ */
+final class EscritorBytes {
+
+    private byte[] datos = new byte[64];
+    private int largo;
+
+    void varint(long valor) {
+        asegurar(10);
+        while ((valor & ~0x7FL) != 0) {
+            datos[largo++] = (byte) ((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        datos[largo++] = (byte) valor;
+    }
+
+    void zigzag(long valor) {
+        varint((valor << 1) ^ (valor >> 63));
+    }
+
+    void entero(int valor) {
+        asegurar(Integer.BYTES);
+        for (int desplazamiento = 24; desplazamiento >= 0; desplazamiento -= 8) {
+            datos[largo++] = (byte) (valor >>> desplazamiento);
+        }
+    }
+
+    void largo(long valor) {
+        entero((int) (valor >>> 32));
+        entero((int) valor);
+    }
+
+    /**
+     * Sobrescribe un entero ya escrito (para completar una cabecera).
+     */
+    void entero(int posicion, int valor) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            datos[posicion + i] = (byte) (valor >>> (24 - 8 * i));
+        }
+    }
+
+    void bytes(byte[] origen, int desde, int cantidad) {
+        asegurar(cantidad);
+        System.arraycopy(origen, desde, datos, largo, cantidad);
+        largo += cantidad;
+    }
+
+    void bytes(EscritorBytes otro) {
+        bytes(otro.datos, 0, otro.largo);
+    }
+
+    /**
+     * Copia bytes de un buffer sin mover su posición.
+     */
+    void bytes(ByteBuffer origen, int desde, int cantidad) {
+        asegurar(cantidad);
+        origen.get(desde, datos, largo, cantidad);
+        largo += cantidad;
+    }
+
+    int largo() {
+        return largo;
+    }
+
+    byte[] datos() {
+        return datos;
+    }
+
+    private void asegurar(int adicionales) {
+        if (largo + adicionales > datos.length) {
+            long necesario = Math.max((long) datos.length * 2, (long) largo + adicionales);
+            if (necesario > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("El segmento supera el tamaño admitido");
+            }
+            datos = Arrays.copyOf(datos, (int) necesario);
+        }
+    }
+}
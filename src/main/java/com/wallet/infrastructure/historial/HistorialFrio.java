@@ -0,0 +1,311 @@
+package com.wallet.infrastructure.historial;
+
+import com.wallet.domain.entities.Transaccion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Historial frío de transacciones: por cada rango de cuentas, una lista de
+ * {@link SegmentoFrio} inmutables, del más viejo al más nuevo.
+ *
+ * Las cuentas se reparten en rangos por hash de su ID, así que cada rango
+ * recibe una parte pareja de las cuentas nuevas y viejas. Cada pasada de
+ * archivado escribe, para cada rango afectado, un segmento nuevo con solo
+ * sus filas y lo agrega al final de la lista: archivar cuesta lo que se
+ * archiva y no lo ya archivado. Después {@link #compactar} fusiona el último
+ * segmento de un rango con el anterior mientras ocupe al menos la mitad que
+ * él, de modo que cada fila se reescribe una cantidad logarítmica de veces
+ * y cada rango conserva pocos segmentos.
+ *
+ * Los cambios se publican reemplazando el arreglo volátil de listas; los
+ * lectores lo toman una vez y consultan segmentos inmutables, sin
+ * bloqueos. Solo se archiva de a una vez y solo se compacta de a una vez;
+ * una fusión escribe su segmento sin frenar al archivado.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class HistorialFrio {
+
+    public static final int RANGOS_POR_DEFECTO = 64;
+
+    private static final SegmentoFrio[] NINGUNO = new SegmentoFrio[0];
+
+    private final AlmacenSegmentos almacen;
+    private final Object compactacion = new Object();
+    private volatile SegmentoFrio[][] segmentos;
+    // Protegido por el monitor del historial
+    private long generacion;
+
+    /**
+     * Historial con {@link #RANGOS_POR_DEFECTO} rangos en el heap.
+     */
+    public HistorialFrio() {
+        this(AlmacenSegmentos.enHeap(), RANGOS_POR_DEFECTO);
+    }
+
+    /**
+     * @param almacen dónde se guardan los segmentos
+     * @param rangos cantidad de rangos de cuentas
+     */
+    public HistorialFrio(AlmacenSegmentos almacen, int rangos) {
+        if (almacen == null) {
+            throw new IllegalArgumentException("El almacén no puede ser nulo");
+        }
+        if (rangos < 1) {
+            throw new IllegalArgumentException("Debe haber al menos un rango");
+        }
+        this.almacen = almacen;
+        this.segmentos = vacios(rangos);
+    }
+
+    /**
+     * Agrega filas al historial con un segmento nuevo en cada rango afectado.
+     * Si algo falla no se publica ningún segmento.
+     *
+     * @param propias por cuenta, tramos propios que continúan su secuencia archivada
+     * @param reflejos por cuenta, transacciones de otras cuentas que aparecen en su historial
+     * @throws IllegalStateException si las propias de una cuenta no continúan su secuencia
+     */
+    public synchronized void archivar(Map<String, List<Transaccion>> propias,
+                                      Map<String, List<Transaccion>> reflejos) {
+        SegmentoFrio[][] actuales = segmentos;
+        List<Map<String, List<Transaccion>>> propiasPorRango = porRango(propias, actuales.length);
+        List<Map<String, List<Transaccion>>> reflejosPorRango = porRango(reflejos, actuales.length);
+        SegmentoFrio[][] nuevos = actuales.clone();
+        List<SegmentoFrio> construidos = new ArrayList<>();
+        try {
+            for (int rango = 0; rango < actuales.length; rango++) {
+                Map<String, List<Transaccion>> propiasRango = propiasPorRango.get(rango);
+                Map<String, List<Transaccion>> reflejosRango = reflejosPorRango.get(rango);
+                if (propiasRango.isEmpty() && reflejosRango.isEmpty()) {
+                    continue;
+                }
+                verificarContinuidad(actuales[rango], propiasRango);
+                SegmentoFrio segmento = SegmentoFrio.construir(nombre(rango), propiasRango, reflejosRango, almacen);
+                construidos.add(segmento);
+                nuevos[rango] = Arrays.copyOf(actuales[rango], actuales[rango].length + 1);
+                nuevos[rango][actuales[rango].length] = segmento;
+            }
+        } catch (RuntimeException e) {
+            for (SegmentoFrio construido : construidos) {
+                almacen.liberar(construido.getNombre());
+            }
+            throw e;
+        }
+        segmentos = nuevos;
+    }
+
+    /**
+     * Fusiona en cada rango el último segmento con el anterior mientras el
+     * último ocupe al menos la mitad. La fusión se escribe sin el monitor del
+     * archivado; al publicarla se verifica que los dos segmentos sigan en la
+     * lista (un archivado solo agrega al final) y se liberan.
+     *
+     * @return cantidad de fusiones
+     */
+    public int compactar() {
+        synchronized (compactacion) {
+            int fusiones = 0;
+            for (int rango = 0; rango < segmentos.length; rango++) {
+                while (true) {
+                    SegmentoFrio[] lista = segmentos[rango];
+                    int ultimo = lista.length - 1;
+                    if (ultimo < 1 || 2L * lista[ultimo].getBytes() < lista[ultimo - 1].getBytes()) {
+                        break;
+                    }
+                    String nombre;
+                    synchronized (this) {
+                        nombre = nombre(rango);
+                    }
+                    SegmentoFrio fusionado = SegmentoFrio.fusionar(nombre, lista[ultimo - 1], lista[ultimo], almacen);
+                    if (!reemplazar(rango, lista[ultimo - 1], lista[ultimo], fusionado)) {
+                        // Un limpiado los descartó mientras se fusionaban
+                        almacen.liberar(fusionado.getNombre());
+                        return fusiones;
+                    }
+                    almacen.liberar(lista[ultimo - 1].getNombre());
+                    almacen.liberar(lista[ultimo].getNombre());
+                    fusiones++;
+                }
+            }
+            return fusiones;
+        }
+    }
+
+    /**
+     * Historial archivado de una cuenta (propias y reflejos), sin ordenar.
+     */
+    public List<Transaccion> deCuenta(String cuentaId) {
+        List<Transaccion> resultado = new ArrayList<>();
+        for (SegmentoFrio segmento : lista(cuentaId)) {
+            resultado.addAll(segmento.deCuenta(cuentaId));
+        }
+        return resultado;
+    }
+
+    /**
+     * Propias archivadas de una cuenta con secuencia mayor a la dada, en orden.
+     */
+    public List<Transaccion> propias(String cuentaId, long despuesDe, int cantidad) {
+        List<Transaccion> resultado = new ArrayList<>();
+        long desde = despuesDe;
+        for (SegmentoFrio segmento : lista(cuentaId)) {
+            if (resultado.size() >= cantidad) {
+                break;
+            }
+            List<Transaccion> suyas = segmento.propias(cuentaId, desde, cantidad - resultado.size());
+            if (!suyas.isEmpty()) {
+                resultado.addAll(suyas);
+                desde = suyas.get(suyas.size() - 1).getSecuencia();
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Busca un tramo propio archivado por id en el índice de cada segmento.
+     */
+    public Optional<Transaccion> buscarPorId(String id) {
+        for (SegmentoFrio[] lista : segmentos) {
+            for (SegmentoFrio segmento : lista) {
+                Transaccion transaccion = segmento.buscarPorId(id);
+                if (transaccion != null) {
+                    return Optional.of(transaccion);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Todas las propias archivadas, una vez cada una.
+     */
+    public Stream<Transaccion> recorrerPropias() {
+        return Arrays.stream(segmentos)
+            .flatMap(Arrays::stream)
+            .flatMap(SegmentoFrio::recorrerPropias);
+    }
+
+    /**
+     * Tramos propios archivados.
+     */
+    public long contarPropias() {
+        long total = 0;
+        for (SegmentoFrio[] lista : segmentos) {
+            for (SegmentoFrio segmento : lista) {
+                total += segmento.getPropias();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Bytes que ocupan los segmentos.
+     */
+    public long getBytes() {
+        long total = 0;
+        for (SegmentoFrio[] lista : segmentos) {
+            for (SegmentoFrio segmento : lista) {
+                total += segmento.getBytes();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Segmentos publicados, sumando todos los rangos.
+     */
+    public int contarSegmentos() {
+        int total = 0;
+        for (SegmentoFrio[] lista : segmentos) {
+            total += lista.length;
+        }
+        return total;
+    }
+
+    public AlmacenSegmentos getAlmacen() {
+        return almacen;
+    }
+
+    /**
+     * Descarta todos los segmentos.
+     */
+    public synchronized void limpiar() {
+        SegmentoFrio[][] actuales = segmentos;
+        segmentos = vacios(actuales.length);
+        for (SegmentoFrio[] lista : actuales) {
+            for (SegmentoFrio segmento : lista) {
+                almacen.liberar(segmento.getNombre());
+            }
+        }
+    }
+
+    private synchronized boolean reemplazar(int rango, SegmentoFrio anterior, SegmentoFrio siguiente,
+                                            SegmentoFrio fusionado) {
+        SegmentoFrio[][] actuales = segmentos;
+        SegmentoFrio[] lista = actuales[rango];
+        int posicion = Arrays.asList(lista).indexOf(anterior);
+        if (posicion < 0 || posicion + 1 >= lista.length || lista[posicion + 1] != siguiente) {
+            return false;
+        }
+        SegmentoFrio[] nueva = new SegmentoFrio[lista.length - 1];
+        System.arraycopy(lista, 0, nueva, 0, posicion);
+        nueva[posicion] = fusionado;
+        System.arraycopy(lista, posicion + 2, nueva, posicion + 1, lista.length - posicion - 2);
+        SegmentoFrio[][] nuevos = actuales.clone();
+        nuevos[rango] = nueva;
+        segmentos = nuevos;
+        return true;
+    }
+
+    private String nombre(int rango) {
+        return String.format("historial-%03d-%d.seg", rango, ++generacion);
+    }
+
+    private SegmentoFrio[] lista(String cuentaId) {
+        SegmentoFrio[][] actuales = segmentos;
+        return actuales[Math.floorMod(cuentaId.hashCode(), actuales.length)];
+    }
+
+    private static void verificarContinuidad(SegmentoFrio[] lista, Map<String, List<Transaccion>> propias) {
+        for (Map.Entry<String, List<Transaccion>> cuenta : propias.entrySet()) {
+            if (cuenta.getValue().isEmpty()) {
+                continue;
+            }
+            long ultima = 0;
+            for (int i = lista.length - 1; i >= 0 && ultima == 0; i--) {
+                ultima = lista[i].ultimaPropia(cuenta.getKey());
+            }
+            Transaccion primera = cuenta.getValue().get(0);
+            if (primera.getSecuencia() != ultima + 1) {
+                throw new IllegalStateException(String.format(
+                    "La transacción %s no continúa el historial archivado de la cuenta %s",
+                    primera.getId(), cuenta.getKey()));
+            }
+        }
+    }
+
+    private static SegmentoFrio[][] vacios(int rangos) {
+        SegmentoFrio[][] vacios = new SegmentoFrio[rangos][];
+        Arrays.fill(vacios, NINGUNO);
+        return vacios;
+    }
+
+    private static List<Map<String, List<Transaccion>>> porRango(Map<String, List<Transaccion>> filas, int rangos) {
+        List<Map<String, List<Transaccion>>> resultado = new ArrayList<>(rangos);
+        for (int i = 0; i < rangos; i++) {
+            resultado.add(new HashMap<>());
+        }
+        for (Map.Entry<String, List<Transaccion>> cuenta : filas.entrySet()) {
+            resultado.get(Math.floorMod(cuenta.getKey().hashCode(), rangos)).put(cuenta.getKey(), cuenta.getValue());
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,52 @@
+package com.wallet.infrastructure.historial;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cursor sobre un buffer compartido: lee con posiciones absolutas, así que
+ * varios lectores pueden recorrer el mismo segmento a la vez.
+ *
+ * @see EscritorBytes
+ */
+final class LectorBytes {
+
+    private final ByteBuffer buffer;
+    private int posicion;
+
+    LectorBytes(ByteBuffer buffer, int posicion) {
+        this.buffer = buffer;
+        this.posicion = posicion;
+    }
+
+    long varint() {
+        long valor = 0;
+        for (int desplazamiento = 0; ; desplazamiento += 7) {
+            byte b = buffer.get(posicion++);
+            valor |= (long) (b & 0x7F) << desplazamiento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+    }
+
+    int varintEntero() {
+        return Math.toIntExact(varint());
+    }
+
+    long zigzag() {
+        long valor = varint();
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    String texto(int bytes) {
+        byte[] contenido = new byte[bytes];
+        buffer.get(posicion, contenido);
+        posicion += bytes;
+        return new String(contenido, StandardCharsets.UTF_8);
+    }
+
+    int posicion() {
+        return posicion;
+    }
+}
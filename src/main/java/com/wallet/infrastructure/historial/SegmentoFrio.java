@@ -0,0 +1,770 @@
+package com.wallet.infrastructure.historial;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Transferencia;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Segmento inmutable con una parte del historial archivado de un rango de
+ * cuentas: lo que se archivó en una pasada, o en varias pasadas seguidas ya
+ * fusionadas.
+ *
+ * Cada cuenta tiene un bloque de filas: primero sus transacciones propias,
+ * en orden de secuencia desde la primera del bloque (la fila i es la
+ * secuencia primera + i, que no se guarda), y después los reflejos, las transacciones de otras cuentas que
+ * aparecen en su historial (el otro tramo de una transferencia, o la
+ * transacción suelta en la que figura como destino). Cada bloque guarda sus
+ * campos en columnas separadas; los ids, fechas y saldos como diferencias
+ * con la fila anterior en zigzag y varint, y los textos (cuentas, monedas,
+ * descripciones) como posiciones en un diccionario de segmento. Cada
+ * {@link #PASO_FILAS} filas el bloque guarda un punto de control con la
+ * posición de cada columna y los valores previos de las diferencias, de
+ * modo que leer una fila decodifica a lo sumo ese paso desde el punto
+ * anterior y no desde el comienzo del bloque. Con retiros
+ * y transferencias entre miles de cuentas, cada tramo ocupa menos de 50
+ * bytes contando su reflejo y su descripción, contra los cientos de sus
+ * objetos en el heap.
+ *
+ * Formato: cabecera de enteros fijos, diccionario, directorio de cuentas,
+ * bloques, índice de ids propios ordenado (varint, con una tabla de saltos de
+ * ancho fijo cada {@link #PASO_INDICE} entradas para buscar por bisección) e
+ * ids que no se pueden codificar como número (por ejemplo, UUID de datos
+ * anteriores). El diccionario, el directorio y esos ids se leen al abrir;
+ * las filas se decodifican al consultar.
+ *
+ * Fusionar dos segmentos seguidos conserva el diccionario del anterior como
+ * prefijo, así que sus bloques de cuentas sin filas en el siguiente se
+ * copian tal cual, sin decodificarlos.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class SegmentoFrio {
+
+    static final int PASO_INDICE = 16;
+    static final int PASO_FILAS = 64;
+
+    private static final int MAGICO = 0x57484632; // "WHF2"
+    private static final int ENTEROS_CABECERA = 7;
+    private static final int BYTES_SALTO = Long.BYTES + 2 * Integer.BYTES;
+
+    // Columnas de un bloque
+    private static final int BANDERAS = 0;
+    private static final int IDS = 1;
+    private static final int FECHAS = 2;
+    private static final int SECUENCIAS = 3;
+    private static final int MONTOS = 4;
+    private static final int MONEDAS = 5;
+    private static final int SALDOS = 6;
+    private static final int CUENTAS = 7;
+    private static final int DESCRIPCIONES = 8;
+    private static final int COLUMNAS = 9;
+    // Punto de control: posición de cada columna e id, fecha y saldo previos
+    private static final int BYTES_PUNTO = COLUMNAS * Integer.BYTES + 3 * Long.BYTES;
+
+    // Banderas de una fila: los 3 bits bajos son el tipo
+    private static final int MASCARA_TIPO = 0x7;
+    private static final int PROPIA = 1 << 3;
+    private static final int CON_DESTINO = 1 << 4;
+    private static final int DESPLAZAMIENTO_CLASE = 5; // 2 bits: suelta, -E, -R, tramo de asiento
+    private static final int ID_TEXTUAL = 1 << 7;
+    private static final int OTRA_MONEDA_SALDO = 1 << 8;
+    private static final int CON_DESCRIPCION = 1 << 9;
+    private static final int CLASE_TRAMO_ASIENTO = 3;
+
+    private static final TipoTransaccion[] TIPOS = TipoTransaccion.values();
+
+    private final String nombre;
+    private final ByteBuffer buffer;
+    private final String[] diccionario;
+    private final Map<String, Bloque> bloques;
+    private final Map<String, Long> idsTextuales;
+    private final int inicioIndice;
+    private final int inicioSaltos;
+    private final int entradasIndice;
+    private final long propias;
+
+    private SegmentoFrio(String nombre, ByteBuffer buffer) {
+        this.nombre = nombre;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGICO) {
+            throw new IllegalStateException("El segmento " + nombre + " no tiene un formato válido");
+        }
+        int inicioDirectorio = buffer.getInt(4);
+        int inicioBloques = buffer.getInt(8);
+        this.inicioIndice = buffer.getInt(12);
+        this.inicioSaltos = buffer.getInt(16);
+        this.entradasIndice = buffer.getInt(20);
+        int inicioTextuales = buffer.getInt(24);
+
+        LectorBytes lector = new LectorBytes(buffer, ENTEROS_CABECERA * Integer.BYTES);
+        this.diccionario = new String[lector.varintEntero()];
+        for (int i = 0; i < diccionario.length; i++) {
+            diccionario[i] = lector.texto(lector.varintEntero());
+        }
+
+        lector = new LectorBytes(buffer, inicioDirectorio);
+        int cuentas = lector.varintEntero();
+        this.bloques = new HashMap<>(cuentas * 2);
+        long totalPropias = 0;
+        for (int i = 0; i < cuentas; i++) {
+            Bloque bloque = new Bloque(lector.varintEntero(), inicioBloques + lector.varintEntero(),
+                                       lector.varintEntero(), lector.varintEntero(), lector.varintEntero(),
+                                       lector.varint());
+            bloques.put(diccionario[bloque.cuenta], bloque);
+            totalPropias += bloque.propias;
+        }
+        this.propias = totalPropias;
+
+        lector = new LectorBytes(buffer, inicioTextuales);
+        int textuales = lector.varintEntero();
+        this.idsTextuales = new HashMap<>(textuales * 2);
+        for (int i = 0; i < textuales; i++) {
+            idsTextuales.put(diccionario[lector.varintEntero()], posicion(lector.varintEntero(), lector.varintEntero()));
+        }
+    }
+
+    /**
+     * Arma el segmento con las filas de una pasada de archivado.
+     *
+     * @param propias por cuenta, tramos propios consecutivos
+     * @param reflejos por cuenta, transacciones de otras cuentas que aparecen en su historial
+     * @throws IllegalStateException si las propias de una cuenta no son consecutivas
+     */
+    static SegmentoFrio construir(String nombre, Map<String, List<Transaccion>> propias,
+                                  Map<String, List<Transaccion>> reflejos, AlmacenSegmentos almacen) {
+        return construir(nombre, null, propias, reflejos, almacen);
+    }
+
+    /**
+     * Une dos segmentos seguidos del mismo rango: las propias del siguiente
+     * continúan las del anterior en cada cuenta que está en los dos.
+     */
+    static SegmentoFrio fusionar(String nombre, SegmentoFrio anterior, SegmentoFrio siguiente,
+                                 AlmacenSegmentos almacen) {
+        Map<String, List<Transaccion>> propias = new HashMap<>();
+        Map<String, List<Transaccion>> reflejos = new HashMap<>();
+        for (Map.Entry<String, Bloque> bloque : siguiente.bloques.entrySet()) {
+            List<Transaccion> suyas = new ArrayList<>(bloque.getValue().propias);
+            List<Transaccion> ajenas = new ArrayList<>(bloque.getValue().filas - bloque.getValue().propias);
+            siguiente.leerBloque(bloque.getKey(), bloque.getValue(), suyas, ajenas);
+            propias.put(bloque.getKey(), suyas);
+            reflejos.put(bloque.getKey(), ajenas);
+        }
+        return construir(nombre, anterior, propias, reflejos, almacen);
+    }
+
+    /**
+     * Arma un segmento con los bloques del anterior más las filas dadas.
+     */
+    private static SegmentoFrio construir(String nombre, SegmentoFrio anterior, Map<String, List<Transaccion>> propias,
+                                  Map<String, List<Transaccion>> reflejos, AlmacenSegmentos almacen) {
+        Diccionario diccionario = new Diccionario(anterior != null ? anterior.diccionario : new String[0]);
+        TreeSet<String> cuentas = new TreeSet<>(propias.keySet());
+        cuentas.addAll(reflejos.keySet());
+        List<EntradaIndice> indice = new ArrayList<>();
+        Map<String, Long> textuales = new HashMap<>();
+        if (anterior != null) {
+            cuentas.addAll(anterior.bloques.keySet());
+            indice.addAll(anterior.leerIndice());
+            textuales.putAll(anterior.idsTextuales);
+        }
+
+        EscritorBytes directorio = new EscritorBytes();
+        EscritorBytes contenido = new EscritorBytes();
+        directorio.varint(cuentas.size());
+        for (String cuenta : cuentas) {
+            List<Transaccion> nuevasPropias = propias.getOrDefault(cuenta, Collections.emptyList());
+            List<Transaccion> nuevosReflejos = reflejos.getOrDefault(cuenta, Collections.emptyList());
+            Bloque previo = anterior != null ? anterior.bloques.get(cuenta) : null;
+            int inicio = contenido.largo();
+            int indiceCuenta = diccionario.indice(cuenta);
+            int filas;
+            int propiasCuenta;
+            long primera;
+            if (previo != null && nuevasPropias.isEmpty() && nuevosReflejos.isEmpty()) {
+                contenido.bytes(anterior.buffer, previo.inicio, previo.largo);
+                filas = previo.filas;
+                propiasCuenta = previo.propias;
+                primera = previo.primera;
+            } else {
+                List<Transaccion> todasPropias = new ArrayList<>();
+                List<Transaccion> todosReflejos = new ArrayList<>();
+                if (previo != null) {
+                    anterior.leerBloque(cuenta, previo, todasPropias, todosReflejos);
+                }
+                int primeraNueva = todasPropias.size();
+                todasPropias.addAll(nuevasPropias);
+                todosReflejos.addAll(nuevosReflejos);
+                codificarBloque(cuenta, todasPropias, todosReflejos, diccionario, contenido);
+                for (int fila = primeraNueva; fila < todasPropias.size(); fila++) {
+                    String id = todasPropias.get(fila).getId();
+                    int subindice = subindice(id);
+                    if (subindice < 0) {
+                        textuales.put(id, posicion(indiceCuenta, fila));
+                    } else {
+                        indice.add(new EntradaIndice(valorBase(id), subindice, indiceCuenta, fila));
+                    }
+                }
+                filas = todasPropias.size() + todosReflejos.size();
+                propiasCuenta = todasPropias.size();
+                primera = todasPropias.isEmpty() ? 0 : todasPropias.get(0).getSecuencia();
+            }
+            directorio.varint(indiceCuenta);
+            directorio.varint(inicio);
+            directorio.varint(contenido.largo() - inicio);
+            directorio.varint(filas);
+            directorio.varint(propiasCuenta);
+            directorio.varint(primera);
+        }
+
+        indice.sort(EntradaIndice.ORDEN);
+        EscritorBytes entradas = new EscritorBytes();
+        EscritorBytes saltos = new EscritorBytes();
+        long previo = 0;
+        for (int i = 0; i < indice.size(); i++) {
+            EntradaIndice entrada = indice.get(i);
+            if (i % PASO_INDICE == 0) {
+                saltos.largo(entrada.valor);
+                saltos.entero(entrada.subindice);
+                saltos.entero(entradas.largo());
+                previo = 0;
+            }
+            entradas.zigzag(entrada.valor - previo);
+            entradas.varint(entrada.subindice);
+            entradas.varint(entrada.cuenta);
+            entradas.varint(entrada.fila);
+            previo = entrada.valor;
+        }
+        EscritorBytes noNumericos = new EscritorBytes();
+        noNumericos.varint(textuales.size());
+        for (Map.Entry<String, Long> textual : textuales.entrySet()) {
+            noNumericos.varint(diccionario.indice(textual.getKey()));
+            noNumericos.varint(textual.getValue() >>> 32);
+            noNumericos.varint(textual.getValue() & 0xFFFFFFFFL);
+        }
+
+        EscritorBytes segmento = new EscritorBytes();
+        for (int i = 0; i < ENTEROS_CABECERA; i++) {
+            segmento.entero(0);
+        }
+        diccionario.escribir(segmento);
+        segmento.entero(4, segmento.largo());
+        segmento.bytes(directorio);
+        segmento.entero(8, segmento.largo());
+        segmento.bytes(contenido);
+        segmento.entero(12, segmento.largo());
+        segmento.bytes(entradas);
+        segmento.entero(16, segmento.largo());
+        segmento.bytes(saltos);
+        segmento.entero(20, indice.size());
+        segmento.entero(24, segmento.largo());
+        segmento.bytes(noNumericos);
+        segmento.entero(0, MAGICO);
+        return new SegmentoFrio(nombre, almacen.guardar(nombre, segmento.datos(), segmento.largo()));
+    }
+
+    /**
+     * Historial archivado de la cuenta: propias y reflejos, sin ordenar.
+     */
+    List<Transaccion> deCuenta(String cuentaId) {
+        Bloque bloque = bloques.get(cuentaId);
+        if (bloque == null) {
+            return Collections.emptyList();
+        }
+        List<Transaccion> filas = new ArrayList<>(bloque.filas);
+        LectorBloque lector = new LectorBloque(cuentaId, bloque, 0);
+        for (int fila = 0; fila < bloque.filas; fila++) {
+            filas.add(lector.siguiente(true));
+        }
+        return filas;
+    }
+
+    /**
+     * Propias de la cuenta en este segmento con secuencia mayor a la dada, en orden.
+     */
+    List<Transaccion> propias(String cuentaId, long despuesDe, int cantidad) {
+        Bloque bloque = bloques.get(cuentaId);
+        if (bloque == null || despuesDe >= bloque.primera - 1 + bloque.propias) {
+            return Collections.emptyList();
+        }
+        int desde = (int) Math.max(0, despuesDe - (bloque.primera - 1));
+        int fin = (int) Math.min(bloque.propias, (long) desde + cantidad);
+        List<Transaccion> resultado = new ArrayList<>(fin - desde);
+        LectorBloque lector = new LectorBloque(cuentaId, bloque, desde);
+        for (int fila = desde; fila < fin; fila++) {
+            resultado.add(lector.siguiente(true));
+        }
+        return resultado;
+    }
+
+    /**
+     * Secuencia de la última propia de la cuenta en este segmento, o 0.
+     */
+    long ultimaPropia(String cuentaId) {
+        Bloque bloque = bloques.get(cuentaId);
+        return bloque != null && bloque.propias > 0 ? bloque.primera - 1 + bloque.propias : 0;
+    }
+
+    /**
+     * Tramo propio con el id dado, o null. Busca por bisección en la tabla
+     * de saltos y recorre a lo sumo {@link #PASO_INDICE} entradas.
+     */
+    Transaccion buscarPorId(String id) {
+        int subindice = subindice(id);
+        if (subindice < 0) {
+            Long posicion = idsTextuales.get(id);
+            return posicion != null ? fila((int) (posicion >>> 32), (int) (long) posicion) : null;
+        }
+        long valor = valorBase(id);
+        int saltos = (entradasIndice + PASO_INDICE - 1) / PASO_INDICE;
+        int desde = 0;
+        int hasta = saltos - 1;
+        int salto = -1;
+        while (desde <= hasta) {
+            int medio = (desde + hasta) >>> 1;
+            int posicion = inicioSaltos + medio * BYTES_SALTO;
+            if (comparar(buffer.getLong(posicion), buffer.getInt(posicion + Long.BYTES), valor, subindice) <= 0) {
+                salto = medio;
+                desde = medio + 1;
+            } else {
+                hasta = medio - 1;
+            }
+        }
+        if (salto < 0) {
+            return null;
+        }
+        LectorBytes lector = new LectorBytes(buffer,
+            inicioIndice + buffer.getInt(inicioSaltos + salto * BYTES_SALTO + Long.BYTES + Integer.BYTES));
+        int fin = Math.min(entradasIndice, (salto + 1) * PASO_INDICE);
+        long previo = 0;
+        for (int i = salto * PASO_INDICE; i < fin; i++) {
+            long actual = previo + lector.zigzag();
+            int sub = lector.varintEntero();
+            int cuenta = lector.varintEntero();
+            int fila = lector.varintEntero();
+            int comparacion = comparar(actual, sub, valor, subindice);
+            if (comparacion == 0) {
+                return fila(cuenta, fila);
+            }
+            if (comparacion > 0) {
+                return null;
+            }
+            previo = actual;
+        }
+        return null;
+    }
+
+    /**
+     * Todas las propias del segmento, cuenta por cuenta.
+     */
+    Stream<Transaccion> recorrerPropias() {
+        return bloques.keySet().stream()
+            .flatMap(cuenta -> propias(cuenta, 0, Integer.MAX_VALUE).stream());
+    }
+
+    /**
+     * Tramos propios archivados en el segmento.
+     */
+    public long getPropias() {
+        return propias;
+    }
+
+    public int getBytes() {
+        return buffer.capacity();
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    private Transaccion fila(int indiceCuenta, int fila) {
+        String cuentaId = diccionario[indiceCuenta];
+        Bloque bloque = bloques.get(cuentaId);
+        return new LectorBloque(cuentaId, bloque, fila).siguiente(true);
+    }
+
+    private void leerBloque(String cuentaId, Bloque bloque, List<Transaccion> propias, List<Transaccion> reflejos) {
+        LectorBloque lector = new LectorBloque(cuentaId, bloque, 0);
+        for (int fila = 0; fila < bloque.filas; fila++) {
+            (fila < bloque.propias ? propias : reflejos).add(lector.siguiente(true));
+        }
+    }
+
+    private List<EntradaIndice> leerIndice() {
+        List<EntradaIndice> entradas = new ArrayList<>(entradasIndice);
+        LectorBytes lector = new LectorBytes(buffer, inicioIndice);
+        long previo = 0;
+        for (int i = 0; i < entradasIndice; i++) {
+            if (i % PASO_INDICE == 0) {
+                previo = 0;
+            }
+            long valor = previo + lector.zigzag();
+            entradas.add(new EntradaIndice(valor, lector.varintEntero(), lector.varintEntero(), lector.varintEntero()));
+            previo = valor;
+        }
+        return entradas;
+    }
+
+    private static void codificarBloque(String cuentaId, List<Transaccion> propias, List<Transaccion> reflejos,
+                                        Diccionario diccionario, EscritorBytes destino) {
+        EscritorBytes[] columnas = new EscritorBytes[COLUMNAS];
+        for (int i = 0; i < COLUMNAS; i++) {
+            columnas[i] = new EscritorBytes();
+        }
+        long[] previos = new long[3];
+        EscritorBytes puntos = new EscritorBytes();
+        long primera = propias.isEmpty() ? 0 : propias.get(0).getSecuencia();
+        for (int fila = 0; fila < propias.size(); fila++) {
+            marcarPunto(fila, columnas, previos, puntos);
+            Transaccion propia = propias.get(fila);
+            if (propia.getSecuencia() != primera + fila || !propia.getCuentaOrigenId().equals(cuentaId)) {
+                throw new IllegalStateException(String.format(
+                    "La transacción %s no continúa el historial archivado de la cuenta %s",
+                    propia.getId(), cuentaId));
+            }
+            codificarFila(propia, true, diccionario, columnas, previos);
+        }
+        for (int i = 0; i < reflejos.size(); i++) {
+            marcarPunto(propias.size() + i, columnas, previos, puntos);
+            codificarFila(reflejos.get(i), false, diccionario, columnas, previos);
+        }
+        for (EscritorBytes columna : columnas) {
+            destino.varint(columna.largo());
+        }
+        destino.bytes(puntos);
+        for (EscritorBytes columna : columnas) {
+            destino.bytes(columna);
+        }
+    }
+
+    /**
+     * Antes de la fila que abre cada paso anota dónde empieza en cada columna
+     * y los valores previos con los que se decodifica.
+     */
+    private static void marcarPunto(int fila, EscritorBytes[] columnas, long[] previos, EscritorBytes puntos) {
+        if (fila == 0 || fila % PASO_FILAS != 0) {
+            return;
+        }
+        for (EscritorBytes columna : columnas) {
+            puntos.entero(columna.largo());
+        }
+        for (long previo : previos) {
+            puntos.largo(previo);
+        }
+    }
+
+    /**
+     * @param previos id, fecha y saldo nuevo de la fila anterior
+     */
+    private static void codificarFila(Transaccion transaccion, boolean propia, Diccionario diccionario,
+                                      EscritorBytes[] columnas, long[] previos) {
+        String id = transaccion.getId();
+        int subindice = subindice(id);
+        String moneda = transaccion.getMonto().getMoneda();
+        String monedaSaldo = transaccion.getSaldoNuevo().getMoneda();
+        if (!transaccion.getSaldoAnterior().getMoneda().equals(monedaSaldo)) {
+            throw new IllegalArgumentException("Los saldos de la transacción " + id + " tienen monedas distintas");
+        }
+        int banderas = transaccion.getTipo().ordinal()
+            | (propia ? PROPIA : 0)
+            | (transaccion.getCuentaDestinoId() != null ? CON_DESTINO : 0)
+            | (subindice < 0 ? ID_TEXTUAL : Math.min(subindice, CLASE_TRAMO_ASIENTO) << DESPLAZAMIENTO_CLASE)
+            | (!monedaSaldo.equals(moneda) ? OTRA_MONEDA_SALDO : 0)
+            | (transaccion.getDescripcion() != null ? CON_DESCRIPCION : 0);
+        columnas[BANDERAS].varint(banderas);
+
+        if (subindice < 0) {
+            columnas[IDS].varint(diccionario.indice(id));
+        } else {
+            long valor = valorBase(id);
+            columnas[IDS].zigzag(valor - previos[0]);
+            previos[0] = valor;
+            if (subindice >= CLASE_TRAMO_ASIENTO) {
+                columnas[IDS].varint(subindice - CLASE_TRAMO_ASIENTO);
+            }
+        }
+        columnas[FECHAS].zigzag(transaccion.getFechaNanos() - previos[1]);
+        previos[1] = transaccion.getFechaNanos();
+        if (!propia) {
+            columnas[SECUENCIAS].varint(transaccion.getSecuencia());
+        }
+        columnas[MONTOS].zigzag(centavos(transaccion.getMonto()));
+        columnas[MONEDAS].varint(diccionario.indice(moneda));
+        if (!monedaSaldo.equals(moneda)) {
+            columnas[MONEDAS].varint(diccionario.indice(monedaSaldo));
+        }
+        long saldoAnterior = centavos(transaccion.getSaldoAnterior());
+        long saldoNuevo = centavos(transaccion.getSaldoNuevo());
+        // En las propias el saldo anterior repite el nuevo de la fila previa: diferencia 0
+        columnas[SALDOS].zigzag(saldoAnterior - previos[2]);
+        columnas[SALDOS].zigzag(saldoNuevo - saldoAnterior);
+        previos[2] = saldoNuevo;
+        if (!propia) {
+            columnas[CUENTAS].varint(diccionario.indice(transaccion.getCuentaOrigenId()));
+        }
+        if (transaccion.getCuentaDestinoId() != null) {
+            columnas[CUENTAS].varint(diccionario.indice(transaccion.getCuentaDestinoId()));
+        }
+        if (transaccion.getDescripcion() != null) {
+            columnas[DESCRIPCIONES].varint(diccionario.indice(transaccion.getDescripcion()));
+        }
+    }
+
+    /**
+     * Forma numérica de un id: 0 si es un id generado, 1 o 2 si es el tramo
+     * de envío o de recepción de una transferencia, 2 + n si es el tramo n de
+     * un asiento; -1 si no se puede codificar y va al diccionario.
+     */
+    static int subindice(String id) {
+        if (id.length() < Identificador.LARGO) {
+            return -1;
+        }
+        String base = id.substring(0, Identificador.LARGO);
+        try {
+            if (!Identificador.texto(Identificador.valor(base)).equals(base)) {
+                return -1;
+            }
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        String resto = id.substring(Identificador.LARGO);
+        if (resto.isEmpty()) {
+            return 0;
+        }
+        if (resto.equals(Transferencia.SUFIJO_ENVIADA)) {
+            return 1;
+        }
+        if (resto.equals(Transferencia.SUFIJO_RECIBIDA)) {
+            return 2;
+        }
+        if (resto.length() < 2 || resto.length() > 8 || resto.charAt(0) != '-' || resto.charAt(1) == '0') {
+            return -1;
+        }
+        int posicion = 0;
+        for (int i = 1; i < resto.length(); i++) {
+            char c = resto.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            posicion = posicion * 10 + (c - '0');
+        }
+        return 2 + posicion;
+    }
+
+    private static String id(long valor, int subindice) {
+        String base = Identificador.texto(valor);
+        switch (subindice) {
+            case 0:
+                return base;
+            case 1:
+                return base + Transferencia.SUFIJO_ENVIADA;
+            case 2:
+                return base + Transferencia.SUFIJO_RECIBIDA;
+            default:
+                return base + "-" + (subindice - 2);
+        }
+    }
+
+    private static long valorBase(String id) {
+        return Identificador.valor(id.substring(0, Identificador.LARGO));
+    }
+
+    private static int comparar(long valor, int subindice, long otroValor, int otroSubindice) {
+        int comparacion = Long.compare(valor, otroValor);
+        return comparacion != 0 ? comparacion : Integer.compare(subindice, otroSubindice);
+    }
+
+    private static long posicion(int cuenta, int fila) {
+        return ((long) cuenta << 32) | (fila & 0xFFFFFFFFL);
+    }
+
+    private static long centavos(Dinero dinero) {
+        // Dinero tiene escala 2: el valor sin escala son centavos
+        return dinero.getCantidad().unscaledValue().longValueExact();
+    }
+
+    private static Dinero dinero(long centavos, String moneda) {
+        return new Dinero(BigDecimal.valueOf(centavos, 2), moneda);
+    }
+
+    /**
+     * Ubicación de las filas de una cuenta.
+     */
+    private static final class Bloque {
+        final int cuenta;
+        final int inicio;
+        final int largo;
+        final int filas;
+        final int propias;
+        final long primera;  // secuencia de la fila 0; 0 si no hay propias
+
+        Bloque(int cuenta, int inicio, int largo, int filas, int propias, long primera) {
+            this.cuenta = cuenta;
+            this.inicio = inicio;
+            this.largo = largo;
+            this.filas = filas;
+            this.propias = propias;
+            this.primera = primera;
+        }
+    }
+
+    /**
+     * Recorre las filas de un bloque en orden, con un cursor por columna.
+     */
+    private final class LectorBloque {
+        final String cuentaId;
+        final long primera;
+        final LectorBytes[] columnas = new LectorBytes[COLUMNAS];
+        long idPrevio;
+        long fechaPrevia;
+        long saldoPrevio;
+        int fila;
+
+        /**
+         * Lector posicionado en la fila dada: arranca en el punto de control
+         * anterior y avanza el resto sin construir filas.
+         */
+        LectorBloque(String cuentaId, Bloque bloque, int desde) {
+            this.cuentaId = cuentaId;
+            this.primera = bloque.primera;
+            LectorBytes cabecera = new LectorBytes(buffer, bloque.inicio);
+            int[] largos = new int[COLUMNAS];
+            for (int i = 0; i < COLUMNAS; i++) {
+                largos[i] = cabecera.varintEntero();
+            }
+            int inicioPuntos = cabecera.posicion();
+            int puntos = bloque.filas > 0 ? (bloque.filas - 1) / PASO_FILAS : 0;
+            int punto = Math.min(desde / PASO_FILAS, puntos);
+            int inicioPunto = inicioPuntos + (punto - 1) * BYTES_PUNTO;
+            int posicion = inicioPuntos + puntos * BYTES_PUNTO;
+            for (int i = 0; i < COLUMNAS; i++) {
+                int desplazamiento = punto > 0 ? buffer.getInt(inicioPunto + i * Integer.BYTES) : 0;
+                columnas[i] = new LectorBytes(buffer, posicion + desplazamiento);
+                posicion += largos[i];
+            }
+            if (punto > 0) {
+                int inicioPrevios = inicioPunto + COLUMNAS * Integer.BYTES;
+                idPrevio = buffer.getLong(inicioPrevios);
+                fechaPrevia = buffer.getLong(inicioPrevios + Long.BYTES);
+                saldoPrevio = buffer.getLong(inicioPrevios + 2 * Long.BYTES);
+                fila = punto * PASO_FILAS;
+            }
+            while (fila < desde) {
+                siguiente(false);
+            }
+        }
+
+        /**
+         * Avanza una fila; si no se pide construirla solo mueve los cursores.
+         */
+        Transaccion siguiente(boolean construir) {
+            int banderas = columnas[BANDERAS].varintEntero();
+            boolean propia = (banderas & PROPIA) != 0;
+            String id = null;
+            if ((banderas & ID_TEXTUAL) != 0) {
+                id = diccionario[columnas[IDS].varintEntero()];
+            } else {
+                idPrevio += columnas[IDS].zigzag();
+                int clase = (banderas >>> DESPLAZAMIENTO_CLASE) & 0x3;
+                int subindice = clase == CLASE_TRAMO_ASIENTO
+                    ? CLASE_TRAMO_ASIENTO + columnas[IDS].varintEntero()
+                    : clase;
+                if (construir) {
+                    id = SegmentoFrio.id(idPrevio, subindice);
+                }
+            }
+            fechaPrevia += columnas[FECHAS].zigzag();
+            long secuencia = propia ? primera + fila : columnas[SECUENCIAS].varint();
+            long monto = columnas[MONTOS].zigzag();
+            String moneda = diccionario[columnas[MONEDAS].varintEntero()];
+            String monedaSaldo = (banderas & OTRA_MONEDA_SALDO) != 0
+                ? diccionario[columnas[MONEDAS].varintEntero()]
+                : moneda;
+            long saldoAnterior = saldoPrevio + columnas[SALDOS].zigzag();
+            saldoPrevio = saldoAnterior + columnas[SALDOS].zigzag();
+            String origen = propia ? cuentaId : diccionario[columnas[CUENTAS].varintEntero()];
+            String destino = (banderas & CON_DESTINO) != 0 ? diccionario[columnas[CUENTAS].varintEntero()] : null;
+            String descripcion = (banderas & CON_DESCRIPCION) != 0
+                ? diccionario[columnas[DESCRIPCIONES].varintEntero()]
+                : null;
+            fila++;
+            if (!construir) {
+                return null;
+            }
+            return Transaccion.reconstruir(id, TIPOS[banderas & MASCARA_TIPO], dinero(monto, moneda),
+                origen, destino, descripcion, fechaPrevia,
+                dinero(saldoAnterior, monedaSaldo), dinero(saldoPrevio, monedaSaldo), secuencia);
+        }
+    }
+
+    /**
+     * Id propio en el índice: valor y subíndice, y la fila donde está.
+     */
+    private static final class EntradaIndice {
+        static final Comparator<EntradaIndice> ORDEN = (a, b) -> comparar(a.valor, a.subindice, b.valor, b.subindice);
+
+        final long valor;
+        final int subindice;
+        final int cuenta;
+        final int fila;
+
+        EntradaIndice(long valor, int subindice, int cuenta, int fila) {
+            this.valor = valor;
+            this.subindice = subindice;
+            this.cuenta = cuenta;
+            this.fila = fila;
+        }
+    }
+
+    /**
+     * Diccionario en construcción: empieza con el del segmento anterior, así
+     * las posiciones que ya están en sus bloques siguen valiendo.
+     */
+    private static final class Diccionario {
+        final List<String> textos;
+        final Map<String, Integer> posiciones;
+
+        Diccionario(String[] anteriores) {
+            this.textos = new ArrayList<>(Arrays.asList(anteriores));
+            this.posiciones = new HashMap<>(anteriores.length * 2);
+            for (int i = 0; i < anteriores.length; i++) {
+                posiciones.putIfAbsent(anteriores[i], i);
+            }
+        }
+
+        int indice(String texto) {
+            Integer posicion = posiciones.get(texto);
+            if (posicion == null) {
+                posicion = textos.size();
+                textos.add(texto);
+                posiciones.put(texto, posicion);
+            }
+            return posicion;
+        }
+
+        void escribir(EscritorBytes destino) {
+            destino.varint(textos.size());
+            for (String texto : textos) {
+                byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+                destino.varint(bytes.length);
+                destino.bytes(bytes, 0, bytes.length);
+            }
+        }
+    }
+}
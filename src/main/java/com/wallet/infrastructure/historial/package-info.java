@@ -0,0 +1,14 @@
+/**
+ * Historial frío de transacciones.
+ *
+ * Este paquete contiene los segmentos inmutables donde el repositorio de
+ * transacciones archiva lo que supera una antigüedad: uno por rango de
+ * cuentas y pasada de archivado, fusionados luego en segundo plano, con
+ * cada campo en su propia columna codificada en diferencias y varint,
+ * guardados en el heap, fuera de él o en archivos mapeados. El repositorio
+ * combina este historial con el reciente en cada consulta.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.historial;
@@ -0,0 +1,336 @@
+package com.wallet.infrastructure.json;
+
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.UsuarioDTO;
+import com.wallet.application.dtos.requests.CrearUsuarioRequest;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codificación JSON de los DTOs y solicitudes de la aplicación.
+ *
+ * Escrito a mano campo por campo, sin reflexión: no hay escaneo de clases al
+ * arrancar y cada DTO se serializa con llamadas directas a sus getters. Los
+ * nombres de campo se codifican una sola vez y los campos desconocidos se ignoran
+ * al leer.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class CodificadorJson {
+
+    private static final byte[] ID = JsonEscritor.nombre("id");
+    private static final byte[] NOMBRE = JsonEscritor.nombre("nombre");
+    private static final byte[] APELLIDO = JsonEscritor.nombre("apellido");
+    private static final byte[] EMAIL = JsonEscritor.nombre("email");
+    private static final byte[] TIPO_DOCUMENTO = JsonEscritor.nombre("tipoDocumento");
+    private static final byte[] NUMERO_DOCUMENTO = JsonEscritor.nombre("numeroDocumento");
+    private static final byte[] ACTIVO = JsonEscritor.nombre("activo");
+    private static final byte[] FECHA_CREACION = JsonEscritor.nombre("fechaCreacion");
+    private static final byte[] FECHA_ACTUALIZACION = JsonEscritor.nombre("fechaActualizacion");
+    private static final byte[] NUMERO_CUENTA = JsonEscritor.nombre("numeroCuenta");
+    private static final byte[] USUARIO_ID = JsonEscritor.nombre("usuarioId");
+    private static final byte[] SALDO = JsonEscritor.nombre("saldo");
+    private static final byte[] SALDO_DISPONIBLE = JsonEscritor.nombre("saldoDisponible");
+    private static final byte[] MONEDA = JsonEscritor.nombre("moneda");
+    private static final byte[] ACTIVA = JsonEscritor.nombre("activa");
+    private static final byte[] CUENTA_ID = JsonEscritor.nombre("cuentaId");
+    private static final byte[] TIPO = JsonEscritor.nombre("tipo");
+    private static final byte[] MONTO = JsonEscritor.nombre("monto");
+    private static final byte[] DESCRIPCION = JsonEscritor.nombre("descripcion");
+    private static final byte[] FECHA = JsonEscritor.nombre("fecha");
+    private static final byte[] CUENTA_DESTINO_ID = JsonEscritor.nombre("cuentaDestinoId");
+    private static final byte[] CUENTA_ORIGEN_ID = JsonEscritor.nombre("cuentaOrigenId");
+    private static final byte[] SECUENCIA = JsonEscritor.nombre("secuencia");
+    private static final byte[] CLAVE_IDEMPOTENCIA = JsonEscritor.nombre("claveIdempotencia");
+
+    private static final byte[][] CAMPOS_USUARIO = JsonLector.nombres("id", "nombre", "apellido", "email",
+        "tipoDocumento", "numeroDocumento", "activo", "fechaCreacion", "fechaActualizacion");
+    private static final byte[][] CAMPOS_CUENTA = JsonLector.nombres("id", "numeroCuenta", "usuarioId",
+        "saldo", "moneda", "activa", "fechaCreacion", "fechaActualizacion", "saldoDisponible");
+    private static final byte[][] CAMPOS_TRANSACCION = JsonLector.nombres("id", "cuentaId", "tipo",
+        "monto", "moneda", "descripcion", "fecha", "cuentaDestinoId", "secuencia");
+    private static final byte[][] CAMPOS_CREAR_USUARIO = JsonLector.nombres("nombre", "apellido", "email",
+        "tipoDocumento", "numeroDocumento");
+    private static final byte[][] CAMPOS_MOVIMIENTO = JsonLector.nombres("cuentaId", "monto", "descripcion",
+        "claveIdempotencia");
+    private static final byte[][] CAMPOS_TRANSFERENCIA = JsonLector.nombres("cuentaOrigenId",
+        "cuentaDestinoId", "monto", "descripcion", "claveIdempotencia");
+
+    private CodificadorJson() {
+        throw new AssertionError("No se debe instanciar CodificadorJson");
+    }
+
+    // ==================== Escritura ====================
+
+    public static void escribir(JsonEscritor json, UsuarioDTO dto) {
+        json.inicioObjeto()
+            .campo(ID).valor(dto.getId())
+            .campo(NOMBRE).valor(dto.getNombre())
+            .campo(APELLIDO).valor(dto.getApellido())
+            .campo(EMAIL).valor(dto.getEmail())
+            .campo(TIPO_DOCUMENTO).valor(dto.getTipoDocumento())
+            .campo(NUMERO_DOCUMENTO).valor(dto.getNumeroDocumento())
+            .campo(ACTIVO).valor(dto.isActivo())
+            .campo(FECHA_CREACION).valor(dto.getFechaCreacion())
+            .campo(FECHA_ACTUALIZACION).valor(dto.getFechaActualizacion())
+            .finObjeto();
+    }
+
+    public static void escribir(JsonEscritor json, CuentaDTO dto) {
+        json.inicioObjeto()
+            .campo(ID).valor(dto.getId())
+            .campo(NUMERO_CUENTA).valor(dto.getNumeroCuenta())
+            .campo(USUARIO_ID).valor(dto.getUsuarioId())
+            .campo(SALDO).valor(dto.getSaldo())
+            .campo(SALDO_DISPONIBLE).valor(dto.getSaldoDisponible())
+            .campo(MONEDA).valor(dto.getMoneda())
+            .campo(ACTIVA).valor(dto.isActiva())
+            .campo(FECHA_CREACION).valor(dto.getFechaCreacion())
+            .campo(FECHA_ACTUALIZACION).valor(dto.getFechaActualizacion())
+            .finObjeto();
+    }
+
+    public static void escribir(JsonEscritor json, TransaccionDTO dto) {
+        json.inicioObjeto()
+            .campo(ID).valor(dto.getId())
+            .campo(CUENTA_ID).valor(dto.getCuentaId())
+            .campo(TIPO).valor(dto.getTipo())
+            .campo(MONTO).valor(dto.getMonto())
+            .campo(MONEDA).valor(dto.getMoneda())
+            .campo(DESCRIPCION).valor(dto.getDescripcion())
+            .campo(FECHA).valor(dto.getFecha())
+            .campo(CUENTA_DESTINO_ID).valor(dto.getCuentaDestinoId())
+            .campo(SECUENCIA).valor(dto.getSecuencia())
+            .finObjeto();
+    }
+
+    public static void escribir(JsonEscritor json, CrearUsuarioRequest request) {
+        json.inicioObjeto()
+            .campo(NOMBRE).valor(request.getNombre())
+            .campo(APELLIDO).valor(request.getApellido())
+            .campo(EMAIL).valor(request.getEmail())
+            .campo(TIPO_DOCUMENTO).valor(request.getTipoDocumento())
+            .campo(NUMERO_DOCUMENTO).valor(request.getNumeroDocumento())
+            .finObjeto();
+    }
+
+    public static void escribir(JsonEscritor json, DepositarDineroRequest request) {
+        json.inicioObjeto()
+            .campo(CUENTA_ID).valor(request.getCuentaId())
+            .campo(MONTO).valor(request.getMonto())
+            .campo(DESCRIPCION).valor(request.getDescripcion());
+        escribirClaveIdempotencia(json, request.getClaveIdempotencia());
+        json.finObjeto();
+    }
+
+    public static void escribir(JsonEscritor json, RetirarDineroRequest request) {
+        json.inicioObjeto()
+            .campo(CUENTA_ID).valor(request.getCuentaId())
+            .campo(MONTO).valor(request.getMonto())
+            .campo(DESCRIPCION).valor(request.getDescripcion());
+        escribirClaveIdempotencia(json, request.getClaveIdempotencia());
+        json.finObjeto();
+    }
+
+    public static void escribir(JsonEscritor json, TransferirDineroRequest request) {
+        json.inicioObjeto()
+            .campo(CUENTA_ORIGEN_ID).valor(request.getCuentaOrigenId())
+            .campo(CUENTA_DESTINO_ID).valor(request.getCuentaDestinoId())
+            .campo(MONTO).valor(request.getMonto())
+            .campo(DESCRIPCION).valor(request.getDescripcion());
+        escribirClaveIdempotencia(json, request.getClaveIdempotencia());
+        json.finObjeto();
+    }
+
+    /**
+     * La clave es opcional: solo se escribe si está presente.
+     */
+    private static void escribirClaveIdempotencia(JsonEscritor json, String clave) {
+        if (clave != null) {
+            json.campo(CLAVE_IDEMPOTENCIA).valor(clave);
+        }
+    }
+
+    public static void escribirUsuarios(JsonEscritor json, List<UsuarioDTO> dtos) {
+        json.inicioArreglo();
+        for (UsuarioDTO dto : dtos) {
+            escribir(json, dto);
+        }
+        json.finArreglo();
+    }
+
+    public static void escribirCuentas(JsonEscritor json, List<CuentaDTO> dtos) {
+        json.inicioArreglo();
+        for (CuentaDTO dto : dtos) {
+            escribir(json, dto);
+        }
+        json.finArreglo();
+    }
+
+    public static void escribirTransacciones(JsonEscritor json, List<TransaccionDTO> dtos) {
+        json.inicioArreglo();
+        for (TransaccionDTO dto : dtos) {
+            escribir(json, dto);
+        }
+        json.finArreglo();
+    }
+
+    // ==================== Lectura ====================
+
+    public static UsuarioDTO leerUsuario(JsonLector json) {
+        UsuarioDTO dto = new UsuarioDTO();
+        json.inicioObjeto();
+        int campo;
+        while ((campo = json.siguienteCampo(CAMPOS_USUARIO)) != JsonLector.FIN_OBJETO) {
+            switch (campo) {
+                case 0: dto.setId(json.leerTexto()); break;
+                case 1: dto.setNombre(json.leerTexto()); break;
+                case 2: dto.setApellido(json.leerTexto()); break;
+                case 3: dto.setEmail(json.leerTexto()); break;
+                case 4: dto.setTipoDocumento(json.leerTexto()); break;
+                case 5: dto.setNumeroDocumento(json.leerTexto()); break;
+                case 6: dto.setActivo(json.leerBooleano()); break;
+                case 7: dto.setFechaCreacion(json.leerFecha()); break;
+                case 8: dto.setFechaActualizacion(json.leerFecha()); break;
+                default: json.saltarValor();
+            }
+        }
+        return dto;
+    }
+
+    public static CuentaDTO leerCuenta(JsonLector json) {
+        CuentaDTO dto = new CuentaDTO();
+        json.inicioObjeto();
+        int campo;
+        while ((campo = json.siguienteCampo(CAMPOS_CUENTA)) != JsonLector.FIN_OBJETO) {
+            switch (campo) {
+                case 0: dto.setId(json.leerTexto()); break;
+                case 1: dto.setNumeroCuenta(json.leerTexto()); break;
+                case 2: dto.setUsuarioId(json.leerTexto()); break;
+                case 3: dto.setSaldo(json.leerDecimal()); break;
+                case 4: dto.setMoneda(json.leerTexto()); break;
+                case 5: dto.setActiva(json.leerBooleano()); break;
+                case 6: dto.setFechaCreacion(json.leerFecha()); break;
+                case 7: dto.setFechaActualizacion(json.leerFecha()); break;
+                case 8: dto.setSaldoDisponible(json.leerDecimal()); break;
+                default: json.saltarValor();
+            }
+        }
+        return dto;
+    }
+
+    public static TransaccionDTO leerTransaccion(JsonLector json) {
+        TransaccionDTO dto = new TransaccionDTO();
+        json.inicioObjeto();
+        int campo;
+        while ((campo = json.siguienteCampo(CAMPOS_TRANSACCION)) != JsonLector.FIN_OBJETO) {
+            switch (campo) {
+                case 0: dto.setId(json.leerTexto()); break;
+                case 1: dto.setCuentaId(json.leerTexto()); break;
+                case 2: dto.setTipo(json.leerTexto()); break;
+                case 3: dto.setMonto(json.leerDecimal()); break;
+                case 4: dto.setMoneda(json.leerTexto()); break;
+                case 5: dto.setDescripcion(json.leerTexto()); break;
+                case 6: dto.setFecha(json.leerFecha()); break;
+                case 7: dto.setCuentaDestinoId(json.leerTexto()); break;
+                case 8: dto.setSecuencia(leerSecuencia(json)); break;
+                default: json.saltarValor();
+            }
+        }
+        return dto;
+    }
+
+    private static long leerSecuencia(JsonLector json) {
+        BigDecimal valor = json.leerDecimal();
+        if (valor == null) {
+            return 0;
+        }
+        try {
+            return valor.longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Secuencia inválida: " + valor);
+        }
+    }
+
+    public static List<TransaccionDTO> leerTransacciones(JsonLector json) {
+        List<TransaccionDTO> dtos = new ArrayList<>();
+        json.inicioArreglo();
+        while (json.siguienteElemento()) {
+            dtos.add(leerTransaccion(json));
+        }
+        return dtos;
+    }
+
+    public static CrearUsuarioRequest leerCrearUsuarioRequest(JsonLector json) {
+        CrearUsuarioRequest request = new CrearUsuarioRequest();
+        json.inicioObjeto();
+        int campo;
+        while ((campo = json.siguienteCampo(CAMPOS_CREAR_USUARIO)) != JsonLector.FIN_OBJETO) {
+            switch (campo) {
+                case 0: request.setNombre(json.leerTexto()); break;
+                case 1: request.setApellido(json.leerTexto()); break;
+                case 2: request.setEmail(json.leerTexto()); break;
+                case 3: request.setTipoDocumento(json.leerTexto()); break;
+                case 4: request.setNumeroDocumento(json.leerTexto()); break;
+                default: json.saltarValor();
+            }
+        }
+        return request;
+    }
+
+    public static DepositarDineroRequest leerDepositarRequest(JsonLector json) {
+        DepositarDineroRequest request = new DepositarDineroRequest();
+        json.inicioObjeto();
+        int campo;
+        while ((campo = json.siguienteCampo(CAMPOS_MOVIMIENTO)) != JsonLector.FIN_OBJETO) {
+            switch (campo) {
+                case 0: request.setCuentaId(json.leerTexto()); break;
+                case 1: request.setMonto(json.leerDecimal()); break;
+                case 2: request.setDescripcion(json.leerTexto()); break;
+                case 3: request.setClaveIdempotencia(json.leerTexto()); break;
+                default: json.saltarValor();
+            }
+        }
+        return request;
+    }
+
+    public static RetirarDineroRequest leerRetirarRequest(JsonLector json) {
+        RetirarDineroRequest request = new RetirarDineroRequest();
+        json.inicioObjeto();
+        int campo;
+        while ((campo = json.siguienteCampo(CAMPOS_MOVIMIENTO)) != JsonLector.FIN_OBJETO) {
+            switch (campo) {
+                case 0: request.setCuentaId(json.leerTexto()); break;
+                case 1: request.setMonto(json.leerDecimal()); break;
+                case 2: request.setDescripcion(json.leerTexto()); break;
+                case 3: request.setClaveIdempotencia(json.leerTexto()); break;
+                default: json.saltarValor();
+            }
+        }
+        return request;
+    }
+
+    public static TransferirDineroRequest leerTransferirRequest(JsonLector json) {
+        TransferirDineroRequest request = new TransferirDineroRequest();
+        json.inicioObjeto();
+        int campo;
+        while ((campo = json.siguienteCampo(CAMPOS_TRANSFERENCIA)) != JsonLector.FIN_OBJETO) {
+            switch (campo) {
+                case 0: request.setCuentaOrigenId(json.leerTexto()); break;
+                case 1: request.setCuentaDestinoId(json.leerTexto()); break;
+                case 2: request.setMonto(json.leerDecimal()); break;
+                case 3: request.setDescripcion(json.leerTexto()); break;
+                case 4: request.setClaveIdempotencia(json.leerTexto()); break;
+                default: json.saltarValor();
+            }
+        }
+        return request;
+    }
+}
@@ -0,0 +1,379 @@
+package com.wallet.infrastructure.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Escritor JSON en streaming sobre un buffer de bytes reutilizable.
+ *
+ * Escribe UTF-8 directamente en el arreglo interno, sin pasar por String ni
+ * StringBuilder. Los números BigDecimal y las fechas LocalDateTime se
+ * convierten dígito a dígito. Tras {@link #reiniciar()} el mismo buffer se
+ * reutiliza para el siguiente documento.
+ *
+ * No es thread-safe: cada hilo debe usar su propia instancia.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class JsonEscritor {
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final int PROFUNDIDAD_MAXIMA = 32;
+
+    private byte[] buffer;
+    private int posicion;
+
+    /** Por nivel de anidación: si el siguiente elemento necesita coma antes. */
+    private final boolean[] requiereComa = new boolean[PROFUNDIDAD_MAXIMA];
+    private int nivel;
+
+    public JsonEscritor() {
+        this(512);
+    }
+
+    public JsonEscritor(int capacidadInicial) {
+        this.buffer = new byte[Math.max(16, capacidadInicial)];
+    }
+
+    /**
+     * Descarta el contenido escrito y deja el buffer listo para otro documento.
+     */
+    public JsonEscritor reiniciar() {
+        posicion = 0;
+        nivel = 0;
+        requiereComa[0] = false;
+        return this;
+    }
+
+    public JsonEscritor inicioObjeto() {
+        separador();
+        escribirByte('{');
+        abrirNivel();
+        return this;
+    }
+
+    public JsonEscritor finObjeto() {
+        nivel--;
+        escribirByte('}');
+        return this;
+    }
+
+    public JsonEscritor inicioArreglo() {
+        separador();
+        escribirByte('[');
+        abrirNivel();
+        return this;
+    }
+
+    public JsonEscritor finArreglo() {
+        nivel--;
+        escribirByte(']');
+        return this;
+    }
+
+    /**
+     * Escribe el nombre de un campo ya codificado con comillas y dos puntos
+     * (por ejemplo los bytes de {@code "id":}). Evita re-codificar nombres constantes.
+     */
+    public JsonEscritor campo(byte[] nombreCodificado) {
+        separador();
+        escribirBytes(nombreCodificado, 0, nombreCodificado.length);
+        requiereComa[nivel] = false;
+        return this;
+    }
+
+    /**
+     * Codifica un nombre de campo para usarlo con {@link #campo(byte[])}.
+     */
+    public static byte[] nombre(String campo) {
+        JsonEscritor escritor = new JsonEscritor(campo.length() + 8);
+        escritor.valor(campo);
+        escritor.escribirByte(':');
+        return escritor.toByteArray();
+    }
+
+    public JsonEscritor nulo() {
+        separador();
+        escribirBytes(NULL, 0, NULL.length);
+        return this;
+    }
+
+    public JsonEscritor valor(boolean valor) {
+        separador();
+        byte[] literal = valor ? TRUE : FALSE;
+        escribirBytes(literal, 0, literal.length);
+        return this;
+    }
+
+    public JsonEscritor valor(long valor) {
+        separador();
+        escribirLong(valor);
+        return this;
+    }
+
+    @SuppressWarnings("deprecation")
+    public JsonEscritor valor(String valor) {
+        if (valor == null) {
+            return nulo();
+        }
+        separador();
+        int longitud = valor.length();
+        if (esAsciiSinEscapes(valor, longitud)) {
+            asegurar(longitud + 2);
+            buffer[posicion++] = '"';
+            // Copia masiva: para textos ASCII equivale a codificar en UTF-8
+            valor.getBytes(0, longitud, buffer, posicion);
+            posicion += longitud;
+            buffer[posicion++] = '"';
+            return this;
+        }
+        asegurar(longitud * 3 + 2);
+        byte[] b = buffer;
+        int p = posicion;
+        b[p++] = '"';
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                b[p++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                asegurarEn(p, 2 + (valor.length() - i) * 3);
+                b = buffer;
+                b[p++] = '\\';
+                b[p++] = (byte) c;
+            } else if (c < 0x20) {
+                asegurarEn(p, 6 + (valor.length() - i) * 3);
+                b = buffer;
+                p = escaparControl(b, p, c);
+            } else if (c < 0x800) {
+                b[p++] = (byte) (0xC0 | (c >> 6));
+                b[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < valor.length()
+                       && Character.isLowSurrogate(valor.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, valor.charAt(++i));
+                b[p++] = (byte) (0xF0 | (cp >> 18));
+                b[p++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[p++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[p++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                b[p++] = (byte) (0xE0 | (c >> 12));
+                b[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[p++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        b[p++] = '"';
+        posicion = p;
+        return this;
+    }
+
+    /**
+     * Escribe un BigDecimal como número JSON en notación plana.
+     * Si el valor no escalado cabe en un long se escribe sin crear objetos intermedios.
+     */
+    public JsonEscritor valor(BigDecimal valor) {
+        if (valor == null) {
+            return nulo();
+        }
+        separador();
+        int escala = valor.scale();
+        BigInteger sinEscala = valor.unscaledValue();
+        if (escala < 0 || escala > 18 || sinEscala.bitLength() >= 63) {
+            escribirAscii(valor.toPlainString());
+            return this;
+        }
+        long entero = sinEscala.longValue();
+        if (escala == 0) {
+            escribirLong(entero);
+            return this;
+        }
+        if (entero < 0) {
+            escribirByte('-');
+            entero = -entero;
+        }
+        long divisor = POTENCIAS_10[escala];
+        escribirLong(entero / divisor);
+        escribirByte('.');
+        escribirDigitos(entero % divisor, escala);
+        return this;
+    }
+
+    /**
+     * Escribe una fecha en formato ISO-8601 local (yyyy-MM-ddTHH:mm:ss[.fracción]),
+     * con la misma precisión de fracción que {@link LocalDateTime#toString()}.
+     */
+    public JsonEscritor valor(LocalDateTime fecha) {
+        if (fecha == null) {
+            return nulo();
+        }
+        separador();
+        asegurar(32);
+        escribirByte('"');
+        int anio = fecha.getYear();
+        if (anio < 0 || anio > 9999) {
+            escribirAscii(Integer.toString(anio));
+        } else {
+            escribirDigitos(anio, 4);
+        }
+        escribirByte('-');
+        escribirDigitos(fecha.getMonthValue(), 2);
+        escribirByte('-');
+        escribirDigitos(fecha.getDayOfMonth(), 2);
+        escribirByte('T');
+        escribirDigitos(fecha.getHour(), 2);
+        escribirByte(':');
+        escribirDigitos(fecha.getMinute(), 2);
+        escribirByte(':');
+        escribirDigitos(fecha.getSecond(), 2);
+        int nanos = fecha.getNano();
+        if (nanos > 0) {
+            escribirByte('.');
+            if (nanos % 1_000_000 == 0) {
+                escribirDigitos(nanos / 1_000_000, 3);
+            } else if (nanos % 1_000 == 0) {
+                escribirDigitos(nanos / 1_000, 6);
+            } else {
+                escribirDigitos(nanos, 9);
+            }
+        }
+        escribirByte('"');
+        return this;
+    }
+
+    /**
+     * Buffer interno; los bytes válidos van de 0 a {@link #getLongitud()}.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int getLongitud() {
+        return posicion;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, posicion);
+    }
+
+    public void escribirEn(OutputStream salida) throws IOException {
+        salida.write(buffer, 0, posicion);
+    }
+
+    private void abrirNivel() {
+        if (++nivel >= PROFUNDIDAD_MAXIMA) {
+            throw new IllegalStateException("Profundidad JSON máxima excedida");
+        }
+        requiereComa[nivel] = false;
+    }
+
+    private void separador() {
+        if (requiereComa[nivel]) {
+            escribirByte(',');
+        }
+        requiereComa[nivel] = true;
+    }
+
+    private void escribirLong(long valor) {
+        if (valor == Long.MIN_VALUE) {
+            escribirAscii(Long.toString(valor));
+            return;
+        }
+        asegurar(20);
+        if (valor < 0) {
+            buffer[posicion++] = '-';
+            valor = -valor;
+        }
+        int digitos = contarDigitos(valor);
+        escribirDigitos(valor, digitos);
+    }
+
+    /**
+     * Escribe exactamente {@code cantidad} dígitos, rellenando con ceros a la izquierda.
+     */
+    private void escribirDigitos(long valor, int cantidad) {
+        asegurar(cantidad);
+        int fin = posicion + cantidad;
+        for (int i = fin - 1; i >= posicion; i--) {
+            buffer[i] = (byte) ('0' + (valor % 10));
+            valor /= 10;
+        }
+        posicion = fin;
+    }
+
+    private static int contarDigitos(long valor) {
+        int digitos = 1;
+        while (digitos < 19 && valor >= POTENCIAS_10[digitos]) {
+            digitos++;
+        }
+        return digitos;
+    }
+
+    private static boolean esAsciiSinEscapes(String valor, int longitud) {
+        for (int i = 0; i < longitud; i++) {
+            char c = valor.charAt(i);
+            if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int escaparControl(byte[] b, int p, char c) {
+        b[p++] = '\\';
+        switch (c) {
+            case '\n': b[p++] = 'n'; break;
+            case '\r': b[p++] = 'r'; break;
+            case '\t': b[p++] = 't'; break;
+            case '\b': b[p++] = 'b'; break;
+            case '\f': b[p++] = 'f'; break;
+            default:
+                b[p++] = 'u';
+                b[p++] = '0';
+                b[p++] = '0';
+                b[p++] = HEX[c >> 4];
+                b[p++] = HEX[c & 0xF];
+        }
+        return p;
+    }
+
+    private void escribirAscii(String texto) {
+        asegurar(texto.length());
+        for (int i = 0; i < texto.length(); i++) {
+            buffer[posicion++] = (byte) texto.charAt(i);
+        }
+    }
+
+    private void escribirByte(char c) {
+        asegurar(1);
+        buffer[posicion++] = (byte) c;
+    }
+
+    private void escribirBytes(byte[] origen, int desde, int longitud) {
+        asegurar(longitud);
+        System.arraycopy(origen, desde, buffer, posicion, longitud);
+        posicion += longitud;
+    }
+
+    private void asegurar(int adicionales) {
+        asegurarEn(posicion, adicionales);
+    }
+
+    private void asegurarEn(int desde, int adicionales) {
+        if (desde + adicionales > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, desde + adicionales));
+        }
+    }
+
+    static final long[] POTENCIAS_10 = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+        1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+        10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+}
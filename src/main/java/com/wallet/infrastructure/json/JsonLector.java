@@ -0,0 +1,497 @@
+package com.wallet.infrastructure.json;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * Lector JSON en streaming sobre un arreglo de bytes UTF-8.
+ *
+ * Recorre el documento sin construir un árbol intermedio: el codificador pide
+ * campo a campo el tipo que espera. Los nombres de campo se comparan byte a byte
+ * contra tablas precalculadas, y los BigDecimal y LocalDateTime se interpretan
+ * directamente desde los bytes, sin crear Strings intermedios.
+ *
+ * Los errores de formato se reportan con {@link IllegalArgumentException}
+ * indicando la posición. No es thread-safe.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class JsonLector {
+
+    /** Retornado por {@link #siguienteCampo(byte[][])} al llegar al fin del objeto. */
+    public static final int FIN_OBJETO = -2;
+
+    /** Retornado por {@link #siguienteCampo(byte[][])} si el campo no está en la tabla. */
+    public static final int CAMPO_DESCONOCIDO = -1;
+
+    private static final byte[][] SIN_NOMBRES = new byte[0][];
+    private static final int PROFUNDIDAD_MAXIMA = 64;
+    private static final int MAX_DIGITOS_LONG = 18;
+
+    private byte[] datos;
+    private int posicion;
+    private int fin;
+
+    /** Por cada nivel abierto, si ya se leyó al menos un elemento (y falta coma). */
+    private final boolean[] hayElemento = new boolean[PROFUNDIDAD_MAXIMA];
+    private int nivel;
+
+    public JsonLector(byte[] datos) {
+        this(datos, 0, datos.length);
+    }
+
+    public JsonLector(byte[] datos, int desde, int hasta) {
+        reiniciar(datos, desde, hasta);
+    }
+
+    /**
+     * Reutiliza el lector sobre otro documento.
+     */
+    public JsonLector reiniciar(byte[] datos, int desde, int hasta) {
+        if (datos == null || desde < 0 || hasta > datos.length || desde > hasta) {
+            throw new IllegalArgumentException("Rango de bytes inválido");
+        }
+        this.datos = datos;
+        this.posicion = desde;
+        this.fin = hasta;
+        this.nivel = 0;
+        return this;
+    }
+
+    /**
+     * Tabla de nombres de campo para {@link #siguienteCampo(byte[][])}.
+     */
+    public static byte[][] nombres(String... campos) {
+        byte[][] tabla = new byte[campos.length][];
+        for (int i = 0; i < campos.length; i++) {
+            tabla[i] = campos[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return tabla;
+    }
+
+    public void inicioObjeto() {
+        esperar('{');
+        abrirNivel();
+    }
+
+    /**
+     * Avanza al siguiente campo del objeto actual y consume sus dos puntos.
+     *
+     * @param nombres tabla de nombres esperados
+     * @return índice del nombre en la tabla, {@link #CAMPO_DESCONOCIDO} si no
+     *         figura en ella (el llamador debe invocar {@link #saltarValor()}),
+     *         o {@link #FIN_OBJETO} si se cerró el objeto
+     */
+    public int siguienteCampo(byte[][] nombres) {
+        if (!siguiente('}')) {
+            return FIN_OBJETO;
+        }
+        saltarEspacios();
+        esperar('"');
+        int inicio = posicion;
+        boolean escapado = false;
+        while (true) {
+            byte b = byteActual();
+            if (b == '"') {
+                break;
+            }
+            if (b == '\\') {
+                escapado = true;
+                posicion++;
+            }
+            posicion++;
+        }
+        int longitud = posicion - inicio;
+        posicion++;
+        esperar(':');
+        if (escapado) {
+            return CAMPO_DESCONOCIDO;
+        }
+        for (int i = 0; i < nombres.length; i++) {
+            if (igualA(nombres[i], inicio, longitud)) {
+                return i;
+            }
+        }
+        return CAMPO_DESCONOCIDO;
+    }
+
+    public void inicioArreglo() {
+        esperar('[');
+        abrirNivel();
+    }
+
+    /**
+     * Avanza al siguiente elemento del arreglo actual.
+     *
+     * @return false si se cerró el arreglo
+     */
+    public boolean siguienteElemento() {
+        return siguiente(']');
+    }
+
+    /**
+     * Verifica que después del valor raíz solo queden espacios.
+     */
+    public void finDocumento() {
+        saltarEspacios();
+        if (posicion < fin) {
+            throw error("Contenido inesperado después del documento");
+        }
+    }
+
+    /**
+     * Consume un null si es el siguiente valor.
+     */
+    public boolean leerNulo() {
+        saltarEspacios();
+        if (posicion < fin && datos[posicion] == 'n') {
+            esperarLiteral("null");
+            return true;
+        }
+        return false;
+    }
+
+    public String leerTexto() {
+        if (leerNulo()) {
+            return null;
+        }
+        esperar('"');
+        int inicio = posicion;
+        boolean ascii = true;
+        while (true) {
+            byte b = byteActual();
+            if (b == '"') {
+                posicion++;
+                return new String(datos, inicio, posicion - 1 - inicio,
+                    ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                posicion = inicio;
+                return leerTextoEscapado();
+            }
+            if ((b & 0xFF) < 0x20) {
+                throw error("Carácter de control sin escapar en texto");
+            }
+            ascii &= b >= 0;
+            posicion++;
+        }
+    }
+
+    public boolean leerBooleano() {
+        saltarEspacios();
+        if (posicion < fin && datos[posicion] == 't') {
+            esperarLiteral("true");
+            return true;
+        }
+        esperarLiteral("false");
+        return false;
+    }
+
+    /**
+     * Lee un número JSON como BigDecimal. Acepta también el número entre comillas.
+     * Con hasta 18 dígitos significativos y sin exponente se construye desde un
+     * long sin escalar; en otro caso se delega en el constructor de char[].
+     */
+    public BigDecimal leerDecimal() {
+        if (leerNulo()) {
+            return null;
+        }
+        boolean entreComillas = byteActual() == '"';
+        if (entreComillas) {
+            posicion++;
+        }
+        int inicio = posicion;
+        boolean negativo = false;
+        if (posicion < fin && datos[posicion] == '-') {
+            negativo = true;
+            posicion++;
+        }
+        int inicioEnteros = posicion;
+        int enteros = contarDigitos();
+        if (enteros == 0) {
+            throw error("Se esperaba un número");
+        }
+        int inicioDecimales = posicion;
+        int escala = 0;
+        if (posicion < fin && datos[posicion] == '.') {
+            posicion++;
+            inicioDecimales = posicion;
+            escala = contarDigitos();
+            if (escala == 0) {
+                throw error("Se esperaban decimales");
+            }
+        }
+        boolean exponente = false;
+        if (posicion < fin && (datos[posicion] == 'e' || datos[posicion] == 'E')) {
+            exponente = true;
+            posicion++;
+            if (posicion < fin && (datos[posicion] == '+' || datos[posicion] == '-')) {
+                posicion++;
+            }
+            if (contarDigitos() == 0) {
+                throw error("Exponente inválido");
+            }
+        }
+        int finNumero = posicion;
+        if (entreComillas) {
+            esperar('"');
+        }
+        if (!exponente && enteros + escala <= MAX_DIGITOS_LONG) {
+            long sinEscala = acumular(inicioEnteros, enteros, 0);
+            sinEscala = acumular(inicioDecimales, escala, sinEscala);
+            return BigDecimal.valueOf(negativo ? -sinEscala : sinEscala, escala);
+        }
+        char[] caracteres = new char[finNumero - inicio];
+        for (int i = 0; i < caracteres.length; i++) {
+            caracteres[i] = (char) datos[inicio + i];
+        }
+        try {
+            return new BigDecimal(caracteres, 0, caracteres.length);
+        } catch (NumberFormatException e) {
+            throw error("Número fuera de rango");
+        }
+    }
+
+    /**
+     * Lee una fecha ISO-8601 local: yyyy-MM-ddTHH:mm[:ss[.fracción]].
+     */
+    public LocalDateTime leerFecha() {
+        if (leerNulo()) {
+            return null;
+        }
+        esperar('"');
+        int inicio = posicion;
+        int anio = leerCampoFecha(4, '-');
+        int mes = leerCampoFecha(2, '-');
+        int dia = leerCampoFecha(2, 'T');
+        int hora = leerCampoFecha(2, ':');
+        int minuto = leerCampoFecha(2, (char) 0);
+        int segundo = 0;
+        int nanos = 0;
+        if (byteActual() == ':') {
+            posicion++;
+            segundo = leerCampoFecha(2, (char) 0);
+            if (byteActual() == '.') {
+                posicion++;
+                int cifras = contarDigitos();
+                if (cifras == 0 || cifras > 9) {
+                    throw error("Fracción de segundo inválida");
+                }
+                for (int i = posicion - cifras; i < posicion; i++) {
+                    nanos = nanos * 10 + (datos[i] - '0');
+                }
+                nanos *= (int) JsonEscritor.POTENCIAS_10[9 - cifras];
+            }
+        }
+        esperar('"');
+        try {
+            return LocalDateTime.of(anio, mes, dia, hora, minuto, segundo, nanos);
+        } catch (DateTimeException e) {
+            posicion = inicio;
+            throw error("Fecha inválida: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Omite el siguiente valor completo (incluyendo objetos y arreglos anidados).
+     */
+    public void saltarValor() {
+        saltarEspacios();
+        byte b = byteActual();
+        switch (b) {
+            case '"':
+                leerTexto();
+                break;
+            case '{':
+                inicioObjeto();
+                while (siguienteCampo(SIN_NOMBRES) != FIN_OBJETO) {
+                    saltarValor();
+                }
+                break;
+            case '[':
+                inicioArreglo();
+                while (siguienteElemento()) {
+                    saltarValor();
+                }
+                break;
+            case 't':
+            case 'f':
+                leerBooleano();
+                break;
+            case 'n':
+                leerNulo();
+                break;
+            default:
+                leerDecimal();
+        }
+    }
+
+    public int getPosicion() {
+        return posicion;
+    }
+
+    private boolean siguiente(char cierre) {
+        saltarEspacios();
+        if (byteActual() == cierre) {
+            posicion++;
+            nivel--;
+            return false;
+        }
+        if (hayElemento[nivel]) {
+            esperar(',');
+        }
+        hayElemento[nivel] = true;
+        return true;
+    }
+
+    private void abrirNivel() {
+        if (++nivel >= PROFUNDIDAD_MAXIMA) {
+            throw error("Profundidad JSON máxima excedida");
+        }
+        hayElemento[nivel] = false;
+    }
+
+    private String leerTextoEscapado() {
+        StringBuilder sb = new StringBuilder(32);
+        int tramo = posicion;
+        while (true) {
+            byte b = byteActual();
+            if (b == '"') {
+                sb.append(new String(datos, tramo, posicion - tramo, StandardCharsets.UTF_8));
+                posicion++;
+                return sb.toString();
+            }
+            if (b != '\\') {
+                if ((b & 0xFF) < 0x20) {
+                    throw error("Carácter de control sin escapar en texto");
+                }
+                posicion++;
+                continue;
+            }
+            sb.append(new String(datos, tramo, posicion - tramo, StandardCharsets.UTF_8));
+            posicion++;
+            byte e = byteActual();
+            posicion++;
+            switch (e) {
+                case '"': sb.append('"'); break;
+                case '\\': sb.append('\\'); break;
+                case '/': sb.append('/'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'u': sb.append(leerHex4()); break;
+                default: throw error("Secuencia de escape inválida");
+            }
+            tramo = posicion;
+        }
+    }
+
+    private char leerHex4() {
+        if (posicion + 4 > fin) {
+            throw error("Escape unicode incompleto");
+        }
+        int valor = 0;
+        for (int i = 0; i < 4; i++) {
+            int digito = Character.digit(datos[posicion++], 16);
+            if (digito < 0) {
+                throw error("Escape unicode inválido");
+            }
+            valor = (valor << 4) | digito;
+        }
+        return (char) valor;
+    }
+
+    private int leerCampoFecha(int cifras, char separador) {
+        if (posicion + cifras > fin) {
+            throw error("Fecha incompleta");
+        }
+        int valor = 0;
+        for (int i = 0; i < cifras; i++) {
+            byte b = datos[posicion++];
+            if (b < '0' || b > '9') {
+                throw error("Fecha con formato inválido");
+            }
+            valor = valor * 10 + (b - '0');
+        }
+        if (separador != 0) {
+            if (byteActual() != separador) {
+                throw error("Fecha con formato inválido");
+            }
+            posicion++;
+        }
+        return valor;
+    }
+
+    private long acumular(int desde, int cantidad, long acumulado) {
+        for (int i = desde; i < desde + cantidad; i++) {
+            acumulado = acumulado * 10 + (datos[i] - '0');
+        }
+        return acumulado;
+    }
+
+    private int contarDigitos() {
+        int inicio = posicion;
+        while (posicion < fin && datos[posicion] >= '0' && datos[posicion] <= '9') {
+            posicion++;
+        }
+        return posicion - inicio;
+    }
+
+    private boolean igualA(byte[] nombre, int inicio, int longitud) {
+        if (nombre.length != longitud) {
+            return false;
+        }
+        for (int i = 0; i < longitud; i++) {
+            if (nombre[i] != datos[inicio + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void esperarLiteral(String literal) {
+        if (posicion + literal.length() > fin) {
+            throw error("Se esperaba '" + literal + "'");
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (datos[posicion + i] != literal.charAt(i)) {
+                throw error("Se esperaba '" + literal + "'");
+            }
+        }
+        posicion += literal.length();
+    }
+
+    private void esperar(char esperado) {
+        saltarEspacios();
+        if (posicion >= fin || datos[posicion] != esperado) {
+            throw error("Se esperaba '" + esperado + "'");
+        }
+        posicion++;
+    }
+
+    private byte byteActual() {
+        if (posicion >= fin) {
+            throw error("JSON incompleto");
+        }
+        return datos[posicion];
+    }
+
+    private void saltarEspacios() {
+        while (posicion < fin) {
+            byte b = datos[posicion];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            posicion++;
+        }
+    }
+
+    private IllegalArgumentException error(String mensaje) {
+        return new IllegalArgumentException("JSON inválido: " + mensaje + " en la posición " + posicion);
+    }
+}
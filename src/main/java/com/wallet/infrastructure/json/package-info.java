@@ -0,0 +1,11 @@
+/**
+ * Codificación JSON sin reflexión para los DTOs de la aplicación.
+ *
+ * Este paquete contiene un escritor y un lector JSON en streaming que trabajan
+ * directamente sobre arreglos de bytes UTF-8, y el codificador escrito a mano
+ * que los usa para serializar DTOs y solicitudes en la API y las exportaciones.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.json;
@@ -0,0 +1,154 @@
+package com.wallet.infrastructure.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Buffer circular acotado y sin bloqueos para eventos de log.
+ *
+ * Múltiples productores reservan posiciones con CAS sobre la cola y un único
+ * consumidor (el escritor) drena en orden. Cada celda lleva su propio número
+ * de secuencia, que indica si está libre para escribir o lista para leer,
+ * por lo que no se necesita ningún lock. Los eventos se pre-asignan una sola
+ * vez y se reutilizan.
+ *
+ * Al cerrarse, un bit en la cola hace fallar toda reserva posterior: lo ya
+ * reservado sigue pudiendo drenarse y nada se publica después del cierre.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+final class BufferCircularLogs {
+
+    private static final long ESPERA_LLENO_NANOS = 50_000L;
+    private static final long CERRADO = Long.MIN_VALUE;
+
+    private final EventoLog[] eventos;
+    private final AtomicLongArray secuencias;
+    private final int capacidad;
+    private final int mascara;
+    private final AtomicLong cola = new AtomicLong();
+    private final LongAdder descartados = new LongAdder();
+
+    /** Posición del consumidor; solo la escribe el hilo escritor. */
+    private volatile long cabeza;
+
+    /**
+     * @param capacidad número de celdas; se redondea a la siguiente potencia de dos
+     */
+    BufferCircularLogs(int capacidad) {
+        if (capacidad < 2) {
+            throw new IllegalArgumentException("La capacidad del buffer debe ser al menos 2");
+        }
+        this.capacidad = Integer.highestOneBit(capacidad - 1) << 1;
+        this.mascara = this.capacidad - 1;
+        this.eventos = new EventoLog[this.capacidad];
+        this.secuencias = new AtomicLongArray(this.capacidad);
+        for (int i = 0; i < this.capacidad; i++) {
+            eventos[i] = new EventoLog();
+            secuencias.set(i, i);
+        }
+    }
+
+    /**
+     * Publica un evento. Con {@link PoliticaDesborde#DESCARTAR} retorna false si
+     * el buffer está lleno; con {@link PoliticaDesborde#BLOQUEAR} espera a que haya espacio.
+     * Retorna false si el buffer está cerrado.
+     *
+     * @return true si el evento quedó encolado
+     */
+    boolean publicar(Logger.Nivel nivel, long timestamp, String plantilla, Object[] argumentos,
+                     Supplier<String> proveedor, Throwable error, PoliticaDesborde politica) {
+        while (true) {
+            long posicion = cola.get();
+            if ((posicion & CERRADO) != 0) {
+                return false;
+            }
+            int indice = (int) (posicion & mascara);
+            long diferencia = secuencias.getAcquire(indice) - posicion;
+            if (diferencia == 0) {
+                if (cola.compareAndSet(posicion, posicion + 1)) {
+                    eventos[indice].cargar(nivel, timestamp, plantilla, argumentos, proveedor, error);
+                    secuencias.setRelease(indice, posicion + 1);
+                    return true;
+                }
+            } else if (diferencia < 0) {
+                if (politica == PoliticaDesborde.DESCARTAR) {
+                    descartados.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(ESPERA_LLENO_NANOS);
+            }
+            // diferencia > 0: otro productor avanzó la cola, se reintenta
+        }
+    }
+
+    /**
+     * Entrega hasta {@code maximo} eventos listos al consumidor, en orden.
+     * Solo debe invocarse desde el hilo escritor.
+     *
+     * @return cantidad de eventos drenados
+     */
+    int drenar(Consumer<EventoLog> consumidor, int maximo) {
+        long actual = cabeza;
+        int drenados = 0;
+        while (drenados < maximo) {
+            int indice = (int) (actual & mascara);
+            if (secuencias.getAcquire(indice) != actual + 1) {
+                break;
+            }
+            EventoLog evento = eventos[indice];
+            try {
+                consumidor.accept(evento);
+            } finally {
+                evento.limpiar();
+                secuencias.setRelease(indice, actual + capacidad);
+                actual++;
+                drenados++;
+            }
+        }
+        cabeza = actual;
+        return drenados;
+    }
+
+    /**
+     * Rechaza toda publicación posterior. Los eventos ya reservados se siguen drenando.
+     */
+    void cerrar() {
+        cola.getAndUpdate(posicion -> posicion | CERRADO);
+    }
+
+    boolean estaCerrado() {
+        return (cola.get() & CERRADO) != 0;
+    }
+
+    /**
+     * Posición hasta la que se han reservado celdas (eventos publicados o en curso).
+     */
+    long posicionPublicada() {
+        return cola.get() & ~CERRADO;
+    }
+
+    /**
+     * Posición hasta la que el escritor ha consumido.
+     */
+    long posicionConsumida() {
+        return cabeza;
+    }
+
+    boolean estaVacio() {
+        return posicionPublicada() == cabeza;
+    }
+
+    long getDescartados() {
+        return descartados.sum();
+    }
+
+    int getCapacidad() {
+        return capacidad;
+    }
+}
@@ -0,0 +1,219 @@
+package com.wallet.infrastructure.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hilo escritor único que drena el buffer circular hacia un canal con buffer.
+ *
+ * Todo el trabajo caro (formatear fecha, resolver plantillas, codificar a UTF-8
+ * y escribir) ocurre aquí y no en el hilo que registró el evento. El canal se
+ * vacía cada vez que el buffer queda sin eventos pendientes.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+final class EscritorLogs implements Runnable {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int LOTE = 256;
+    private static final long ESPERA_MAXIMA_NANOS = 1_000_000L;
+
+    private final BufferCircularLogs buffer;
+    private final WritableByteChannel canal;
+    private final boolean cerrarCanal;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(64 * 1024);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final StringBuilder linea = new StringBuilder(256);
+    private final ZoneId zona = ZoneId.systemDefault();
+    private final Thread hilo;
+
+    private long segundoCacheado = Long.MIN_VALUE;
+    private String fechaCacheada;
+
+    private volatile boolean activo = true;
+    private volatile long posicionVaciada;
+
+    private EscritorLogs(BufferCircularLogs buffer, WritableByteChannel canal, boolean cerrarCanal) {
+        this.buffer = buffer;
+        this.canal = canal;
+        this.cerrarCanal = cerrarCanal;
+        this.hilo = new Thread(this, "wallet-logger");
+        this.hilo.setDaemon(true);
+    }
+
+    /**
+     * Crea un escritor hacia la salida estándar. Escribe a través de
+     * {@link System#out}, de modo que no se intercala a medias con lo que la
+     * consola imprime y respeta un {@link System#setOut} posterior.
+     */
+    static EscritorLogs haciaConsola(BufferCircularLogs buffer) {
+        return new EscritorLogs(buffer, new CanalSalidaEstandar(), false);
+    }
+
+    /**
+     * Crea un escritor que agrega al final del archivo indicado.
+     */
+    static EscritorLogs haciaArchivo(BufferCircularLogs buffer, Path archivo) throws IOException {
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new EscritorLogs(buffer, canal, true);
+    }
+
+    void iniciar() {
+        hilo.start();
+    }
+
+    @Override
+    public void run() {
+        long espera = 1_000L;
+        while (activo || !buffer.estaVacio()) {
+            int drenados = buffer.drenar(this::escribir, LOTE);
+            if (drenados > 0) {
+                espera = 1_000L;
+                continue;
+            }
+            vaciarCanal();
+            LockSupport.parkNanos(espera);
+            espera = Math.min(espera * 2, ESPERA_MAXIMA_NANOS);
+        }
+        vaciarCanal();
+        if (cerrarCanal) {
+            try {
+                canal.close();
+            } catch (IOException e) {
+                System.err.println("No se pudo cerrar el archivo de log: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Espera a que todo lo publicado antes de la llamada esté escrito en el canal.
+     *
+     * @param timeoutMillis tiempo máximo de espera
+     */
+    void esperarVaciado(long timeoutMillis) {
+        long objetivo = buffer.posicionPublicada();
+        long limite = System.nanoTime() + timeoutMillis * 1_000_000L;
+        while (posicionVaciada < objetivo && hilo.isAlive() && System.nanoTime() < limite) {
+            LockSupport.unpark(hilo);
+            LockSupport.parkNanos(100_000L);
+        }
+    }
+
+    /**
+     * Drena lo pendiente y detiene el hilo escritor.
+     */
+    void detener(long timeoutMillis) {
+        activo = false;
+        LockSupport.unpark(hilo);
+        try {
+            hilo.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void escribir(EventoLog evento) {
+        linea.setLength(0);
+        linea.append(fecha(evento.timestamp)).append(" [");
+        String nivel = evento.nivel.name();
+        linea.append(nivel);
+        for (int i = nivel.length(); i < 7; i++) {
+            linea.append(' ');
+        }
+        linea.append("] ");
+        try {
+            evento.formatearMensaje(linea);
+        } catch (RuntimeException e) {
+            linea.append("<error al formatear mensaje: ").append(e).append('>');
+        }
+        linea.append(System.lineSeparator());
+        codificar(linea);
+    }
+
+    private String fecha(long timestamp) {
+        long segundo = Math.floorDiv(timestamp, 1000L);
+        if (segundo != segundoCacheado) {
+            segundoCacheado = segundo;
+            fechaCacheada = LocalDateTime.ofInstant(Instant.ofEpochSecond(segundo), zona).format(FORMATTER);
+        }
+        return fechaCacheada;
+    }
+
+    private void codificar(CharSequence texto) {
+        CharBuffer caracteres = CharBuffer.wrap(texto);
+        encoder.reset();
+        while (true) {
+            CoderResult resultado = encoder.encode(caracteres, bytes, true);
+            if (resultado.isOverflow()) {
+                escribirBytes();
+                continue;
+            }
+            break;
+        }
+    }
+
+    private void vaciarCanal() {
+        long consumida = buffer.posicionConsumida();
+        escribirBytes();
+        posicionVaciada = consumida;
+    }
+
+    private void escribirBytes() {
+        bytes.flip();
+        try {
+            while (bytes.hasRemaining()) {
+                canal.write(bytes);
+            }
+        } catch (IOException e) {
+            System.err.println("Error escribiendo logs: " + e.getMessage());
+        } finally {
+            bytes.clear();
+        }
+    }
+
+    /**
+     * Canal que copia cada lote a {@link System#out}, resuelto en cada escritura.
+     */
+    private static final class CanalSalidaEstandar implements WritableByteChannel {
+
+        private final byte[] copia = new byte[8 * 1024];
+
+        @Override
+        public int write(ByteBuffer origen) {
+            int escritos = 0;
+            while (origen.hasRemaining()) {
+                int n = Math.min(origen.remaining(), copia.length);
+                origen.get(copia, 0, n);
+                System.out.write(copia, 0, n);
+                escritos += n;
+            }
+            System.out.flush();
+            return escritos;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            System.out.flush();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.wallet.infrastructure.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * Evento de log pre-asignado dentro del buffer circular.
+ *
+ * Las instancias se reutilizan: el productor copia los datos crudos
+ * (plantilla, argumentos, proveedor) y el escritor los formatea después,
+ * fuera del hilo que registró el evento.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+final class EventoLog {
+
+    Logger.Nivel nivel;
+    long timestamp;
+    String plantilla;
+    Object[] argumentos;
+    Supplier<String> proveedor;
+    Throwable error;
+
+    void cargar(Logger.Nivel nivel, long timestamp, String plantilla,
+                Object[] argumentos, Supplier<String> proveedor, Throwable error) {
+        this.nivel = nivel;
+        this.timestamp = timestamp;
+        this.plantilla = plantilla;
+        this.argumentos = argumentos;
+        this.proveedor = proveedor;
+        this.error = error;
+    }
+
+    /**
+     * Escribe el mensaje final en el builder, resolviendo la plantilla o el proveedor.
+     */
+    void formatearMensaje(StringBuilder sb) {
+        if (proveedor != null) {
+            sb.append(proveedor.get());
+        } else if (argumentos == null || argumentos.length == 0) {
+            sb.append(plantilla);
+        } else {
+            formatearPlantilla(sb, plantilla, argumentos);
+        }
+        if (error != null) {
+            sb.append(" - ").append(error.getClass().getSimpleName())
+              .append(": ").append(error.getMessage());
+        }
+    }
+
+    /**
+     * Libera las referencias para no retener objetos del llamador.
+     */
+    void limpiar() {
+        this.plantilla = null;
+        this.argumentos = null;
+        this.proveedor = null;
+        this.error = null;
+    }
+
+    /**
+     * Sustituye cada "{}" de la plantilla por el siguiente argumento.
+     * Los argumentos sobrantes se ignoran y los marcadores sin argumento se dejan tal cual.
+     */
+    static void formatearPlantilla(StringBuilder sb, String plantilla, Object[] argumentos) {
+        if (plantilla == null) {
+            sb.append("null");
+            return;
+        }
+        int desde = 0;
+        int indice = 0;
+        while (indice < argumentos.length) {
+            int marcador = plantilla.indexOf("{}", desde);
+            if (marcador < 0) {
+                break;
+            }
+            sb.append(plantilla, desde, marcador);
+            sb.append(argumentos[indice++]);
+            desde = marcador + 2;
+        }
+        sb.append(plantilla, desde, plantilla.length());
+    }
+}
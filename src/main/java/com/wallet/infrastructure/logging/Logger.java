@@ -1,78 +1,304 @@
 package com.wallet.infrastructure.logging;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
 
 /**
- * Sistema de Logging simple para auditoría.
- * 
- * Registra las operaciones importantes del sistema en consola.
- * En una implementación real, podría escribir a archivos o bases de datos.
+ * Sistema de Logging asíncrono para auditoría.
+ *
+ * Registra las operaciones importantes del sistema en consola o en archivo.
+ * El hilo llamador solo compara el nivel y copia los datos crudos a un buffer
+ * circular sin bloqueos; un hilo escritor en segundo plano formatea y escribe.
+ *
+ * Los mensajes parametrizados ("Depositando {} en {}") y los {@link Supplier}
+ * no se construyen si el nivel está deshabilitado. Los argumentos se formatean
+ * más tarde en el hilo escritor, por lo que deben ser inmutables o no cambiar
+ * después de registrarse.
+ *
+ * Configuración por propiedades del sistema:
+ * - wallet.log.nivel: nivel mínimo (DEBUG, INFO, WARNING, ERROR). Por defecto DEBUG.
+ * - wallet.log.archivo: ruta de archivo de salida. Por defecto consola.
+ * - wallet.log.politica: DESCARTAR o BLOQUEAR cuando el buffer está lleno. Por defecto BLOQUEAR.
+ * - wallet.log.capacidad: número de eventos del buffer. Por defecto 8192.
+ *
+ * Al apagarse la JVM el escritor se drena y se cierra una sola vez; los eventos
+ * registrados después (por ejemplo, desde otros hooks de apagado) se descartan.
  */
 public class Logger {
-    
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static boolean enabled = true;
-    
+
+    private static final int CAPACIDAD_POR_DEFECTO = 8192;
+    private static final long TIMEOUT_VACIADO_MS = 5_000L;
+
+    private static volatile boolean enabled = true;
+    private static volatile Nivel nivelMinimo = leerNivel();
+    private static volatile PoliticaDesborde politica = leerPolitica();
+    private static volatile Path archivo = leerArchivo();
+    private static volatile int capacidad = Integer.getInteger("wallet.log.capacidad", CAPACIDAD_POR_DEFECTO);
+
+    private static volatile BufferCircularLogs buffer;
+    private static EscritorLogs escritor;
+    private static boolean hookRegistrado;
+    private static boolean cerrado;
+
     public enum Nivel {
-        INFO, WARNING, ERROR, DEBUG
+        INFO(1), WARNING(2), ERROR(3), DEBUG(0);
+
+        private final int severidad;
+
+        Nivel(int severidad) {
+            this.severidad = severidad;
+        }
+
+        public int getSeveridad() {
+            return severidad;
+        }
     }
-    
+
     private Logger() {
         throw new AssertionError("No se debe instanciar Logger");
     }
-    
+
     /**
      * Habilita o deshabilita el logging.
      */
     public static void setEnabled(boolean enabled) {
         Logger.enabled = enabled;
     }
-    
+
+    /**
+     * Define el nivel mínimo que se registra. Los niveles inferiores se descartan
+     * antes de construir el mensaje.
+     */
+    public static void setNivelMinimo(Nivel nivel) {
+        if (nivel == null) {
+            throw new IllegalArgumentException("El nivel no puede ser nulo");
+        }
+        Logger.nivelMinimo = nivel;
+    }
+
+    /**
+     * Define qué hacer cuando el buffer está lleno.
+     */
+    public static void setPoliticaDesborde(PoliticaDesborde politica) {
+        if (politica == null) {
+            throw new IllegalArgumentException("La política no puede ser nula");
+        }
+        Logger.politica = politica;
+    }
+
+    /**
+     * Redirige los logs a un archivo (o a consola si es null).
+     * Los eventos pendientes se escriben en el destino anterior antes del cambio.
+     */
+    public static synchronized void setArchivo(Path archivo) {
+        detenerEscritor();
+        Logger.archivo = archivo;
+    }
+
+    /**
+     * Cambia la capacidad del buffer. Aplica al próximo escritor que se inicie.
+     */
+    public static synchronized void setCapacidad(int capacidad) {
+        if (capacidad < 2) {
+            throw new IllegalArgumentException("La capacidad del buffer debe ser al menos 2");
+        }
+        detenerEscritor();
+        Logger.capacidad = capacidad;
+    }
+
+    /**
+     * Indica si un nivel se registraría con la configuración actual.
+     */
+    public static boolean isHabilitado(Nivel nivel) {
+        return enabled && nivel.severidad >= nivelMinimo.severidad;
+    }
+
     /**
      * Registra un mensaje de información.
      */
     public static void info(String mensaje) {
-        log(Nivel.INFO, mensaje);
+        log(Nivel.INFO, mensaje, null, null, null);
     }
-    
+
+    /**
+     * Registra un mensaje de información parametrizado con marcadores "{}".
+     */
+    public static void info(String plantilla, Object... argumentos) {
+        log(Nivel.INFO, plantilla, argumentos, null, null);
+    }
+
+    /**
+     * Registra un mensaje de información construido solo si el nivel está habilitado.
+     */
+    public static void info(Supplier<String> mensaje) {
+        log(Nivel.INFO, null, null, mensaje, null);
+    }
+
     /**
      * Registra una advertencia.
      */
     public static void warning(String mensaje) {
-        log(Nivel.WARNING, mensaje);
+        log(Nivel.WARNING, mensaje, null, null, null);
+    }
+
+    /**
+     * Registra una advertencia parametrizada con marcadores "{}".
+     */
+    public static void warning(String plantilla, Object... argumentos) {
+        log(Nivel.WARNING, plantilla, argumentos, null, null);
     }
-    
+
+    /**
+     * Registra una advertencia construida solo si el nivel está habilitado.
+     */
+    public static void warning(Supplier<String> mensaje) {
+        log(Nivel.WARNING, null, null, mensaje, null);
+    }
+
     /**
      * Registra un error.
      */
     public static void error(String mensaje) {
-        log(Nivel.ERROR, mensaje);
+        log(Nivel.ERROR, mensaje, null, null, null);
     }
-    
+
     /**
      * Registra un error con excepción.
      */
     public static void error(String mensaje, Exception e) {
-        log(Nivel.ERROR, mensaje + " - " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        log(Nivel.ERROR, mensaje, null, null, e);
     }
-    
+
+    /**
+     * Registra un error parametrizado con marcadores "{}".
+     */
+    public static void error(String plantilla, Object... argumentos) {
+        log(Nivel.ERROR, plantilla, argumentos, null, null);
+    }
+
     /**
      * Registra un mensaje de depuración.
      */
     public static void debug(String mensaje) {
-        log(Nivel.DEBUG, mensaje);
+        log(Nivel.DEBUG, mensaje, null, null, null);
     }
-    
+
+    /**
+     * Registra un mensaje de depuración parametrizado con marcadores "{}".
+     */
+    public static void debug(String plantilla, Object... argumentos) {
+        log(Nivel.DEBUG, plantilla, argumentos, null, null);
+    }
+
     /**
-     * Método interno para formatear y escribir logs.
+     * Registra un mensaje de depuración construido solo si el nivel está habilitado.
      */
-    private static void log(Nivel nivel, String mensaje) {
-        if (!enabled) return;
-        
-        String timestamp = LocalDateTime.now().format(FORMATTER);
-        String nivelStr = String.format("[%-7s]", nivel.name());
-        
-        System.out.println(timestamp + " " + nivelStr + " " + mensaje);
+    public static void debug(Supplier<String> mensaje) {
+        log(Nivel.DEBUG, null, null, mensaje, null);
+    }
+
+    /**
+     * Espera a que todos los eventos registrados hasta ahora estén escritos.
+     */
+    public static void vaciar() {
+        EscritorLogs actual;
+        synchronized (Logger.class) {
+            actual = escritor;
+        }
+        if (actual != null) {
+            actual.esperarVaciado(TIMEOUT_VACIADO_MS);
+        }
+    }
+
+    /**
+     * Número de eventos descartados por buffer lleno desde que se inició el escritor actual.
+     */
+    public static synchronized long getDescartados() {
+        return buffer != null ? buffer.getDescartados() : 0L;
+    }
+
+    /**
+     * Método interno: filtra por nivel y encola los datos crudos sin formatear.
+     */
+    private static void log(Nivel nivel, String plantilla, Object[] argumentos,
+                            Supplier<String> proveedor, Throwable error) {
+        if (!isHabilitado(nivel)) return;
+
+        long timestamp = System.currentTimeMillis();
+        while (true) {
+            BufferCircularLogs destino = buffer;
+            if (destino == null) {
+                destino = iniciarEscritor();
+                if (destino == null) {
+                    return;
+                }
+            }
+            if (destino.publicar(nivel, timestamp, plantilla, argumentos, proveedor, error, politica)
+                    || !destino.estaCerrado()) {
+                return;
+            }
+            // El buffer se retiró mientras tanto (cambio de destino o apagado): se reintenta
+        }
+    }
+
+    /**
+     * @return el buffer activo, o null si el logger ya se cerró al apagar la JVM
+     */
+    private static synchronized BufferCircularLogs iniciarEscritor() {
+        if (buffer != null || cerrado) {
+            return buffer;
+        }
+        BufferCircularLogs nuevoBuffer = new BufferCircularLogs(capacidad);
+        EscritorLogs nuevoEscritor;
+        try {
+            nuevoEscritor = archivo != null
+                ? EscritorLogs.haciaArchivo(nuevoBuffer, archivo)
+                : EscritorLogs.haciaConsola(nuevoBuffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el archivo de log: " + archivo, e);
+        }
+        nuevoEscritor.iniciar();
+        escritor = nuevoEscritor;
+        buffer = nuevoBuffer;
+        if (!hookRegistrado) {
+            Runtime.getRuntime().addShutdownHook(
+                new Thread(Logger::detenerAlSalir, "wallet-logger-shutdown"));
+            hookRegistrado = true;
+        }
+        return nuevoBuffer;
+    }
+
+    private static synchronized void detenerEscritor() {
+        if (escritor != null) {
+            // Primero se deja de aceptar eventos nuevos en este buffer; lo ya
+            // reservado lo drena el escritor antes de terminar
+            buffer.cerrar();
+            buffer = null;
+            escritor.detener(TIMEOUT_VACIADO_MS);
+            escritor = null;
+        }
+    }
+
+    private static synchronized void detenerAlSalir() {
+        cerrado = true;
+        detenerEscritor();
+    }
+
+    private static Nivel leerNivel() {
+        String valor = System.getProperty("wallet.log.nivel");
+        return valor != null ? Nivel.valueOf(valor.trim().toUpperCase()) : Nivel.DEBUG;
+    }
+
+    private static PoliticaDesborde leerPolitica() {
+        String valor = System.getProperty("wallet.log.politica");
+        return valor != null ? PoliticaDesborde.valueOf(valor.trim().toUpperCase()) : PoliticaDesborde.BLOQUEAR;
+    }
+
+    private static Path leerArchivo() {
+        String valor = System.getProperty("wallet.log.archivo");
+        return valor != null && !valor.trim().isEmpty() ? Paths.get(valor.trim()) : null;
     }
 }
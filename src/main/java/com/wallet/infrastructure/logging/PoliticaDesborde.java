@@ -0,0 +1,20 @@
+package com.wallet.infrastructure.logging;
+
+/**
+ * Política aplicada cuando el buffer de logs está lleno.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public enum PoliticaDesborde {
+
+    /**
+     * Descarta el evento y lo contabiliza. El hilo llamador nunca espera.
+     */
+    DESCARTAR,
+
+    /**
+     * Espera hasta que el escritor libere espacio en el buffer.
+     */
+    BLOQUEAR
+}
@@ -0,0 +1,116 @@
+package com.wallet.infrastructure.programacion;
+
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.infrastructure.historial.HistorialFrio;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Archiva periódicamente el historial de transacciones que supera una antigüedad.
+ *
+ * Cada intervalo pasa al historial frío del repositorio las transacciones
+ * con fecha anterior a ahora menos la antigüedad; las recientes quedan en
+ * los mapas. Archivar no bloquea las escrituras de una cuenta más que lo
+ * que tarda su libro en copiar la página caliente. Después, en el mismo
+ * hilo, fusiona los segmentos fríos recientes (ver {@link HistorialFrio#compactar}).
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ArchivadorHistorial {
+
+    public static final Duration INTERVALO_POR_DEFECTO = Duration.ofHours(1);
+
+    private final TransaccionRepositoryInMemory repositorio;
+    private final long antiguedadNanos;
+    private final long intervaloNanos;
+    private volatile Thread hilo;
+    private volatile boolean activo;
+
+    /**
+     * @param repositorio repositorio cuyo historial se archiva
+     * @param antiguedad edad a partir de la que una transacción se archiva
+     */
+    public ArchivadorHistorial(TransaccionRepositoryInMemory repositorio, Duration antiguedad) {
+        this(repositorio, antiguedad, INTERVALO_POR_DEFECTO);
+    }
+
+    /**
+     * @param repositorio repositorio cuyo historial se archiva
+     * @param antiguedad edad a partir de la que una transacción se archiva
+     * @param intervalo tiempo entre archivados
+     */
+    public ArchivadorHistorial(TransaccionRepositoryInMemory repositorio, Duration antiguedad, Duration intervalo) {
+        if (repositorio == null) {
+            throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
+        }
+        if (antiguedad == null || antiguedad.isNegative()) {
+            throw new IllegalArgumentException("La antigüedad no puede ser negativa");
+        }
+        if (intervalo == null || intervalo.isNegative() || intervalo.isZero()) {
+            throw new IllegalArgumentException("El intervalo debe ser positivo");
+        }
+        this.repositorio = repositorio;
+        this.antiguedadNanos = antiguedad.toNanos();
+        this.intervaloNanos = intervalo.toNanos();
+    }
+
+    /**
+     * Arranca el hilo que archiva cada intervalo.
+     */
+    public void iniciar() {
+        activo = true;
+        Thread nuevo = new Thread(this::ciclo, "wallet-archivador-historial");
+        nuevo.setDaemon(true);
+        hilo = nuevo;
+        nuevo.start();
+    }
+
+    /**
+     * Archiva ahora lo que superó la antigüedad y compacta el historial frío.
+     *
+     * @return cantidad de tramos archivados
+     */
+    public int archivar() {
+        long inicio = System.nanoTime();
+        int archivados = repositorio.archivarAnteriores(Tiempo.ahora() - antiguedadNanos);
+        HistorialFrio frio = repositorio.getHistorialFrio();
+        int fusiones = frio.compactar();
+        if (archivados > 0 || fusiones > 0) {
+            Logger.info("Historial archivado: {} transacciones y {} fusiones en {} ms, {} bytes en {} segmentos ({})",
+                archivados, fusiones, (System.nanoTime() - inicio) / 1_000_000,
+                frio.getBytes(), frio.contarSegmentos(), frio.getAlmacen());
+        }
+        return archivados;
+    }
+
+    /**
+     * Detiene el hilo. Lo ya archivado queda en el historial frío.
+     */
+    public void cerrar() {
+        activo = false;
+        Thread actual = hilo;
+        if (actual != null && actual.isAlive()) {
+            LockSupport.unpark(actual);
+            try {
+                actual.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void ciclo() {
+        while (activo) {
+            try {
+                archivar();
+            } catch (RuntimeException e) {
+                Logger.error("Error al archivar el historial de transacciones", e);
+            }
+            LockSupport.parkNanos(intervaloNanos);
+        }
+    }
+}
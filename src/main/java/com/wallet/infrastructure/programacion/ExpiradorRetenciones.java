@@ -0,0 +1,184 @@
+package com.wallet.infrastructure.programacion;
+
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.requests.LiberarRetencionRequest;
+import com.wallet.application.mappers.RetencionMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Retencion;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Vence las retenciones de fondos que no se capturaron ni liberaron a tiempo.
+ *
+ * Cada retención activa tiene un temporizador en una {@link RuedaTemporal}:
+ * agendarla y quitarla al capturarla o liberarla cuestan O(1), y en cada tick
+ * solo se tocan las que vencen, sin recorrer las cuentas. Las vencidas se
+ * liberan a través del ejecutor de operaciones, como cualquier otro cambio de
+ * la cuenta; si ya se capturaron o liberaron, el ejecutor lo rechaza y se
+ * ignoran.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ExpiradorRetenciones {
+
+    public static final long TICK_POR_DEFECTO_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ICuentaRepository cuentaRepository;
+    private final EjecutorOperaciones ejecutor;
+    private final RuedaTemporal<RetencionDTO> rueda;
+    // Protegido por el monitor de la rueda
+    private final Map<String, RuedaTemporal.Temporizador<RetencionDTO>> temporizadores = new HashMap<>();
+    private volatile Thread hilo;
+    private volatile boolean activo;
+
+    /**
+     * @param cuentaRepository repositorio del que se recuperan las retenciones al iniciar
+     * @param ejecutor estrategia con la que se liberan las retenciones vencidas
+     */
+    public ExpiradorRetenciones(ICuentaRepository cuentaRepository, EjecutorOperaciones ejecutor) {
+        this(cuentaRepository, ejecutor, TICK_POR_DEFECTO_NANOS);
+    }
+
+    /**
+     * @param cuentaRepository repositorio del que se recuperan las retenciones al iniciar
+     * @param ejecutor estrategia con la que se liberan las retenciones vencidas
+     * @param tickNanos precisión de los vencimientos
+     */
+    public ExpiradorRetenciones(ICuentaRepository cuentaRepository, EjecutorOperaciones ejecutor, long tickNanos) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (ejecutor == null) {
+            throw new IllegalArgumentException("El ejecutor de operaciones no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.ejecutor = ejecutor;
+        this.rueda = new RuedaTemporal<>(tickNanos, Tiempo.ahora());
+    }
+
+    /**
+     * Agenda las retenciones activas de todas las cuentas (un único recorrido
+     * al arrancar) y arranca el hilo que avanza la rueda.
+     */
+    public void iniciar() {
+        int recuperadas = 0;
+        for (Cuenta cuenta : cuentaRepository.obtenerTodas()) {
+            for (Retencion retencion : cuenta.getRetenciones()) {
+                agendar(RetencionMapper.toDTO(retencion));
+                recuperadas++;
+            }
+        }
+        Logger.info("Expirador iniciado con {} retenciones activas", recuperadas);
+        activo = true;
+        Thread nuevo = new Thread(this::ciclo, "wallet-expirador-retenciones");
+        nuevo.setDaemon(true);
+        hilo = nuevo;
+        nuevo.start();
+    }
+
+    /**
+     * Agenda el vencimiento de una retención. Si ya estaba agendada no hace nada.
+     */
+    public void agendar(RetencionDTO retencion) {
+        if (retencion == null || !Retencion.Estado.ACTIVA.name().equals(retencion.getEstado())) {
+            return;
+        }
+        long vencimiento = Tiempo.aNanos(retencion.getVencimiento());
+        synchronized (rueda) {
+            if (!temporizadores.containsKey(retencion.getId())) {
+                temporizadores.put(retencion.getId(), rueda.programar(retencion, vencimiento));
+            }
+        }
+    }
+
+    /**
+     * Quita de la rueda una retención capturada o liberada.
+     *
+     * @return true si estaba agendada
+     */
+    public boolean cancelar(String retencionId) {
+        synchronized (rueda) {
+            return rueda.cancelar(temporizadores.remove(retencionId));
+        }
+    }
+
+    /**
+     * Avanza la rueda hasta el instante actual y libera las retenciones
+     * vencidas. Retorna cuando el ejecutor las aplicó.
+     *
+     * @return cantidad de retenciones vencidas
+     */
+    public int procesarVencidas() {
+        List<RetencionDTO> vencidas = new ArrayList<>();
+        synchronized (rueda) {
+            rueda.avanzar(Tiempo.ahora(), retencion -> {
+                temporizadores.remove(retencion.getId());
+                vencidas.add(retencion);
+            });
+        }
+
+        List<CompletableFuture<RetencionDTO>> futuros = new ArrayList<>(vencidas.size());
+        for (RetencionDTO retencion : vencidas) {
+            futuros.add(ejecutor.liberarRetencion(
+                new LiberarRetencionRequest(retencion.getCuentaId(), retencion.getId(), true)));
+        }
+        for (int i = 0; i < futuros.size(); i++) {
+            try {
+                EjecutorOperaciones.esperar(futuros.get(i));
+            } catch (RuntimeException e) {
+                // Capturada o liberada mientras vencía
+                Logger.debug("No se venció la retención {}: {}", vencidas.get(i).getId(), e.getMessage());
+            }
+        }
+        return vencidas.size();
+    }
+
+    /**
+     * Detiene el hilo de la rueda. Las retenciones siguen activas en sus
+     * cuentas y se vuelven a agendar al iniciar.
+     */
+    public void cerrar() {
+        activo = false;
+        Thread actual = hilo;
+        if (actual != null && actual.isAlive()) {
+            LockSupport.unpark(actual);
+            try {
+                actual.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Cantidad de retenciones agendadas.
+     */
+    public int getPendientes() {
+        synchronized (rueda) {
+            return rueda.getTamanio();
+        }
+    }
+
+    private void ciclo() {
+        while (activo) {
+            try {
+                procesarVencidas();
+            } catch (RuntimeException e) {
+                Logger.error("Error en el expirador de retenciones", e);
+            }
+            LockSupport.parkNanos(rueda.getTickNanos());
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.wallet.infrastructure.programacion;
+
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.domain.entities.TransferenciaProgramada;
+import com.wallet.domain.repositories.ITransferenciaProgramadaRepository;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Programador de transferencias: ejecuta las transferencias programadas
+ * cuando vencen.
+ *
+ * Cada programación activa tiene un temporizador en una {@link RuedaTemporal},
+ * así que agendar y cancelar cuestan O(1) aunque haya millones pendientes. Un
+ * hilo avanza la rueda una vez por tick, reparte las vencidas en lotes y los
+ * ejecuta en un pool de tamaño fijo con cola acotada; si la cola se llena, el
+ * propio hilo de la rueda ejecuta el lote, lo que frena la lectura de nuevas
+ * vencidas en lugar de acumularlas en memoria.
+ *
+ * Cada ocurrencia se ejecuta a lo sumo una vez porque el avance de la
+ * programación se guarda antes de publicar la transferencia: si el proceso
+ * cae después de guardarlo, la ocurrencia se pierde en lugar de repetirse.
+ * Las transferencias se publican directamente en el ejecutor, sin pasar por
+ * la caché de idempotencia de los servicios, que vive en memoria y no
+ * sobreviviría a ese reinicio. Al
+ * {@link #iniciar()} se recuperan las programaciones activas del repositorio;
+ * las que vencieron mientras el programador estaba detenido se ejecutan una
+ * vez en el primer tick y sus demás ocurrencias atrasadas se omiten (ver
+ * {@link TransferenciaProgramada#registrarEjecucion(long)}).
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ProgramadorTransferencias {
+
+    public static final long TICK_POR_DEFECTO_NANOS = TimeUnit.SECONDS.toNanos(1);
+    public static final int TAMANIO_LOTE = 256;
+
+    private final ITransferenciaProgramadaRepository repositorio;
+    private final EjecutorOperaciones ejecutor;
+    private final RuedaTemporal<TransferenciaProgramada> rueda;
+    // Protegido por el monitor de la rueda
+    private final Map<String, RuedaTemporal.Temporizador<TransferenciaProgramada>> temporizadores = new HashMap<>();
+    private final ExecutorService pool;
+    private volatile Thread hilo;
+    private volatile boolean activo;
+
+    /**
+     * @param repositorio repositorio de transferencias programadas
+     * @param ejecutor estrategia con la que se aplican las transferencias
+     */
+    public ProgramadorTransferencias(ITransferenciaProgramadaRepository repositorio, EjecutorOperaciones ejecutor) {
+        this(repositorio, ejecutor, TICK_POR_DEFECTO_NANOS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param repositorio repositorio de transferencias programadas
+     * @param ejecutor estrategia con la que se aplican las transferencias
+     * @param tickNanos precisión del programador
+     * @param hilos hilos del pool que ejecuta los lotes
+     */
+    public ProgramadorTransferencias(ITransferenciaProgramadaRepository repositorio, EjecutorOperaciones ejecutor,
+                                     long tickNanos, int hilos) {
+        if (repositorio == null) {
+            throw new IllegalArgumentException("El repositorio de transferencias programadas no puede ser nulo");
+        }
+        if (ejecutor == null) {
+            throw new IllegalArgumentException("El ejecutor de operaciones no puede ser nulo");
+        }
+        if (hilos <= 0) {
+            throw new IllegalArgumentException("La cantidad de hilos debe ser positiva");
+        }
+        this.repositorio = repositorio;
+        this.ejecutor = ejecutor;
+        this.rueda = new RuedaTemporal<>(tickNanos, Tiempo.ahora());
+        AtomicInteger numero = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(hilos, hilos, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(hilos * 2),
+            tarea -> {
+                Thread t = new Thread(tarea, "wallet-programador-lote-" + numero.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Recupera las programaciones activas del repositorio y arranca el hilo
+     * que avanza la rueda.
+     */
+    public void iniciar() {
+        int recuperadas = 0;
+        for (TransferenciaProgramada programada : repositorio.obtenerActivas()) {
+            if (agendar(programada)) {
+                recuperadas++;
+            }
+        }
+        Logger.info("Programador iniciado con {} transferencias programadas", recuperadas);
+        activo = true;
+        Thread nuevo = new Thread(this::ciclo, "wallet-programador");
+        nuevo.setDaemon(true);
+        hilo = nuevo;
+        nuevo.start();
+    }
+
+    /**
+     * Agrega una programación guardada a la rueda.
+     *
+     * @param id el ID de la programación
+     * @throws IllegalArgumentException si la programación no existe
+     */
+    public void agendar(String id) {
+        agendar(buscar(id));
+    }
+
+    /**
+     * Cancela una programación y la quita de la rueda.
+     *
+     * @param id el ID de la programación
+     * @return true si estaba activa
+     * @throws IllegalArgumentException si la programación no existe
+     */
+    public boolean cancelar(String id) {
+        TransferenciaProgramada programada = buscar(id);
+        boolean cancelada = programada.cancelar();
+        if (cancelada) {
+            repositorio.guardar(programada);
+        }
+        synchronized (rueda) {
+            rueda.cancelar(temporizadores.remove(id));
+        }
+        return cancelada;
+    }
+
+    /**
+     * Avanza la rueda hasta el instante actual y ejecuta por lotes las
+     * programaciones vencidas. Retorna cuando terminaron todos sus lotes.
+     *
+     * @return cantidad de programaciones vencidas
+     */
+    public int procesarVencidas() {
+        long ahora = Tiempo.ahora();
+        List<TransferenciaProgramada> vencidas = new ArrayList<>();
+        synchronized (rueda) {
+            rueda.avanzar(ahora, programada -> {
+                temporizadores.remove(programada.getId());
+                vencidas.add(programada);
+            });
+        }
+
+        List<Future<?>> lotes = new ArrayList<>();
+        for (int i = 0; i < vencidas.size(); i += TAMANIO_LOTE) {
+            List<TransferenciaProgramada> lote = vencidas.subList(i, Math.min(i + TAMANIO_LOTE, vencidas.size()));
+            lotes.add(pool.submit(() -> ejecutarLote(lote, ahora)));
+        }
+        for (Future<?> lote : lotes) {
+            try {
+                lote.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                Logger.error("Error al ejecutar un lote de transferencias programadas", e);
+            }
+        }
+        return vencidas.size();
+    }
+
+    /**
+     * Detiene el hilo de la rueda y espera a que terminen los lotes en curso.
+     * Las programaciones siguen guardadas y se recuperan al volver a iniciar.
+     */
+    public void cerrar() {
+        activo = false;
+        Thread actual = hilo;
+        if (actual != null && actual.isAlive()) {
+            LockSupport.unpark(actual);
+            try {
+                actual.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Cantidad de programaciones pendientes en la rueda.
+     */
+    public int getPendientes() {
+        synchronized (rueda) {
+            return rueda.getTamanio();
+        }
+    }
+
+    private void ciclo() {
+        while (activo) {
+            try {
+                procesarVencidas();
+            } catch (RuntimeException e) {
+                Logger.error("Error en el programador de transferencias", e);
+            }
+            LockSupport.parkNanos(rueda.getTickNanos());
+        }
+    }
+
+    private boolean agendar(TransferenciaProgramada programada) {
+        synchronized (rueda) {
+            if (!programada.isActiva() || temporizadores.containsKey(programada.getId())) {
+                return false;
+            }
+            temporizadores.put(programada.getId(),
+                rueda.programar(programada, programada.getProximaEjecucionNanos()));
+            return true;
+        }
+    }
+
+    private TransferenciaProgramada buscar(String id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID de la transferencia programada es requerido");
+        }
+        return repositorio.buscarPorId(id)
+            .orElseThrow(() -> new IllegalArgumentException("Transferencia programada no encontrada: " + id));
+    }
+
+    private void ejecutarLote(List<TransferenciaProgramada> lote, long ahora) {
+        List<TransferenciaProgramada> publicadas = new ArrayList<>(lote.size());
+        List<CompletableFuture<List<TransaccionDTO>>> futuros = new ArrayList<>(lote.size());
+        for (TransferenciaProgramada programada : lote) {
+            try {
+                programada.registrarEjecucion(ahora);
+            } catch (IllegalStateException e) {
+                // Cancelada mientras esperaba en el lote, o todavía no vence
+                agendar(programada);
+                continue;
+            }
+            // El avance se guarda antes de publicar: a lo sumo una vez por ocurrencia
+            repositorio.guardar(programada);
+            agendar(programada);
+
+            publicadas.add(programada);
+            futuros.add(ejecutor.transferir(new TransferirDineroRequest(
+                programada.getCuentaOrigenId(),
+                programada.getCuentaDestinoId(),
+                programada.getMonto().getCantidad(),
+                programada.getDescripcion()
+            )));
+        }
+
+        for (int i = 0; i < futuros.size(); i++) {
+            TransferenciaProgramada programada = publicadas.get(i);
+            try {
+                EjecutorOperaciones.esperar(futuros.get(i));
+            } catch (RuntimeException e) {
+                programada.registrarFallo(e.getMessage());
+                repositorio.guardar(programada);
+                Logger.warning("Falló la transferencia programada {}: {}", programada.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.wallet.infrastructure.programacion;
+
+import java.util.function.Consumer;
+
+/**
+ * Rueda de tiempos jerárquica (hierarchical hashed timing wheel).
+ *
+ * El tiempo avanza en ticks de duración fija. Hay cuatro niveles de 256
+ * ranuras: el nivel 0 tiene una ranura por tick, el nivel 1 una por cada 256
+ * ticks, el nivel 2 una por cada 65.536, y así sucesivamente, de modo
+ * que con ticks de un segundo la rueda abarca más de un siglo. Cada ranura es
+ * una lista doblemente enlazada, por lo que programar y cancelar cuestan O(1)
+ * sin importar cuántos temporizadores haya pendientes.
+ *
+ * Un temporizador se ubica en el nivel más bajo que alcanza su vencimiento.
+ * Cuando el tick actual llega al comienzo de una ranura de un nivel superior,
+ * sus temporizadores bajan (cascada) a niveles inferiores, hasta llegar al
+ * nivel 0 y vencer en su tick exacto. Un vencimiento más lejano que toda la
+ * rueda se ubica en el último nivel y se reubica al acercarse.
+ *
+ * No es thread-safe: quien la usa la protege.
+ *
+ * @param <T> valor asociado a cada temporizador
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class RuedaTemporal<T> {
+
+    private static final int BITS_POR_NIVEL = 8;
+    private static final int RANURAS = 1 << BITS_POR_NIVEL;
+    private static final int MASCARA = RANURAS - 1;
+    private static final int NIVELES = 4;
+    /** Ticks que abarca la rueda completa desde el tick actual. */
+    private static final long ALCANCE = 1L << (BITS_POR_NIVEL * NIVELES);
+
+    private final long tickNanos;
+    private final Temporizador<T>[][] ranuras; // Centinelas de cada lista
+    private final Temporizador<T> vencidos;    // Programados con vencimiento ya pasado
+    private long tickActual;
+    private int tamanio;
+
+    /**
+     * @param tickNanos duración de un tick; los vencimientos se redondean hacia
+     *                  arriba al tick siguiente, nunca se adelantan
+     * @param ahoraNanos instante inicial
+     */
+    public RuedaTemporal(long tickNanos, long ahoraNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("La duración del tick debe ser positiva");
+        }
+        this.tickNanos = tickNanos;
+        this.tickActual = Math.floorDiv(ahoraNanos, tickNanos);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Temporizador<T>[][] creadas = new Temporizador[NIVELES][RANURAS];
+        this.ranuras = creadas;
+        for (Temporizador<T>[] nivel : ranuras) {
+            for (int i = 0; i < RANURAS; i++) {
+                nivel[i] = Temporizador.centinela();
+            }
+        }
+        this.vencidos = Temporizador.centinela();
+    }
+
+    /**
+     * Programa un valor para que venza en un instante. Si el instante ya
+     * pasó, vence en el próximo {@link #avanzar}.
+     *
+     * @return el temporizador, que sirve para cancelarlo
+     */
+    public Temporizador<T> programar(T valor, long vencimientoNanos) {
+        long tick = Math.floorDiv(vencimientoNanos, tickNanos);
+        if (Math.floorMod(vencimientoNanos, tickNanos) != 0) {
+            tick++;
+        }
+        Temporizador<T> temporizador = new Temporizador<>(valor, tick);
+        ubicar(temporizador);
+        tamanio++;
+        return temporizador;
+    }
+
+    /**
+     * Cancela un temporizador pendiente.
+     *
+     * @return true si estaba pendiente; false si ya venció o se canceló
+     */
+    public boolean cancelar(Temporizador<T> temporizador) {
+        if (temporizador == null || !temporizador.isPendiente()) {
+            return false;
+        }
+        temporizador.desenlazar();
+        tamanio--;
+        return true;
+    }
+
+    /**
+     * Avanza el tiempo hasta un instante y entrega los valores vencidos.
+     *
+     * @param ahoraNanos instante actual
+     * @param alVencer recibe cada valor vencido; no debe programar valores ya vencidos
+     * @return cantidad de valores vencidos
+     */
+    public int avanzar(long ahoraNanos, Consumer<T> alVencer) {
+        long objetivo = Math.floorDiv(ahoraNanos, tickNanos);
+        int vencidas = vaciar(vencidos, alVencer);
+        while (tickActual < objetivo) {
+            if (tamanio == 0) {
+                tickActual = objetivo;
+                break;
+            }
+            tickActual++;
+            // Primero los niveles altos: lo que bajan puede caer en la ranura
+            // de un nivel inferior que también empieza en este tick
+            for (int nivel = NIVELES - 1; nivel > 0; nivel--) {
+                int bits = BITS_POR_NIVEL * nivel;
+                if ((tickActual & ((1L << bits) - 1)) == 0) {
+                    cascada(ranuras[nivel][(int) (tickActual >>> bits) & MASCARA]);
+                }
+            }
+            vencidas += vaciar(ranuras[0][(int) tickActual & MASCARA], alVencer);
+            vencidas += vaciar(vencidos, alVencer);
+        }
+        return vencidas;
+    }
+
+    /**
+     * Cantidad de temporizadores pendientes.
+     */
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    private void ubicar(Temporizador<T> temporizador) {
+        long distancia = temporizador.tick - tickActual;
+        if (distancia <= 0) {
+            vencidos.enlazar(temporizador);
+            return;
+        }
+        long destino = distancia < ALCANCE ? temporizador.tick : tickActual + ALCANCE - 1;
+        distancia = destino - tickActual;
+        int nivel = 0;
+        while (nivel < NIVELES - 1 && distancia >= 1L << (BITS_POR_NIVEL * (nivel + 1))) {
+            nivel++;
+        }
+        ranuras[nivel][(int) (destino >>> (BITS_POR_NIVEL * nivel)) & MASCARA].enlazar(temporizador);
+    }
+
+    private void cascada(Temporizador<T> centinela) {
+        Temporizador<T> actual = centinela.siguiente;
+        while (actual != centinela) {
+            Temporizador<T> siguiente = actual.siguiente;
+            actual.desenlazar();
+            ubicar(actual);
+            actual = siguiente;
+        }
+    }
+
+    private int vaciar(Temporizador<T> centinela, Consumer<T> alVencer) {
+        int vencidas = 0;
+        while (centinela.siguiente != centinela) {
+            Temporizador<T> temporizador = centinela.siguiente;
+            temporizador.desenlazar();
+            tamanio--;
+            vencidas++;
+            alVencer.accept(temporizador.valor);
+        }
+        return vencidas;
+    }
+
+    /**
+     * Temporizador programado en la rueda: un nodo de la lista de su ranura.
+     */
+    public static final class Temporizador<T> {
+
+        private final T valor;
+        private final long tick;
+        private Temporizador<T> anterior;
+        private Temporizador<T> siguiente;
+
+        private Temporizador(T valor, long tick) {
+            this.valor = valor;
+            this.tick = tick;
+        }
+
+        private static <T> Temporizador<T> centinela() {
+            Temporizador<T> centinela = new Temporizador<>(null, 0);
+            centinela.anterior = centinela;
+            centinela.siguiente = centinela;
+            return centinela;
+        }
+
+        public T getValor() {
+            return valor;
+        }
+
+        /**
+         * Verifica si sigue en la rueda (ni vencido ni cancelado).
+         */
+        public boolean isPendiente() {
+            return siguiente != null;
+        }
+
+        private void enlazar(Temporizador<T> temporizador) {
+            temporizador.anterior = anterior;
+            temporizador.siguiente = this;
+            anterior.siguiente = temporizador;
+            anterior = temporizador;
+        }
+
+        private void desenlazar() {
+            anterior.siguiente = siguiente;
+            siguiente.anterior = anterior;
+            anterior = null;
+            siguiente = null;
+        }
+    }
+}
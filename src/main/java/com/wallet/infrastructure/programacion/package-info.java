@@ -0,0 +1,15 @@
+/**
+ * Programación de operaciones a futuro.
+ *
+ * Este paquete contiene la rueda de tiempos jerárquica, que mantiene millones
+ * de vencimientos pendientes con alta y baja en O(1), y el programador de
+ * transferencias, que recupera las órdenes permanentes al iniciar y ejecuta
+ * las vencidas por lotes en un pool acotado a través del ejecutor de
+ * operaciones, el expirador de retenciones, que libera las retenciones de
+ * fondos que vencen sin capturarse, y el archivador que pasa el historial
+ * antiguo de transacciones al nivel frío.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.programacion;
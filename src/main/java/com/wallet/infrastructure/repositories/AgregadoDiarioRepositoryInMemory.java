@@ -0,0 +1,177 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.AgregadoDiario;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.repositories.IAgregadoDiarioRepository;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Implementación en memoria del repositorio de agregados diarios.
+ * 
+ * Observa el repositorio de transacciones y suma cada una a la celda de su
+ * día, moneda y tipo. Cada celda guarda la cantidad y el total en centavos
+ * en dos {@link LongAdder}: los escritores que coinciden en la misma celda
+ * (todas las transferencias del día, por ejemplo) suman en franjas distintas
+ * y no se disputan una misma variable. Leer un día no bloquea a nadie.
+ * 
+ * La reconstrucción recalcula los días ya cerrados (anteriores a "hasta")
+ * y reemplaza la celda de cada uno de forma atómica. Un día cerrado al que
+ * llega una escritura mientras se reconstruye (una réplica atrasada, por
+ * ejemplo) y que no existía al comenzar se conserva; uno que ya existía se
+ * reemplaza por lo recalculado, que incluye lo que el recorrido alcanzó a ver.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class AgregadoDiarioRepositoryInMemory
+        implements IAgregadoDiarioRepository, ObservadorRepositorio<Transaccion> {
+    
+    private static final TipoTransaccion[] TIPOS = TipoTransaccion.values();
+    private static final int ESCALA = Dinero.CERO.getCantidad().scale();
+    
+    private final ConcurrentSkipListMap<LocalDate, Dia> dias;
+    
+    public AgregadoDiarioRepositoryInMemory() {
+        this.dias = new ConcurrentSkipListMap<>();
+    }
+    
+    @Override
+    public void registrar(Transaccion transaccion) {
+        if (transaccion == null) {
+            throw new IllegalArgumentException("La transacción no puede ser nula");
+        }
+        dias.computeIfAbsent(transaccion.getFecha().toLocalDate(), d -> new Dia())
+            .sumar(transaccion);
+    }
+    
+    @Override
+    public List<AgregadoDiario> buscarPorRango(LocalDate desde, LocalDate hasta) {
+        if (desde == null || hasta == null) {
+            throw new IllegalArgumentException("Las fechas no pueden ser nulas");
+        }
+        List<AgregadoDiario> agregados = new ArrayList<>();
+        if (desde.isAfter(hasta)) {
+            return agregados;
+        }
+        for (Map.Entry<LocalDate, Dia> dia : dias.subMap(desde, true, hasta, true).entrySet()) {
+            dia.getValue().agregarA(dia.getKey(), agregados);
+        }
+        return agregados;
+    }
+    
+    @Override
+    public long reconstruir(Stream<Transaccion> historial, LocalDate hasta) {
+        if (historial == null || hasta == null) {
+            throw new IllegalArgumentException("El historial y la fecha no pueden ser nulos");
+        }
+        // Celdas previas: solo estas se descartan si el historial no tiene nada para su día
+        Map<LocalDate, Dia> previos = new HashMap<>(dias.headMap(hasta));
+        ConcurrentMap<LocalDate, Dia> recalculados = new ConcurrentHashMap<>();
+        LongAdder transacciones = new LongAdder();
+        historial.forEach(transaccion -> {
+            LocalDate dia = transaccion.getFecha().toLocalDate();
+            if (dia.isBefore(hasta)) {
+                recalculados.computeIfAbsent(dia, d -> new Dia()).sumar(transaccion);
+                transacciones.increment();
+            }
+        });
+        for (Map.Entry<LocalDate, Dia> previo : previos.entrySet()) {
+            if (!recalculados.containsKey(previo.getKey())) {
+                dias.remove(previo.getKey(), previo.getValue());
+            }
+        }
+        recalculados.forEach((dia, recalculado) -> dias.compute(dia, (d, actual) -> recalculado));
+        return transacciones.sum();
+    }
+    
+    @Override
+    public void guardado(Transaccion transaccion) {
+        registrar(transaccion);
+    }
+    
+    /**
+     * Las transacciones son inmutables y no se eliminan; no hay nada que revertir.
+     */
+    @Override
+    public void eliminado(Transaccion transaccion) {
+    }
+    
+    @Override
+    public void limpiado() {
+        limpiar();
+    }
+    
+    /**
+     * Limpia todos los agregados (útil para testing).
+     */
+    public void limpiar() {
+        dias.clear();
+    }
+    
+    /**
+     * Celdas de un día, por moneda y luego por tipo (índice = ordinal).
+     */
+    private static final class Dia {
+        private final ConcurrentMap<String, Celda[]> porMoneda = new ConcurrentHashMap<>(4);
+        
+        void sumar(Transaccion transaccion) {
+            Dinero monto = transaccion.getMonto();
+            Celda[] celdas = porMoneda.computeIfAbsent(monto.getMoneda(), m -> nuevasCeldas());
+            celdas[transaccion.getTipo().ordinal()].sumar(monto.getCantidad().unscaledValue().longValueExact());
+        }
+        
+        void agregarA(LocalDate dia, List<AgregadoDiario> agregados) {
+            porMoneda.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                .forEach(moneda -> {
+                    Celda[] celdas = moneda.getValue();
+                    for (TipoTransaccion tipo : TIPOS) {
+                        Celda celda = celdas[tipo.ordinal()];
+                        long cantidad = celda.cantidad.sum();
+                        if (cantidad > 0) {
+                            Dinero total = new Dinero(BigDecimal.valueOf(celda.centavos.sum(), ESCALA),
+                                                      moneda.getKey());
+                            agregados.add(new AgregadoDiario(dia, tipo, cantidad, total));
+                        }
+                    }
+                });
+        }
+        
+        private static Celda[] nuevasCeldas() {
+            Celda[] celdas = new Celda[TIPOS.length];
+            for (int i = 0; i < celdas.length; i++) {
+                celdas[i] = new Celda();
+            }
+            return celdas;
+        }
+    }
+    
+    /**
+     * Cantidad y total en la unidad mínima de la moneda (escala de Dinero).
+     * Las dos sumas no se leen juntas de forma atómica: una consulta
+     * simultánea a una escritura puede ver una sin la otra por un instante.
+     */
+    private static final class Celda {
+        final LongAdder cantidad = new LongAdder();
+        final LongAdder centavos = new LongAdder();
+        
+        void sumar(long monto) {
+            centavos.add(monto);
+            cantidad.increment();
+        }
+    }
+}
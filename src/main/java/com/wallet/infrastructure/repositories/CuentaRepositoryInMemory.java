@@ -5,6 +5,7 @@ import com.wallet.domain.repositories.ICuentaRepository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -16,6 +17,7 @@ import java.util.stream.Collectors;
 public class CuentaRepositoryInMemory implements ICuentaRepository {
     
     private final Map<String, Cuenta> cuentas;
+    private final List<ObservadorRepositorio<Cuenta>> observadores = new CopyOnWriteArrayList<>();
     
     public CuentaRepositoryInMemory() {
         this.cuentas = new ConcurrentHashMap<>();
@@ -27,6 +29,9 @@ public class CuentaRepositoryInMemory implements ICuentaRepository {
             throw new IllegalArgumentException("La cuenta no puede ser nula");
         }
         cuentas.put(cuenta.getId(), cuenta);
+        for (ObservadorRepositorio<Cuenta> observador : observadores) {
+            observador.guardado(cuenta);
+        }
         return cuenta;
     }
     
@@ -78,7 +83,14 @@ public class CuentaRepositoryInMemory implements ICuentaRepository {
         if (id == null || id.trim().isEmpty()) {
             return false;
         }
-        return cuentas.remove(id) != null;
+        Cuenta eliminada = cuentas.remove(id);
+        if (eliminada == null) {
+            return false;
+        }
+        for (ObservadorRepositorio<Cuenta> observador : observadores) {
+            observador.eliminado(eliminada);
+        }
+        return true;
     }
     
     @Override
@@ -95,6 +107,19 @@ public class CuentaRepositoryInMemory implements ICuentaRepository {
      */
     public void limpiar() {
         cuentas.clear();
+        for (ObservadorRepositorio<Cuenta> observador : observadores) {
+            observador.limpiado();
+        }
+    }
+    
+    /**
+     * Registra un observador que se notifica después de cada cambio.
+     */
+    public void agregarObservador(ObservadorRepositorio<Cuenta> observador) {
+        if (observador == null) {
+            throw new IllegalArgumentException("El observador no puede ser nulo");
+        }
+        observadores.add(observador);
     }
     
     /**
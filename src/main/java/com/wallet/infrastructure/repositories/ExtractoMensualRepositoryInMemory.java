@@ -0,0 +1,102 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.ExtractoMensual;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.repositories.IExtractoMensualRepository;
+
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementación en memoria del repositorio de extractos mensuales.
+ * 
+ * Observa el repositorio de transacciones y suma cada transacción guardada
+ * al acumulador de su cuenta y mes, de modo que leer un extracto no recorre
+ * el historial. Los meses de cada cuenta se guardan ordenados, protegidos por
+ * el monitor de la cuenta.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ExtractoMensualRepositoryInMemory
+        implements IExtractoMensualRepository, ObservadorRepositorio<Transaccion> {
+    
+    private final Map<String, NavigableMap<YearMonth, ExtractoMensual.Acumulador>> extractos;
+    
+    public ExtractoMensualRepositoryInMemory() {
+        this.extractos = new ConcurrentHashMap<>();
+    }
+    
+    @Override
+    public void registrar(Transaccion transaccion) {
+        if (transaccion == null) {
+            throw new IllegalArgumentException("La transacción no puede ser nula");
+        }
+        String cuentaId = transaccion.getCuentaOrigenId();
+        YearMonth periodo = ExtractoMensual.periodoDe(transaccion);
+        NavigableMap<YearMonth, ExtractoMensual.Acumulador> meses =
+            extractos.computeIfAbsent(cuentaId, id -> new TreeMap<>());
+        synchronized (meses) {
+            meses.computeIfAbsent(periodo, p -> new ExtractoMensual.Acumulador(cuentaId, p))
+                 .registrar(transaccion);
+        }
+    }
+    
+    @Override
+    public Optional<ExtractoMensual> buscarUltimoHasta(String cuentaId, YearMonth periodo) {
+        if (cuentaId == null || cuentaId.trim().isEmpty() || periodo == null) {
+            return Optional.empty();
+        }
+        NavigableMap<YearMonth, ExtractoMensual.Acumulador> meses = extractos.get(cuentaId);
+        if (meses == null) {
+            return Optional.empty();
+        }
+        synchronized (meses) {
+            Map.Entry<YearMonth, ExtractoMensual.Acumulador> entrada = meses.floorEntry(periodo);
+            return entrada == null ? Optional.empty() : Optional.of(entrada.getValue().extracto());
+        }
+    }
+    
+    @Override
+    public List<ExtractoMensual> buscarPorCuenta(String cuentaId) {
+        if (cuentaId == null || cuentaId.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        NavigableMap<YearMonth, ExtractoMensual.Acumulador> meses = extractos.get(cuentaId);
+        if (meses == null) {
+            return Collections.emptyList();
+        }
+        List<ExtractoMensual> resultado = new ArrayList<>();
+        synchronized (meses) {
+            for (ExtractoMensual.Acumulador acumulador : meses.values()) {
+                resultado.add(acumulador.extracto());
+            }
+        }
+        return resultado;
+    }
+    
+    @Override
+    public void guardado(Transaccion transaccion) {
+        registrar(transaccion);
+    }
+    
+    /**
+     * Las transacciones son inmutables y no se eliminan; no hay nada que revertir.
+     */
+    @Override
+    public void eliminado(Transaccion transaccion) {
+    }
+    
+    @Override
+    public void limpiado() {
+        limpiar();
+    }
+    
+    /**
+     * Limpia todos los extractos (útil para testing).
+     */
+    public void limpiar() {
+        extractos.clear();
+    }
+}
@@ -0,0 +1,281 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.repositories.IIndiceDescripcionesRepository;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Implementación en memoria del índice invertido de descripciones.
+ * 
+ * Observa el repositorio de transacciones. Por cuenta, cada transacción
+ * indexada recibe un ordinal local (0, 1, 2...) y cada término de su
+ * descripción apunta a la lista de ordinales que lo contienen. Como los
+ * ordinales crecen, cada lista se guarda como diferencias entre ordinales
+ * consecutivos codificadas en bytes de largo variable (7 bits por byte): un
+ * término frecuente ocupa cerca de un byte por transacción.
+ * 
+ * De cada transacción solo se guarda su número de secuencia en el libro de
+ * la cuenta, no la transacción: el índice no retiene lo que el repositorio
+ * compacta o archiva, y quien busca resuelve las secuencias en el
+ * repositorio de transacciones. Una secuencia ya indexada se ignora, de modo
+ * que volver a guardar un registro no lo duplica.
+ * 
+ * Una consulta se separa en términos igual que las descripciones y se
+ * intersectan sus listas, empezando por la más corta.
+ * 
+ * Cada cuenta se sincroniza por separado; las escrituras de una misma cuenta
+ * ya llegan serializadas casi siempre, así que el monitor apenas se disputa.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class IndiceDescripcionesRepositoryInMemory
+        implements IIndiceDescripcionesRepository, ObservadorRepositorio<Transaccion> {
+    
+    private static final Pattern SEPARADOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern TILDES = Pattern.compile("\\p{M}+");
+    private static final int LARGO_MINIMO_TERMINO = 2;
+    
+    // Estimación de objetos de la JVM con referencias comprimidas
+    private static final int BYTES_ENTRADA_MAPA = 32;
+    private static final int BYTES_STRING = 24 + 16;
+    private static final int BYTES_POSTINGS = 24 + 16;
+    private static final int BYTES_SECUENCIA = 8;
+    
+    private final Map<String, IndiceCuenta> cuentas;
+    
+    public IndiceDescripcionesRepositoryInMemory() {
+        this.cuentas = new ConcurrentHashMap<>();
+    }
+    
+    @Override
+    public void indexar(Transaccion transaccion) {
+        if (transaccion == null) {
+            throw new IllegalArgumentException("La transacción no puede ser nula");
+        }
+        if (transaccion.getSecuencia() <= 0) {
+            throw new IllegalArgumentException("Solo se indexan transacciones guardadas");
+        }
+        Set<String> terminos = terminos(transaccion.getDescripcion());
+        cuentas.computeIfAbsent(transaccion.getCuentaOrigenId(), id -> new IndiceCuenta())
+               .agregar(transaccion.getSecuencia(), terminos);
+    }
+    
+    @Override
+    public List<Long> buscar(String cuentaId, String consulta, int limite) {
+        if (cuentaId == null || limite <= 0) {
+            return Collections.emptyList();
+        }
+        Set<String> terminos = terminos(consulta);
+        IndiceCuenta indice = cuentas.get(cuentaId);
+        if (indice == null || terminos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return indice.buscar(terminos, limite);
+    }
+    
+    @Override
+    public void guardado(Transaccion transaccion) {
+        indexar(transaccion);
+    }
+    
+    /**
+     * Las transacciones son inmutables y no se eliminan; no hay nada que revertir.
+     */
+    @Override
+    public void eliminado(Transaccion transaccion) {
+    }
+    
+    @Override
+    public void limpiado() {
+        limpiar();
+    }
+    
+    /**
+     * Limpia el índice (útil para testing).
+     */
+    public void limpiar() {
+        cuentas.clear();
+    }
+    
+    /**
+     * Memoria estimada del índice por transacción indexada: listas
+     * comprimidas, términos, las secuencias por ordinal y el conjunto de
+     * secuencias indexadas de cada cuenta.
+     */
+    public double bytesPorTransaccion() {
+        long bytes = 0;
+        long transacciones = 0;
+        for (IndiceCuenta indice : cuentas.values()) {
+            synchronized (indice) {
+                bytes += indice.bytesEstimados();
+                transacciones += indice.cantidad;
+            }
+        }
+        return transacciones == 0 ? 0 : (double) bytes / transacciones;
+    }
+    
+    /**
+     * Separa un texto en términos: minúsculas, sin tildes, solo letras y
+     * dígitos, sin repetir y de al menos dos caracteres.
+     */
+    static Set<String> terminos(String texto) {
+        Set<String> terminos = new LinkedHashSet<>();
+        if (texto == null || texto.isEmpty()) {
+            return terminos;
+        }
+        String normalizado = TILDES.matcher(Normalizer.normalize(texto.toLowerCase(), Normalizer.Form.NFD))
+                                   .replaceAll("");
+        for (String termino : SEPARADOR.split(normalizado)) {
+            if (termino.length() >= LARGO_MINIMO_TERMINO) {
+                terminos.add(termino);
+            }
+        }
+        return terminos;
+    }
+    
+    /**
+     * Índice de una cuenta: la secuencia de cada ordinal y las listas de
+     * ordinales por término. Los ordinales siguen el orden de llegada, que
+     * casi siempre es el de las secuencias.
+     */
+    private static final class IndiceCuenta {
+        private long[] secuencias = new long[8];
+        private int cantidad;
+        private final BitSet indexadas = new BitSet();
+        private final Map<String, Postings> porTermino = new HashMap<>();
+        
+        synchronized void agregar(long secuencia, Set<String> terminos) {
+            int bit = Math.toIntExact(secuencia);
+            if (indexadas.get(bit)) {
+                return;
+            }
+            indexadas.set(bit);
+            if (cantidad == secuencias.length) {
+                secuencias = Arrays.copyOf(secuencias, cantidad * 2);
+            }
+            int ordinal = cantidad++;
+            secuencias[ordinal] = secuencia;
+            for (String termino : terminos) {
+                porTermino.computeIfAbsent(termino, t -> new Postings()).agregar(ordinal);
+            }
+        }
+        
+        synchronized List<Long> buscar(Set<String> terminos, int limite) {
+            List<Postings> listas = new ArrayList<>(terminos.size());
+            for (String termino : terminos) {
+                Postings postings = porTermino.get(termino);
+                if (postings == null) {
+                    return Collections.emptyList();
+                }
+                listas.add(postings);
+            }
+            listas.sort(Comparator.comparingInt(p -> p.cantidad));
+            
+            int[] coincidencias = listas.get(0).ordinales();
+            int largo = coincidencias.length;
+            for (int i = 1; i < listas.size() && largo > 0; i++) {
+                largo = listas.get(i).intersectar(coincidencias, largo);
+            }
+            
+            // Una llegada atrasada deja su ordinal fuera de orden: se ordena por secuencia
+            long[] encontradas = new long[largo];
+            for (int i = 0; i < largo; i++) {
+                encontradas[i] = secuencias[coincidencias[i]];
+            }
+            Arrays.sort(encontradas);
+            List<Long> resultado = new ArrayList<>(Math.min(largo, limite));
+            for (int i = largo - 1; i >= 0 && resultado.size() < limite; i--) {
+                resultado.add(encontradas[i]);
+            }
+            return resultado;
+        }
+        
+        long bytesEstimados() {
+            long bytes = 16 + (long) secuencias.length * BYTES_SECUENCIA + 16 + indexadas.size() / 8;
+            for (Map.Entry<String, Postings> entrada : porTermino.entrySet()) {
+                bytes += BYTES_ENTRADA_MAPA + BYTES_STRING + entrada.getKey().length()
+                       + BYTES_POSTINGS + entrada.getValue().datos.length;
+            }
+            return bytes;
+        }
+    }
+    
+    /**
+     * Lista de ordinales crecientes, codificados como diferencias en bytes de
+     * largo variable. No es thread-safe; la protege el índice de la cuenta.
+     */
+    private static final class Postings {
+        private byte[] datos = new byte[4];
+        private int largo;
+        private int cantidad;
+        private int ultimo = -1;
+        
+        void agregar(int ordinal) {
+            int delta = ordinal - ultimo;
+            if (largo + 5 > datos.length) {
+                datos = Arrays.copyOf(datos, Math.max(datos.length * 2, largo + 5));
+            }
+            while ((delta & ~0x7F) != 0) {
+                datos[largo++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            datos[largo++] = (byte) delta;
+            ultimo = ordinal;
+            cantidad++;
+        }
+        
+        int[] ordinales() {
+            int[] ordinales = new int[cantidad];
+            int posicion = 0;
+            int actual = -1;
+            for (int i = 0; i < cantidad; i++) {
+                int delta = 0;
+                int desplazamiento = 0;
+                byte b;
+                do {
+                    b = datos[posicion++];
+                    delta |= (b & 0x7F) << desplazamiento;
+                    desplazamiento += 7;
+                } while (b < 0);
+                actual += delta;
+                ordinales[i] = actual;
+            }
+            return ordinales;
+        }
+        
+        /**
+         * Deja en las primeras posiciones de candidatos (ordenados) solo los
+         * ordinales que también están en esta lista.
+         * 
+         * @return cuántos candidatos quedan
+         */
+        int intersectar(int[] candidatos, int largoCandidatos) {
+            int[] propios = ordinales();
+            int quedan = 0;
+            int p = 0;
+            for (int c = 0; c < largoCandidatos && p < propios.length; c++) {
+                while (p < propios.length && propios[p] < candidatos[c]) {
+                    p++;
+                }
+                if (p < propios.length && propios[p] == candidatos[c]) {
+                    candidatos[quedan++] = candidatos[c];
+                }
+            }
+            return quedan;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.IIndiceUsuariosRepository;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Implementación en memoria del índice de usuarios por prefijo.
+ * 
+ * Observa el repositorio de usuarios. Cada usuario se indexa bajo varios
+ * textos normalizados (minúsculas, sin tildes, espacios simples): su nombre
+ * completo, el resto del nombre desde cada palabra (para encontrarlo por
+ * segundo nombre o apellido) y su email. Las claves "texto + \0 + id" viven en
+ * un {@link ConcurrentSkipListMap}: los textos que empiezan por un prefijo
+ * son un rango contiguo, que se ubica en O(log n) y del que se leen los
+ * primeros K usuarios sin bloquear ni recorrer el resto.
+ * 
+ * {@link Usuario#actualizar} modifica el usuario en sitio, así que no se
+ * pueden recalcular sus claves viejas: se recuerdan las claves indexadas por
+ * id y se reemplazan en el siguiente guardar(). Las actualizaciones de un
+ * mismo usuario se serializan con compute() sobre su id.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class IndiceUsuariosRepositoryInMemory
+        implements IIndiceUsuariosRepository, ObservadorRepositorio<Usuario> {
+    
+    private static final char SEPARADOR_ID = '\0';
+    private static final char MAXIMO_CARACTER = Character.MAX_VALUE;
+    private static final Pattern TILDES = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+    
+    private final ConcurrentSkipListMap<String, Usuario> porTexto;
+    private final ConcurrentHashMap<String, Set<String>> clavesPorId;
+    
+    public IndiceUsuariosRepositoryInMemory() {
+        this.porTexto = new ConcurrentSkipListMap<>();
+        this.clavesPorId = new ConcurrentHashMap<>();
+    }
+    
+    @Override
+    public void indexar(Usuario usuario) {
+        if (usuario == null) {
+            throw new IllegalArgumentException("El usuario no puede ser nulo");
+        }
+        clavesPorId.compute(usuario.getId(), (id, anteriores) -> {
+            Set<String> claves = claves(usuario);
+            if (anteriores != null) {
+                for (String clave : anteriores) {
+                    if (!claves.contains(clave)) {
+                        porTexto.remove(clave);
+                    }
+                }
+            }
+            for (String clave : claves) {
+                porTexto.put(clave, usuario);
+            }
+            return claves;
+        });
+    }
+    
+    @Override
+    public void quitar(Usuario usuario) {
+        if (usuario == null) {
+            throw new IllegalArgumentException("El usuario no puede ser nulo");
+        }
+        clavesPorId.computeIfPresent(usuario.getId(), (id, anteriores) -> {
+            for (String clave : anteriores) {
+                porTexto.remove(clave);
+            }
+            return null;
+        });
+    }
+    
+    @Override
+    public List<Usuario> buscarPorPrefijo(String prefijo, int limite) {
+        String normalizado = normalizar(prefijo);
+        if (normalizado.isEmpty() || limite <= 0) {
+            return Collections.emptyList();
+        }
+        Map<String, Usuario> coincidencias = porTexto.subMap(normalizado, true,
+                                                             normalizado + MAXIMO_CARACTER, false);
+        Set<Usuario> resultado = new LinkedHashSet<>();
+        for (Usuario usuario : coincidencias.values()) {
+            resultado.add(usuario);
+            if (resultado.size() == limite) {
+                break;
+            }
+        }
+        return new ArrayList<>(resultado);
+    }
+    
+    @Override
+    public void guardado(Usuario usuario) {
+        indexar(usuario);
+    }
+    
+    @Override
+    public void eliminado(Usuario usuario) {
+        quitar(usuario);
+    }
+    
+    @Override
+    public void limpiado() {
+        limpiar();
+    }
+    
+    /**
+     * Limpia el índice (útil para testing).
+     */
+    public void limpiar() {
+        clavesPorId.clear();
+        porTexto.clear();
+    }
+    
+    /**
+     * Retorna el número de claves indexadas.
+     */
+    public int contarClaves() {
+        return porTexto.size();
+    }
+    
+    private static Set<String> claves(Usuario usuario) {
+        Set<String> claves = new LinkedHashSet<>();
+        String sufijo = SEPARADOR_ID + usuario.getId();
+        String nombre = normalizar(usuario.getNombreCompleto());
+        for (int inicio = 0; inicio >= 0 && inicio < nombre.length(); ) {
+            claves.add(nombre.substring(inicio) + sufijo);
+            int espacio = nombre.indexOf(' ', inicio);
+            inicio = espacio < 0 ? -1 : espacio + 1;
+        }
+        claves.add(normalizar(usuario.getEmail().getValor()) + sufijo);
+        return claves;
+    }
+    
+    /**
+     * Minúsculas, sin tildes, sin espacios en los extremos y con un único
+     * espacio entre palabras.
+     */
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String sinTildes = TILDES.matcher(Normalizer.normalize(texto.toLowerCase(), Normalizer.Form.NFD))
+                                 .replaceAll("");
+        return ESPACIOS.matcher(sinTildes.trim()).replaceAll(" ");
+    }
+}
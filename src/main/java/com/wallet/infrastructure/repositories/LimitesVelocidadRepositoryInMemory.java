@@ -0,0 +1,274 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.repositories.ILimitesVelocidadRepository;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.LimiteVelocidad;
+import com.wallet.domain.valueobjects.NivelCuenta;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Implementación en memoria de los contadores de límites de velocidad.
+ *
+ * Cada cuenta tiene un anillo de {@link #CUBETAS} cubetas que reparten la
+ * ventana de su nivel en tramos iguales; cada cubeta son dos long de un
+ * {@link AtomicLongArray} (operaciones y centavos). Cada long lleva en los
+ * bits altos la época del tramo (instante / ancho del tramo) y en los bajos
+ * el valor, así que una cubeta vieja se reinicia con el mismo CAS que la
+ * incrementa y no hace falta barrer el anillo. La ventana es móvil con la
+ * resolución de un tramo: suma la cubeta actual y las CUBETAS - 1 anteriores.
+ *
+ * Consumir suma primero y verifica después: si el total supera el límite,
+ * resta lo sumado y rechaza. Dos operaciones simultáneas de una misma cuenta
+ * nunca superan el límite entre ambas; a lo sumo una de ellas se rechaza de
+ * más. Todo es O(CUBETAS), sin bloqueos en la ruta de escritura.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class LimitesVelocidadRepositoryInMemory implements ILimitesVelocidadRepository {
+
+    /**
+     * Tramos en que se divide la ventana de cada cuenta (potencia de dos).
+     */
+    public static final int CUBETAS = 32;
+
+    /**
+     * Tope para el monto máximo de un límite, en centavos: deja margen en los
+     * bits de valor para lo que sumen operaciones simultáneas antes de restarse.
+     */
+    public static final long CENTAVOS_MAXIMOS = 1L << 36;
+
+    private static final int BITS_VALOR = 40;
+    private static final long MASCARA_VALOR = (1L << BITS_VALOR) - 1;
+    // Sin el bit de signo, para que el desplazamiento sin signo devuelva la época tal cual
+    private static final long MASCARA_EPOCA = (1L << (63 - BITS_VALOR)) - 1;
+    private static final int OPERACIONES = 0;
+    private static final int CENTAVOS = 1;
+
+    private final ConcurrentHashMap<String, Ventana> ventanas;
+    // Copia al escribir: la configuración cambia poco y se lee en cada operación
+    private volatile LimiteVelocidad[] porNivel;
+
+    public LimitesVelocidadRepositoryInMemory() {
+        this.ventanas = new ConcurrentHashMap<>();
+        this.porNivel = new LimiteVelocidad[NivelCuenta.values().length];
+        Arrays.fill(this.porNivel, LimiteVelocidad.SIN_LIMITE);
+    }
+
+    @Override
+    public synchronized void configurar(NivelCuenta nivel, LimiteVelocidad limite) {
+        if (nivel == null) {
+            throw new IllegalArgumentException("El nivel no puede ser nulo");
+        }
+        if (limite == null) {
+            throw new IllegalArgumentException("El límite no puede ser nulo");
+        }
+        if (limite.getMontoMaximo() != null && centavos(limite.getMontoMaximo()) > CENTAVOS_MAXIMOS) {
+            throw new IllegalArgumentException("El monto máximo excede el admitido: " + limite.getMontoMaximo());
+        }
+        if (limite.getVentana().toNanos() < CUBETAS) {
+            throw new IllegalArgumentException("La ventana es demasiado corta: " + limite.getVentana());
+        }
+        LimiteVelocidad[] copia = porNivel.clone();
+        copia[nivel.ordinal()] = limite;
+        porNivel = copia;
+    }
+
+    @Override
+    public LimiteVelocidad getLimite(NivelCuenta nivel) {
+        if (nivel == null) {
+            throw new IllegalArgumentException("El nivel no puede ser nulo");
+        }
+        return porNivel[nivel.ordinal()];
+    }
+
+    @Override
+    public boolean consumir(String cuentaId, NivelCuenta nivel, Dinero monto, long ahora) {
+        LimiteVelocidad limite = getLimite(nivel);
+        if (limite.esSinLimite()) {
+            return true;
+        }
+        long centavos = centavosLimitados(limite, monto);
+        if (limite.getMontoMaximo() != null && centavos > centavos(limite.getMontoMaximo())) {
+            return false;
+        }
+
+        Ventana ventana = ventana(cuentaId, limite);
+        long epoca = Math.floorDiv(ahora, ventana.anchoCubeta);
+        ventana.sumar(OPERACIONES, epoca, 1);
+        if (centavos > 0) {
+            ventana.sumar(CENTAVOS, epoca, centavos);
+        }
+
+        boolean excede = (limite.getMaximoOperaciones() > 0
+                          && ventana.total(OPERACIONES, epoca) > limite.getMaximoOperaciones())
+                      || (centavos > 0 && ventana.total(CENTAVOS, epoca) > centavos(limite.getMontoMaximo()));
+        if (excede) {
+            ventana.restar(OPERACIONES, epoca, 1);
+            if (centavos > 0) {
+                ventana.restar(CENTAVOS, epoca, centavos);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void devolver(String cuentaId, NivelCuenta nivel, Dinero monto, long ahora) {
+        LimiteVelocidad limite = getLimite(nivel);
+        Ventana ventana = ventanas.get(cuentaId);
+        if (limite.esSinLimite() || ventana == null || ventana.anchoCubeta != anchoCubeta(limite)) {
+            return;
+        }
+        long epoca = Math.floorDiv(ahora, ventana.anchoCubeta);
+        ventana.restar(OPERACIONES, epoca, 1);
+        long centavos = centavosLimitados(limite, monto);
+        if (centavos > 0) {
+            ventana.restar(CENTAVOS, epoca, centavos);
+        }
+    }
+
+    /**
+     * Cantidad de cuentas con contadores (útil para testing).
+     */
+    public int cantidadCuentas() {
+        return ventanas.size();
+    }
+
+    /**
+     * Borra los contadores de todas las cuentas; los límites configurados se mantienen.
+     */
+    public void limpiar() {
+        ventanas.clear();
+    }
+
+    /**
+     * Anillo de la cuenta para el ancho de tramo del límite; si el nivel de la
+     * cuenta cambió a otra ventana, los contadores empiezan de cero.
+     */
+    private Ventana ventana(String cuentaId, LimiteVelocidad limite) {
+        long ancho = anchoCubeta(limite);
+        while (true) {
+            Ventana actual = ventanas.get(cuentaId);
+            if (actual != null && actual.anchoCubeta == ancho) {
+                return actual;
+            }
+            Ventana nueva = new Ventana(ancho);
+            boolean instalada = actual == null
+                ? ventanas.putIfAbsent(cuentaId, nueva) == null
+                : ventanas.replace(cuentaId, actual, nueva);
+            if (instalada) {
+                return nueva;
+            }
+        }
+    }
+
+    private static long anchoCubeta(LimiteVelocidad limite) {
+        return limite.getVentana().toNanos() / CUBETAS;
+    }
+
+    /**
+     * Centavos que cuentan para el tope de monto: 0 si el límite no lo tiene
+     * o la operación es de otra moneda.
+     */
+    private static long centavosLimitados(LimiteVelocidad limite, Dinero monto) {
+        Dinero maximo = limite.getMontoMaximo();
+        if (maximo == null || monto == null || !maximo.getMoneda().equals(monto.getMoneda())) {
+            return 0;
+        }
+        return centavos(monto);
+    }
+
+    private static long centavos(Dinero dinero) {
+        // Dinero tiene escala 2: el valor sin escala son centavos
+        return dinero.getCantidad().unscaledValue().longValueExact();
+    }
+
+    /**
+     * Anillo de cubetas de una cuenta. La celda 2i guarda las operaciones del
+     * tramo i y la 2i + 1 sus centavos.
+     */
+    private static final class Ventana {
+        final long anchoCubeta;
+        final AtomicLongArray celdas = new AtomicLongArray(2 * CUBETAS);
+
+        Ventana(long anchoCubeta) {
+            this.anchoCubeta = anchoCubeta;
+        }
+
+        void sumar(int columna, long epoca, long delta) {
+            int celda = celda(columna, epoca);
+            long etiqueta = epoca & MASCARA_EPOCA;
+            while (true) {
+                long actual = celdas.get(celda);
+                long guardada = actual >>> BITS_VALOR;
+                long valor;
+                if (guardada == etiqueta) {
+                    valor = (actual & MASCARA_VALOR) + delta;
+                } else if (esPosterior(etiqueta, guardada)) {
+                    // Otro hilo ya pasó a un tramo posterior: este instante quedó fuera de la ventana
+                    return;
+                } else {
+                    valor = delta;
+                }
+                if (celdas.compareAndSet(celda, actual, (etiqueta << BITS_VALOR) | valor)) {
+                    return;
+                }
+            }
+        }
+
+        void restar(int columna, long epoca, long delta) {
+            int celda = celda(columna, epoca);
+            long etiqueta = epoca & MASCARA_EPOCA;
+            while (true) {
+                long actual = celdas.get(celda);
+                // Si la cubeta ya pasó a otro tramo lo sumado salió de la ventana
+                if (actual >>> BITS_VALOR != etiqueta) {
+                    return;
+                }
+                long valor = Math.max(0, (actual & MASCARA_VALOR) - delta);
+                if (celdas.compareAndSet(celda, actual, (etiqueta << BITS_VALOR) | valor)) {
+                    return;
+                }
+            }
+        }
+
+        long total(int columna, long epoca) {
+            long etiqueta = epoca & MASCARA_EPOCA;
+            long total = 0;
+            for (int i = 0; i < CUBETAS; i++) {
+                long actual = celdas.get(2 * i + columna);
+                long edad = antiguedad(etiqueta, actual >>> BITS_VALOR);
+                if (edad >= 0 && edad < CUBETAS) {
+                    total += actual & MASCARA_VALOR;
+                }
+            }
+            return total;
+        }
+
+        /**
+         * Indica si la cubeta ya pasó a un tramo posterior dentro de la ventana.
+         */
+        private static boolean esPosterior(long etiquetaActual, long etiquetaGuardada) {
+            long edad = antiguedad(etiquetaActual, etiquetaGuardada);
+            return edad < 0 && edad > -CUBETAS;
+        }
+
+        private static int celda(int columna, long epoca) {
+            return 2 * (int) (epoca & (CUBETAS - 1)) + columna;
+        }
+
+        /**
+         * Tramos entre la época guardada y la actual, con las etiquetas
+         * truncadas; negativo si la guardada es posterior.
+         */
+        private static long antiguedad(long etiquetaActual, long etiquetaGuardada) {
+            long diferencia = (etiquetaActual - etiquetaGuardada) & MASCARA_EPOCA;
+            // La mitad superior del rango corresponde a diferencias negativas
+            return diferencia > (MASCARA_EPOCA >>> 1) ? diferencia - MASCARA_EPOCA - 1 : diferencia;
+        }
+    }
+}
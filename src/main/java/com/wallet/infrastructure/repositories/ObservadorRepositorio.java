@@ -0,0 +1,43 @@
+package com.wallet.infrastructure.repositories;
+
+/**
+ * Observador de cambios de un repositorio (Observer Pattern).
+ *
+ * Se notifica después de que el cambio quedó aplicado, desde el hilo que lo
+ * hizo. Lo usan las cachés de lectura para invalidar entradas.
+ *
+ * Los observadores no deben retener las entidades que reciben: el
+ * repositorio de transacciones archiva las antiguas avisando solo con
+ * {@link #archivado(String, long)}, y una referencia guardada aquí las
+ * mantendría en memoria. Los índices y resúmenes guardan IDs, secuencias o
+ * valores.
+ *
+ * @param <T> tipo de entidad del repositorio
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public interface ObservadorRepositorio<T> {
+
+    /**
+     * La entidad se guardó (alta o modificación).
+     */
+    void guardado(T entidad);
+
+    /**
+     * La entidad se eliminó.
+     */
+    void eliminado(T entidad);
+
+    /**
+     * Se eliminaron todas las entidades.
+     */
+    void limpiado();
+
+    /**
+     * Las transacciones de la cuenta hasta la secuencia dada pasaron al
+     * historial archivado; siguen consultables, pero más lentas. Por defecto
+     * no hace nada.
+     */
+    default void archivado(String cuentaId, long hastaSecuencia) {
+    }
+}
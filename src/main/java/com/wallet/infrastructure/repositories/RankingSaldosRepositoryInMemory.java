@@ -0,0 +1,140 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.SaldoCuenta;
+import com.wallet.domain.repositories.IRankingSaldosRepository;
+import com.wallet.domain.valueobjects.Dinero;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Implementación en memoria del índice de saldos.
+ * 
+ * Observa el repositorio de cuentas. Por moneda se mantiene un
+ * {@link ConcurrentSkipListSet} de (saldo, id), de modo que las N mayores o
+ * menores se leen desde un extremo en O(log n + N) y un rango se ubica en
+ * O(log n), sin ordenar ni bloquear.
+ * 
+ * Para reemplazar la entrada vieja de una cuenta se recuerda la última
+ * indexada por id. El reemplazo se hace dentro de compute() sobre el id, que
+ * serializa las actualizaciones de una misma cuenta, y lee el saldo ahí
+ * dentro: cada cambio de saldo va seguido de un guardar(), así que la última
+ * actualización siempre deja el saldo vigente. Una consulta simultánea puede
+ * ver por un instante la cuenta dos veces o ninguna.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class RankingSaldosRepositoryInMemory
+        implements IRankingSaldosRepository, ObservadorRepositorio<Cuenta> {
+    
+    // Los saldos de Dinero tienen escala 2: el siguiente valor posible está a un centavo
+    private static final BigDecimal CENTAVO = new BigDecimal("0.01");
+    
+    private final Map<String, NavigableSet<SaldoCuenta>> porMoneda;
+    private final ConcurrentHashMap<String, SaldoCuenta> indexados;
+    
+    public RankingSaldosRepositoryInMemory() {
+        this.porMoneda = new ConcurrentHashMap<>();
+        this.indexados = new ConcurrentHashMap<>();
+    }
+    
+    @Override
+    public void actualizar(Cuenta cuenta) {
+        if (cuenta == null) {
+            throw new IllegalArgumentException("La cuenta no puede ser nula");
+        }
+        indexados.compute(cuenta.getId(), (id, anterior) -> {
+            SaldoCuenta actual = SaldoCuenta.de(cuenta);
+            if (actual.equals(anterior)) {
+                return anterior;
+            }
+            if (anterior != null) {
+                ordenadas(anterior.getSaldo().getMoneda()).remove(anterior);
+            }
+            ordenadas(actual.getSaldo().getMoneda()).add(actual);
+            return actual;
+        });
+    }
+    
+    @Override
+    public void quitar(Cuenta cuenta) {
+        if (cuenta == null) {
+            throw new IllegalArgumentException("La cuenta no puede ser nula");
+        }
+        indexados.computeIfPresent(cuenta.getId(), (id, anterior) -> {
+            ordenadas(anterior.getSaldo().getMoneda()).remove(anterior);
+            return null;
+        });
+    }
+    
+    @Override
+    public List<SaldoCuenta> mayores(String moneda, int cantidad) {
+        return primeras(ordenadas(moneda).descendingIterator(), cantidad);
+    }
+    
+    @Override
+    public List<SaldoCuenta> menores(String moneda, int cantidad) {
+        return primeras(ordenadas(moneda).iterator(), cantidad);
+    }
+    
+    @Override
+    public long contarEnRango(Dinero minimo, Dinero maximo) {
+        if (minimo == null || maximo == null) {
+            throw new IllegalArgumentException("El rango no puede ser nulo");
+        }
+        if (!minimo.getMoneda().equals(maximo.getMoneda())) {
+            throw new IllegalArgumentException("Los extremos del rango deben tener la misma moneda");
+        }
+        if (minimo.getCantidad().compareTo(maximo.getCantidad()) > 0) {
+            return 0;
+        }
+        // "" es el menor id posible: desde (mínimo, "") inclusive hasta (máximo + 1 centavo, "") exclusive
+        SaldoCuenta desde = new SaldoCuenta("", "", minimo);
+        SaldoCuenta hasta = new SaldoCuenta("", "", new Dinero(maximo.getCantidad().add(CENTAVO),
+                                                               maximo.getMoneda()));
+        return ordenadas(minimo.getMoneda()).subSet(desde, true, hasta, false).size();
+    }
+    
+    @Override
+    public void guardado(Cuenta cuenta) {
+        actualizar(cuenta);
+    }
+    
+    @Override
+    public void eliminado(Cuenta cuenta) {
+        quitar(cuenta);
+    }
+    
+    @Override
+    public void limpiado() {
+        limpiar();
+    }
+    
+    /**
+     * Limpia el índice (útil para testing).
+     */
+    public void limpiar() {
+        indexados.clear();
+        porMoneda.clear();
+    }
+    
+    private NavigableSet<SaldoCuenta> ordenadas(String moneda) {
+        return porMoneda.computeIfAbsent(moneda, m -> new ConcurrentSkipListSet<>());
+    }
+    
+    private static List<SaldoCuenta> primeras(Iterator<SaldoCuenta> iterador, int cantidad) {
+        List<SaldoCuenta> resultado = new ArrayList<>(Math.max(0, Math.min(cantidad, 1024)));
+        while (resultado.size() < cantidad && iterador.hasNext()) {
+            resultado.add(iterador.next());
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,264 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.repositories.ISaldoHistoricoRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Tiempo;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementación en memoria del repositorio de saldos históricos.
+ * 
+ * Observa el repositorio de transacciones. Cada transacción ya guarda el saldo
+ * que dejó en su cuenta, así que cada una es un punto de control: por cuenta
+ * se mantienen arreglos paralelos de instantes, secuencias y el saldo
+ * posterior a cada uno, ordenados por instante y, ante fechas iguales, por
+ * secuencia. Una consulta es una búsqueda binaria, O(log n), sin recorrer ni
+ * reproducir el historial.
+ * 
+ * Las transacciones llegan casi siempre en orden; si alguna llega atrasada se
+ * inserta en su posición.
+ * 
+ * Cuando el repositorio de transacciones archiva el comienzo del libro de
+ * una cuenta, sus puntos se descartan salvo el último, que sigue respondiendo
+ * desde su instante en adelante. Una consulta anterior a ese punto recorre
+ * por secuencia las transacciones archivadas de la cuenta.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class SaldoHistoricoRepositoryInMemory
+        implements ISaldoHistoricoRepository, ObservadorRepositorio<Transaccion> {
+    
+    private static final int PAGINA_ARCHIVADAS = 256;
+    
+    private final Map<String, Historial> historiales;
+    private final ITransaccionRepository transacciones;
+    
+    /**
+     * Repositorio que conserva todos los puntos aunque se archiven sus transacciones.
+     */
+    public SaldoHistoricoRepositoryInMemory() {
+        this(null);
+    }
+    
+    /**
+     * @param transacciones fuente para consultar instantes ya archivados; si es
+     *        null los puntos no se descartan al archivar
+     */
+    public SaldoHistoricoRepositoryInMemory(ITransaccionRepository transacciones) {
+        this.historiales = new ConcurrentHashMap<>();
+        this.transacciones = transacciones;
+    }
+    
+    @Override
+    public void registrar(Transaccion transaccion) {
+        if (transaccion == null) {
+            throw new IllegalArgumentException("La transacción no puede ser nula");
+        }
+        historiales.computeIfAbsent(transaccion.getCuentaOrigenId(), id -> new Historial())
+                   .agregar(transaccion.getFechaNanos(), transaccion.getSecuencia(), transaccion.getSaldoNuevo());
+    }
+    
+    @Override
+    public Optional<Dinero> saldoEn(String cuentaId, LocalDateTime instante) {
+        if (cuentaId == null || cuentaId.trim().isEmpty() || instante == null) {
+            return Optional.empty();
+        }
+        Historial historial = historiales.get(cuentaId);
+        if (historial == null) {
+            return Optional.empty();
+        }
+        long nanos = Tiempo.aNanos(instante);
+        Consulta consulta = historial.consultar(nanos);
+        if (consulta.archivadas == 0) {
+            return Optional.ofNullable(consulta.saldo);
+        }
+        return Optional.ofNullable(conArchivadas(cuentaId, nanos, consulta));
+    }
+    
+    /**
+     * Completa una consulta anterior al primer punto conservado con las
+     * transacciones archivadas de la cuenta.
+     */
+    private Dinero conArchivadas(String cuentaId, long instante, Consulta consulta) {
+        long mejorInstante = consulta.instante;
+        long mejorSecuencia = consulta.secuencia;
+        Dinero mejor = consulta.saldo;
+        long leidas = 0;
+        while (leidas < consulta.archivadas) {
+            List<Transaccion> pagina = transacciones.buscarPorCuentaDesdeSecuencia(cuentaId, leidas,
+                (int) Math.min(PAGINA_ARCHIVADAS, consulta.archivadas - leidas));
+            if (pagina.isEmpty()) {
+                break;
+            }
+            for (Transaccion transaccion : pagina) {
+                long fecha = transaccion.getFechaNanos();
+                if (fecha <= instante && (mejor == null || fecha > mejorInstante
+                        || (fecha == mejorInstante && transaccion.getSecuencia() > mejorSecuencia))) {
+                    mejorInstante = fecha;
+                    mejorSecuencia = transaccion.getSecuencia();
+                    mejor = transaccion.getSaldoNuevo();
+                }
+            }
+            leidas = pagina.get(pagina.size() - 1).getSecuencia();
+        }
+        return mejor;
+    }
+    
+    @Override
+    public void guardado(Transaccion transaccion) {
+        registrar(transaccion);
+    }
+    
+    /**
+     * Descarta los puntos archivados de la cuenta salvo el último.
+     */
+    @Override
+    public void archivado(String cuentaId, long hastaSecuencia) {
+        if (transacciones == null) {
+            return;
+        }
+        Historial historial = historiales.get(cuentaId);
+        if (historial != null) {
+            historial.podar(hastaSecuencia);
+        }
+    }
+    
+    /**
+     * Las transacciones son inmutables y no se eliminan; no hay nada que revertir.
+     */
+    @Override
+    public void eliminado(Transaccion transaccion) {
+    }
+    
+    @Override
+    public void limpiado() {
+        limpiar();
+    }
+    
+    /**
+     * Limpia todos los historiales (útil para testing).
+     */
+    public void limpiar() {
+        historiales.clear();
+    }
+    
+    /**
+     * Mejor punto de los arreglos hasta un instante y, si el instante es
+     * anterior al primer punto conservado, cuántas secuencias hay archivadas.
+     */
+    private static final class Consulta {
+        final long instante;
+        final long secuencia;
+        final Dinero saldo;
+        final long archivadas;
+        
+        Consulta(long instante, long secuencia, Dinero saldo, long archivadas) {
+            this.instante = instante;
+            this.secuencia = secuencia;
+            this.saldo = saldo;
+            this.archivadas = archivadas;
+        }
+    }
+    
+    /**
+     * Saldos de una cuenta ordenados por instante y secuencia, protegidos por su monitor.
+     */
+    private static final class Historial {
+        private long[] instantes = new long[8];
+        private long[] secuencias = new long[8];
+        private Dinero[] saldos = new Dinero[8];
+        private int tamanio;
+        // Secuencias archivadas y primer instante que responden los arreglos
+        private long archivadas;
+        private long piso = Long.MIN_VALUE;
+        
+        synchronized void agregar(long instante, long secuencia, Dinero saldo) {
+            if (tamanio == instantes.length) {
+                instantes = Arrays.copyOf(instantes, tamanio * 2);
+                secuencias = Arrays.copyOf(secuencias, tamanio * 2);
+                saldos = Arrays.copyOf(saldos, tamanio * 2);
+            }
+            int posicion = tamanio;
+            if (tamanio > 0 && compara(instantes[tamanio - 1], secuencias[tamanio - 1], instante, secuencia) > 0) {
+                posicion = posterioresA(instante, secuencia);
+                System.arraycopy(instantes, posicion, instantes, posicion + 1, tamanio - posicion);
+                System.arraycopy(secuencias, posicion, secuencias, posicion + 1, tamanio - posicion);
+                System.arraycopy(saldos, posicion, saldos, posicion + 1, tamanio - posicion);
+            }
+            instantes[posicion] = instante;
+            secuencias[posicion] = secuencia;
+            saldos[posicion] = saldo;
+            tamanio++;
+        }
+        
+        synchronized Consulta consultar(long instante) {
+            int posicion = posterioresA(instante, Long.MAX_VALUE);
+            long pendientes = instante < piso ? archivadas : 0;
+            if (posicion == 0) {
+                return new Consulta(0, 0, null, pendientes);
+            }
+            return new Consulta(instantes[posicion - 1], secuencias[posicion - 1], saldos[posicion - 1], pendientes);
+        }
+        
+        /**
+         * Quita los puntos con secuencia hasta la dada, salvo el último en
+         * orden, que pasa a ser el piso de lo que responden los arreglos.
+         */
+        synchronized void podar(long hastaSecuencia) {
+            if (hastaSecuencia <= archivadas) {
+                return;
+            }
+            int ultimo = -1;
+            for (int i = 0; i < tamanio; i++) {
+                if (secuencias[i] <= hastaSecuencia) {
+                    ultimo = i;
+                }
+            }
+            // Sin puntos archivados en los arreglos, toda consulta debe mirar lo archivado
+            piso = ultimo >= 0 ? instantes[ultimo] : Long.MAX_VALUE;
+            int conservados = 0;
+            for (int i = 0; i < tamanio; i++) {
+                if (secuencias[i] > hastaSecuencia || i == ultimo) {
+                    instantes[conservados] = instantes[i];
+                    secuencias[conservados] = secuencias[i];
+                    saldos[conservados] = saldos[i];
+                    conservados++;
+                }
+            }
+            Arrays.fill(saldos, conservados, tamanio, null);
+            tamanio = conservados;
+            archivadas = hastaSecuencia;
+        }
+        
+        /**
+         * Primera posición con (instante, secuencia) estrictamente mayor a la dada.
+         */
+        private int posterioresA(long instante, long secuencia) {
+            int desde = 0;
+            int hasta = tamanio;
+            while (desde < hasta) {
+                int medio = (desde + hasta) >>> 1;
+                if (compara(instantes[medio], secuencias[medio], instante, secuencia) <= 0) {
+                    desde = medio + 1;
+                } else {
+                    hasta = medio;
+                }
+            }
+            return desde;
+        }
+        
+        private static int compara(long instanteA, long secuenciaA, long instanteB, long secuenciaB) {
+            int porInstante = Long.compare(instanteA, instanteB);
+            return porInstante != 0 ? porInstante : Long.compare(secuenciaA, secuenciaB);
+        }
+    }
+}
@@ -1,35 +1,219 @@
 package com.wallet.infrastructure.repositories;
 
+import com.wallet.domain.entities.Apunte;
+import com.wallet.domain.entities.Asiento;
 import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Transferencia;
 import com.wallet.domain.repositories.ITransaccionRepository;
 import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.infrastructure.historial.HistorialFrio;
 
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementación en memoria del repositorio de transacciones.
  * 
+ * Cada cuenta tiene un libro con sus transacciones propias en el orden en
+ * que se guardaron; la posición en el libro es la secuencia de la
+ * transacción. Asignar la secuencia y agregar al libro se hace bajo el
+ * monitor del libro, de modo que las secuencias de una cuenta son
+ * consecutivas aunque se guarde desde varios hilos. Los lectores del libro
+ * no toman el monitor: leen el tamaño publicado y luego las posiciones.
+ * 
+ * Las transferencias completas se guardan una sola vez, como
+ * {@link Transferencia}, y se anotan en el libro de ambas cuentas; sus
+ * tramos de envío y recepción se arman al leer. Para las consultas son
+ * indistinguibles de dos transacciones sueltas. Lo mismo vale para los
+ * {@link Asiento}s entre varias cuentas: un registro, anotado en el libro de
+ * cada cuenta, y un tramo por apunte.
+ * 
+ * Lo anterior a una antigüedad se puede archivar con
+ * {@link #archivarAnteriores(long)}: el prefijo de cada libro con fechas
+ * anteriores pasa a un {@link HistorialFrio} comprimido y sale de los mapas,
+ * y el libro recuerda cuántas secuencias archivó. Las consultas combinan
+ * ambos niveles. Archivar publica primero el historial frío y después quita
+ * lo caliente; una consulta que se cruza con un archivado lo detecta por la
+ * versión y descarta los repetidos. Volver a guardar sin secuencia una
+ * transacción ya archivada la registra como nueva: los reintentos
+ * idempotentes caen dentro de la ventana caliente.
+ * 
  * @author Olimpo Team
  * @version 1.0.0
  */
 public class TransaccionRepositoryInMemory implements ITransaccionRepository {
     
+    /**
+     * Orden del historial: más recientes primero. Las fechas de una misma
+     * cuenta pueden repetirse (el reloj por defecto tiene resolución de
+     * milisegundo, y hay fechas reconstruidas o relojes manuales); entonces
+     * decide la secuencia.
+     */
+    private static final Comparator<Transaccion> ORDEN_HISTORIAL = Comparator
+        .comparingLong(Transaccion::getFechaNanos)
+        .thenComparingLong(Transaccion::getSecuencia)
+        .reversed();
+    
     private final Map<String, Transaccion> transacciones;
+    private final Map<String, Transferencia> transferencias = new ConcurrentHashMap<>();
+    private final Map<String, Asiento> asientos = new ConcurrentHashMap<>();
+    private final Map<String, Libro> libros = new ConcurrentHashMap<>();
+    private final List<ObservadorRepositorio<Transaccion>> observadores = new CopyOnWriteArrayList<>();
+    private final HistorialFrio frio;
+    // Impar mientras un archivado mueve registros de un nivel al otro
+    private final AtomicLong versionArchivo = new AtomicLong();
     
     public TransaccionRepositoryInMemory() {
+        this(new HistorialFrio());
+    }
+    
+    /**
+     * @param frio historial donde se archivan las transacciones antiguas
+     */
+    public TransaccionRepositoryInMemory(HistorialFrio frio) {
+        if (frio == null) {
+            throw new IllegalArgumentException("El historial frío no puede ser nulo");
+        }
         this.transacciones = new ConcurrentHashMap<>();
+        this.frio = frio;
     }
     
+    /**
+     * Guarda la transacción asignándole la siguiente secuencia de su cuenta
+     * origen, y retorna la copia con la secuencia. Si ya tiene secuencia
+     * (una transacción replicada o guardada antes) se respeta. Si ya estaba
+     * guardada retorna la guardada sin cambiarla ni notificar de nuevo, igual
+     * que las transferencias y los asientos: los observadores la ven una vez.
+     * 
+     * @throws IllegalArgumentException si la secuencia dejaría un hueco o
+     *         ya pertenece a otra transacción
+     */
     @Override
     public Transaccion guardar(Transaccion transaccion) {
         if (transaccion == null) {
             throw new IllegalArgumentException("La transacción no puede ser nula");
         }
-        transacciones.put(transaccion.getId(), transaccion);
-        return transaccion;
+        Libro libro = libro(transaccion.getCuentaOrigenId());
+        Transaccion guardada;
+        synchronized (libro) {
+            Transaccion repetida = libro.repetida(transaccion, transacciones, frio);
+            if (repetida != null) {
+                return repetida;
+            }
+            guardada = libro.registrar(transaccion, transacciones);
+        }
+        notificar(guardada);
+        return guardada;
+    }
+    
+    /**
+     * Guarda la transferencia una sola vez y la anota en el libro de cada
+     * cuenta con su siguiente secuencia. Los dos libros se bloquean siempre
+     * en el mismo orden (por id de cuenta), así que dos transferencias
+     * cruzadas no se traban. Los observadores reciben ambos tramos.
+     * 
+     * @return la transferencia con sus secuencias; si ya estaba guardada, la guardada
+     * @throws IllegalArgumentException si una secuencia explícita dejaría un hueco
+     */
+    @Override
+    public Transferencia guardarTransferencia(Transferencia transferencia) {
+        if (transferencia == null) {
+            throw new IllegalArgumentException("La transferencia no puede ser nula");
+        }
+        Libro origen = libro(transferencia.getCuentaOrigenId());
+        Libro destino = libro(transferencia.getCuentaDestinoId());
+        boolean origenPrimero = transferencia.getCuentaOrigenId().compareTo(transferencia.getCuentaDestinoId()) < 0;
+        Transferencia guardada;
+        synchronized (origenPrimero ? origen : destino) {
+            synchronized (origenPrimero ? destino : origen) {
+                Transferencia existente = transferencias.get(transferencia.getId());
+                if (existente != null) {
+                    return existente;
+                }
+                guardada = transferencia.conSecuencias(
+                    origen.siguiente(transferencia.getSecuenciaOrigen()),
+                    destino.siguiente(transferencia.getSecuenciaDestino()));
+                origen.agregar(guardada);
+                destino.agregar(guardada);
+                transferencias.put(guardada.getId(), guardada);
+            }
+        }
+        notificar(guardada.enviada());
+        notificar(guardada.recibida());
+        return guardada;
+    }
+    
+    /**
+     * Guarda el asiento una sola vez y anota cada apunte en el libro de su
+     * cuenta. Toma los monitores de todos los libros, siempre ordenados por
+     * id de cuenta, antes de asignar la primera secuencia: o se anotan todos
+     * los apuntes o ninguno, y dos asientos con cuentas en común no se traban.
+     * 
+     * @return el asiento con sus secuencias; si ya estaba guardado, el guardado
+     * @throws IllegalArgumentException si una secuencia explícita dejaría un hueco
+     */
+    @Override
+    public Asiento guardarAsiento(Asiento asiento) {
+        if (asiento == null) {
+            throw new IllegalArgumentException("El asiento no puede ser nulo");
+        }
+        Asiento existente = asientos.get(asiento.getId());
+        if (existente != null) {
+            return existente;
+        }
+        List<Apunte> apuntes = asiento.getApuntes();
+        Libro[] propios = new Libro[apuntes.size()];
+        for (int i = 0; i < propios.length; i++) {
+            propios[i] = libro(apuntes.get(i).getCuentaId());
+        }
+        Libro[] ordenados = propios.clone();
+        Arrays.sort(ordenados, Comparator.comparing((Libro libro) -> libro.cuentaId));
+        Asiento guardado = registrarBloqueando(asiento, propios, ordenados, 0);
+        if (guardado == null) {
+            // Otro hilo guardó el mismo asiento mientras se tomaban los monitores
+            return asientos.get(asiento.getId());
+        }
+        for (Transaccion tramo : guardado.tramos()) {
+            notificar(tramo);
+        }
+        return guardado;
+    }
+    
+    /**
+     * Toma los monitores en el orden dado y registra el asiento.
+     * 
+     * @return el asiento guardado, o null si ya estaba guardado
+     */
+    private Asiento registrarBloqueando(Asiento asiento, Libro[] propios, Libro[] ordenados, int siguiente) {
+        if (siguiente < ordenados.length) {
+            synchronized (ordenados[siguiente]) {
+                return registrarBloqueando(asiento, propios, ordenados, siguiente + 1);
+            }
+        }
+        if (asientos.containsKey(asiento.getId())) {
+            return null;
+        }
+        long[] secuencias = new long[propios.length];
+        for (int i = 0; i < propios.length; i++) {
+            secuencias[i] = propios[i].siguiente(asiento.getApuntes().get(i).getSecuencia());
+        }
+        Asiento guardado = asiento.conSecuencias(secuencias);
+        for (Libro libro : propios) {
+            libro.agregar(guardado);
+        }
+        asientos.put(guardado.getId(), guardado);
+        return guardado;
+    }
+    
+    @Override
+    public Optional<Asiento> buscarAsiento(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(asientos.get(id));
     }
     
     @Override
@@ -37,7 +221,23 @@ public class TransaccionRepositoryInMemory implements ITransaccionRepository {
         if (id == null || id.trim().isEmpty()) {
             return Optional.empty();
         }
-        return Optional.ofNullable(transacciones.get(id));
+        Transaccion transaccion = transacciones.get(id);
+        if (transaccion != null) {
+            return Optional.of(transaccion);
+        }
+        String idTransferencia = Transferencia.idDeTramo(id);
+        Transferencia transferencia = idTransferencia != null ? transferencias.get(idTransferencia) : null;
+        if (transferencia != null) {
+            return Optional.of(id.endsWith(Transferencia.SUFIJO_ENVIADA)
+                ? transferencia.enviada()
+                : transferencia.recibida());
+        }
+        Map.Entry<String, Integer> tramoAsiento = Asiento.idDeTramo(id);
+        Asiento asiento = tramoAsiento != null ? asientos.get(tramoAsiento.getKey()) : null;
+        if (asiento != null && tramoAsiento.getValue() < asiento.getApuntes().size()) {
+            return Optional.of(asiento.tramo(tramoAsiento.getValue()));
+        }
+        return frio.buscarPorId(id);
     }
     
     @Override
@@ -45,10 +245,8 @@ public class TransaccionRepositoryInMemory implements ITransaccionRepository {
         if (cuentaId == null || cuentaId.trim().isEmpty()) {
             return Collections.emptyList();
         }
-        return transacciones.values().stream()
-            .filter(t -> t.getCuentaOrigenId().equals(cuentaId) || 
-                        (t.getCuentaDestinoId() != null && t.getCuentaDestinoId().equals(cuentaId)))
-            .sorted(Comparator.comparing(Transaccion::getFecha).reversed())
+        return historial(cuentaId)
+            .sorted(ORDEN_HISTORIAL)
             .collect(Collectors.toList());
     }
     
@@ -57,11 +255,9 @@ public class TransaccionRepositoryInMemory implements ITransaccionRepository {
         if (cuentaId == null || cuentaId.trim().isEmpty() || tipo == null) {
             return Collections.emptyList();
         }
-        return transacciones.values().stream()
-            .filter(t -> (t.getCuentaOrigenId().equals(cuentaId) || 
-                         (t.getCuentaDestinoId() != null && t.getCuentaDestinoId().equals(cuentaId)))
-                         && t.getTipo() == tipo)
-            .sorted(Comparator.comparing(Transaccion::getFecha).reversed())
+        return historial(cuentaId)
+            .filter(t -> t.getTipo() == tipo)
+            .sorted(ORDEN_HISTORIAL)
             .collect(Collectors.toList());
     }
     
@@ -73,22 +269,58 @@ public class TransaccionRepositoryInMemory implements ITransaccionRepository {
             fechaInicio == null || fechaFin == null) {
             return Collections.emptyList();
         }
-        return transacciones.values().stream()
-            .filter(t -> (t.getCuentaOrigenId().equals(cuentaId) || 
-                         (t.getCuentaDestinoId() != null && t.getCuentaDestinoId().equals(cuentaId)))
-                         && !t.getFecha().isBefore(fechaInicio)
-                         && !t.getFecha().isAfter(fechaFin))
-            .sorted(Comparator.comparing(Transaccion::getFecha).reversed())
+        long desde = Tiempo.aNanos(fechaInicio);
+        long hasta = Tiempo.aNanos(fechaFin);
+        return historial(cuentaId)
+            .filter(t -> t.getFechaNanos() >= desde && t.getFechaNanos() <= hasta)
+            .sorted(ORDEN_HISTORIAL)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<Transaccion> obtenerTodas() {
-        return transacciones.values().stream()
-            .sorted(Comparator.comparing(Transaccion::getFecha).reversed())
+        return recorrerTodas()
+            .sorted(ORDEN_HISTORIAL)
             .collect(Collectors.toList());
     }
     
+    /**
+     * Recorre el nivel caliente y después el frío. Los tramos ya archivados
+     * de una transferencia o asiento que sigue caliente en otra cuenta se
+     * toman del frío. Los segmentos fríos se toman al llegar a ellos.
+     */
+    @Override
+    public Stream<Transaccion> recorrerTodas() {
+        return Stream.of(transacciones.values().stream(),
+                         transferencias.values().stream().flatMap(TransaccionRepositoryInMemory::tramos)
+                             .filter(tramo -> !archivado(tramo)),
+                         asientos.values().stream().flatMap(asiento -> asiento.tramos().stream())
+                             .filter(tramo -> !archivado(tramo)),
+                         Stream.of(frio).flatMap(HistorialFrio::recorrerPropias))
+            .flatMap(registros -> registros);
+    }
+    
+    @Override
+    public long ultimaSecuencia(String cuentaId) {
+        if (cuentaId == null) {
+            return 0;
+        }
+        Libro libro = libros.get(cuentaId);
+        return libro != null ? libro.tamanio : 0;
+    }
+    
+    @Override
+    public List<Transaccion> buscarPorCuentaDesdeSecuencia(String cuentaId, long despuesDe, int limite) {
+        if (despuesDe < 0) {
+            throw new IllegalArgumentException("La secuencia no puede ser negativa");
+        }
+        if (cuentaId == null || limite <= 0) {
+            return Collections.emptyList();
+        }
+        Libro libro = libros.get(cuentaId);
+        return libro != null ? libro.desde(despuesDe, limite, frio) : Collections.emptyList();
+    }
+    
     /**
      * Obtiene las últimas N transacciones de una cuenta.
      */
@@ -102,17 +334,378 @@ public class TransaccionRepositoryInMemory implements ITransaccionRepository {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Archiva las transacciones con fecha anterior al límite. De cada libro
+     * se archiva el prefijo con fechas anteriores: una transacción reciente
+     * deja caliente todo lo que la sigue. Una transferencia o asiento sale
+     * de los mapas cuando lo archivaron todas sus cuentas. Al terminar se
+     * avisa a los observadores hasta qué secuencia se archivó cada cuenta.
+     * 
+     * @param limiteNanos instante en nanosegundos desde la época (ver Tiempo)
+     * @return cantidad de tramos propios archivados
+     */
+    public synchronized int archivarAnteriores(long limiteNanos) {
+        Map<Libro, Object[]> prefijos = new HashMap<>();
+        Map<String, List<Transaccion>> propias = new HashMap<>();
+        Map<String, List<Transaccion>> reflejos = new HashMap<>();
+        int archivados = 0;
+        for (Libro libro : libros.values()) {
+            Object[] prefijo = libro.anterioresA(limiteNanos);
+            if (prefijo.length == 0) {
+                continue;
+            }
+            prefijos.put(libro, prefijo);
+            List<Transaccion> suyas = new ArrayList<>(prefijo.length);
+            for (Object registro : prefijo) {
+                suyas.add(Libro.tramo(registro, libro.cuentaId));
+                // El historial de la cuenta también muestra el otro tramo, y el
+                // del destino de una suelta, la suelta
+                if (registro instanceof Transferencia) {
+                    Transferencia transferencia = (Transferencia) registro;
+                    reflejos.computeIfAbsent(libro.cuentaId, id -> new ArrayList<>())
+                        .add(transferencia.getCuentaOrigenId().equals(libro.cuentaId)
+                            ? transferencia.recibida()
+                            : transferencia.enviada());
+                } else if (registro instanceof Transaccion && ((Transaccion) registro).getCuentaDestinoId() != null) {
+                    reflejos.computeIfAbsent(((Transaccion) registro).getCuentaDestinoId(), id -> new ArrayList<>())
+                        .add((Transaccion) registro);
+                }
+            }
+            propias.put(libro.cuentaId, suyas);
+            archivados += prefijo.length;
+        }
+        if (prefijos.isEmpty()) {
+            return 0;
+        }
+        
+        versionArchivo.incrementAndGet();
+        try {
+            frio.archivar(propias, reflejos);
+            for (Map.Entry<Libro, Object[]> prefijo : prefijos.entrySet()) {
+                prefijo.getKey().descartar(prefijo.getValue().length);
+            }
+            for (Object[] prefijo : prefijos.values()) {
+                for (Object registro : prefijo) {
+                    quitarArchivado(registro);
+                }
+            }
+        } finally {
+            versionArchivo.incrementAndGet();
+        }
+        for (Libro libro : prefijos.keySet()) {
+            for (ObservadorRepositorio<Transaccion> observador : observadores) {
+                observador.archivado(libro.cuentaId, libro.getArchivadas());
+            }
+        }
+        return archivados;
+    }
+    
+    /**
+     * Historial donde se archivan las transacciones antiguas.
+     */
+    public HistorialFrio getHistorialFrio() {
+        return frio;
+    }
+    
     /**
      * Limpia todas las transacciones (útil para testing).
      */
-    public void limpiar() {
+    public synchronized void limpiar() {
         transacciones.clear();
+        transferencias.clear();
+        asientos.clear();
+        libros.clear();
+        frio.limpiar();
+        for (ObservadorRepositorio<Transaccion> observador : observadores) {
+            observador.limpiado();
+        }
     }
     
     /**
-     * Retorna el número de transacciones almacenadas.
+     * Registra un observador que se notifica después de cada cambio.
+     */
+    public void agregarObservador(ObservadorRepositorio<Transaccion> observador) {
+        if (observador == null) {
+            throw new IllegalArgumentException("El observador no puede ser nulo");
+        }
+        observadores.add(observador);
+    }
+    
+    /**
+     * Retorna el número de transacciones almacenadas en ambos niveles,
+     * contando los dos tramos de cada transferencia y un tramo por apunte de
+     * cada asiento.
      */
     public int contar() {
-        return transacciones.size();
+        long calientes = transacciones.size();
+        for (Transferencia transferencia : transferencias.values()) {
+            calientes += (archivado(transferencia.enviada()) ? 0 : 1)
+                       + (archivado(transferencia.recibida()) ? 0 : 1);
+        }
+        for (Asiento asiento : asientos.values()) {
+            for (Transaccion tramo : asiento.tramos()) {
+                calientes += archivado(tramo) ? 0 : 1;
+            }
+        }
+        return Math.toIntExact(calientes + frio.contarPropias());
+    }
+    
+    /**
+     * Historial completo de la cuenta, caliente y frío, sin ordenar. Si un
+     * archivado corrió mientras se leía, lo que pasó de un nivel al otro
+     * pudo leerse en ambos y se descarta del frío.
+     */
+    private Stream<Transaccion> historial(String cuentaId) {
+        long version = versionArchivo.get();
+        List<Transaccion> calientes = deCuenta(cuentaId).collect(Collectors.toList());
+        List<Transaccion> frias = frio.deCuenta(cuentaId);
+        if (frias.isEmpty()) {
+            return calientes.stream();
+        }
+        if ((version & 1) == 0 && versionArchivo.get() == version) {
+            return Stream.concat(calientes.stream(), frias.stream());
+        }
+        Set<String> ids = new HashSet<>();
+        for (Transaccion transaccion : calientes) {
+            ids.add(transaccion.getId());
+        }
+        return Stream.concat(calientes.stream(), frias.stream().filter(t -> !ids.contains(t.getId())));
+    }
+    
+    /**
+     * Transacciones calientes donde la cuenta es origen o destino, sin
+     * ordenar. Una transferencia o asiento que la cuenta ya archivó se lee
+     * del frío, aunque siga caliente para la otra cuenta.
+     */
+    private Stream<Transaccion> deCuenta(String cuentaId) {
+        Libro libro = libros.get(cuentaId);
+        long archivadas = libro != null ? libro.getArchivadas() : 0;
+        Stream<Transaccion> sueltas = transacciones.values().stream()
+            .filter(t -> t.getCuentaOrigenId().equals(cuentaId) || 
+                        (t.getCuentaDestinoId() != null && t.getCuentaDestinoId().equals(cuentaId)));
+        Stream<Transaccion> deTransferencias = transferencias.values().stream()
+            .filter(t -> t.involucra(cuentaId) && t.tramoDe(cuentaId).getSecuencia() > archivadas)
+            .flatMap(TransaccionRepositoryInMemory::tramos);
+        Stream<Transaccion> deAsientos = asientos.values().stream()
+            .filter(a -> a.involucra(cuentaId))
+            .map(a -> a.tramoDe(cuentaId))
+            .filter(t -> t.getSecuencia() > archivadas);
+        return Stream.of(sueltas, deTransferencias, deAsientos).flatMap(registros -> registros);
+    }
+    
+    /**
+     * Indica si el tramo ya está archivado en el historial frío de su cuenta.
+     */
+    private boolean archivado(Transaccion tramo) {
+        Libro libro = libros.get(tramo.getCuentaOrigenId());
+        return libro != null && tramo.getSecuencia() > 0 && tramo.getSecuencia() <= libro.getArchivadas();
+    }
+    
+    /**
+     * Quita de los mapas un registro recién archivado. Las transferencias y
+     * asientos esperan a que los archiven todas sus cuentas.
+     */
+    private void quitarArchivado(Object registro) {
+        if (registro instanceof Transferencia) {
+            Transferencia transferencia = (Transferencia) registro;
+            if (archivado(transferencia.enviada()) && archivado(transferencia.recibida())) {
+                transferencias.remove(transferencia.getId());
+            }
+        } else if (registro instanceof Asiento) {
+            Asiento asiento = (Asiento) registro;
+            if (asiento.tramos().stream().allMatch(this::archivado)) {
+                asientos.remove(asiento.getId());
+            }
+        } else {
+            transacciones.remove(((Transaccion) registro).getId());
+        }
+    }
+    
+    private static Stream<Transaccion> tramos(Transferencia transferencia) {
+        return Stream.of(transferencia.enviada(), transferencia.recibida());
+    }
+    
+    private Libro libro(String cuentaId) {
+        return libros.computeIfAbsent(cuentaId, Libro::new);
+    }
+    
+    private void notificar(Transaccion transaccion) {
+        for (ObservadorRepositorio<Transaccion> observador : observadores) {
+            observador.guardado(transaccion);
+        }
+    }
+    
+    /**
+     * Transacciones propias de una cuenta, por secuencia: cada posición es
+     * una {@link Transaccion}, una {@link Transferencia} de la que la cuenta
+     * es origen o destino, o un {@link Asiento} con un apunte de la cuenta. Las escrituras toman el monitor; el tamaño
+     * volátil publica cada posición escrita. Las primeras secuencias pueden
+     * estar archivadas: la página caliente empieza después de ellas.
+     */
+    private static final class Libro {
+        private final String cuentaId;
+        private volatile Pagina pagina = new Pagina(new Object[8], 0);
+        private volatile int tamanio;
+        
+        Libro(String cuentaId) {
+            this.cuentaId = cuentaId;
+        }
+        
+        /**
+         * La transacción ya guardada en este libro con el mismo id, o null si
+         * es nueva. Requiere el monitor.
+         * 
+         * @throws IllegalArgumentException si su secuencia explícita no
+         *         continúa el libro ni es la de la guardada
+         */
+        Transaccion repetida(Transaccion transaccion, Map<String, Transaccion> transacciones, HistorialFrio frio) {
+            long secuencia = transaccion.getSecuencia();
+            if (secuencia == 0) {
+                Transaccion existente = transacciones.get(transaccion.getId());
+                return existente != null && existente.getCuentaOrigenId().equals(cuentaId) ? existente : null;
+            }
+            if (secuencia == tamanio + 1L) {
+                return null;
+            }
+            Pagina actual = pagina;
+            Transaccion existente;
+            if (secuencia <= actual.base) {
+                List<Transaccion> archivada = frio.propias(cuentaId, secuencia - 1, 1);
+                existente = archivada.isEmpty() ? null : archivada.get(0);
+            } else {
+                existente = secuencia <= tamanio ? tramo(actual.registros[posicion(actual, secuencia)], cuentaId) : null;
+            }
+            if (existente == null || !existente.getId().equals(transaccion.getId())) {
+                throw secuenciaInvalida(secuencia);
+            }
+            return existente;
+        }
+        
+        /**
+         * Agrega una transacción nueva con la secuencia siguiente. Requiere el monitor.
+         */
+        Transaccion registrar(Transaccion transaccion, Map<String, Transaccion> transacciones) {
+            if (transaccion.getSecuencia() == 0) {
+                transaccion = transaccion.conSecuencia(tamanio + 1L);
+            }
+            transacciones.put(transaccion.getId(), transaccion);
+            agregar(transaccion);
+            return transaccion;
+        }
+        
+        /**
+         * Secuencia para un registro nuevo: la pedida si continúa el libro,
+         * o la siguiente si no se pidió ninguna. Requiere el monitor.
+         */
+        long siguiente(long pedida) {
+            if (pedida != 0 && pedida != tamanio + 1L) {
+                throw secuenciaInvalida(pedida);
+            }
+            return tamanio + 1L;
+        }
+        
+        /**
+         * Agrega un registro al final. Requiere el monitor.
+         */
+        void agregar(Object registro) {
+            Pagina actual = pagina;
+            int posicion = tamanio - actual.base;
+            if (posicion == actual.registros.length) {
+                actual = new Pagina(Arrays.copyOf(actual.registros, posicion * 2), actual.base);
+                pagina = actual;
+            }
+            actual.registros[posicion] = registro;
+            tamanio = tamanio + 1;
+        }
+        
+        /**
+         * Registros calientes del comienzo del libro con fecha anterior al límite.
+         */
+        synchronized Object[] anterioresA(long limiteNanos) {
+            Pagina actual = pagina;
+            int calientes = tamanio - actual.base;
+            int cantidad = 0;
+            while (cantidad < calientes && fecha(actual.registros[cantidad]) < limiteNanos) {
+                cantidad++;
+            }
+            return Arrays.copyOf(actual.registros, cantidad);
+        }
+        
+        /**
+         * Quita de la página los primeros registros, ya publicados en el
+         * historial frío. Los lectores que tomaron la página anterior la
+         * siguen leyendo entera.
+         */
+        synchronized void descartar(int cantidad) {
+            Pagina actual = pagina;
+            int restantes = tamanio - actual.base - cantidad;
+            Object[] registros = new Object[Math.max(8, restantes * 2)];
+            System.arraycopy(actual.registros, cantidad, registros, 0, restantes);
+            pagina = new Pagina(registros, actual.base + cantidad);
+        }
+        
+        long getArchivadas() {
+            return pagina.base;
+        }
+        
+        List<Transaccion> desde(long despuesDe, int limite, HistorialFrio frio) {
+            // El tamaño antes que la página: la página leída contiene todo lo publicado hasta él
+            int hasta = tamanio;
+            Pagina vista = pagina;
+            if (despuesDe >= hasta) {
+                return Collections.emptyList();
+            }
+            long fin = Math.min(hasta, despuesDe + (long) limite);
+            List<Transaccion> resultado = new ArrayList<>((int) (fin - despuesDe));
+            if (despuesDe < vista.base) {
+                resultado.addAll(frio.propias(cuentaId, despuesDe, (int) (Math.min(fin, vista.base) - despuesDe)));
+            }
+            for (long i = Math.max(despuesDe, vista.base); i < fin; i++) {
+                resultado.add(tramo(vista.registros[(int) (i - vista.base)], cuentaId));
+            }
+            return resultado;
+        }
+        
+        static Transaccion tramo(Object registro, String cuentaId) {
+            if (registro instanceof Transferencia) {
+                return ((Transferencia) registro).tramoDe(cuentaId);
+            }
+            if (registro instanceof Asiento) {
+                return ((Asiento) registro).tramoDe(cuentaId);
+            }
+            return (Transaccion) registro;
+        }
+        
+        private static long fecha(Object registro) {
+            if (registro instanceof Transferencia) {
+                return ((Transferencia) registro).getFechaNanos();
+            }
+            if (registro instanceof Asiento) {
+                return ((Asiento) registro).getFechaNanos();
+            }
+            return ((Transaccion) registro).getFechaNanos();
+        }
+        
+        private static int posicion(Pagina pagina, long secuencia) {
+            return (int) (secuencia - 1 - pagina.base);
+        }
+        
+        private IllegalArgumentException secuenciaInvalida(long secuencia) {
+            return new IllegalArgumentException(String.format(
+                "Secuencia %d inválida para la cuenta %s: la última es %d", secuencia, cuentaId, tamanio));
+        }
+    }
+    
+    /**
+     * Registros calientes de un libro: la posición i es la secuencia base + i + 1.
+     */
+    private static final class Pagina {
+        final Object[] registros;
+        final int base;
+        
+        Pagina(Object[] registros, int base) {
+            this.registros = registros;
+            this.base = base;
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.TransferenciaProgramada;
+import com.wallet.domain.repositories.ITransferenciaProgramadaRepository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación en memoria del repositorio de transferencias programadas.
+ * Utiliza ConcurrentHashMap para ser thread-safe.
+ * 
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class TransferenciaProgramadaRepositoryInMemory implements ITransferenciaProgramadaRepository {
+    
+    private static final Comparator<TransferenciaProgramada> POR_PROXIMA_EJECUCION =
+        Comparator.comparingLong(TransferenciaProgramada::getProximaEjecucionNanos);
+    
+    private final Map<String, TransferenciaProgramada> programadas = new ConcurrentHashMap<>();
+    
+    @Override
+    public TransferenciaProgramada guardar(TransferenciaProgramada programada) {
+        if (programada == null) {
+            throw new IllegalArgumentException("La transferencia programada no puede ser nula");
+        }
+        programadas.put(programada.getId(), programada);
+        return programada;
+    }
+    
+    @Override
+    public Optional<TransferenciaProgramada> buscarPorId(String id) {
+        if (id == null || id.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(programadas.get(id));
+    }
+    
+    @Override
+    public List<TransferenciaProgramada> buscarPorCuentaOrigen(String cuentaOrigenId) {
+        return programadas.values().stream()
+            .filter(p -> p.getCuentaOrigenId().equals(cuentaOrigenId))
+            .sorted(POR_PROXIMA_EJECUCION)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<TransferenciaProgramada> obtenerActivas() {
+        return programadas.values().stream()
+            .filter(TransferenciaProgramada::isActiva)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Limpia todas las programaciones (útil para testing).
+     */
+    public void limpiar() {
+        programadas.clear();
+    }
+}
@@ -7,6 +7,7 @@ import com.wallet.domain.valueobjects.Email;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +20,7 @@ import java.util.stream.Collectors;
 public class UsuarioRepositoryInMemory implements IUsuarioRepository {
     
     private final Map<String, Usuario> usuarios;
+    private final List<ObservadorRepositorio<Usuario>> observadores = new CopyOnWriteArrayList<>();
     
     public UsuarioRepositoryInMemory() {
         this.usuarios = new ConcurrentHashMap<>();
@@ -30,6 +32,9 @@ public class UsuarioRepositoryInMemory implements IUsuarioRepository {
             throw new IllegalArgumentException("El usuario no puede ser nulo");
         }
         usuarios.put(usuario.getId(), usuario);
+        for (ObservadorRepositorio<Usuario> observador : observadores) {
+            observador.guardado(usuario);
+        }
         return usuario;
     }
     
@@ -78,7 +83,14 @@ public class UsuarioRepositoryInMemory implements IUsuarioRepository {
         if (id == null || id.trim().isEmpty()) {
             return false;
         }
-        return usuarios.remove(id) != null;
+        Usuario eliminado = usuarios.remove(id);
+        if (eliminado == null) {
+            return false;
+        }
+        for (ObservadorRepositorio<Usuario> observador : observadores) {
+            observador.eliminado(eliminado);
+        }
+        return true;
     }
     
     @Override
@@ -104,6 +116,19 @@ public class UsuarioRepositoryInMemory implements IUsuarioRepository {
      */
     public void limpiar() {
         usuarios.clear();
+        for (ObservadorRepositorio<Usuario> observador : observadores) {
+            observador.limpiado();
+        }
+    }
+    
+    /**
+     * Registra un observador que se notifica después de cada cambio.
+     */
+    public void agregarObservador(ObservadorRepositorio<Usuario> observador) {
+        if (observador == null) {
+            throw new IllegalArgumentException("El observador no puede ser nulo");
+        }
+        observadores.add(observador);
     }
     
     /**
@@ -1,6 +1,7 @@
 package com.wallet.infrastructure.services;
 
 import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.SaldoHistoricoDTO;
 import com.wallet.application.dtos.TransaccionDTO;
 import com.wallet.application.dtos.requests.DepositarDineroRequest;
 import com.wallet.application.dtos.requests.RetirarDineroRequest;
@@ -9,10 +10,16 @@ import com.wallet.application.usecases.*;
 import com.wallet.domain.entities.Cuenta;
 import com.wallet.domain.entities.Usuario;
 import com.wallet.domain.exceptions.UsuarioNoEncontradoException;
+import com.wallet.infrastructure.cache.CacheIdempotencia;
+import com.wallet.infrastructure.cache.CacheLectura;
+import com.wallet.infrastructure.ejecucion.EjecutorDirecto;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.factories.CacheFactory;
 import com.wallet.infrastructure.factories.RepositoryFactory;
 import com.wallet.infrastructure.logging.Logger;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -22,34 +29,62 @@ import java.util.stream.Collectors;
  * 
  * Orquesta los casos de uso relacionados con cuentas.
  * Gestiona operaciones de creación, depósito, retiro y consulta de saldo.
+ * Las consultas por número de cuenta se resuelven a través de la caché de
+ * lectura de {@link CacheFactory}.
  */
 public class CuentaService {
     
     private final CrearCuentaUseCase crearCuentaUseCase;
-    private final DepositarDineroUseCase depositarDineroUseCase;
-    private final RetirarDineroUseCase retirarDineroUseCase;
     private final ConsultarSaldoUseCase consultarSaldoUseCase;
+    private final ConsultarSaldoHistoricoUseCase consultarSaldoHistoricoUseCase;
+    private final EjecutorOperaciones ejecutor;
+    private final CacheIdempotencia<TransaccionDTO> idempotencia;
+    private final CacheLectura<Cuenta, CuentaDTO> cache;
     
     public CuentaService() {
+        this(new EjecutorDirecto(RepositoryFactory.getCuentaRepository(),
+                                 RepositoryFactory.getTransaccionRepository()));
+    }
+    
+    /**
+     * @param ejecutor estrategia con la que se aplican depósitos y retiros
+     */
+    public CuentaService(EjecutorOperaciones ejecutor) {
+        this(ejecutor, new CacheIdempotencia<>());
+    }
+    
+    /**
+     * @param ejecutor estrategia con la que se aplican depósitos y retiros
+     * @param idempotencia resultados recordados por clave de idempotencia
+     */
+    public CuentaService(EjecutorOperaciones ejecutor, CacheIdempotencia<TransaccionDTO> idempotencia) {
+        if (ejecutor == null) {
+            throw new IllegalArgumentException("El ejecutor de operaciones no puede ser nulo");
+        }
+        if (idempotencia == null) {
+            throw new IllegalArgumentException("La caché de idempotencia no puede ser nula");
+        }
         var usuarioRepo = RepositoryFactory.getUsuarioRepository();
         var cuentaRepo = RepositoryFactory.getCuentaRepository();
-        var transaccionRepo = RepositoryFactory.getTransaccionRepository();
         
         this.crearCuentaUseCase = new CrearCuentaUseCase(cuentaRepo, usuarioRepo);
-        this.depositarDineroUseCase = new DepositarDineroUseCase(cuentaRepo, transaccionRepo);
-        this.retirarDineroUseCase = new RetirarDineroUseCase(cuentaRepo, transaccionRepo);
         this.consultarSaldoUseCase = new ConsultarSaldoUseCase(cuentaRepo);
+        this.consultarSaldoHistoricoUseCase = new ConsultarSaldoHistoricoUseCase(
+            cuentaRepo, RepositoryFactory.getSaldoHistoricoRepository());
+        this.ejecutor = ejecutor;
+        this.idempotencia = idempotencia;
+        this.cache = CacheFactory.getCacheCuentas();
     }
     
     /**
      * Crea una nueva cuenta para un usuario.
      */
     public CuentaDTO crearCuenta(String usuarioId) {
-        Logger.info("Creando cuenta para usuario: " + usuarioId);
+        Logger.info("Creando cuenta para usuario: {}", usuarioId);
         
         try {
             CuentaDTO cuenta = crearCuentaUseCase.ejecutar(usuarioId);
-            Logger.info("Cuenta creada exitosamente: " + cuenta.getNumeroCuenta());
+            Logger.info("Cuenta creada exitosamente: {}", cuenta.getNumeroCuenta());
             return cuenta;
         } catch (Exception e) {
             Logger.error("Error al crear cuenta", e);
@@ -61,7 +96,7 @@ public class CuentaService {
      * Crea una nueva cuenta buscando usuario por email.
      */
     public CuentaDTO crearCuentaPorEmail(String email) {
-        Logger.info("Creando cuenta para usuario con email: " + email);
+        Logger.info("Creando cuenta para usuario con email: {}", email);
         
         try {
             // Buscar usuario por email
@@ -74,7 +109,7 @@ public class CuentaService {
             
             Usuario usuario = usuarioOpt.get();
             CuentaDTO cuenta = crearCuentaUseCase.ejecutar(usuario.getId());
-            Logger.info("Cuenta creada exitosamente: " + cuenta.getNumeroCuenta());
+            Logger.info("Cuenta creada exitosamente: {}", cuenta.getNumeroCuenta());
             return cuenta;
         } catch (Exception e) {
             Logger.error("Error al crear cuenta", e);
@@ -84,12 +119,18 @@ public class CuentaService {
     
     /**
      * Deposita dinero en una cuenta.
+     * Si el request trae clave de idempotencia, un reintento devuelve el depósito original;
+     * si la clave se reutiliza con otro monto o descripción se rechaza.
      */
     public TransaccionDTO depositar(DepositarDineroRequest request) {
-        Logger.info("Depositando $" + request.getMonto() + " en cuenta: " + request.getCuentaId());
+        Logger.info("Depositando ${} en cuenta: {}", request.getMonto(), request.getCuentaId());
         
         try {
-            TransaccionDTO transaccion = depositarDineroUseCase.ejecutar(request);
+            String clave = CacheIdempotencia.clave("DEPOSITO", request.getCuentaId(),
+                                                   request.getClaveIdempotencia());
+            long huella = CacheIdempotencia.huella(request.getMonto(), request.getDescripcion());
+            TransaccionDTO transaccion = idempotencia.ejecutar(clave, huella,
+                () -> EjecutorOperaciones.esperar(ejecutor.depositar(request)));
             Logger.info("Deposito exitoso. Saldo actualizado.");
             return transaccion;
         } catch (Exception e) {
@@ -102,7 +143,7 @@ public class CuentaService {
      * Deposita dinero en una cuenta usando el número de cuenta.
      */
     public TransaccionDTO depositarPorNumero(String numeroCuenta, BigDecimal monto, String descripcion) {
-        Logger.info("Depositando $" + monto + " en cuenta: " + numeroCuenta);
+        Logger.info("Depositando ${} en cuenta: {}", monto, numeroCuenta);
         
         try {
             // Buscar cuenta por número para obtener el ID
@@ -120,7 +161,7 @@ public class CuentaService {
                 cuenta.getId(), monto, descripcion
             );
             
-            TransaccionDTO transaccion = depositarDineroUseCase.ejecutar(request);
+            TransaccionDTO transaccion = EjecutorOperaciones.esperar(ejecutor.depositar(request));
             Logger.info("Deposito exitoso. Saldo actualizado.");
             return transaccion;
         } catch (Exception e) {
@@ -131,12 +172,18 @@ public class CuentaService {
     
     /**
      * Retira dinero de una cuenta.
+     * Si el request trae clave de idempotencia, un reintento devuelve el retiro original;
+     * si la clave se reutiliza con otro monto o descripción se rechaza.
      */
     public TransaccionDTO retirar(RetirarDineroRequest request) {
-        Logger.info("Retirando $" + request.getMonto() + " de cuenta: " + request.getCuentaId());
+        Logger.info("Retirando ${} de cuenta: {}", request.getMonto(), request.getCuentaId());
         
         try {
-            TransaccionDTO transaccion = retirarDineroUseCase.ejecutar(request);
+            String clave = CacheIdempotencia.clave("RETIRO", request.getCuentaId(),
+                                                   request.getClaveIdempotencia());
+            long huella = CacheIdempotencia.huella(request.getMonto(), request.getDescripcion());
+            TransaccionDTO transaccion = idempotencia.ejecutar(clave, huella,
+                () -> EjecutorOperaciones.esperar(ejecutor.retirar(request)));
             Logger.info("Retiro exitoso. Saldo actualizado.");
             return transaccion;
         } catch (Exception e) {
@@ -149,7 +196,7 @@ public class CuentaService {
      * Retira dinero de una cuenta usando el número de cuenta.
      */
     public TransaccionDTO retirarPorNumero(String numeroCuenta, BigDecimal monto, String descripcion) {
-        Logger.info("Retirando $" + monto + " de cuenta: " + numeroCuenta);
+        Logger.info("Retirando ${} de cuenta: {}", monto, numeroCuenta);
         
         try {
             // Buscar cuenta por número para obtener el ID
@@ -167,7 +214,7 @@ public class CuentaService {
                 cuenta.getId(), monto, descripcion
             );
             
-            TransaccionDTO transaccion = retirarDineroUseCase.ejecutar(request);
+            TransaccionDTO transaccion = EjecutorOperaciones.esperar(ejecutor.retirar(request));
             Logger.info("Retiro exitoso. Saldo actualizado.");
             return transaccion;
         } catch (Exception e) {
@@ -180,27 +227,44 @@ public class CuentaService {
      * Consulta el saldo de una cuenta.
      */
     public CuentaDTO consultarSaldo(String numeroCuenta) {
-        Logger.debug("Consultando saldo de cuenta: " + numeroCuenta);
+        Logger.debug("Consultando saldo de cuenta: {}", numeroCuenta);
+        
+        if (numeroCuenta == null || numeroCuenta.trim().isEmpty()) {
+            return consultarSaldoUseCase.ejecutarPorNumero(numeroCuenta);
+        }
+        return cache.obtener(numeroCuenta, consultarSaldoUseCase::ejecutarPorNumero);
+    }
+    
+    /**
+     * Consulta el saldo que tenía una cuenta en un instante pasado.
+     */
+    public SaldoHistoricoDTO saldoEn(String cuentaId, LocalDateTime instante) {
+        Logger.debug("Consultando saldo de cuenta {} en {}", cuentaId, instante);
         
-        return consultarSaldoUseCase.ejecutarPorNumero(numeroCuenta);
+        return consultarSaldoHistoricoUseCase.ejecutar(cuentaId, instante);
     }
     
     /**
      * Busca una cuenta por número.
      */
     public Optional<CuentaDTO> buscarPorNumeroCuenta(String numeroCuenta) {
-        Logger.debug("Buscando cuenta: " + numeroCuenta);
+        Logger.debug("Buscando cuenta: {}", numeroCuenta);
         
-        Optional<Cuenta> cuenta = RepositoryFactory.getCuentaRepository()
-            .buscarPorNumeroCuenta(numeroCuenta);
-        return cuenta.map(CuentaMapper::toDTO);
+        if (numeroCuenta == null || numeroCuenta.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.obtener(numeroCuenta,
+            numero -> RepositoryFactory.getCuentaRepository()
+                .buscarPorNumeroCuenta(numero)
+                .map(CuentaMapper::toDTO)
+                .orElse(null)));
     }
     
     /**
      * Busca cuentas por usuario.
      */
     public List<CuentaDTO> buscarPorUsuario(String usuarioId) {
-        Logger.debug("Buscando cuentas del usuario: " + usuarioId);
+        Logger.debug("Buscando cuentas del usuario: {}", usuarioId);
         
         return RepositoryFactory.getCuentaRepository()
             .buscarPorUsuarioId(usuarioId)
@@ -213,7 +277,7 @@ public class CuentaService {
      * Obtiene todas las cuentas activas de un usuario.
      */
     public List<CuentaDTO> obtenerCuentasActivas(String usuarioId) {
-        Logger.debug("Obteniendo cuentas activas del usuario: " + usuarioId);
+        Logger.debug("Obteniendo cuentas activas del usuario: {}", usuarioId);
         
         return RepositoryFactory.getCuentaRepository()
             .obtenerActivasPorUsuario(usuarioId)
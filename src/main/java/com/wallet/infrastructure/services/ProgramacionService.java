@@ -0,0 +1,101 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.application.dtos.TransferenciaProgramadaDTO;
+import com.wallet.application.dtos.requests.ProgramarTransferenciaRequest;
+import com.wallet.application.mappers.TransferenciaProgramadaMapper;
+import com.wallet.application.usecases.ProgramarTransferenciaUseCase;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.programacion.ProgramadorTransferencias;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de Transferencias Programadas (Facade Pattern).
+ * 
+ * Orquesta la programación de transferencias a fecha futura y órdenes
+ * permanentes: las guarda con su caso de uso y las entrega al
+ * {@link ProgramadorTransferencias}, que las ejecuta al vencer.
+ */
+public class ProgramacionService {
+    
+    private final ProgramarTransferenciaUseCase programarTransferenciaUseCase;
+    private final ProgramadorTransferencias programador;
+    
+    /**
+     * @param ejecutor estrategia con la que se aplican las transferencias programadas
+     */
+    public ProgramacionService(EjecutorOperaciones ejecutor) {
+        this(new ProgramadorTransferencias(RepositoryFactory.getTransferenciaProgramadaRepository(), ejecutor));
+    }
+    
+    /**
+     * @param programador programador que ejecuta las transferencias vencidas
+     */
+    public ProgramacionService(ProgramadorTransferencias programador) {
+        if (programador == null) {
+            throw new IllegalArgumentException("El programador de transferencias no puede ser nulo");
+        }
+        this.programarTransferenciaUseCase = new ProgramarTransferenciaUseCase(
+            RepositoryFactory.getCuentaRepository(),
+            RepositoryFactory.getTransferenciaProgramadaRepository());
+        this.programador = programador;
+    }
+    
+    /**
+     * Recupera las programaciones guardadas y comienza a ejecutarlas.
+     */
+    public void iniciar() {
+        programador.iniciar();
+    }
+    
+    /**
+     * Detiene el programador; las programaciones quedan guardadas.
+     */
+    public void cerrar() {
+        programador.cerrar();
+    }
+    
+    /**
+     * Programa una transferencia a fecha futura o una orden permanente.
+     */
+    public TransferenciaProgramadaDTO programar(ProgramarTransferenciaRequest request) {
+        try {
+            TransferenciaProgramadaDTO programada = programarTransferenciaUseCase.ejecutar(request);
+            programador.agendar(programada.getId());
+            Logger.info("Transferencia programada {} ({}), próxima ejecución: {}",
+                       programada.getId(), programada.getPeriodicidad(), programada.getProximaEjecucion());
+            return programada;
+        } catch (Exception e) {
+            Logger.error("Error al programar la transferencia", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Cancela una transferencia programada.
+     * 
+     * @return true si estaba activa
+     */
+    public boolean cancelar(String id) {
+        boolean cancelada = programador.cancelar(id);
+        Logger.info("Transferencia programada {} cancelada: {}", id, cancelada);
+        return cancelada;
+    }
+    
+    /**
+     * Consulta las transferencias programadas desde una cuenta.
+     */
+    public List<TransferenciaProgramadaDTO> consultarPorCuenta(String numeroCuenta) {
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> new IllegalArgumentException("Cuenta no encontrada"));
+        
+        return RepositoryFactory.getTransferenciaProgramadaRepository()
+            .buscarPorCuentaOrigen(cuenta.getId()).stream()
+            .map(TransferenciaProgramadaMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,65 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.application.dtos.SaldoCuentaDTO;
+import com.wallet.application.usecases.ConsultarRankingSaldosUseCase;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Servicio de Ranking de saldos (Facade Pattern).
+ * 
+ * Consultas de riesgo sobre el índice de cuentas por saldo: las N cuentas de
+ * mayor y menor saldo, y cuántas cuentas caen en un rango. Sin moneda se
+ * usa la moneda por defecto de {@link Dinero}.
+ */
+public class RankingService {
+    
+    private static final String MONEDA_POR_DEFECTO = Dinero.CERO.getMoneda();
+    
+    private final ConsultarRankingSaldosUseCase consultarRankingSaldosUseCase;
+    
+    public RankingService() {
+        this.consultarRankingSaldosUseCase = new ConsultarRankingSaldosUseCase(
+            RepositoryFactory.getRankingSaldosRepository());
+    }
+    
+    /**
+     * Las N cuentas de mayor saldo.
+     */
+    public List<SaldoCuentaDTO> mayoresSaldos(int cantidad) {
+        return mayoresSaldos(MONEDA_POR_DEFECTO, cantidad);
+    }
+    
+    public List<SaldoCuentaDTO> mayoresSaldos(String moneda, int cantidad) {
+        Logger.debug("Consultando las {} cuentas de mayor saldo en {}", cantidad, moneda);
+        return consultarRankingSaldosUseCase.mayores(moneda, cantidad);
+    }
+    
+    /**
+     * Las N cuentas de menor saldo.
+     */
+    public List<SaldoCuentaDTO> menoresSaldos(int cantidad) {
+        return menoresSaldos(MONEDA_POR_DEFECTO, cantidad);
+    }
+    
+    public List<SaldoCuentaDTO> menoresSaldos(String moneda, int cantidad) {
+        Logger.debug("Consultando las {} cuentas de menor saldo en {}", cantidad, moneda);
+        return consultarRankingSaldosUseCase.menores(moneda, cantidad);
+    }
+    
+    /**
+     * Cantidad de cuentas con saldo entre mínimo y máximo (ambos inclusive).
+     */
+    public long contarPorSaldo(BigDecimal minimo, BigDecimal maximo) {
+        return contarPorSaldo(MONEDA_POR_DEFECTO, minimo, maximo);
+    }
+    
+    public long contarPorSaldo(String moneda, BigDecimal minimo, BigDecimal maximo) {
+        Logger.debug("Contando cuentas con saldo entre {} y {} {}", minimo, maximo, moneda);
+        return consultarRankingSaldosUseCase.contarEnRango(moneda, minimo, maximo);
+    }
+}
@@ -0,0 +1,131 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.CapturarRetencionRequest;
+import com.wallet.application.dtos.requests.LiberarRetencionRequest;
+import com.wallet.application.dtos.requests.RetenerFondosRequest;
+import com.wallet.application.mappers.RetencionMapper;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.programacion.ExpiradorRetenciones;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de Retenciones de fondos (Facade Pattern).
+ * 
+ * Orquesta las autorizaciones: retener fondos, capturarlos o liberarlos. Las
+ * operaciones se aplican a través del ejecutor, y el
+ * {@link ExpiradorRetenciones} libera las que vencen sin capturarse.
+ */
+public class RetencionService {
+    
+    private final EjecutorOperaciones ejecutor;
+    private final ExpiradorRetenciones expirador;
+    
+    /**
+     * @param ejecutor estrategia con la que se aplican las retenciones
+     */
+    public RetencionService(EjecutorOperaciones ejecutor) {
+        this(ejecutor, new ExpiradorRetenciones(RepositoryFactory.getCuentaRepository(), ejecutor));
+    }
+    
+    /**
+     * @param ejecutor estrategia con la que se aplican las retenciones
+     * @param expirador expirador que libera las retenciones vencidas
+     */
+    public RetencionService(EjecutorOperaciones ejecutor, ExpiradorRetenciones expirador) {
+        if (ejecutor == null) {
+            throw new IllegalArgumentException("El ejecutor de operaciones no puede ser nulo");
+        }
+        if (expirador == null) {
+            throw new IllegalArgumentException("El expirador de retenciones no puede ser nulo");
+        }
+        this.ejecutor = ejecutor;
+        this.expirador = expirador;
+    }
+    
+    /**
+     * Agenda las retenciones activas y comienza a vencerlas.
+     */
+    public void iniciar() {
+        expirador.iniciar();
+    }
+    
+    /**
+     * Detiene el expirador; las retenciones siguen activas.
+     */
+    public void cerrar() {
+        expirador.cerrar();
+    }
+    
+    /**
+     * Retiene fondos de una cuenta hasta que se capturen, se liberen o venzan.
+     */
+    public RetencionDTO retener(RetenerFondosRequest request) {
+        Logger.info("Reteniendo ${} de cuenta: {}", request.getMonto(), request.getCuentaId());
+        
+        try {
+            RetencionDTO retencion = EjecutorOperaciones.esperar(ejecutor.retener(request));
+            expirador.agendar(retencion);
+            Logger.info("Retención {} creada, vence: {}", retencion.getId(), retencion.getVencimiento());
+            return retencion;
+        } catch (Exception e) {
+            Logger.error("Error al retener fondos", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Captura una retención, total o parcialmente; lo no capturado se libera.
+     */
+    public TransaccionDTO capturar(CapturarRetencionRequest request) {
+        Logger.info("Capturando retención {} de cuenta: {}", request.getRetencionId(), request.getCuentaId());
+        
+        try {
+            TransaccionDTO transaccion = EjecutorOperaciones.esperar(ejecutor.capturarRetencion(request));
+            expirador.cancelar(request.getRetencionId());
+            Logger.info("Retención capturada por ${}", transaccion.getMonto());
+            return transaccion;
+        } catch (Exception e) {
+            Logger.error("Error al capturar la retención", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Libera una retención: lo retenido vuelve a estar disponible.
+     */
+    public RetencionDTO liberar(String cuentaId, String retencionId) {
+        Logger.info("Liberando retención {} de cuenta: {}", retencionId, cuentaId);
+        
+        try {
+            RetencionDTO retencion = EjecutorOperaciones.esperar(
+                ejecutor.liberarRetencion(new LiberarRetencionRequest(cuentaId, retencionId)));
+            expirador.cancelar(retencionId);
+            return retencion;
+        } catch (Exception e) {
+            Logger.error("Error al liberar la retención", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Consulta las retenciones activas de una cuenta, de la que vence primero
+     * a la última.
+     */
+    public List<RetencionDTO> consultarRetenciones(String numeroCuenta) {
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> new IllegalArgumentException("Cuenta no encontrada"));
+        
+        return cuenta.getRetenciones().stream()
+            .map(RetencionMapper::toDTO)
+            .sorted(Comparator.comparing(RetencionDTO::getVencimiento))
+            .collect(Collectors.toList());
+    }
+}
@@ -1,49 +1,134 @@
 package com.wallet.infrastructure.services;
 
+import com.wallet.application.dtos.AgregadoDiarioDTO;
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.DiferenciaConciliacionDTO;
+import com.wallet.application.dtos.ExtractoMensualDTO;
+import com.wallet.application.dtos.PagoMasivoDTO;
+import com.wallet.application.dtos.ResultadoConciliacionDTO;
 import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.DestinoPagoRequest;
+import com.wallet.application.dtos.requests.PagoMasivoRequest;
+import com.wallet.application.dtos.requests.PartidaAsientoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
 import com.wallet.application.dtos.requests.TransferirDineroRequest;
 import com.wallet.application.mappers.TransaccionMapper;
-import com.wallet.application.usecases.TransferirDineroUseCase;
+import com.wallet.application.usecases.BuscarTransaccionesUseCase;
+import com.wallet.application.usecases.ConciliarLibroUseCase;
+import com.wallet.application.usecases.ConsultarExtractoMensualUseCase;
 import com.wallet.application.usecases.ConsultarHistorialUseCase;
+import com.wallet.application.usecases.ConsultarReporteDiarioUseCase;
+import com.wallet.application.usecases.ReconstruirAgregadosDiariosUseCase;
+import com.wallet.application.usecases.VerificarExtractosUseCase;
 import com.wallet.domain.entities.Transaccion;
 import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.cache.CacheIdempotencia;
+import com.wallet.infrastructure.ejecucion.EjecutorDirecto;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
 import com.wallet.infrastructure.factories.RepositoryFactory;
 import com.wallet.infrastructure.logging.Logger;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Servicio de Transacciones (Facade Pattern).
  * 
  * Orquesta los casos de uso relacionados con transacciones.
- * Gestiona transferencias y consultas de historial.
+ * Gestiona transferencias, asientos entre varias cuentas, pagos masivos, consultas de historial, extractos mensuales
+ * y el reporte diario de operaciones.
  */
 public class TransaccionService {
     
-    private final TransferirDineroUseCase transferirDineroUseCase;
     private final ConsultarHistorialUseCase consultarHistorialUseCase;
+    private final BuscarTransaccionesUseCase buscarTransaccionesUseCase;
+    private final ConsultarExtractoMensualUseCase consultarExtractoMensualUseCase;
+    private final VerificarExtractosUseCase verificarExtractosUseCase;
+    private final ConciliarLibroUseCase conciliarLibroUseCase;
+    private final ConsultarReporteDiarioUseCase consultarReporteDiarioUseCase;
+    private final ReconstruirAgregadosDiariosUseCase reconstruirAgregadosDiariosUseCase;
+    private final EjecutorOperaciones ejecutor;
+    private final CacheIdempotencia<List<TransaccionDTO>> idempotencia;
+    private final CacheIdempotencia<AsientoDTO> idempotenciaAsientos;
+    private final CacheIdempotencia<PagoMasivoDTO> idempotenciaPagos;
     
     public TransaccionService() {
+        this(new EjecutorDirecto(RepositoryFactory.getCuentaRepository(),
+                                 RepositoryFactory.getTransaccionRepository()));
+    }
+    
+    /**
+     * @param ejecutor estrategia con la que se aplican las transferencias
+     */
+    public TransaccionService(EjecutorOperaciones ejecutor) {
+        this(ejecutor, new CacheIdempotencia<>());
+    }
+    
+    /**
+     * @param ejecutor estrategia con la que se aplican las transferencias
+     * @param idempotencia resultados recordados por clave de idempotencia
+     */
+    public TransaccionService(EjecutorOperaciones ejecutor, CacheIdempotencia<List<TransaccionDTO>> idempotencia) {
+        this(ejecutor, idempotencia, new CacheIdempotencia<>(), new CacheIdempotencia<>());
+    }
+    
+    /**
+     * @param ejecutor estrategia con la que se aplican las transferencias
+     * @param idempotencia resultados de transferencias recordados por clave de idempotencia
+     * @param idempotenciaAsientos resultados de asientos recordados por clave de idempotencia
+     * @param idempotenciaPagos resultados de pagos masivos recordados por clave de idempotencia
+     */
+    public TransaccionService(EjecutorOperaciones ejecutor,
+                              CacheIdempotencia<List<TransaccionDTO>> idempotencia,
+                              CacheIdempotencia<AsientoDTO> idempotenciaAsientos,
+                              CacheIdempotencia<PagoMasivoDTO> idempotenciaPagos) {
+        if (ejecutor == null) {
+            throw new IllegalArgumentException("El ejecutor de operaciones no puede ser nulo");
+        }
+        if (idempotencia == null || idempotenciaAsientos == null || idempotenciaPagos == null) {
+            throw new IllegalArgumentException("La caché de idempotencia no puede ser nula");
+        }
         var cuentaRepo = RepositoryFactory.getCuentaRepository();
         var transaccionRepo = RepositoryFactory.getTransaccionRepository();
+        var extractoRepo = RepositoryFactory.getExtractoMensualRepository();
+        var agregadoRepo = RepositoryFactory.getAgregadoDiarioRepository();
         
-        this.transferirDineroUseCase = new TransferirDineroUseCase(cuentaRepo, transaccionRepo);
         this.consultarHistorialUseCase = new ConsultarHistorialUseCase(cuentaRepo, transaccionRepo);
+        this.buscarTransaccionesUseCase = new BuscarTransaccionesUseCase(
+            cuentaRepo, transaccionRepo, RepositoryFactory.getIndiceDescripcionesRepository());
+        this.consultarExtractoMensualUseCase = new ConsultarExtractoMensualUseCase(cuentaRepo, extractoRepo);
+        this.verificarExtractosUseCase = new VerificarExtractosUseCase(cuentaRepo, transaccionRepo, extractoRepo);
+        this.conciliarLibroUseCase = new ConciliarLibroUseCase(cuentaRepo, transaccionRepo);
+        this.consultarReporteDiarioUseCase = new ConsultarReporteDiarioUseCase(agregadoRepo);
+        this.reconstruirAgregadosDiariosUseCase = new ReconstruirAgregadosDiariosUseCase(transaccionRepo, agregadoRepo);
+        this.ejecutor = ejecutor;
+        this.idempotencia = idempotencia;
+        this.idempotenciaAsientos = idempotenciaAsientos;
+        this.idempotenciaPagos = idempotenciaPagos;
     }
     
     /**
      * Transfiere dinero entre cuentas.
      * Retorna la transacción de TRANSFERENCIA_SALIDA.
+     * Si el request trae clave de idempotencia, un reintento devuelve las transacciones originales;
+     * si la clave se reutiliza con otra solicitud se rechaza.
      */
     public List<TransaccionDTO> transferir(TransferirDineroRequest request) {
-        Logger.info("Transfiriendo $" + request.getMonto() + 
-                   " de " + request.getCuentaOrigenId() + 
-                   " a " + request.getCuentaDestinoId());
+        Logger.info("Transfiriendo ${} de {} a {}", request.getMonto(),
+                   request.getCuentaOrigenId(), request.getCuentaDestinoId());
         
         try {
-            List<TransaccionDTO> transacciones = transferirDineroUseCase.ejecutar(request);
+            String clave = CacheIdempotencia.clave("TRANSFERENCIA", request.getCuentaOrigenId(),
+                                                   request.getClaveIdempotencia());
+            long huella = CacheIdempotencia.huella(request.getCuentaDestinoId(), request.getMonto(),
+                                                   request.getDescripcion());
+            List<TransaccionDTO> transacciones = idempotencia.ejecutar(clave, huella,
+                () -> EjecutorOperaciones.esperar(ejecutor.transferir(request)));
             Logger.info("Transferencia exitosa.");
             return transacciones;
         } catch (Exception e) {
@@ -52,11 +137,78 @@ public class TransaccionService {
         }
     }
     
+    /**
+     * Registra un asiento entre varias cuentas: todas sus partidas se aplican
+     * juntas o no se aplica ninguna.
+     * Si el request trae clave de idempotencia, un reintento devuelve el asiento original;
+     * si la clave se reutiliza con otras partidas se rechaza.
+     */
+    public AsientoDTO registrarAsiento(RegistrarAsientoRequest request) {
+        var partidas = request.getPartidas();
+        Logger.info("Registrando asiento de {} partidas", partidas != null ? partidas.size() : 0);
+        
+        try {
+            String cuentaId = partidas == null || partidas.isEmpty() || partidas.get(0) == null
+                ? null : partidas.get(0).getCuentaId();
+            String clave = CacheIdempotencia.clave("ASIENTO", cuentaId, request.getClaveIdempotencia());
+            List<Object> campos = new ArrayList<>();
+            campos.add(request.getDescripcion());
+            if (partidas != null) {
+                for (PartidaAsientoRequest partida : partidas) {
+                    campos.add(partida != null ? partida.getCuentaId() : null);
+                    campos.add(partida != null ? partida.getImporte() : null);
+                }
+            }
+            AsientoDTO asiento = idempotenciaAsientos.ejecutar(clave,
+                CacheIdempotencia.huella(campos.toArray()),
+                () -> EjecutorOperaciones.esperar(ejecutor.registrarAsiento(request)));
+            Logger.info("Asiento registrado: {}", asiento.getId());
+            return asiento;
+        } catch (Exception e) {
+            Logger.error("Error al registrar el asiento", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Paga desde una cuenta a muchos destinatarios. El total se reserva de una
+     * vez; los destinatarios que no pueden recibir quedan rechazados y su
+     * monto vuelve al origen.
+     * Si el request trae clave de idempotencia, un reintento devuelve el resultado original;
+     * si la clave se reutiliza con otros destinos se rechaza.
+     */
+    public PagoMasivoDTO pagoMasivo(PagoMasivoRequest request) {
+        Logger.info("Pago masivo desde {} a {} destinatarios", request.getCuentaOrigenId(),
+                   request.getDestinos() != null ? request.getDestinos().size() : 0);
+        
+        try {
+            String clave = CacheIdempotencia.clave("PAGO_MASIVO", request.getCuentaOrigenId(),
+                                                   request.getClaveIdempotencia());
+            List<Object> campos = new ArrayList<>();
+            campos.add(request.getDescripcion());
+            if (request.getDestinos() != null) {
+                for (DestinoPagoRequest destino : request.getDestinos()) {
+                    campos.add(destino != null ? destino.getCuentaDestinoId() : null);
+                    campos.add(destino != null ? destino.getMonto() : null);
+                }
+            }
+            PagoMasivoDTO pago = idempotenciaPagos.ejecutar(clave,
+                CacheIdempotencia.huella(campos.toArray()),
+                () -> EjecutorOperaciones.esperar(ejecutor.pagoMasivo(request)));
+            Logger.info("Pago masivo terminado: {} pagados, {} rechazados",
+                       pago.getPagados(), pago.getRechazados());
+            return pago;
+        } catch (Exception e) {
+            Logger.error("Error en el pago masivo", e);
+            throw e;
+        }
+    }
+    
     /**
      * Consulta el historial completo de una cuenta.
      */
     public List<TransaccionDTO> consultarHistorial(String numeroCuenta) {
-        Logger.debug("Consultando historial de cuenta: " + numeroCuenta);
+        Logger.debug("Consultando historial de cuenta: {}", numeroCuenta);
         
         // Buscar cuenta por número
         var cuenta = RepositoryFactory.getCuentaRepository()
@@ -66,11 +218,47 @@ public class TransaccionService {
         return consultarHistorialUseCase.ejecutar(cuenta.getId());
     }
     
+    /**
+     * Consulta una página del libro de una cuenta: sus transacciones
+     * posteriores a la secuencia dada, de la más antigua a la más nueva.
+     */
+    public List<TransaccionDTO> consultarDesdeSecuencia(String numeroCuenta, long despuesDe, int limite) {
+        Logger.debug("Consultando transacciones de cuenta {} desde la secuencia {}", numeroCuenta, despuesDe);
+        
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> new IllegalArgumentException("Cuenta no encontrada"));
+        
+        return consultarHistorialUseCase.ejecutarDesdeSecuencia(cuenta.getId(), despuesDe, limite);
+    }
+    
+    /**
+     * Indica si la cuenta tuvo movimientos después de la secuencia dada,
+     * sin leer su historial (para revalidar copias en caché).
+     */
+    public boolean huboCambiosDesde(String numeroCuenta, long secuencia) {
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> new IllegalArgumentException("Cuenta no encontrada"));
+        
+        return RepositoryFactory.getTransaccionRepository().ultimaSecuencia(cuenta.getId()) > secuencia;
+    }
+    
+    /**
+     * Busca transacciones de una cuenta por palabras de su descripción.
+     * Todas las palabras deben aparecer; no distingue mayúsculas ni tildes.
+     */
+    public List<TransaccionDTO> buscarPorDescripcion(String numeroCuenta, String consulta) {
+        Logger.debug("Buscando '{}' en transacciones de cuenta: {}", consulta, numeroCuenta);
+        
+        return buscarTransaccionesUseCase.ejecutar(numeroCuenta, consulta);
+    }
+    
     /**
      * Consulta las últimas N transacciones de una cuenta.
      */
     public List<TransaccionDTO> consultarUltimas(String cuentaId, int limite) {
-        Logger.debug("Consultando últimas " + limite + " transacciones de cuenta: " + cuentaId);
+        Logger.debug("Consultando últimas {} transacciones de cuenta: {}", limite, cuentaId);
         
         return RepositoryFactory.getTransaccionRepository()
             .buscarPorCuentaId(cuentaId)
@@ -84,7 +272,7 @@ public class TransaccionService {
      * Consulta transacciones por tipo.
      */
     public List<TransaccionDTO> consultarPorTipo(String numeroCuenta, TipoTransaccion tipo) {
-        Logger.debug("Consultando transacciones de tipo " + tipo + " para cuenta: " + numeroCuenta);
+        Logger.debug("Consultando transacciones de tipo {} para cuenta: {}", tipo, numeroCuenta);
         
         // Primero buscar la cuenta por número
         var cuenta = RepositoryFactory.getCuentaRepository()
@@ -104,7 +292,7 @@ public class TransaccionService {
     public List<TransaccionDTO> consultarPorFechas(String cuentaId, 
                                                     LocalDateTime fechaInicio, 
                                                     LocalDateTime fechaFin) {
-        Logger.debug("Consultando transacciones entre " + fechaInicio + " y " + fechaFin);
+        Logger.debug("Consultando transacciones entre {} y {}", fechaInicio, fechaFin);
         
         return RepositoryFactory.getTransaccionRepository()
             .obtenerPorCuentaYFechas(cuentaId, fechaInicio, fechaFin)
@@ -112,4 +300,83 @@ public class TransaccionService {
             .map(TransaccionMapper::toDTO)
             .collect(Collectors.toList());
     }
+    
+    /**
+     * Consulta el extracto de una cuenta para un mes.
+     */
+    public ExtractoMensualDTO consultarExtractoMensual(String numeroCuenta, YearMonth periodo) {
+        Logger.debug("Consultando extracto {} de cuenta: {}", periodo, numeroCuenta);
+        
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> new IllegalArgumentException("Cuenta no encontrada"));
+        
+        return consultarExtractoMensualUseCase.ejecutar(cuenta.getId(), periodo);
+    }
+    
+    /**
+     * Consulta los extractos de todos los meses con movimientos de una cuenta.
+     */
+    public List<ExtractoMensualDTO> consultarExtractos(String numeroCuenta) {
+        Logger.debug("Consultando extractos de cuenta: {}", numeroCuenta);
+        
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> new IllegalArgumentException("Cuenta no encontrada"));
+        
+        return consultarExtractoMensualUseCase.ejecutarTodos(cuenta.getId());
+    }
+    
+    /**
+     * Recalcula los extractos de una cuenta desde su historial y retorna los
+     * meses que no coinciden con los mantenidos en línea.
+     */
+    public List<YearMonth> verificarExtractos(String numeroCuenta) {
+        Logger.debug("Verificando extractos de cuenta: {}", numeroCuenta);
+        
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> new IllegalArgumentException("Cuenta no encontrada"));
+        
+        List<YearMonth> diferencias = verificarExtractosUseCase.ejecutar(cuenta.getId());
+        if (!diferencias.isEmpty()) {
+            Logger.warning("Extractos de cuenta {} no coinciden con el historial: {}", numeroCuenta, diferencias);
+        }
+        return diferencias;
+    }
+    
+    /**
+     * Concilia los saldos de todas las cuentas con el libro de transacciones.
+     * Cada diferencia se registra en el log y se entrega al receptor apenas se detecta.
+     */
+    public ResultadoConciliacionDTO conciliar(Consumer<DiferenciaConciliacionDTO> alEncontrar) {
+        Logger.info("Iniciando conciliación del libro de transacciones");
+        
+        ResultadoConciliacionDTO resultado = conciliarLibroUseCase.ejecutar(diferencia -> {
+            Logger.warning("Diferencia de conciliación: {}", diferencia);
+            alEncontrar.accept(diferencia);
+        });
+        Logger.info("Conciliación terminada: {}", resultado);
+        return resultado;
+    }
+    
+    /**
+     * Reporte diario de operaciones: total y cantidad por día, tipo y moneda.
+     */
+    public List<AgregadoDiarioDTO> reporteDiario(LocalDate desde, LocalDate hasta) {
+        Logger.debug("Consultando reporte diario entre {} y {}", desde, hasta);
+        return consultarReporteDiarioUseCase.ejecutar(desde, hasta);
+    }
+    
+    /**
+     * Recalcula desde el historial los agregados de los días anteriores a hoy.
+     * 
+     * @return cantidad de transacciones recalculadas
+     */
+    public long reconstruirAgregadosDiarios() {
+        Logger.info("Reconstruyendo agregados diarios desde el historial");
+        long transacciones = reconstruirAgregadosDiariosUseCase.ejecutar();
+        Logger.info("Agregados diarios reconstruidos: {} transacciones", transacciones);
+        return transacciones;
+    }
 }
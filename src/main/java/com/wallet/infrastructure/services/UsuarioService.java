@@ -3,9 +3,14 @@ package com.wallet.infrastructure.services;
 import com.wallet.application.dtos.UsuarioDTO;
 import com.wallet.application.dtos.requests.CrearUsuarioRequest;
 import com.wallet.application.mappers.UsuarioMapper;
+import com.wallet.application.usecases.ActualizarUsuarioUseCase;
 import com.wallet.application.usecases.CrearUsuarioUseCase;
 import com.wallet.application.usecases.BuscarUsuarioUseCase;
+import com.wallet.application.usecases.SugerirUsuariosUseCase;
 import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.cache.CacheLectura;
+import com.wallet.infrastructure.factories.CacheFactory;
 import com.wallet.infrastructure.factories.RepositoryFactory;
 import com.wallet.infrastructure.logging.Logger;
 
@@ -19,30 +24,42 @@ import java.util.stream.Collectors;
  * Orquesta los casos de uso relacionados con usuarios.
  * Proporciona una API de alto nivel para la capa de presentación.
  * Gestiona logging y conversión de DTOs.
+ * Las búsquedas por email se resuelven a través de la caché de lectura
+ * de {@link CacheFactory}.
  */
 public class UsuarioService {
     
     private final CrearUsuarioUseCase crearUsuarioUseCase;
     private final BuscarUsuarioUseCase buscarUsuarioUseCase;
+    private final ActualizarUsuarioUseCase actualizarUsuarioUseCase;
+    private final SugerirUsuariosUseCase sugerirUsuariosUseCase;
+    private final CacheLectura<Usuario, UsuarioDTO> cache;
     
     public UsuarioService() {
+        this.cache = CacheFactory.getCacheUsuarios();
         this.crearUsuarioUseCase = new CrearUsuarioUseCase(
             RepositoryFactory.getUsuarioRepository()
         );
         this.buscarUsuarioUseCase = new BuscarUsuarioUseCase(
             RepositoryFactory.getUsuarioRepository()
         );
+        this.actualizarUsuarioUseCase = new ActualizarUsuarioUseCase(
+            RepositoryFactory.getUsuarioRepository()
+        );
+        this.sugerirUsuariosUseCase = new SugerirUsuariosUseCase(
+            RepositoryFactory.getIndiceUsuariosRepository()
+        );
     }
     
     /**
      * Crea un nuevo usuario.
      */
     public UsuarioDTO crearUsuario(CrearUsuarioRequest request) {
-        Logger.info("Creando usuario: " + request.getEmail());
+        Logger.info("Creando usuario: {}", request.getEmail());
         
         try {
             UsuarioDTO usuario = crearUsuarioUseCase.ejecutar(request);
-            Logger.info("Usuario creado exitosamente: " + usuario.getId());
+            Logger.info("Usuario creado exitosamente: {}", usuario.getId());
             return usuario;
         } catch (Exception e) {
             Logger.error("Error al crear usuario", e);
@@ -50,11 +67,36 @@ public class UsuarioService {
         }
     }
     
+    /**
+     * Actualiza nombre, apellido y email de un usuario.
+     */
+    public UsuarioDTO actualizarUsuario(String usuarioId, String nombre, String apellido, String email) {
+        Logger.info("Actualizando usuario: {}", usuarioId);
+        
+        try {
+            UsuarioDTO usuario = actualizarUsuarioUseCase.ejecutar(usuarioId, nombre, apellido, email);
+            Logger.info("Usuario actualizado exitosamente: {}", usuario.getId());
+            return usuario;
+        } catch (Exception e) {
+            Logger.error("Error al actualizar usuario", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Sugiere usuarios cuyo nombre, apellido o email empieza por el texto dado.
+     */
+    public List<UsuarioDTO> sugerir(String prefijo, int cantidad) {
+        Logger.debug("Sugiriendo usuarios para: {}", prefijo);
+        
+        return sugerirUsuariosUseCase.ejecutar(prefijo, cantidad);
+    }
+    
     /**
      * Busca un usuario por ID.
      */
     public Optional<UsuarioDTO> buscarPorId(String usuarioId) {
-        Logger.debug("Buscando usuario por ID: " + usuarioId);
+        Logger.debug("Buscando usuario por ID: {}", usuarioId);
         
         UsuarioDTO usuario = buscarUsuarioUseCase.ejecutarPorId(usuarioId);
         return Optional.ofNullable(usuario);
@@ -64,9 +106,13 @@ public class UsuarioService {
      * Busca un usuario por email.
      */
     public Optional<UsuarioDTO> buscarPorEmail(String email) {
-        Logger.debug("Buscando usuario por email: " + email);
+        Logger.debug("Buscando usuario por email: {}", email);
         
-        UsuarioDTO usuario = buscarUsuarioUseCase.ejecutarPorEmail(email);
+        if (email == null || email.trim().isEmpty()) {
+            return Optional.ofNullable(buscarUsuarioUseCase.ejecutarPorEmail(email));
+        }
+        UsuarioDTO usuario = cache.obtener(new Email(email).getValor(),
+                                           clave -> buscarUsuarioUseCase.ejecutarPorEmail(email));
         return Optional.ofNullable(usuario);
     }
     
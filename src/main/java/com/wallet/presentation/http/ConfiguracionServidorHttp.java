@@ -0,0 +1,93 @@
+package com.wallet.presentation.http;
+
+/**
+ * Parámetros del servidor HTTP embebido.
+ *
+ * Inmutable: los métodos "con..." retornan una copia modificada.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public final class ConfiguracionServidorHttp {
+
+    private static final int BACKLOG_POR_DEFECTO = 4096;
+    private static final int MAX_CUERPO_POR_DEFECTO = 16 * 1024;
+    private static final int INACTIVIDAD_POR_DEFECTO_SEG = 30;
+    private static final int MAX_CONEXIONES_INACTIVAS_POR_DEFECTO = 10_000;
+    private static final int ESPERA_CIERRE_POR_DEFECTO_SEG = 10;
+
+    private final int puerto;
+    private final int backlog;
+    private final int maxBytesCuerpo;
+    private final int segundosInactividad;
+    private final int maxConexionesInactivas;
+    private final int segundosEsperaCierre;
+
+    public ConfiguracionServidorHttp(int puerto, int backlog, int maxBytesCuerpo,
+                                     int segundosInactividad, int maxConexionesInactivas,
+                                     int segundosEsperaCierre) {
+        if (puerto < 0 || puerto > 65535) {
+            throw new IllegalArgumentException("El puerto debe estar entre 0 y 65535");
+        }
+        if (maxBytesCuerpo <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo del cuerpo debe ser positivo");
+        }
+        if (segundosEsperaCierre < 0) {
+            throw new IllegalArgumentException("La espera de cierre no puede ser negativa");
+        }
+        this.puerto = puerto;
+        this.backlog = backlog;
+        this.maxBytesCuerpo = maxBytesCuerpo;
+        this.segundosInactividad = segundosInactividad;
+        this.maxConexionesInactivas = maxConexionesInactivas;
+        this.segundosEsperaCierre = segundosEsperaCierre;
+    }
+
+    /**
+     * Configuración por defecto para el puerto dado (0 elige un puerto libre).
+     */
+    public static ConfiguracionServidorHttp porDefecto(int puerto) {
+        return new ConfiguracionServidorHttp(puerto, BACKLOG_POR_DEFECTO, MAX_CUERPO_POR_DEFECTO,
+            INACTIVIDAD_POR_DEFECTO_SEG, MAX_CONEXIONES_INACTIVAS_POR_DEFECTO,
+            ESPERA_CIERRE_POR_DEFECTO_SEG);
+    }
+
+    public ConfiguracionServidorHttp conMaxBytesCuerpo(int maxBytesCuerpo) {
+        return new ConfiguracionServidorHttp(puerto, backlog, maxBytesCuerpo,
+            segundosInactividad, maxConexionesInactivas, segundosEsperaCierre);
+    }
+
+    public ConfiguracionServidorHttp conBacklog(int backlog) {
+        return new ConfiguracionServidorHttp(puerto, backlog, maxBytesCuerpo,
+            segundosInactividad, maxConexionesInactivas, segundosEsperaCierre);
+    }
+
+    public ConfiguracionServidorHttp conSegundosEsperaCierre(int segundosEsperaCierre) {
+        return new ConfiguracionServidorHttp(puerto, backlog, maxBytesCuerpo,
+            segundosInactividad, maxConexionesInactivas, segundosEsperaCierre);
+    }
+
+    public int getPuerto() {
+        return puerto;
+    }
+
+    public int getBacklog() {
+        return backlog;
+    }
+
+    public int getMaxBytesCuerpo() {
+        return maxBytesCuerpo;
+    }
+
+    public int getSegundosInactividad() {
+        return segundosInactividad;
+    }
+
+    public int getMaxConexionesInactivas() {
+        return maxConexionesInactivas;
+    }
+
+    public int getSegundosEsperaCierre() {
+        return segundosEsperaCierre;
+    }
+}
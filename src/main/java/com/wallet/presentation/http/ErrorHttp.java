@@ -0,0 +1,37 @@
+package com.wallet.presentation.http;
+
+/**
+ * Error que se traduce directamente a un código de estado HTTP.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+class ErrorHttp extends RuntimeException {
+
+    private final int estado;
+
+    ErrorHttp(int estado, String mensaje) {
+        super(mensaje);
+        this.estado = estado;
+    }
+
+    static ErrorHttp noEncontrado(String ruta) {
+        return new ErrorHttp(404, "Recurso no encontrado: " + ruta);
+    }
+
+    static ErrorHttp metodoNoPermitido(String metodo) {
+        return new ErrorHttp(405, "Método no permitido: " + metodo);
+    }
+
+    static ErrorHttp cuerpoDemasiadoGrande(int maximo) {
+        return new ErrorHttp(413, "El cuerpo de la solicitud supera el máximo de " + maximo + " bytes");
+    }
+
+    static ErrorHttp solicitudInvalida(String mensaje) {
+        return new ErrorHttp(400, mensaje);
+    }
+
+    int getEstado() {
+        return estado;
+    }
+}
@@ -0,0 +1,230 @@
+package com.wallet.presentation.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.wallet.domain.exceptions.ClaveIdempotenciaReutilizadaException;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.LimiteExcedidoException;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.exceptions.SaldoInsuficienteException;
+import com.wallet.domain.exceptions.UsuarioNoEncontradoException;
+import com.wallet.infrastructure.json.JsonEscritor;
+import com.wallet.infrastructure.json.JsonLector;
+import com.wallet.infrastructure.logging.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Base de los manejadores HTTP: enrutado por segmentos, límite de tamaño
+ * del cuerpo, traducción de excepciones de dominio a códigos de estado y
+ * escritura de respuestas JSON con Content-Length (necesario para keep-alive).
+ *
+ * Las respuestas se serializan en escritores JSON reutilizados entre solicitudes;
+ * como cada solicitud corre en un hilo virtual distinto, se toman de un pool
+ * acotado en lugar de un ThreadLocal.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+abstract class ManejadorBase implements HttpHandler {
+
+    private static final String TIPO_JSON = "application/json; charset=utf-8";
+    private static final byte[] ESTADO = JsonEscritor.nombre("estado");
+    private static final byte[] ERROR = JsonEscritor.nombre("error");
+
+    /** Escritores disponibles; los que crecieron por encima del máximo no se devuelven. */
+    private static final BlockingQueue<JsonEscritor> ESCRITORES = new ArrayBlockingQueue<>(256);
+    private static final int MAX_BYTES_ESCRITOR_REUTILIZADO = 64 * 1024;
+
+    private final String prefijo;
+    private final int maxBytesCuerpo;
+
+    protected ManejadorBase(String prefijo, int maxBytesCuerpo) {
+        this.prefijo = prefijo;
+        this.maxBytesCuerpo = maxBytesCuerpo;
+    }
+
+    /**
+     * Atiende la solicitud y retorna la respuesta a enviar.
+     *
+     * @param metodo método HTTP en mayúsculas
+     * @param segmentos segmentos de la ruta posteriores al prefijo del contexto
+     * @param exchange intercambio HTTP (para leer cuerpo y parámetros)
+     */
+    protected abstract Respuesta atender(String metodo, String[] segmentos, HttpExchange exchange)
+        throws IOException;
+
+    @Override
+    public final void handle(HttpExchange exchange) throws IOException {
+        try {
+            String metodo = exchange.getRequestMethod().toUpperCase();
+            Respuesta respuesta = atender(metodo, segmentos(exchange), exchange);
+            enviar(exchange, respuesta.estado, respuesta.contenido);
+        } catch (ErrorHttp e) {
+            if (e.getEstado() == 413) {
+                exchange.getResponseHeaders().set("Connection", "close");
+            }
+            enviarError(exchange, e.getEstado(), e.getMessage());
+        } catch (UsuarioNoEncontradoException | CuentaNoEncontradaException e) {
+            enviarError(exchange, 404, e.getMessage());
+        } catch (LimiteExcedidoException e) {
+            enviarError(exchange, 429, e.getMessage());
+        } catch (ClaveIdempotenciaReutilizadaException e) {
+            enviarError(exchange, 422, e.getMessage());
+        } catch (OperacionNoValidaException | SaldoInsuficienteException | IllegalStateException e) {
+            enviarError(exchange, 409, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            enviarError(exchange, 400, e.getMessage());
+        } catch (IOException e) {
+            Logger.warning("Conexión interrumpida en {}: {}", exchange.getRequestURI(), e.getMessage());
+        } catch (RuntimeException e) {
+            Logger.error("Error no controlado en " + exchange.getRequestURI(), e);
+            enviarError(exchange, 500, "Error interno del servidor");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Lee el cuerpo de la solicitud respetando el tamaño máximo configurado.
+     *
+     * @throws ErrorHttp 413 si el cuerpo excede el máximo
+     */
+    protected byte[] leerCuerpo(HttpExchange exchange) throws IOException {
+        String longitud = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (longitud != null) {
+            try {
+                if (Long.parseLong(longitud.trim()) > maxBytesCuerpo) {
+                    throw ErrorHttp.cuerpoDemasiadoGrande(maxBytesCuerpo);
+                }
+            } catch (NumberFormatException e) {
+                throw ErrorHttp.solicitudInvalida("Content-Length inválido");
+            }
+        }
+        try (InputStream entrada = exchange.getRequestBody()) {
+            ByteArrayOutputStream salida = new ByteArrayOutputStream(
+                longitud != null ? Integer.parseInt(longitud.trim()) : 256);
+            byte[] bloque = new byte[4096];
+            int leidos;
+            while ((leidos = entrada.read(bloque)) != -1) {
+                if (salida.size() + leidos > maxBytesCuerpo) {
+                    throw ErrorHttp.cuerpoDemasiadoGrande(maxBytesCuerpo);
+                }
+                salida.write(bloque, 0, leidos);
+            }
+            return salida.toByteArray();
+        }
+    }
+
+    /**
+     * Lee el cuerpo de la solicitud y retorna un lector JSON posicionado al inicio.
+     */
+    protected JsonLector leerJson(HttpExchange exchange) throws IOException {
+        byte[] cuerpo = leerCuerpo(exchange);
+        if (cuerpo.length == 0) {
+            throw ErrorHttp.solicitudInvalida("La solicitud requiere un cuerpo JSON");
+        }
+        return new JsonLector(cuerpo);
+    }
+
+    /**
+     * Clave de idempotencia del encabezado "Idempotency-Key"; la del cuerpo JSON
+     * tiene prioridad si ambas están presentes.
+     */
+    protected static String claveIdempotencia(HttpExchange exchange, String claveCuerpo) {
+        if (claveCuerpo != null) {
+            return claveCuerpo;
+        }
+        return exchange.getRequestHeaders().getFirst("Idempotency-Key");
+    }
+
+    protected static Map<String, String> parametros(HttpExchange exchange) {
+        Map<String, String> parametros = new HashMap<>();
+        String consulta = exchange.getRequestURI().getRawQuery();
+        if (consulta == null || consulta.isEmpty()) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String clave = igual >= 0 ? par.substring(0, igual) : par;
+            String valor = igual >= 0 ? par.substring(igual + 1) : "";
+            parametros.put(URLDecoder.decode(clave, StandardCharsets.UTF_8),
+                           URLDecoder.decode(valor, StandardCharsets.UTF_8));
+        }
+        return parametros;
+    }
+
+    protected static Respuesta ok(Consumer<JsonEscritor> contenido) {
+        return new Respuesta(200, contenido);
+    }
+
+    protected static Respuesta creado(Consumer<JsonEscritor> contenido) {
+        return new Respuesta(201, contenido);
+    }
+
+    private String[] segmentos(HttpExchange exchange) {
+        String ruta = exchange.getRequestURI().getPath();
+        String resto = ruta.length() > prefijo.length() ? ruta.substring(prefijo.length()) : "";
+        if (resto.startsWith("/")) {
+            resto = resto.substring(1);
+        }
+        if (resto.endsWith("/")) {
+            resto = resto.substring(0, resto.length() - 1);
+        }
+        return resto.isEmpty() ? new String[0] : resto.split("/");
+    }
+
+    private static void enviarError(HttpExchange exchange, int estado, String mensaje) {
+        try {
+            enviar(exchange, estado, json -> json.inicioObjeto()
+                .campo(ESTADO).valor(estado)
+                .campo(ERROR).valor(mensaje)
+                .finObjeto());
+        } catch (IOException e) {
+            Logger.warning("No se pudo enviar la respuesta de error: {}", e.getMessage());
+        }
+    }
+
+    private static void enviar(HttpExchange exchange, int estado, Consumer<JsonEscritor> contenido)
+        throws IOException {
+        JsonEscritor json = ESCRITORES.poll();
+        if (json == null) {
+            json = new JsonEscritor(1024);
+        }
+        try {
+            contenido.accept(json.reiniciar());
+            exchange.getResponseHeaders().set("Content-Type", TIPO_JSON);
+            exchange.sendResponseHeaders(estado, json.getLongitud());
+            try (OutputStream salida = exchange.getResponseBody()) {
+                json.escribirEn(salida);
+            }
+        } finally {
+            if (json.getBuffer().length <= MAX_BYTES_ESCRITOR_REUTILIZADO) {
+                ESCRITORES.offer(json);
+            }
+        }
+    }
+
+    /**
+     * Respuesta de un manejador: código de estado y escritura del cuerpo JSON.
+     */
+    protected static final class Respuesta {
+        private final int estado;
+        private final Consumer<JsonEscritor> contenido;
+
+        Respuesta(int estado, Consumer<JsonEscritor> contenido) {
+            this.estado = estado;
+            this.contenido = contenido;
+        }
+    }
+}
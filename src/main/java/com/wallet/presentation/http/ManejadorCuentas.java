@@ -0,0 +1,96 @@
+package com.wallet.presentation.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.infrastructure.json.CodificadorJson;
+import com.wallet.infrastructure.json.JsonLector;
+import com.wallet.infrastructure.services.CuentaService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoints de cuentas.
+ *
+ * - POST /api/cuentas                      crea una cuenta ({"usuarioId": ...})
+ * - GET  /api/cuentas?usuarioId=...        cuentas de un usuario (o &activas=true)
+ * - GET  /api/cuentas/{numeroCuenta}       consulta el saldo
+ * - POST /api/cuentas/depositos            deposita ({"cuentaId", "monto", "descripcion"})
+ * - POST /api/cuentas/retiros              retira ({"cuentaId", "monto", "descripcion"})
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+class ManejadorCuentas extends ManejadorBase {
+
+    static final String PREFIJO = "/api/cuentas";
+
+    private static final byte[][] CAMPOS_CREAR_CUENTA = JsonLector.nombres("usuarioId");
+
+    private final CuentaService cuentaService;
+
+    ManejadorCuentas(CuentaService cuentaService, int maxBytesCuerpo) {
+        super(PREFIJO, maxBytesCuerpo);
+        this.cuentaService = cuentaService;
+    }
+
+    @Override
+    protected Respuesta atender(String metodo, String[] segmentos, HttpExchange exchange) throws IOException {
+        if ("POST".equals(metodo)) {
+            if (segmentos.length == 0) {
+                CuentaDTO cuenta = cuentaService.crearCuenta(leerUsuarioId(leerJson(exchange)));
+                return creado(json -> CodificadorJson.escribir(json, cuenta));
+            }
+            if (segmentos.length == 1 && "depositos".equals(segmentos[0])) {
+                DepositarDineroRequest request = CodificadorJson.leerDepositarRequest(leerJson(exchange));
+                request.setClaveIdempotencia(claveIdempotencia(exchange, request.getClaveIdempotencia()));
+                TransaccionDTO transaccion = cuentaService.depositar(request);
+                return creado(json -> CodificadorJson.escribir(json, transaccion));
+            }
+            if (segmentos.length == 1 && "retiros".equals(segmentos[0])) {
+                RetirarDineroRequest request = CodificadorJson.leerRetirarRequest(leerJson(exchange));
+                request.setClaveIdempotencia(claveIdempotencia(exchange, request.getClaveIdempotencia()));
+                TransaccionDTO transaccion = cuentaService.retirar(request);
+                return creado(json -> CodificadorJson.escribir(json, transaccion));
+            }
+            throw ErrorHttp.noEncontrado(exchange.getRequestURI().getPath());
+        }
+        if (!"GET".equals(metodo)) {
+            throw ErrorHttp.metodoNoPermitido(metodo);
+        }
+        if (segmentos.length == 0) {
+            Map<String, String> parametros = parametros(exchange);
+            String usuarioId = parametros.get("usuarioId");
+            if (usuarioId == null) {
+                throw ErrorHttp.solicitudInvalida("El parámetro 'usuarioId' es requerido");
+            }
+            List<CuentaDTO> cuentas = Boolean.parseBoolean(parametros.get("activas"))
+                ? cuentaService.obtenerCuentasActivas(usuarioId)
+                : cuentaService.buscarPorUsuario(usuarioId);
+            return ok(json -> CodificadorJson.escribirCuentas(json, cuentas));
+        }
+        if (segmentos.length == 1) {
+            CuentaDTO cuenta = cuentaService.consultarSaldo(segmentos[0]);
+            return ok(json -> CodificadorJson.escribir(json, cuenta));
+        }
+        throw ErrorHttp.noEncontrado(exchange.getRequestURI().getPath());
+    }
+
+    private static String leerUsuarioId(JsonLector json) {
+        String usuarioId = null;
+        json.inicioObjeto();
+        int campo;
+        while ((campo = json.siguienteCampo(CAMPOS_CREAR_CUENTA)) != JsonLector.FIN_OBJETO) {
+            if (campo == 0) {
+                usuarioId = json.leerTexto();
+            } else {
+                json.saltarValor();
+            }
+        }
+        return usuarioId;
+    }
+}
@@ -0,0 +1,60 @@
+package com.wallet.presentation.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.json.CodificadorJson;
+import com.wallet.infrastructure.services.TransaccionService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoints de transacciones.
+ *
+ * - POST /api/transacciones/transferencias          transfiere
+ *        ({"cuentaOrigenId", "cuentaDestinoId", "monto", "descripcion"})
+ * - GET  /api/transacciones?numeroCuenta=...        historial (opcional &tipo=DEPOSITO)
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+class ManejadorTransacciones extends ManejadorBase {
+
+    static final String PREFIJO = "/api/transacciones";
+
+    private final TransaccionService transaccionService;
+
+    ManejadorTransacciones(TransaccionService transaccionService, int maxBytesCuerpo) {
+        super(PREFIJO, maxBytesCuerpo);
+        this.transaccionService = transaccionService;
+    }
+
+    @Override
+    protected Respuesta atender(String metodo, String[] segmentos, HttpExchange exchange) throws IOException {
+        if ("POST".equals(metodo) && segmentos.length == 1 && "transferencias".equals(segmentos[0])) {
+            TransferirDineroRequest request = CodificadorJson.leerTransferirRequest(leerJson(exchange));
+            request.setClaveIdempotencia(claveIdempotencia(exchange, request.getClaveIdempotencia()));
+            List<TransaccionDTO> transacciones = transaccionService.transferir(request);
+            return creado(json -> CodificadorJson.escribirTransacciones(json, transacciones));
+        }
+        if ("GET".equals(metodo) && segmentos.length == 0) {
+            Map<String, String> parametros = parametros(exchange);
+            String numeroCuenta = parametros.get("numeroCuenta");
+            if (numeroCuenta == null) {
+                throw ErrorHttp.solicitudInvalida("El parámetro 'numeroCuenta' es requerido");
+            }
+            String tipo = parametros.get("tipo");
+            List<TransaccionDTO> transacciones = tipo != null
+                ? transaccionService.consultarPorTipo(numeroCuenta, TipoTransaccion.valueOf(tipo))
+                : transaccionService.consultarHistorial(numeroCuenta);
+            return ok(json -> CodificadorJson.escribirTransacciones(json, transacciones));
+        }
+        if (!"GET".equals(metodo) && !"POST".equals(metodo)) {
+            throw ErrorHttp.metodoNoPermitido(metodo);
+        }
+        throw ErrorHttp.noEncontrado(exchange.getRequestURI().getPath());
+    }
+}
@@ -0,0 +1,65 @@
+package com.wallet.presentation.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.wallet.application.dtos.UsuarioDTO;
+import com.wallet.application.dtos.requests.CrearUsuarioRequest;
+import com.wallet.infrastructure.json.CodificadorJson;
+import com.wallet.infrastructure.services.UsuarioService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoints de usuarios.
+ *
+ * - POST /api/usuarios                 crea un usuario
+ * - GET  /api/usuarios                 lista todos (o ?activos=true)
+ * - GET  /api/usuarios?email=...       busca por email
+ * - GET  /api/usuarios/{id}            busca por ID
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+class ManejadorUsuarios extends ManejadorBase {
+
+    static final String PREFIJO = "/api/usuarios";
+
+    private final UsuarioService usuarioService;
+
+    ManejadorUsuarios(UsuarioService usuarioService, int maxBytesCuerpo) {
+        super(PREFIJO, maxBytesCuerpo);
+        this.usuarioService = usuarioService;
+    }
+
+    @Override
+    protected Respuesta atender(String metodo, String[] segmentos, HttpExchange exchange) throws IOException {
+        if (segmentos.length == 0 && "POST".equals(metodo)) {
+            CrearUsuarioRequest request = CodificadorJson.leerCrearUsuarioRequest(leerJson(exchange));
+            UsuarioDTO usuario = usuarioService.crearUsuario(request);
+            return creado(json -> CodificadorJson.escribir(json, usuario));
+        }
+        if (!"GET".equals(metodo)) {
+            throw ErrorHttp.metodoNoPermitido(metodo);
+        }
+        if (segmentos.length == 0) {
+            Map<String, String> parametros = parametros(exchange);
+            String email = parametros.get("email");
+            if (email != null) {
+                UsuarioDTO usuario = usuarioService.buscarPorEmail(email)
+                    .orElseThrow(() -> ErrorHttp.noEncontrado(PREFIJO + "?email=" + email));
+                return ok(json -> CodificadorJson.escribir(json, usuario));
+            }
+            List<UsuarioDTO> usuarios = Boolean.parseBoolean(parametros.get("activos"))
+                ? usuarioService.obtenerUsuariosActivos()
+                : usuarioService.obtenerTodos();
+            return ok(json -> CodificadorJson.escribirUsuarios(json, usuarios));
+        }
+        if (segmentos.length == 1) {
+            UsuarioDTO usuario = usuarioService.buscarPorId(segmentos[0])
+                .orElseThrow(() -> ErrorHttp.noEncontrado(PREFIJO + "/" + segmentos[0]));
+            return ok(json -> CodificadorJson.escribir(json, usuario));
+        }
+        throw ErrorHttp.noEncontrado(exchange.getRequestURI().getPath());
+    }
+}
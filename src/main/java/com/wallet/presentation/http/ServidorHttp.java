@@ -0,0 +1,139 @@
+package com.wallet.presentation.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wallet.infrastructure.json.JsonEscritor;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.services.CuentaService;
+import com.wallet.infrastructure.services.TransaccionService;
+import com.wallet.infrastructure.services.UsuarioService;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor HTTP/JSON embebido sobre {@link HttpServer} del JDK.
+ *
+ * Cada solicitud se atiende en su propio hilo virtual, por lo que las
+ * operaciones bloqueantes de los servicios no limitan la concurrencia.
+ * Las conexiones HTTP/1.1 se mantienen abiertas (keep-alive) mientras el
+ * cliente las reutilice, el cuerpo de las solicitudes tiene un tamaño máximo
+ * y el cierre espera a que terminen las solicitudes en curso.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+public class ServidorHttp {
+
+    private static final byte[] ESTADO = JsonEscritor.nombre("estado");
+
+    private final ConfiguracionServidorHttp configuracion;
+    private final UsuarioService usuarioService;
+    private final CuentaService cuentaService;
+    private final TransaccionService transaccionService;
+
+    private HttpServer servidor;
+    private ExecutorService ejecutor;
+
+    public ServidorHttp(ConfiguracionServidorHttp configuracion, UsuarioService usuarioService,
+                        CuentaService cuentaService, TransaccionService transaccionService) {
+        if (configuracion == null) {
+            throw new IllegalArgumentException("La configuración no puede ser nula");
+        }
+        if (usuarioService == null || cuentaService == null || transaccionService == null) {
+            throw new IllegalArgumentException("Los servicios no pueden ser nulos");
+        }
+        this.configuracion = configuracion;
+        this.usuarioService = usuarioService;
+        this.cuentaService = cuentaService;
+        this.transaccionService = transaccionService;
+    }
+
+    /**
+     * Inicia el servidor y comienza a aceptar conexiones.
+     *
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public synchronized void iniciar() throws IOException {
+        if (servidor != null) {
+            throw new IllegalStateException("El servidor ya está iniciado");
+        }
+        configurarKeepAlive();
+
+        int maxCuerpo = configuracion.getMaxBytesCuerpo();
+        HttpServer nuevo = HttpServer.create(
+            new InetSocketAddress(configuracion.getPuerto()), configuracion.getBacklog());
+        nuevo.createContext(ManejadorUsuarios.PREFIJO, new ManejadorUsuarios(usuarioService, maxCuerpo));
+        nuevo.createContext(ManejadorCuentas.PREFIJO, new ManejadorCuentas(cuentaService, maxCuerpo));
+        nuevo.createContext(ManejadorTransacciones.PREFIJO,
+            new ManejadorTransacciones(transaccionService, maxCuerpo));
+        nuevo.createContext("/api/salud", new ManejadorBase("/api/salud", maxCuerpo) {
+            @Override
+            protected Respuesta atender(String metodo, String[] segmentos, HttpExchange exchange) {
+                return ok(json -> json.inicioObjeto().campo(ESTADO).valor("UP").finObjeto());
+            }
+        });
+
+        this.ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+        nuevo.setExecutor(ejecutor);
+        nuevo.start();
+        this.servidor = nuevo;
+
+        Logger.info("Servidor HTTP escuchando en el puerto {}", getPuerto());
+    }
+
+    /**
+     * Detiene el servidor de forma ordenada: deja de aceptar conexiones y
+     * espera hasta la configuración de cierre a que terminen las solicitudes en curso.
+     */
+    public synchronized void detener() {
+        if (servidor == null) {
+            return;
+        }
+        int espera = configuracion.getSegundosEsperaCierre();
+        Logger.info("Deteniendo servidor HTTP (espera máxima {} s)", espera);
+        servidor.stop(espera);
+        ejecutor.shutdown();
+        try {
+            if (!ejecutor.awaitTermination(espera, TimeUnit.SECONDS)) {
+                ejecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ejecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        servidor = null;
+        ejecutor = null;
+        Logger.info("Servidor HTTP detenido");
+    }
+
+    /**
+     * Puerto efectivo en que escucha el servidor (útil si se configuró el puerto 0).
+     */
+    public synchronized int getPuerto() {
+        if (servidor == null) {
+            throw new IllegalStateException("El servidor no está iniciado");
+        }
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * El HttpServer del JDK lee estos parámetros una sola vez, al cargarse;
+     * solo se fijan si el usuario no los definió por línea de comandos.
+     */
+    private void configurarKeepAlive() {
+        fijarSiAusente("sun.net.httpserver.idleInterval",
+            String.valueOf(configuracion.getSegundosInactividad()));
+        fijarSiAusente("sun.net.httpserver.maxIdleConnections",
+            String.valueOf(configuracion.getMaxConexionesInactivas()));
+    }
+
+    private static void fijarSiAusente(String propiedad, String valor) {
+        if (System.getProperty(propiedad) == null) {
+            System.setProperty(propiedad, valor);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * API HTTP/JSON embebida para clientes concurrentes.
+ *
+ * Este paquete expone los servicios de usuarios, cuentas y transacciones
+ * mediante el servidor HTTP incluido en el JDK, atendiendo cada solicitud
+ * en un hilo virtual. Es una alternativa a los menús de consola para
+ * integraciones y clientes remotos.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.presentation.http;
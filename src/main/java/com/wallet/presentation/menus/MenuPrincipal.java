@@ -24,11 +24,16 @@ public class MenuPrincipal {
     private boolean salir = false;
     
     public MenuPrincipal() {
-        // Inicializar servicios
-        UsuarioService usuarioService = new UsuarioService();
-        CuentaService cuentaService = new CuentaService();
-        TransaccionService transaccionService = new TransaccionService();
-        
+        this(new UsuarioService(), new CuentaService(), new TransaccionService());
+    }
+    
+    /**
+     * @param usuarioService servicio de usuarios
+     * @param cuentaService servicio de cuentas, con el ejecutor de la aplicación
+     * @param transaccionService servicio de transacciones, con el mismo ejecutor
+     */
+    public MenuPrincipal(UsuarioService usuarioService, CuentaService cuentaService,
+                         TransaccionService transaccionService) {
         // Inicializar controladores
         this.usuarioController = new UsuarioController(usuarioService);
         this.cuentaController = new CuentaController(cuentaService);
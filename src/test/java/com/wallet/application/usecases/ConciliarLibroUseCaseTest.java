@@ -0,0 +1,102 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.DiferenciaConciliacionDTO;
+import com.wallet.application.dtos.ResultadoConciliacionDTO;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para ConciliarLibroUseCase.
+ */
+@DisplayName("ConciliarLibroUseCase Tests")
+class ConciliarLibroUseCaseTest {
+    
+    private CuentaRepositoryInMemory cuentaRepository;
+    private TransaccionRepositoryInMemory transaccionRepository;
+    private ConciliarLibroUseCase useCase;
+    private TransferirDineroUseCase transferir;
+    private Cuenta origen;
+    private Cuenta destino;
+    private final List<DiferenciaConciliacionDTO> diferencias = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        cuentaRepository = new CuentaRepositoryInMemory();
+        transaccionRepository = new TransaccionRepositoryInMemory();
+        useCase = new ConciliarLibroUseCase(cuentaRepository, transaccionRepository);
+        transferir = new TransferirDineroUseCase(cuentaRepository, transaccionRepository);
+        
+        origen = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        destino = cuentaRepository.guardar(new Cuenta("usuario-2"));
+        new DepositarDineroUseCase(cuentaRepository, transaccionRepository)
+            .ejecutar(new DepositarDineroRequest(origen.getId(), new BigDecimal("1000"), "Inicial"));
+    }
+    
+    @Test
+    @DisplayName("Debe conciliar un libro consistente sin diferencias")
+    void libroConsistente() {
+        transferir.ejecutar(new TransferirDineroRequest(
+            origen.getId(), destino.getId(), new BigDecimal("300"), "Pago"));
+        TransferirDineroRequest revertida = new TransferirDineroRequest(
+            origen.getId(), destino.getId(), new BigDecimal("50"), "Pago");
+        transferir.debitar(revertida);
+        transferir.revertirDebito(revertida, "cuenta destino inactiva");
+        
+        ResultadoConciliacionDTO resultado = useCase.ejecutar(diferencias::add);
+        
+        assertTrue(resultado.isConciliado(), () -> diferencias.toString());
+        assertEquals(2, resultado.getCuentasRevisadas());
+        assertEquals(5, resultado.getTransaccionesRevisadas());
+    }
+    
+    @Test
+    @DisplayName("Debe informar saldos que no coinciden con el historial")
+    void saldoSinTransaccion() {
+        destino.depositar(Dinero.de("10"));
+        
+        ResultadoConciliacionDTO resultado = useCase.ejecutar(diferencias::add);
+        
+        assertEquals(1, resultado.getDiferencias());
+        assertEquals(destino.getId(), diferencias.get(0).getCuentaId());
+        assertEquals(DiferenciaConciliacionDTO.SALDO, diferencias.get(0).getTipo());
+    }
+    
+    @Test
+    @DisplayName("Debe informar transferencias enviadas sin recepción")
+    void transferenciaSinRecepcion() {
+        transferir.debitar(new TransferirDineroRequest(
+            origen.getId(), destino.getId(), new BigDecimal("200"), "Pago"));
+        
+        ResultadoConciliacionDTO resultado = useCase.ejecutar(diferencias::add);
+        
+        assertEquals(1, resultado.getDiferencias());
+        assertEquals(origen.getId(), diferencias.get(0).getCuentaId());
+        assertEquals(DiferenciaConciliacionDTO.TRANSFERENCIA, diferencias.get(0).getTipo());
+    }
+    
+    @Test
+    @DisplayName("Debe informar transacciones de cuentas inexistentes")
+    void cuentaInexistente() {
+        transaccionRepository.guardar(Transaccion.deposito(
+            Dinero.de("5"), "fantasma", "Depósito", Dinero.CERO, Dinero.de("5")));
+        
+        useCase.ejecutar(diferencias::add);
+        
+        assertEquals(1, diferencias.size());
+        assertEquals(DiferenciaConciliacionDTO.CUENTA_INEXISTENTE, diferencias.get(0).getTipo());
+    }
+}
@@ -0,0 +1,147 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.PagoMasivoDTO;
+import com.wallet.application.dtos.ResultadoPagoDTO;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.DestinoPagoRequest;
+import com.wallet.application.dtos.requests.PagoMasivoRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.SaldoInsuficienteException;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para RealizarPagoMasivoUseCase.
+ */
+@DisplayName("RealizarPagoMasivoUseCase Tests")
+class RealizarPagoMasivoUseCaseTest {
+
+    private CuentaRepositoryInMemory cuentaRepository;
+    private TransaccionRepositoryInMemory transaccionRepository;
+    private RealizarPagoMasivoUseCase useCase;
+    private Cuenta origen;
+
+    @BeforeEach
+    void setUp() {
+        cuentaRepository = new CuentaRepositoryInMemory();
+        transaccionRepository = new TransaccionRepositoryInMemory();
+        useCase = new RealizarPagoMasivoUseCase(cuentaRepository, transaccionRepository);
+
+        origen = cuentaRepository.guardar(new Cuenta("marketplace"));
+        new DepositarDineroUseCase(cuentaRepository, transaccionRepository)
+            .ejecutar(new DepositarDineroRequest(origen.getId(), new BigDecimal("100000"), "Inicial"));
+    }
+
+    private List<Cuenta> crearDestinos(int cantidad) {
+        List<Cuenta> destinos = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            destinos.add(cuentaRepository.guardar(new Cuenta("vendedor-" + i)));
+        }
+        return destinos;
+    }
+
+    @Test
+    @DisplayName("Debe pagar a todos los destinatarios en varios lotes")
+    void pagoEnVariosLotes() {
+        List<Cuenta> destinos = crearDestinos(RealizarPagoMasivoUseCase.TAMANIO_LOTE * 2 + 10);
+        List<DestinoPagoRequest> pagos = new ArrayList<>();
+        for (Cuenta destino : destinos) {
+            pagos.add(new DestinoPagoRequest(destino.getId(), new BigDecimal("10")));
+        }
+
+        PagoMasivoDTO pago = useCase.ejecutar(new PagoMasivoRequest(origen.getId(), "Liquidación", pagos));
+
+        assertEquals(destinos.size(), pago.getPagados());
+        assertEquals(0, pago.getRechazados());
+        assertEquals(1, pago.getTransaccionOrigenIds().size());
+        assertEquals(0, new BigDecimal("5220").compareTo(pago.getMontoPagado()));
+        assertEquals(Dinero.de("94780"), origen.getSaldo());
+        for (Cuenta destino : destinos) {
+            assertEquals(Dinero.de("10"), destino.getSaldo());
+        }
+        assertEquals(2, transaccionRepository.ultimaSecuencia(origen.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar solo los destinatarios que no pueden recibir")
+    void rechazosIndividuales() {
+        List<Cuenta> destinos = crearDestinos(2);
+        destinos.get(1).desactivar();
+        List<DestinoPagoRequest> pagos = List.of(
+            new DestinoPagoRequest(destinos.get(0).getId(), new BigDecimal("100")),
+            new DestinoPagoRequest(destinos.get(1).getId(), new BigDecimal("200")),
+            new DestinoPagoRequest("no-existe", new BigDecimal("300")),
+            new DestinoPagoRequest(destinos.get(0).getId(), new BigDecimal("50")));
+
+        PagoMasivoDTO pago = useCase.ejecutar(new PagoMasivoRequest(origen.getId(), "Liquidación", pagos));
+
+        List<ResultadoPagoDTO> resultados = pago.getResultados();
+        assertTrue(resultados.get(0).isPagado());
+        assertNotNull(resultados.get(0).getTransaccionId());
+        assertEquals(ResultadoPagoDTO.RECHAZADO, resultados.get(1).getEstado());
+        assertEquals(ResultadoPagoDTO.RECHAZADO, resultados.get(2).getEstado());
+        assertEquals(ResultadoPagoDTO.RECHAZADO, resultados.get(3).getEstado());
+        assertEquals(Dinero.de("99900"), origen.getSaldo());
+        assertEquals(Dinero.CERO, destinos.get(1).getSaldo());
+    }
+
+    @Test
+    @DisplayName("Debe registrar los saldos reales del origen aunque otra operación se intercale")
+    void operacionIntercalada() {
+        List<Cuenta> destinos = crearDestinos(2);
+        destinos.get(1).desactivar();
+        List<DestinoPagoRequest> pagos = List.of(
+            new DestinoPagoRequest(destinos.get(0).getId(), new BigDecimal("100")),
+            new DestinoPagoRequest(destinos.get(1).getId(), new BigDecimal("200")));
+
+        RealizarPagoMasivoUseCase.Reserva reserva =
+            useCase.reservar(new PagoMasivoRequest(origen.getId(), "Liquidación", pagos));
+        new DepositarDineroUseCase(cuentaRepository, transaccionRepository)
+            .ejecutar(new DepositarDineroRequest(origen.getId(), new BigDecimal("50"), "Intercalado"));
+        useCase.acreditar(reserva, new int[] {0, 1});
+        PagoMasivoDTO pago = useCase.liquidar(reserva);
+
+        assertEquals(2, pago.getTransaccionOrigenIds().size());
+        assertEquals(Dinero.de("99950"), origen.getSaldo());
+        List<Transaccion> libro = transaccionRepository.buscarPorCuentaDesdeSecuencia(origen.getId(), 0, 10);
+        assertEquals(4, libro.size());
+        for (int i = 1; i < libro.size(); i++) {
+            assertEquals(libro.get(i - 1).getSaldoNuevo(), libro.get(i).getSaldoAnterior());
+        }
+        assertEquals(origen.getSaldo(), libro.get(libro.size() - 1).getSaldoNuevo());
+
+        Transaccion abono = transaccionRepository.buscarPorId(pago.getResultados().get(0).getTransaccionId()).get();
+        assertEquals(TipoTransaccion.ABONO, abono.getTipo());
+        assertEquals(destinos.get(0).getId(), abono.getCuentaOrigenId());
+        assertEquals(origen.getId(), abono.getCuentaDestinoId());
+        assertEquals(Dinero.de("100"), abono.getSaldoNuevo());
+    }
+
+    @Test
+    @DisplayName("No debe pagar a nadie si el origen no cubre el total")
+    void origenSinSaldo() {
+        List<Cuenta> destinos = crearDestinos(2);
+        List<DestinoPagoRequest> pagos = List.of(
+            new DestinoPagoRequest(destinos.get(0).getId(), new BigDecimal("60000")),
+            new DestinoPagoRequest(destinos.get(1).getId(), new BigDecimal("60000")));
+
+        assertThrows(SaldoInsuficienteException.class,
+            () -> useCase.ejecutar(new PagoMasivoRequest(origen.getId(), "Liquidación", pagos)));
+
+        assertEquals(Dinero.de("100000"), origen.getSaldo());
+        assertEquals(Dinero.CERO, destinos.get(0).getSaldo());
+        assertEquals(1, transaccionRepository.ultimaSecuencia(origen.getId()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.PartidaAsientoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.exceptions.SaldoInsuficienteException;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para RegistrarAsientoUseCase.
+ */
+@DisplayName("RegistrarAsientoUseCase Tests")
+class RegistrarAsientoUseCaseTest {
+
+    private CuentaRepositoryInMemory cuentaRepository;
+    private TransaccionRepositoryInMemory transaccionRepository;
+    private RegistrarAsientoUseCase useCase;
+    private Cuenta pagador;
+    private Cuenta comercio;
+    private Cuenta comisiones;
+
+    @BeforeEach
+    void setUp() {
+        cuentaRepository = new CuentaRepositoryInMemory();
+        transaccionRepository = new TransaccionRepositoryInMemory();
+        useCase = new RegistrarAsientoUseCase(cuentaRepository, transaccionRepository);
+
+        pagador = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        comercio = cuentaRepository.guardar(new Cuenta("usuario-2"));
+        comisiones = cuentaRepository.guardar(new Cuenta("usuario-3"));
+        new DepositarDineroUseCase(cuentaRepository, transaccionRepository)
+            .ejecutar(new DepositarDineroRequest(pagador.getId(), new BigDecimal("100"), "Inicial"));
+    }
+
+    private RegistrarAsientoRequest pago(String total, String neto, String comision) {
+        return new RegistrarAsientoRequest("Pago con comisión", List.of(
+            new PartidaAsientoRequest(pagador.getId(), new BigDecimal(total).negate()),
+            new PartidaAsientoRequest(comercio.getId(), new BigDecimal(neto)),
+            new PartidaAsientoRequest(comisiones.getId(), new BigDecimal(comision))));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar todas las partidas de un pago dividido")
+    void pagoDividido() {
+        AsientoDTO asiento = useCase.ejecutar(pago("60", "58", "2"));
+
+        assertEquals(3, asiento.getTramos().size());
+        assertEquals(Dinero.de("40"), pagador.getSaldo());
+        assertEquals(Dinero.de("58"), comercio.getSaldo());
+        assertEquals(Dinero.de("2"), comisiones.getSaldo());
+        assertTrue(transaccionRepository.buscarAsiento(asiento.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Debe mostrar cada partida en el historial de su cuenta")
+    void partidasEnHistorial() {
+        useCase.ejecutar(pago("60", "58", "2"));
+
+        List<Transaccion> delPagador = transaccionRepository.buscarPorCuentaId(pagador.getId());
+        assertEquals(2, delPagador.size());
+        assertEquals(TipoTransaccion.CARGO, delPagador.get(0).getTipo());
+        assertEquals(Dinero.de("60"), delPagador.get(0).getMonto());
+
+        List<Transaccion> delComercio = transaccionRepository.buscarPorCuentaId(comercio.getId());
+        assertEquals(1, delComercio.size());
+        assertEquals(TipoTransaccion.ABONO, delComercio.get(0).getTipo());
+        assertEquals(2, transaccionRepository.ultimaSecuencia(pagador.getId()));
+    }
+
+    @Test
+    @DisplayName("No debe aplicar nada si el asiento no cuadra")
+    void asientoDescuadrado() {
+        assertThrows(OperacionNoValidaException.class, () -> useCase.ejecutar(pago("60", "58", "3")));
+
+        assertEquals(Dinero.de("100"), pagador.getSaldo());
+        assertEquals(Dinero.CERO, comercio.getSaldo());
+        assertEquals(0, transaccionRepository.ultimaSecuencia(comercio.getId()));
+    }
+
+    @Test
+    @DisplayName("No debe aplicar nada si una cuenta debitada no tiene saldo")
+    void saldoInsuficiente() {
+        assertThrows(SaldoInsuficienteException.class, () -> useCase.ejecutar(pago("150", "148", "2")));
+
+        assertEquals(Dinero.de("100"), pagador.getSaldo());
+        assertEquals(Dinero.CERO, comercio.getSaldo());
+        assertEquals(Dinero.CERO, comisiones.getSaldo());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una cuenta repetida")
+    void cuentaRepetida() {
+        RegistrarAsientoRequest request = new RegistrarAsientoRequest("Repetida", List.of(
+            new PartidaAsientoRequest(pagador.getId(), new BigDecimal("-10")),
+            new PartidaAsientoRequest(pagador.getId(), new BigDecimal("10"))));
+
+        assertThrows(OperacionNoValidaException.class, () -> useCase.ejecutar(request));
+    }
+}
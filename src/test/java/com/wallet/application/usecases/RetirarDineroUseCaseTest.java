@@ -6,6 +6,7 @@ import com.wallet.domain.entities.Cuenta;
 import com.wallet.domain.entities.Transaccion;
 import com.wallet.domain.entities.Usuario;
 import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.LimiteExcedidoException;
 import com.wallet.domain.exceptions.OperacionNoValidaException;
 import com.wallet.domain.repositories.ICuentaRepository;
 import com.wallet.domain.repositories.ITransaccionRepository;
@@ -13,11 +14,15 @@ import com.wallet.domain.valueobjects.Dinero;
 import com.wallet.domain.valueobjects.DocumentoIdentidad;
 import com.wallet.domain.valueobjects.DocumentoIdentidad.TipoDocumento;
 import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.LimiteVelocidad;
+import com.wallet.domain.valueobjects.NivelCuenta;
+import com.wallet.infrastructure.repositories.LimitesVelocidadRepositoryInMemory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -102,4 +107,44 @@ class RetirarDineroUseCaseTest {
         // Act & Assert
         assertThrows(CuentaNoEncontradaException.class, () -> useCase.ejecutar(request));
     }
+    
+    @Test
+    @DisplayName("Debe rechazar el retiro que supera el límite de velocidad")
+    void debeRechazarRetiroSobreLimite() {
+        // Arrange
+        LimitesVelocidadRepositoryInMemory limites = new LimitesVelocidadRepositoryInMemory();
+        limites.configurar(NivelCuenta.ESTANDAR, LimiteVelocidad.de(1, null, Duration.ofHours(1)));
+        RetirarDineroUseCase limitado = new RetirarDineroUseCase(cuentaRepository, transaccionRepository, limites);
+        when(cuentaRepository.buscarPorId(cuenta.getId())).thenReturn(Optional.of(cuenta));
+        when(cuentaRepository.guardar(any(Cuenta.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transaccionRepository.guardar(any(Transaccion.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        limitado.ejecutar(new RetirarDineroRequest(cuenta.getId(), new BigDecimal("100.00"), "Primero"));
+        
+        // Act & Assert
+        assertThrows(LimiteExcedidoException.class, () -> limitado.ejecutar(
+            new RetirarDineroRequest(cuenta.getId(), new BigDecimal("100.00"), "Segundo")));
+        assertEquals(Dinero.de("900.00"), cuenta.getSaldo());
+        verify(transaccionRepository, times(1)).guardar(any(Transaccion.class));
+    }
+    
+    @Test
+    @DisplayName("No debe contar para el límite un retiro con saldo insuficiente")
+    void noDebeContarRetiroFallido() {
+        // Arrange
+        LimitesVelocidadRepositoryInMemory limites = new LimitesVelocidadRepositoryInMemory();
+        limites.configurar(NivelCuenta.ESTANDAR, LimiteVelocidad.de(1, null, Duration.ofHours(1)));
+        RetirarDineroUseCase limitado = new RetirarDineroUseCase(cuentaRepository, transaccionRepository, limites);
+        when(cuentaRepository.buscarPorId(cuenta.getId())).thenReturn(Optional.of(cuenta));
+        when(cuentaRepository.guardar(any(Cuenta.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transaccionRepository.guardar(any(Transaccion.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        assertThrows(IllegalStateException.class, () -> limitado.ejecutar(
+            new RetirarDineroRequest(cuenta.getId(), new BigDecimal("5000.00"), "Sin saldo")));
+        
+        // Act
+        TransaccionDTO resultado = limitado.ejecutar(
+            new RetirarDineroRequest(cuenta.getId(), new BigDecimal("100.00"), "Con saldo"));
+        
+        // Assert
+        assertEquals("RETIRO", resultado.getTipo());
+    }
 }
@@ -0,0 +1,79 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.LimiteVelocidad;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.LimitesVelocidadRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para TransferirDineroUseCase.
+ */
+@DisplayName("TransferirDineroUseCase Tests")
+class TransferirDineroUseCaseTest {
+
+    private CuentaRepositoryInMemory cuentaRepository;
+    private TransaccionRepositoryInMemory transaccionRepository;
+    private TransferirDineroUseCase useCase;
+    private Cuenta origen;
+    private Cuenta destino;
+
+    @BeforeEach
+    void setUp() {
+        cuentaRepository = new CuentaRepositoryInMemory();
+        transaccionRepository = new TransaccionRepositoryInMemory();
+        origen = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        destino = cuentaRepository.guardar(new Cuenta("usuario-2"));
+        new DepositarDineroUseCase(cuentaRepository, transaccionRepository)
+            .ejecutar(new DepositarDineroRequest(origen.getId(), new BigDecimal("100"), "Inicial"));
+
+        LimitesVelocidadRepositoryInMemory limites = new LimitesVelocidadRepositoryInMemory();
+        limites.configurar(origen.getNivel(), LimiteVelocidad.de(1, null, Duration.ofHours(1)));
+        useCase = new TransferirDineroUseCase(cuentaRepository, transaccionRepository, limites);
+    }
+
+    @Test
+    @DisplayName("Debe transferir entre cuentas activas")
+    void debeTransferir() {
+        assertEquals(2, useCase.ejecutar(
+            new TransferirDineroRequest(origen.getId(), destino.getId(), new BigDecimal("30"), null)).size());
+
+        assertEquals(Dinero.de("70"), origen.getSaldo());
+        assertEquals(Dinero.de("30"), destino.getSaldo());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la transferencia a una cuenta inactiva sin debitar el origen")
+    void debeRechazarDestinoInactivo() {
+        destino.desactivar();
+        cuentaRepository.guardar(destino);
+        TransferirDineroRequest request =
+            new TransferirDineroRequest(origen.getId(), destino.getId(), new BigDecimal("30"), null);
+
+        assertThrows(OperacionNoValidaException.class, () -> useCase.ejecutar(request));
+
+        assertEquals(Dinero.de("100"), origen.getSaldo());
+        assertEquals(Dinero.de("0"), destino.getSaldo());
+        assertTrue(transaccionRepository.buscarPorCuentaIdYTipo(
+            origen.getId(), TipoTransaccion.TRANSFERENCIA_ENVIADA).isEmpty());
+
+        // La operación rechazada no gasta el límite de velocidad del origen
+        destino.activar();
+        cuentaRepository.guardar(destino);
+        useCase.ejecutar(request);
+        assertEquals(Dinero.de("70"), origen.getSaldo());
+    }
+}
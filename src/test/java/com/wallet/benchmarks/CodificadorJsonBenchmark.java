@@ -0,0 +1,120 @@
+package com.wallet.benchmarks;
+
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.infrastructure.json.CodificadorJson;
+import com.wallet.infrastructure.json.JsonEscritor;
+import com.wallet.infrastructure.json.JsonLector;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Benchmark del codificador JSON frente a un enfoque ingenuo basado en toString.
+ *
+ * El enfoque ingenuo concatena Strings con BigDecimal.toPlainString() y
+ * LocalDateTime.toString() y convierte a bytes al final; para leer, decodifica
+ * a String, busca cada campo con indexOf y usa new BigDecimal(String) y
+ * LocalDateTime.parse. Reporta nanosegundos y bytes asignados por operación.
+ *
+ * Uso: CodificadorJsonBenchmark [iteraciones=2000000]
+ */
+public class CodificadorJsonBenchmark {
+
+    private static volatile int sumidero;
+
+    public static void main(String[] args) {
+        int iteraciones = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        TransaccionDTO dto = new TransaccionDTO("7f3c1a2e-9b4d-4c1e-8a55-0d2b6e9f1c34",
+            "2b9d5e41-1c3f-4a77-9e20-5f6a8b7c9d01", "TRANSFERENCIA_ENVIADA", new BigDecimal("1520.75"), "USD",
+            "Pago de alquiler", LocalDateTime.of(2024, 6, 15, 10, 42, 7, 318_000_000),
+            "e4a1c9b2-3d5f-4e6a-b7c8-9d0e1f2a3b4c");
+
+        JsonEscritor escritor = new JsonEscritor();
+        CodificadorJson.escribir(escritor, dto);
+        byte[] json = escritor.toByteArray();
+        JsonLector lector = new JsonLector(json);
+
+        IntUnaryOperator codecEscritura = i -> {
+            CodificadorJson.escribir(escritor.reiniciar(), dto);
+            return escritor.getLongitud();
+        };
+        IntUnaryOperator ingenuoEscritura = i -> escribirIngenuo(dto).length;
+        IntUnaryOperator codecLectura = i -> CodificadorJson.leerTransaccion(
+            lector.reiniciar(json, 0, json.length)).getMonto().scale();
+        IntUnaryOperator ingenuoLectura = i -> leerIngenuo(json).getMonto().scale();
+
+        System.out.printf("Documento de %d bytes, %,d iteraciones%n", json.length, iteraciones);
+        medir("escritura codec", codecEscritura, iteraciones);
+        medir("escritura toString", ingenuoEscritura, iteraciones);
+        medir("lectura codec", codecLectura, iteraciones);
+        medir("lectura toString", ingenuoLectura, iteraciones);
+    }
+
+    private static void medir(String nombre, IntUnaryOperator operacion, int iteraciones) {
+        for (int i = 0; i < iteraciones / 4; i++) {
+            sumidero += operacion.applyAsInt(i);
+        }
+        com.sun.management.ThreadMXBean hilos =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long hilo = Thread.currentThread().threadId();
+        long bytesAntes = hilos.getThreadAllocatedBytes(hilo);
+        long inicio = System.nanoTime();
+        for (int i = 0; i < iteraciones; i++) {
+            sumidero += operacion.applyAsInt(i);
+        }
+        long nanos = System.nanoTime() - inicio;
+        long bytes = hilos.getThreadAllocatedBytes(hilo) - bytesAntes;
+        System.out.printf("%-20s %8.1f ns/op %8.1f bytes/op%n", nombre,
+            (double) nanos / iteraciones, (double) bytes / iteraciones);
+    }
+
+    private static byte[] escribirIngenuo(TransaccionDTO dto) {
+        String json = "{\"id\":\"" + dto.getId() + "\""
+            + ",\"cuentaId\":\"" + dto.getCuentaId() + "\""
+            + ",\"tipo\":\"" + dto.getTipo() + "\""
+            + ",\"monto\":" + dto.getMonto().toPlainString()
+            + ",\"moneda\":\"" + dto.getMoneda() + "\""
+            + ",\"descripcion\":\"" + dto.getDescripcion() + "\""
+            + ",\"fecha\":\"" + dto.getFecha().toString() + "\""
+            + ",\"cuentaDestinoId\":\"" + dto.getCuentaDestinoId() + "\"}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static TransaccionDTO leerIngenuo(byte[] bytes) {
+        String json = new String(bytes, StandardCharsets.UTF_8);
+        TransaccionDTO dto = new TransaccionDTO();
+        dto.setId(texto(json, "id"));
+        dto.setCuentaId(texto(json, "cuentaId"));
+        dto.setTipo(texto(json, "tipo"));
+        dto.setMonto(new BigDecimal(literal(json, "monto")));
+        dto.setMoneda(texto(json, "moneda"));
+        dto.setDescripcion(texto(json, "descripcion"));
+        dto.setFecha(LocalDateTime.parse(texto(json, "fecha")));
+        dto.setCuentaDestinoId(texto(json, "cuentaDestinoId"));
+        return dto;
+    }
+
+    private static String texto(String json, String campo) {
+        String valor = literal(json, campo);
+        return valor.substring(1, valor.length() - 1);
+    }
+
+    private static String literal(String json, String campo) {
+        int inicio = json.indexOf("\"" + campo + "\":") + campo.length() + 3;
+        int fin = inicio;
+        boolean enTexto = false;
+        while (fin < json.length()) {
+            char c = json.charAt(fin);
+            if (c == '"') {
+                enTexto = !enTexto;
+            } else if (!enTexto && (c == ',' || c == '}')) {
+                break;
+            }
+            fin++;
+        }
+        return json.substring(inicio, fin).trim();
+    }
+}
@@ -0,0 +1,72 @@
+package com.wallet.benchmarks;
+
+import com.wallet.application.usecases.ConciliarLibroUseCase;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark de la conciliación paralela del libro.
+ *
+ * Carga un libro consistente (un depósito inicial por cuenta y luego
+ * transferencias aleatorias, cada una con sus dos tramos) directamente en los
+ * repositorios en memoria y mide la conciliación con 1..N hilos. Necesita
+ * heap suficiente: unos 2 GB por cada 5 millones de transacciones.
+ *
+ * Uso: ConciliacionBenchmark [transacciones=2000000] [cuentas=100000]
+ */
+public class ConciliacionBenchmark {
+
+    public static void main(String[] args) {
+        int transacciones = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int cantidadCuentas = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+
+        CuentaRepositoryInMemory cuentaRepo = new CuentaRepositoryInMemory();
+        TransaccionRepositoryInMemory transaccionRepo = new TransaccionRepositoryInMemory();
+        Cuenta[] cuentas = new Cuenta[cantidadCuentas];
+        Dinero inicial = Dinero.de("1000000");
+        for (int i = 0; i < cantidadCuentas; i++) {
+            cuentas[i] = cuentaRepo.guardar(new Cuenta("usuario-" + i));
+            cuentas[i].depositar(inicial);
+            transaccionRepo.guardar(Transaccion.deposito(inicial, cuentas[i].getId(), "Inicial",
+                                                         Dinero.CERO, inicial));
+        }
+        ThreadLocalRandom azar = ThreadLocalRandom.current();
+        Dinero monto = Dinero.de("1");
+        for (int i = cantidadCuentas; i + 1 < transacciones; i += 2) {
+            Cuenta origen = cuentas[azar.nextInt(cantidadCuentas)];
+            Cuenta destino = cuentas[azar.nextInt(cantidadCuentas)];
+            if (origen == destino) {
+                continue;
+            }
+            Dinero antesOrigen = origen.getSaldo();
+            origen.retirar(monto);
+            transaccionRepo.guardar(Transaccion.transferenciaEnviada(monto, origen.getId(), destino.getId(),
+                "Pago", antesOrigen, origen.getSaldo()));
+            Dinero antesDestino = destino.getSaldo();
+            destino.depositar(monto);
+            transaccionRepo.guardar(Transaccion.transferenciaRecibida(monto, destino.getId(), origen.getId(),
+                "Pago", antesDestino, destino.getSaldo()));
+        }
+        System.out.printf("%,d cuentas, %,d transacciones%n", cantidadCuentas, transaccionRepo.contar());
+
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        for (int hilos = 1; hilos <= procesadores; hilos *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            ConciliarLibroUseCase useCase = new ConciliarLibroUseCase(cuentaRepo, transaccionRepo, pool);
+            useCase.ejecutar(d -> { });
+            long mejor = Long.MAX_VALUE;
+            for (int i = 0; i < 3; i++) {
+                mejor = Math.min(mejor, useCase.ejecutar(d -> { }).getDuracionMilis());
+            }
+            System.out.printf("%2d hilos: %,6d ms (%,.0f transacciones/s)%n", hilos, mejor,
+                transaccionRepo.contar() * 1000.0 / Math.max(1, mejor));
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.wallet.benchmarks;
+
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.ejecucion.EjecutorParticionado;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Curva de escalado del ejecutor particionado de 1 a 32 particiones.
+ *
+ * Usa cuentas distribuidas de manera uniforme y una mezcla de depósitos y
+ * transferencias (la mayoría entre particiones distintas). Varios hilos
+ * productores publican con una ventana de futuros pendientes para mantener
+ * ocupadas a todas las particiones. Reporta operaciones por segundo.
+ *
+ * La curva solo refleja el escalado si la máquina tiene al menos tantos
+ * núcleos como particiones; con menos núcleos los hilos se reparten el tiempo.
+ *
+ * Uso: EjecutorParticionadoBenchmark [operaciones=400000] [cuentas=10000] [productores=4]
+ */
+public class EjecutorParticionadoBenchmark {
+
+    private static final int VENTANA = 512;
+    private static final int PORCENTAJE_TRANSFERENCIAS = 50;
+
+    public static void main(String[] args) throws Exception {
+        int operaciones = args.length > 0 ? Integer.parseInt(args[0]) : 400_000;
+        int cantidadCuentas = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int productores = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        System.out.printf("%,d operaciones, %,d cuentas, %d productores, %d núcleos%n",
+            operaciones, cantidadCuentas, productores, Runtime.getRuntime().availableProcessors());
+        // Vuelta de calentamiento descartada
+        medir(4, operaciones / 4, cantidadCuentas, productores);
+        double base = 0;
+        for (int particiones = 1; particiones <= 32; particiones <<= 1) {
+            double porSegundo = medir(particiones, operaciones, cantidadCuentas, productores);
+            if (particiones == 1) {
+                base = porSegundo;
+            }
+            System.out.printf("%2d particiones: %,12.0f ops/s  (x%.2f)%n", particiones, porSegundo, porSegundo / base);
+        }
+    }
+
+    private static double medir(int particiones, int operaciones, int cantidadCuentas, int productores)
+            throws InterruptedException {
+        CuentaRepositoryInMemory cuentaRepository = new CuentaRepositoryInMemory();
+        TransaccionRepositoryInMemory transaccionRepository = new TransaccionRepositoryInMemory();
+        String[] cuentas = new String[cantidadCuentas];
+        for (int i = 0; i < cantidadCuentas; i++) {
+            cuentas[i] = cuentaRepository.guardar(new Cuenta("usuario-" + i)).getId();
+        }
+        EjecutorParticionado ejecutor = new EjecutorParticionado(cuentaRepository, transaccionRepository,
+            particiones, 4096);
+        ejecutor.iniciar();
+        for (String cuenta : cuentas) {
+            EjecutorOperaciones.esperar(ejecutor.depositar(
+                new DepositarDineroRequest(cuenta, new BigDecimal("1000000"), null)));
+        }
+
+        int porProductor = operaciones / productores;
+        List<Thread> hilos = new ArrayList<>();
+        long inicio = System.nanoTime();
+        for (int p = 0; p < productores; p++) {
+            Thread hilo = new Thread(() -> producir(ejecutor, cuentas, porProductor));
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        long nanos = System.nanoTime() - inicio;
+        ejecutor.cerrar();
+        return porProductor * (double) productores * 1e9 / nanos;
+    }
+
+    private static void producir(EjecutorParticionado ejecutor, String[] cuentas, int operaciones) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        CompletableFuture<?>[] pendientes = new CompletableFuture<?>[VENTANA];
+        for (int i = 0; i < operaciones; i++) {
+            int ranura = i % VENTANA;
+            if (pendientes[ranura] != null) {
+                pendientes[ranura].join();
+            }
+            int origen = aleatorio.nextInt(cuentas.length);
+            if (aleatorio.nextInt(100) < PORCENTAJE_TRANSFERENCIAS) {
+                // Destino uniforme entre las demás cuentas
+                int destino = (origen + 1 + aleatorio.nextInt(cuentas.length - 1)) % cuentas.length;
+                pendientes[ranura] = ejecutor.transferir(
+                    new TransferirDineroRequest(cuentas[origen], cuentas[destino], BigDecimal.ONE, null));
+            } else {
+                pendientes[ranura] = ejecutor.depositar(
+                    new DepositarDineroRequest(cuentas[origen], BigDecimal.ONE, null));
+            }
+        }
+        for (CompletableFuture<?> pendiente : pendientes) {
+            if (pendiente != null) {
+                pendiente.join();
+            }
+        }
+    }
+}
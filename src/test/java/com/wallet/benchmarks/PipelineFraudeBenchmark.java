@@ -0,0 +1,122 @@
+package com.wallet.benchmarks;
+
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.usecases.RetirarDineroUseCase;
+import com.wallet.application.usecases.TransferirDineroUseCase;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.infrastructure.ejecucion.EjecutorDirecto;
+import com.wallet.infrastructure.fraude.PipelineFraude;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de la ruta de escritura con y sin el pipeline de fraude.
+ *
+ * Ejecuta la misma mezcla de retiros y transferencias contra repositorios
+ * nuevos, una vez sin observador y otra con el pipeline registrado, y
+ * reporta percentiles de latencia por operación. El pipeline usa las reglas
+ * por defecto con un umbral inalcanzable, para que puntúe todo sin desactivar
+ * cuentas. Con el pipeline la diferencia debería ser solo el encolado; los
+ * descartados indican que los trabajadores no dieron abasto.
+ *
+ * Uso: PipelineFraudeBenchmark [operaciones=1000000] [cuentas=10000]
+ */
+public class PipelineFraudeBenchmark {
+
+    private static final int PORCENTAJE_TRANSFERENCIAS = 50;
+
+    public static void main(String[] args) throws Exception {
+        int operaciones = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int cantidadCuentas = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+
+        System.out.printf("%,d operaciones, %,d cuentas%n", operaciones, cantidadCuentas);
+        // Vueltas de calentamiento descartadas
+        medir(false, operaciones / 4, cantidadCuentas);
+        medir(true, operaciones / 4, cantidadCuentas);
+        for (int vuelta = 0; vuelta < 2; vuelta++) {
+            medir(false, operaciones, cantidadCuentas).imprimir("sin pipeline");
+            medir(true, operaciones, cantidadCuentas).imprimir("con pipeline");
+        }
+    }
+
+    private static Resultado medir(boolean conPipeline, int operaciones, int cantidadCuentas)
+            throws InterruptedException {
+        CuentaRepositoryInMemory cuentaRepository = new CuentaRepositoryInMemory();
+        TransaccionRepositoryInMemory transaccionRepository = new TransaccionRepositoryInMemory();
+        String[] cuentas = new String[cantidadCuentas];
+        for (int i = 0; i < cantidadCuentas; i++) {
+            Cuenta cuenta = new Cuenta("usuario-" + i);
+            cuenta.depositar(Dinero.de("1000000000"));
+            cuentas[i] = cuentaRepository.guardar(cuenta).getId();
+        }
+        PipelineFraude pipeline = null;
+        if (conPipeline) {
+            pipeline = new PipelineFraude(new EjecutorDirecto(cuentaRepository, transaccionRepository),
+                PipelineFraude.reglasPorDefecto(), Double.MAX_VALUE,
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2), PipelineFraude.CAPACIDAD_POR_DEFECTO);
+            transaccionRepository.agregarObservador(pipeline);
+        }
+        RetirarDineroUseCase retirar = new RetirarDineroUseCase(cuentaRepository, transaccionRepository);
+        TransferirDineroUseCase transferir = new TransferirDineroUseCase(cuentaRepository, transaccionRepository);
+
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        long[] latencias = new long[operaciones];
+        long inicio = System.nanoTime();
+        for (int i = 0; i < operaciones; i++) {
+            int origen = aleatorio.nextInt(cuentas.length);
+            BigDecimal monto = BigDecimal.valueOf(1 + aleatorio.nextInt(100));
+            long antes = System.nanoTime();
+            if (aleatorio.nextInt(100) < PORCENTAJE_TRANSFERENCIAS) {
+                int destino = (origen + 1 + aleatorio.nextInt(cuentas.length - 1)) % cuentas.length;
+                transferir.ejecutar(new TransferirDineroRequest(cuentas[origen], cuentas[destino], monto, null));
+            } else {
+                retirar.ejecutar(new RetirarDineroRequest(cuentas[origen], monto, null));
+            }
+            latencias[i] = System.nanoTime() - antes;
+        }
+        long nanos = System.nanoTime() - inicio;
+
+        Resultado resultado = new Resultado(latencias, operaciones * 1e9 / nanos);
+        if (pipeline != null) {
+            pipeline.esperarPendientes(1, TimeUnit.MINUTES);
+            resultado.encolados = pipeline.getEncolados();
+            resultado.descartados = pipeline.getDescartados();
+            pipeline.cerrar();
+        }
+        return resultado;
+    }
+
+    private static final class Resultado {
+        final long[] latencias;
+        final double porSegundo;
+        long encolados;
+        long descartados;
+
+        Resultado(long[] latencias, double porSegundo) {
+            this.latencias = latencias;
+            this.porSegundo = porSegundo;
+            Arrays.sort(latencias);
+        }
+
+        long percentil(double p) {
+            return latencias[(int) Math.min(latencias.length - 1, Math.round(p * (latencias.length - 1)))];
+        }
+
+        void imprimir(String nombre) {
+            System.out.printf("%-13s %,10.0f ops/s  p50 %,7d ns  p99 %,7d ns  p99.9 %,8d ns  máx %,10d ns",
+                nombre, porSegundo, percentil(0.50), percentil(0.99), percentil(0.999),
+                latencias[latencias.length - 1]);
+            if (encolados + descartados > 0) {
+                System.out.printf("  (encolados %,d, descartados %,d)", encolados, descartados);
+            }
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.wallet.benchmarks;
+
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.UsuarioDTO;
+import com.wallet.application.dtos.requests.CrearUsuarioRequest;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.services.CuentaService;
+import com.wallet.infrastructure.services.TransaccionService;
+import com.wallet.infrastructure.services.UsuarioService;
+import com.wallet.presentation.http.ConfiguracionServidorHttp;
+import com.wallet.presentation.http.ServidorHttp;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark de la API HTTP sobre loopback.
+ *
+ * Abre N conexiones keep-alive concurrentes (una por hilo virtual) y en cada
+ * una envía K consultas de saldo consecutivas, midiendo la latencia de cada
+ * solicitud. Reporta solicitudes por segundo y percentiles de latencia.
+ *
+ * Uso: ServidorHttpBenchmark [conexiones=10000] [solicitudesPorConexion=20]
+ * Con 10k conexiones puede requerir "ulimit -n" mayor a 20000.
+ */
+public class ServidorHttpBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int conexiones = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int porConexion = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Logger.setNivelMinimo(Logger.Nivel.WARNING);
+        UsuarioService usuarioService = new UsuarioService();
+        CuentaService cuentaService = new CuentaService();
+        ServidorHttp servidor = new ServidorHttp(ConfiguracionServidorHttp.porDefecto(0),
+            usuarioService, cuentaService, new TransaccionService());
+        servidor.iniciar();
+
+        UsuarioDTO usuario = usuarioService.crearUsuario(
+            new CrearUsuarioRequest("Bench", "Mark", "bench@email.com", "DNI", "12345678"));
+        CuentaDTO cuenta = cuentaService.crearCuenta(usuario.getId());
+        cuentaService.depositar(new DepositarDineroRequest(cuenta.getId(), new BigDecimal("1000"), "Inicial"));
+
+        byte[] solicitud = ("GET /api/cuentas/" + cuenta.getNumeroCuenta() + " HTTP/1.1\r\n"
+            + "Host: 127.0.0.1\r\nConnection: keep-alive\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        InetSocketAddress destino = new InetSocketAddress("127.0.0.1", servidor.getPuerto());
+
+        long[][] latencias = new long[conexiones][];
+        AtomicInteger errores = new AtomicInteger();
+        CountDownLatch conectados = new CountDownLatch(conexiones);
+        CountDownLatch largada = new CountDownLatch(1);
+        CountDownLatch fin = new CountDownLatch(conexiones);
+
+        try (ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < conexiones; c++) {
+                final int indice = c;
+                clientes.submit(() -> {
+                    long[] propias = new long[porConexion];
+                    int hechas = 0;
+                    try (Socket socket = new Socket()) {
+                        socket.connect(destino, 30_000);
+                        socket.setTcpNoDelay(true);
+                        conectados.countDown();
+                        largada.await();
+                        OutputStream salida = socket.getOutputStream();
+                        InputStream entrada = new BufferedInputStream(socket.getInputStream());
+                        for (; hechas < porConexion; hechas++) {
+                            long inicio = System.nanoTime();
+                            salida.write(solicitud);
+                            salida.flush();
+                            if (leerRespuesta(entrada) != 200) {
+                                errores.incrementAndGet();
+                            }
+                            propias[hechas] = System.nanoTime() - inicio;
+                        }
+                    } catch (Exception | Error e) {
+                        if (errores.getAndIncrement() == 0) {
+                            System.err.println("Primer error: " + e);
+                        }
+                        conectados.countDown();
+                    } finally {
+                        latencias[indice] = Arrays.copyOf(propias, hechas);
+                        fin.countDown();
+                    }
+                    return null;
+                });
+            }
+            conectados.await();
+            long inicio = System.nanoTime();
+            largada.countDown();
+            fin.await();
+            long duracion = System.nanoTime() - inicio;
+            reportar(conexiones, latencias, errores.get(), duracion);
+        } finally {
+            servidor.detener();
+        }
+    }
+
+    private static int leerRespuesta(InputStream entrada) throws IOException {
+        StringBuilder encabezados = new StringBuilder(256);
+        int anterior3 = 0, anterior2 = 0, anterior1 = 0, actual;
+        while ((actual = entrada.read()) != -1) {
+            encabezados.append((char) actual);
+            if (anterior3 == '\r' && anterior2 == '\n' && anterior1 == '\r' && actual == '\n') {
+                break;
+            }
+            anterior3 = anterior2;
+            anterior2 = anterior1;
+            anterior1 = actual;
+        }
+        if (actual == -1) {
+            throw new IOException("Conexión cerrada por el servidor");
+        }
+        String texto = encabezados.toString();
+        int estado = Integer.parseInt(texto.substring(9, 12));
+        int longitud = 0;
+        for (String linea : texto.split("\r\n")) {
+            if (linea.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                longitud = Integer.parseInt(linea.substring(15).trim());
+            }
+        }
+        entrada.readNBytes(longitud);
+        return estado;
+    }
+
+    private static void reportar(int conexiones, long[][] latencias, int errores, long duracionNanos) {
+        long[] todas = Arrays.stream(latencias).flatMapToLong(Arrays::stream).sorted().toArray();
+        double segundos = duracionNanos / 1e9;
+        System.out.printf("Conexiones concurrentes: %d%n", conexiones);
+        System.out.printf("Solicitudes: %d  Errores: %d  Duración: %.2f s%n", todas.length, errores, segundos);
+        System.out.printf("Throughput: %.0f solicitudes/s%n", todas.length / segundos);
+        if (todas.length > 0) {
+            System.out.printf("Latencia p50=%.2f ms p90=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                percentil(todas, 0.50), percentil(todas, 0.90), percentil(todas, 0.99),
+                todas[todas.length - 1] / 1e6);
+        }
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        int indice = (int) Math.min(ordenadas.length - 1, Math.ceil(p * ordenadas.length) - 1);
+        return ordenadas[Math.max(0, indice)] / 1e6;
+    }
+}
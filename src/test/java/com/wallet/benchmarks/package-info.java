@@ -0,0 +1,14 @@
+/**
+ * Benchmarks ejecutables manualmente.
+ *
+ * Este paquete contiene programas con método main que miden rendimiento
+ * (latencia, throughput, asignación) de componentes del sistema. No se
+ * ejecutan con los tests porque sus nombres no terminan en "Test".
+ *
+ * Ejemplo: mvn test-compile y luego
+ * java -cp target/classes:target/test-classes com.wallet.benchmarks.ServidorHttpBenchmark
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.benchmarks;
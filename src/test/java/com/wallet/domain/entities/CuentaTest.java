@@ -146,4 +146,68 @@ class CuentaTest {
         assertThrows(IllegalArgumentException.class, () ->
             new Cuenta(null));
     }
+    
+    @Test
+    void deberiaDescontarRetencionesDelSaldoDisponible() {
+        // Arrange
+        Cuenta cuenta = new Cuenta("usuario-123");
+        cuenta.depositar(Dinero.de(100));
+        
+        // Act
+        cuenta.retener(Dinero.de(70), "Hotel", Long.MAX_VALUE);
+        
+        // Assert
+        assertEquals(Dinero.de(100), cuenta.getSaldo());
+        assertEquals(Dinero.de(30), cuenta.getSaldoDisponible());
+        assertFalse(cuenta.tieneSaldoSuficiente(Dinero.de(31)));
+        assertThrows(IllegalStateException.class, () ->
+            cuenta.retirar(Dinero.de(31)));
+    }
+    
+    @Test
+    void deberiaCapturarParcialmenteYLiberarElResto() {
+        // Arrange
+        Cuenta cuenta = new Cuenta("usuario-123");
+        cuenta.depositar(Dinero.de(100));
+        Retencion retencion = cuenta.retener(Dinero.de(70), "Hotel", Long.MAX_VALUE);
+        
+        // Act
+        cuenta.capturarRetencion(retencion.getId(), Dinero.de(50));
+        
+        // Assert
+        assertEquals(Retencion.Estado.CAPTURADA, retencion.getEstado());
+        assertEquals(Dinero.de(50), cuenta.getSaldo());
+        assertEquals(Dinero.de(50), cuenta.getSaldoDisponible());
+        assertTrue(cuenta.getRetenciones().isEmpty());
+    }
+    
+    @Test
+    void noDeberiaCapturarMasDeLoRetenido() {
+        // Arrange
+        Cuenta cuenta = new Cuenta("usuario-123");
+        cuenta.depositar(Dinero.de(100));
+        Retencion retencion = cuenta.retener(Dinero.de(70), "Hotel", Long.MAX_VALUE);
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            cuenta.capturarRetencion(retencion.getId(), Dinero.de(80)));
+        assertEquals(Dinero.de(30), cuenta.getSaldoDisponible());
+    }
+    
+    @Test
+    void deberiaVencerSoloRetencionesVencidas() {
+        // Arrange
+        Cuenta cuenta = new Cuenta("usuario-123");
+        cuenta.depositar(Dinero.de(100));
+        Retencion retencion = cuenta.retener(Dinero.de(70), "Hotel", 1_000L);
+        
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () ->
+            cuenta.vencerRetencion(retencion.getId(), 999L));
+        cuenta.vencerRetencion(retencion.getId(), 1_000L);
+        assertEquals(Retencion.Estado.VENCIDA, retencion.getEstado());
+        assertEquals(Dinero.de(100), cuenta.getSaldoDisponible());
+        assertThrows(IllegalArgumentException.class, () ->
+            cuenta.liberarRetencion(retencion.getId()));
+    }
 }
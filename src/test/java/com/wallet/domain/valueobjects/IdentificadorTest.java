@@ -0,0 +1,75 @@
+package com.wallet.domain.valueobjects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para Identificador y GeneradorIdsTemporal.
+ */
+@DisplayName("Identificador Tests")
+class IdentificadorTest {
+    
+    @Test
+    @DisplayName("Debe generar ids crecientes en el orden en que se piden")
+    void debeGenerarIdsCrecientes() {
+        GeneradorIdsTemporal generador = new GeneradorIdsTemporal(7);
+        List<String> textos = new ArrayList<>();
+        long anterior = -1;
+        for (int i = 0; i < 20_000; i++) {
+            long id = generador.siguiente();
+            assertTrue(id > anterior);
+            assertEquals(7, GeneradorIdsTemporal.nodo(id));
+            textos.add(Identificador.texto(id));
+            anterior = id;
+        }
+        List<String> ordenados = new ArrayList<>(textos);
+        ordenados.sort(null);
+        assertEquals(textos, ordenados);
+    }
+    
+    @Test
+    @DisplayName("No debe repetir ids entre hilos")
+    void noDebeRepetirEntreHilos() {
+        GeneradorIdsTemporal generador = new GeneradorIdsTemporal(0);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(generador.siguiente()));
+        assertEquals(200_000, ids.size());
+    }
+    
+    @Test
+    @DisplayName("Debe registrar el instante de generación")
+    void debeRegistrarInstante() {
+        long antes = System.currentTimeMillis();
+        long id = new GeneradorIdsTemporal(0).siguiente();
+        assertTrue(Math.abs(GeneradorIdsTemporal.milisegundos(id) - antes) < 1_000);
+    }
+    
+    @Test
+    @DisplayName("Debe convertir entre número y texto")
+    void debeConvertirNumeroYTexto() {
+        for (long id : new long[] {0, 1, 31, 32, Long.MAX_VALUE, -1}) {
+            String texto = Identificador.texto(id);
+            assertEquals(Identificador.LARGO, texto.length());
+            assertEquals(id, Identificador.valor(texto));
+        }
+        assertEquals(Identificador.valor("000000000000Z"), Identificador.valor("000000000000z"));
+        assertThrows(IllegalArgumentException.class, () -> Identificador.valor("no-es-un-id"));
+        assertThrows(IllegalArgumentException.class, () -> Identificador.valor("000000000000U"));
+    }
+    
+    @Test
+    @DisplayName("Debe rechazar nodos fuera de rango")
+    void debeRechazarNodoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> new GeneradorIdsTemporal(-1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GeneradorIdsTemporal(GeneradorIdsTemporal.NODO_MAXIMO + 1));
+    }
+}
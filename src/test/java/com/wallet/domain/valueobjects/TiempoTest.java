@@ -0,0 +1,95 @@
+package com.wallet.domain.valueobjects;
+
+import com.wallet.domain.entities.Transaccion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para Tiempo y los relojes de las entidades.
+ */
+@DisplayName("Tiempo Tests")
+class TiempoTest {
+    
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 3, 1, 10, 0, 0, 123_456_789);
+    
+    @AfterEach
+    void restaurarReloj() {
+        Tiempo.usarReloj(new RelojCacheado());
+    }
+    
+    @Test
+    @DisplayName("Debe convertir fechas a nanosegundos y de vuelta sin pérdida")
+    void debeConvertirSinPerdida() {
+        assertEquals(INICIO, Tiempo.aFecha(Tiempo.aNanos(INICIO)));
+    }
+    
+    @Test
+    @DisplayName("El reloj cacheado no debe retroceder")
+    void relojCacheadoNoRetrocede() {
+        RelojCacheado reloj = new RelojCacheado();
+        try {
+            long anterior = reloj.ahora();
+            for (int i = 0; i < 100_000; i++) {
+                long actual = reloj.ahora();
+                assertTrue(actual >= anterior);
+                anterior = actual;
+            }
+        } finally {
+            reloj.detener();
+        }
+    }
+    
+    @Test
+    @DisplayName("El reloj cacheado debe seguir la hora del sistema, también detenido")
+    void relojCacheadoSigueAlSistema() {
+        RelojCacheado reloj = new RelojCacheado();
+        long sistema = System.currentTimeMillis() * 1_000_000L;
+        assertTrue(Math.abs(reloj.ahora() - sistema) < Duration.ofSeconds(1).toNanos());
+        
+        reloj.detener();
+        sistema = System.currentTimeMillis() * 1_000_000L;
+        assertTrue(Math.abs(reloj.ahora() - sistema) < Duration.ofSeconds(1).toNanos());
+    }
+    
+    @Test
+    @DisplayName("Debe detener el reloj reemplazado")
+    void debeDetenerRelojReemplazado() {
+        boolean[] detenido = new boolean[1];
+        Tiempo.usarReloj(new Reloj() {
+            @Override
+            public long ahora() {
+                return 0;
+            }
+            
+            @Override
+            public void detener() {
+                detenido[0] = true;
+            }
+        });
+        
+        Tiempo.usarReloj(new RelojManual(INICIO));
+        
+        assertTrue(detenido[0]);
+    }
+    
+    @Test
+    @DisplayName("Las entidades deben tomar la fecha del reloj configurado")
+    void entidadesUsanRelojConfigurado() {
+        RelojManual reloj = new RelojManual(INICIO);
+        Tiempo.usarReloj(reloj);
+        
+        Transaccion primera = Transaccion.deposito(Dinero.de("10"), "cuenta-1", "", Dinero.CERO, Dinero.de("10"));
+        reloj.avanzar(Duration.ofMinutes(5));
+        Transaccion segunda = Transaccion.deposito(Dinero.de("10"), "cuenta-1", "", Dinero.de("10"), Dinero.de("20"));
+        
+        assertEquals(INICIO, primera.getFecha());
+        assertEquals(INICIO.plusMinutes(5), segunda.getFecha());
+        assertEquals(Duration.ofMinutes(5).toNanos(), segunda.getFechaNanos() - primera.getFechaNanos());
+    }
+}
@@ -0,0 +1,182 @@
+package com.wallet.infrastructure.cache;
+
+import com.wallet.domain.exceptions.ClaveIdempotenciaReutilizadaException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la caché de idempotencia.
+ */
+@DisplayName("CacheIdempotencia Tests")
+class CacheIdempotenciaTest {
+
+    private final AtomicLong reloj = new AtomicLong();
+
+    @Test
+    @DisplayName("Debe devolver el resultado original sin volver a ejecutar")
+    void debeDevolverResultadoOriginal() {
+        CacheIdempotencia<String> cache = new CacheIdempotencia<>(10, 1_000, reloj::get);
+        AtomicInteger ejecuciones = new AtomicInteger();
+
+        String primero = cache.ejecutar("k", () -> "resultado-" + ejecuciones.incrementAndGet());
+        String segundo = cache.ejecutar("k", () -> "resultado-" + ejecuciones.incrementAndGet());
+
+        assertEquals("resultado-1", primero);
+        assertSame(primero, segundo);
+        assertEquals(1, ejecuciones.get());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la clave reutilizada con otra solicitud")
+    void debeRechazarOtraSolicitud() {
+        CacheIdempotencia<String> cache = new CacheIdempotencia<>(10, 1_000, reloj::get);
+        long original = CacheIdempotencia.huella("cuenta-2", new BigDecimal("10"), null);
+
+        assertEquals("ok", cache.ejecutar("TRANSFERENCIA:cuenta-1:k", original, () -> "ok"));
+
+        assertEquals("ok", cache.ejecutar("TRANSFERENCIA:cuenta-1:k",
+            CacheIdempotencia.huella("cuenta-2", new BigDecimal("10.00"), null), () -> "otra"));
+        ClaveIdempotenciaReutilizadaException error = assertThrows(ClaveIdempotenciaReutilizadaException.class,
+            () -> cache.ejecutar("TRANSFERENCIA:cuenta-1:k",
+                CacheIdempotencia.huella("cuenta-2", new BigDecimal("99"), null), () -> "otra"));
+        assertTrue(error.getMessage().contains(" k "));
+        assertNotEquals(CacheIdempotencia.huella("ab", "c"), CacheIdempotencia.huella("a", "bc"));
+        assertNotEquals(CacheIdempotencia.huella((Object) null), CacheIdempotencia.huella(""));
+    }
+
+    @Test
+    @DisplayName("No debe recordar operaciones fallidas")
+    void noDebeRecordarFallos() {
+        CacheIdempotencia<String> cache = new CacheIdempotencia<>(10, 1_000, reloj::get);
+
+        assertThrows(IllegalStateException.class, () -> cache.ejecutar("k", () -> {
+            throw new IllegalStateException("Saldo insuficiente");
+        }));
+
+        assertEquals("ok", cache.ejecutar("k", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Debe volver a ejecutar cuando la entrada expira")
+    void debeExpirar() {
+        CacheIdempotencia<Integer> cache = new CacheIdempotencia<>(10, 1_000, reloj::get);
+        AtomicInteger ejecuciones = new AtomicInteger();
+
+        cache.ejecutar("k", ejecuciones::incrementAndGet);
+        reloj.set(999);
+        assertEquals(1, cache.ejecutar("k", ejecuciones::incrementAndGet));
+        reloj.set(1_000);
+        assertEquals(2, cache.ejecutar("k", ejecuciones::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("No debe superar la capacidad")
+    void noDebeSuperarLaCapacidad() {
+        CacheIdempotencia<Integer> cache = new CacheIdempotencia<>(100, 1_000, reloj::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            int valor = i;
+            cache.ejecutar("k" + i, () -> valor);
+        }
+
+        assertEquals(100, cache.getTamanio());
+        // Las más recientes siguen vigentes; las más antiguas se descartaron
+        assertEquals(999, cache.ejecutar("k999", () -> -1));
+        assertEquals(-1, cache.ejecutar("k0", () -> -1));
+    }
+
+    @Test
+    @DisplayName("Las operaciones fallidas no deben ocupar capacidad")
+    void fallosNoDebenOcuparCapacidad() {
+        CacheIdempotencia<Integer> cache = new CacheIdempotencia<>(2, 1_000, reloj::get);
+        cache.ejecutar("a", () -> 1);
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalStateException.class, () -> cache.ejecutar("fallida", () -> {
+                throw new IllegalStateException("Saldo insuficiente");
+            }));
+        }
+        cache.ejecutar("b", () -> 2);
+
+        assertEquals(2, cache.getTamanio());
+        assertEquals(1, cache.ejecutar("a", () -> -1));
+    }
+
+    @Test
+    @DisplayName("No debe descartar por capacidad una operación en curso")
+    void noDebeDescartarOperacionesEnCurso() throws Exception {
+        CacheIdempotencia<Integer> cache = new CacheIdempotencia<>(1, 1_000, reloj::get);
+        AtomicInteger ejecuciones = new AtomicInteger();
+        CountDownLatch enCurso = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        Thread original = new Thread(() -> cache.ejecutar("k", () -> {
+            enCurso.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ejecuciones.incrementAndGet();
+        }));
+        original.start();
+        enCurso.await();
+
+        cache.ejecutar("otra", () -> 0);
+        Thread reintento = new Thread(() -> cache.ejecutar("k", ejecuciones::incrementAndGet));
+        reintento.start();
+        liberar.countDown();
+        original.join();
+        reintento.join();
+
+        assertEquals(1, ejecuciones.get());
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar una sola vez con duplicados concurrentes en curso")
+    void debeEjecutarUnaVezConDuplicadosConcurrentes() throws Exception {
+        CacheIdempotencia<Integer> cache = new CacheIdempotencia<>(10, 1_000, reloj::get);
+        AtomicInteger ejecuciones = new AtomicInteger();
+        CountDownLatch enCurso = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<Integer> resultados = new CopyOnWriteArrayList<>();
+
+        Thread original = new Thread(() -> resultados.add(cache.ejecutar("k", () -> {
+            enCurso.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ejecuciones.incrementAndGet();
+        })));
+        original.start();
+        enCurso.await();
+
+        List<Thread> duplicados = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread duplicado = new Thread(() -> resultados.add(cache.ejecutar("k", ejecuciones::incrementAndGet)));
+            duplicados.add(duplicado);
+            duplicado.start();
+        }
+        liberar.countDown();
+        original.join();
+        for (Thread duplicado : duplicados) {
+            duplicado.join();
+        }
+
+        assertEquals(1, ejecuciones.get());
+        assertEquals(9, resultados.size());
+        assertTrue(resultados.stream().allMatch(r -> r == 1));
+    }
+}
@@ -0,0 +1,76 @@
+package com.wallet.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la caché de lectura con invalidación por escritura.
+ */
+@DisplayName("CacheLectura Tests")
+class CacheLecturaTest {
+
+    private static final class Entidad {
+        final String id;
+        final String clave;
+
+        Entidad(String id, String clave) {
+            this.id = id;
+            this.clave = clave;
+        }
+    }
+
+    private final Map<String, Entidad> fuente = new HashMap<>();
+    private final CacheLectura<Entidad, Entidad> cache =
+        new CacheLectura<>(64, e -> e.id, e -> e.clave, e -> e.id);
+
+    private Entidad escribir(String id, String clave) {
+        Entidad entidad = new Entidad(id, clave);
+        fuente.values().removeIf(e -> e.id.equals(id));
+        fuente.put(clave, entidad);
+        cache.guardado(entidad);
+        return entidad;
+    }
+
+    private Entidad leer(String clave) {
+        return cache.obtener(clave, fuente::get);
+    }
+
+    @Test
+    @DisplayName("No debe registrar claves de entidades que nunca se cachearon")
+    void noDebeCrecerConEscrituras() {
+        for (int i = 0; i < 1_000; i++) {
+            escribir("id-" + i, "clave-" + i);
+        }
+
+        assertEquals(0, cache.getRegistrados());
+    }
+
+    @Test
+    @DisplayName("Debe soltar el registro de las entradas desalojadas")
+    void debeSoltarAlDesalojar() {
+        for (int i = 0; i < 1_000; i++) {
+            escribir("id-" + i, "clave-" + i);
+            leer("clave-" + i);
+        }
+
+        assertTrue(cache.getRegistrados() <= cache.getCache().getCapacidad());
+        assertEquals(cache.getCache().getTamanio(), cache.getRegistrados());
+    }
+
+    @Test
+    @DisplayName("Debe invalidar la clave vieja cuando una escritura cambia la clave")
+    void debeInvalidarClaveVieja() {
+        escribir("id-1", "vieja");
+        assertNotNull(leer("vieja"));
+
+        escribir("id-1", "nueva");
+
+        assertNull(leer("vieja"));
+        assertEquals("nueva", leer("nueva").clave);
+    }
+}
@@ -0,0 +1,91 @@
+package com.wallet.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la caché LRU de lectura.
+ */
+@DisplayName("CacheLru Tests")
+class CacheLruTest {
+
+    @Test
+    @DisplayName("Debe cargar una sola vez y contar aciertos y fallos")
+    void debeCargarUnaSolaVez() {
+        CacheLru<String, String> cache = new CacheLru<>(10);
+        AtomicInteger cargas = new AtomicInteger();
+
+        String primero = cache.obtener("a", k -> k + "-" + cargas.incrementAndGet());
+        String segundo = cache.obtener("a", k -> k + "-" + cargas.incrementAndGet());
+
+        assertEquals("a-1", primero);
+        assertSame(primero, segundo);
+        assertEquals(1, cargas.get());
+        assertEquals(1, cache.getAciertos());
+        assertEquals(1, cache.getFallos());
+        assertEquals(0.5, cache.getTasaAciertos());
+    }
+
+    @Test
+    @DisplayName("Debe desalojar la entrada menos usada al superar la capacidad")
+    void debeDesalojarLaMenosUsada() {
+        CacheLru<String, String> cache = new CacheLru<>(2);
+        cache.obtener("a", k -> "A");
+        cache.obtener("b", k -> "B");
+        cache.buscar("a");
+        cache.obtener("c", k -> "C");
+
+        assertEquals(2, cache.getTamanio());
+        assertEquals(1, cache.getDesalojos());
+        assertEquals("A", cache.buscar("a"));
+        assertNull(cache.buscar("b"));
+    }
+
+    @Test
+    @DisplayName("No debe guardar resultados nulos")
+    void noDebeGuardarNulos() {
+        CacheLru<String, String> cache = new CacheLru<>(10);
+
+        assertNull(cache.obtener("a", k -> null));
+        assertEquals(0, cache.getTamanio());
+    }
+
+    @Test
+    @DisplayName("Una invalidación durante la carga descarta el valor cargado")
+    void invalidacionDuranteLaCarga() {
+        CacheLru<String, String> cache = new CacheLru<>(10);
+
+        String valor = cache.obtener("a", k -> {
+            cache.invalidar("a");
+            return "viejo";
+        });
+
+        assertEquals("viejo", valor);
+        assertNull(cache.buscar("a"));
+        assertEquals(1, cache.getInvalidaciones());
+    }
+
+    @Test
+    @DisplayName("Limpiar debe vaciar todos los segmentos")
+    void limpiarDebeVaciar() {
+        CacheLru<Integer, Integer> cache = new CacheLru<>(4_096);
+        for (int i = 0; i < 1_000; i++) {
+            cache.obtener(i, k -> k);
+        }
+        assertEquals(1_000, cache.getTamanio());
+
+        cache.limpiar();
+
+        assertEquals(0, cache.getTamanio());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar capacidades no positivas")
+    void debeRechazarCapacidadInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheLru<String, String>(0));
+    }
+}
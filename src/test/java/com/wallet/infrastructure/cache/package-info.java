@@ -0,0 +1,10 @@
+/**
+ * Casos de prueba para las cachés en memoria.
+ *
+ * Este paquete contiene pruebas de la caché de idempotencia: reutilización
+ * del resultado, expiración, límite de capacidad y duplicados concurrentes.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.cache;
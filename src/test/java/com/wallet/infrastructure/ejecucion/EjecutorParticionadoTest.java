@@ -0,0 +1,252 @@
+package com.wallet.infrastructure.ejecucion;
+
+import com.wallet.application.dtos.AsientoDTO;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.PartidaAsientoRequest;
+import com.wallet.application.dtos.requests.RegistrarAsientoRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.exceptions.SaldoInsuficienteException;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del ejecutor particionado por cuenta.
+ */
+@DisplayName("EjecutorParticionado Tests")
+class EjecutorParticionadoTest {
+
+    private CuentaRepositoryInMemory cuentaRepository;
+    private TransaccionRepositoryInMemory transaccionRepository;
+    private EjecutorParticionado ejecutor;
+
+    @BeforeEach
+    void setUp() {
+        cuentaRepository = new CuentaRepositoryInMemory();
+        transaccionRepository = new TransaccionRepositoryInMemory();
+        // Anillos pequeños para forzar esperas de productores
+        ejecutor = new EjecutorParticionado(cuentaRepository, transaccionRepository, 4, 8);
+        ejecutor.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ejecutor.cerrar();
+    }
+
+    @Test
+    @DisplayName("Debe conservar el saldo total con transferencias concurrentes entre particiones")
+    void debeConservarSaldoTotal() throws Exception {
+        List<Cuenta> cuentas = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Cuenta cuenta = cuentaRepository.guardar(new Cuenta("usuario-" + i));
+            EjecutorOperaciones.esperar(ejecutor.depositar(
+                new DepositarDineroRequest(cuenta.getId(), new BigDecimal("100"), null)));
+            cuentas.add(cuenta);
+        }
+
+        List<CompletableFuture<?>> futuros = new CopyOnWriteArrayList<>();
+        List<Thread> productores = new ArrayList<>();
+        for (int h = 0; h < 4; h++) {
+            int semilla = h;
+            Thread productor = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    Cuenta origen = cuentas.get((semilla * 7 + i) % cuentas.size());
+                    Cuenta destino = cuentas.get((semilla * 3 + i * 5 + 1) % cuentas.size());
+                    if (origen.equals(destino)) {
+                        continue;
+                    }
+                    futuros.add(ejecutor.transferir(
+                        new TransferirDineroRequest(origen.getId(), destino.getId(), BigDecimal.ONE, null)));
+                }
+            });
+            productores.add(productor);
+            productor.start();
+        }
+        for (Thread productor : productores) {
+            productor.join();
+        }
+        int exitosas = 0;
+        for (CompletableFuture<?> futuro : futuros) {
+            try {
+                futuro.join();
+                exitosas++;
+            } catch (CompletionException e) {
+                assertTrue(e.getCause().getMessage().contains("Saldo insuficiente"), e.getCause().getMessage());
+            }
+        }
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (Cuenta cuenta : cuentas) {
+            total = total.add(cuentaRepository.buscarPorId(cuenta.getId()).orElseThrow().getSaldo().getCantidad());
+        }
+        assertEquals(0, new BigDecimal("1600").compareTo(total));
+        // Cada transferencia exitosa deja sus dos movimientos, además de los 16 depósitos iniciales
+        assertEquals(16 + exitosas * 2, transaccionRepository.obtenerTodas().size());
+        assertEquals(0, ejecutor.getDuplicadosDescartados());
+    }
+
+    @Test
+    @DisplayName("Debe reintegrar el débito si el crédito falla en otra partición")
+    void debeReintegrarSiFallaElCredito() {
+        Cuenta origen = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        Cuenta destino = crearCuenta(origen, true);
+        EjecutorOperaciones.esperar(ejecutor.depositar(
+            new DepositarDineroRequest(origen.getId(), new BigDecimal("50"), null)));
+        destino.desactivar();
+        cuentaRepository.guardar(destino);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> EjecutorOperaciones.esperar(
+            ejecutor.transferir(new TransferirDineroRequest(origen.getId(), destino.getId(),
+                new BigDecimal("20"), null))));
+
+        assertEquals("La cuenta no está activa", error.getMessage());
+        assertEquals(new BigDecimal("50.00"),
+            cuentaRepository.buscarPorId(origen.getId()).orElseThrow().getSaldo().getCantidad());
+        assertEquals(1, transaccionRepository.buscarPorCuentaIdYTipo(
+            origen.getId(), TipoTransaccion.TRANSFERENCIA_ENVIADA).size());
+        assertEquals(2, transaccionRepository.buscarPorCuentaIdYTipo(
+            origen.getId(), TipoTransaccion.DEPOSITO).size());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar completa una transferencia dentro de la misma partición")
+    void debeTransferirEnLaMismaParticion() {
+        Cuenta origen = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        Cuenta destino = crearCuenta(origen, false);
+        EjecutorOperaciones.esperar(ejecutor.depositar(
+            new DepositarDineroRequest(origen.getId(), new BigDecimal("30"), null)));
+
+        assertEquals(2, EjecutorOperaciones.esperar(ejecutor.transferir(
+            new TransferirDineroRequest(origen.getId(), destino.getId(), new BigDecimal("10"), null))).size());
+        assertEquals(new BigDecimal("10.00"),
+            cuentaRepository.buscarPorId(destino.getId()).orElseThrow().getSaldo().getCantidad());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar entero un asiento con cuentas de particiones distintas")
+    void debeAplicarAsientoEntreParticiones() {
+        Cuenta pagador = crearCuentaEn(0);
+        Cuenta vendedor = crearCuentaEn(1);
+        Cuenta comision = crearCuentaEn(2);
+        EjecutorOperaciones.esperar(ejecutor.depositar(
+            new DepositarDineroRequest(pagador.getId(), new BigDecimal("100"), null)));
+
+        AsientoDTO asiento = EjecutorOperaciones.esperar(ejecutor.registrarAsiento(new RegistrarAsientoRequest(
+            "Compra", List.of(new PartidaAsientoRequest(pagador.getId(), new BigDecimal("-60")),
+                new PartidaAsientoRequest(vendedor.getId(), new BigDecimal("55")),
+                new PartidaAsientoRequest(comision.getId(), new BigDecimal("5"))))));
+
+        assertEquals(3, asiento.getTramos().size());
+        assertEquals(new BigDecimal("40.00"), saldo(pagador));
+        assertEquals(new BigDecimal("55.00"), saldo(vendedor));
+        assertEquals(new BigDecimal("5.00"), saldo(comision));
+
+        // Sin saldo en el débito no se aplica ninguna partida
+        RegistrarAsientoRequest excedido = new RegistrarAsientoRequest("Compra", List.of(
+            new PartidaAsientoRequest(pagador.getId(), new BigDecimal("-50")),
+            new PartidaAsientoRequest(vendedor.getId(), new BigDecimal("50"))));
+        assertThrows(SaldoInsuficienteException.class,
+            () -> EjecutorOperaciones.esperar(ejecutor.registrarAsiento(excedido)));
+        assertEquals(new BigDecimal("40.00"), saldo(pagador));
+        assertEquals(new BigDecimal("55.00"), saldo(vendedor));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar asientos cruzados concurrentes sin trabarse")
+    void debeAplicarAsientosCruzadosConcurrentes() throws Exception {
+        List<Cuenta> cuentas = new ArrayList<>();
+        for (int p = 0; p < ejecutor.getParticiones(); p++) {
+            Cuenta cuenta = crearCuentaEn(p);
+            EjecutorOperaciones.esperar(ejecutor.depositar(
+                new DepositarDineroRequest(cuenta.getId(), new BigDecimal("100"), null)));
+            cuentas.add(cuenta);
+        }
+
+        List<CompletableFuture<?>> futuros = new CopyOnWriteArrayList<>();
+        List<Thread> productores = new ArrayList<>();
+        for (int h = 0; h < cuentas.size(); h++) {
+            int semilla = h;
+            Thread productor = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    // Cada hilo recorre las particiones en otro orden
+                    Cuenta debitada = cuentas.get((semilla + i) % cuentas.size());
+                    Cuenta primera = cuentas.get((semilla + i + 1) % cuentas.size());
+                    Cuenta segunda = cuentas.get((semilla + i + 2) % cuentas.size());
+                    futuros.add(ejecutor.registrarAsiento(new RegistrarAsientoRequest(null, List.of(
+                        new PartidaAsientoRequest(segunda.getId(), BigDecimal.ONE),
+                        new PartidaAsientoRequest(debitada.getId(), new BigDecimal("-2")),
+                        new PartidaAsientoRequest(primera.getId(), BigDecimal.ONE)))));
+                    futuros.add(ejecutor.transferir(new TransferirDineroRequest(
+                        primera.getId(), debitada.getId(), BigDecimal.ONE, null)));
+                }
+            });
+            productores.add(productor);
+            productor.start();
+        }
+        for (Thread productor : productores) {
+            productor.join();
+        }
+        for (CompletableFuture<?> futuro : futuros) {
+            try {
+                futuro.get(10, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof SaldoInsuficienteException, e.getCause().toString());
+            }
+        }
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (Cuenta cuenta : cuentas) {
+            total = total.add(saldo(cuenta));
+        }
+        assertEquals(0, new BigDecimal("400").compareTo(total));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar comandos después de cerrar")
+    void debeRechazarDespuesDeCerrar() {
+        ejecutor.cerrar();
+
+        assertThrows(IllegalStateException.class, () -> EjecutorOperaciones.esperar(
+            ejecutor.depositar(new DepositarDineroRequest("c", BigDecimal.ONE, null))));
+    }
+
+    private Cuenta crearCuentaEn(int particion) {
+        while (true) {
+            Cuenta cuenta = new Cuenta("usuario-" + particion);
+            if (ejecutor.particionDe(cuenta.getId()) == particion) {
+                return cuentaRepository.guardar(cuenta);
+            }
+        }
+    }
+
+    private BigDecimal saldo(Cuenta cuenta) {
+        return cuentaRepository.buscarPorId(cuenta.getId()).orElseThrow().getSaldo().getCantidad();
+    }
+
+    private Cuenta crearCuenta(Cuenta referencia, boolean enOtraParticion) {
+        int particion = ejecutor.particionDe(referencia.getId());
+        while (true) {
+            Cuenta cuenta = new Cuenta("usuario-2");
+            if ((ejecutor.particionDe(cuenta.getId()) != particion) == enOtraParticion) {
+                return cuentaRepository.guardar(cuenta);
+            }
+        }
+    }
+}
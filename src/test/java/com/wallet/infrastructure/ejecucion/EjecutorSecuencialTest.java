@@ -0,0 +1,119 @@
+package com.wallet.infrastructure.ejecucion;
+
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.RetirarDineroRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del ejecutor secuencial de un solo escritor.
+ */
+@DisplayName("EjecutorSecuencial Tests")
+class EjecutorSecuencialTest {
+
+    private CuentaRepositoryInMemory cuentaRepository;
+    private TransaccionRepositoryInMemory transaccionRepository;
+    private List<Long> secuencias;
+    private EjecutorSecuencial ejecutor;
+
+    @BeforeEach
+    void setUp() {
+        cuentaRepository = new CuentaRepositoryInMemory();
+        transaccionRepository = new TransaccionRepositoryInMemory();
+        secuencias = new CopyOnWriteArrayList<>();
+        // Anillo pequeño para forzar esperas de productores y lotes llenos
+        ejecutor = new EjecutorSecuencial(cuentaRepository, transaccionRepository, 8,
+            (secuencia, tipo, solicitud) -> secuencias.add(secuencia));
+        ejecutor.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ejecutor.cerrar();
+    }
+
+    @Test
+    @DisplayName("Debe aplicar todos los depósitos concurrentes sin perder ninguno")
+    void debeAplicarDepositosConcurrentes() throws Exception {
+        Cuenta cuenta = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        int hilos = 4;
+        int porHilo = 250;
+
+        List<Thread> productores = new ArrayList<>();
+        List<CompletableFuture<?>> futuros = new CopyOnWriteArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            Thread productor = new Thread(() -> {
+                for (int i = 0; i < porHilo; i++) {
+                    futuros.add(ejecutor.depositar(
+                        new DepositarDineroRequest(cuenta.getId(), BigDecimal.ONE, "Depósito")));
+                }
+            });
+            productores.add(productor);
+            productor.start();
+        }
+        for (Thread productor : productores) {
+            productor.join();
+        }
+        CompletableFuture.allOf(futuros.toArray(new CompletableFuture[0])).join();
+
+        assertEquals(new BigDecimal("1000.00"),
+            cuentaRepository.buscarPorId(cuenta.getId()).orElseThrow().getSaldo().getCantidad());
+        assertEquals(1000, ejecutor.getComandosAplicados());
+    }
+
+    @Test
+    @DisplayName("Debe registrar en el diario secuencias consecutivas desde 1")
+    void debeRegistrarSecuenciasConsecutivas() {
+        Cuenta cuenta = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        for (int i = 0; i < 50; i++) {
+            EjecutorOperaciones.esperar(ejecutor.depositar(
+                new DepositarDineroRequest(cuenta.getId(), BigDecimal.TEN, null)));
+        }
+
+        assertEquals(50, secuencias.size());
+        for (int i = 0; i < secuencias.size(); i++) {
+            assertEquals(i + 1, secuencias.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe propagar la excepción de dominio a través del futuro")
+    void debePropagarExcepcionDeDominio() {
+        Cuenta origen = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        Cuenta destino = cuentaRepository.guardar(new Cuenta("usuario-2"));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> EjecutorOperaciones.esperar(
+            ejecutor.retirar(new RetirarDineroRequest(origen.getId(), BigDecimal.ONE, null))));
+        assertTrue(error.getMessage().contains("Saldo insuficiente"), error.getMessage());
+
+        EjecutorOperaciones.esperar(ejecutor.depositar(
+            new DepositarDineroRequest(origen.getId(), new BigDecimal("30"), null)));
+        assertEquals(2, EjecutorOperaciones.esperar(ejecutor.transferir(
+            new TransferirDineroRequest(origen.getId(), destino.getId(), new BigDecimal("10"), null))).size());
+        assertEquals(new BigDecimal("10.00"),
+            cuentaRepository.buscarPorId(destino.getId()).orElseThrow().getSaldo().getCantidad());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar comandos después de cerrar")
+    void debeRechazarDespuesDeCerrar() {
+        ejecutor.cerrar();
+
+        assertThrows(IllegalStateException.class, () -> EjecutorOperaciones.esperar(
+            ejecutor.depositar(new DepositarDineroRequest("c", BigDecimal.ONE, null))));
+    }
+}
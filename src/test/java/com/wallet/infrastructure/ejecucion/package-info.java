@@ -0,0 +1,11 @@
+/**
+ * Casos de prueba para los ejecutores de operaciones.
+ *
+ * Este paquete contiene pruebas del ejecutor secuencial: consistencia de
+ * saldos con productores concurrentes, orden del diario de comandos y
+ * propagación de errores a través de los futuros.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.ejecucion;
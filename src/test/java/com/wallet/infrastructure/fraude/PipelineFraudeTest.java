@@ -0,0 +1,210 @@
+package com.wallet.infrastructure.fraude;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.RelojCacheado;
+import com.wallet.domain.valueobjects.RelojManual;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.infrastructure.ejecucion.EjecutorDirecto;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del pipeline de fraude con reloj manual.
+ */
+@DisplayName("PipelineFraude Tests")
+class PipelineFraudeTest {
+
+    private RelojManual reloj;
+    private CuentaRepositoryInMemory cuentaRepository;
+    private TransaccionRepositoryInMemory transaccionRepository;
+    private PipelineFraude pipeline;
+    private Cuenta cuenta;
+
+    @BeforeEach
+    void setUp() {
+        reloj = new RelojManual(LocalDateTime.of(2026, 1, 1, 0, 0));
+        Tiempo.usarReloj(reloj);
+        cuentaRepository = new CuentaRepositoryInMemory();
+        transaccionRepository = new TransaccionRepositoryInMemory();
+        cuenta = cuentaRepository.guardar(new Cuenta("usuario-1"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.cerrar();
+        }
+        Tiempo.usarReloj(new RelojCacheado());
+    }
+
+    private void iniciar(ReglaFraude... reglas) {
+        pipeline = new PipelineFraude(new EjecutorDirecto(cuentaRepository, transaccionRepository),
+                                      List.of(reglas), 1.0, 2, 16);
+        transaccionRepository.agregarObservador(pipeline);
+    }
+
+    private void retirar(String monto) {
+        transaccionRepository.guardar(Transaccion.retiro(Dinero.de(monto), cuenta.getId(), "Retiro",
+                                                         Dinero.de("100000"), Dinero.de("100000")));
+    }
+
+    private void transferir(String destino) {
+        transaccionRepository.guardar(Transaccion.transferenciaEnviada(Dinero.de("10"), cuenta.getId(), destino,
+            "Pago", Dinero.de("100000"), Dinero.de("100000")));
+    }
+
+    private void esperar() {
+        assertTrue(pipeline.esperarPendientes(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Debe desactivar la cuenta ante un monto atípico para su historial")
+    void debeMarcarMontoAtipico() {
+        iniciar(new ReglaMontoAtipico(3.0, 10, 1.0));
+        for (int i = 0; i < 10; i++) {
+            retirar(i % 2 == 0 ? "90" : "110");
+            reloj.avanzar(Duration.ofHours(1));
+        }
+        esperar();
+        assertTrue(cuenta.isActiva());
+
+        retirar("5000");
+        esperar();
+
+        assertFalse(cuenta.isActiva());
+        assertEquals(1, pipeline.getCuentasMarcadas());
+    }
+
+    @Test
+    @DisplayName("Debe desactivar la cuenta ante una ráfaga de débitos")
+    void debeMarcarRafaga() {
+        iniciar(new ReglaRafaga(3, Duration.ofMinutes(1), 1.0));
+        for (int i = 0; i < 3; i++) {
+            retirar("10");
+            reloj.avanzar(Duration.ofSeconds(10));
+        }
+        esperar();
+        assertTrue(cuenta.isActiva());
+
+        retirar("10");
+        esperar();
+
+        assertFalse(cuenta.isActiva());
+    }
+
+    @Test
+    @DisplayName("Debe descartar los perfiles cuando se limpia el repositorio")
+    void debeDescartarPerfilesAlLimpiar() {
+        iniciar(new ReglaRafaga(3, Duration.ofMinutes(1), 1.0));
+        for (int i = 0; i < 3; i++) {
+            retirar("10");
+        }
+        esperar();
+        transaccionRepository.limpiar();
+
+        retirar("10");
+        esperar();
+
+        assertTrue(cuenta.isActiva());
+        assertEquals(0, pipeline.getCuentasMarcadas());
+    }
+
+    @Test
+    @DisplayName("No debe contar como ráfaga los débitos fuera de la ventana")
+    void noDebeMarcarDebitosEspaciados() {
+        iniciar(new ReglaRafaga(3, Duration.ofMinutes(1), 1.0));
+        for (int i = 0; i < 10; i++) {
+            retirar("10");
+            reloj.avanzar(Duration.ofSeconds(30));
+        }
+        esperar();
+
+        assertTrue(cuenta.isActiva());
+        assertEquals(10, pipeline.getProcesados());
+    }
+
+    @Test
+    @DisplayName("Debe sumar los puntajes de las reglas antes de comparar con el umbral")
+    void debeSumarPuntajes() {
+        iniciar(new ReglaContraparteNueva(0.6), new ReglaRafaga(2, Duration.ofMinutes(1), 0.6));
+        transferir("destino-1");
+        transferir("destino-1");
+        esperar();
+        assertTrue(cuenta.isActiva());
+
+        transferir("destino-1");
+        esperar();
+        assertTrue(cuenta.isActiva());
+
+        transferir("destino-2");
+        esperar();
+        assertFalse(cuenta.isActiva());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar los créditos sin encolarlos")
+    void debeIgnorarCreditos() {
+        iniciar(new ReglaRafaga(1, Duration.ofMinutes(1), 1.0));
+        for (int i = 0; i < 5; i++) {
+            transaccionRepository.guardar(Transaccion.deposito(Dinero.de("10"), cuenta.getId(), "Depósito",
+                                                               Dinero.CERO, Dinero.de("10")));
+        }
+        esperar();
+
+        assertEquals(0, pipeline.getEncolados());
+        assertTrue(cuenta.isActiva());
+    }
+
+    @Test
+    @DisplayName("Debe descartar y contar los débitos cuando la cola está llena")
+    void debeDescartarConColaLlena() throws InterruptedException {
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ReglaFraude lenta = new ReglaFraude() {
+            @Override
+            public String getNombre() {
+                return "lenta";
+            }
+
+            @Override
+            public double puntuar(Transaccion debito, PerfilCuenta perfil) {
+                ocupado.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 0;
+            }
+        };
+        pipeline = new PipelineFraude(new EjecutorDirecto(cuentaRepository, transaccionRepository),
+                                      List.of(lenta), 1.0, 1, 1);
+        transaccionRepository.agregarObservador(pipeline);
+
+        retirar("10");
+        assertTrue(ocupado.await(5, TimeUnit.SECONDS));
+        retirar("10");
+        retirar("10");
+
+        assertEquals(2, pipeline.getEncolados());
+        assertEquals(1, pipeline.getDescartados());
+        assertEquals(1, pipeline.getPendientes());
+        liberar.countDown();
+        esperar();
+        assertEquals(2, pipeline.getProcesados());
+    }
+}
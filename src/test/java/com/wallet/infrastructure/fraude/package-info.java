@@ -0,0 +1,11 @@
+/**
+ * Casos de prueba para la evaluación de fraude.
+ *
+ * Este paquete contiene pruebas del pipeline de puntuación (reglas de monto
+ * atípico, contraparte nueva y ráfaga, desactivación de cuentas y descarte
+ * con la cola llena) con un reloj manual.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.fraude;
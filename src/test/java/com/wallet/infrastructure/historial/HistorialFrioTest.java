@@ -0,0 +1,226 @@
+package com.wallet.infrastructure.historial;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para HistorialFrio.
+ */
+@DisplayName("HistorialFrio Tests")
+class HistorialFrioTest {
+
+    private static final long FECHA = 1_772_359_200_000_000_000L;
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    @DisplayName("Debe devolver cada campo tal como se archivó en los tres almacenes")
+    void debeConservarCamposEnCadaAlmacen() {
+        for (AlmacenSegmentos almacen : List.of(AlmacenSegmentos.enHeap(), AlmacenSegmentos.fueraDeHeap(),
+                                                AlmacenSegmentos.mapeado(directorio))) {
+            HistorialFrio historial = new HistorialFrio(almacen, 4);
+            List<Transaccion> propias = propias("cuenta-1", 50);
+            Transaccion reflejo = transaccion(Identificador.nuevo() + "-R", TipoTransaccion.TRANSFERENCIA_RECIBIDA,
+                "cuenta-2", "cuenta-1", 7, "USD");
+
+            historial.archivar(Map.of("cuenta-1", propias), Map.of("cuenta-1", List.of(reflejo)));
+
+            assertEquals(campos(propias), campos(historial.propias("cuenta-1", 0, 100)), almacen.toString());
+            List<Transaccion> todas = new ArrayList<>(propias);
+            todas.add(reflejo);
+            assertEquals(campos(todas), campos(historial.deCuenta("cuenta-1")), almacen.toString());
+            assertEquals(50, historial.contarPropias());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe encontrar por id los tramos propios, incluidos ids que no son generados")
+    void debeBuscarPorId() {
+        HistorialFrio historial = new HistorialFrio();
+        List<Transaccion> propias = propias("cuenta-1", 200);
+
+        historial.archivar(Map.of("cuenta-1", propias), Map.of());
+
+        for (Transaccion propia : propias) {
+            assertEquals(propia.getSecuencia(), historial.buscarPorId(propia.getId()).get().getSecuencia());
+        }
+        assertTrue(historial.buscarPorId(Identificador.nuevo()).isEmpty());
+        assertTrue(historial.buscarPorId("inexistente").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe leer desde cualquier fila de un bloque largo")
+    void debeLeerDesdePuntosDeControl() {
+        HistorialFrio historial = new HistorialFrio(AlmacenSegmentos.enHeap(), 1);
+        List<Transaccion> propias = propias("cuenta-1", 5 * SegmentoFrio.PASO_FILAS + 3);
+        List<Transaccion> reflejos = new ArrayList<>();
+        for (int i = 0; i < 2 * SegmentoFrio.PASO_FILAS; i++) {
+            reflejos.add(transaccion(Identificador.nuevo() + "-R", TipoTransaccion.TRANSFERENCIA_RECIBIDA,
+                "cuenta-2", "cuenta-1", i + 1L, "CLP"));
+        }
+
+        historial.archivar(Map.of("cuenta-1", propias), Map.of("cuenta-1", reflejos));
+
+        for (int desde = 0; desde < propias.size(); desde += 13) {
+            int fin = Math.min(propias.size(), desde + 7);
+            assertEquals(campos(propias.subList(desde, fin)), campos(historial.propias("cuenta-1", desde, 7)));
+        }
+        List<Transaccion> todas = new ArrayList<>(propias);
+        todas.addAll(reflejos);
+        assertEquals(campos(todas), campos(historial.deCuenta("cuenta-1")));
+    }
+
+    @Test
+    @DisplayName("Debe continuar el historial de una cuenta al archivar de nuevo")
+    void debeAgregarAlReconstruir() {
+        HistorialFrio historial = new HistorialFrio(AlmacenSegmentos.enHeap(), 1);
+        List<Transaccion> propias = propias("cuenta-1", 20);
+
+        historial.archivar(Map.of("cuenta-1", propias.subList(0, 10), "cuenta-2", propias("cuenta-2", 3)), Map.of());
+        historial.archivar(Map.of("cuenta-1", propias.subList(10, 20)), Map.of());
+
+        // Cada pasada agrega su propio segmento; compactar los une sin cambiar lo que se lee
+        assertEquals(2, historial.contarSegmentos());
+        for (int compactado = 0; compactado < 2; compactado++) {
+            assertEquals(campos(propias), campos(historial.propias("cuenta-1", 0, 100)));
+            assertEquals(campos(propias.subList(8, 12)), campos(historial.propias("cuenta-1", 8, 4)));
+            assertEquals(campos(propias.subList(15, 18)), campos(historial.propias("cuenta-1", 15, 3)));
+            assertEquals(3, historial.deCuenta("cuenta-2").size());
+            assertEquals(23, historial.contarPropias());
+            assertEquals(propias.get(19).getId(), historial.buscarPorId(propias.get(19).getId()).get().getId());
+            historial.compactar();
+        }
+        assertEquals(1, historial.contarSegmentos());
+    }
+
+    @Test
+    @DisplayName("Debe escribir solo las filas nuevas en cada pasada")
+    void debeEscribirSoloLoNuevo() {
+        HistorialFrio historial = new HistorialFrio(AlmacenSegmentos.enHeap(), 1);
+        List<Transaccion> propias = propias("cuenta-1", 1_001);
+
+        historial.archivar(Map.of("cuenta-1", propias.subList(0, 1_000)), Map.of());
+        long bytes = historial.getBytes();
+        historial.archivar(Map.of("cuenta-1", propias.subList(1_000, 1_001)), Map.of());
+
+        assertTrue(historial.getBytes() - bytes < bytes / 100, "La pasada reescribió lo ya archivado");
+        assertEquals(0, historial.compactar());
+        assertEquals(2, historial.contarSegmentos());
+        assertEquals(campos(propias.subList(995, 1_001)), campos(historial.propias("cuenta-1", 995, 10)));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar propias que no continúan la secuencia sin publicar nada")
+    void debeRechazarHuecos() {
+        HistorialFrio historial = new HistorialFrio();
+        List<Transaccion> propias = propias("cuenta-1", 5);
+
+        assertThrows(IllegalStateException.class, () ->
+            historial.archivar(Map.of("cuenta-1", propias.subList(1, 5)), Map.of()));
+        assertEquals(0, historial.contarPropias());
+
+        historial.archivar(Map.of("cuenta-1", propias.subList(0, 2)), Map.of());
+        assertThrows(IllegalStateException.class, () ->
+            historial.archivar(Map.of("cuenta-1", propias.subList(3, 5)), Map.of()));
+        assertEquals(2, historial.contarPropias());
+    }
+
+    @Test
+    @DisplayName("Debe borrar los archivos de los segmentos fusionados")
+    void debeLiberarSegmentosMapeados() throws IOException {
+        HistorialFrio historial = new HistorialFrio(AlmacenSegmentos.mapeado(directorio), 1);
+        List<Transaccion> propias = propias("cuenta-1", 4);
+
+        historial.archivar(Map.of("cuenta-1", propias.subList(0, 2)), Map.of());
+        historial.archivar(Map.of("cuenta-1", propias.subList(2, 4)), Map.of());
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            assertEquals(2, archivos.count());
+        }
+
+        assertEquals(1, historial.compactar());
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            assertEquals(1, archivos.count());
+        }
+        historial.limpiar();
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            assertEquals(0, archivos.count());
+        }
+    }
+
+    /**
+     * Propias consecutivas que mezclan retiros, tramos de transferencia y de
+     * asiento, e ids de datos anteriores.
+     */
+    private static List<Transaccion> propias(String cuentaId, int cantidad) {
+        List<Transaccion> propias = new ArrayList<>(cantidad);
+        long saldo = 1_000_000;
+        for (int i = 0; i < cantidad; i++) {
+            long monto = 100 + i * 37L;
+            String id;
+            TipoTransaccion tipo;
+            String destino = null;
+            switch (i % 4) {
+                case 0:
+                    id = Identificador.nuevo();
+                    tipo = TipoTransaccion.RETIRO;
+                    break;
+                case 1:
+                    id = Identificador.nuevo() + "-E";
+                    tipo = TipoTransaccion.TRANSFERENCIA_ENVIADA;
+                    destino = "cuenta-9";
+                    break;
+                case 2:
+                    id = Identificador.nuevo() + "-12";
+                    tipo = TipoTransaccion.CARGO;
+                    break;
+                default:
+                    id = UUID.randomUUID().toString();
+                    tipo = TipoTransaccion.RETIRO;
+            }
+            propias.add(Transaccion.reconstruir(id, tipo, centavos(monto, "CLP"), cuentaId, destino,
+                i % 3 == 0 ? null : "Pago " + (i % 5), FECHA + i * 1_000_000_007L,
+                centavos(saldo, "CLP"), centavos(saldo - monto, "CLP"), i + 1L));
+            saldo -= monto;
+        }
+        return propias;
+    }
+
+    private static Transaccion transaccion(String id, TipoTransaccion tipo, String cuentaId, String destino,
+                                           long secuencia, String moneda) {
+        return Transaccion.reconstruir(id, tipo, centavos(1234, moneda), cuentaId, destino, "Reflejo",
+            FECHA - 5, centavos(-50, moneda), centavos(1184, moneda), secuencia);
+    }
+
+    private static Dinero centavos(long centavos, String moneda) {
+        return new Dinero(BigDecimal.valueOf(centavos, 2), moneda);
+    }
+
+    private static List<String> campos(List<Transaccion> transacciones) {
+        List<String> campos = new ArrayList<>(transacciones.size());
+        for (Transaccion t : transacciones) {
+            campos.add(String.join("|", t.getId(), t.getTipo().name(), t.getMonto().toString(),
+                t.getCuentaOrigenId(), String.valueOf(t.getCuentaDestinoId()), String.valueOf(t.getDescripcion()),
+                String.valueOf(t.getFechaNanos()), t.getSaldoAnterior().toString(), t.getSaldoNuevo().toString(),
+                String.valueOf(t.getSecuencia())));
+        }
+        return campos;
+    }
+}
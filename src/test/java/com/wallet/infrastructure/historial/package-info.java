@@ -0,0 +1,11 @@
+/**
+ * Casos de prueba para el historial frío de transacciones.
+ *
+ * Este paquete contiene pruebas de los segmentos comprimidos (ida y vuelta
+ * de cada campo, ids de tramos y de datos anteriores, pasadas sucesivas y
+ * su fusión) en el heap, fuera de él y mapeados desde archivos.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.historial;
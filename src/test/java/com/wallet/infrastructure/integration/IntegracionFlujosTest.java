@@ -1,6 +1,7 @@
 package com.wallet.infrastructure.integration;
 
 import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.ExtractoMensualDTO;
 import com.wallet.application.dtos.TransaccionDTO;
 import com.wallet.application.dtos.UsuarioDTO;
 import com.wallet.application.dtos.requests.*;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -187,4 +189,87 @@ class IntegracionFlujosTest {
         List<TransaccionDTO> historial = transaccionService.consultarHistorial(cuenta.getNumeroCuenta());
         assertEquals(9, historial.size()); // 1 inicial + 5 depositos + 3 retiros
     }
+    
+    @Test
+    @DisplayName("Reintentos con la misma clave de idempotencia no mueven dinero dos veces")
+    void reintentosConClaveDeIdempotencia() {
+        UsuarioDTO usuario1 = usuarioService.crearUsuario(new CrearUsuarioRequest(
+            "Juan", "Perez", "juan@email.com", "DNI", "12345678"));
+        UsuarioDTO usuario2 = usuarioService.crearUsuario(new CrearUsuarioRequest(
+            "Maria", "Garcia", "maria@email.com", "DNI", "87654321"));
+        CuentaDTO cuenta1 = cuentaService.crearCuenta(usuario1.getId());
+        CuentaDTO cuenta2 = cuentaService.crearCuenta(usuario2.getId());
+        
+        TransaccionDTO deposito = cuentaService.depositar(new DepositarDineroRequest(
+            cuenta1.getId(), new BigDecimal("100"), "Depósito", "dep-1"));
+        TransaccionDTO reintento = cuentaService.depositar(new DepositarDineroRequest(
+            cuenta1.getId(), new BigDecimal("100"), "Depósito", "dep-1"));
+        assertEquals(deposito.getId(), reintento.getId());
+        
+        TransferirDineroRequest transferencia = new TransferirDineroRequest(
+            cuenta1.getId(), cuenta2.getId(), new BigDecimal("30"), "Pago", "tx-1");
+        List<TransaccionDTO> original = transaccionService.transferir(transferencia);
+        List<TransaccionDTO> repetida = transaccionService.transferir(transferencia);
+        assertEquals(original.get(0).getId(), repetida.get(0).getId());
+        
+        assertEquals(0, new BigDecimal("70").compareTo(
+            cuentaService.consultarSaldo(cuenta1.getNumeroCuenta()).getSaldo()));
+        assertEquals(0, new BigDecimal("30").compareTo(
+            cuentaService.consultarSaldo(cuenta2.getNumeroCuenta()).getSaldo()));
+    }
+    
+    @Test
+    @DisplayName("Las lecturas cacheadas reflejan cada escritura")
+    void lecturasCacheadasSeInvalidanAlEscribir() {
+        UsuarioDTO usuario = usuarioService.crearUsuario(new CrearUsuarioRequest(
+            "Juan", "Perez", "juan@email.com", "DNI", "12345678"));
+        CuentaDTO cuenta = cuentaService.crearCuenta(usuario.getId());
+        
+        assertSame(usuarioService.buscarPorEmail("JUAN@email.com").get(),
+                   usuarioService.buscarPorEmail("juan@email.com").get());
+        CuentaDTO antes = cuentaService.consultarSaldo(cuenta.getNumeroCuenta());
+        assertSame(antes, cuentaService.buscarPorNumeroCuenta(cuenta.getNumeroCuenta()).get());
+        
+        cuentaService.depositar(new DepositarDineroRequest(
+            cuenta.getId(), new BigDecimal("250"), "Depósito"));
+        
+        CuentaDTO despues = cuentaService.consultarSaldo(cuenta.getNumeroCuenta());
+        assertNotSame(antes, despues);
+        assertEquals(0, new BigDecimal("250").compareTo(despues.getSaldo()));
+        
+        RepositoryFactory.limpiarTodos();
+        assertTrue(cuentaService.buscarPorNumeroCuenta(cuenta.getNumeroCuenta()).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("El extracto del mes coincide con el historial")
+    void extractoMensualCoincideConHistorial() {
+        UsuarioDTO usuario1 = usuarioService.crearUsuario(new CrearUsuarioRequest(
+            "Juan", "Perez", "juan@email.com", "DNI", "12345678"));
+        UsuarioDTO usuario2 = usuarioService.crearUsuario(new CrearUsuarioRequest(
+            "Maria", "Garcia", "maria@email.com", "DNI", "87654321"));
+        CuentaDTO cuenta1 = cuentaService.crearCuenta(usuario1.getId());
+        CuentaDTO cuenta2 = cuentaService.crearCuenta(usuario2.getId());
+        
+        cuentaService.depositar(new DepositarDineroRequest(cuenta1.getId(), new BigDecimal("500"), "Sueldo"));
+        cuentaService.retirar(new RetirarDineroRequest(cuenta1.getId(), new BigDecimal("100"), "Cajero"));
+        transaccionService.transferir(new TransferirDineroRequest(
+            cuenta1.getId(), cuenta2.getId(), new BigDecimal("150"), "Pago"));
+        
+        ExtractoMensualDTO extracto = transaccionService.consultarExtractoMensual(
+            cuenta1.getNumeroCuenta(), YearMonth.now());
+        assertEquals(0, BigDecimal.ZERO.compareTo(extracto.getSaldoInicial()));
+        assertEquals(0, new BigDecimal("250").compareTo(extracto.getSaldoFinal()));
+        assertEquals(0, new BigDecimal("500").compareTo(extracto.getTotalCreditos()));
+        assertEquals(0, new BigDecimal("250").compareTo(extracto.getTotalDebitos()));
+        assertEquals(3, extracto.getCantidadTransacciones());
+        
+        ExtractoMensualDTO siguiente = transaccionService.consultarExtractoMensual(
+            cuenta1.getNumeroCuenta(), YearMonth.now().plusMonths(1));
+        assertEquals(0, new BigDecimal("250").compareTo(siguiente.getSaldoInicial()));
+        assertEquals(0, siguiente.getCantidadTransacciones());
+        
+        assertTrue(transaccionService.verificarExtractos(cuenta1.getNumeroCuenta()).isEmpty());
+        assertTrue(transaccionService.verificarExtractos(cuenta2.getNumeroCuenta()).isEmpty());
+    }
 }
@@ -0,0 +1,115 @@
+package com.wallet.infrastructure.json;
+
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.UsuarioDTO;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del codificador JSON de DTOs.
+ */
+@DisplayName("CodificadorJson Tests")
+class CodificadorJsonTest {
+
+    @Test
+    @DisplayName("Debe escribir y leer un usuario con caracteres especiales")
+    void debeHacerIdaYVueltaDeUsuario() {
+        LocalDateTime fecha = LocalDateTime.of(2024, 3, 5, 14, 30, 0);
+        UsuarioDTO original = new UsuarioDTO("u-1", "José \"Pepe\"", "Ñúñez\n", "jose@email.com",
+            "DNI", "12345678", true, fecha, fecha.plusNanos(123_456_789));
+
+        JsonEscritor escritor = new JsonEscritor(16);
+        CodificadorJson.escribir(escritor, original);
+        UsuarioDTO leido = CodificadorJson.leerUsuario(new JsonLector(escritor.toByteArray()));
+
+        assertEquals(original.getNombre(), leido.getNombre());
+        assertEquals(original.getApellido(), leido.getApellido());
+        assertEquals(original.getEmail(), leido.getEmail());
+        assertTrue(leido.isActivo());
+        assertEquals(fecha, leido.getFechaCreacion());
+        assertEquals(original.getFechaActualizacion(), leido.getFechaActualizacion());
+    }
+
+    @Test
+    @DisplayName("Debe conservar la escala de los montos")
+    void debeConservarEscalaDeMontos() {
+        for (String monto : new String[] {"0", "0.01", "-15.50", "150.50", "12345678901234567890.123"}) {
+            CuentaDTO cuenta = new CuentaDTO("c", "0000000001", "u", new BigDecimal(monto), "USD", true,
+                null, null);
+            JsonEscritor escritor = new JsonEscritor();
+            CodificadorJson.escribir(escritor, cuenta);
+
+            assertEquals(new BigDecimal(monto),
+                CodificadorJson.leerCuenta(new JsonLector(escritor.toByteArray())).getSaldo());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe generar el mismo texto que LocalDateTime y BigDecimal")
+    void debeGenerarFormatoEstandar() {
+        LocalDateTime fecha = LocalDateTime.of(2024, 12, 31, 23, 59, 58, 120_000_000);
+        TransaccionDTO dto = new TransaccionDTO("t", "c", "DEPOSITO", new BigDecimal("10.00"), "USD",
+            null, fecha, null);
+
+        JsonEscritor escritor = new JsonEscritor();
+        CodificadorJson.escribir(escritor, dto);
+        String json = new String(escritor.toByteArray(), StandardCharsets.UTF_8);
+
+        assertTrue(json.contains("\"monto\":10.00"));
+        assertTrue(json.contains("\"fecha\":\"" + fecha + "\""));
+        assertTrue(json.contains("\"descripcion\":null"));
+    }
+
+    @Test
+    @DisplayName("Debe ignorar campos desconocidos y aceptar montos entre comillas")
+    void debeIgnorarCamposDesconocidos() {
+        byte[] json = ("{ \"extra\": {\"a\": [1, 2.5e3, \"x\"]}, \"cuentaOrigenId\": \"o\","
+            + " \"cuentaDestinoId\": \"d\", \"monto\": \"99.90\", \"descripcion\": \"Pago \\u00e1\" }")
+            .getBytes(StandardCharsets.UTF_8);
+
+        TransferirDineroRequest request = CodificadorJson.leerTransferirRequest(new JsonLector(json));
+
+        assertEquals("o", request.getCuentaOrigenId());
+        assertEquals("d", request.getCuentaDestinoId());
+        assertEquals(new BigDecimal("99.90"), request.getMonto());
+        assertEquals("Pago á", request.getDescripcion());
+    }
+
+    @Test
+    @DisplayName("Debe leer una lista de transacciones reutilizando el escritor")
+    void debeLeerListas() {
+        JsonEscritor escritor = new JsonEscritor(8);
+        List<TransaccionDTO> dtos = List.of(
+            new TransaccionDTO("t1", "c", "DEPOSITO", BigDecimal.ONE, "USD", "a", null, null),
+            new TransaccionDTO("t2", "c", "RETIRO", BigDecimal.TEN, "USD", "b", null, "d"));
+        CodificadorJson.escribirTransacciones(escritor, List.of());
+        CodificadorJson.escribirTransacciones(escritor.reiniciar(), dtos);
+
+        List<TransaccionDTO> leidas = CodificadorJson.leerTransacciones(
+            new JsonLector(escritor.getBuffer(), 0, escritor.getLongitud()));
+
+        assertEquals(2, leidas.size());
+        assertEquals("t2", leidas.get(1).getId());
+        assertEquals("d", leidas.get(1).getCuentaDestinoId());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar JSON mal formado con IllegalArgumentException")
+    void debeRechazarJsonInvalido() {
+        assertThrows(IllegalArgumentException.class, () ->
+            CodificadorJson.leerDepositarRequest(new JsonLector("{\"monto\": 1.}".getBytes())));
+        assertThrows(IllegalArgumentException.class, () ->
+            CodificadorJson.leerTransaccion(new JsonLector("{\"fecha\":\"2024-13-01T00:00\"}".getBytes())));
+        assertThrows(IllegalArgumentException.class, () ->
+            CodificadorJson.leerCuenta(new JsonLector("{\"id\":\"x\"".getBytes())));
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Casos de prueba para la codificación JSON.
+ *
+ * Este paquete contiene pruebas unitarias del escritor, el lector y el
+ * codificador de DTOs, verificando la ida y vuelta de montos, fechas y textos
+ * con caracteres especiales.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.json;
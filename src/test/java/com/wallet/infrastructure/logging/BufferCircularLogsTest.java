@@ -0,0 +1,121 @@
+package com.wallet.infrastructure.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para el buffer circular del Logger asíncrono.
+ */
+@DisplayName("BufferCircularLogs Tests")
+class BufferCircularLogsTest {
+
+    @Test
+    @DisplayName("Debe drenar los eventos en el orden publicado")
+    void debeDrenarEnOrden() {
+        BufferCircularLogs buffer = new BufferCircularLogs(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.publicar(Logger.Nivel.INFO, i, "evento " + i, null, null, null,
+                            PoliticaDesborde.DESCARTAR);
+        }
+
+        List<String> mensajes = new ArrayList<>();
+        int drenados = buffer.drenar(e -> mensajes.add(e.plantilla), 100);
+
+        assertEquals(5, drenados);
+        assertEquals(List.of("evento 0", "evento 1", "evento 2", "evento 3", "evento 4"), mensajes);
+        assertTrue(buffer.estaVacio());
+    }
+
+    @Test
+    @DisplayName("Debe descartar eventos cuando el buffer está lleno")
+    void debeDescartarCuandoEstaLleno() {
+        BufferCircularLogs buffer = new BufferCircularLogs(4);
+        int aceptados = 0;
+        for (int i = 0; i < 10; i++) {
+            if (buffer.publicar(Logger.Nivel.INFO, i, "x", null, null, null, PoliticaDesborde.DESCARTAR)) {
+                aceptados++;
+            }
+        }
+
+        assertEquals(4, aceptados);
+        assertEquals(6, buffer.getDescartados());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar publicaciones tras cerrarse y drenar lo ya publicado")
+    void debeRechazarTrasCerrar() {
+        BufferCircularLogs buffer = new BufferCircularLogs(4);
+        buffer.publicar(Logger.Nivel.INFO, 0, "antes", null, null, null, PoliticaDesborde.BLOQUEAR);
+        buffer.cerrar();
+
+        assertFalse(buffer.publicar(Logger.Nivel.INFO, 1, "después", null, null, null,
+                                    PoliticaDesborde.BLOQUEAR));
+        assertTrue(buffer.estaCerrado());
+        assertEquals(1, buffer.posicionPublicada());
+
+        List<String> mensajes = new ArrayList<>();
+        buffer.drenar(e -> mensajes.add(e.plantilla), 100);
+        assertEquals(List.of("antes"), mensajes);
+        assertTrue(buffer.estaVacio());
+    }
+
+    @Test
+    @DisplayName("Debe bloquear al productor hasta que haya espacio")
+    void debeBloquearHastaQueHayaEspacio() throws InterruptedException {
+        BufferCircularLogs buffer = new BufferCircularLogs(2);
+        int total = 1_000;
+        int productores = 4;
+        CountDownLatch fin = new CountDownLatch(productores);
+        for (int p = 0; p < productores; p++) {
+            new Thread(() -> {
+                for (int i = 0; i < total; i++) {
+                    buffer.publicar(Logger.Nivel.DEBUG, i, "x", null, null, null, PoliticaDesborde.BLOQUEAR);
+                }
+                fin.countDown();
+            }).start();
+        }
+
+        AtomicInteger consumidos = new AtomicInteger();
+        while (consumidos.get() < total * productores) {
+            consumidos.addAndGet(buffer.drenar(e -> { }, 64));
+        }
+        fin.await();
+
+        assertEquals(total * productores, consumidos.get());
+        assertEquals(0, buffer.getDescartados());
+    }
+
+    @Test
+    @DisplayName("Debe resolver marcadores de la plantilla en el escritor")
+    void debeFormatearPlantilla() {
+        EventoLog evento = new EventoLog();
+        evento.cargar(Logger.Nivel.INFO, 0L, "Depositando ${} en cuenta: {}",
+                      new Object[]{"100.00", "abc"}, null, null);
+
+        StringBuilder sb = new StringBuilder();
+        evento.formatearMensaje(sb);
+
+        assertEquals("Depositando $100.00 en cuenta: abc", sb.toString());
+    }
+
+    @Test
+    @DisplayName("No debe invocar el proveedor si el nivel está deshabilitado")
+    void noDebeEvaluarProveedorDeshabilitado() {
+        AtomicInteger invocaciones = new AtomicInteger();
+        Logger.setNivelMinimo(Logger.Nivel.INFO);
+        try {
+            Logger.debug(() -> "costoso " + invocaciones.incrementAndGet());
+            assertFalse(Logger.isHabilitado(Logger.Nivel.DEBUG));
+            assertEquals(0, invocaciones.get());
+        } finally {
+            Logger.setNivelMinimo(Logger.Nivel.DEBUG);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Casos de prueba para las utilidades de registro.
+ *
+ * Este paquete contiene pruebas unitarias del Logger asíncrono, verificando
+ * el orden de los eventos, las políticas de desborde y la evaluación diferida
+ * de mensajes.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.logging;
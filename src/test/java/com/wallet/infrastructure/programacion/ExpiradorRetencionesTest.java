@@ -0,0 +1,112 @@
+package com.wallet.infrastructure.programacion;
+
+import com.wallet.application.dtos.RetencionDTO;
+import com.wallet.application.dtos.requests.CapturarRetencionRequest;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.RetenerFondosRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.RelojCacheado;
+import com.wallet.domain.valueobjects.RelojManual;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.infrastructure.ejecucion.EjecutorOperaciones;
+import com.wallet.infrastructure.ejecucion.EjecutorSecuencial;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del expirador de retenciones con reloj manual.
+ */
+@DisplayName("ExpiradorRetenciones Tests")
+class ExpiradorRetencionesTest {
+
+    private RelojManual reloj;
+    private CuentaRepositoryInMemory cuentaRepository;
+    private EjecutorSecuencial ejecutor;
+    private ExpiradorRetenciones expirador;
+    private Cuenta cuenta;
+
+    @BeforeEach
+    void setUp() {
+        reloj = new RelojManual(LocalDateTime.of(2026, 1, 1, 0, 0));
+        Tiempo.usarReloj(reloj);
+        cuentaRepository = new CuentaRepositoryInMemory();
+        ejecutor = new EjecutorSecuencial(cuentaRepository, new TransaccionRepositoryInMemory());
+        ejecutor.iniciar();
+        expirador = new ExpiradorRetenciones(cuentaRepository, ejecutor);
+
+        cuenta = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        EjecutorOperaciones.esperar(ejecutor.depositar(
+            new DepositarDineroRequest(cuenta.getId(), new BigDecimal("10000"), "Inicial")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        expirador.cerrar();
+        ejecutor.cerrar();
+        Tiempo.usarReloj(new RelojCacheado());
+    }
+
+    private RetencionDTO retener(String monto, long vigenciaSegundos) {
+        RetencionDTO retencion = EjecutorOperaciones.esperar(ejecutor.retener(
+            new RetenerFondosRequest(cuenta.getId(), new BigDecimal(monto), "Autorización", vigenciaSegundos)));
+        expirador.agendar(retencion);
+        return retencion;
+    }
+
+    @Test
+    @DisplayName("Debe liberar las retenciones al vencer")
+    void vencimiento() {
+        retener("100", 60);
+        retener("200", 3600);
+        assertEquals(Dinero.de("9700"), cuenta.getSaldoDisponible());
+
+        reloj.avanzar(Duration.ofSeconds(59));
+        assertEquals(0, expirador.procesarVencidas());
+
+        reloj.avanzar(Duration.ofSeconds(1));
+        assertEquals(1, expirador.procesarVencidas());
+        assertEquals(Dinero.de("9800"), cuenta.getSaldoDisponible());
+        assertEquals(1, expirador.getPendientes());
+    }
+
+    @Test
+    @DisplayName("No debe vencer una retención ya capturada")
+    void capturadaAntesDeVencer() {
+        RetencionDTO retencion = retener("100", 60);
+        EjecutorOperaciones.esperar(ejecutor.capturarRetencion(
+            new CapturarRetencionRequest(cuenta.getId(), retencion.getId())));
+
+        reloj.avanzar(Duration.ofMinutes(5));
+        expirador.procesarVencidas();
+
+        assertEquals(Dinero.de("9900"), cuenta.getSaldo());
+        assertEquals(Dinero.de("9900"), cuenta.getSaldoDisponible());
+    }
+
+    @Test
+    @DisplayName("Debe recuperar las retenciones activas al iniciar")
+    void recuperacion() {
+        Cuenta otra = cuentaRepository.guardar(new Cuenta("usuario-2"));
+        EjecutorOperaciones.esperar(ejecutor.depositar(
+            new DepositarDineroRequest(otra.getId(), new BigDecimal("500"), "Inicial")));
+        for (int i = 0; i < 1000; i++) {
+            EjecutorOperaciones.esperar(ejecutor.retener(
+                new RetenerFondosRequest(otra.getId(), new BigDecimal("0.5"), "Autorización", 60)));
+        }
+
+        expirador.iniciar();
+        assertEquals(1000, expirador.getPendientes());
+        assertEquals(Dinero.CERO, otra.getSaldoDisponible());
+    }
+}
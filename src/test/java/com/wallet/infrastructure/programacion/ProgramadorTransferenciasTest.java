@@ -0,0 +1,147 @@
+package com.wallet.infrastructure.programacion;
+
+import com.wallet.application.dtos.TransferenciaProgramadaDTO;
+import com.wallet.application.dtos.requests.DepositarDineroRequest;
+import com.wallet.application.dtos.requests.ProgramarTransferenciaRequest;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.usecases.DepositarDineroUseCase;
+import com.wallet.application.usecases.ProgramarTransferenciaUseCase;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.TransferenciaProgramada;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.RelojCacheado;
+import com.wallet.domain.valueobjects.RelojManual;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.infrastructure.ejecucion.EjecutorDirecto;
+import com.wallet.infrastructure.repositories.CuentaRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransaccionRepositoryInMemory;
+import com.wallet.infrastructure.repositories.TransferenciaProgramadaRepositoryInMemory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del programador de transferencias con reloj manual.
+ */
+@DisplayName("ProgramadorTransferencias Tests")
+class ProgramadorTransferenciasTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private RelojManual reloj;
+    private CuentaRepositoryInMemory cuentaRepository;
+    private TransaccionRepositoryInMemory transaccionRepository;
+    private TransferenciaProgramadaRepositoryInMemory programadaRepository;
+    private ProgramadorTransferencias programador;
+    private Cuenta origen;
+    private Cuenta destino;
+
+    @BeforeEach
+    void setUp() {
+        reloj = new RelojManual(INICIO);
+        Tiempo.usarReloj(reloj);
+        cuentaRepository = new CuentaRepositoryInMemory();
+        transaccionRepository = new TransaccionRepositoryInMemory();
+        programadaRepository = new TransferenciaProgramadaRepositoryInMemory();
+        programador = nuevoProgramador();
+
+        origen = cuentaRepository.guardar(new Cuenta("usuario-1"));
+        destino = cuentaRepository.guardar(new Cuenta("usuario-2"));
+        new DepositarDineroUseCase(cuentaRepository, transaccionRepository)
+            .ejecutar(new DepositarDineroRequest(origen.getId(), new BigDecimal("120000"), "Inicial"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        programador.cerrar();
+        Tiempo.usarReloj(new RelojCacheado());
+    }
+
+    private ProgramadorTransferencias nuevoProgramador() {
+        return new ProgramadorTransferencias(programadaRepository,
+            new EjecutorDirecto(cuentaRepository, transaccionRepository),
+            ProgramadorTransferencias.TICK_POR_DEFECTO_NANOS, 2);
+    }
+
+    private TransferenciaProgramadaDTO programarMensual(String monto) {
+        TransferenciaProgramadaDTO programada = new ProgramarTransferenciaUseCase(cuentaRepository, programadaRepository)
+            .ejecutar(new ProgramarTransferenciaRequest(
+                new TransferirDineroRequest(origen.getId(), destino.getId(), new BigDecimal(monto), "Arriendo"),
+                LocalDateTime.of(2026, 2, 1, 0, 0), "MENSUAL", 0));
+        programador.agendar(programada.getId());
+        return programada;
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar una orden permanente en cada vencimiento")
+    void ordenPermanente() {
+        programarMensual("50000");
+
+        reloj.fijar(LocalDateTime.of(2026, 1, 31, 23, 59, 59));
+        assertEquals(0, programador.procesarVencidas());
+
+        reloj.fijar(LocalDateTime.of(2026, 2, 1, 0, 0));
+        assertEquals(1, programador.procesarVencidas());
+        assertEquals(Dinero.de("50000"), destino.getSaldo());
+
+        reloj.fijar(LocalDateTime.of(2026, 3, 1, 0, 0));
+        assertEquals(1, programador.procesarVencidas());
+        assertEquals(Dinero.de("100000"), destino.getSaldo());
+        assertEquals(1, programador.getPendientes());
+    }
+
+    @Test
+    @DisplayName("Debe registrar el fallo y seguir programada si falta saldo")
+    void falloPorSaldo() {
+        TransferenciaProgramadaDTO dto = programarMensual("200000");
+
+        reloj.fijar(LocalDateTime.of(2026, 2, 1, 0, 0));
+        programador.procesarVencidas();
+
+        TransferenciaProgramada programada = programadaRepository.buscarPorId(dto.getId()).orElseThrow();
+        assertEquals(1, programada.getFallidas());
+        assertNotNull(programada.getUltimoError());
+        assertTrue(programada.isActiva());
+        assertEquals(Dinero.de("120000"), origen.getSaldo());
+    }
+
+    @Test
+    @DisplayName("No debe ejecutar una programación cancelada")
+    void cancelada() {
+        TransferenciaProgramadaDTO dto = programarMensual("50000");
+
+        assertTrue(programador.cancelar(dto.getId()));
+        assertEquals(0, programador.getPendientes());
+
+        reloj.fijar(LocalDateTime.of(2026, 2, 1, 0, 0));
+        assertEquals(0, programador.procesarVencidas());
+        assertEquals(Dinero.CERO, destino.getSaldo());
+    }
+
+    @Test
+    @DisplayName("Al reiniciar debe ejecutar una vez lo atrasado y omitir el resto")
+    void ejecucionesPerdidas() {
+        TransferenciaProgramadaDTO dto = programarMensual("10000");
+        programador.cerrar();
+
+        // Detenido de enero a mayo: vencieron febrero, marzo, abril y mayo
+        reloj.fijar(LocalDateTime.of(2026, 5, 10, 0, 0));
+        programador = nuevoProgramador();
+        for (TransferenciaProgramada programada : programadaRepository.obtenerActivas()) {
+            programador.agendar(programada.getId());
+        }
+        assertEquals(1, programador.procesarVencidas());
+
+        TransferenciaProgramada programada = programadaRepository.buscarPorId(dto.getId()).orElseThrow();
+        assertEquals(Dinero.de("10000"), destino.getSaldo());
+        assertEquals(1, programada.getEjecuciones());
+        assertEquals(3, programada.getOmitidas());
+        assertEquals(LocalDateTime.of(2026, 6, 1, 0, 0), programada.getProximaEjecucion());
+    }
+}
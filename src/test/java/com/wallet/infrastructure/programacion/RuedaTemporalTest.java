@@ -0,0 +1,80 @@
+package com.wallet.infrastructure.programacion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la rueda de tiempos jerárquica.
+ */
+@DisplayName("RuedaTemporal Tests")
+class RuedaTemporalTest {
+
+    @Test
+    @DisplayName("Debe vencer cada temporizador en su tick, en cualquier nivel")
+    void venceEnSuTick() {
+        RuedaTemporal<Long> rueda = new RuedaTemporal<>(1, 0);
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long vencimiento = 1 + (long) (random.nextDouble() * random.nextDouble() * 50_000_000L);
+            rueda.programar(vencimiento, vencimiento);
+        }
+
+        List<Long> errores = new ArrayList<>();
+        long ahora = 0;
+        while (rueda.getTamanio() > 0) {
+            ahora += 1 + random.nextInt(1000);
+            long instante = ahora;
+            rueda.avanzar(instante, vencimiento -> {
+                if (vencimiento > instante || vencimiento <= instante - 1000) {
+                    errores.add(vencimiento);
+                }
+            });
+        }
+        assertTrue(errores.isEmpty(), "Vencimientos fuera de su tick: " + errores);
+    }
+
+    @Test
+    @DisplayName("No debe entregar temporizadores cancelados")
+    void cancelacion() {
+        RuedaTemporal<String> rueda = new RuedaTemporal<>(10, 0);
+        RuedaTemporal.Temporizador<String> cercano = rueda.programar("cercano", 50);
+        rueda.programar("lejano", 1_000_000);
+        RuedaTemporal.Temporizador<String> cancelado = rueda.programar("cancelado", 1_000_000);
+
+        assertTrue(rueda.cancelar(cancelado));
+        assertFalse(rueda.cancelar(cancelado));
+        assertEquals(2, rueda.getTamanio());
+
+        List<String> vencidos = new ArrayList<>();
+        rueda.avanzar(50, vencidos::add);
+        assertEquals(List.of("cercano"), vencidos);
+        assertFalse(cercano.isPendiente());
+        assertFalse(rueda.cancelar(cercano));
+
+        rueda.avanzar(2_000_000, vencidos::add);
+        assertEquals(List.of("cercano", "lejano"), vencidos);
+        assertEquals(0, rueda.getTamanio());
+    }
+
+    @Test
+    @DisplayName("Debe redondear hacia arriba y vencer de inmediato lo ya pasado")
+    void redondeoYVencidos() {
+        RuedaTemporal<String> rueda = new RuedaTemporal<>(100, 1_000);
+        rueda.programar("pasado", 500);
+        rueda.programar("redondeado", 1_050);
+
+        List<String> vencidos = new ArrayList<>();
+        rueda.avanzar(1_000, vencidos::add);
+        assertEquals(List.of("pasado"), vencidos);
+        rueda.avanzar(1_099, vencidos::add);
+        assertEquals(List.of("pasado"), vencidos);
+        rueda.avanzar(1_100, vencidos::add);
+        assertEquals(List.of("pasado", "redondeado"), vencidos);
+    }
+}
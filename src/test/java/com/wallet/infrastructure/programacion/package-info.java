@@ -0,0 +1,11 @@
+/**
+ * Casos de prueba para la programación de operaciones a futuro.
+ *
+ * Este paquete contiene pruebas de la rueda de tiempos (vencimiento en el
+ * tick exacto, cascada entre niveles y cancelación) y del programador de
+ * transferencias con un reloj manual.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.infrastructure.programacion;
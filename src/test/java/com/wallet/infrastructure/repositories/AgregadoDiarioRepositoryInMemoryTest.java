@@ -0,0 +1,113 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.AgregadoDiario;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para AgregadoDiarioRepositoryInMemory.
+ */
+@DisplayName("AgregadoDiarioRepositoryInMemory Tests")
+class AgregadoDiarioRepositoryInMemoryTest {
+    
+    private static final LocalDate DIA = LocalDate.of(2026, 3, 1);
+    
+    private AgregadoDiarioRepositoryInMemory repository;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new AgregadoDiarioRepositoryInMemory();
+    }
+    
+    @Test
+    @DisplayName("Debe agregar por día, moneda y tipo")
+    void debeAgregarPorDiaMonedaYTipo() {
+        repository.registrar(transaccion(DIA, TipoTransaccion.DEPOSITO, "10.50", "CLP"));
+        repository.registrar(transaccion(DIA, TipoTransaccion.DEPOSITO, "4.50", "CLP"));
+        repository.registrar(transaccion(DIA, TipoTransaccion.RETIRO, "3", "CLP"));
+        repository.registrar(transaccion(DIA, TipoTransaccion.DEPOSITO, "7", "USD"));
+        repository.registrar(transaccion(DIA.plusDays(1), TipoTransaccion.DEPOSITO, "1", "CLP"));
+        
+        List<AgregadoDiario> agregados = repository.buscarPorRango(DIA, DIA);
+        
+        assertEquals(3, agregados.size());
+        assertEquals(new AgregadoDiario(DIA, TipoTransaccion.DEPOSITO, 2, new Dinero(new BigDecimal("15"), "CLP")),
+                     agregados.get(0));
+        assertEquals(new AgregadoDiario(DIA, TipoTransaccion.RETIRO, 1, new Dinero(new BigDecimal("3"), "CLP")),
+                     agregados.get(1));
+        assertEquals(new AgregadoDiario(DIA, TipoTransaccion.DEPOSITO, 1, new Dinero(new BigDecimal("7"), "USD")),
+                     agregados.get(2));
+        assertEquals(4, repository.buscarPorRango(DIA, DIA.plusDays(1)).size());
+    }
+    
+    @Test
+    @DisplayName("Debe sumar sin perder escrituras concurrentes")
+    void debeSumarEscriturasConcurrentes() {
+        IntStream.range(0, 10_000).parallel()
+            .forEach(i -> repository.registrar(transaccion(DIA, TipoTransaccion.DEPOSITO, "0.01", "CLP")));
+        
+        AgregadoDiario agregado = repository.buscarPorRango(DIA, DIA).get(0);
+        assertEquals(10_000, agregado.getCantidad());
+        assertEquals(Dinero.de("100"), agregado.getTotal());
+    }
+    
+    @Test
+    @DisplayName("La reconstrucción reemplaza solo los días cerrados")
+    void reconstruccionReemplazaDiasCerrados() {
+        List<Transaccion> historial = new ArrayList<>();
+        historial.add(transaccion(DIA, TipoTransaccion.DEPOSITO, "5", "CLP"));
+        historial.add(transaccion(DIA.plusDays(1), TipoTransaccion.RETIRO, "2", "CLP"));
+        historial.add(transaccion(DIA.plusDays(2), TipoTransaccion.DEPOSITO, "9", "CLP"));
+        // Agregados desactualizados: un día de más y el día en curso a medias
+        repository.registrar(transaccion(DIA.minusDays(1), TipoTransaccion.RETIRO, "1", "CLP"));
+        repository.registrar(transaccion(DIA.plusDays(2), TipoTransaccion.DEPOSITO, "1", "CLP"));
+        
+        long recalculadas = repository.reconstruir(historial.parallelStream(), DIA.plusDays(2));
+        
+        assertEquals(2, recalculadas);
+        List<AgregadoDiario> agregados = repository.buscarPorRango(DIA.minusDays(1), DIA.plusDays(2));
+        assertEquals(3, agregados.size());
+        assertEquals(DIA, agregados.get(0).getDia());
+        assertEquals(Dinero.de("5"), agregados.get(0).getTotal());
+        assertEquals(DIA.plusDays(1), agregados.get(1).getDia());
+        assertEquals(Dinero.de("1"), agregados.get(2).getTotal());
+    }
+    
+    @Test
+    @DisplayName("La reconstrucción no debe perder un día cerrado escrito mientras recorre")
+    void reconstruccionConservaEscriturasConcurrentes() {
+        Transaccion tardia = transaccion(DIA.minusDays(3), TipoTransaccion.DEPOSITO, "4", "CLP");
+        Stream<Transaccion> historial = Stream.of(transaccion(DIA, TipoTransaccion.DEPOSITO, "5", "CLP"))
+            .peek(t -> repository.registrar(tardia));
+        
+        repository.reconstruir(historial, DIA.plusDays(1));
+        
+        List<AgregadoDiario> agregados = repository.buscarPorRango(DIA.minusDays(3), DIA);
+        assertEquals(2, agregados.size());
+        assertEquals(Dinero.de("4"), agregados.get(0).getTotal());
+        assertEquals(Dinero.de("5"), agregados.get(1).getTotal());
+    }
+    
+    private static Transaccion transaccion(LocalDate dia, TipoTransaccion tipo, String monto, String moneda) {
+        return new Transaccion(UUID.randomUUID().toString(), tipo,
+                               new Dinero(new BigDecimal(monto), moneda), "cuenta-1", null, "",
+                               LocalDateTime.of(dia, LocalTime.NOON),
+                               new Dinero(BigDecimal.ZERO, moneda), new Dinero(BigDecimal.ZERO, moneda));
+    }
+}
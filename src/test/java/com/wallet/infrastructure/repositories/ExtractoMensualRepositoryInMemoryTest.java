@@ -0,0 +1,116 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.ExtractoMensual;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para ExtractoMensualRepositoryInMemory.
+ */
+@DisplayName("ExtractoMensualRepositoryInMemory Tests")
+class ExtractoMensualRepositoryInMemoryTest {
+    
+    private static final String CUENTA = "cuenta-1";
+    private static final YearMonth ENERO = YearMonth.of(2026, 1);
+    private static final YearMonth FEBRERO = YearMonth.of(2026, 2);
+    
+    private TransaccionRepositoryInMemory transacciones;
+    private ExtractoMensualRepositoryInMemory extractos;
+    
+    @BeforeEach
+    void setUp() {
+        transacciones = new TransaccionRepositoryInMemory();
+        extractos = new ExtractoMensualRepositoryInMemory();
+        transacciones.agregarObservador(extractos);
+    }
+    
+    @Test
+    @DisplayName("Debe acumular saldos, totales y cantidades del mes")
+    void debeAcumularElMes() {
+        guardar(TipoTransaccion.DEPOSITO, ENERO.atDay(3).atStartOfDay(), "0", "100");
+        guardar(TipoTransaccion.RETIRO, ENERO.atDay(10).atStartOfDay(), "100", "70");
+        guardar(TipoTransaccion.TRANSFERENCIA_RECIBIDA, ENERO.atDay(20).atStartOfDay(), "70", "120");
+        
+        ExtractoMensual extracto = extractos.buscarUltimoHasta(CUENTA, ENERO).orElseThrow();
+        
+        assertEquals(Dinero.de("0"), extracto.getSaldoInicial());
+        assertEquals(Dinero.de("120"), extracto.getSaldoFinal());
+        assertEquals(Dinero.de("150"), extracto.getTotalCreditos());
+        assertEquals(Dinero.de("30"), extracto.getTotalDebitos());
+        assertEquals(1, extracto.getCantidad(TipoTransaccion.RETIRO));
+        assertEquals(3, extracto.getCantidadTransacciones());
+    }
+    
+    @Test
+    @DisplayName("El orden de llegada no debe cambiar los saldos del extracto")
+    void ordenDeLlegadaIndiferente() {
+        LocalDateTime mismaFecha = ENERO.atDay(5).atTime(12, 0);
+        // Misma fecha y saldos que encadenan en ambos sentidos: solo la secuencia las ordena
+        extractos.registrar(guardada(4, TipoTransaccion.RETIRO, ENERO.atDay(9).atStartOfDay(), "50", "30"));
+        extractos.registrar(guardada(2, TipoTransaccion.DEPOSITO, mismaFecha, "50", "80"));
+        extractos.registrar(guardada(3, TipoTransaccion.RETIRO, mismaFecha, "80", "50"));
+        
+        ExtractoMensual extracto = extractos.buscarUltimoHasta(CUENTA, ENERO).orElseThrow();
+        
+        assertEquals(Dinero.de("50"), extracto.getSaldoInicial());
+        assertEquals(Dinero.de("30"), extracto.getSaldoFinal());
+    }
+    
+    @Test
+    @DisplayName("Debe separar por mes y devolver el último mes con movimientos")
+    void debeSepararPorMes() {
+        guardar(TipoTransaccion.DEPOSITO, ENERO.atDay(3).atStartOfDay(), "0", "100");
+        guardar(TipoTransaccion.RETIRO, FEBRERO.atDay(1).atStartOfDay(), "100", "40");
+        
+        List<ExtractoMensual> todos = extractos.buscarPorCuenta(CUENTA);
+        assertEquals(2, todos.size());
+        assertEquals(ENERO, todos.get(0).getPeriodo());
+        assertEquals(Dinero.de("100"), todos.get(1).getSaldoInicial());
+        
+        YearMonth marzo = YearMonth.of(2026, 3);
+        assertEquals(FEBRERO, extractos.buscarUltimoHasta(CUENTA, marzo).orElseThrow().getPeriodo());
+        assertTrue(extractos.buscarUltimoHasta(CUENTA, YearMonth.of(2025, 12)).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Limpiar el repositorio de transacciones debe limpiar los extractos")
+    void limpiarDebePropagarse() {
+        guardar(TipoTransaccion.DEPOSITO, ENERO.atDay(3).atStartOfDay(), "0", "100");
+        
+        transacciones.limpiar();
+        
+        assertTrue(extractos.buscarPorCuenta(CUENTA).isEmpty());
+    }
+    
+    private void guardar(TipoTransaccion tipo, LocalDateTime fecha, String anterior, String nuevo) {
+        Dinero saldoAnterior = Dinero.de(anterior);
+        Dinero saldoNuevo = Dinero.de(nuevo);
+        transacciones.guardar(new Transaccion(UUID.randomUUID().toString(), tipo, monto(saldoAnterior, saldoNuevo),
+                                              CUENTA, null, "", fecha, saldoAnterior, saldoNuevo));
+    }
+    
+    private static Transaccion guardada(long secuencia, TipoTransaccion tipo, LocalDateTime fecha,
+                                        String anterior, String nuevo) {
+        Dinero saldoAnterior = Dinero.de(anterior);
+        Dinero saldoNuevo = Dinero.de(nuevo);
+        return new Transaccion(UUID.randomUUID().toString(), tipo, monto(saldoAnterior, saldoNuevo),
+                               CUENTA, null, "", fecha, saldoAnterior, saldoNuevo, secuencia);
+    }
+    
+    private static Dinero monto(Dinero saldoAnterior, Dinero saldoNuevo) {
+        return saldoNuevo.esMayorQue(saldoAnterior)
+            ? saldoNuevo.restar(saldoAnterior)
+            : saldoAnterior.restar(saldoNuevo);
+    }
+}
@@ -0,0 +1,97 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para IndiceDescripcionesRepositoryInMemory.
+ */
+@DisplayName("IndiceDescripcionesRepositoryInMemory Tests")
+class IndiceDescripcionesRepositoryInMemoryTest {
+    
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 10, 0);
+    
+    private TransaccionRepositoryInMemory transacciones;
+    private IndiceDescripcionesRepositoryInMemory indice;
+    
+    @BeforeEach
+    void setUp() {
+        transacciones = new TransaccionRepositoryInMemory();
+        indice = new IndiceDescripcionesRepositoryInMemory();
+        transacciones.agregarObservador(indice);
+        guardar("cuenta-1", "Pago de Renta marzo", 0);
+        guardar("cuenta-1", "Sueldo marzo", 1);
+        guardar("cuenta-1", "renta abril", 2);
+        guardar("cuenta-2", "Renta", 3);
+    }
+    
+    @Test
+    @DisplayName("Debe encontrar sin distinguir mayúsculas ni tildes, de la más reciente a la más antigua")
+    void debeBuscarIgnorandoMayusculasYTildes() {
+        assertEquals(List.of("renta abril", "Pago de Renta marzo"), descripciones("cuenta-1", "RENTÁ"));
+    }
+    
+    @Test
+    @DisplayName("Debe exigir todas las palabras de la consulta")
+    void debeIntersectarTerminos() {
+        assertEquals(List.of("Pago de Renta marzo"), descripciones("cuenta-1", "marzo renta"));
+        assertTrue(descripciones("cuenta-1", "renta junio").isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Debe limitar la búsqueda a la cuenta y a la cantidad pedida")
+    void debeRespetarCuentaYLimite() {
+        assertEquals(List.of("Renta"), descripciones("cuenta-2", "renta"));
+        assertEquals(1, indice.buscar("cuenta-1", "renta", 1).size());
+        assertTrue(indice.buscar("cuenta-3", "renta", 10).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Debe decodificar listas con saltos grandes entre ordinales")
+    void debeCodificarDiferenciasGrandes() {
+        for (int i = 0; i < 20_000; i++) {
+            guardar("cuenta-3", i % 5_000 == 0 ? "sueldo" : "otro", i);
+        }
+        assertEquals(List.of(15_001L, 10_001L, 5_001L, 1L), indice.buscar("cuenta-3", "sueldo", 10));
+    }
+    
+    @Test
+    @DisplayName("No debe duplicar un registro indexado dos veces ni aceptar uno sin guardar")
+    void debeIgnorarRegistrosRepetidos() {
+        Transaccion guardada = transacciones.buscarPorCuentaDesdeSecuencia("cuenta-2", 0, 1).get(0);
+        
+        indice.indexar(guardada);
+        
+        assertEquals(List.of(1L), indice.buscar("cuenta-2", "renta", 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> indice.indexar(transaccion("cuenta-2", "Renta", 4)));
+    }
+    
+    private List<String> descripciones(String cuentaId, String consulta) {
+        return indice.buscar(cuentaId, consulta, 10).stream()
+            .map(secuencia -> transacciones.buscarPorCuentaDesdeSecuencia(cuentaId, secuencia - 1, 1).get(0))
+            .map(Transaccion::getDescripcion)
+            .collect(Collectors.toList());
+    }
+    
+    private void guardar(String cuentaId, String descripcion, int minutos) {
+        transacciones.guardar(transaccion(cuentaId, descripcion, minutos));
+    }
+    
+    private static Transaccion transaccion(String cuentaId, String descripcion, int minutos) {
+        return new Transaccion(UUID.randomUUID().toString(), TipoTransaccion.DEPOSITO, Dinero.de("1"),
+                               cuentaId, null, descripcion, BASE.plusMinutes(minutos),
+                               Dinero.CERO, Dinero.de("1"));
+    }
+}
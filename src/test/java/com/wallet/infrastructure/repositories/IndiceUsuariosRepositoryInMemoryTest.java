@@ -0,0 +1,79 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para IndiceUsuariosRepositoryInMemory.
+ */
+@DisplayName("IndiceUsuariosRepositoryInMemory Tests")
+class IndiceUsuariosRepositoryInMemoryTest {
+    
+    private IndiceUsuariosRepositoryInMemory indice;
+    private UsuarioRepositoryInMemory usuarios;
+    private int documentos;
+    
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceUsuariosRepositoryInMemory();
+        usuarios = new UsuarioRepositoryInMemory();
+        usuarios.agregarObservador(indice);
+    }
+    
+    @Test
+    @DisplayName("Debe encontrar por nombre, apellido o email sin distinguir mayúsculas ni tildes")
+    void debeBuscarPorPrefijo() {
+        Usuario maria = guardar("María José", "Pérez", "mjose@test.com");
+        Usuario mario = guardar("Mario", "Rojas", "mrojas@test.com");
+        guardar("Ana", "Soto", "ana@test.com");
+        
+        assertEquals(List.of(maria, mario), indice.buscarPorPrefijo("MAR", 10));
+        assertEquals(List.of(maria), indice.buscarPorPrefijo("perez", 10));
+        assertEquals(List.of(maria), indice.buscarPorPrefijo("jose p", 10));
+        assertEquals(List.of(mario), indice.buscarPorPrefijo("mroj", 10));
+        assertTrue(indice.buscarPorPrefijo("zz", 10).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Debe retornar cada usuario una vez y respetar el límite")
+    void debeRespetarLimiteSinRepetir() {
+        Usuario usuario = guardar("Soto", "Soto", "soto@test.com");
+        for (int i = 0; i < 5; i++) {
+            guardar("Sofía", "Nuñez", "sofia" + i + "@test.com");
+        }
+        
+        assertEquals(List.of(usuario), indice.buscarPorPrefijo("soto", 10));
+        assertEquals(3, indice.buscarPorPrefijo("so", 3).size());
+    }
+    
+    @Test
+    @DisplayName("Debe reindexar al actualizar y quitar al eliminar")
+    void debeMantenerseConActualizarYEliminar() {
+        Usuario usuario = guardar("Pedro", "Lagos", "pedro@test.com");
+        
+        usuario.actualizar("Pablo", "Lagos", new Email("pablo@test.com"));
+        usuarios.guardar(usuario);
+        
+        assertTrue(indice.buscarPorPrefijo("pedro", 10).isEmpty());
+        assertEquals(List.of(usuario), indice.buscarPorPrefijo("pablo", 10));
+        
+        usuarios.eliminar(usuario.getId());
+        
+        assertTrue(indice.buscarPorPrefijo("lagos", 10).isEmpty());
+        assertEquals(0, indice.contarClaves());
+    }
+    
+    private Usuario guardar(String nombre, String apellido, String email) {
+        documentos++;
+        return usuarios.guardar(new Usuario(nombre, apellido, new Email(email),
+            new DocumentoIdentidad(String.valueOf(10_000_000 + documentos), DocumentoIdentidad.TipoDocumento.DNI)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.LimiteVelocidad;
+import com.wallet.domain.valueobjects.NivelCuenta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para LimitesVelocidadRepositoryInMemory.
+ */
+@DisplayName("LimitesVelocidadRepositoryInMemory Tests")
+class LimitesVelocidadRepositoryInMemoryTest {
+
+    private static final String CUENTA = "cuenta-1";
+    private static final long HORA = Duration.ofHours(1).toNanos();
+    private static final long BASE = 1_000 * HORA;
+
+    private LimitesVelocidadRepositoryInMemory limites;
+
+    @BeforeEach
+    void setUp() {
+        limites = new LimitesVelocidadRepositoryInMemory();
+        limites.configurar(NivelCuenta.BASICO,
+            LimiteVelocidad.de(3, Dinero.de("1000"), Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Debe limitar la cantidad de operaciones en la ventana")
+    void debeLimitarOperaciones() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("1"), BASE + i));
+        }
+
+        assertFalse(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("1"), BASE + 3));
+    }
+
+    @Test
+    @DisplayName("Debe limitar el monto acumulado en la ventana")
+    void debeLimitarMonto() {
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("600"), BASE));
+        assertFalse(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("500"), BASE + 1));
+        // El rechazo no cuenta: lo que queda del tope sigue disponible
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("400"), BASE + 2));
+        assertFalse(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("0.01"), BASE + 3));
+    }
+
+    @Test
+    @DisplayName("Debe liberar el límite cuando las operaciones salen de la ventana")
+    void debeDeslizarLaVentana() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("1"), BASE + i));
+        }
+
+        assertFalse(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("1"), BASE + HORA / 2));
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("1"), BASE + HORA + HORA / 16));
+    }
+
+    @Test
+    @DisplayName("Debe devolver lo consumido por una operación que no se aplicó")
+    void debeDevolverConsumo() {
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("1000"), BASE));
+        limites.devolver(CUENTA, NivelCuenta.BASICO, Dinero.de("1000"), BASE);
+
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("1000"), BASE + 1));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el límite del nivel y no limitar los niveles sin configurar")
+    void debeAplicarLimitePorNivel() {
+        assertFalse(limites.consumir(CUENTA, NivelCuenta.BASICO, Dinero.de("1500"), BASE));
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.PREMIUM, Dinero.de("1500"), BASE));
+        assertEquals(LimiteVelocidad.SIN_LIMITE, limites.getLimite(NivelCuenta.ESTANDAR));
+    }
+
+    @Test
+    @DisplayName("No debe aplicar el tope de monto a otra moneda")
+    void noDebeAplicarMontoAOtraMoneda() {
+        Dinero dolares = new Dinero(new BigDecimal("5000"), "USD");
+
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, dolares, BASE));
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, dolares, BASE + 1));
+        assertTrue(limites.consumir(CUENTA, NivelCuenta.BASICO, dolares, BASE + 2));
+        assertFalse(limites.consumir(CUENTA, NivelCuenta.BASICO, dolares, BASE + 3));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar montos máximos fuera de rango")
+    void debeRechazarMontoMaximoExcesivo() {
+        LimiteVelocidad excesivo = LimiteVelocidad.de(0, Dinero.de("1000000000000"), Duration.ofHours(1));
+
+        assertThrows(IllegalArgumentException.class, () -> limites.configurar(NivelCuenta.PREMIUM, excesivo));
+    }
+
+    @Test
+    @DisplayName("No debe superar el límite con operaciones simultáneas")
+    void noDebeSuperarLimiteConcurrente() throws InterruptedException {
+        limites.configurar(NivelCuenta.ESTANDAR, LimiteVelocidad.de(500, null, Duration.ofHours(1)));
+        AtomicInteger aceptadas = new AtomicInteger();
+        List<Thread> hilos = new ArrayList<>();
+        for (int h = 0; h < 8; h++) {
+            Thread hilo = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    if (limites.consumir(CUENTA, NivelCuenta.ESTANDAR, Dinero.de("1"), BASE)) {
+                        aceptadas.incrementAndGet();
+                    }
+                }
+            });
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+
+        assertTrue(aceptadas.get() > 0);
+        assertTrue(aceptadas.get() <= 500);
+    }
+}
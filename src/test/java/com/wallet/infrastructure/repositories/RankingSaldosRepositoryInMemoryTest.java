@@ -0,0 +1,80 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.SaldoCuenta;
+import com.wallet.domain.valueobjects.Dinero;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para RankingSaldosRepositoryInMemory.
+ */
+@DisplayName("RankingSaldosRepositoryInMemory Tests")
+class RankingSaldosRepositoryInMemoryTest {
+    
+    private RankingSaldosRepositoryInMemory ranking;
+    private CuentaRepositoryInMemory cuentas;
+    
+    @BeforeEach
+    void setUp() {
+        ranking = new RankingSaldosRepositoryInMemory();
+        cuentas = new CuentaRepositoryInMemory();
+        cuentas.agregarObservador(ranking);
+    }
+    
+    @Test
+    @DisplayName("Debe ordenar las cuentas por su saldo vigente")
+    void debeOrdenarPorSaldoVigente() {
+        Cuenta a = cuentaCon("100");
+        Cuenta b = cuentaCon("50");
+        Cuenta c = cuentaCon("75");
+        
+        a.retirar(Dinero.de("90"));
+        cuentas.guardar(a);
+        
+        assertEquals(List.of(c.getId(), b.getId()), ids(ranking.mayores("CLP", 2)));
+        assertEquals(List.of(a.getId(), b.getId(), c.getId()), ids(ranking.menores("CLP", 10)));
+        assertEquals(Dinero.de("10"), ranking.menores("CLP", 1).get(0).getSaldo());
+    }
+    
+    @Test
+    @DisplayName("Debe contar las cuentas de un rango con extremos inclusive")
+    void debeContarEnRango() {
+        cuentaCon("10");
+        cuentaCon("20");
+        cuentaCon("20");
+        cuentaCon("30.01");
+        
+        assertEquals(3, ranking.contarEnRango(Dinero.de("10"), Dinero.de("20")));
+        assertEquals(2, ranking.contarEnRango(Dinero.de("20"), Dinero.de("30")));
+        assertEquals(0, ranking.contarEnRango(Dinero.de("40"), Dinero.de("50")));
+    }
+    
+    @Test
+    @DisplayName("Debe quitar las cuentas eliminadas")
+    void debeQuitarCuentasEliminadas() {
+        Cuenta a = cuentaCon("100");
+        cuentaCon("50");
+        
+        cuentas.eliminar(a.getId());
+        
+        assertEquals(1, ranking.mayores("CLP", 10).size());
+        assertEquals(0, ranking.contarEnRango(Dinero.de("100"), Dinero.de("100")));
+    }
+    
+    private Cuenta cuentaCon(String saldo) {
+        Cuenta cuenta = new Cuenta("usuario-1");
+        cuenta.depositar(Dinero.de(saldo));
+        return cuentas.guardar(cuenta);
+    }
+    
+    private static List<String> ids(List<SaldoCuenta> saldos) {
+        return saldos.stream().map(SaldoCuenta::getCuentaId).collect(Collectors.toList());
+    }
+}
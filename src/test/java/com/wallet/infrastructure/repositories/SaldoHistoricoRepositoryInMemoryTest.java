@@ -0,0 +1,102 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para SaldoHistoricoRepositoryInMemory.
+ */
+@DisplayName("SaldoHistoricoRepositoryInMemory Tests")
+class SaldoHistoricoRepositoryInMemoryTest {
+    
+    private static final String CUENTA = "cuenta-1";
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 10, 0);
+    
+    private SaldoHistoricoRepositoryInMemory repository;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new SaldoHistoricoRepositoryInMemory();
+    }
+    
+    @Test
+    @DisplayName("Debe retornar el saldo de la última transacción hasta el instante")
+    void debeRetornarSaldoEnInstante() {
+        registrar(BASE, "0", "100");
+        registrar(BASE.plusHours(1), "100", "60");
+        registrar(BASE.plusHours(2), "60", "90");
+        
+        assertEquals(Optional.empty(), repository.saldoEn(CUENTA, BASE.minusNanos(1)));
+        assertEquals(Dinero.de("100"), repository.saldoEn(CUENTA, BASE).orElseThrow());
+        assertEquals(Dinero.de("60"), repository.saldoEn(CUENTA, BASE.plusMinutes(90)).orElseThrow());
+        assertEquals(Dinero.de("90"), repository.saldoEn(CUENTA, BASE.plusDays(1)).orElseThrow());
+    }
+    
+    @Test
+    @DisplayName("Debe ubicar las transacciones que llegan atrasadas")
+    void debeOrdenarTransaccionesAtrasadas() {
+        for (int i = 0; i < 20; i += 2) {
+            registrar(BASE.plusMinutes(i), String.valueOf(i), String.valueOf(i + 1));
+        }
+        registrar(BASE.plusMinutes(5).plusSeconds(30), "4", "5");
+        
+        assertEquals(Dinero.de("5"), repository.saldoEn(CUENTA, BASE.plusMinutes(6).minusSeconds(1)).orElseThrow());
+        assertEquals(Dinero.de("7"), repository.saldoEn(CUENTA, BASE.plusMinutes(6)).orElseThrow());
+        assertEquals(Dinero.de("19"), repository.saldoEn(CUENTA, BASE.plusHours(1)).orElseThrow());
+    }
+    
+    @Test
+    @DisplayName("Ante fechas iguales debe decidir la secuencia y no el orden de llegada")
+    void debeDesempatarPorSecuencia() {
+        repository.registrar(transaccion(BASE, "10", "20").conSecuencia(2));
+        repository.registrar(transaccion(BASE, "0", "10").conSecuencia(1));
+        
+        assertEquals(Dinero.de("20"), repository.saldoEn(CUENTA, BASE).orElseThrow());
+    }
+    
+    @Test
+    @DisplayName("Debe descartar los puntos archivados y seguir respondiendo desde el archivo")
+    void debePodarAlArchivar() {
+        TransaccionRepositoryInMemory transacciones = new TransaccionRepositoryInMemory();
+        repository = new SaldoHistoricoRepositoryInMemory(transacciones);
+        transacciones.agregarObservador(repository);
+        for (int i = 0; i < 10; i++) {
+            transacciones.guardar(transaccion(BASE.plusMinutes(i), String.valueOf(i), String.valueOf(i + 1)));
+        }
+        
+        assertEquals(6, transacciones.archivarAnteriores(Tiempo.aNanos(BASE.plusMinutes(6))));
+        
+        assertEquals(Optional.empty(), repository.saldoEn(CUENTA, BASE.minusNanos(1)));
+        assertEquals(Dinero.de("3"), repository.saldoEn(CUENTA, BASE.plusMinutes(2)).orElseThrow());
+        assertEquals(Dinero.de("6"), repository.saldoEn(CUENTA, BASE.plusMinutes(5)).orElseThrow());
+        assertEquals(Dinero.de("8"), repository.saldoEn(CUENTA, BASE.plusMinutes(7)).orElseThrow());
+    }
+    
+    @Test
+    @DisplayName("Debe retornar vacío para cuentas sin historial")
+    void cuentaSinHistorial() {
+        assertTrue(repository.saldoEn("otra", BASE).isEmpty());
+        assertTrue(repository.saldoEn(null, BASE).isEmpty());
+    }
+    
+    private void registrar(LocalDateTime fecha, String anterior, String nuevo) {
+        repository.registrar(transaccion(fecha, anterior, nuevo));
+    }
+    
+    private static Transaccion transaccion(LocalDateTime fecha, String anterior, String nuevo) {
+        return new Transaccion(UUID.randomUUID().toString(), TipoTransaccion.DEPOSITO,
+                               Dinero.de("1"), CUENTA, null, "", fecha,
+                               Dinero.de(anterior), Dinero.de(nuevo));
+    }
+}
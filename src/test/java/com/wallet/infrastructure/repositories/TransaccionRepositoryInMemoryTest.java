@@ -0,0 +1,302 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Transferencia;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.Identificador;
+import com.wallet.domain.valueobjects.Tiempo;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.ejecucion.EjecutorDirecto;
+import com.wallet.infrastructure.fraude.PipelineFraude;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para TransaccionRepositoryInMemory.
+ */
+@DisplayName("TransaccionRepositoryInMemory Tests")
+class TransaccionRepositoryInMemoryTest {
+
+    private static final LocalDateTime FECHA = LocalDateTime.of(2026, 3, 1, 10, 0);
+    private static final long ARCHIVAR_HASTA = Tiempo.aNanos(FECHA.plusHours(1));
+
+    private TransaccionRepositoryInMemory repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TransaccionRepositoryInMemory();
+    }
+
+    @Test
+    @DisplayName("Debe numerar las transacciones de cada cuenta por separado y sin huecos")
+    void debeAsignarSecuenciasPorCuenta() {
+        assertEquals(1, repository.guardar(deposito("cuenta-1", "a")).getSecuencia());
+        assertEquals(1, repository.guardar(deposito("cuenta-2", "b")).getSecuencia());
+        assertEquals(2, repository.guardar(deposito("cuenta-1", "c")).getSecuencia());
+
+        assertEquals(2, repository.ultimaSecuencia("cuenta-1"));
+        assertEquals(1, repository.ultimaSecuencia("cuenta-2"));
+        assertEquals(0, repository.ultimaSecuencia("cuenta-3"));
+    }
+
+    @Test
+    @DisplayName("Debe paginar el libro de una cuenta en orden ascendente por secuencia")
+    void debePaginarPorSecuencia() {
+        for (int i = 1; i <= 5; i++) {
+            repository.guardar(deposito("cuenta-1", "d" + i));
+        }
+
+        List<Transaccion> pagina = repository.buscarPorCuentaDesdeSecuencia("cuenta-1", 0, 2);
+        assertEquals(List.of("d1", "d2"), descripciones(pagina));
+        long cursor = pagina.get(pagina.size() - 1).getSecuencia();
+
+        assertEquals(List.of("d3", "d4", "d5"),
+            descripciones(repository.buscarPorCuentaDesdeSecuencia("cuenta-1", cursor, 10)));
+        assertTrue(repository.buscarPorCuentaDesdeSecuencia("cuenta-1", 5, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe ordenar el historial por secuencia cuando las fechas coinciden")
+    void debeDesempatarPorSecuencia() {
+        repository.guardar(deposito("cuenta-1", "primera"));
+        repository.guardar(deposito("cuenta-1", "segunda"));
+        repository.guardar(deposito("cuenta-1", "tercera"));
+
+        assertEquals(List.of("tercera", "segunda", "primera"),
+            descripciones(repository.buscarPorCuentaId("cuenta-1")));
+    }
+
+    @Test
+    @DisplayName("Debe conservar la secuencia al volver a guardar y rechazar huecos")
+    void debeRechazarHuecos() {
+        Transaccion original = deposito("cuenta-1", "a");
+        Transaccion guardada = repository.guardar(original);
+
+        assertEquals(1, repository.guardar(original).getSecuencia());
+        assertEquals(1, repository.guardar(guardada).getSecuencia());
+        assertEquals(1, repository.contar());
+
+        // Una réplica con secuencia explícita debe continuar el libro
+        assertThrows(IllegalArgumentException.class, () ->
+            repository.guardar(deposito("cuenta-1", "b").conSecuencia(3)));
+        assertEquals(2, repository.guardar(deposito("cuenta-1", "b").conSecuencia(2)).getSecuencia());
+    }
+
+    @Test
+    @DisplayName("Debe notificar a los observadores solo la primera vez que se guarda")
+    void debeNotificarUnaVez() {
+        List<Transaccion> notificadas = new ArrayList<>();
+        repository.agregarObservador(new ObservadorRepositorio<>() {
+            @Override
+            public void guardado(Transaccion transaccion) {
+                notificadas.add(transaccion);
+            }
+
+            @Override
+            public void eliminado(Transaccion transaccion) {
+            }
+
+            @Override
+            public void limpiado() {
+            }
+        });
+        Transaccion original = deposito("cuenta-1", "a");
+
+        Transaccion guardada = repository.guardar(original);
+        assertSame(guardada, repository.guardar(original));
+        assertSame(guardada, repository.guardar(guardada));
+
+        assertEquals(List.of(guardada), notificadas);
+    }
+
+    @Test
+    @DisplayName("Debe asignar secuencias consecutivas con escrituras concurrentes")
+    void debeAsignarSecuenciasConcurrentes() throws Exception {
+        int hilos = 8;
+        int porHilo = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                tareas.add(pool.submit(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        repository.guardar(deposito("cuenta-1", "x"));
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<Transaccion> libro = repository.buscarPorCuentaDesdeSecuencia("cuenta-1", 0, hilos * porHilo);
+        assertEquals(hilos * porHilo, repository.ultimaSecuencia("cuenta-1"));
+        for (int i = 0; i < libro.size(); i++) {
+            assertEquals(i + 1, libro.get(i).getSecuencia());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe guardar una transferencia una vez y mostrar sus dos tramos en ambas cuentas")
+    void debeGuardarTransferenciaComoUnRegistro() {
+        repository.guardar(deposito("cuenta-1", "inicial"));
+        Dinero monto = Dinero.de("1.00");
+        Transferencia transferencia = repository.guardarTransferencia(new Transferencia(
+            monto, "cuenta-1", "cuenta-2", "Pago", monto, Dinero.CERO, Dinero.CERO, monto));
+
+        assertEquals(2, transferencia.getSecuenciaOrigen());
+        assertEquals(1, transferencia.getSecuenciaDestino());
+        assertEquals(3, repository.contar());
+
+        Transaccion enviada = repository.buscarPorId(transferencia.getId() + Transferencia.SUFIJO_ENVIADA).get();
+        Transaccion recibida = repository.buscarPorId(transferencia.getId() + Transferencia.SUFIJO_RECIBIDA).get();
+        assertEquals(TipoTransaccion.TRANSFERENCIA_ENVIADA, enviada.getTipo());
+        assertEquals("cuenta-2", recibida.getCuentaOrigenId());
+        assertEquals("cuenta-1", recibida.getCuentaDestinoId());
+        assertEquals(monto, recibida.getSaldoNuevo());
+
+        // Igual que con dos transacciones sueltas: cada cuenta ve ambos tramos
+        assertEquals(3, repository.buscarPorCuentaId("cuenta-1").size());
+        assertEquals(2, repository.buscarPorCuentaId("cuenta-2").size());
+        assertEquals(List.of(recibida.getId()), repository.buscarPorCuentaDesdeSecuencia("cuenta-2", 0, 10)
+            .stream().map(Transaccion::getId).collect(Collectors.toList()));
+        assertEquals(3, repository.recorrerTodas().count());
+        assertSame(transferencia, repository.guardarTransferencia(transferencia));
+    }
+
+    @Test
+    @DisplayName("Debe archivar lo antiguo y combinar ambos niveles en las consultas")
+    void debeCombinarNivelesAlArchivar() {
+        Transaccion primera = repository.guardar(deposito("cuenta-1", "a"));
+        repository.guardar(deposito("cuenta-1", "b"));
+        repository.guardar(reciente("cuenta-1", "c"));
+        repository.guardar(deposito("cuenta-2", "d"));
+
+        assertEquals(3, repository.archivarAnteriores(ARCHIVAR_HASTA));
+
+        assertEquals(3, repository.getHistorialFrio().contarPropias());
+        assertEquals(4, repository.contar());
+        assertEquals(4, repository.recorrerTodas().count());
+        assertEquals(List.of("c", "b", "a"), descripciones(repository.buscarPorCuentaId("cuenta-1")));
+        assertEquals(List.of("b", "c"), descripciones(repository.buscarPorCuentaDesdeSecuencia("cuenta-1", 1, 10)));
+        assertEquals(3, repository.ultimaSecuencia("cuenta-1"));
+        assertEquals(primera.getFechaNanos(), repository.buscarPorId(primera.getId()).get().getFechaNanos());
+        assertEquals(4, repository.guardar(deposito("cuenta-1", "e")).getSecuencia());
+    }
+
+    @Test
+    @DisplayName("Debe mostrar una transferencia una sola vez cuando solo una cuenta la archivó")
+    void debeCombinarTransferenciaArchivadaEnUnaCuenta() {
+        // La cuenta 2 empieza con una reciente: su libro no se archiva
+        repository.guardar(reciente("cuenta-2", "reciente"));
+        Dinero monto = Dinero.de("1.00");
+        Transferencia transferencia = repository.guardarTransferencia(new Transferencia(
+            monto, "cuenta-1", "cuenta-2", "Pago", monto, Dinero.CERO, monto, monto.sumar(monto)));
+
+        assertEquals(1, repository.archivarAnteriores(Tiempo.ahora() + 1));
+
+        assertEquals(2, repository.buscarPorCuentaId("cuenta-1").size());
+        assertEquals(3, repository.buscarPorCuentaId("cuenta-2").size());
+        assertEquals(3, repository.recorrerTodas().count());
+        assertEquals(3, repository.contar());
+        assertEquals(TipoTransaccion.TRANSFERENCIA_ENVIADA,
+            repository.buscarPorId(transferencia.getId() + Transferencia.SUFIJO_ENVIADA).get().getTipo());
+        assertEquals(List.of(transferencia.getId() + Transferencia.SUFIJO_ENVIADA),
+            repository.buscarPorCuentaDesdeSecuencia("cuenta-1", 0, 10).stream()
+                .map(Transaccion::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Debe aceptar sin cambios la réplica de una transacción archivada")
+    void debeAceptarReplicaArchivada() {
+        Transaccion guardada = repository.guardar(deposito("cuenta-1", "a"));
+        repository.archivarAnteriores(ARCHIVAR_HASTA);
+
+        assertEquals(guardada.getId(), repository.guardar(guardada).getId());
+        assertEquals(1, repository.contar());
+        assertThrows(IllegalArgumentException.class, () ->
+            repository.guardar(deposito("cuenta-1", "otra").conSecuencia(1)));
+    }
+
+    @Test
+    @DisplayName("Los observadores no deben retener las transacciones archivadas")
+    void debeSoltarLasArchivadas() throws InterruptedException {
+        repository.agregarObservador(new ExtractoMensualRepositoryInMemory());
+        repository.agregarObservador(new IndiceDescripcionesRepositoryInMemory());
+        repository.agregarObservador(new SaldoHistoricoRepositoryInMemory());
+        repository.agregarObservador(new AgregadoDiarioRepositoryInMemory());
+        PipelineFraude fraude = new PipelineFraude(new EjecutorDirecto(new CuentaRepositoryInMemory(), repository),
+            PipelineFraude.reglasPorDefecto(), Double.MAX_VALUE, 1, 16);
+        repository.agregarObservador(fraude);
+        try {
+            List<WeakReference<Transaccion>> guardadas = guardarSinRetener();
+            assertTrue(fraude.esperarPendientes(5, TimeUnit.SECONDS));
+
+            assertEquals(2, repository.archivarAnteriores(ARCHIVAR_HASTA));
+
+            for (WeakReference<Transaccion> guardada : guardadas) {
+                assertTrue(recolectada(guardada), "Transacción archivada todavía alcanzable");
+            }
+            assertEquals(2, repository.buscarPorCuentaId("cuenta-1").size());
+        } finally {
+            fraude.cerrar();
+        }
+    }
+
+    /**
+     * Guarda un depósito y un retiro sin dejar referencias fuertes en el test.
+     */
+    private List<WeakReference<Transaccion>> guardarSinRetener() {
+        Dinero monto = Dinero.de("1.00");
+        List<WeakReference<Transaccion>> guardadas = new ArrayList<>();
+        guardadas.add(new WeakReference<>(repository.guardar(deposito("cuenta-1", "sueldo"))));
+        guardadas.add(new WeakReference<>(repository.guardar(new Transaccion(Identificador.nuevo(),
+            TipoTransaccion.RETIRO, monto, "cuenta-1", null, "cajero", FECHA, monto, Dinero.CERO))));
+        return guardadas;
+    }
+
+    private static boolean recolectada(WeakReference<?> referencia) throws InterruptedException {
+        for (int intento = 0; intento < 50 && referencia.get() != null; intento++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        return referencia.get() == null;
+    }
+
+    /**
+     * Todas con la misma fecha, para que el orden dependa solo de la secuencia.
+     */
+    private static Transaccion deposito(String cuentaId, String descripcion) {
+        Dinero monto = Dinero.de("1.00");
+        return new Transaccion(Identificador.nuevo(), TipoTransaccion.DEPOSITO, monto, cuentaId, null,
+                               descripcion, FECHA, Dinero.CERO, monto);
+    }
+
+    /**
+     * Con fecha muy posterior, para que nunca se archive.
+     */
+    private static Transaccion reciente(String cuentaId, String descripcion) {
+        Dinero monto = Dinero.de("1.00");
+        return new Transaccion(Identificador.nuevo(), TipoTransaccion.DEPOSITO, monto, cuentaId, null,
+                               descripcion, FECHA.plusYears(100), Dinero.CERO, monto);
+    }
+
+    private static List<String> descripciones(List<Transaccion> transacciones) {
+        return transacciones.stream().map(Transaccion::getDescripcion).collect(Collectors.toList());
+    }
+}
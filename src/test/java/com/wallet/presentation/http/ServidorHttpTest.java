@@ -0,0 +1,131 @@
+package com.wallet.presentation.http;
+
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.json.CodificadorJson;
+import com.wallet.infrastructure.json.JsonLector;
+import com.wallet.infrastructure.services.CuentaService;
+import com.wallet.infrastructure.services.TransaccionService;
+import com.wallet.infrastructure.services.UsuarioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la API HTTP sobre loopback.
+ */
+@DisplayName("ServidorHttp Tests")
+class ServidorHttpTest {
+
+    private ServidorHttp servidor;
+    private HttpClient cliente;
+    private String base;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        RepositoryFactory.limpiarTodos();
+        servidor = new ServidorHttp(
+            ConfiguracionServidorHttp.porDefecto(0).conMaxBytesCuerpo(1024).conSegundosEsperaCierre(1),
+            new UsuarioService(), new CuentaService(), new TransaccionService());
+        servidor.iniciar();
+        cliente = HttpClient.newHttpClient();
+        base = "http://127.0.0.1:" + servidor.getPuerto();
+    }
+
+    @AfterEach
+    void tearDown() {
+        servidor.detener();
+    }
+
+    @Test
+    @DisplayName("Flujo completo: crear usuario, cuenta y depositar por HTTP")
+    void flujoCompletoPorHttp() throws Exception {
+        HttpResponse<String> usuario = post("/api/usuarios",
+            "{\"nombre\":\"Juan\",\"apellido\":\"Perez\",\"email\":\"juan@email.com\","
+            + "\"tipoDocumento\":\"DNI\",\"numeroDocumento\":\"12345678\"}");
+        assertEquals(201, usuario.statusCode());
+        String usuarioId = CodificadorJson.leerUsuario(lector(usuario)).getId();
+
+        HttpResponse<String> cuenta = post("/api/cuentas", "{\"usuarioId\":\"" + usuarioId + "\"}");
+        assertEquals(201, cuenta.statusCode());
+        CuentaDTO datosCuenta = CodificadorJson.leerCuenta(lector(cuenta));
+
+        HttpResponse<String> deposito = post("/api/cuentas/depositos",
+            "{\"cuentaId\":\"" + datosCuenta.getId() + "\",\"monto\":150.50,\"descripcion\":\"Sueldo\"}");
+        assertEquals(201, deposito.statusCode());
+
+        HttpResponse<String> saldo = get("/api/cuentas/" + datosCuenta.getNumeroCuenta());
+        assertEquals(200, saldo.statusCode());
+        assertEquals(new BigDecimal("150.50"), CodificadorJson.leerCuenta(lector(saldo)).getSaldo());
+    }
+
+    @Test
+    @DisplayName("Debe responder 422 si la clave de idempotencia se reutiliza con otro monto")
+    void debeResponder422() throws Exception {
+        HttpResponse<String> usuario = post("/api/usuarios",
+            "{\"nombre\":\"Ana\",\"apellido\":\"Gomez\",\"email\":\"ana@email.com\","
+            + "\"tipoDocumento\":\"DNI\",\"numeroDocumento\":\"87654321\"}");
+        String usuarioId = CodificadorJson.leerUsuario(lector(usuario)).getId();
+        String cuentaId = CodificadorJson.leerCuenta(lector(
+            post("/api/cuentas", "{\"usuarioId\":\"" + usuarioId + "\"}"))).getId();
+
+        String deposito = "{\"cuentaId\":\"" + cuentaId + "\",\"claveIdempotencia\":\"k-1\",\"monto\":";
+        assertEquals(201, post("/api/cuentas/depositos", deposito + "10}").statusCode());
+        assertEquals(201, post("/api/cuentas/depositos", deposito + "10}").statusCode());
+        assertEquals(422, post("/api/cuentas/depositos", deposito + "20}").statusCode());
+    }
+
+    @Test
+    @DisplayName("Debe responder 404 si la cuenta no existe")
+    void debeResponder404() throws Exception {
+        HttpResponse<String> respuesta = get("/api/cuentas/0000000000");
+
+        assertEquals(404, respuesta.statusCode());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuerpos que superan el límite con 413")
+    void debeRechazarCuerpoGrande() throws Exception {
+        String descripcion = "x".repeat(2048);
+        HttpResponse<String> respuesta = post("/api/cuentas/depositos",
+            "{\"cuentaId\":\"c\",\"monto\":1,\"descripcion\":\"" + descripcion + "\"}");
+
+        assertEquals(413, respuesta.statusCode());
+    }
+
+    @Test
+    @DisplayName("Debe responder 400 ante JSON inválido")
+    void debeResponder400() throws Exception {
+        HttpResponse<String> respuesta = post("/api/cuentas/depositos", "{cuentaId");
+
+        assertEquals(400, respuesta.statusCode());
+    }
+
+    private static JsonLector lector(HttpResponse<String> respuesta) {
+        return new JsonLector(respuesta.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<String> get(String ruta) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + ruta)).GET().build();
+        return cliente.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String ruta, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + ruta))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+        return cliente.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Casos de prueba para la API HTTP embebida.
+ *
+ * Este paquete contiene pruebas que levantan el servidor en un puerto libre
+ * y verifican los endpoints, los códigos de estado y los límites de tamaño.
+ *
+ * @author Olimpo Team
+ * @version 1.0.0
+ */
+package com.wallet.presentation.http;